@@ -22,6 +22,8 @@
  */
 package eu.solven.adhoc.case_insensitivive;
 
+import java.util.List;
+
 import org.jspecify.annotations.NonNull;
 
 import eu.solven.adhoc.dataframe.filter.MoreFilterHelpers;
@@ -68,6 +70,11 @@ public class CaseInsensitiveCubeQueryEngine implements ICubeQueryEngine {
 		return delegate.execute(normalized);
 	}
 
+	@Override
+	public List<ITabularView> executeBatch(List<QueryPod> queryPods) {
+		return delegate.executeBatch(queryPods.stream().map(this::normalizeForCaseInsensitivity).toList());
+	}
+
 	/**
 	 * Rewrites filter and groupBy column names to the canonical casing declared by the table schema.
 	 */
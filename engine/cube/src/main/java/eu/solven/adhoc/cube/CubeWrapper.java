@@ -130,6 +130,14 @@ public class CubeWrapper implements ICubeWrapper, IHasHealthDetails, IHasCache {
 		return engine.execute(queryPod);
 	}
 
+	@Override
+	public List<ITabularView> executeBatch(List<? extends ICubeQuery> queries) {
+		List<QueryPod> queryPods = queries.stream()
+				.map(query -> queryPreparator.prepareQuery(table, forest, columnsManager, query))
+				.toList();
+		return engine.executeBatch(queryPods);
+	}
+
 	@Override
 	public ListenableFuture<ITabularView> executeAsync(ICubeQuery query) {
 		if (query.getOptions().contains(StandardQueryOptions.BLOCKING)) {
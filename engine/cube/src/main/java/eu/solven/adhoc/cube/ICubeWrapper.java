@@ -22,6 +22,7 @@
  */
 package eu.solven.adhoc.cube;
 
+import java.util.List;
 import java.util.Map;
 
 import com.google.common.util.concurrent.ListenableFuture;
@@ -55,6 +56,17 @@ public interface ICubeWrapper extends IHasColumns, IHasName, IHasMeasures {
 	 */
 	ITabularView execute(ICubeQuery query);
 
+	/**
+	 * Typically used to compute a report made of multiple queries, sharing their common table queries and intermediate
+	 * steps.
+	 * 
+	 * @param queries
+	 * @return an {@link ITabularView} for each query, in the same order.
+	 */
+	default List<ITabularView> executeBatch(List<? extends ICubeQuery> queries) {
+		return queries.stream().map(this::execute).toList();
+	}
+
 	/**
 	 * 
 	 * @param column
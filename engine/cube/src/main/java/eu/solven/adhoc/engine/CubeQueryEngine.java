@@ -24,6 +24,8 @@ package eu.solven.adhoc.engine;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -38,6 +40,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 import org.jgrapht.GraphPath;
@@ -50,10 +53,12 @@ import org.jspecify.annotations.Nullable;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.primitives.Ints;
 import com.google.common.util.concurrent.AtomicLongMap;
 
+import eu.solven.adhoc.column.IColumnsManager;
 import eu.solven.adhoc.cuboid.IColumnScanner;
 import eu.solven.adhoc.cuboid.ICuboid;
 import eu.solven.adhoc.cuboid.slice.ISlice;
@@ -63,15 +68,24 @@ import eu.solven.adhoc.dataframe.column.hash.MultitypeHashColumn;
 import eu.solven.adhoc.dataframe.tabular.ITabularView;
 import eu.solven.adhoc.dataframe.tabular.ListMapEntryBasedTabularViewDrillThrough;
 import eu.solven.adhoc.dataframe.tabular.MapBasedTabularView;
+import eu.solven.adhoc.engine.admission.IQueryAdmission;
+import eu.solven.adhoc.engine.admission.IQueryAdmission.IAdmissionTicket;
+import eu.solven.adhoc.engine.cache.ICuboidSizeEstimator;
 import eu.solven.adhoc.engine.cache.IQueryStepCache;
+import eu.solven.adhoc.engine.cache.StandardCuboidSizeEstimator;
+import eu.solven.adhoc.engine.cancel.CancelledQueryException;
 import eu.solven.adhoc.engine.concurrent.QueryEngineConcurrencyHelper;
+import eu.solven.adhoc.engine.context.QueryDeadlines;
+import eu.solven.adhoc.engine.context.QueryDeadlines.IArmedDeadline;
 import eu.solven.adhoc.engine.context.QueryPod;
 import eu.solven.adhoc.engine.dag.AdhocDag;
 import eu.solven.adhoc.engine.dag.IAdhocDag;
 import eu.solven.adhoc.engine.observability.AdhocQueryMonitor;
 import eu.solven.adhoc.engine.observability.DagExplainer;
 import eu.solven.adhoc.engine.observability.DagExplainerForPerfs;
+import eu.solven.adhoc.engine.observability.RetainedBytesTracker;
 import eu.solven.adhoc.engine.observability.SizeAndDuration;
+import eu.solven.adhoc.engine.observability.ThreadAllocationHelpers;
 import eu.solven.adhoc.engine.observability.plan.IPlanFragmentSink;
 import eu.solven.adhoc.engine.observability.plan.IQueryPlanRegistry;
 import eu.solven.adhoc.engine.observability.plan.LiveQueryPlanSource;
@@ -80,14 +94,18 @@ import eu.solven.adhoc.engine.observability.plan.PlanState;
 import eu.solven.adhoc.engine.observability.plan.QueryPlanProjector;
 import eu.solven.adhoc.engine.options.CustomMarkerScope;
 import eu.solven.adhoc.engine.options.QueryOptionsScope;
+import eu.solven.adhoc.engine.query.CubeQuery;
 import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.engine.step.ICubeQuery;
 import eu.solven.adhoc.engine.step.TableQueryStep;
 import eu.solven.adhoc.engine.tabular.ITableQueryEngineFactory;
 import eu.solven.adhoc.engine.tabular.TableQueryEngineFactory;
+import eu.solven.adhoc.engine.top.TopSlicesSelector;
 import eu.solven.adhoc.eventbus.AdhocEventBusHelpersUnsafe;
 import eu.solven.adhoc.eventbus.AdhocLogEvent;
 import eu.solven.adhoc.eventbus.AdhocQueryPhaseIsCompleted;
 import eu.solven.adhoc.eventbus.IAdhocEventBus;
+import eu.solven.adhoc.eventbus.QueryLifecycleEvent.QueryLifecycleEventBuilder;
 import eu.solven.adhoc.eventbus.QueryLifecycleEvent;
 import eu.solven.adhoc.eventbus.QueryStepIsCompleted;
 import eu.solven.adhoc.eventbus.QueryStepIsEvaluating;
@@ -102,6 +120,8 @@ import eu.solven.adhoc.filter.value.StringMatcher;
 import eu.solven.adhoc.map.factory.IMapBuilderPreKeys;
 import eu.solven.adhoc.measure.AdhocBlackHole;
 import eu.solven.adhoc.measure.aggregation.carrier.IAggregationCarrier;
+import eu.solven.adhoc.measure.forest.IMeasureForest;
+import eu.solven.adhoc.measure.forest.MeasureForest;
 import eu.solven.adhoc.measure.operator.IHasOperatorFactory;
 import eu.solven.adhoc.measure.operator.IOperatorFactory;
 import eu.solven.adhoc.measure.sum.EmptyAggregation;
@@ -111,10 +131,16 @@ import eu.solven.adhoc.measure.transformator.step.IMeasureQueryStep;
 import eu.solven.adhoc.model.measure.Aggregator;
 import eu.solven.adhoc.model.measure.EmptyMeasure;
 import eu.solven.adhoc.model.measure.IMeasure;
+import eu.solven.adhoc.model.query.IHasTopClause;
+import eu.solven.adhoc.model.query.top.CubeTopClause;
 import eu.solven.adhoc.options.HasOptionsAndExecutorService;
+import eu.solven.adhoc.options.IExecutionOption;
+import eu.solven.adhoc.options.IQueryOption;
 import eu.solven.adhoc.options.StandardQueryOptions;
 import eu.solven.adhoc.primitive.IValueProvider;
 import eu.solven.adhoc.primitive.IValueReceiver;
+import eu.solven.adhoc.query.AdhocQueryIds;
+import eu.solven.adhoc.table.ITableWrapper;
 import eu.solven.adhoc.util.IStopwatch;
 import eu.solven.adhoc.util.NotYetImplementedException;
 import eu.solven.pepper.core.PepperLogHelper;
@@ -157,15 +183,31 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 	@Getter
 	final ITableQueryEngineFactory tableQueryEngine;
 
+	/**
+	 * Decides when a query may start executing. By default, all queries are admitted right-away.
+	 */
+	@NonNull
+	@Default
+	final IQueryAdmission queryAdmission = IQueryAdmission.admitAll();
+
 	/**
 	 * Above this many edges, {@link #rethrowWithDetails} skips {@code JohnsonShortestPaths} (whose memory footprint is
 	 * O(V*V)) and falls back to a naive first-incoming-edge walk.
 	 */
 	private static final int SHORTEST_PATH_MAX_EDGES = 1024;
 
+	private static final ICuboidSizeEstimator CUBOID_SIZE_ESTIMATOR = new StandardCuboidSizeEstimator();
+
 	protected CubeQueryEngine(IAdhocFactories factories,
 			IAdhocEventBus eventBus,
 			ITableQueryEngineFactory tableQueryEngine) {
+		this(factories, eventBus, tableQueryEngine, IQueryAdmission.admitAll());
+	}
+
+	protected CubeQueryEngine(IAdhocFactories factories,
+			IAdhocEventBus eventBus,
+			ITableQueryEngineFactory tableQueryEngine,
+			IQueryAdmission queryAdmission) {
 		if (tableQueryEngine == null) {
 			// The table engine reads its plan registry from `IQueryPod.getQueryPlanRegistry()` at call time. The
 			// registry is set on the pod by `StandardQueryPreparator` at construction; the engine never needs to
@@ -176,6 +218,7 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 		this.factories = factories;
 		this.eventBus = eventBus;
 		this.tableQueryEngine = tableQueryEngine;
+		this.queryAdmission = queryAdmission;
 	}
 
 	@Override
@@ -196,8 +239,320 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 		// QueryOptionsScope#current without us threading either through every internal API. Each composite sub-cube
 		// re-enters execute() and rebinds with its own (possibly transcoded) values — nesting works naturally
 		// through ScopedValue.
-		return CustomMarkerScope.runWith(queryPod.getQuery().getCustomMarker(),
-				() -> QueryOptionsScope.runWith(queryPod.getOptions(), () -> executeInScope(queryPod)));
+		// The deadline is armed before the admission, so that the time spent queued counts against the timeout.
+		try (IArmedDeadline _ = QueryDeadlines.arm(queryPod)) {
+			return CustomMarkerScope.runWith(queryPod.getQuery().getCustomMarker(),
+					() -> QueryOptionsScope.runWith(queryPod.getOptions(), () -> executeAdmitted(queryPod)));
+		}
+	}
+
+	/**
+	 * Queries sharing the same table, forest, options and customMarker are executed as a single {@link QueryStepsDag}:
+	 * table queries are packed together and equal {@link CubeQueryStep} are computed once. Other queries are executed
+	 * one after the other.
+	 * 
+	 * A merged group is admitted as a single query, and is cancelled as a whole as soon as any of its queries is
+	 * cancelled (e.g. on timeout).
+	 */
+	@Override
+	public List<ITabularView> executeBatch(List<QueryPod> queryPods) {
+		Map<BatchKey, List<Integer>> keyToIndexes = new LinkedHashMap<>();
+		for (int i = 0; i < queryPods.size(); i++) {
+			QueryPod queryPod = queryPods.get(i);
+			if (isBatchable(queryPod)) {
+				keyToIndexes.computeIfAbsent(BatchKey.of(queryPod), _ -> new ArrayList<>()).add(i);
+			}
+		}
+
+		ITabularView[] views = new ITabularView[queryPods.size()];
+		keyToIndexes.values().stream().filter(indexes -> indexes.size() >= 2).forEach(indexes -> {
+			List<ITabularView> groupViews = executeMerged(indexes.stream().map(queryPods::get).toList());
+			for (int i = 0; i < indexes.size(); i++) {
+				views[indexes.get(i)] = groupViews.get(i);
+			}
+		});
+
+		for (int i = 0; i < views.length; i++) {
+			if (views[i] == null) {
+				views[i] = execute(queryPods.get(i));
+			}
+		}
+
+		return ImmutableList.copyOf(views);
+	}
+
+	/**
+	 * 
+	 * @param queryPod
+	 * @return true if this query may share its {@link QueryStepsDag} with other queries.
+	 */
+	protected boolean isBatchable(QueryPod queryPod) {
+		// A sub-query is covered by its parent query. A DRILLTHROUGH does not build cuboids. A limited query may push
+		// its top clause down to the table, which would truncate the cuboids of the other queries.
+		return queryPod.getQueryId().getParentQueryId() == null
+				&& !StandardQueryOptions.DRILLTHROUGH.isActive(queryPod.getOptions())
+				&& !(queryPod.getQuery() instanceof IHasTopClause hasTopClause
+						&& hasTopClause.getTopClause().isLimited());
+	}
+
+	/**
+	 * Queries with equal {@link BatchKey} can be executed as a single {@link QueryStepsDag}. {@link IExecutionOption}s
+	 * are ignored: each query keeps its own deadline, and the batch gathers the execution options of all its queries.
+	 */
+	protected record BatchKey(ITableWrapper table,
+			IColumnsManager columnsManager,
+			String forestName,
+			Set<IQueryOption> options,
+			@Nullable Object customMarker) {
+		static BatchKey of(QueryPod queryPod) {
+			return new BatchKey(queryPod.getTable(),
+					queryPod.getColumnsManager(),
+					queryPod.getForest().getName(),
+					IExecutionOption.withoutExecutionOptions(queryPod.getOptions()),
+					queryPod.getQuery().getCustomMarker());
+		}
+	}
+
+	protected List<ITabularView> executeMerged(List<QueryPod> memberPods) {
+		QueryPod batchPod = makeBatchPod(memberPods);
+
+		return runMergedAdmitted(batchPod, memberPods, () -> executeMergedInScope(batchPod, memberPods));
+	}
+
+	/**
+	 * Runs the execution of a merged {@link QueryStepsDag} with the same deadlines, scopes and admission than
+	 * {@link #execute(QueryPod)}.
+	 * 
+	 * @param batchPod
+	 *            the {@link QueryPod} owning the merged execution.
+	 * @param memberPods
+	 *            the merged queries. Each keeps its own deadline, and cancelling any of them cancels the batchPod.
+	 * @param inScope
+	 *            the actual execution.
+	 * @return the output of inScope.
+	 */
+	protected <T> T runMergedAdmitted(QueryPod batchPod, List<QueryPod> memberPods, Supplier<T> inScope) {
+		Runnable cancelBatch = batchPod::cancel;
+		List<IArmedDeadline> deadlines = new ArrayList<>(memberPods.size());
+		try {
+			memberPods.forEach(memberPod -> {
+				deadlines.add(QueryDeadlines.arm(memberPod));
+				memberPod.addCancellationListener(cancelBatch);
+			});
+
+			return CustomMarkerScope.runWith(batchPod.getQuery().getCustomMarker(),
+					() -> QueryOptionsScope.runWith(batchPod.getOptions(), () -> {
+						try (IAdmissionTicket _ = queryAdmission.admit(batchPod)) {
+							return inScope.get();
+						}
+					}));
+		} finally {
+			memberPods.forEach(memberPod -> memberPod.removeCancellationListener(cancelBatch));
+			deadlines.forEach(IArmedDeadline::close);
+		}
+	}
+
+	/**
+	 * 
+	 * @param memberPods
+	 * @return a {@link QueryPod} owning the execution of the merged {@link QueryStepsDag}, with its own cancellation
+	 *         state.
+	 */
+	protected QueryPod makeBatchPod(List<QueryPod> memberPods) {
+		QueryPod firstPod = memberPods.getFirst();
+
+		// Each query holds a forest restricted to its own measures
+		Map<String, IMeasure> nameToMeasure = new LinkedHashMap<>();
+		memberPods.forEach(memberPod -> memberPod.getForest()
+				.getMeasures()
+				.forEach(measure -> nameToMeasure.putIfAbsent(measure.getName(), measure)));
+		IMeasureForest batchForest =
+				MeasureForest.builder().name(firstPod.getForest().getName()).measures(nameToMeasure.values()).build();
+
+		// e.g. the batch spills to disk if any of its queries accepts to spill
+		Set<IQueryOption> executionOptions = memberPods.stream()
+				.flatMap(memberPod -> IExecutionOption.onlyExecutionOptions(memberPod.getOptions()).stream())
+				.collect(ImmutableSet.toImmutableSet());
+		// The top clause is specific to each query: it must not be pushed down to the table queries of the batch
+		ICubeQuery batchQuery = CubeQuery.edit(firstPod.getQuery())
+				.options(executionOptions)
+				.topClause(CubeTopClause.NO_LIMIT)
+				.build();
+
+		return firstPod.toBuilder()
+				.query(batchQuery)
+				.queryId(AdhocQueryIds.from(firstPod.getTable().getName(),
+						memberPods.stream().map(QueryPod::getQuery).toList()))
+				.forest(batchForest)
+				.build();
+	}
+
+	protected List<ITabularView> executeMergedInScope(QueryPod batchPod, List<QueryPod> memberPods) {
+		IStopwatch stopWatch = factories.getStopwatchFactory().createStarted();
+		boolean postedAboutDone = false;
+		try {
+			List<QueryStepsDag> memberDags = new ArrayList<>(memberPods.size());
+			memberPods.forEach(memberPod -> {
+				postAboutQueryStart(memberPod);
+
+				QueryStepsDag memberDag = makeQueryStepsDag(memberPod);
+				if (memberPod.isDebugOrExplain()) {
+					explainDagSteps(memberPod, memberDag);
+				}
+				memberDags.add(memberDag);
+			});
+
+			QueryStepsDag batchDag = QueryStepsDag.merge(memberDags);
+			if (batchPod.isDebugOrExplain()) {
+				log.info("[EXPLAIN] Merged {} queries into {} steps (from {} steps)",
+						memberPods.size(),
+						batchDag.getMultigraph().vertexSet().size(),
+						memberDags.stream().mapToInt(dag -> dag.getMultigraph().vertexSet().size()).sum());
+			}
+
+			IPlanFragmentSink fragmentSink =
+					PlanFragmentScope.sinkFor(batchPod.getQueryPlanRegistry(), batchPod.getQueryId());
+			Map<CubeQueryStep, ICuboid> queryStepToValues = PlanFragmentScope.runWith(fragmentSink,
+					() -> PodExecutors.runScoped(batchPod, () -> {
+						eventBus.post(AdhocQueryPhaseIsCompleted.builder().phase("bootstrap").source(this).build());
+						return executeSteps(batchPod, batchDag);
+					}));
+
+			List<ITabularView> views = new ArrayList<>(memberPods.size());
+			for (int i = 0; i < memberPods.size(); i++) {
+				QueryPod memberPod = memberPods.get(i);
+				QueryStepsDag memberDag = memberDags.get(i);
+
+				// Each query gets the cuboids of its own explicit steps
+				Map<CubeQueryStep, ICuboid> memberStepToValues = new LinkedHashMap<>();
+				memberDag.getExplicits().forEach(step -> {
+					ICuboid cuboid = queryStepToValues.get(step);
+					if (cuboid != null) {
+						memberStepToValues.put(step, cuboid);
+					}
+				});
+				views.add(toTabularView(memberPod, memberDag, memberStepToValues));
+
+				if (memberPod.isDebugOrExplain()) {
+					batchDag.getStepToCost().forEach((step, cost) -> {
+						if (step instanceof CubeQueryStep cubeStep && memberDag.getMultigraph().containsVertex(cubeStep)) {
+							memberDag.registerExecutionFeedback(step, cost);
+						}
+					});
+					explainDagPerfs(memberPod, memberDag);
+					// The memory is reported for the whole batch, as the cuboids are shared by the queries
+					explainMemory(memberPod, batchDag);
+				}
+			}
+			eventBus.post(AdhocQueryPhaseIsCompleted.builder().phase("view").source(this).build());
+
+			memberPods.forEach(memberPod -> postAboutQueryDone(memberPod, "OK", stopWatch, batchDag));
+			postedAboutDone = true;
+			return views;
+		} catch (RuntimeException e) {
+			memberPods.forEach(memberPod -> postAboutQueryDone(memberPod, "KO", stopWatch));
+			postedAboutDone = true;
+
+			String eMsg = "Issue executing batch of queries=%s options=%s"
+					.formatted(memberPods.stream().map(QueryPod::getQuery).toList(), batchPod.getOptions());
+
+			throw AdhocExceptionHelpers.wrap(eMsg, e);
+		} finally {
+			if (!postedAboutDone) {
+				memberPods.forEach(memberPod -> postAboutQueryDone(memberPod, "KO_Uncaught", stopWatch));
+			}
+		}
+	}
+
+	/**
+	 * Compute given {@link CubeQueryStep}, given their measure is resolved (e.g. an {@link Aggregator}). Typically used
+	 * to compute the cuboids of the rows appended to a table, to be merged into cached cuboids.
+	 * 
+	 * The steps are computed out of any {@link IQueryStepCache}, and equal table queries are computed once.
+	 * 
+	 * @param table
+	 * @param columnsManager
+	 * @param steps
+	 * @return the {@link ICuboid} of each input {@link CubeQueryStep}.
+	 */
+	public Map<CubeQueryStep, ICuboid> computeCuboids(ITableWrapper table,
+			IColumnsManager columnsManager,
+			Collection<CubeQueryStep> steps) {
+		return computeCuboids(table, columnsManager, steps, ImmutableSet.of());
+	}
+
+	/**
+	 * Like {@link #computeCuboids(ITableWrapper, IColumnsManager, Collection)}, with given {@link IExecutionOption}s
+	 * (e.g. a {@link eu.solven.adhoc.options.QueryTimeout}). The computations go through the same admission and
+	 * deadlines than {@link #execute(QueryPod)}.
+	 * 
+	 * @param table
+	 * @param columnsManager
+	 * @param steps
+	 * @param executionOptions
+	 *            {@link IQueryOption} not being {@link IExecutionOption} are ignored, as they are part of the steps.
+	 * @return the {@link ICuboid} of each input {@link CubeQueryStep}.
+	 */
+	public Map<CubeQueryStep, ICuboid> computeCuboids(ITableWrapper table,
+			IColumnsManager columnsManager,
+			Collection<CubeQueryStep> steps,
+			Set<? extends IQueryOption> executionOptions) {
+		Set<IQueryOption> onlyExecutionOptions = IExecutionOption.onlyExecutionOptions(executionOptions);
+
+		// Steps can be merged in a single DAG only if they share the same scoped customMarker and options
+		Map<List<?>, List<CubeQueryStep>> scopeToSteps = new LinkedHashMap<>();
+		steps.forEach(step -> scopeToSteps
+				.computeIfAbsent(Arrays.asList(step.getCustomMarker(), step.getOptions()), _ -> new ArrayList<>())
+				.add(step));
+
+		Map<CubeQueryStep, ICuboid> stepToCuboid = new LinkedHashMap<>();
+		scopeToSteps.values().forEach(scopeSteps -> {
+			List<QueryPod> stepPods = scopeSteps.stream().map(step -> {
+				ICubeQuery stepQuery =
+						CubeQuery.edit(step).measure(step.getMeasure()).options(onlyExecutionOptions).build();
+				return QueryPod.builder()
+						.query(stepQuery)
+						.queryId(AdhocQueryIds.from(table.getName(), stepQuery))
+						.forest(MeasureForest.builder().name(table.getName()).measure(step.getMeasure()).build())
+						.table(table)
+						.columnsManager(columnsManager)
+						.build();
+			}).toList();
+
+			QueryPod batchPod = makeBatchPod(stepPods);
+			List<QueryStepsDag> stepDags = stepPods.stream().map(this::makeQueryStepsDag).toList();
+			QueryStepsDag batchDag = QueryStepsDag.merge(stepDags);
+
+			Map<CubeQueryStep, ICuboid> queryStepToValues = runMergedAdmitted(batchPod,
+					stepPods,
+					() -> PodExecutors.runScoped(batchPod, () -> executeSteps(batchPod, batchDag)));
+
+			for (int i = 0; i < scopeSteps.size(); i++) {
+				// Each step is the single explicit step of its own DAG
+				ICuboid cuboid = stepDags.get(i)
+						.getExplicits()
+						.stream()
+						.map(queryStepToValues::get)
+						.filter(Objects::nonNull)
+						.findFirst()
+						.orElseGet(Cuboid::empty);
+				stepToCuboid.put(scopeSteps.get(i), cuboid);
+			}
+		});
+
+		return stepToCuboid;
+	}
+
+	protected ITabularView executeAdmitted(QueryPod queryPod) {
+		if (queryPod.getQueryId().getParentQueryId() != null) {
+			// A sub-query (e.g. from a CompositeCubesTableWrapper) is covered by the admission of its parent: waiting
+			// for another admission may deadlock.
+			return executeInScope(queryPod);
+		}
+
+		try (IAdmissionTicket _ = queryAdmission.admit(queryPod)) {
+			return executeInScope(queryPod);
+		}
 	}
 
 	protected ITabularView executeInScope(QueryPod queryPod) {
@@ -247,10 +602,11 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 
 			if (queryPod.isDebugOrExplain()) {
 				explainDagPerfs(queryPod, queryStepsDag);
+				explainMemory(queryPod, queryStepsDag);
 			}
 
 			planSource.markCompleted(PlanState.DONE, java.time.Instant.now());
-			postAboutQueryDone(queryPod, "OK", stopWatch);
+			postAboutQueryDone(queryPod, "OK", stopWatch, queryStepsDag);
 			postedAboutDone = true;
 			return tabularView;
 		} catch (RuntimeException e) {
@@ -292,6 +648,18 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 	}
 
 	protected void postAboutQueryDone(QueryPod queryPod, String status, IStopwatch stopWatch) {
+		postAboutQueryDone(queryPod, status, stopWatch, null);
+	}
+
+	/**
+	 * 
+	 * @param queryStepsDag
+	 *            if not null, the memory consumption of the query is attached to the {@link QueryLifecycleEvent}.
+	 */
+	protected void postAboutQueryDone(QueryPod queryPod,
+			String status,
+			IStopwatch stopWatch,
+			@Nullable QueryStepsDag queryStepsDag) {
 		eventBus.post(AdhocLogEvent.builder()
 				.message("Executed status=%s duration=%s on table=%s forest=%s query=%s".formatted(status,
 						PepperLogHelper.humanDuration(stopWatch.elapsed().toMillis()),
@@ -304,11 +672,15 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 				.tag(AdhocQueryMonitor.TAG_QUERY_DONE)
 				.build());
 
-		eventBus.post(QueryLifecycleEvent.builder()
+		QueryLifecycleEventBuilder doneEvent = QueryLifecycleEvent.builder()
 				.query(queryPod)
 				.tag(AdhocQueryMonitor.TAG_QUERY_LIFECYCLE)
-				.tag(AdhocQueryMonitor.TAG_QUERY_DONE)
-				.build());
+				.tag(AdhocQueryMonitor.TAG_QUERY_DONE);
+		if (queryStepsDag != null) {
+			doneEvent.allocatedBytes(SizeAndDuration.sumAllocatedBytes(queryStepsDag.getStepToCost().values()))
+					.peakRetainedBytes(queryStepsDag.getRetainedBytesTracker().getPeakRetainedBytes());
+		}
+		eventBus.post(doneEvent.build());
 	}
 
 	protected void explainDagSteps(QueryPod queryPod, QueryStepsDag queryStepsDag) {
@@ -320,11 +692,45 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 	}
 
 	protected void explainDagPerfs(QueryPod queryPod, QueryStepsDag queryStepsDag) {
-		makeDagExplainerForPerfs().explain(queryPod.getQueryId(), queryStepsDag);
+		makeDagExplainerForPerfs(queryPod).explain(queryPod.getQueryId(), queryStepsDag);
 	}
 
-	protected DagExplainerForPerfs makeDagExplainerForPerfs() {
-		return DagExplainerForPerfs.builder().eventBus(eventBus).build();
+	protected DagExplainerForPerfs makeDagExplainerForPerfs(QueryPod queryPod) {
+		return DagExplainerForPerfs.builder()
+				.eventBus(eventBus)
+				.memory(StandardQueryOptions.EXPLAIN_MEMORY.isActive(queryPod.getOptions()))
+				.build();
+	}
+
+	/**
+	 * Report the memory consumption of the whole query, given the allocations of each step and the peak of bytes
+	 * retained by the cuboids concurrently held by the query.
+	 */
+	protected void explainMemory(QueryPod queryPod, QueryStepsDag queryStepsDag) {
+		if (!StandardQueryOptions.EXPLAIN_MEMORY.isActive(queryPod.getOptions())) {
+			return;
+		}
+
+		long allocatedBytes = SizeAndDuration.sumAllocatedBytes(queryStepsDag.getStepToCost().values());
+		long peakRetainedBytes = queryStepsDag.getRetainedBytesTracker().getPeakRetainedBytes();
+		eventBus.post(AdhocLogEvent.builder()
+				.explain(true)
+				.performance(true)
+				.message("[EXPLAIN] memory allocated=%s peakRetained=%s for query=%s".formatted(
+						PepperLogHelper.humanBytes(Math.max(0, allocatedBytes)),
+						PepperLogHelper.humanBytes(peakRetainedBytes),
+						queryPod.getQueryId()))
+				.source(this)
+				.build());
+	}
+
+	/**
+	 * 
+	 * @param cuboid
+	 * @return an estimation of the bytes retained by given {@link ICuboid}.
+	 */
+	protected long estimateRetainedBytes(ICuboid cuboid) {
+		return CUBOID_SIZE_ESTIMATOR.estimateBytes(cuboid);
 	}
 
 	@VisibleForTesting
@@ -427,18 +833,33 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 			return drillthroughView;
 		}
 
+		Map<CubeQueryStep, ICuboid> queryStepToValues = executeSteps(queryPod, queryStepsDag);
+
+		ITabularView tabularView = toTabularView(queryPod, queryStepsDag, queryStepToValues);
+
+		eventBus.post(AdhocQueryPhaseIsCompleted.builder().phase("view").source(this).build());
+
+		return tabularView;
+	}
+
+	/**
+	 * Execute the table queries, then the measure steps.
+	 * 
+	 * @return the {@link ICuboid} of each explicit step of the {@link QueryStepsDag}
+	 */
+	protected Map<CubeQueryStep, ICuboid> executeSteps(QueryPod queryPod, QueryStepsDag queryStepsDag) {
 		// Execute the leaf aggregations, by tableWrappers
 		Map<CubeQueryStep, ICuboid> queryStepToValues = new ConcurrentHashMap<>();
 
 		// Add values from cache
 		queryStepToValues.putAll(queryStepsDag.getStepToValues());
+		RetainedBytesTracker retainedBytesTracker = queryStepsDag.getRetainedBytesTracker();
+		queryStepToValues.forEach((step, cuboid) -> retainedBytesTracker.onRetained(step, estimateRetainedBytes(cuboid)));
 
 		if (queryPod.isDebugOrExplain()) {
 			log.info("[EXPLAIN] stepDag loaded {} steps from cache", queryStepToValues.size());
 		}
 
-		IQueryStepCache queryStepCache = queryPod.getQueryStepCache();
-
 		// Add values from table. They are freshly computed (came straight from the table) so we push
 		// them to the cache eagerly here. Doing it before `walkUpDag` lets the per-step pruning that
 		// happens during the walk safely remove them from `queryStepToValues` once all consumers are
@@ -446,6 +867,7 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 		executeTableQueries(queryPod, queryStepsDag).forEach((tableStep, cuboid) -> {
 			CubeQueryStep cubeStep = CubeQueryStep.edit(tableStep).build();
 			ICuboid previousCuboid = queryStepToValues.put(cubeStep, cuboid);
+			retainedBytesTracker.onRetained(cubeStep, estimateRetainedBytes(cuboid));
 			if (previousCuboid != null) {
 				log.warn(
 						"conflict on cubeStep from tableStep={} to cubeStep={} led to cuboid previous.size=%s vs new.size=%s",
@@ -454,7 +876,13 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 						previousCuboid.size(),
 						cuboid.size());
 			}
-			queryStepCache.pushValue(cubeStep, cuboid, queryStepsDag.getStepToCost().get(cubeStep));
+			if (queryStepsDag.getTruncatedSteps().contains(cubeStep)) {
+				// The top clause has been pushed down to the table: the cuboid misses the discarded slices
+				log.debug("Skip caching truncated step={}", cubeStep);
+			} else {
+				queryPod.getQueryStepCache()
+						.pushValue(cubeStep, cuboid, queryStepsDag.getStepToCost().get(cubeStep));
+			}
 		});
 
 		if (queryPod.isDebugOrExplain()) {
@@ -469,11 +897,7 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 
 		eventBus.post(AdhocQueryPhaseIsCompleted.builder().phase("transform").source(this).build());
 
-		ITabularView tabularView = toTabularView(queryPod, queryStepsDag, queryStepToValues);
-
-		eventBus.post(AdhocQueryPhaseIsCompleted.builder().phase("view").source(this).build());
-
-		return tabularView;
+		return queryStepToValues;
 	}
 
 	protected Map<TableQueryStep, ICuboid> executeTableQueries(QueryPod queryPod, QueryStepsDag queryStepsDag) {
@@ -573,6 +997,7 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 		IMeasure measure = queryPod.resolveIfRef(step.getMeasure());
 
 		IStopwatch stopWatch = factories.getStopwatchFactory().createStarted();
+		long allocatedBefore = ThreadAllocationHelpers.currentThreadAllocatedBytes();
 		Optional<ICuboid> optFromCache = Optional.ofNullable(queryStepsDag.getStepToValues().get(step));
 		ICuboid outputColumn = optFromCache.orElseGet(() -> {
 			List<CubeQueryStep> underlyingSteps = queryStepsDag.underlyingSteps(step);
@@ -584,6 +1009,9 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 		});
 
 		Duration elapsed = stopWatch.elapsed();
+		// BEWARE This excludes the allocations by other threads, e.g. when the step is evaluated by partitions
+		long allocatedBytes = ThreadAllocationHelpers.allocatedSince(allocatedBefore);
+		long retainedBytes = estimateRetainedBytes(outputColumn);
 		eventBus.post(QueryStepIsCompleted.builder()
 				.querystep(step)
 				.nbCells(outputColumn.size())
@@ -591,9 +1019,15 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 				.duration(elapsed)
 				.build());
 		queryStepsDag.registerExecutionFeedback(step,
-				SizeAndDuration.builder().size(outputColumn.size()).duration(elapsed).build());
+				SizeAndDuration.builder()
+						.size(outputColumn.size())
+						.duration(elapsed)
+						.allocatedBytes(allocatedBytes)
+						.retainedBytes(retainedBytes)
+						.build());
 
 		ICuboid alreadyIn = queryStepToValues.putIfAbsent(step, outputColumn);
+		queryStepsDag.getRetainedBytesTracker().onRetained(step, retainedBytes);
 		if (null != alreadyIn) {
 			// This may happen only if CONCURRENT options is on, as a queryStep may be requested concurrently by
 			// dependents.
@@ -630,6 +1064,7 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 			}
 			if (counter.decrementAndGet() == 0 && !explicits.contains(underlying)) {
 				queryStepToValues.remove(underlying);
+				queryStepsDag.getRetainedBytesTracker().onReleased(underlying);
 			}
 		}
 	}
@@ -667,6 +1102,9 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 		ICuboid coordinatesToValues;
 		try {
 			coordinatesToValues = measureQuerySteps.produceOutputColumn(underlyings);
+		} catch (CancelledQueryException e) {
+			// A cancellation must not be turned into a measure value
+			throw e;
 		} catch (RuntimeException e) {
 			if (StandardQueryOptions.EXCEPTIONS_AS_MEASURE_VALUE.isActive(queryStep.getOptions())) {
 				IMultitypeColumnFastGet<ISlice> column = MultitypeHashColumn.<ISlice>builder().build();
@@ -830,6 +1268,11 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 			return MapBasedTabularView.empty();
 		}
 
+		CubeTopClause topClause = getTopClause(queryPod);
+		if (topClause.isPresent() && !StandardQueryOptions.DRILLTHROUGH.isActive(queryPod.getOptions())) {
+			return toTopTabularView(queryPod, queryStepsDag, queryStepToValues, topClause);
+		}
+
 		// BEWARE some queriedStep may be in the middle of the DAG if it is also the underlying of another step
 		Iterator<CubeQueryStep> stepsToReturn = queryStepsDag.getExplicits().iterator();
 		long expectedOutputCardinality = queryStepToValues.values().stream().mapToLong(ICuboid::size).max().getAsLong();
@@ -858,6 +1301,71 @@ public class CubeQueryEngine implements ICubeQueryEngine, IHasOperatorFactory {
 		return view;
 	}
 
+	protected CubeTopClause getTopClause(QueryPod queryPod) {
+		if (queryPod.getQuery() instanceof IHasTopClause hasTopClause) {
+			return hasTopClause.getTopClause();
+		} else {
+			return CubeTopClause.NO_LIMIT;
+		}
+	}
+
+	/**
+	 * Similar to {@link #toTabularView(QueryPod, QueryStepsDag, Map)}, but only the slices selected by the
+	 * {@link CubeTopClause} are materialized, in the requested order.
+	 * 
+	 * @param queryPod
+	 * @param queryStepsDag
+	 * @param queryStepToValues
+	 * @param topClause
+	 * @return the output {@link ITabularView}
+	 */
+	protected ITabularView toTopTabularView(QueryPod queryPod,
+			QueryStepsDag queryStepsDag,
+			Map<CubeQueryStep, ICuboid> queryStepToValues,
+			CubeTopClause topClause) {
+		// BEWARE some queriedStep may be in the middle of the DAG if it is also the underlying of another step
+		List<CubeQueryStep> stepsToReturn = queryStepsDag.getExplicits()
+				.stream()
+				.filter(step -> queryStepToValues.containsKey(step))
+				.toList();
+
+		TopSlicesSelector.TopSlicesSelectorBuilder selectorBuilder = TopSlicesSelector.builder()
+				.topClause(topClause)
+				.columns(queryPod.getQuery().getGroupBy().getSequencedColumns());
+		// Explicit steps have distinct measures: each measure name maps to a single cuboid
+		Map<String, ICuboid> measureToCuboid = new LinkedHashMap<>();
+		stepsToReturn.forEach(step -> measureToCuboid.put(step.getMeasure().getName(), queryStepToValues.get(step)));
+		selectorBuilder.measureToCuboids(measureToCuboid);
+
+		List<ISlice> slices = selectorBuilder.build().selectSlices();
+
+		ITabularView view = makeTabularView(queryPod, slices.size());
+
+		List<IColumnScanner<ISlice>> rowScanners = stepsToReturn.stream().map(step -> {
+			boolean isEmptyMeasure = step.getMeasure() instanceof Aggregator agg && EmptyAggregation.isEmpty(agg);
+
+			boolean doClearCarriers = mayHoldCarriers(step)
+					&& !StandardQueryOptions.AGGREGATION_CARRIERS_STAY_WRAPPED.isActive(queryPod.getOptions());
+
+			IColumnScanner<ISlice> baseRowScanner =
+					slice -> view.sliceFeeder(slice, step.getMeasure().getName(), isEmptyMeasure);
+
+			return scannerForTabularView(isEmptyMeasure, doClearCarriers, baseRowScanner);
+		}).toList();
+
+		// Slices are the outer loop, so that the view keeps the selection ordering
+		slices.forEach(slice -> {
+			for (int i = 0; i < stepsToReturn.size(); i++) {
+				IValueProvider valueProvider = queryStepToValues.get(stepsToReturn.get(i)).onValue(slice);
+				if (!IValueProvider.isNull(valueProvider)) {
+					valueProvider.acceptReceiver(rowScanners.get(i).onKey(slice));
+				}
+			}
+		});
+
+		return view;
+	}
+
 	private ITabularView makeTabularView(QueryPod queryPod, long expectedOutputCardinality) {
 		if (queryPod.getOptions().contains(StandardQueryOptions.DRILLTHROUGH)) {
 			return ListMapEntryBasedTabularViewDrillThrough.withCapacity(expectedOutputCardinality);
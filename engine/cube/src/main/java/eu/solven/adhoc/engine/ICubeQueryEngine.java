@@ -22,6 +22,8 @@
  */
 package eu.solven.adhoc.engine;
 
+import java.util.List;
+
 import eu.solven.adhoc.column.ColumnsManager;
 import eu.solven.adhoc.column.IColumnsManager;
 import eu.solven.adhoc.dataframe.tabular.ITabularView;
@@ -48,6 +50,17 @@ public interface ICubeQueryEngine {
 	 */
 	ITabularView execute(QueryPod queryPod);
 
+	/**
+	 * Execute multiple {@link ICubeQuery} at once. By default, queries are executed one after the other.
+	 * Implementations may share the work common to multiple queries (e.g. table queries, or intermediate steps).
+	 * 
+	 * @param queryPods
+	 * @return an {@link ITabularView} for each {@link QueryPod}, in the same order.
+	 */
+	default List<ITabularView> executeBatch(List<QueryPod> queryPods) {
+		return queryPods.stream().map(this::execute).toList();
+	}
+
 	@Deprecated(since = "This uses a default IImplicitFilter")
 	default ITabularView executeUnsafe(ICubeQuery query, IMeasureForest measures, ITableWrapper table) {
 		return executeUnsafe(query, measures, table, ColumnsManager.builder().build());
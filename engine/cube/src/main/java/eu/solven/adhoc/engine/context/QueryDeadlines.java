@@ -0,0 +1,84 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.context;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import eu.solven.adhoc.options.QueryTimeout;
+import eu.solven.adhoc.util.AdhocUnsafe;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cancels {@link QueryPod} exceeding their {@link QueryTimeout}. All deadlines share the single thread of
+ * {@link AdhocUnsafe#getTimerPool()}: arming and disarming a deadline is cheap, and most deadlines are disarmed before
+ * expiring.
+ * 
+ * @author Benoit Lacelle
+ */
+@UtilityClass
+@Slf4j
+public class QueryDeadlines {
+
+	/**
+	 * An armed deadline, to be closed when the query is done.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	@FunctionalInterface
+	public interface IArmedDeadline extends AutoCloseable {
+		IArmedDeadline NONE = () -> {
+		};
+
+		/**
+		 * Disarms the deadline. Does not throw.
+		 */
+		@Override
+		void close();
+	}
+
+	/**
+	 * 
+	 * @param queryPod
+	 * @return an {@link IArmedDeadline} which will cancel the queryPod once its {@link QueryTimeout} elapsed.
+	 */
+	public static IArmedDeadline arm(QueryPod queryPod) {
+		Optional<Duration> optTimeout = QueryTimeout.lookup(queryPod.getOptions());
+		if (optTimeout.isEmpty()) {
+			return IArmedDeadline.NONE;
+		}
+
+		Duration timeout = optTimeout.get();
+		// Blocking waits (e.g. for an in-flight execution) may also be bounded by the deadline
+		queryPod.setDeadlineNanoTime(System.nanoTime() + timeout.toNanos());
+		ScheduledFuture<?> deadline = AdhocUnsafe.getTimerPool().schedule(() -> {
+			log.warn("Cancelling queryId={} as it exceeded its timeout={}", queryPod.getQueryId(), timeout);
+			queryPod.cancel();
+		}, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+		return () -> deadline.cancel(false);
+	}
+}
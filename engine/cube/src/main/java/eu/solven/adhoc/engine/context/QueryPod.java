@@ -27,6 +27,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
@@ -128,6 +129,12 @@ public class QueryPod implements IQueryPod {
 	@Getter(AccessLevel.PROTECTED)
 	AtomicReference<@Nullable OffsetDateTime> refCancellationDate = new AtomicReference<>();
 
+	/**
+	 * The {@link System#nanoTime()} after which this query times out. Set by {@link QueryDeadlines#arm(QueryPod)}.
+	 */
+	@Getter(AccessLevel.NONE)
+	AtomicReference<@Nullable Long> refDeadlineNanoTime = new AtomicReference<>();
+
 	/**
 	 * On cancellation, all these listeners will be called, triggering the cancellation of any inner queries
 	 */
@@ -211,6 +218,19 @@ public class QueryPod implements IQueryPod {
 		return AdhocTime.now().atOffset(AdhocTime.zoneOffset());
 	}
 
+	public void setDeadlineNanoTime(long deadlineNanoTime) {
+		refDeadlineNanoTime.set(deadlineNanoTime);
+	}
+
+	@Override
+	public OptionalLong getDeadlineNanoTime() {
+		Long deadlineNanoTime = refDeadlineNanoTime.get();
+		if (deadlineNanoTime == null) {
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(deadlineNanoTime);
+	}
+
 	@Override
 	public boolean isCancelled() {
 		return refCancellationDate.get() != null;
@@ -22,10 +22,12 @@
  */
 package eu.solven.adhoc.engine.context;
 
+import java.time.Duration;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ListeningExecutorService;
@@ -54,6 +56,7 @@ import eu.solven.adhoc.model.query.IHasMeasures;
 import eu.solven.adhoc.options.HasOptionsAndExecutorService;
 import eu.solven.adhoc.options.IHasOptionsAndExecutorService;
 import eu.solven.adhoc.options.IQueryOption;
+import eu.solven.adhoc.options.QueryTimeout;
 import eu.solven.adhoc.options.StandardQueryOptions;
 import eu.solven.adhoc.query.AdhocQueryId;
 import eu.solven.adhoc.query.AdhocQueryIds;
@@ -86,6 +89,13 @@ public class StandardQueryPreparator implements IQueryPreparator {
 	@Default
 	final IImplicitOptions implicitOptions = query -> ImmutableSet.of();
 
+	/**
+	 * If not null, the {@link QueryTimeout} applied to queries not expressing their own {@link QueryTimeout}. Typically
+	 * used as a per-cube default timeout.
+	 */
+	@Nullable
+	final Duration defaultTimeout;
+
 	@NonNull
 	@Default
 	final ListeningExecutorService concurrentExecutorService = AdhocUnsafe.getMixedPool();
@@ -225,6 +235,13 @@ public class StandardQueryPreparator implements IQueryPreparator {
 				FilterBuilder.and(rawQuery.getFilter(), implicitFilter.getImplicitFilter(rawQuery)).optimize();
 
 		Set<IQueryOption> addedOptions = implicitOptions.getOptions(rawQuery);
+		if (defaultTimeout != null && QueryTimeout.lookup(rawQuery.getOptions()).isEmpty()
+				&& QueryTimeout.lookup(addedOptions).isEmpty()) {
+			addedOptions = ImmutableSet.<IQueryOption>builder()
+					.addAll(addedOptions)
+					.add(QueryTimeout.of(defaultTimeout))
+					.build();
+		}
 		CubeQuery query = CubeQuery.edit(rawQuery).filter(preprocessedFilter).options(addedOptions).build();
 
 		if (rawQuery instanceof AdhocSubQuery subQuery) {
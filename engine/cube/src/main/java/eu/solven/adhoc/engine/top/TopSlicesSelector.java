@@ -0,0 +1,216 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.top;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.adhoc.collection.ComparableElseClassComparator;
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.model.query.top.CubeOrderBy;
+import eu.solven.adhoc.model.query.top.CubeTopClause;
+import eu.solven.adhoc.primitive.IValueProvider;
+import lombok.Builder;
+import lombok.Singular;
+
+/**
+ * Selects the window of slices requested by a {@link CubeTopClause}, given the {@link ICuboid} of the queried measures.
+ * 
+ * When the clause is limited, a bounded heap of `offset + limit` slices is maintained: the memory footprint is
+ * independent of the number of candidate slices, and discarded slices are never materialized in the output view.
+ * 
+ * @author Benoit Lacelle
+ */
+@Builder
+public class TopSlicesSelector {
+	private static final Comparator<Object> NOT_NUMBERS = new ComparableElseClassComparator();
+
+	@NonNull
+	final CubeTopClause topClause;
+
+	// The cuboid holding the values of each queried measure, by measure name
+	@NonNull
+	@Singular
+	final ImmutableMap<String, ICuboid> measureToCuboids;
+
+	// The groupBy columns of the query, which may be referred by a CubeOrderBy
+	@NonNull
+	@Singular
+	final ImmutableSet<String> columns;
+
+	/**
+	 * A candidate slice, with its pre-computed ordering keys.
+	 */
+	protected record RankedSlice(ISlice slice, @Nullable Object[] keys) {
+	}
+
+	/**
+	 * 
+	 * @return the selected slices, in the order requested by the {@link CubeTopClause}.
+	 */
+	public List<ISlice> selectSlices() {
+		List<IOrderKey> orderKeys = topClause.getOrderBys().stream().map(this::toOrderKey).toList();
+		Comparator<RankedSlice> ordering = makeOrdering(topClause.getOrderBys());
+
+		int fetchSize = topClause.getFetchSize();
+		if (fetchSize == 0) {
+			return ImmutableList.of();
+		}
+
+		// The head of the heap is the worst selected slice, the first to be evicted by a better candidate
+		PriorityQueue<RankedSlice> heap = new PriorityQueue<>(ordering.reversed());
+		// A slice may be provided by multiple cuboids: it must be selected at most once
+		Set<ISlice> selected = new HashSet<>();
+
+		measureToCuboids.values().forEach(cuboid -> cuboid.slices().forEach(slice -> {
+			if (selected.contains(slice)) {
+				return;
+			}
+			RankedSlice candidate = new RankedSlice(slice, computeKeys(orderKeys, slice));
+
+			if (fetchSize < 0 || heap.size() < fetchSize) {
+				heap.add(candidate);
+				selected.add(slice);
+			} else if (ordering.compare(candidate, heap.peek()) < 0) {
+				// BEWARE As the heap threshold only improves, a slice rejected (or evicted) from one cuboid would be
+				// rejected again if provided by another cuboid: `selected` only needs to track the heap content.
+				selected.remove(heap.poll().slice());
+				heap.add(candidate);
+				selected.add(slice);
+			}
+		}));
+
+		List<RankedSlice> sorted = new ArrayList<>(heap);
+		sorted.sort(ordering);
+
+		int offset = Math.min(topClause.getOffset(), sorted.size());
+		return sorted.subList(offset, sorted.size()).stream().map(RankedSlice::slice).toList();
+	}
+
+	/**
+	 * Extracts one ordering key from a slice.
+	 */
+	@FunctionalInterface
+	protected interface IOrderKey {
+		@Nullable
+		Object getKey(ISlice slice);
+	}
+
+	protected IOrderKey toOrderKey(CubeOrderBy orderBy) {
+		String name = orderBy.getName();
+		ICuboid cuboid = measureToCuboids.get(name);
+		if (cuboid != null) {
+			return slice -> {
+				Object value = IValueProvider.getValue(cuboid.onValue(slice));
+				if (value instanceof IValueProvider carrier) {
+					// e.g. an aggregation carrier: order by the carried value
+					value = IValueProvider.getValue(carrier);
+				}
+				return value;
+			};
+		} else if (columns.contains(name)) {
+			return slice -> slice.optGroupBy(name).orElse(null);
+		} else {
+			throw new IllegalArgumentException("orderBy=%s is neither a queried measure (%s) nor a groupBy column (%s)"
+					.formatted(name, measureToCuboids.keySet(), columns));
+		}
+	}
+
+	protected @Nullable Object[] computeKeys(List<IOrderKey> orderKeys, ISlice slice) {
+		@Nullable
+		Object[] keys = new Object[orderKeys.size()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = orderKeys.get(i).getKey(slice);
+		}
+		return keys;
+	}
+
+	protected Comparator<RankedSlice> makeOrdering(List<CubeOrderBy> orderBys) {
+		Comparator<RankedSlice> ordering = (left, right) -> {
+			for (int i = 0; i < orderBys.size(); i++) {
+				int compare = compareKeys(orderBys.get(i).isDesc(), left.keys()[i], right.keys()[i]);
+				if (compare != 0) {
+					return compare;
+				}
+			}
+			return 0;
+		};
+
+		// Ties are broken by the slice natural ordering, so that pages are stable
+		return ordering.thenComparing(RankedSlice::slice);
+	}
+
+	/**
+	 * 
+	 * @param desc
+	 * @param left
+	 * @param right
+	 * @return a comparison where `null` is always last, whatever the direction.
+	 */
+	protected static int compareKeys(boolean desc, @Nullable Object left, @Nullable Object right) {
+		if (left == null || right == null) {
+			if (left == right) {
+				return 0;
+			} else if (left == null) {
+				return 1;
+			} else {
+				return -1;
+			}
+		}
+
+		int compare = compareNonNull(left, right);
+		if (desc) {
+			return -compare;
+		} else {
+			return compare;
+		}
+	}
+
+	protected static int compareNonNull(Object left, Object right) {
+		if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+			// Measures may mix `long` and `double` amongst slices
+			if (isIntegral(leftNumber) && isIntegral(rightNumber)) {
+				return Long.compare(leftNumber.longValue(), rightNumber.longValue());
+			} else {
+				return Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue());
+			}
+		}
+		return NOT_NUMBERS.compare(left, right);
+	}
+
+	protected static boolean isIntegral(Number number) {
+		return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+	}
+}
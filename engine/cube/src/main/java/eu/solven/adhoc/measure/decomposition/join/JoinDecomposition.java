@@ -29,8 +29,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.jooq.Table;
 import org.jspecify.annotations.Nullable;
 
 import com.google.common.collect.ImmutableList;
@@ -52,7 +54,10 @@ import eu.solven.adhoc.model.column.IAdhocColumn;
 import eu.solven.adhoc.model.column.ReferencedColumn;
 import eu.solven.adhoc.model.query.groupby.GroupByColumns;
 import eu.solven.adhoc.query.MeasurelessQuery;
+import eu.solven.adhoc.table.sql.join.JooqJoinBuilder;
+import eu.solven.adhoc.table.sql.join.PrunedJoinsJooqTableSupplierBuilder;
 import eu.solven.adhoc.util.NotYetImplementedException;
+import eu.solven.adhoc.util.map.AdhocMapPathGet;
 
 /**
  * An {@link IDecomposition} that performs a lookup-JOIN producing <em>multiple</em> output columns at once. Given a set
@@ -68,21 +73,35 @@ import eu.solven.adhoc.util.NotYetImplementedException;
  * columns to the underlying step's GROUP BY and strips filters on output columns (they are applied later by
  * {@code DispatchorQueryStep}).
  *
+ * <p>
+ * When the enrichment table is reachable from the same SQL table (e.g. registered as a {@code LEFT JOIN} in a
+ * {@link PrunedJoinsJooqTableSupplierBuilder}, see {@link #sqlJoin(Map, Table, String)}), {@link #K_PUSHDOWN} turns
+ * this decomposition into a passthrough: output columns are grouped and filtered by the table itself, so only the
+ * final grain crosses the wire instead of the fine {@code (asOfDate, country)} grain.
+ *
  * @author Benoit Lacelle
  */
 public class JoinDecomposition implements IDecomposition {
 	public static final String KEY = "join";
 	public static final String K_OUTPUTS = "outputs";
 	public static final String K_INPUTS = "inputs";
+	/**
+	 * If true, the output columns are expected to be provided by the underlying table (typically through a SQL
+	 * {@code JOIN} on the enrichment table). The underlying steps then groupBy/filter the output columns directly, and
+	 * no lookup is done in Java.
+	 */
+	public static final String K_PUSHDOWN = "pushdown";
 
 	final ImmutableSet<String> inputColumns;
 	final ImmutableSet<String> outputColumns;
 	final IJoinDefinition joinDefinition;
+	final boolean pushdown;
 
 	public JoinDecomposition(Map<String, ?> options, IJoinDefinition joinDefinition) {
 		this.outputColumns = toStringList(options.get(K_OUTPUTS), K_OUTPUTS);
 		this.inputColumns = toStringList(options.get(K_INPUTS), K_INPUTS);
 		this.joinDefinition = joinDefinition;
+		this.pushdown = AdhocMapPathGet.<Boolean>getOptionalAs(options, K_PUSHDOWN).orElse(false);
 
 		if (!Sets.intersection(outputColumns, inputColumns).isEmpty()) {
 			// TODO Could this be lifted by managing as some sort of renaming
@@ -98,8 +117,33 @@ public class JoinDecomposition implements IDecomposition {
 		throw new IllegalArgumentException("Option '%s' must be a Collection of column names".formatted(optionName));
 	}
 
+	/**
+	 * 
+	 * @param options
+	 *            the options of the {@link JoinDecomposition}, providing {@link #K_INPUTS} and {@link #K_OUTPUTS}.
+	 * @param enrichmentTable
+	 *            the SQL table holding the input columns as a key, and the output columns.
+	 * @param alias
+	 *            the alias of the JOINed table.
+	 * @return a {@link JooqJoinBuilder} configuration registering the enrichment table as a prunable {@code LEFT JOIN},
+	 *         to be used together with {@link #K_PUSHDOWN}.
+	 */
+	public static Consumer<JooqJoinBuilder> sqlJoin(Map<String, ?> options, Table<?> enrichmentTable, String alias) {
+		ImmutableSet<String> inputs = toStringList(options.get(K_INPUTS), K_INPUTS);
+		ImmutableSet<String> outputs = toStringList(options.get(K_OUTPUTS), K_OUTPUTS);
+
+		// The JOIN provides only the output columns: the input columns are resolved on the left table, which also
+		// enables pruning the JOIN when no output column is referenced.
+		return j -> j.table(enrichmentTable).alias(alias).onSame(inputs).providedColumns(outputs);
+	}
+
 	@Override
 	public List<IDecompositionEntry> decompose(ISliceWithStep slice, Object value) {
+		if (pushdown) {
+			// The output columns are provided by the underlying slice
+			return ImmutableList.of(IDecompositionEntry.of(ImmutableMap.of(), value));
+		}
+
 		// Build the composite key from the slice's coordinates on the input columns.
 		Map<String, Object> joinKey = new LinkedHashMap<>();
 		for (String inputCol : inputColumns) {
@@ -120,6 +164,12 @@ public class JoinDecomposition implements IDecomposition {
 
 	@Override
 	public List<IWhereGroupByQuery> getUnderlyingSteps(CubeQueryStep step) {
+		if (pushdown) {
+			// The JOIN is evaluated by the table: the lookup being 1-to-1, grouping and filtering the output columns
+			// in the underlying step does not duplicate any row.
+			return ImmutableList.of(MeasurelessQuery.edit(step).build());
+		}
+
 		Set<String> groupByColumns = step.getGroupBy().getSortedColumns();
 		Set<String> filteredColumns = FilterHelpers.getFilteredColumns(step.getFilter());
 
@@ -148,6 +198,10 @@ public class JoinDecomposition implements IDecomposition {
 
 	@Override
 	public Map<String, Class<?>> getColumnTypes() {
+		if (pushdown) {
+			// The output columns are provided by the table: they must not be suppressed as generated columns
+			return ImmutableMap.of();
+		}
 		return joinDefinition.getColumnTypes();
 	}
 
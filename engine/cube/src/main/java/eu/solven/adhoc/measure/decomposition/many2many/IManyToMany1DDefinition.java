@@ -22,6 +22,7 @@
  */
 package eu.solven.adhoc.measure.decomposition.many2many;
 
+import java.util.Optional;
 import java.util.Set;
 
 import eu.solven.adhoc.filter.value.IValueMatcher;
@@ -47,4 +48,13 @@ public interface IManyToMany1DDefinition {
 	Set<?> getElementsMatchingGroups(IValueMatcher groupMatcher);
 
 	Set<?> getMatchingGroups(IValueMatcher groupMatcher);
+
+	/**
+	 * 
+	 * @return a frozen {@link ManyToMany1DIndex} equivalent to this definition, if this definition can enumerate its
+	 *         elements. Empty by default (e.g. for a definition fetching groups on-the-fly).
+	 */
+	default Optional<ManyToMany1DIndex> optIndex() {
+		return Optional.empty();
+	}
 }
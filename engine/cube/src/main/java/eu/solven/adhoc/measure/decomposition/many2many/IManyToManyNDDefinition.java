@@ -23,6 +23,7 @@
 package eu.solven.adhoc.measure.decomposition.many2many;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import eu.solven.adhoc.filter.value.IValueMatcher;
@@ -50,4 +51,13 @@ public interface IManyToManyNDDefinition {
 	Set<Map<String, IValueMatcher>> getElementsMatchingGroups(IValueMatcher groupMatcher);
 
 	Set<?> getMatchingGroups(IValueMatcher groupMatcher);
+
+	/**
+	 * 
+	 * @return a frozen {@link ManyToManyNDIndex} equivalent to this definition, if this definition can enumerate its
+	 *         elements. Empty by default.
+	 */
+	default Optional<ManyToManyNDIndex> optIndex() {
+		return Optional.empty();
+	}
 }
@@ -22,6 +22,7 @@
  */
 package eu.solven.adhoc.measure.decomposition.many2many;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -29,9 +30,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jooq.Table;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
 import eu.solven.adhoc.beta.schema.CoordinatesSample;
 import eu.solven.adhoc.dataframe.filter.FilterMatcher;
@@ -47,12 +52,14 @@ import eu.solven.adhoc.filter.ISliceFilter;
 import eu.solven.adhoc.filter.value.IValueMatcher;
 import eu.solven.adhoc.measure.decomposition.DecompositionHelpers;
 import eu.solven.adhoc.measure.decomposition.IDecomposition;
-import eu.solven.adhoc.measure.decomposition.IDecompositionEntry;
+import eu.solven.adhoc.measure.decomposition.IScatteringDecomposition;
 import eu.solven.adhoc.model.column.IAdhocColumn;
 import eu.solven.adhoc.model.column.ReferencedColumn;
 import eu.solven.adhoc.model.query.groupby.GroupByColumns;
 import eu.solven.adhoc.primitive.AdhocPrimitiveHelpers;
 import eu.solven.adhoc.query.MeasurelessQuery;
+import eu.solven.adhoc.table.sql.join.JooqJoinBuilder;
+import eu.solven.adhoc.table.sql.join.PrunedJoinsJooqTableSupplierBuilder;
 import eu.solven.adhoc.util.NotYetImplementedException;
 import eu.solven.adhoc.util.map.AdhocMapPathGet;
 import lombok.extern.slf4j.Slf4j;
@@ -64,11 +71,15 @@ import lombok.extern.slf4j.Slf4j;
  * For instance, given v=200 on element=FR, we write v=200 into group=G8 and group=G20.
  * 
  * It is one-dimensional as it depends on a single input columns
+ * <p>
+ * When the many-to-many mapping is itself a SQL table reachable from the underlying table (see
+ * {@link #sqlJoin(Map, Table, String)}), {@link #K_PUSHDOWN} lets the table evaluate the {@code JOIN} and the
+ * {@code GROUP BY} on the group column, instead of returning the element grain and fanning out in Java.
  * 
  * @author Benoit Lacelle
  */
 @Slf4j
-public class ManyToMany1DDecomposition implements IDecomposition {
+public class ManyToMany1DDecomposition implements IScatteringDecomposition {
 	public static final String KEY = "many_to_many_1d";
 	/**
 	 * The column used as elements: the underlying measure is expressed on this column
@@ -78,10 +89,25 @@ public class ManyToMany1DDecomposition implements IDecomposition {
 	public static final String K_OUTPUT = ManyToManyNDDecomposition.K_OUTPUT;
 	public static final String K_OUTPUT_CLASS = ManyToManyNDDecomposition.K_OUTPUT_CLASS;
 
+	/**
+	 * If true, the group column is expected to be provided by the underlying table, through a prunable SQL
+	 * {@code JOIN} on the (element, group) mapping table. It is used only when the group column is grouped by: a filter
+	 * on groups without grouping by groups would count twice an element belonging to multiple selected groups, so it
+	 * is still converted into a filter on elements.
+	 * 
+	 * Hence, the {@link IManyToMany1DDefinition} must still be populated, consistently with the SQL mapping table: it
+	 * is used to convert the filters on groups into filters on elements, and to list the groups.
+	 */
+	public static final String K_PUSHDOWN = "pushdown";
+
 	final Map<String, ?> options;
 
 	final IManyToMany1DDefinition manyToManyDefinition;
 
+	final String elementColumn;
+	final String groupColumn;
+	final boolean pushdown;
+
 	public ManyToMany1DDecomposition(Map<String, ?> options) {
 		this(options, new ManyToMany1DInMemoryDefinition());
 
@@ -92,22 +118,57 @@ public class ManyToMany1DDecomposition implements IDecomposition {
 		this.options = options;
 		this.manyToManyDefinition = manyToManyDefinition;
 
-		String elementColumn = AdhocMapPathGet.getRequiredString(options, K_INPUT);
-		String groupColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
+		this.elementColumn = AdhocMapPathGet.getRequiredString(options, K_INPUT);
+		this.groupColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
+		this.pushdown = AdhocMapPathGet.<Boolean>getOptionalAs(options, K_PUSHDOWN).orElse(false);
 
 		if (elementColumn.equals(groupColumn)) {
 			throw new UnsupportedOperationException("TODO This case requires specific behaviors and unitTests");
 		}
 	}
 
+	/**
+	 * 
+	 * @param options
+	 *            the options of the {@link ManyToMany1DDecomposition}, providing {@link #K_INPUT} and
+	 *            {@link #K_OUTPUT}.
+	 * @param mappingTable
+	 *            the SQL table holding one row per (element, group) pair.
+	 * @param alias
+	 *            the alias of the JOINed table.
+	 * @return a {@link JooqJoinBuilder} configuration registering the mapping table as a prunable {@code LEFT JOIN},
+	 *         to be used together with {@link #K_PUSHDOWN}. It must be registered into a
+	 *         {@link PrunedJoinsJooqTableSupplierBuilder}, as the JOIN duplicates each row per group of its element.
+	 */
+	public static Consumer<JooqJoinBuilder> sqlJoin(Map<String, ?> options, Table<?> mappingTable, String alias) {
+		String element = AdhocMapPathGet.getRequiredString(options, K_INPUT);
+		String group = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
+
+		return j -> j.table(mappingTable).alias(alias).onSame(element).providedColumns(ImmutableSet.of(group));
+	}
+
+	/**
+	 * 
+	 * @param step
+	 * @return true if the group column is computed by the underlying table.
+	 */
+	protected boolean isPushedDown(IWhereGroupByQuery step) {
+		return pushdown && step.getGroupBy().getSortedColumns().contains(groupColumn);
+	}
+
 	@Override
-	public List<IDecompositionEntry> decompose(ISliceWithStep slice, Object value) {
-		String elementColumn = AdhocMapPathGet.getRequiredString(options, K_INPUT);
+	public void decompose(ISliceWithStep slice, Object value, IDecompositionScatter scatter) {
+		if (isPushedDown(slice.getQueryStep())) {
+			// The groups are provided by the underlying slice
+			scatter.onUndecomposed(value);
+			return;
+		}
 
 		Optional<?> optElement = slice.sliceReader().extractCoordinateLax(elementColumn, Object.class);
 		if (optElement.isEmpty()) {
 			// There is no expressed element
-			return ImmutableList.of(IDecompositionEntry.of(ImmutableMap.of(), value));
+			scatter.onUndecomposed(value);
+			return;
 		}
 
 		Object element = optElement.get();
@@ -116,15 +177,15 @@ public class ManyToMany1DDecomposition implements IDecomposition {
 			throw new UnsupportedOperationException("TODO Handle element being a Collection");
 		}
 
-		Set<Object> groups = getGroups(slice, element);
-
-		String groupColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
+		boolean isGroupedByGroup = slice.getQueryStep().getGroupBy().getSortedColumns().contains(groupColumn);
 
-		return makeDecomposition(element,
-				value,
-				groupColumn,
-				groups,
-				slice.getQueryStep().getGroupBy().getSortedColumns().contains(groupColumn));
+		Optional<ManyToMany1DIndex> optIndex = manyToManyDefinition.optIndex();
+		if (optIndex.isPresent()) {
+			scatterIndexed(slice, optIndex.get(), element, value, isGroupedByGroup, scatter);
+		} else {
+			Set<Object> groups = getGroups(slice, element);
+			scatter(element, value, groups, isGroupedByGroup, scatter);
+		}
 	}
 
 	/**
@@ -133,31 +194,74 @@ public class ManyToMany1DDecomposition implements IDecomposition {
 	 *            the coordinate along the input column. e.g. `FR` if the input column were `country`.
 	 * @param value
 	 *            the value of the underlying measure for given element
-	 * @param groupColumn
-	 *            the name of the grouped column (e.g. `countryGroup`)
 	 * @param groups
 	 *            the groups in which given element are duplicated
 	 * @param isGroupedByGroup
 	 *            if true, the query is groupedBy the group column. Else, the received groups are present as filter but
 	 *            not groupedBy.
-	 * @return
+	 * @param scatter
 	 */
-	protected List<IDecompositionEntry> makeDecomposition(Object element,
+	protected void scatter(Object element,
 			Object value,
-			String groupColumn,
 			Set<Object> groups,
-			boolean isGroupedByGroup) {
+			boolean isGroupedByGroup,
+			IDecompositionScatter scatter) {
+		if (isGroupedByGroup) {
+			// One contribution per filtered groups
+			groups.forEach(group -> scatter.onDecomposed(groupColumn, group, scale(element, value)));
+		} else {
+			// A single contribution for the filtered groups
+			scatter.onUndecomposed(scale(groups, value));
+		}
+	}
+
+	/**
+	 * Similar to {@link #scatter(Object, Object, Set, boolean, IDecompositionScatter)}, given a
+	 * {@link ManyToMany1DIndex}: the groups are iterated by ids, without intersecting {@link Set}s.
+	 */
+	protected void scatterIndexed(ISliceWithStep slice,
+			ManyToMany1DIndex index,
+			Object element,
+			Object value,
+			boolean isGroupedByGroup,
+			IDecompositionScatter scatter) {
+		BitSet matchingGroupIds = getQueryMatchingGroupIds(slice, index);
+		int elementId = index.getElementId(element);
+
 		if (isGroupedByGroup) {
 			// One contribution per filtered groups
-			return groups.stream()
-					.map(group -> IDecompositionEntry.of(ImmutableMap.of(groupColumn, group), scale(element, value)))
-					.collect(ImmutableList.toImmutableList());
+			Object scaled = scale(element, value);
+			index.forEachMatchingGroupId(elementId,
+					matchingGroupIds,
+					groupId -> scatter.onDecomposed(groupColumn, index.getNormalizedGroup(groupId), scaled));
 		} else {
 			// A single contribution for the filtered groups
-			return ImmutableList.of(IDecompositionEntry.of(ImmutableMap.of(), scale(groups, value)));
+			ImmutableSet.Builder<Object> groups = ImmutableSet.builder();
+			index.forEachMatchingGroupId(elementId,
+					matchingGroupIds,
+					groupId -> groups.add(index.getNormalizedGroup(groupId)));
+			scatter.onUndecomposed(scale(groups.build(), value));
 		}
 	}
 
+	/**
+	 * 
+	 * @param slice
+	 * @param index
+	 * @return the ids of the groups matching the queryStep filter. Computed once per queryStep.
+	 */
+	protected BitSet getQueryMatchingGroupIds(ISliceWithStep slice, ManyToMany1DIndex index) {
+		Map<Object, Object> queryStepCache = slice.getQueryStep().getCache();
+
+		return (BitSet) queryStepCache.computeIfAbsent("matchingGroupIds", cacheKey -> {
+			ISliceFilter filter = slice.getQueryStep().getFilter();
+
+			return index.getMatchingGroupIds(group -> doFilterGroup(filter,
+					groupColumn,
+					Objects.requireNonNull(group, "group candidate must not be null")));
+		});
+	}
+
 	protected Set<Object> getGroups(ISliceWithStep slice, Object element) {
 		Set<Object> groupsMayBeFilteredOut = manyToManyDefinition.getGroups(element);
 
@@ -187,8 +291,6 @@ public class ManyToMany1DDecomposition implements IDecomposition {
 	}
 
 	protected Set<?> getQueryMatchingGroupsNoCache(ISliceWithStep slice) {
-		String groupColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
-
 		ISliceFilter filter = slice.getQueryStep().getFilter();
 
 		return manyToManyDefinition.getMatchingGroups(group -> doFilterGroup(filter,
@@ -216,8 +318,13 @@ public class ManyToMany1DDecomposition implements IDecomposition {
 
 	@Override
 	public List<IWhereGroupByQuery> getUnderlyingSteps(CubeQueryStep step) {
-		String elementColumn = AdhocMapPathGet.getRequiredString(options, K_INPUT);
-		String groupColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
+		if (isPushedDown(step)) {
+			// Each element row is duplicated once per group by the SQL JOIN, and then aggregated per group. The `LEFT
+			// JOIN` provides a `NULL` group for the elements without group, which are skipped by the Java evaluation
+			ISliceFilter groupNotNull = ColumnFilter.builder().column(groupColumn).matchNull().build().negate();
+			ISliceFilter underlyingFilter = FilterBuilder.and(step.getFilter(), groupNotNull).optimize();
+			return ImmutableList.of(MeasurelessQuery.edit(step).filter(underlyingFilter).build());
+		}
 
 		ISliceFilter requestedFilter = step.getFilter();
 		ISliceFilter underlyingFilter = convertGroupsToElementsFilter(groupColumn, elementColumn, requestedFilter);
@@ -233,8 +340,7 @@ public class ManyToMany1DDecomposition implements IDecomposition {
 		// The groupColumn is generally meaningless to the underlying measure
 		allGroupBys.removeIf(c -> c.getName().equals(groupColumn));
 
-		String inputColumn = AdhocMapPathGet.getRequiredString(options, K_INPUT);
-		allGroupBys.add(ReferencedColumn.ref(inputColumn));
+		allGroupBys.add(ReferencedColumn.ref(elementColumn));
 
 		// TODO If we filter some group, we should propagate as filtering some element
 		// step.getFilter().
@@ -290,6 +396,11 @@ public class ManyToMany1DDecomposition implements IDecomposition {
 
 	@Override
 	public Map<String, Class<?>> getColumnTypes() {
+		if (pushdown) {
+			// The group column is provided by the table: it must not be suppressed as a generated column
+			return ImmutableMap.of();
+		}
+
 		String outputColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
 		Class<?> outputColumnClass =
 				AdhocMapPathGet.toClass(AdhocMapPathGet.getOptionalString(options, K_OUTPUT_CLASS));
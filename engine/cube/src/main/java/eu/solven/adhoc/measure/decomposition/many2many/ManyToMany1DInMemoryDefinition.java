@@ -23,9 +23,12 @@
 package eu.solven.adhoc.measure.decomposition.many2many;
 
 import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import org.jspecify.annotations.Nullable;
+
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.MultimapBuilder;
 import com.google.common.collect.SetMultimap;
@@ -47,6 +50,9 @@ public class ManyToMany1DInMemoryDefinition implements IManyToMany1DDefinition {
 	final SetMultimap<Object, Object> elementToGroups =
 			MultimapBuilder.SetMultimapBuilder.hashKeys().hashSetValues().build();
 
+	// Built lazily, and reset on each write
+	volatile @Nullable ManyToMany1DIndex index;
+
 	@Override
 	public Set<Object> getGroups(Object element) {
 		return elementToGroups.get(element);
@@ -75,8 +81,27 @@ public class ManyToMany1DInMemoryDefinition implements IManyToMany1DDefinition {
 		return groupToElements.keySet().stream().filter(groupMatcher::match);
 	}
 
+	@Override
+	public Optional<ManyToMany1DIndex> optIndex() {
+		ManyToMany1DIndex currentIndex = index;
+		if (currentIndex == null) {
+			synchronized (this) {
+				currentIndex = index;
+				if (currentIndex == null) {
+					currentIndex = ManyToMany1DIndex.of(elementToGroups);
+					log.debug("Indexed {}", currentIndex);
+					index = currentIndex;
+				}
+			}
+		}
+		return Optional.of(currentIndex);
+	}
+
 	public void putElementToGroup(Object element, Object group) {
-		elementToGroups.put(element, group);
-		groupToElements.put(group, element);
+		synchronized (this) {
+			elementToGroups.put(element, group);
+			groupToElements.put(group, element);
+			index = null;
+		}
 	}
 }
@@ -0,0 +1,228 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.decomposition.many2many;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.SetMultimap;
+
+import eu.solven.adhoc.filter.value.IValueMatcher;
+import eu.solven.adhoc.primitive.AdhocPrimitiveHelpers;
+
+/**
+ * A frozen, dictionary-encoded {@link IManyToMany1DDefinition}. Elements and groups are encoded as int ids, each
+ * element is associated to its sorted group ids, and each group to its sorted element ids (i.e. inverted lists).
+ * 
+ * Given a {@link IValueMatcher} over groups, the matching groups are computed once as a {@link BitSet}: each element is
+ * then decomposed by iterating its group ids, without intersecting {@link Set}s.
+ * 
+ * @author Benoit Lacelle
+ */
+public final class ManyToMany1DIndex implements IManyToMany1DDefinition {
+	private static final int[] NO_IDS = new int[0];
+
+	// id to element
+	final ImmutableList<Object> elements;
+	final ImmutableMap<Object, Integer> elementToId;
+
+	// id to group
+	final ImmutableList<Object> groups;
+	// id to normalized group, as written in output slices
+	final ImmutableList<Object> normalizedGroups;
+
+	final int[][] elementToGroupIds;
+	final int[][] groupToElementIds;
+
+	private ManyToMany1DIndex(ImmutableList<Object> elements,
+			ImmutableList<Object> groups,
+			int[][] elementToGroupIds,
+			int[][] groupToElementIds) {
+		this.elements = elements;
+		this.elementToId = indexOf(elements);
+		this.groups = groups;
+		this.normalizedGroups = groups.stream()
+				.map(AdhocPrimitiveHelpers::normalizeValue)
+				.collect(ImmutableList.toImmutableList());
+		this.elementToGroupIds = elementToGroupIds;
+		this.groupToElementIds = groupToElementIds;
+	}
+
+	private static ImmutableMap<Object, Integer> indexOf(ImmutableList<Object> values) {
+		ImmutableMap.Builder<Object, Integer> valueToId = ImmutableMap.builderWithExpectedSize(values.size());
+		for (int i = 0; i < values.size(); i++) {
+			valueToId.put(values.get(i), i);
+		}
+		return valueToId.buildOrThrow();
+	}
+
+	/**
+	 * 
+	 * @param elementToGroups
+	 * @return a {@link ManyToMany1DIndex} holding a snapshot of given elementToGroups.
+	 */
+	public static ManyToMany1DIndex of(SetMultimap<Object, Object> elementToGroups) {
+		ImmutableList<Object> elements = ImmutableList.copyOf(elementToGroups.keySet());
+		ImmutableList<Object> groups = ImmutableList.copyOf(ImmutableSet.copyOf(elementToGroups.values()));
+		ImmutableMap<Object, Integer> groupToId = indexOf(groups);
+
+		int[][] elementToGroupIds = new int[elements.size()][];
+		int[] groupCardinalities = new int[groups.size()];
+		for (int elementId = 0; elementId < elements.size(); elementId++) {
+			int[] groupIds = elementToGroups.get(elements.get(elementId)).stream().mapToInt(groupToId::get).toArray();
+			Arrays.sort(groupIds);
+			elementToGroupIds[elementId] = groupIds;
+			for (int groupId : groupIds) {
+				groupCardinalities[groupId]++;
+			}
+		}
+
+		// Elements are iterated in increasing ids: the inverted lists are sorted
+		int[][] groupToElementIds = new int[groups.size()][];
+		for (int groupId = 0; groupId < groups.size(); groupId++) {
+			groupToElementIds[groupId] = new int[groupCardinalities[groupId]];
+		}
+		int[] groupFill = new int[groups.size()];
+		for (int elementId = 0; elementId < elements.size(); elementId++) {
+			for (int groupId : elementToGroupIds[elementId]) {
+				groupToElementIds[groupId][groupFill[groupId]++] = elementId;
+			}
+		}
+
+		return new ManyToMany1DIndex(elements, groups, elementToGroupIds, groupToElementIds);
+	}
+
+	public int getNbElements() {
+		return elements.size();
+	}
+
+	public int getNbGroups() {
+		return groups.size();
+	}
+
+	/**
+	 * 
+	 * @param element
+	 * @return the id of given element, or -1 if it is unknown.
+	 */
+	public int getElementId(Object element) {
+		Integer elementId = elementToId.get(element);
+		if (elementId == null) {
+			return -1;
+		}
+		return elementId;
+	}
+
+	/**
+	 * 
+	 * @param groupId
+	 * @return the normalized group, as expected in output slices.
+	 */
+	public Object getNormalizedGroup(int groupId) {
+		return normalizedGroups.get(groupId);
+	}
+
+	/**
+	 * 
+	 * @param groupMatcher
+	 * @return the ids of the groups matched by given {@link IValueMatcher}.
+	 */
+	public BitSet getMatchingGroupIds(IValueMatcher groupMatcher) {
+		BitSet groupIds = new BitSet(groups.size());
+		for (int groupId = 0; groupId < groups.size(); groupId++) {
+			if (groupMatcher.match(groups.get(groupId))) {
+				groupIds.set(groupId);
+			}
+		}
+		return groupIds;
+	}
+
+	/**
+	 * 
+	 * @param elementId
+	 * @param matchingGroupIds
+	 *            typically computed once per query with {@link #getMatchingGroupIds(IValueMatcher)}
+	 * @param groupIdConsumer
+	 *            receives the ids of the matching groups including given element, in increasing order
+	 */
+	public void forEachMatchingGroupId(int elementId, BitSet matchingGroupIds, IntConsumer groupIdConsumer) {
+		int[] groupIds;
+		if (elementId < 0) {
+			groupIds = NO_IDS;
+		} else {
+			groupIds = elementToGroupIds[elementId];
+		}
+
+		for (int groupId : groupIds) {
+			if (matchingGroupIds.get(groupId)) {
+				groupIdConsumer.accept(groupId);
+			}
+		}
+	}
+
+	@Override
+	public Set<Object> getGroups(Object element) {
+		int elementId = getElementId(element);
+		if (elementId < 0) {
+			return ImmutableSet.of();
+		}
+		return Arrays.stream(elementToGroupIds[elementId])
+				.mapToObj(groups::get)
+				.collect(ImmutableSet.toImmutableSet());
+	}
+
+	@Override
+	public Set<?> getElementsMatchingGroups(IValueMatcher groupMatcher) {
+		BitSet elementIds = new BitSet(elements.size());
+		getMatchingGroupIds(groupMatcher).stream()
+				.forEach(groupId -> Arrays.stream(groupToElementIds[groupId]).forEach(elementIds::set));
+
+		Set<Object> elementsMatchingGroups = new LinkedHashSet<>();
+		elementIds.stream().forEach(elementId -> elementsMatchingGroups.add(elements.get(elementId)));
+		return elementsMatchingGroups;
+	}
+
+	@Override
+	public Set<?> getMatchingGroups(IValueMatcher groupMatcher) {
+		return getMatchingGroupIds(groupMatcher).stream()
+				.mapToObj(groups::get)
+				.collect(ImmutableSet.toImmutableSet());
+	}
+
+	@Override
+	public Optional<ManyToMany1DIndex> optIndex() {
+		return Optional.of(this);
+	}
+
+	@Override
+	public String toString() {
+		return "%s(#elements=%s, #groups=%s)".formatted(getClass().getSimpleName(), elements.size(), groups.size());
+	}
+}
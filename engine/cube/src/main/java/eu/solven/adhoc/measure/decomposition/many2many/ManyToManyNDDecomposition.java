@@ -22,12 +22,14 @@
  */
 package eu.solven.adhoc.measure.decomposition.many2many;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import com.google.common.collect.ImmutableList;
@@ -50,8 +52,7 @@ import eu.solven.adhoc.filter.ISliceFilter;
 import eu.solven.adhoc.filter.value.IValueMatcher;
 import eu.solven.adhoc.filter.value.InMatcher;
 import eu.solven.adhoc.measure.decomposition.DecompositionHelpers;
-import eu.solven.adhoc.measure.decomposition.IDecomposition;
-import eu.solven.adhoc.measure.decomposition.IDecompositionEntry;
+import eu.solven.adhoc.measure.decomposition.IScatteringDecomposition;
 import eu.solven.adhoc.model.column.IAdhocColumn;
 import eu.solven.adhoc.model.column.ReferencedColumn;
 import eu.solven.adhoc.model.query.groupby.GroupByColumns;
@@ -72,7 +73,7 @@ import lombok.extern.slf4j.Slf4j;
  * @author Benoit Lacelle
  */
 @Slf4j
-public class ManyToManyNDDecomposition implements IDecomposition {
+public class ManyToManyNDDecomposition implements IScatteringDecomposition {
 	public static final String KEY = "many_to_many";
 	/**
 	 * The columns used as elements: the underlying measure is expressed on these columns
@@ -93,6 +94,9 @@ public class ManyToManyNDDecomposition implements IDecomposition {
 
 	final IManyToManyNDDefinition manyToManyDefinition;
 
+	final Set<String> elementColumns;
+	final String groupColumn;
+
 	public ManyToManyNDDecomposition(Map<String, ?> options) {
 		this(options, new ManyToManyNDInMemoryDefinition());
 
@@ -104,8 +108,8 @@ public class ManyToManyNDDecomposition implements IDecomposition {
 		this.options = options;
 		this.manyToManyDefinition = manyToManyDefinition;
 
-		Set<String> elementColumns = getInputColumns(options);
-		String groupColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
+		this.elementColumns = getInputColumns(options);
+		this.groupColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
 
 		if (elementColumns.contains(groupColumn)) {
 			throw new UnsupportedOperationException("TODO This case requires specific behaviors and unitTests");
@@ -128,8 +132,6 @@ public class ManyToManyNDDecomposition implements IDecomposition {
 	}
 
 	protected Set<?> getQueryStepMatchingGroupsNoCache(ISliceWithStep slice) {
-		String groupColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
-
 		ISliceFilter filter = slice.getQueryStep().getFilter();
 
 		return manyToManyDefinition.getMatchingGroups(group -> doFilterGroup(filter,
@@ -138,29 +140,46 @@ public class ManyToManyNDDecomposition implements IDecomposition {
 	}
 
 	@Override
-	public List<IDecompositionEntry> decompose(ISliceWithStep slice, Object value) {
-		Set<String> elementColumns = getInputColumns(options);
-
+	public void decompose(ISliceWithStep slice, Object value, IDecompositionScatter scatter) {
 		Map<String, ?> elementCoordinates = slice.getSlice().optGroupBy(elementColumns);
 		if (elementCoordinates.size() < elementColumns.size()) {
 			// We lack some coordinates
-			return ImmutableList.of(IDecompositionEntry.of(ImmutableMap.of(), value));
+			scatter.onUndecomposed(value);
+			return;
 		}
 
-		Set<Object> groups = getGroups(slice, elementCoordinates);
+		Optional<ManyToManyNDIndex> optIndex = manyToManyDefinition.optIndex();
+		if (optIndex.isPresent()) {
+			ManyToManyNDIndex index = optIndex.get();
+			BitSet matchingGroupIds = getQueryMatchingGroupIds(slice, index);
 
-		String groupColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
+			Object scaled = scale(elementCoordinates, value);
+			index.forEachMatchingGroupId(elementCoordinates,
+					matchingGroupIds,
+					groupId -> scatter.onDecomposed(groupColumn, index.getNormalizedGroup(groupId), scaled));
+		} else {
+			Set<Object> groups = getGroups(slice, elementCoordinates);
 
-		return makeDecomposition(elementCoordinates, value, groupColumn, groups);
+			groups.forEach(group -> scatter.onDecomposed(groupColumn, group, scale(elementCoordinates, value)));
+		}
 	}
 
-	protected List<IDecompositionEntry> makeDecomposition(Map<String, ?> element,
-			Object value,
-			String groupColumn,
-			Set<Object> groups) {
-		return groups.stream()
-				.map(group -> IDecompositionEntry.of(ImmutableMap.of(groupColumn, group), scale(element, value)))
-				.collect(ImmutableList.toImmutableList());
+	/**
+	 * 
+	 * @param slice
+	 * @param index
+	 * @return the ids of the groups matching the queryStep filter. Computed once per queryStep.
+	 */
+	protected BitSet getQueryMatchingGroupIds(ISliceWithStep slice, ManyToManyNDIndex index) {
+		Map<Object, Object> queryStepCache = slice.getQueryStep().getCache();
+
+		return (BitSet) queryStepCache.computeIfAbsent("matchingGroupIds", cacheKey -> {
+			ISliceFilter filter = slice.getQueryStep().getFilter();
+
+			return index.getMatchingGroupIds(group -> doFilterGroup(filter,
+					groupColumn,
+					Objects.requireNonNull(group, "group candidate must not be null")));
+		});
 	}
 
 	protected Set<Object> getGroups(ISliceWithStep slice, Map<String, ?> columnToElement) {
@@ -209,9 +228,6 @@ public class ManyToManyNDDecomposition implements IDecomposition {
 
 	@Override
 	public List<IWhereGroupByQuery> getUnderlyingSteps(CubeQueryStep step) {
-		Set<String> elementColumns = getInputColumns(options);
-		String groupColumn = AdhocMapPathGet.getRequiredString(options, K_OUTPUT);
-
 		ISliceFilter requestedFilter = step.getFilter();
 		ISliceFilter underlyingFilter = convertGroupsToElementsFilter(groupColumn, requestedFilter);
 
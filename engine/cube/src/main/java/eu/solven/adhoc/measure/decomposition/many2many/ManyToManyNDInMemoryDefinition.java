@@ -25,9 +25,12 @@ package eu.solven.adhoc.measure.decomposition.many2many;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import org.jspecify.annotations.Nullable;
+
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.MultimapBuilder;
 import com.google.common.collect.SetMultimap;
@@ -48,6 +51,9 @@ public class ManyToManyNDInMemoryDefinition implements IManyToManyNDDefinition {
 	// final SetMultimap<Map<String, ?>, Object> elementToGroups =
 	// MultimapBuilder.SetMultimapBuilder.hashKeys().hashSetValues().build();
 
+	// Built lazily, and reset on each write
+	volatile @Nullable ManyToManyNDIndex index;
+
 	@Override
 	public Set<Object> getGroups(IValueMatcher groupMatcher, Map<String, ?> columnToElement) {
 		return groupToElements.asMap().entrySet().stream().filter(e -> groupMatcher.match(e.getKey())).filter(e -> {
@@ -88,12 +94,31 @@ public class ManyToManyNDInMemoryDefinition implements IManyToManyNDDefinition {
 		return streamMatchingGroups(groupMatcher).collect(ImmutableSet.toImmutableSet());
 	}
 
+	@Override
+	public Optional<ManyToManyNDIndex> optIndex() {
+		ManyToManyNDIndex currentIndex = index;
+		if (currentIndex == null) {
+			synchronized (this) {
+				currentIndex = index;
+				if (currentIndex == null) {
+					currentIndex = ManyToManyNDIndex.of(groupToElements);
+					log.debug("Indexed {}", currentIndex);
+					index = currentIndex;
+				}
+			}
+		}
+		return Optional.of(currentIndex);
+	}
+
 	public void putElementToGroup(Map<String, IValueMatcher> element, Object rawGroup) {
 		if (rawGroup instanceof Collection<?> groups) {
 			groups.forEach(group -> putElementToGroup(element, group));
 		} else {
-			// elementToGroups.put(element, rawGroup);
-			groupToElements.put(rawGroup, element);
+			synchronized (this) {
+				// elementToGroups.put(element, rawGroup);
+				groupToElements.put(rawGroup, element);
+				index = null;
+			}
 		}
 	}
 
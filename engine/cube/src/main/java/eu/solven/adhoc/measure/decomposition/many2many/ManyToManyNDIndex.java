@@ -0,0 +1,270 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.decomposition.many2many;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.SetMultimap;
+import com.google.common.primitives.Ints;
+
+import eu.solven.adhoc.filter.value.EqualsObjectMatcher;
+import eu.solven.adhoc.filter.value.IValueMatcher;
+import eu.solven.adhoc.primitive.AdhocPrimitiveHelpers;
+
+/**
+ * A frozen, dictionary-encoded {@link IManyToManyNDDefinition}. Groups are encoded as int ids.
+ * 
+ * Elements defined only by {@link EqualsObjectMatcher} are indexed by their coordinates, for a hash lookup. Other
+ * elements (e.g. defined by ranges) are matched one by one.
+ * 
+ * @author Benoit Lacelle
+ */
+public final class ManyToManyNDIndex implements IManyToManyNDDefinition {
+	// id to group
+	final ImmutableList<Object> groups;
+	// id to normalized group, as written in output slices
+	final ImmutableList<Object> normalizedGroups;
+	final ImmutableList<ImmutableSet<Map<String, IValueMatcher>>> groupToElements;
+
+	// For each set of columns, from the coordinates to the group ids
+	final ImmutableMap<ImmutableSet<String>, ImmutableMap<Map<String, Object>, int[]>> exactElements;
+
+	// The elements which are not exact, with their group ids
+	final ImmutableList<Map<String, IValueMatcher>> otherElements;
+	final int[][] otherElementToGroupIds;
+
+	private ManyToManyNDIndex(ImmutableList<Object> groups,
+			ImmutableList<ImmutableSet<Map<String, IValueMatcher>>> groupToElements,
+			ImmutableMap<ImmutableSet<String>, ImmutableMap<Map<String, Object>, int[]>> exactElements,
+			ImmutableList<Map<String, IValueMatcher>> otherElements,
+			int[][] otherElementToGroupIds) {
+		this.groups = groups;
+		this.normalizedGroups = groups.stream()
+				.map(AdhocPrimitiveHelpers::normalizeValue)
+				.collect(ImmutableList.toImmutableList());
+		this.groupToElements = groupToElements;
+		this.exactElements = exactElements;
+		this.otherElements = otherElements;
+		this.otherElementToGroupIds = otherElementToGroupIds;
+	}
+
+	/**
+	 * 
+	 * @param groupToElements
+	 * @return a {@link ManyToManyNDIndex} holding a snapshot of given groupToElements.
+	 */
+	public static ManyToManyNDIndex of(SetMultimap<Object, Map<String, IValueMatcher>> groupToElements) {
+		ImmutableList<Object> groups = ImmutableList.copyOf(groupToElements.keySet());
+
+		Map<Map<String, IValueMatcher>, Set<Integer>> elementToGroupIds = new LinkedHashMap<>();
+		ImmutableList.Builder<ImmutableSet<Map<String, IValueMatcher>>> groupIdToElements = ImmutableList.builder();
+		for (int groupId = 0; groupId < groups.size(); groupId++) {
+			Set<Map<String, IValueMatcher>> elements = groupToElements.get(groups.get(groupId));
+			groupIdToElements.add(ImmutableSet.copyOf(elements));
+
+			int finalGroupId = groupId;
+			elements.forEach(element -> elementToGroupIds.computeIfAbsent(element, k -> new LinkedHashSet<>())
+					.add(finalGroupId));
+		}
+
+		Map<ImmutableSet<String>, Map<Map<String, Object>, Set<Integer>>> exactElements = new LinkedHashMap<>();
+		ImmutableList.Builder<Map<String, IValueMatcher>> otherElements = ImmutableList.builder();
+		List<int[]> otherElementToGroupIds = new ArrayList<>();
+
+		elementToGroupIds.forEach((element, groupIds) -> {
+			Optional<Map<String, Object>> optCoordinates = asCoordinates(element);
+			if (optCoordinates.isPresent()) {
+				Map<String, Object> coordinates = optCoordinates.get();
+				exactElements.computeIfAbsent(ImmutableSet.copyOf(coordinates.keySet()), k -> new LinkedHashMap<>())
+						.computeIfAbsent(coordinates, k -> new LinkedHashSet<>())
+						.addAll(groupIds);
+			} else {
+				otherElements.add(element);
+				otherElementToGroupIds.add(Ints.toArray(groupIds));
+			}
+		});
+
+		ImmutableMap.Builder<ImmutableSet<String>, ImmutableMap<Map<String, Object>, int[]>> exactIndex =
+				ImmutableMap.builder();
+		exactElements.forEach((columns, coordinatesToGroupIds) -> {
+			ImmutableMap.Builder<Map<String, Object>, int[]> coordinatesIndex = ImmutableMap.builder();
+			coordinatesToGroupIds.forEach(
+					(coordinates, groupIds) -> coordinatesIndex.put(coordinates, Ints.toArray(groupIds)));
+			exactIndex.put(columns, coordinatesIndex.buildOrThrow());
+		});
+
+		return new ManyToManyNDIndex(groups,
+				groupIdToElements.build(),
+				exactIndex.buildOrThrow(),
+				otherElements.build(),
+				otherElementToGroupIds.toArray(int[][]::new));
+	}
+
+	/**
+	 * 
+	 * @param element
+	 * @return the coordinates matched by given element, if it matches a single coordinate per column.
+	 */
+	private static Optional<Map<String, Object>> asCoordinates(Map<String, IValueMatcher> element) {
+		ImmutableMap.Builder<String, Object> coordinates = ImmutableMap.builderWithExpectedSize(element.size());
+		for (Map.Entry<String, IValueMatcher> entry : element.entrySet()) {
+			// `EqualsObjectMatcher` relies on `.equals`, hence compatible with a hash lookup
+			if (entry.getValue() instanceof EqualsObjectMatcher equalsMatcher) {
+				coordinates.put(entry.getKey(), equalsMatcher.getOperand());
+			} else {
+				return Optional.empty();
+			}
+		}
+		return Optional.of(coordinates.buildOrThrow());
+	}
+
+	public int getNbGroups() {
+		return groups.size();
+	}
+
+	/**
+	 * 
+	 * @param groupId
+	 * @return the normalized group, as expected in output slices.
+	 */
+	public Object getNormalizedGroup(int groupId) {
+		return normalizedGroups.get(groupId);
+	}
+
+	/**
+	 * 
+	 * @param groupMatcher
+	 * @return the ids of the groups matched by given {@link IValueMatcher}.
+	 */
+	public BitSet getMatchingGroupIds(IValueMatcher groupMatcher) {
+		BitSet groupIds = new BitSet(groups.size());
+		for (int groupId = 0; groupId < groups.size(); groupId++) {
+			if (groupMatcher.match(groups.get(groupId))) {
+				groupIds.set(groupId);
+			}
+		}
+		return groupIds;
+	}
+
+	/**
+	 * 
+	 * @param columnToElement
+	 *            the coordinates of an element
+	 * @param matchingGroupIds
+	 *            typically computed once per query with {@link #getMatchingGroupIds(IValueMatcher)}
+	 * @param groupIdConsumer
+	 *            receives the ids of the matching groups including given element, in increasing order
+	 */
+	public void forEachMatchingGroupId(Map<String, ?> columnToElement,
+			BitSet matchingGroupIds,
+			IntConsumer groupIdConsumer) {
+		// A group may be reached by multiple elements
+		BitSet groupIds = new BitSet(groups.size());
+
+		exactElements.forEach((columns, coordinatesToGroupIds) -> {
+			Optional<Map<String, Object>> optCoordinates = project(columns, columnToElement);
+			if (optCoordinates.isPresent()) {
+				int[] exactGroupIds = coordinatesToGroupIds.get(optCoordinates.get());
+				if (exactGroupIds != null) {
+					for (int groupId : exactGroupIds) {
+						groupIds.set(groupId);
+					}
+				}
+			}
+		});
+
+		for (int elementIndex = 0; elementIndex < otherElements.size(); elementIndex++) {
+			if (doElementMatch(otherElements.get(elementIndex), columnToElement)) {
+				for (int groupId : otherElementToGroupIds[elementIndex]) {
+					groupIds.set(groupId);
+				}
+			}
+		}
+
+		groupIds.and(matchingGroupIds);
+		groupIds.stream().forEach(groupIdConsumer);
+	}
+
+	private static Optional<Map<String, Object>> project(Set<String> columns, Map<String, ?> columnToElement) {
+		ImmutableMap.Builder<String, Object> coordinates = ImmutableMap.builderWithExpectedSize(columns.size());
+		for (String column : columns) {
+			Object coordinate = columnToElement.get(column);
+			if (coordinate == null) {
+				return Optional.empty();
+			}
+			coordinates.put(column, coordinate);
+		}
+		return Optional.of(coordinates.buildOrThrow());
+	}
+
+	private static boolean doElementMatch(Map<String, IValueMatcher> matcher, Map<String, ?> columnToElement) {
+		return matcher.entrySet().stream().allMatch(e -> e.getValue().match(columnToElement.get(e.getKey())));
+	}
+
+	@Override
+	public Set<Object> getGroups(IValueMatcher groupMatcher, Map<String, ?> columnToElement) {
+		ImmutableSet.Builder<Object> matchingGroups = ImmutableSet.builder();
+		forEachMatchingGroupId(columnToElement,
+				getMatchingGroupIds(groupMatcher),
+				groupId -> matchingGroups.add(groups.get(groupId)));
+		return matchingGroups.build();
+	}
+
+	@Override
+	public Set<Map<String, IValueMatcher>> getElementsMatchingGroups(IValueMatcher groupMatcher) {
+		Set<Map<String, IValueMatcher>> elementsMatchingGroups = new LinkedHashSet<>();
+		getMatchingGroupIds(groupMatcher).stream()
+				.forEach(groupId -> elementsMatchingGroups.addAll(groupToElements.get(groupId)));
+		return elementsMatchingGroups;
+	}
+
+	@Override
+	public Set<?> getMatchingGroups(IValueMatcher groupMatcher) {
+		return getMatchingGroupIds(groupMatcher).stream()
+				.mapToObj(groups::get)
+				.collect(ImmutableSet.toImmutableSet());
+	}
+
+	@Override
+	public Optional<ManyToManyNDIndex> optIndex() {
+		return Optional.of(this);
+	}
+
+	@Override
+	public String toString() {
+		long nbExact = exactElements.values().stream().mapToLong(Map::size).sum();
+		return "%s(#groups=%s, #exactElements=%s, #otherElements=%s)"
+				.formatted(getClass().getSimpleName(), groups.size(), nbExact, otherElements.size());
+	}
+}
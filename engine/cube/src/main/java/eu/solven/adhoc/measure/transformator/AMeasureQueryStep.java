@@ -22,15 +22,32 @@
  */
 package eu.solven.adhoc.measure.transformator;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
+import eu.solven.adhoc.dataframe.column.IMultitypeMergeableColumn;
 import eu.solven.adhoc.dataframe.column.ISliceAndValueConsumer;
+import eu.solven.adhoc.dataframe.column.partitioned.IPartitioned;
+import eu.solven.adhoc.dataframe.column.partitioned.PartitionedMergeableColumn;
+import eu.solven.adhoc.dataframe.column.partitioned.PartitioningHelpers;
+import eu.solven.adhoc.dataframe.column.partitioned.ShardKey;
 import eu.solven.adhoc.dataframe.join.SliceAndMeasures;
+import eu.solven.adhoc.engine.cancel.AmortizedCancellationCheck;
+import eu.solven.adhoc.engine.cancel.CancellationScope;
+import eu.solven.adhoc.engine.context.IIsCancellable;
 import eu.solven.adhoc.engine.step.CubeQueryStep;
 import eu.solven.adhoc.factories.IAdhocFactories;
+import eu.solven.adhoc.factories.PodExecutors;
+import eu.solven.adhoc.measure.aggregation.IAggregation;
 import eu.solven.adhoc.measure.combination.ICombination;
 import eu.solven.adhoc.measure.transformator.step.IMeasureQueryStep;
 import eu.solven.adhoc.model.measure.IMeasure;
@@ -87,7 +104,9 @@ public abstract class AMeasureQueryStep implements IMeasureQueryStep {
 						e);
 			}
 
-			if (Integer.bitCount(slicesDone.incrementAndGet()) == 1 && isDebug()) {
+			int nbSlicesDone = slicesDone.incrementAndGet();
+			AmortizedCancellationCheck.checkCurrent(nbSlicesDone, getStep());
+			if (Integer.bitCount(nbSlicesDone) == 1 && isDebug()) {
 				log.info("[DEBUG] Done processing {} slices by step={}", slicesDone, getStep());
 			}
 		});
@@ -105,6 +124,79 @@ public abstract class AMeasureQueryStep implements IMeasureQueryStep {
 		return getFactories().getColumnFactory().joinCuboids(getStep(), underlyings);
 	}
 
+	/**
+	 * Partition-local execution: each input partition (aligned across underlyings, see
+	 * {@link PartitioningHelpers#commonPartitionCount(List)}) is processed independently and concurrently, without any
+	 * cross-partition interaction.
+	 * 
+	 * @param underlyings
+	 *            partitioned underlyings, with the same number of partitions and the same {@link ShardKey}
+	 * @param nbPartitions
+	 * @param partitionProcessor
+	 *            processes the underlyings restricted to a single partition
+	 * @return the output of each partition, ordered by partition index
+	 */
+	@SuppressWarnings("unchecked")
+	protected <T> List<T> shardedForEach(List<? extends ICuboid> underlyings,
+			int nbPartitions,
+			Function<List<ICuboid>, T> partitionProcessor) {
+		List<ListenableFuture<T>> futures = new ArrayList<>(nbPartitions);
+		// ScopedValue are not inherited by submitted tasks: the cancellation scope is re-bound in each task
+		IIsCancellable cancellable = CancellationScope.current();
+		for (int p = 0; p < nbPartitions; p++) {
+			int partitionIndex = p;
+			// Each virtual-thread task re-establishes the slice-factory scope required by scoped backings
+			// (no-op on ThreadLocal-backed factories).
+			futures.add(PodExecutors.submitScoped(getFactories(), () -> {
+				List<ICuboid> partitionCuboids = underlyings.stream()
+						.map(c -> ((IPartitioned<ICuboid>) c).getPartition(partitionIndex))
+						.toList();
+
+				return CancellationScope.callWith(cancellable, () -> partitionProcessor.apply(partitionCuboids));
+			}));
+		}
+
+		// Collect results — each future is independent, no contention
+		return Futures.getUnchecked(Futures.allAsList(futures));
+	}
+
+	/**
+	 * Explicit re-shard stage, for steps changing the slices (e.g. a coarser groupBy): the entries of the unsharded
+	 * columns are routed to the output partition owning their output slice.
+	 * 
+	 * @param shardKey
+	 *            the {@link ShardKey} of the output partitions
+	 * @param agg
+	 *            merges the entries of different unsharded columns on the same slice
+	 * @param unshardedColumns
+	 *            typically one column per input partition
+	 * @return a partitioned column, aligned with any other column with the same {@link ShardKey} and size.
+	 */
+	protected IMultitypeMergeableColumn<ISlice> reshard(int nbPartitions,
+			ShardKey shardKey,
+			IAggregation agg,
+			List<? extends IMultitypeColumnFastGet<ISlice>> unshardedColumns) {
+		List<IMultitypeMergeableColumn<ISlice>> shardedColumns = new ArrayList<>(nbPartitions);
+		for (int i = 0; i < nbPartitions; i++) {
+			shardedColumns.add(getFactories().getColumnFactory().makeMergeableColumn(p -> p.isRandomAccess(true).agg(agg)));
+		}
+
+		// Iterate all unsharded output columns and route each entry to its correct output shard
+		for (IMultitypeColumnFastGet<ISlice> unsharded : unshardedColumns) {
+			unsharded.stream().forEach(sliceAndMeasure -> {
+				ISlice slice = sliceAndMeasure.getSlice();
+				int targetShard = shardKey.getPartitionIndex(slice, nbPartitions);
+				sliceAndMeasure.getValueProvider().acceptReceiver(shardedColumns.get(targetShard).merge(slice));
+			});
+		}
+
+		return PartitionedMergeableColumn.<ISlice>builder()
+				.partitions(shardedColumns)
+				.shardKey(shardKey)
+				.aggregation(agg)
+				.build();
+	}
+
 	protected abstract void onSlice(
 			// ICombinationBinding binded,
 			SliceAndMeasures slice,
@@ -22,8 +22,11 @@
  */
 package eu.solven.adhoc.measure.transformator.step;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import com.google.common.base.Suppliers;
@@ -37,13 +40,19 @@ import eu.solven.adhoc.dataframe.column.Cuboid;
 import eu.solven.adhoc.dataframe.column.IAppendOnlyMultitypeColumn;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
 import eu.solven.adhoc.dataframe.column.ISliceAndValueConsumer;
+import eu.solven.adhoc.dataframe.column.partitioned.PartitionedColumn;
+import eu.solven.adhoc.dataframe.column.partitioned.PartitioningHelpers;
+import eu.solven.adhoc.dataframe.column.partitioned.ShardKey;
 import eu.solven.adhoc.dataframe.join.SliceAndMeasures;
 import eu.solven.adhoc.engine.step.CubeQueryStep;
 import eu.solven.adhoc.engine.step.ISliceWithStep;
 import eu.solven.adhoc.factories.IAdhocFactories;
 import eu.solven.adhoc.factories.IColumnFactory;
 import eu.solven.adhoc.measure.combination.CoalesceCombination;
+import eu.solven.adhoc.measure.combination.IBatchCombination;
 import eu.solven.adhoc.measure.combination.ICombination;
+import eu.solven.adhoc.measure.combination.batch.CombinationBatch;
+import eu.solven.adhoc.measure.combination.batch.PrimitiveBatchColumn;
 import eu.solven.adhoc.measure.transformator.AMeasureQueryStep;
 import eu.solven.adhoc.measure.transformator.ICombinator;
 import eu.solven.adhoc.measure.transformator.IHasUnderlyingNames;
@@ -128,6 +137,24 @@ public class CombinatorQueryStep extends AMeasureQueryStep {
 			return underlyings.getFirst();
 		}
 
+		IMultitypeColumnFastGet<ISlice> values;
+		OptionalInt commonPartitions = PartitioningHelpers.commonPartitionCount(underlyings);
+		if (commonPartitions.isPresent()) {
+			// A combination preserves the slices: each input partition is combined into the same output partition
+			ShardKey shardKey = PartitioningHelpers.commonShardKey(underlyings).orElseThrow();
+			List<IMultitypeColumnFastGet<ISlice>> partitions = shardedForEach(underlyings,
+					commonPartitions.getAsInt(),
+					partitionUnderlyings -> produceValues(partitionUnderlyings, combination));
+			values = PartitionedColumn.<ISlice>builder().partitions(partitions).shardKey(shardKey).build();
+		} else {
+			values = produceValues(underlyings, combination);
+		}
+
+		return Cuboid.forGroupBy(step).values(values).build();
+	}
+
+	protected IMultitypeColumnFastGet<ISlice> produceValues(List<? extends ICuboid> underlyings,
+			ICombination combination) {
 		IMultitypeColumnFastGet<ISlice> values =
 				factories.getColumnFactory().makeColumn(p -> p.initialCapacity(sumSizes(underlyings)));
 
@@ -137,9 +164,77 @@ public class CombinatorQueryStep extends AMeasureQueryStep {
 		} else {
 			output = values::append;
 		}
-		forEachDistinctSlice(underlyings, combination, output);
+		if (combination instanceof IBatchCombination batchCombination && !isDebug()) {
+			forEachDistinctSliceBatch(underlyings, batchCombination, output);
+		} else {
+			forEachDistinctSlice(underlyings, combination, output);
+		}
 
-		return Cuboid.forGroupBy(step).values(values).build();
+		return values;
+	}
+
+	/**
+	 * Accumulates slices into a {@link CombinationBatch}, combined at once by the {@link IBatchCombination}. A slice
+	 * not fitting the batch (e.g. a {@link String} underlying) is combined individually, after flushing the batch to
+	 * preserve the slices order.
+	 */
+	protected void forEachDistinctSliceBatch(List<? extends ICuboid> underlyings,
+			IBatchCombination combination,
+			ISliceAndValueConsumer output) {
+		int capacity = Math.max(1, Math.min(CombinationBatch.DEFAULT_CAPACITY, sumSizes(underlyings)));
+		CombinationBatch batch = new CombinationBatch(underlyings.size(), capacity);
+		ISliceWithStep[] batchSlices = new ISliceWithStep[capacity];
+		PrimitiveBatchColumn batchOutput = new PrimitiveBatchColumn(capacity);
+		// Turned off if the combination rejects a batch, as these rows would then be read twice
+		AtomicBoolean doBatch = new AtomicBoolean(true);
+
+		forEachDistinctSlice(underlyings, slice -> {
+			if (!doBatch.get()) {
+				onSlice(slice, combination, output);
+			} else if (batch.tryAppend(slice.getMeasures())) {
+				batchSlices[batch.getSize() - 1] = slice.getSlice();
+			} else {
+				flushBatch(batch, batchSlices, batchOutput, combination, output, doBatch);
+
+				if (doBatch.get() && batch.tryAppend(slice.getMeasures())) {
+					batchSlices[batch.getSize() - 1] = slice.getSlice();
+				} else {
+					onSlice(slice, combination, output);
+				}
+			}
+		});
+
+		flushBatch(batch, batchSlices, batchOutput, combination, output, doBatch);
+	}
+
+	protected void flushBatch(CombinationBatch batch,
+			ISliceWithStep[] batchSlices,
+			PrimitiveBatchColumn batchOutput,
+			IBatchCombination combination,
+			ISliceAndValueConsumer output,
+			AtomicBoolean doBatch) {
+		int size = batch.getSize();
+		if (size == 0) {
+			return;
+		}
+
+		batchOutput.clear();
+		if (combination.combineBatch(batch, batchOutput)) {
+			for (int row = 0; row < size; row++) {
+				batchOutput.read(row, output.putSlice(batchSlices[row].getSlice()));
+			}
+		} else {
+			log.debug("{} rejected a batch of {} slices in {}", combination, size, step);
+			doBatch.set(false);
+			for (int row = 0; row < size; row++) {
+				SliceAndMeasures slice =
+						SliceAndMeasures.builder().slice(batchSlices[row]).measures(batch.getRow(row)).build();
+				onSlice(slice, combination, output);
+			}
+		}
+
+		batch.clear();
+		Arrays.fill(batchSlices, 0, size, null);
 	}
 
 	@Override
@@ -22,16 +22,21 @@
  */
 package eu.solven.adhoc.measure.transformator.step;
 
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
+import java.util.OptionalInt;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 
 import eu.solven.adhoc.column.calculated.ICalculatedColumn;
 import eu.solven.adhoc.cuboid.ICuboid;
@@ -40,6 +45,8 @@ import eu.solven.adhoc.cuboid.tabular.ITabularGroupByRecord;
 import eu.solven.adhoc.dataframe.column.Cuboid;
 import eu.solven.adhoc.dataframe.column.IMultitypeMergeableColumn;
 import eu.solven.adhoc.dataframe.column.ISliceAndValueConsumer;
+import eu.solven.adhoc.dataframe.column.partitioned.PartitioningHelpers;
+import eu.solven.adhoc.dataframe.column.partitioned.ShardKey;
 import eu.solven.adhoc.dataframe.filter.FilterMatcher;
 import eu.solven.adhoc.dataframe.join.SliceAndMeasures;
 import eu.solven.adhoc.dataframe.row.TabularGroupByRecordOverMap;
@@ -59,6 +66,8 @@ import eu.solven.adhoc.measure.decomposition.DecompositionHelpers;
 import eu.solven.adhoc.measure.decomposition.IDecomposition;
 import eu.solven.adhoc.measure.decomposition.IDecompositionEntry;
 import eu.solven.adhoc.measure.decomposition.IDecompositionFactory;
+import eu.solven.adhoc.measure.decomposition.IScatteringDecomposition.IDecompositionScatter;
+import eu.solven.adhoc.measure.decomposition.IScatteringDecomposition;
 import eu.solven.adhoc.measure.transformator.AMeasureQueryStep;
 import eu.solven.adhoc.model.column.IAdhocColumn;
 import eu.solven.adhoc.model.measure.Dispatchor;
@@ -93,6 +102,8 @@ public class DispatchorQueryStep extends AMeasureQueryStep {
 			.onMissingColumn(DecompositionHelpers.onMissingColumn())
 			.build());
 
+	final Supplier<Boolean> undecomposedIsRelevant = Suppliers.memoize(() -> isRelevant(ImmutableMap.of()));
+
 	public List<String> getUnderlyingNames() {
 		return dispatchor.getUnderlyingNames();
 	}
@@ -147,15 +158,44 @@ public class DispatchorQueryStep extends AMeasureQueryStep {
 
 		IAggregation agg = factories.getOperatorFactory().makeAggregation(dispatchor.getAggregationKey());
 
-		IMultitypeMergeableColumn<ISlice> values = makeColumn(agg);
-
 		IDecomposition decomposition = makeDecomposition(underlyings);
 
-		forEachDistinctSlice(underlyings, slice -> onSlice(underlyings, slice, decomposition, values));
+		IMultitypeMergeableColumn<ISlice> values;
+		OptionalInt commonPartitions = PartitioningHelpers.commonPartitionCount(underlyings);
+		if (commonPartitions.isPresent()) {
+			// The decomposition changes the slices: each input partition is dispatched into an unsharded column,
+			// then an explicit re-shard stage routes each output slice to its partition
+			int nbPartitions = commonPartitions.getAsInt();
+			ShardKey shardKey = PartitioningHelpers.commonShardKey(underlyings).orElseThrow();
+			List<IMultitypeMergeableColumn<ISlice>> unsharded = shardedForEach(underlyings,
+					nbPartitions,
+					partitionUnderlyings -> produceValues(partitionUnderlyings, decomposition, agg));
+			values = reshard(nbPartitions, shardKey, agg, unsharded);
+		} else {
+			values = produceValues(underlyings, decomposition, agg);
+		}
 
 		return Cuboid.forGroupBy(step).values(values).build();
 	}
 
+	protected IMultitypeMergeableColumn<ISlice> produceValues(List<? extends ICuboid> underlyings,
+			IDecomposition decomposition,
+			IAggregation agg) {
+		IMultitypeMergeableColumn<ISlice> values = makeColumn(agg);
+
+		if (decomposition instanceof IScatteringDecomposition scatteringDecomposition && !isDebug()) {
+			// Relevancy is evaluated once per decomposed coordinate, as decompositions typically generate few
+			// coordinates
+			Map<String, Map<Object, Boolean>> columnToCoordinateToRelevant = new HashMap<>();
+			forEachDistinctSlice(underlyings,
+					slice -> onSlice(slice, scatteringDecomposition, values, columnToCoordinateToRelevant));
+		} else {
+			forEachDistinctSlice(underlyings, slice -> onSlice(underlyings, slice, decomposition, values));
+		}
+
+		return values;
+	}
+
 	protected IMultitypeMergeableColumn<ISlice> makeColumn(IAggregation agg) {
 		// Not MultitypeNavigableColumn as decomposition will prevent writing slices in order.
 		// BEWARE This should be reviewed, as some later IMeasure would expect to receive an ordered slices
@@ -216,7 +256,76 @@ public class DispatchorQueryStep extends AMeasureQueryStep {
 		});
 	}
 
+	/**
+	 * Bulk path for {@link IScatteringDecomposition}: the decomposed entries are merged into the output column without
+	 * materializing an {@link IDecompositionEntry}.
+	 * 
+	 * @param slice
+	 * @param decomposition
+	 * @param aggregatingView
+	 * @param columnToCoordinateToRelevant
+	 *            a cache of {@link #isRelevant(Map)} for single-entry decomposed slices
+	 */
+	protected void onSlice(SliceAndMeasures slice,
+			IScatteringDecomposition decomposition,
+			IMultitypeMergeableColumn<ISlice> aggregatingView,
+			Map<String, Map<Object, Boolean>> columnToCoordinateToRelevant) {
+		Object value = IValueProvider.getValue(slice.getMeasures().read(0));
+
+		if (value == null) {
+			// The underlying value is empty: nothing to dispatch
+			return;
+		}
+
+		ISliceWithStep sliceWithStep = slice.getSlice();
+		IGroupBy groupBy = step.getGroupBy();
+		decomposition.decompose(sliceWithStep, value, new IDecompositionScatter() {
+
+			@Override
+			public void onUndecomposed(Object undecomposedValue) {
+				if (undecomposedIsRelevant.get()) {
+					ISlice outputSlice = queryGroupBy(groupBy, sliceWithStep, column -> null);
+					merge(aggregatingView, outputSlice, undecomposedValue);
+				}
+			}
+
+			@Override
+			public void onDecomposed(String column, Object coordinate, Object decomposedValue) {
+				boolean isRelevant = columnToCoordinateToRelevant.computeIfAbsent(column, k -> new HashMap<>())
+						.computeIfAbsent(coordinate, k -> isRelevant(ImmutableMap.of(column, coordinate)));
+				if (isRelevant) {
+					ISlice outputSlice = queryGroupBy(groupBy,
+							sliceWithStep,
+							groupByColumn -> column.equals(groupByColumn) ? coordinate : null);
+					merge(aggregatingView, outputSlice, decomposedValue);
+				}
+			}
+		});
+	}
+
+	protected void merge(IMultitypeMergeableColumn<ISlice> aggregatingView, ISlice outputSlice, Object value) {
+		if (value instanceof IValueProvider valueProvider) {
+			valueProvider.acceptReceiver(aggregatingView.merge(outputSlice));
+		} else {
+			aggregatingView.merge(outputSlice).onObject(value);
+		}
+	}
+
 	protected ISlice queryGroupBy(@NonNull IGroupBy groupBy, ISliceWithStep slice, Map<String, ?> fragmentCoordinate) {
+		return queryGroupBy(groupBy, slice, fragmentCoordinate::get);
+	}
+
+	/**
+	 * 
+	 * @param groupBy
+	 * @param slice
+	 * @param fragmentCoordinate
+	 *            provides the decomposed coordinate of given column, or null
+	 * @return the output slice
+	 */
+	protected ISlice queryGroupBy(@NonNull IGroupBy groupBy,
+			ISliceWithStep slice,
+			Function<String, ? extends @Nullable Object> fragmentCoordinate) {
 		NavigableSet<String> groupByColumns = groupBy.getSortedColumns();
 		IMapBuilderPreKeys queryCoordinatesBuilder = slice.getSlice().getFactory().newMapBuilder(groupByColumns);
 
@@ -225,7 +334,7 @@ public class DispatchorQueryStep extends AMeasureQueryStep {
 		ISliceFactory sliceFactory = factories.getSliceFactory();
 		groupByColumns.forEach(groupByColumn -> {
 			// BEWARE it is legal to get groupColumns only from the fragment coordinate
-			Object value = fragmentCoordinate.get(groupByColumn);
+			Object value = fragmentCoordinate.apply(groupByColumn);
 
 			IAdhocColumn column = groupBy.getSortedNameToColumn().get(groupByColumn);
 			if (column instanceof ICalculatedColumn calculatedColumn) {
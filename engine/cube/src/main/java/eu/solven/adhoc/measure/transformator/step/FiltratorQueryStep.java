@@ -24,6 +24,7 @@ package eu.solven.adhoc.measure.transformator.step;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.OptionalInt;
 
 import com.google.common.collect.ImmutableList;
 
@@ -32,6 +33,9 @@ import eu.solven.adhoc.cuboid.slice.ISlice;
 import eu.solven.adhoc.dataframe.column.Cuboid;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
 import eu.solven.adhoc.dataframe.column.ISliceAndValueConsumer;
+import eu.solven.adhoc.dataframe.column.partitioned.PartitionedColumn;
+import eu.solven.adhoc.dataframe.column.partitioned.PartitioningHelpers;
+import eu.solven.adhoc.dataframe.column.partitioned.ShardKey;
 import eu.solven.adhoc.dataframe.join.SliceAndMeasures;
 import eu.solven.adhoc.engine.cache.TransverseCacheHelper;
 import eu.solven.adhoc.engine.step.CubeQueryStep;
@@ -90,12 +94,28 @@ public class FiltratorQueryStep extends AMeasureQueryStep {
 					"underlyings.size() == %s. It should be 1".formatted(underlyings.size()));
 		}
 
+		IMultitypeColumnFastGet<ISlice> values;
+		OptionalInt commonPartitions = PartitioningHelpers.commonPartitionCount(underlyings);
+		if (commonPartitions.isPresent()) {
+			// A filter preserves the slices: each input partition is filtered into the same output partition
+			ShardKey shardKey = PartitioningHelpers.commonShardKey(underlyings).orElseThrow();
+			List<IMultitypeColumnFastGet<ISlice>> partitions =
+					shardedForEach(underlyings, commonPartitions.getAsInt(), this::produceValues);
+			values = PartitionedColumn.<ISlice>builder().partitions(partitions).shardKey(shardKey).build();
+		} else {
+			values = produceValues(underlyings);
+		}
+
+		return Cuboid.forGroupBy(step).values(values).build();
+	}
+
+	protected IMultitypeColumnFastGet<ISlice> produceValues(List<? extends ICuboid> underlyings) {
 		IMultitypeColumnFastGet<ISlice> values = factories.getColumnFactory()
 				.makeColumn(p -> p.initialCapacity(ColumnatorQueryStep.sumSizes(underlyings)));
 
 		forEachDistinctSlice(underlyings, new CoalesceCombination(), values::append);
 
-		return Cuboid.forGroupBy(step).values(values).build();
+		return values;
 	}
 
 	@Override
@@ -22,7 +22,6 @@
  */
 package eu.solven.adhoc.measure.transformator.step;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableSet;
 import java.util.OptionalInt;
@@ -30,8 +29,6 @@ import java.util.Set;
 import java.util.function.Supplier;
 
 import com.google.common.base.Suppliers;
-import com.google.common.util.concurrent.Futures;
-import com.google.common.util.concurrent.ListenableFuture;
 
 import eu.solven.adhoc.cuboid.ICuboid;
 import eu.solven.adhoc.cuboid.slice.ISlice;
@@ -39,15 +36,14 @@ import eu.solven.adhoc.data.cell.ProxyValueReceiver;
 import eu.solven.adhoc.dataframe.column.Cuboid;
 import eu.solven.adhoc.dataframe.column.IMultitypeMergeableColumn;
 import eu.solven.adhoc.dataframe.column.ISliceAndValueConsumer;
-import eu.solven.adhoc.dataframe.column.partitioned.IPartitioned;
 import eu.solven.adhoc.dataframe.column.partitioned.PartitionedMergeableColumn;
 import eu.solven.adhoc.dataframe.column.partitioned.PartitioningHelpers;
+import eu.solven.adhoc.dataframe.column.partitioned.ShardKey;
 import eu.solven.adhoc.dataframe.join.SliceAndMeasures;
 import eu.solven.adhoc.engine.step.CubeQueryStep;
 import eu.solven.adhoc.engine.step.ISliceWithStep;
 import eu.solven.adhoc.engine.tabular.inducer.JavaStreamInducedEvaluator;
 import eu.solven.adhoc.factories.IAdhocFactories;
-import eu.solven.adhoc.factories.PodExecutors;
 import eu.solven.adhoc.measure.aggregation.IAggregation;
 import eu.solven.adhoc.measure.combination.ICombination;
 import eu.solven.adhoc.measure.transformator.AMeasureQueryStep;
@@ -121,6 +117,10 @@ public class PartitionorQueryStep extends AMeasureQueryStep {
 	 * Standard non-partitioned path: single output column, sequential iteration.
 	 */
 	protected ICuboid produceOutputColumnSequential(List<? extends ICuboid> underlyings) {
+		return Cuboid.forGroupBy(step).values(produceValuesSequential(underlyings)).build();
+	}
+
+	protected IMultitypeMergeableColumn<ISlice> produceValuesSequential(List<? extends ICuboid> underlyings) {
 		IAggregation agg = getMakeAggregation();
 		IMultitypeMergeableColumn<ISlice> values = makeColumn(agg, underlyings);
 
@@ -128,68 +128,42 @@ public class PartitionorQueryStep extends AMeasureQueryStep {
 
 		forEachDistinctSlice(underlyings, combinator, values::merge);
 
-		return Cuboid.forGroupBy(step).values(values).build();
+		return values;
 	}
 
 	/**
 	 * Partitioned path (Strategy B from CONCURRENCY.md):
 	 * <ol>
 	 * <li>Each of P input partitions is processed independently into its own output column (mono-thread, no
-	 * contention). The output keys are projected to the coarser groupBy, so they are <em>not</em> sharded correctly.
-	 * <li>The P unsharded output columns are re-sharded into a properly partitioned {@link PartitionedMergeableColumn}
-	 * via a sequential merge pass.
+	 * contention).
+	 * <li>If the {@link ShardKey} is preserved by the output groupBy, each output column holds only slices of its own
+	 * partition: they are the output partitions. Otherwise, the output keys are <em>not</em> sharded correctly, and
+	 * the P unsharded output columns are re-sharded into a properly partitioned {@link PartitionedMergeableColumn}.
 	 * </ol>
 	 */
 	protected ICuboid produceOutputColumnPartitioned(List<? extends ICuboid> underlyings, int nbPartitions) {
-		// Step 1: process each input partition independently into its own unsharded output column (concurrent)
-		List<ICuboid> unshardedColumns = produceOutputPerInputPartition(underlyings, nbPartitions);
-
-		// Step 2: re-shard the P unsharded outputs into a PartitionedMergeableColumn keyed by the output slice hashCode
-		return produceOutputPerOutputPartitions(nbPartitions, unshardedColumns);
-	}
-
-	protected ICuboid produceOutputPerOutputPartitions(int nbPartitions, List<ICuboid> unshardedColumns) {
-		IAggregation agg = getMakeAggregation();
-
-		List<IMultitypeMergeableColumn<ISlice>> shardedColumns = new ArrayList<>(nbPartitions);
-		for (int i = 0; i < nbPartitions; i++) {
-			shardedColumns.add(factories.getColumnFactory().makeMergeableColumn(p -> p.isRandomAccess(true).agg(agg)));
-		}
-
-		// Iterate all unsharded output columns and route each entry to its correct output shard
-		for (ICuboid unsharded : unshardedColumns) {
-			unsharded.stream().forEach(sliceAndMeasure -> {
-				ISlice slice = sliceAndMeasure.getSlice();
-				int targetShard = PartitioningHelpers.getPartitionIndex(slice, nbPartitions);
-				sliceAndMeasure.getValueProvider().acceptReceiver(shardedColumns.get(targetShard).merge(slice));
-			});
+		ShardKey shardKey = PartitioningHelpers.commonShardKey(underlyings).orElseThrow();
+
+		// Step 1: process each input partition independently into its own output column (concurrent)
+		List<IMultitypeMergeableColumn<ISlice>> perPartition =
+				shardedForEach(underlyings, nbPartitions, this::produceValuesSequential);
+
+		IMultitypeMergeableColumn<ISlice> values;
+		if (shardKey.isPreservedBy(step.getGroupBy().getSequencedColumns())) {
+			// Partition-local: the projection retains the shard columns, hence each slice stays in its partition
+			values = PartitionedMergeableColumn.<ISlice>builder()
+					.partitions(perPartition)
+					.shardKey(shardKey)
+					.aggregation(getMakeAggregation())
+					.build();
+		} else {
+			// Step 2: re-shard the P unsharded outputs into a PartitionedMergeableColumn keyed by the output slice
+			values = reshard(nbPartitions, shardKey, getMakeAggregation(), perPartition);
 		}
 
-		IMultitypeMergeableColumn<ISlice> values =
-				PartitionedMergeableColumn.<ISlice>builder().partitions(shardedColumns).aggregation(agg).build();
-
 		return Cuboid.forGroupBy(step).values(values).build();
 	}
 
-	protected List<ICuboid> produceOutputPerInputPartition(List<? extends ICuboid> underlyings, int nbPartitions) {
-		List<ListenableFuture<ICuboid>> futures = new ArrayList<>(nbPartitions);
-		for (int p = 0; p < nbPartitions; p++) {
-			int partitionIndex = p;
-			// Each virtual-thread task re-establishes the slice-factory scope required by scoped backings
-			// (no-op on ThreadLocal-backed factories).
-			futures.add(PodExecutors.submitScoped(factories, () -> {
-				List<ICuboid> partitionCuboids = underlyings.stream()
-						.map(c -> ((IPartitioned<ICuboid>) c).getPartition(partitionIndex))
-						.toList();
-
-				return produceOutputColumnSequential(partitionCuboids);
-			}));
-		}
-
-		// Collect results — each future is independent, no contention
-		return Futures.getUnchecked(Futures.allAsList(futures));
-	}
-
 	protected IMultitypeMergeableColumn<ISlice> makeColumn(IAggregation agg, List<? extends ICuboid> underlyings) {
 		// TODO We should analyze the actual columns from ICuboid, as CubeQueryStep are equals even if groupBy are
 		// ordered differently. Also, anyway, IAdhocMap are currently sorted along the sorted keySet, and not the
@@ -46,12 +46,15 @@ import eu.solven.adhoc.cuboid.slice.ISlice;
 import eu.solven.adhoc.dataframe.column.Cuboid;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
 import eu.solven.adhoc.dataframe.column.ISliceAndValueConsumer;
+import eu.solven.adhoc.engine.cancel.AmortizedCancellationCheck;
 import eu.solven.adhoc.engine.step.CubeQueryStep;
 import eu.solven.adhoc.engine.step.ISliceWithStep;
 import eu.solven.adhoc.engine.step.SliceAsMapWithStep;
 import eu.solven.adhoc.factories.IAdhocFactories;
 import eu.solven.adhoc.filter.FilterHelpers;
 import eu.solven.adhoc.filter.ISliceFilter;
+import eu.solven.adhoc.filter.editor.ICompiledFilterEditor;
+import eu.solven.adhoc.filter.editor.ICompiledFilterEditor.ICoordinateEditor;
 import eu.solven.adhoc.filter.editor.IFilterEditor;
 import eu.solven.adhoc.filter.editor.IFilterEditor.FilterEditorContext;
 import eu.solven.adhoc.filter.value.EqualsMatcher;
@@ -87,6 +90,28 @@ public class ShiftorQueryStep implements IMeasureQueryStep {
 		return factories.getOperatorFactory().makeEditor(shiftor.getEditorKey(), shiftor.getEditorOptions());
 	}
 
+	// One editor per groupBy column, following `getSortedColumns` order. Empty if the editor can not be compiled.
+	final Supplier<Optional<List<ICoordinateEditor>>> coordinateEditorsSupplier =
+			Suppliers.memoize(this::makeCoordinateEditors);
+
+	protected Optional<List<ICoordinateEditor>> makeCoordinateEditors() {
+		Optional<ICompiledFilterEditor> optCompiled = filterEditorSupplier.get().compile(step.getCustomMarker());
+
+		return optCompiled.map(compiled -> step.getGroupBy()
+				.getSortedColumns()
+				.stream()
+				.map(column -> compiled.getCoordinateEditor(column).orElse(ShiftorQueryStep::notEdited))
+				.toList());
+	}
+
+	private static Object notEdited(@Nullable Object coordinate) {
+		if (coordinate == null) {
+			return NullMatcher.NULL_HOLDER;
+		} else {
+			return coordinate;
+		}
+	}
+
 	@Override
 	public List<CubeQueryStep> getUnderlyingSteps() {
 		// This will provide underlying values from the shifted slice
@@ -123,6 +148,11 @@ public class ShiftorQueryStep implements IMeasureQueryStep {
 	 * @return
 	 */
 	protected ISlice shiftSlice(ISliceWithStep slice) {
+		Optional<List<ICoordinateEditor>> optCoordinateEditors = coordinateEditorsSupplier.get();
+		if (optCoordinateEditors.isPresent()) {
+			return shiftSlice(slice, optCoordinateEditors.get());
+		}
+
 		// BEWARE the filter from queryStep is meaningless here
 		ISliceFilter filter = slice.getSlice().asFilter();
 
@@ -146,6 +176,32 @@ public class ShiftorQueryStep implements IMeasureQueryStep {
 		return builder.build().asSlice();
 	}
 
+	/**
+	 * OPTIMIZATION Shift the slice coordinate by coordinate, without building and editing an {@link ISliceFilter}.
+	 *
+	 * Slices are shifted one at a time, while streamed from `whereToReadForWrite`: an {@link ICuboid} exposes its
+	 * slices only through `forEachSlice`, so batching over the whole cuboid would first materialize all its slices.
+	 * Each {@link ICoordinateEditor} is memoized, hence a slice costs one lookup per column.
+	 *
+	 * @param slice
+	 * @param coordinateEditors
+	 *            one {@link ICoordinateEditor} per groupBy column
+	 * @return the whereToRead slice
+	 */
+	protected ISlice shiftSlice(ISliceWithStep slice, List<ICoordinateEditor> coordinateEditors) {
+		ISlice rawSlice = slice.getSlice();
+		NavigableSet<String> columns = step.getGroupBy().getSortedColumns();
+		IMapBuilderPreKeys builder = rawSlice.getFactory().newMapBuilder(columns);
+
+		int columnIndex = 0;
+		for (String column : columns) {
+			builder.append(coordinateEditors.get(columnIndex).editCoordinate(rawSlice.getGroupBy(column)));
+			columnIndex++;
+		}
+
+		return builder.build().asSlice();
+	}
+
 	protected boolean isDebug() {
 		return getStep().isDebug();
 	}
@@ -276,7 +332,9 @@ public class ShiftorQueryStep implements IMeasureQueryStep {
 			throw new IllegalArgumentException("Issue processing m=%s slice=%s".formatted(shiftor.getName(), slice), e);
 		}
 
-		if (Integer.bitCount(slicesDone.incrementAndGet()) == 1 && isDebug()) {
+		int nbSlicesDone = slicesDone.incrementAndGet();
+		AmortizedCancellationCheck.checkCurrent(nbSlicesDone, getStep());
+		if (Integer.bitCount(nbSlicesDone) == 1 && isDebug()) {
 			log.info("[DEBUG] Done processing {} slices", slicesDone);
 		}
 	}
@@ -85,6 +85,7 @@ import eu.solven.adhoc.model.measure.Filtrator;
 import eu.solven.adhoc.model.measure.IMeasure;
 import eu.solven.adhoc.model.query.IGroupBy;
 import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.options.IExecutionOption;
 import eu.solven.adhoc.options.StandardQueryOptions;
 import eu.solven.adhoc.query.AdhocSubQuery;
 import eu.solven.adhoc.query.ICountMeasuresConstants;
@@ -645,6 +646,9 @@ public class CompositeCubesTableWrapper implements ITableWrapper, IHasHealthDeta
 				// (e.g. a Top2 cross-cubes needs each cube to return its Top2)
 				.option(StandardQueryOptions.AGGREGATION_CARRIERS_STAY_WRAPPED)
 
+				// Execution options (e.g. QueryTimeout) are not carried by the steps: they are read from the pod
+				.options(IExecutionOption.onlyExecutionOptions(queryPod.getOptions()))
+
 				.build();
 
 		return AdhocSubQuery.builder().subQuery(query).parentQueryId(queryPod.getQueryId()).build();
@@ -0,0 +1,133 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import eu.solven.adhoc.ATestDagInMemory;
+import eu.solven.adhoc.IAdhocTestConstants;
+import eu.solven.adhoc.column.ColumnsManager;
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.dataframe.tabular.ITabularView;
+import eu.solven.adhoc.dataframe.tabular.MapBasedTabularView;
+import eu.solven.adhoc.engine.admission.IQueryAdmission.IAdmissionTicket;
+import eu.solven.adhoc.engine.admission.QueryAdmissionScope;
+import eu.solven.adhoc.engine.admission.QueryPriority;
+import eu.solven.adhoc.engine.admission.WeightedFairQueryScheduler;
+import eu.solven.adhoc.engine.context.QueryPod;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+
+public class TestDagCubeQueryEngine_Admission extends ATestDagInMemory implements IAdhocTestConstants {
+	List<String> admittedSubmitters = new CopyOnWriteArrayList<>();
+
+	WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder().maxRunning(1).memoryEstimator(pod -> {
+		admittedSubmitters.add(pod.getQueryId().getPrincipal() + "-" + pod.getQueryId().getPriority());
+		return 0L;
+	}).build();
+
+	@Override
+	@BeforeEach
+	public void feedTable() {
+		table().add(Map.of("c", "c1", "k1", 123));
+	}
+
+	@Override
+	public CubeQueryEngine engine() {
+		return super.engine().toBuilder().queryAdmission(scheduler).build();
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline) {
+				throw new IllegalStateException("Timeout");
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	@Test
+	public void testQueued_thenAdmitted() throws Exception {
+		IAdmissionTicket running = scheduler.admit(QueryPod.forTable(table()));
+
+		ListenableFuture<ITabularView> future = cube().executeAsync(CubeQuery.builder().measure(k1Sum).build());
+		awaitUntil(() -> scheduler.getStats().getNbQueued() == 1);
+		Assertions.assertThat(future).isNotDone();
+
+		running.close();
+
+		MapBasedTabularView view = MapBasedTabularView.load(future.get(1, TimeUnit.MINUTES));
+		Assertions.assertThat(view.getCoordinatesToValues()).containsEntry(Map.of(), Map.of(k1Sum.getName(), 123L));
+		Assertions.assertThat(scheduler.getStats().getNbAdmitted()).isEqualTo(2);
+		Assertions.assertThat(scheduler.getStats().getNbRunning()).isEqualTo(0);
+	}
+
+	@Test
+	public void testCancelledWhileQueued() {
+		try (IAdmissionTicket _ = scheduler.admit(QueryPod.forTable(table()))) {
+			ListenableFuture<ITabularView> future = cube().executeAsync(CubeQuery.builder().measure(k1Sum).build());
+			awaitUntil(() -> scheduler.getStats().getNbQueued() == 1);
+
+			// Cancelling the future cancels the queryPod, which removes the query from the queue
+			future.cancel(true);
+			awaitUntil(() -> scheduler.getStats().getNbCancelledWhileQueued() == 1);
+		}
+
+		Assertions.assertThat(scheduler.getStats().getNbQueued()).isEqualTo(0);
+		Assertions.assertThat(scheduler.getStats().getNbRunning()).isEqualTo(0);
+	}
+
+	@Test
+	public void testSubmitterFromScope() {
+		QueryAdmissionScope.runWith(new QueryAdmissionScope.Submitter("someUser", QueryPriority.BATCH),
+				() -> cube().execute(CubeQuery.builder().measure(k1Sum).build()));
+		cube().execute(CubeQuery.builder().measure(k1Sum).build());
+
+		Assertions.assertThat(admittedSubmitters).containsExactly("someUser-BATCH", "-INTERACTIVE");
+	}
+
+	@Test
+	public void testComputeCuboids_admitted() {
+		CubeQueryStep step = CubeQueryStep.builder().measure(k1Sum).build();
+
+		Map<CubeQueryStep, ICuboid> stepToCuboid = QueryAdmissionScope.runWith(
+				new QueryAdmissionScope.Submitter("refresher", QueryPriority.BATCH),
+				() -> engine().computeCuboids(table(), ColumnsManager.builder().build(), List.of(step)));
+
+		Assertions.assertThat(stepToCuboid.get(step).size()).isEqualTo(1);
+		Assertions.assertThat(admittedSubmitters).containsExactly("refresher-BATCH");
+		Assertions.assertThat(scheduler.getStats().getNbAdmitted()).isEqualTo(1);
+		Assertions.assertThat(scheduler.getStats().getNbRunning()).isEqualTo(0);
+	}
+}
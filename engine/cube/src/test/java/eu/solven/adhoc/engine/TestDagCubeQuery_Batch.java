@@ -0,0 +1,147 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Throwables;
+import com.google.common.eventbus.Subscribe;
+
+import eu.solven.adhoc.ATestDagInMemory;
+import eu.solven.adhoc.IAdhocTestConstants;
+import eu.solven.adhoc.dataframe.tabular.ITabularView;
+import eu.solven.adhoc.dataframe.tabular.MapBasedTabularView;
+import eu.solven.adhoc.engine.cancel.CancelledQueryException;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.eventbus.TableStepIsEvaluating;
+import eu.solven.adhoc.model.measure.Combinator;
+import eu.solven.adhoc.options.QueryTimeout;
+import eu.solven.adhoc.options.StandardQueryOptions;
+
+public class TestDagCubeQuery_Batch extends ATestDagInMemory implements IAdhocTestConstants {
+	final List<TableStepIsEvaluating> tableEvaluating = new ArrayList<>();
+
+	@Override
+	@BeforeEach
+	public void feedTable() {
+		table().add(Map.of("a", "a1", "b", "b1", "k1", 123));
+		table().add(Map.of("a", "a2", "b", "b1", "k1", 234, "k2", 345));
+		table().add(Map.of("a", "a1", "b", "b2", "k1", 456, "k2", 567));
+
+		forest.addMeasure(k1Sum);
+		forest.addMeasure(k2Sum);
+		forest.addMeasure(filterK1onB1);
+		forest.addMeasure(filterK1onA1);
+
+		eventBusGuava().register(new Object() {
+			@Subscribe
+			public void onEvent(TableStepIsEvaluating o) {
+				tableEvaluating.add(o);
+			}
+		});
+	}
+
+	List<CubeQuery> makeQueries() {
+		return List.of(CubeQuery.builder().measure(k1Sum).groupByAlso("a").build(),
+				CubeQuery.builder().measure(filterK1onB1).groupByAlso("a").build(),
+				CubeQuery.builder().measure(filterK1onA1, k2Sum).groupByAlso("a").build(),
+				CubeQuery.builder().measure(k1Sum).groupByAlso("b").build());
+	}
+
+	@Test
+	public void testBatch_sameAsIndividual() {
+		List<CubeQuery> queries = makeQueries();
+
+		List<ITabularView> individualViews = queries.stream().map(cube()::execute).toList();
+		int nbIndividualTableSteps = tableEvaluating.size();
+		tableEvaluating.clear();
+
+		List<ITabularView> batchViews = cube().executeBatch(queries);
+
+		Assertions.assertThat(batchViews).hasSize(queries.size());
+		for (int i = 0; i < queries.size(); i++) {
+			Assertions.assertThat(MapBasedTabularView.load(batchViews.get(i)).getCoordinatesToValues())
+					.as("query #%s", i)
+					.isEqualTo(MapBasedTabularView.load(individualViews.get(i)).getCoordinatesToValues());
+		}
+
+		// Table steps are shared amongst queries
+		Assertions.assertThat(tableEvaluating.size()).isLessThan(nbIndividualTableSteps);
+	}
+
+	@Test
+	public void testBatch_differentOptions() {
+		List<CubeQuery> queries = List.of(CubeQuery.builder().measure(k1Sum).groupByAlso("a").build(),
+				CubeQuery.builder()
+						.measure(k1Sum)
+						.groupByAlso("a")
+						.option(StandardQueryOptions.DRILLTHROUGH)
+						.build(),
+				CubeQuery.builder().measure(k2Sum).groupByAlso("a").option(StandardQueryOptions.CONCURRENT).build());
+
+		List<ITabularView> batchViews = cube().executeBatch(queries);
+
+		Assertions.assertThat(batchViews).hasSize(queries.size());
+		Assertions.assertThat(MapBasedTabularView.load(batchViews.get(0)).getCoordinatesToValues())
+				.isEqualTo(MapBasedTabularView.load(cube().execute(queries.get(0))).getCoordinatesToValues());
+		// DRILLTHROUGH returns one entry per row
+		Assertions.assertThat(batchViews.get(1).size()).isEqualTo(3);
+		Assertions.assertThat(MapBasedTabularView.load(batchViews.get(2)).getCoordinatesToValues())
+				.isEqualTo(MapBasedTabularView.load(cube().execute(queries.get(2))).getCoordinatesToValues());
+	}
+
+	@Test
+	public void testBatch_empty() {
+		Assertions.assertThat(cube().executeBatch(List.of())).isEmpty();
+	}
+
+	@Test
+	public void testBatch_cancelled() {
+		IntStream.range(0, 10_000).forEach(i -> table().add(Map.of("c", "c" + i, "k1", i)));
+		forest.addMeasure(Combinator.builder()
+				.name("slow")
+				.combinationKey(TestDagCubeQuery_Timeout.SlowCombination.class.getName())
+				.underlying(k1Sum.getName())
+				.build());
+
+		// The timeout of a single query cancels the whole batch
+		List<CubeQuery> queries = List.of(CubeQuery.builder().measure("slow").groupByAlso("c").build(),
+				CubeQuery.builder()
+						.measure(k1Sum)
+						.groupByAlso("c")
+						.option(QueryTimeout.of(Duration.ofMillis(100)))
+						.build());
+
+		Assertions.assertThatThrownBy(() -> cube().executeBatch(queries))
+				.satisfies(t -> Assertions.assertThat(Throwables.getCausalChain(t))
+						.anyMatch(CancelledQueryException.class::isInstance));
+	}
+}
@@ -0,0 +1,162 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Throwables;
+
+import eu.solven.adhoc.ATestDagInMemory;
+import eu.solven.adhoc.IAdhocTestConstants;
+import eu.solven.adhoc.column.ColumnsManager;
+import eu.solven.adhoc.cube.ICubeWrapper;
+import eu.solven.adhoc.engine.admission.IQueryAdmission.IAdmissionTicket;
+import eu.solven.adhoc.engine.admission.WeightedFairQueryScheduler;
+import eu.solven.adhoc.engine.cancel.CancelledQueryException;
+import eu.solven.adhoc.engine.context.QueryPod;
+import eu.solven.adhoc.engine.context.StandardQueryPreparator;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.engine.step.ISliceWithStep;
+import eu.solven.adhoc.measure.combination.ICombination;
+import eu.solven.adhoc.model.measure.Combinator;
+import eu.solven.adhoc.options.QueryTimeout;
+
+public class TestDagCubeQuery_Timeout extends ATestDagInMemory implements IAdhocTestConstants {
+	static final int NB_ROWS = 10_000;
+
+	static final AtomicInteger NB_COMBINED = new AtomicInteger();
+
+	/**
+	 * Busy-waits on each slice, without reacting to interruptions: only the cooperative checks can stop it.
+	 */
+	public static class SlowCombination implements ICombination {
+		@Override
+		public Object combine(ISliceWithStep slice, List<?> underlyingValues) {
+			NB_COMBINED.incrementAndGet();
+
+			long until = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(500);
+			while (System.nanoTime() < until) {
+				Thread.onSpinWait();
+			}
+			return underlyingValues.getFirst();
+		}
+	}
+
+	WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder().maxRunning(1).build();
+
+	@Override
+	@BeforeEach
+	public void feedTable() {
+		NB_COMBINED.set(0);
+		IntStream.range(0, NB_ROWS).forEach(i -> table().add(Map.of("c", "c" + i, "k1", i)));
+
+		forest.addMeasure(k1Sum);
+		forest.addMeasure(Combinator.builder()
+				.name("slow")
+				.combinationKey(SlowCombination.class.getName())
+				.underlying(k1Sum.getName())
+				.build());
+	}
+
+	@Override
+	public CubeQueryEngine engine() {
+		return super.engine().toBuilder().queryAdmission(scheduler).build();
+	}
+
+	@Test
+	public void testNoTimeout() {
+		cube().execute(CubeQuery.builder().measure("slow").groupByAlso("c").build());
+
+		Assertions.assertThat(NB_COMBINED).hasValue(NB_ROWS);
+	}
+
+	@Test
+	public void testTimeout_inSliceLoop() {
+		CubeQuery query = CubeQuery.builder()
+				.measure("slow")
+				.groupByAlso("c")
+				.option(QueryTimeout.of(Duration.ofMillis(100)))
+				.build();
+
+		Assertions.assertThatThrownBy(() -> cube().execute(query))
+				.satisfies(t -> Assertions.assertThat(Throwables.getCausalChain(t))
+						.anyMatch(CancelledQueryException.class::isInstance));
+
+		// The loop stopped soon after the deadline, and before processing all slices
+		Assertions.assertThat(NB_COMBINED.get()).isLessThan(NB_ROWS);
+	}
+
+	@Test
+	public void testTimeout_cubeDefault() {
+		ICubeWrapper cube = editCube()
+				.queryPreparator(StandardQueryPreparator.builder().defaultTimeout(Duration.ofMillis(100)).build())
+				.build();
+
+		Assertions.assertThatThrownBy(() -> cube.execute(CubeQuery.builder().measure("slow").groupByAlso("c").build()))
+				.satisfies(t -> Assertions.assertThat(Throwables.getCausalChain(t))
+						.anyMatch(CancelledQueryException.class::isInstance));
+		Assertions.assertThat(NB_COMBINED.get()).isLessThan(NB_ROWS);
+	}
+
+	@Test
+	public void testTimeout_whileQueued() {
+		CubeQuery query =
+				CubeQuery.builder().measure(k1Sum).option(QueryTimeout.of(Duration.ofMillis(100))).build();
+
+		try (IAdmissionTicket _ = scheduler.admit(QueryPod.forTable(table()))) {
+			Assertions.assertThatThrownBy(() -> cube().execute(query))
+					.satisfies(t -> Assertions.assertThat(Throwables.getCausalChain(t))
+							.anyMatch(CancelledQueryException.class::isInstance));
+		}
+
+		Assertions.assertThat(scheduler.getStats().getNbCancelledWhileQueued()).isEqualTo(1);
+	}
+
+	@Test
+	public void testTimeout_computeCuboids_whileQueued() {
+		CubeQueryStep step = CubeQueryStep.builder().measure(k1Sum).build();
+
+		try (IAdmissionTicket _ = scheduler.admit(QueryPod.forTable(table()))) {
+			Assertions
+					.assertThatThrownBy(() -> engine().computeCuboids(table(),
+							ColumnsManager.builder().build(),
+							List.of(step),
+							Set.of(QueryTimeout.of(Duration.ofMillis(100)))))
+					.satisfies(t -> Assertions.assertThat(Throwables.getCausalChain(t))
+							.anyMatch(CancelledQueryException.class::isInstance));
+		}
+
+		Assertions.assertThat(scheduler.getStats().getNbCancelledWhileQueued()).isEqualTo(1);
+	}
+}
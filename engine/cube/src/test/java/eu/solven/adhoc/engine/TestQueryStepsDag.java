@@ -23,6 +23,7 @@
 package eu.solven.adhoc.engine;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.assertj.core.api.Assertions;
@@ -356,4 +357,33 @@ public class TestQueryStepsDag implements IAdhocTestConstants {
 					.hasSize(1);
 		}
 	}
+
+	@Test
+	public void testMerge_shareSteps() {
+		QueryStepsDag dagFilterA = engine.makeQueryStepsDag(QueryPod.builder()
+				.query(CubeQuery.builder().measure(filterK1onA1).build())
+				.forest(measures)
+				.table(InMemoryTable.builder().build())
+				.build());
+		QueryStepsDag dagFilterB = engine.makeQueryStepsDag(QueryPod.builder()
+				.query(CubeQuery.builder().measure(filterK1onB1, k1Sum).build())
+				.forest(measures)
+				.table(InMemoryTable.builder().build())
+				.build());
+
+		QueryStepsDag merged = QueryStepsDag.merge(List.of(dagFilterA, dagFilterB));
+
+		Assertions.assertThat(merged.getExplicits()).hasSize(3);
+		// `k1` filtered on `a=a1`, `k1` filtered on `b=b1`, and `k1` unfiltered
+		Assertions.assertThat(merged.getInducedToInducer().vertexSet())
+				.containsAll(dagFilterA.getInducedToInducer().vertexSet())
+				.containsAll(dagFilterB.getInducedToInducer().vertexSet())
+				.hasSize(5);
+		Assertions.assertThat(merged.getMultigraph().edgeSet()).hasSize(2);
+
+		dagFilterA.getMultigraph()
+				.vertexSet()
+				.forEach(step -> Assertions.assertThat(merged.underlyingSteps(step))
+						.isEqualTo(dagFilterA.underlyingSteps(step)));
+	}
 }
@@ -0,0 +1,174 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.eventbus.Subscribe;
+
+import eu.solven.adhoc.ATestDagInMemory;
+import eu.solven.adhoc.IAdhocTestConstants;
+import eu.solven.adhoc.column.ColumnsManager;
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.dataframe.tabular.MapBasedTabularView;
+import eu.solven.adhoc.engine.context.IQueryPreparator;
+import eu.solven.adhoc.engine.context.StandardQueryPreparator;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.eventbus.TableStepIsEvaluating;
+
+public class TestAppendAwareQueryStepCache extends ATestDagInMemory implements IAdhocTestConstants {
+
+	final List<TableStepIsEvaluating> tableEvaluating = new ArrayList<>();
+
+	final Supplier<AppendAwareQueryStepCache> cache = Suppliers.memoize(() -> AppendAwareQueryStepCache.builder()
+			.table(table())
+			.deltaEvaluator((delta, steps) -> engine().computeCuboids(delta, ColumnsManager.builder().build(), steps))
+			.build());
+
+	@Override
+	protected IQueryPreparator queryPreparator() {
+		return StandardQueryPreparator.builder().queryStepCache(cache.get()).build();
+	}
+
+	@BeforeEach
+	@Override
+	public void feedTable() {
+		table().add(Map.of("a", "a1", "b", "b1", "k1", 1));
+		table().add(Map.of("a", "a2", "b", "b1", "k1", 2));
+		table().add(Map.of("a", "a1", "b", "b2", "k1", 3));
+	}
+
+	@BeforeEach
+	public void addMeasures() {
+		forest.addMeasure(k1Sum);
+		forest.addMeasure(filterK1onA1);
+
+		eventBusGuava().register(new Object() {
+			@Subscribe
+			public void onEvent(TableStepIsEvaluating o) {
+				tableEvaluating.add(o);
+			}
+		});
+	}
+
+	private Map<Map<String, ?>, Map<String, ?>> query() {
+		return MapBasedTabularView
+				.load(cube().execute(CubeQuery.builder().measure(k1Sum, filterK1onA1).groupByAlso("b").build()))
+				.getCoordinatesToValues();
+	}
+
+	@Test
+	public void testAppend_mergeAggregators() {
+		Assertions.assertThat(query())
+				.hasSize(2)
+				.containsEntry(Map.of("b", "b1"), Map.of(k1Sum.getName(), 0L + 1 + 2, filterK1onA1.getName(), 0L + 1))
+				.containsEntry(Map.of("b", "b2"), Map.of(k1Sum.getName(), 0L + 3, filterK1onA1.getName(), 0L + 3));
+		Assertions.assertThat(tableEvaluating).isNotEmpty();
+
+		table().add(Map.of("a", "a1", "b", "b1", "k1", 10));
+		table().add(Map.of("a", "a3", "b", "b3", "k1", 100));
+		cache.get().refresh();
+
+		// The delta has been evaluated on the appended rows only
+		QueryStepCacheStats statsAfterRefresh = cache.get().getStats();
+		Assertions.assertThat(statsAfterRefresh.getMergeCount()).isEqualTo(2);
+		Assertions.assertThat(statsAfterRefresh.getEvictionCount()).isEqualTo(1);
+
+		tableEvaluating.clear();
+		Assertions.assertThat(query())
+				.hasSize(3)
+				.containsEntry(Map.of("b", "b1"),
+						Map.of(k1Sum.getName(), 0L + 1 + 2 + 10, filterK1onA1.getName(), 0L + 1 + 10))
+				.containsEntry(Map.of("b", "b2"), Map.of(k1Sum.getName(), 0L + 3, filterK1onA1.getName(), 0L + 3))
+				.containsEntry(Map.of("b", "b3"), Map.of(k1Sum.getName(), 0L + 100));
+
+		// Aggregators are served by the refreshed cache: the table is not queried anymore
+		Assertions.assertThat(tableEvaluating).isEmpty();
+	}
+
+	@Test
+	public void testRefresh_noAppend() {
+		query();
+		long nbTableQueries = tableEvaluating.size();
+
+		cache.get().refresh();
+		Assertions.assertThat(cache.get().getStats().getMergeCount()).isEqualTo(0);
+		Assertions.assertThat(cache.get().getStats().getEvictionCount()).isEqualTo(0);
+
+		query();
+		Assertions.assertThat(tableEvaluating).hasSize(Math.toIntExact(nbTableQueries));
+	}
+
+	@Test
+	public void testRefresh_beforeAnyQuery() {
+		table().add(Map.of("a", "a1", "b", "b1", "k1", 10));
+		cache.get().refresh();
+
+		Assertions.assertThat(query())
+				.hasSize(2)
+				.containsEntry(Map.of("b", "b1"),
+						Map.of(k1Sum.getName(), 0L + 1 + 2 + 10, filterK1onA1.getName(), 0L + 1 + 10));
+	}
+
+	@Test
+	public void testAppend_betweenLookupAndPush() {
+		CubeQueryStep step = CubeQueryStep.builder().measure(k1Sum).build();
+		ICuboid cuboid = engine().computeCuboids(table(), ColumnsManager.builder().build(), Set.of(step)).get(step);
+
+		Assertions.assertThat(cache.get().getValue(step)).isEmpty();
+		// The computed cuboid may or may not include this row: it must not be cached
+		table().add(Map.of("a", "a1", "b", "b1", "k1", 10));
+		cache.get().pushValue(step, cuboid, null);
+
+		Assertions.assertThat(cache.get().getValue(step)).isEmpty();
+		Assertions.assertThat(cache.get().getStats().getRejectionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testMaximumBytes() {
+		AppendAwareQueryStepCache smallCache = AppendAwareQueryStepCache.builder()
+				.table(table())
+				.deltaEvaluator((delta, steps) -> Map.of())
+				.maximumBytes(1)
+				.build();
+
+		CubeQueryStep step = CubeQueryStep.builder().measure(k1Sum).build();
+		ICuboid cuboid = engine().computeCuboids(table(), ColumnsManager.builder().build(), Set.of(step)).get(step);
+
+		Assertions.assertThat(smallCache.getValue(step)).isEmpty();
+		smallCache.pushValue(step, cuboid, null);
+
+		Assertions.assertThat(smallCache.getValue(step)).isEmpty();
+		Assertions.assertThat(smallCache.getStats().getEvictionCount()).isEqualTo(1);
+	}
+}
@@ -22,6 +22,7 @@
  */
 package eu.solven.adhoc.engine.cache;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,8 @@ import eu.solven.adhoc.engine.context.IQueryPreparator;
 import eu.solven.adhoc.engine.context.StandardQueryPreparator;
 import eu.solven.adhoc.engine.query.CubeQuery;
 import eu.solven.adhoc.measure.ratio.AdhocExplainerTestHelper;
+import eu.solven.adhoc.options.QueryTimeout;
+import eu.solven.adhoc.options.SpillToDisk;
 
 public class TestDagCubeQuery_QueryStepCache extends ATestDagInMemory implements IAdhocTestConstants {
 
@@ -97,6 +100,23 @@ public class TestDagCubeQuery_QueryStepCache extends ATestDagInMemory implements
 		Assertions.assertThat(cache.queryStepToValues.stats().missCount()).isEqualTo(1L);
 	}
 
+	@Test
+	public void testGrandTotal_differentExecutionOptions() {
+		cube().execute(CubeQuery.builder().measure(k1Sum).option(QueryTimeout.of(Duration.ofMinutes(1))).build());
+		Assertions.assertThat(cache.queryStepToValues.stats().missCount()).isEqualTo(1L);
+
+		// The timeout and the spill policy are not part of the steps identity
+		ITabularView output = cube().execute(CubeQuery.builder()
+				.measure(k1Sum)
+				.option(QueryTimeout.of(Duration.ofMinutes(2)))
+				.option(SpillToDisk.of(1024 * 1024))
+				.build());
+		Assertions.assertThat(MapBasedTabularView.load(output).getCoordinatesToValues())
+				.containsEntry(Collections.emptyMap(), Map.of(k1Sum.getName(), 0L + 123 + 234 + 345));
+		Assertions.assertThat(cache.queryStepToValues.stats().hitCount()).isEqualTo(1L);
+		Assertions.assertThat(cache.queryStepToValues.stats().missCount()).isEqualTo(1L);
+	}
+
 	@Test
 	public void testGrandTotal_transformator() {
 		// first try: cache empty
@@ -41,8 +41,11 @@ import eu.solven.adhoc.engine.query.CubeQuery;
 import eu.solven.adhoc.engine.step.ISliceWithStep;
 import eu.solven.adhoc.eventbus.QueryLifecycleEvent;
 import eu.solven.adhoc.measure.combination.ICombination;
+import eu.solven.adhoc.measure.ratio.AdhocExplainerTestHelper;
+import eu.solven.adhoc.measure.sum.SumCombination;
 import eu.solven.adhoc.model.measure.Aggregator;
 import eu.solven.adhoc.model.measure.Combinator;
+import eu.solven.adhoc.options.StandardQueryOptions;
 
 public class TestDagAdhocQueryMonitor extends ATestDagInMemory {
 	public static class AdhocQueryMonitorGuava extends AdhocQueryMonitor {
@@ -157,4 +160,44 @@ public class TestDagAdhocQueryMonitor extends ATestDagInMemory {
 		// Assertions.assertThat(queryMonitor.slowestQueried.peek().getKey().getQuery().getGroupBy().getSortedColumns())
 		// .hasSize(1);
 	}
+
+	@Test
+	public void testMemory() {
+		forest.addMeasure(Aggregator.countAsterisk());
+		forest.addMeasure(Combinator.builder()
+				.name("sum")
+				.combinationKey(SumCombination.KEY)
+				.underlying(Aggregator.countAsterisk().getName())
+				.build());
+
+		Assertions.assertThat(queryMonitor.getMaxPeakRetainedBytes()).isEqualTo(0);
+
+		ITabularView view = cube().execute(CubeQuery.builder().measure("sum").groupByAlso("color").build());
+		Assertions.assertThat(view.isEmpty()).isFalse();
+
+		Assertions.assertThat(queryMonitor.getMaxPeakRetainedBytes()).isPositive();
+		Assertions.assertThat(queryMonitor.getTotalAllocatedBytes()).isPositive();
+	}
+
+	@Test
+	public void testExplainMemory() {
+		List<String> messages = AdhocExplainerTestHelper.listenForPerf(eventBusGuava());
+
+		forest.addMeasure(Aggregator.countAsterisk());
+		forest.addMeasure(Combinator.builder()
+				.name("sum")
+				.combinationKey(SumCombination.KEY)
+				.underlying(Aggregator.countAsterisk().getName())
+				.build());
+
+		cube().execute(CubeQuery.builder()
+				.measure("sum")
+				.groupByAlso("color")
+				.option(StandardQueryOptions.EXPLAIN_MEMORY)
+				.build());
+
+		Assertions.assertThat(messages)
+				.anySatisfy(m -> Assertions.assertThat(m).contains(" allocated=").contains(" retained="))
+				.anySatisfy(m -> Assertions.assertThat(m).startsWith("[EXPLAIN] memory allocated="));
+	}
 }
@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.decomposition.many2many;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.filter.value.EqualsMatcher;
+import eu.solven.adhoc.filter.value.IValueMatcher;
+import eu.solven.adhoc.filter.value.InMatcher;
+
+public class TestManyToMany1DIndex {
+	ManyToMany1DInMemoryDefinition definition = new ManyToMany1DInMemoryDefinition();
+
+	{
+		definition.putElementToGroup("FR", "G8");
+		definition.putElementToGroup("FR", "G20");
+		definition.putElementToGroup("US", "G8");
+		definition.putElementToGroup("US", "G20");
+		definition.putElementToGroup("BR", "G20");
+	}
+
+	private List<Object> matchingGroups(ManyToMany1DIndex index, Object element, IValueMatcher groupMatcher) {
+		BitSet matchingGroupIds = index.getMatchingGroupIds(groupMatcher);
+
+		List<Object> groups = new ArrayList<>();
+		index.forEachMatchingGroupId(index.getElementId(element),
+				matchingGroupIds,
+				groupId -> groups.add(index.getNormalizedGroup(groupId)));
+		return groups;
+	}
+
+	@Test
+	public void testIndex() {
+		ManyToMany1DIndex index = definition.optIndex().get();
+
+		Assertions.assertThat(index.getNbElements()).isEqualTo(3);
+		Assertions.assertThat(index.getNbGroups()).isEqualTo(2);
+
+		Assertions.assertThat(matchingGroups(index, "FR", IValueMatcher.MATCH_ALL))
+				.containsExactlyInAnyOrder("G8", "G20");
+		Assertions.assertThat(matchingGroups(index, "BR", IValueMatcher.MATCH_ALL)).containsExactly("G20");
+		Assertions.assertThat(matchingGroups(index, "FR", EqualsMatcher.matchEq("G8"))).containsExactly("G8");
+		Assertions.assertThat(matchingGroups(index, "BR", EqualsMatcher.matchEq("G8"))).isEmpty();
+		Assertions.assertThat(matchingGroups(index, "unknown", IValueMatcher.MATCH_ALL)).isEmpty();
+	}
+
+	@Test
+	public void testSameAsDefinition() {
+		ManyToMany1DIndex index = definition.optIndex().get();
+
+		for (Object element : List.of("FR", "US", "BR", "unknown")) {
+			Assertions.assertThat(index.getGroups(element)).isEqualTo(definition.getGroups(element));
+		}
+		for (IValueMatcher groupMatcher : List.of(IValueMatcher.MATCH_ALL,
+				EqualsMatcher.matchEq("G8"),
+				InMatcher.matchIn("G20", "unknown"))) {
+			Assertions.assertThat(index.getMatchingGroups(groupMatcher))
+					.isEqualTo(definition.getMatchingGroups(groupMatcher));
+			Assertions.assertThat(index.getElementsMatchingGroups(groupMatcher))
+					.isEqualTo(definition.getElementsMatchingGroups(groupMatcher));
+		}
+	}
+
+	@Test
+	public void testFrozen() {
+		ManyToMany1DIndex index = definition.optIndex().get();
+		Assertions.assertThat(definition.optIndex()).containsSame(index);
+
+		definition.putElementToGroup("DE", "G8");
+
+		Assertions.assertThat(index.getElementId("DE")).isEqualTo(-1);
+		Assertions.assertThat(definition.optIndex().get().getElementId("DE")).isNotNegative();
+	}
+}
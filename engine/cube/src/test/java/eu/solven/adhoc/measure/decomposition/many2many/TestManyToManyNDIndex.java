@@ -0,0 +1,92 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.decomposition.many2many;
+
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import eu.solven.adhoc.filter.value.ComparingMatcher;
+import eu.solven.adhoc.filter.value.EqualsMatcher;
+import eu.solven.adhoc.filter.value.IValueMatcher;
+
+public class TestManyToManyNDIndex {
+	ManyToManyNDInMemoryDefinition definition = new ManyToManyNDInMemoryDefinition();
+
+	{
+		// Exact elements
+		definition.putElementToGroup(
+				ImmutableMap.of("country", EqualsMatcher.matchEq("FR"), "ccy", EqualsMatcher.matchEq("EUR")),
+				List.of("G8", "EU"));
+		definition.putElementToGroup(
+				ImmutableMap.of("country", EqualsMatcher.matchEq("US"), "ccy", EqualsMatcher.matchEq("USD")),
+				"G8");
+		// Other elements
+		definition.putElementToGroup(ImmutableMap.of("country",
+				EqualsMatcher.matchEq("DE"),
+				"year",
+				ComparingMatcher.builder().greaterThan(true).matchIfEqual(true).operand(2020).build()), "EU");
+	}
+
+	@Test
+	public void testIndex() {
+		ManyToManyNDIndex index = definition.optIndex().get();
+
+		Assertions.assertThat(index.getNbGroups()).isEqualTo(2);
+		Assertions.assertThat(index.toString()).contains("#exactElements=2", "#otherElements=1");
+	}
+
+	@Test
+	public void testSameAsDefinition() {
+		ManyToManyNDIndex index = definition.optIndex().get();
+
+		List<Map<String, ?>> elements = List.of(ImmutableMap.of("country", "FR", "ccy", "EUR"),
+				ImmutableMap.of("country", "FR", "ccy", "EUR", "year", 2019),
+				ImmutableMap.of("country", "FR"),
+				ImmutableMap.of("country", "US", "ccy", "USD"),
+				ImmutableMap.of("country", "DE", "year", 2021),
+				ImmutableMap.of("country", "DE", "year", 2019));
+
+		for (IValueMatcher groupMatcher : List.of(IValueMatcher.MATCH_ALL, EqualsMatcher.matchEq("EU"))) {
+			for (Map<String, ?> element : elements) {
+				Assertions.assertThat(index.getGroups(groupMatcher, element))
+						.as("element=%s groupMatcher=%s", element, groupMatcher)
+						.isEqualTo(definition.getGroups(groupMatcher, element));
+			}
+
+			Assertions.assertThat(index.getMatchingGroups(groupMatcher))
+					.isEqualTo(definition.getMatchingGroups(groupMatcher));
+			Assertions.assertThat(index.getElementsMatchingGroups(groupMatcher))
+					.isEqualTo(definition.getElementsMatchingGroups(groupMatcher));
+		}
+
+		Assertions.assertThat(index.getGroups(IValueMatcher.MATCH_ALL, elements.get(0)))
+				.containsExactlyInAnyOrder("G8", "EU");
+		Assertions.assertThat(index.getGroups(IValueMatcher.MATCH_ALL, elements.get(4))).containsExactly("EU");
+		Assertions.assertThat(index.getGroups(IValueMatcher.MATCH_ALL, elements.get(5))).isEmpty();
+	}
+}
@@ -39,6 +39,7 @@ import eu.solven.adhoc.engine.query.CubeQuery;
 import eu.solven.adhoc.measure.combination.CoalesceCombination;
 import eu.solven.adhoc.model.measure.Partitionor;
 import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.options.SpillToDisk;
 
 public class TestDagTransformator_Combinator_ColumnSizeLimit extends ATestDagInMemory implements IAdhocTestConstants {
 
@@ -91,6 +92,23 @@ public class TestDagTransformator_Combinator_ColumnSizeLimit extends ATestDagInM
 						"Can not add as size=2 and limit=2 Consider `AdhocUnsafe.setLimitColumnSize(X)` or -Dadhoc.limitColumnSize=X");
 	}
 
+	@Test
+	public void testGroupByK_spillToDisk() {
+		ITabularView output = cube().execute(CubeQuery.builder()
+				.groupByAlso("k")
+				.measure(countAsterisk.getName())
+				.option(SpillToDisk.of(1024 * 1024))
+				.build());
+
+		MapBasedTabularView mapBased = MapBasedTabularView.load(output);
+
+		Assertions.assertThat(mapBased.getCoordinatesToValues())
+				.hasSize(3)
+				.containsEntry(Map.of("k", "a"), Map.of(countAsterisk.getName(), 1L))
+				.containsEntry(Map.of("k", "b"), Map.of(countAsterisk.getName(), 1L))
+				.containsEntry(Map.of("k", "c"), Map.of(countAsterisk.getName(), 1L));
+	}
+
 	@Test
 	public void testGroupByK_noAggregator() {
 		Assertions.setMaxStackTraceElementsDisplayed(300);
@@ -0,0 +1,138 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.transformator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.ATestDagInMemory;
+import eu.solven.adhoc.IAdhocTestConstants;
+import eu.solven.adhoc.dataframe.tabular.ITabularView;
+import eu.solven.adhoc.dataframe.tabular.MapBasedTabularView;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.measure.aggregation.comparable.MaxCombination;
+import eu.solven.adhoc.measure.sum.SumAggregation;
+import eu.solven.adhoc.measure.sum.SumCombination;
+import eu.solven.adhoc.model.measure.Combinator;
+import eu.solven.adhoc.model.measure.Partitionor;
+import eu.solven.adhoc.model.query.IGroupBy;
+import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.options.StandardQueryOptions;
+import eu.solven.adhoc.table.InMemoryTable;
+import eu.solven.adhoc.util.AdhocUnsafe;
+
+/**
+ * Checks {@link StandardQueryOptions#PARTITIONED} with a table-level shard key: the partitions are preserved through
+ * the DAG, and the results are the same as with a sequential execution.
+ */
+public class TestDagTransformator_ShardKey extends ATestDagInMemory implements IAdhocTestConstants {
+
+	@Override
+	public InMemoryTable makeTable() {
+		return InMemoryTable.builder().shardColumns(Set.of("a")).build();
+	}
+
+	@Override
+	@BeforeEach
+	public void feedTable() {
+		AdhocUnsafe.setParallelism(4);
+
+		for (int i = 0; i < 64; i++) {
+			table().add(Map.of("a", "a" + i % 7, "b", "b" + i % 3, "k1", i, "k2", 2 * i + 1));
+		}
+
+		forest.addMeasure(k1Sum);
+		forest.addMeasure(k2Sum);
+		forest.addMeasure(filterK1onB1);
+		forest.addMeasure(Combinator.builder()
+				.name("k1PlusK2")
+				.underlyings(Arrays.asList("k1", "k2"))
+				.combinationKey(SumCombination.KEY)
+				.build());
+		forest.addMeasure(sum_MaxK1K2ByA);
+		forest.addMeasure(Partitionor.builder()
+				.name("sum_maxK1K2ByB")
+				.underlyings(Arrays.asList("k1", "k2"))
+				.groupBy(GroupByColumns.named("b"))
+				.combinationKey(MaxCombination.KEY)
+				.aggregationKey(SumAggregation.KEY)
+				.build());
+	}
+
+	@AfterEach
+	public void resetParallelism() {
+		AdhocUnsafe.resetAll();
+	}
+
+	private void checkSameAsSequential(String measure, IGroupBy groupBy) {
+		ITabularView sequential = cube().execute(CubeQuery.builder().measure(measure).groupBy(groupBy).build());
+		ITabularView partitioned = cube().execute(CubeQuery.builder()
+				.measure(measure)
+				.groupBy(groupBy)
+				.option(StandardQueryOptions.CONCURRENT)
+				.option(StandardQueryOptions.PARTITIONED)
+				.build());
+
+		Map<Map<String, ?>, Map<String, ?>> expected = MapBasedTabularView.load(sequential).getCoordinatesToValues();
+		Assertions.assertThat(expected).isNotEmpty();
+		Assertions.assertThat(MapBasedTabularView.load(partitioned).getCoordinatesToValues()).isEqualTo(expected);
+	}
+
+	@Test
+	public void testCombinator_groupByShardKey() {
+		checkSameAsSequential("k1PlusK2", GroupByColumns.named("a", "b"));
+	}
+
+	@Test
+	public void testCombinator_groupByOtherColumn() {
+		checkSameAsSequential("k1PlusK2", GroupByColumns.named("b"));
+	}
+
+	@Test
+	public void testFiltrator() {
+		checkSameAsSequential("filterK1onB1", GroupByColumns.named("a"));
+	}
+
+	@Test
+	public void testPartitionor_shardKeyPreserved() {
+		// The Partitionor groupBy is `a,b`, and the output groupBy retains the shard column `a`
+		checkSameAsSequential("sum_maxK1K2ByB", GroupByColumns.named("a"));
+	}
+
+	@Test
+	public void testPartitionor_reshard() {
+		// The output groupBy drops the shard column `a`: an explicit re-shard stage is needed
+		checkSameAsSequential("sum_maxK1K2ByA", GroupByColumns.named("b"));
+	}
+
+	@Test
+	public void testPartitionor_grandTotal() {
+		checkSameAsSequential("sum_maxK1K2ByA", IGroupBy.GRAND_TOTAL);
+	}
+}
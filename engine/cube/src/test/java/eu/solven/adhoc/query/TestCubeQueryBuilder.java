@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import eu.solven.adhoc.engine.query.CubeQuery;
 import eu.solven.adhoc.filter.AndFilter;
 import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.model.query.top.CubeTopClause;
 import eu.solven.adhoc.options.StandardQueryOptions;
 import eu.solven.adhoc.resource.AdhocJackson;
 import io.cucumber.core.internal.com.fasterxml.jackson.core.JsonProcessingException;
@@ -147,6 +148,22 @@ public class TestCubeQueryBuilder {
 		Assertions.assertThat(fromString).isEqualTo(q1);
 	}
 
+	@Test
+	public void testJackson_topClause() throws JsonProcessingException {
+		CubeQuery query = CubeQuery.builder()
+				.measure("k1")
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc("k1").orderByAsc("a").limit(10).offset(20).build())
+				.build();
+
+		ObjectMapper objectMapper = AdhocJackson.makeObjectMapper("json");
+		String asString = objectMapper.writeValueAsString(query);
+		CubeQuery fromString = objectMapper.readValue(asString, CubeQuery.class);
+
+		Assertions.assertThat(fromString).isEqualTo(query);
+		Assertions.assertThat(asString).contains("\"topClause\"");
+	}
+
 	@Test
 	public void testJackson_complex() throws JsonProcessingException {
 		CubeQuery query = fullyCustomized();
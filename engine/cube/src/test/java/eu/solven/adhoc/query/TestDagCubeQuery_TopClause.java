@@ -0,0 +1,233 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.query;
+
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.ATestDagInMemory;
+import eu.solven.adhoc.IAdhocTestConstants;
+import eu.solven.adhoc.dataframe.tabular.ITabularView;
+import eu.solven.adhoc.dataframe.tabular.MapBasedTabularView;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.measure.sum.SumCombination;
+import eu.solven.adhoc.model.measure.Combinator;
+import eu.solven.adhoc.model.query.top.CubeTopClause;
+
+/**
+ * Cube-level `ORDER BY ... LIMIT ... OFFSET ...`, evaluated by the engine over an in-memory table (which ignores any
+ * pushed-down limit).
+ */
+public class TestDagCubeQuery_TopClause extends ATestDagInMemory implements IAdhocTestConstants {
+
+	Combinator k1PlusK2 = Combinator.builder()
+			.name("k1PlusK2")
+			.underlyings(List.of(k1Sum.getName(), k2Sum.getName()))
+			.combinationKey(SumCombination.KEY)
+			.build();
+
+	@Override
+	@BeforeEach
+	public void feedTable() {
+		table().add(Map.of("a", "a1", "k1", 123));
+		table().add(Map.of("a", "a2", "k1", 234, "k2", 1000));
+		table().add(Map.of("a", "a3", "k1", 345));
+		table().add(Map.of("a", "a1", "k1", 456));
+		table().add(Map.of("a", "a4", "k1", 12.5D));
+		table().add(Map.of("a", "a5", "k2", 5));
+
+		forest.addMeasure(k1Sum);
+		forest.addMeasure(k2Sum);
+		forest.addMeasure(k1PlusK2);
+	}
+
+	protected List<Object> executeAndGetA(CubeQuery query) {
+		ITabularView output = cube().execute(query);
+
+		return MapBasedTabularView.load(output)
+				.getCoordinatesToValues()
+				.keySet()
+				.stream()
+				.map(coordinates -> (Object) coordinates.get("a"))
+				.toList();
+	}
+
+	@Test
+	public void testTop_byAggregator() {
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1Sum.getName()).limit(2).build())
+				.build();
+
+		ITabularView output = cube().execute(query);
+		MapBasedTabularView mapBased = MapBasedTabularView.load(output);
+
+		Assertions.assertThat(mapBased.getCoordinatesToValues())
+				.containsEntry(Map.of("a", "a1"), Map.of(k1Sum.getName(), 0L + 123 + 456))
+				.containsEntry(Map.of("a", "a3"), Map.of(k1Sum.getName(), 0L + 345))
+				.hasSize(2);
+		Assertions.assertThat(executeAndGetA(query)).containsExactly("a1", "a3");
+	}
+
+	@Test
+	public void testTop_offset() {
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1Sum.getName()).limit(2).offset(1).build())
+				.build();
+
+		Assertions.assertThat(executeAndGetA(query)).containsExactly("a3", "a2");
+	}
+
+	@Test
+	public void testTop_offsetBeyondSlices() {
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1Sum.getName()).limit(2).offset(10).build())
+				.build();
+
+		Assertions.assertThat(executeAndGetA(query)).isEmpty();
+	}
+
+	@Test
+	public void testTop_limitZero() {
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1Sum.getName()).limit(0).build())
+				.build();
+
+		Assertions.assertThat(executeAndGetA(query)).isEmpty();
+	}
+
+	@Test
+	public void testTop_ascending_mixedLongAndDouble() {
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByAsc(k1Sum.getName()).limit(2).build())
+				.build();
+
+		// `a4` holds a double, lower than any long
+		Assertions.assertThat(executeAndGetA(query)).containsExactly("a4", "a2");
+	}
+
+	@Test
+	public void testTop_nullsLast() {
+		// Only a2 and a5 have a k2, but all slices are materialized by k1
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1Sum.getName(), k2Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByAsc(k2Sum.getName()).build())
+				.build();
+
+		// Ties on `null` are broken by the slices natural ordering
+		Assertions.assertThat(executeAndGetA(query)).containsExactly("a5", "a2", "a1", "a3", "a4");
+	}
+
+	@Test
+	public void testTop_byColumn() {
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc("a").limit(3).build())
+				.build();
+
+		Assertions.assertThat(executeAndGetA(query)).containsExactly("a4", "a3", "a2");
+	}
+
+	@Test
+	public void testLimit_noOrderBy() {
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().limit(2).build())
+				.build();
+
+		// Natural ordering of slices
+		Assertions.assertThat(executeAndGetA(query)).containsExactly("a1", "a2");
+	}
+
+	@Test
+	public void testTop_byTransformator() {
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1PlusK2.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1PlusK2.getName()).limit(2).build())
+				.build();
+
+		ITabularView output = cube().execute(query);
+		MapBasedTabularView mapBased = MapBasedTabularView.load(output);
+
+		Assertions.assertThat(mapBased.getCoordinatesToValues())
+				.containsEntry(Map.of("a", "a2"), Map.of(k1PlusK2.getName(), 0L + 234 + 1000))
+				.containsEntry(Map.of("a", "a1"), Map.of(k1PlusK2.getName(), 0L + 123 + 456))
+				.hasSize(2);
+		Assertions.assertThat(executeAndGetA(query)).containsExactly("a2", "a1");
+	}
+
+	@Test
+	public void testTop_orderByOtherMeasure() {
+		// Order by k2, but also return k1: all measures are restricted to the selected slices
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1Sum.getName(), k2Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k2Sum.getName()).limit(1).build())
+				.build();
+
+		ITabularView output = cube().execute(query);
+		MapBasedTabularView mapBased = MapBasedTabularView.load(output);
+
+		Assertions.assertThat(mapBased.getCoordinatesToValues())
+				.containsEntry(Map.of("a", "a2"), Map.of(k1Sum.getName(), 0L + 234, k2Sum.getName(), 0L + 1000))
+				.hasSize(1);
+	}
+
+	@Test
+	public void testTop_unknownOrderBy() {
+		CubeQuery query = CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc("unknown").limit(2).build())
+				.build();
+
+		Assertions.assertThatThrownBy(() -> cube().execute(query))
+				.hasRootCauseInstanceOf(IllegalArgumentException.class)
+				.hasStackTraceContaining("orderBy=unknown");
+	}
+
+	@Test
+	public void testNoTopClause_unchanged() {
+		CubeQuery query = CubeQuery.builder().measure(k1Sum.getName()).groupByAlso("a").build();
+
+		Assertions.assertThat(query.getTopClause()).isEqualTo(CubeTopClause.NO_LIMIT);
+		Assertions.assertThat(executeAndGetA(query)).containsExactlyInAnyOrder("a1", "a2", "a3", "a4");
+	}
+}
@@ -0,0 +1,111 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.columnar;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.cube.CubeWrapper;
+import eu.solven.adhoc.dataframe.tabular.MapBasedTabularView;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.filter.ColumnFilter;
+import eu.solven.adhoc.filter.FilterBuilder;
+import eu.solven.adhoc.filter.value.LikeMatcher;
+import eu.solven.adhoc.measure.aggregation.comparable.MaxAggregation;
+import eu.solven.adhoc.measure.forest.IMeasureForest;
+import eu.solven.adhoc.measure.forest.MeasureForest;
+import eu.solven.adhoc.measure.sum.AvgAggregation;
+import eu.solven.adhoc.model.measure.Aggregator;
+import eu.solven.adhoc.table.ITableWrapper;
+import eu.solven.adhoc.table.InMemoryTable;
+
+/**
+ * Checks {@link ColumnarInMemoryTable} returns the same results than {@link InMemoryTable}.
+ */
+public class TestColumnarInMemoryTable_vsInMemoryTable {
+	final InMemoryTable rowTable = InMemoryTable.builder().build();
+	final ColumnarInMemoryTable columnarTable = ColumnarInMemoryTable.builder().build();
+
+	final IMeasureForest forest = MeasureForest.builder()
+			.name("parity")
+			.measure(Aggregator.sum("k"))
+			.measure(Aggregator.countAsterisk())
+			.measure(Aggregator.builder().name("kMax").columnName("k").aggregationKey(MaxAggregation.KEY).build())
+			.measure(Aggregator.builder().name("kAvg").columnName("k").aggregationKey(AvgAggregation.KEY).build())
+			.build();
+
+	private void addRows(int nbRows) {
+		Random random = new Random(0);
+		for (int i = 0; i < nbRows; i++) {
+			Map<String, Object> row = new HashMap<>();
+			row.put("country", "country" + random.nextInt(7));
+			row.put("ccy", "ccy" + random.nextInt(3));
+			if (random.nextInt(5) != 0) {
+				// `city` is sometimes absent
+				row.put("city", "city" + random.nextInt(50));
+			}
+			row.put("k", random.nextInt(100));
+
+			rowTable.add(row);
+			columnarTable.add(row);
+		}
+		columnarTable.compact();
+	}
+
+	private Map<Map<String, ?>, Map<String, ?>> execute(ITableWrapper table, CubeQuery query) {
+		CubeWrapper cube = CubeWrapper.builder().forest(forest).table(table).build();
+		return MapBasedTabularView.load(cube.execute(query)).getCoordinatesToValues();
+	}
+
+	@Test
+	public void testParity() {
+		addRows(1000);
+
+		List<CubeQuery> queries = List.of(CubeQuery.builder().measure("k", Aggregator.countAsterisk().getName()).build(),
+				CubeQuery.builder().measure("k", "kMax", "kAvg").groupByAlso("country").build(),
+				CubeQuery.builder().measure("k").groupByAlso("country", "city").andFilter("ccy", "ccy1").build(),
+				CubeQuery.builder()
+						.measure("k", Aggregator.countAsterisk().getName())
+						.groupByAlso("ccy")
+						.filter(FilterBuilder
+								.or(ColumnFilter.matchIn("country", "country1", "country2"),
+										ColumnFilter.match("city", LikeMatcher.matching("city1%")))
+								.combine())
+						.build(),
+				CubeQuery.builder()
+						.measure("kMax")
+						.groupByAlso("city")
+						.filter(FilterBuilder.not(ColumnFilter.matchEq("country", "country3")).combine())
+						.build());
+
+		queries.forEach(query -> Assertions.assertThat(execute(columnarTable, query))
+				.as("query=%s", query)
+				.isNotEmpty()
+				.isEqualTo(execute(rowTable, query)));
+	}
+}
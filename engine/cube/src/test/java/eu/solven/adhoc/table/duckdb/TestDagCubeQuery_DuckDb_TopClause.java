@@ -0,0 +1,251 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.duckdb;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.assertj.core.api.Assertions;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.IAdhocTestConstants;
+import eu.solven.adhoc.dataframe.row.ITabularRecordStream;
+import eu.solven.adhoc.dataframe.tabular.ITabularView;
+import eu.solven.adhoc.dataframe.tabular.MapBasedTabularView;
+import eu.solven.adhoc.engine.cache.GuavaQueryStepCache;
+import eu.solven.adhoc.engine.cache.IQueryStepCache;
+import eu.solven.adhoc.engine.context.IQueryPreparator;
+import eu.solven.adhoc.engine.context.StandardQueryPreparator;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.measure.sum.SumCombination;
+import eu.solven.adhoc.model.column.ReferencedColumn;
+import eu.solven.adhoc.model.measure.Combinator;
+import eu.solven.adhoc.model.query.top.CubeTopClause;
+import eu.solven.adhoc.query.table.TableQueryV4;
+import eu.solven.adhoc.table.IQueryPod;
+import eu.solven.adhoc.table.ITableWrapper;
+import eu.solven.adhoc.table.sql.JooqTableWrapper;
+import eu.solven.adhoc.table.sql.duckdb.DuckDBHelper;
+
+/**
+ * Checks a cube-level top clause is pushed down to SQL when the ordering measure is a plain aggregator.
+ */
+public class TestDagCubeQuery_DuckDb_TopClause extends ATestDagDuckDb implements IAdhocTestConstants {
+	String tableName = "someTableName";
+
+	final List<TableQueryV4> tableQueries = new CopyOnWriteArrayList<>();
+
+	final IQueryStepCache queryStepCache = GuavaQueryStepCache.withSize(1024);
+
+	Combinator k1PlusK2 = Combinator.builder()
+			.name("k1PlusK2")
+			.underlyings(List.of(k1Sum.getName(), k2Sum.getName()))
+			.combinationKey(SumCombination.KEY)
+			.build();
+
+	@Override
+	public ITableWrapper makeTable() {
+		return new JooqTableWrapper(tableName,
+				DuckDBHelper.parametersBuilder(dslSupplier).tableName(tableName).build()) {
+			@Override
+			public ITabularRecordStream streamSlices(IQueryPod queryPod, TableQueryV4 tableQuery) {
+				tableQueries.add(tableQuery);
+				return super.streamSlices(queryPod, tableQuery);
+			}
+		};
+	}
+
+	@Override
+	protected IQueryPreparator queryPreparator() {
+		return StandardQueryPreparator.builder().queryStepCache(queryStepCache).build();
+	}
+
+	@BeforeEach
+	public void feedTable() {
+		dsl.createTableIfNotExists(tableName)
+				.column("a", SQLDataType.VARCHAR)
+				.column("k1", SQLDataType.DOUBLE)
+				.column("k2", SQLDataType.DOUBLE)
+				.execute();
+		insert("a1", 123, 1);
+		insert("a2", 234, 1000);
+		insert("a3", 345, null);
+		insert("a1", 456, null);
+		insert("a4", null, 5);
+
+		forest.addMeasure(k1Sum);
+		forest.addMeasure(k2Sum);
+		forest.addMeasure(k1PlusK2);
+	}
+
+	protected void insert(String a, Number k1, Number k2) {
+		dsl.insertInto(DSL.table(tableName), DSL.field("a"), DSL.field("k1"), DSL.field("k2"))
+				.values(a, k1, k2)
+				.execute();
+	}
+
+	protected List<Object> getA(ITabularView output) {
+		return MapBasedTabularView.load(output)
+				.getCoordinatesToValues()
+				.keySet()
+				.stream()
+				.map(coordinates -> (Object) coordinates.get("a"))
+				.toList();
+	}
+
+	@Test
+	public void testTop_aggregator_pushedDown() {
+		ITabularView output = cube().execute(CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1Sum.getName()).limit(2).offset(1).build())
+				.build());
+
+		Assertions.assertThat(getA(output)).containsExactly("a3", "a2");
+
+		Assertions.assertThat(tableQueries).hasSize(1).anySatisfy(tableQuery -> {
+			Assertions.assertThat(tableQuery.getTopClause().isPresent()).isTrue();
+			// The offset is applied by the engine
+			Assertions.assertThat(tableQuery.getTopClause().getLimit()).isEqualTo(3);
+			Assertions.assertThat(tableQuery.getTopClause().isNullsLast()).isTrue();
+		});
+	}
+
+	@Test
+	public void testTop_aggregator_ascending_nullsLast() {
+		ITabularView output = cube().execute(CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByAsc(k1Sum.getName()).limit(3).build())
+				.build());
+
+		// `a4` has a `null` k1: it must not fill the SQL limit
+		Assertions.assertThat(getA(output)).containsExactly("a2", "a3", "a1");
+	}
+
+	@Test
+	public void testTop_transformator_notPushedDown() {
+		ITabularView output = cube().execute(CubeQuery.builder()
+				.measure(k1PlusK2.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1PlusK2.getName()).limit(2).build())
+				.build());
+
+		Assertions.assertThat(getA(output)).containsExactly("a2", "a1");
+
+		Assertions.assertThat(tableQueries)
+				.isNotEmpty()
+				.allSatisfy(tableQuery -> Assertions.assertThat(tableQuery.getTopClause().isPresent()).isFalse());
+	}
+
+	@Test
+	public void testTop_mixedDirections_notPushedDown() {
+		ITabularView output = cube().execute(CubeQuery.builder()
+				.measure(k1Sum.getName(), k2Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder()
+						.orderByDesc(k2Sum.getName())
+						.orderByAsc(k1Sum.getName())
+						.limit(2)
+						.build())
+				.build());
+
+		Assertions.assertThat(getA(output)).containsExactly("a2", "a4");
+
+		Assertions.assertThat(tableQueries)
+				.isNotEmpty()
+				.allSatisfy(tableQuery -> Assertions.assertThat(tableQuery.getTopClause().isPresent()).isFalse());
+	}
+
+	@Test
+	public void testTop_pushedDown_notCached() {
+		ITabularView top = cube().execute(CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1Sum.getName()).limit(1).build())
+				.build());
+		Assertions.assertThat(getA(top)).containsExactly("a1");
+
+		// The truncated cuboid must not be served to a query without limit
+		ITabularView all = cube().execute(CubeQuery.builder().measure(k1Sum.getName()).groupByAlso("a").build());
+		Assertions.assertThat(getA(all)).containsExactlyInAnyOrder("a1", "a2", "a3");
+		Assertions.assertThat(tableQueries).hasSize(2);
+	}
+
+	@Test
+	public void testTop_notPushedDown_cached() {
+		ITabularView top = cube().execute(CubeQuery.builder()
+				.measure(k1PlusK2.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1PlusK2.getName()).limit(2).build())
+				.build());
+		Assertions.assertThat(getA(top)).containsExactly("a2", "a1");
+		Assertions.assertThat(tableQueries).hasSize(1);
+
+		// The top clause has not been pushed down: the cuboids of the table are complete, hence cached
+		ITabularView all = cube().execute(CubeQuery.builder().measure(k1Sum.getName()).groupByAlso("a").build());
+		Assertions.assertThat(getA(all)).containsExactlyInAnyOrder("a1", "a2", "a3");
+		Assertions.assertThat(tableQueries).hasSize(1);
+	}
+
+	@Test
+	public void testTop_batch_otherQueriesNotTruncated() {
+		CubeQuery top = CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1Sum.getName()).limit(1).build())
+				.build();
+		CubeQuery all = CubeQuery.builder().measure(k1Sum.getName()).groupByAlso("a").build();
+
+		List<ITabularView> outputs = cube().executeBatch(List.of(top, all));
+
+		Assertions.assertThat(getA(outputs.get(0))).containsExactly("a1");
+		// The top clause of the first query must not truncate the output of the second query
+		Assertions.assertThat(getA(outputs.get(1))).containsExactlyInAnyOrder("a1", "a2", "a3");
+	}
+
+	@Test
+	public void testTop_aggregator_tieBrokenByGroupBy() {
+		// Same k1 than `a1`
+		insert("a0", 579, null);
+		insert("a9", 579, null);
+
+		ITabularView output = cube().execute(CubeQuery.builder()
+				.measure(k1Sum.getName())
+				.groupByAlso("a")
+				.topClause(CubeTopClause.builder().orderByDesc(k1Sum.getName()).limit(2).build())
+				.build());
+
+		// Ties are broken by ascending coordinates, both by the table and by the engine
+		Assertions.assertThat(getA(output)).containsExactly("a0", "a1");
+
+		Assertions.assertThat(tableQueries).hasSize(1).anySatisfy(tableQuery -> {
+			Assertions.assertThat(tableQuery.getTopClause().getTieBreakers())
+					.containsExactly(ReferencedColumn.ref("a"));
+		});
+	}
+}
@@ -0,0 +1,366 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.duckdb;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.jooq.TableLike;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+
+import eu.solven.adhoc.IAdhocTestConstants;
+import eu.solven.adhoc.column.ColumnsManager;
+import eu.solven.adhoc.cube.CubeWrapper;
+import eu.solven.adhoc.dataframe.tabular.ITabularView;
+import eu.solven.adhoc.dataframe.tabular.MapBasedTabularView;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.engine.query.CubeQuery.CubeQueryBuilder;
+import eu.solven.adhoc.factories.AdhocFactories;
+import eu.solven.adhoc.filter.ColumnFilter;
+import eu.solven.adhoc.measure.decomposition.IDecomposition;
+import eu.solven.adhoc.measure.decomposition.join.InMemoryJoinDefinition;
+import eu.solven.adhoc.measure.decomposition.join.JoinDecomposition;
+import eu.solven.adhoc.measure.decomposition.many2many.ManyToMany1DDecomposition;
+import eu.solven.adhoc.measure.decomposition.many2many.ManyToMany1DInMemoryDefinition;
+import eu.solven.adhoc.measure.operator.StandardOperatorFactory;
+import eu.solven.adhoc.model.measure.Aggregator;
+import eu.solven.adhoc.model.measure.Dispatchor;
+import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.query.table.FilteredAggregator;
+import eu.solven.adhoc.query.table.TableQueryV4;
+import eu.solven.adhoc.table.ITableWrapper;
+import eu.solven.adhoc.table.sql.IJooqColumnsResolver;
+import eu.solven.adhoc.table.sql.JooqColumnsHelpers;
+import eu.solven.adhoc.table.sql.JooqTableWrapper;
+import eu.solven.adhoc.table.sql.JooqTableWrapperParameters;
+import eu.solven.adhoc.table.sql.duckdb.DuckDBHelper;
+import eu.solven.adhoc.table.sql.join.PrunedJoinsJooqTableSupplier;
+import eu.solven.adhoc.table.sql.join.PrunedJoinsJooqTableSupplierBuilder;
+import eu.solven.adhoc.table.transcoder.MapTableAliaser;
+import eu.solven.pepper.collection.MapWithNulls;
+
+/**
+ * Checks {@link JoinDecomposition#K_PUSHDOWN} and {@link ManyToMany1DDecomposition#K_PUSHDOWN}: the enrichment table
+ * and the many-to-many mapping table are JOINed by DuckDB, and each pushed-down measure must give the same result as
+ * when decomposed in Java.
+ *
+ * @author Benoit Lacelle
+ */
+public class TestDagTableQuery_DuckDb_DecompositionPushdown extends ATestDagDuckDb implements IAdhocTestConstants {
+
+	String factTable = "pushdown_fact";
+	String weatherTable = "pushdown_weather";
+	String groupsTable = "pushdown_groups";
+
+	Map<String, ?> joinOptions = ImmutableMap.of(JoinDecomposition.K_INPUTS,
+			List.of("asOfDate", "country"),
+			JoinDecomposition.K_OUTPUTS,
+			List.of("weather", "language"));
+	Map<String, ?> manyToManyOptions =
+			ImmutableMap.of(ManyToMany1DDecomposition.K_INPUT, "country", ManyToMany1DDecomposition.K_OUTPUT, "group");
+
+	InMemoryJoinDefinition joinDefinition = new InMemoryJoinDefinition();
+	ManyToMany1DInMemoryDefinition manyToManyDefinition = new ManyToMany1DInMemoryDefinition();
+
+	IJooqColumnsResolver columnsResolver = JooqColumnsHelpers.dbProbe();
+
+	PrunedJoinsJooqTableSupplierBuilder snowflakeBuilder = PrunedJoinsJooqTableSupplierBuilder.prunedBuilder()
+			.baseTable(DSL.table(DSL.name(factTable)))
+			.baseTableAlias("f")
+			.dslSupplier(dslSupplier)
+			.build()
+			.leftJoin(JoinDecomposition.sqlJoin(joinOptions, DSL.table(DSL.name(weatherTable)), "w"))
+			.leftJoin(ManyToMany1DDecomposition.sqlJoin(manyToManyOptions, DSL.table(DSL.name(groupsTable)), "g"));
+
+	PrunedJoinsJooqTableSupplier tableSupplier =
+			PrunedJoinsJooqTableSupplier.builder().schema(snowflakeBuilder).columnsResolver(columnsResolver).build();
+
+	@Override
+	public AdhocFactories makeFactories() {
+		return super.makeFactories().toBuilder().operatorFactory(new StandardOperatorFactory() {
+			@Override
+			public IDecomposition makeDecomposition(String key, Map<String, ?> options) {
+				if (JoinDecomposition.KEY.equals(key)) {
+					return new JoinDecomposition(options, joinDefinition);
+				} else if (ManyToMany1DDecomposition.KEY.equals(key)) {
+					return new ManyToMany1DDecomposition(options, manyToManyDefinition);
+				}
+				return super.makeDecomposition(key, options);
+			}
+		}).build();
+	}
+
+	@Override
+	public ITableWrapper makeTable() {
+		JooqTableWrapperParameters params = DuckDBHelper.parametersBuilder(dslSupplier)
+				.tableSupplier(tableSupplier)
+				.columnsResolver(columnsResolver)
+				.build();
+		return new JooqTableWrapper(factTable, params);
+	}
+
+	@Override
+	public CubeWrapper.CubeWrapperBuilder makeCube() {
+		// The JOIN keys are both on the fact and on the joined tables: they are resolved on the fact table
+		MapTableAliaser aliaser =
+				MapTableAliaser.builder().aliasToOriginals(snowflakeBuilder.getAliasToOriginal()).build();
+		return super.makeCube().columnsManager(ColumnsManager.builder().aliaser(aliaser).build());
+	}
+
+	private void initTables() {
+		dsl.createTableIfNotExists(factTable)
+				.column("asOfDate", SQLDataType.VARCHAR)
+				.column("country", SQLDataType.VARCHAR)
+				.column("k1", SQLDataType.INTEGER)
+				.execute();
+		dsl.createTableIfNotExists(weatherTable)
+				.column("asOfDate", SQLDataType.VARCHAR)
+				.column("country", SQLDataType.VARCHAR)
+				.column("weather", SQLDataType.VARCHAR)
+				.column("language", SQLDataType.VARCHAR)
+				.execute();
+		dsl.createTableIfNotExists(groupsTable)
+				.column("country", SQLDataType.VARCHAR)
+				.column("group", SQLDataType.VARCHAR)
+				.execute();
+	}
+
+	private void insertFact(String asOfDate, String country, int k1) {
+		dsl.insertInto(DSL.table(DSL.name(factTable)),
+				DSL.field(DSL.name("asOfDate")),
+				DSL.field(DSL.name("country")),
+				DSL.field(DSL.name("k1"))).values(asOfDate, country, k1).execute();
+	}
+
+	private void insertWeather(String asOfDate, String country, String weather, String language) {
+		dsl.insertInto(DSL.table(DSL.name(weatherTable)),
+				DSL.field(DSL.name("asOfDate")),
+				DSL.field(DSL.name("country")),
+				DSL.field(DSL.name("weather")),
+				DSL.field(DSL.name("language"))).values(asOfDate, country, weather, language).execute();
+		joinDefinition.put(Map.of("asOfDate", asOfDate, "country", country),
+				Map.of("weather", weather, "language", language));
+	}
+
+	private void insertGroup(String country, String group) {
+		dsl.insertInto(DSL.table(DSL.name(groupsTable)), DSL.field(DSL.name("country")), DSL.field(DSL.name("group")))
+				.values(country, group)
+				.execute();
+		manyToManyDefinition.putElementToGroup(country, group);
+	}
+
+	private void prepare() {
+		initTables();
+
+		insertFact("2026-04-17", "FR", 10);
+		insertFact("2026-04-17", "DE", 20);
+		insertFact("2026-04-18", "FR", 30);
+		// No weather for this row
+		insertFact("2026-04-18", "US", 40);
+
+		insertWeather("2026-04-17", "FR", "sunny", "French");
+		insertWeather("2026-04-17", "DE", "rainy", "German");
+		insertWeather("2026-04-18", "FR", "cloudy", "French");
+
+		insertGroup("FR", "G8");
+		insertGroup("FR", "G20");
+		insertGroup("DE", "G8");
+		insertGroup("DE", "G20");
+		insertGroup("US", "G8");
+
+		registerMeasures(false);
+	}
+
+	/**
+	 * Generated columns are resolved over the whole forest: a Java-evaluated twin would have the table suppress the
+	 * pushed-down columns. Hence, each mode is registered separately.
+	 */
+	private void registerMeasures(boolean pushdown) {
+		forest.clear();
+		forest.addMeasure(k1Sum);
+		forest.addMeasure(Dispatchor.builder()
+				.name("k1.join")
+				.underlying(k1Sum.getName())
+				.decompositionKey(JoinDecomposition.KEY)
+				.decompositionOptions(joinOptions)
+				.decompositionOption(JoinDecomposition.K_PUSHDOWN, pushdown)
+				.build());
+		forest.addMeasure(Dispatchor.builder()
+				.name("k1.m2m")
+				.underlying(k1Sum.getName())
+				.decompositionKey(ManyToMany1DDecomposition.KEY)
+				.decompositionOptions(manyToManyOptions)
+				.decompositionOption(ManyToMany1DDecomposition.K_PUSHDOWN, pushdown)
+				.build());
+	}
+
+	/**
+	 * Executes the query with the Java-evaluated measure and with its pushed-down twin, and checks they are equal.
+	 * 
+	 * @return the coordinates to the value of the pushed-down measure.
+	 */
+	private Map<Map<String, ?>, Object> executeBoth(String measure, CubeQueryBuilder queryBuilder) {
+		registerMeasures(false);
+		Map<Map<String, ?>, Object> inJava = execute(measure, queryBuilder);
+		registerMeasures(true);
+		Map<Map<String, ?>, Object> inSql = execute(measure, queryBuilder);
+
+		Assertions.assertThat(inSql).isEqualTo(inJava);
+
+		return inSql;
+	}
+
+	private Map<Map<String, ?>, Object> execute(String measure, CubeQueryBuilder queryBuilder) {
+		ITabularView view = cube().execute(queryBuilder.build().toBuilder().measure(measure).build());
+
+		Map<Map<String, ?>, Object> coordinatesToValue = new LinkedHashMap<>();
+		MapBasedTabularView.load(view)
+				.getCoordinatesToValues()
+				.forEach((coordinates, values) -> coordinatesToValue.put(coordinates, values.get(measure)));
+		return coordinatesToValue;
+	}
+
+	private static TableQueryV4 v4GroupBy(String... columns) {
+		FilteredAggregator agg = FilteredAggregator.builder().aggregator(Aggregator.sum("k1")).build();
+		return TableQueryV4.builder()
+				.groupByToAggregators(ImmutableSetMultimap.of(GroupByColumns.named(Arrays.asList(columns)), agg))
+				.build();
+	}
+
+	@Test
+	public void testPruning() {
+		prepare();
+
+		TableLike<?> grandTotal = tableSupplier.tableFor(v4GroupBy());
+		Assertions.assertThat(grandTotal.toString()).doesNotContain(weatherTable).doesNotContain(groupsTable);
+
+		// Input columns are resolved on the fact table: they do not pull the JOINs
+		TableLike<?> byCountry = tableSupplier.tableFor(v4GroupBy("asOfDate", "country"));
+		Assertions.assertThat(byCountry.toString()).doesNotContain(weatherTable).doesNotContain(groupsTable);
+
+		TableLike<?> byWeather = tableSupplier.tableFor(v4GroupBy("weather"));
+		Assertions.assertThat(byWeather.toString()).contains(weatherTable).doesNotContain(groupsTable);
+
+		TableLike<?> byGroup = tableSupplier.tableFor(v4GroupBy("group"));
+		Assertions.assertThat(byGroup.toString()).doesNotContain(weatherTable).contains(groupsTable);
+	}
+
+	@Test
+	public void testJoin_groupByWeather() {
+		prepare();
+
+		Assertions.assertThat(executeBoth("k1.join", CubeQuery.builder().groupByAlso("weather")))
+				.containsEntry(Map.of("weather", "sunny"), 0L + 10)
+				.containsEntry(Map.of("weather", "rainy"), 0L + 20)
+				.containsEntry(Map.of("weather", "cloudy"), 0L + 30)
+				.containsEntry(MapWithNulls.of("weather", null), 0L + 40)
+				.hasSize(4);
+	}
+
+	@Test
+	public void testJoin_groupByLanguageAndCountry() {
+		prepare();
+
+		Assertions.assertThat(executeBoth("k1.join", CubeQuery.builder().groupByAlso("language", "country")))
+				.containsEntry(Map.of("language", "French", "country", "FR"), 0L + 10 + 30)
+				.containsEntry(Map.of("language", "German", "country", "DE"), 0L + 20)
+				.containsEntry(MapWithNulls.of("language", null, "country", "US"), 0L + 40)
+				.hasSize(3);
+	}
+
+	// A row without enrichment is not matched by SQL, while the Java decomposition treats missing columns as matching
+	@Test
+	public void testJoin_filterLanguage() {
+		prepare();
+
+		CubeQueryBuilder query = CubeQuery.builder().andFilter("language", "French");
+
+		registerMeasures(false);
+		Assertions.assertThat(execute("k1.join", query)).containsEntry(Map.of(), 0L + 10 + 30 + 40).hasSize(1);
+
+		registerMeasures(true);
+		Assertions.assertThat(execute("k1.join", query)).containsEntry(Map.of(), 0L + 10 + 30).hasSize(1);
+	}
+
+	@Test
+	public void testJoin_grandTotal() {
+		prepare();
+
+		Assertions.assertThat(executeBoth("k1.join", CubeQuery.builder()))
+				.containsEntry(Map.of(), 0L + 10 + 20 + 30 + 40)
+				.hasSize(1);
+	}
+
+	@Test
+	public void testManyToMany_groupByGroup() {
+		prepare();
+
+		Assertions.assertThat(executeBoth("k1.m2m", CubeQuery.builder().groupByAlso("group")))
+				.containsEntry(Map.of("group", "G8"), 0L + 10 + 20 + 30 + 40)
+				.containsEntry(Map.of("group", "G20"), 0L + 10 + 20 + 30)
+				.hasSize(2);
+	}
+
+	@Test
+	public void testManyToMany_groupByGroup_filterGroup() {
+		prepare();
+
+		Assertions.assertThat(
+				executeBoth("k1.m2m", CubeQuery.builder().groupByAlso("group", "country").andFilter("group", "G20")))
+				.containsEntry(Map.of("group", "G20", "country", "FR"), 0L + 10 + 30)
+				.containsEntry(Map.of("group", "G20", "country", "DE"), 0L + 20)
+				.hasSize(2);
+	}
+
+	// An element without group is not JOINed to any group: the `LEFT JOIN` must not produce a `NULL` group
+	@Test
+	public void testManyToMany_groupByGroup_unmappedElement() {
+		prepare();
+		insertFact("2026-04-18", "JP", 50);
+
+		Assertions.assertThat(executeBoth("k1.m2m", CubeQuery.builder().groupByAlso("group")))
+				.containsEntry(Map.of("group", "G8"), 0L + 10 + 20 + 30 + 40)
+				.containsEntry(Map.of("group", "G20"), 0L + 10 + 20 + 30)
+				.hasSize(2);
+	}
+
+	// Not grouped by group: an element in both groups must not be counted twice, hence not pushed down
+	@Test
+	public void testManyToMany_filterGroups_notGroupedBy() {
+		prepare();
+
+		Assertions
+				.assertThat(executeBoth("k1.m2m",
+						CubeQuery.builder().filter(ColumnFilter.matchIn("group", "G8", "G20"))))
+				.containsEntry(Map.of(), 0L + 10 + 20 + 30 + 40)
+				.hasSize(1);
+	}
+}
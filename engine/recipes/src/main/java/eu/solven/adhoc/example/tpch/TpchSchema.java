@@ -51,6 +51,7 @@ import eu.solven.adhoc.table.sql.JooqTableWrapperParameters;
 import eu.solven.adhoc.table.sql.duckdb.DuckDBHelper;
 import eu.solven.adhoc.table.sql.join.JooqTableSupplierBuilder;
 import eu.solven.adhoc.table.transcoder.MapTableAliaser;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -74,6 +75,27 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @SuppressWarnings("checkstyle:MagicNumber")
 public class TpchSchema {
+	/**
+	 * Scale factor 0.1 produces ~600 K lineitem rows; keep small for test speed.
+	 */
+	public static final double DEFAULT_SCALE_FACTOR = 0.1;
+
+	/**
+	 * The TPC-H scale factor: 1 produces ~6 M lineitem rows.
+	 */
+	@Getter
+	final double scaleFactor;
+
+	public TpchSchema() {
+		this(DEFAULT_SCALE_FACTOR);
+	}
+
+	public TpchSchema(double scaleFactor) {
+		if (!(scaleFactor > 0)) {
+			throw new IllegalArgumentException("scaleFactor must be strictly positive. Was %s".formatted(scaleFactor));
+		}
+		this.scaleFactor = scaleFactor;
+	}
 
 	public String getName() {
 		return "Tpch";
@@ -146,8 +168,7 @@ public class TpchSchema {
 			s.execute("INSTALL tpch");
 			// https://duckdb.org/docs/stable/core_extensions/tpch
 			s.execute("LOAD tpch");
-			// Scale factor 0.1 produces ~600 K lineitem rows; keep small for test speed
-			s.execute("CALL dbgen(sf = 0.1)");
+			s.execute("CALL dbgen(sf = %s)".formatted(scaleFactor));
 		}
 	}
 
@@ -22,6 +22,9 @@
  */
 package eu.solven.adhoc.engine;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,7 +39,9 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
 import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.engine.dag.AdhocDag;
 import eu.solven.adhoc.engine.dag.IAdhocDag;
+import eu.solven.adhoc.engine.observability.RetainedBytesTracker;
 import eu.solven.adhoc.engine.observability.SizeAndDuration;
 import eu.solven.adhoc.engine.step.CubeQueryStep;
 import eu.solven.adhoc.engine.step.ICubeQueryStep;
@@ -45,7 +50,9 @@ import eu.solven.adhoc.model.measure.ReferencedMeasure;
 import eu.solven.pepper.core.PepperLogHelper;
 import lombok.Builder;
 import lombok.Builder.Default;
+import lombok.EqualsAndHashCode;
 import lombok.Singular;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
@@ -80,10 +87,25 @@ public class QueryStepsDag implements ISinkExecutionFeedback, IHasDagFromInduced
 	@Default
 	Map<ICubeQueryStep, SizeAndDuration> stepToCost = new ConcurrentHashMap<>();
 
+	// Tracks the cuboids held while walking the DAG, to report the peak memory of the query
+	@NonNull
+	@Default
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	RetainedBytesTracker retainedBytesTracker = new RetainedBytesTracker();
+
 	@NonNull
 	@Singular
 	ImmutableMap<CubeQueryStep, ICuboid> stepToValues;
 
+	// The steps whose cuboid misses the slices discarded by a top clause pushed down to the table: they must not be
+	// cached
+	@NonNull
+	@Default
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	Set<CubeQueryStep> truncatedSteps = ConcurrentHashMap.newKeySet();
+
 	public List<CubeQueryStep> underlyingSteps(CubeQueryStep queryStep) {
 		if (queryStep.getMeasure() instanceof ReferencedMeasure refMeasure) {
 			throw new IllegalArgumentException(
@@ -111,4 +133,49 @@ public class QueryStepsDag implements ISinkExecutionFeedback, IHasDagFromInduced
 		return inducedToInducer.iterables().edgeCount();
 	}
 
+	/**
+	 * Merges multiple {@link QueryStepsDag} into a single one, typically to execute multiple queries at once. Equal
+	 * {@link CubeQueryStep} are shared: each step keeps the underlyings from the first {@link QueryStepsDag} defining it,
+	 * as equal steps have equal underlyings.
+	 * 
+	 * @param queryStepsDags
+	 *            {@link QueryStepsDag} built over the same {@link eu.solven.adhoc.measure.forest.IMeasureForest}.
+	 * @return a {@link QueryStepsDag} which explicits are the union of the input explicits.
+	 */
+	public static QueryStepsDag merge(Collection<QueryStepsDag> queryStepsDags) {
+		IAdhocDag<CubeQueryStep> dag = new AdhocDag<>();
+		DirectedMultigraph<CubeQueryStep, DefaultEdge> multigraph = new DirectedMultigraph<>(DefaultEdge.class);
+		Set<CubeQueryStep> explicits = new LinkedHashSet<>();
+		Map<CubeQueryStep, ICuboid> stepToValues = new LinkedHashMap<>();
+
+		for (QueryStepsDag queryStepsDag : queryStepsDags) {
+			DirectedMultigraph<CubeQueryStep, DefaultEdge> queryMultigraph = queryStepsDag.getMultigraph();
+
+			List<CubeQueryStep> newSteps =
+					queryMultigraph.vertexSet().stream().filter(step -> !multigraph.containsVertex(step)).toList();
+			newSteps.forEach(step -> {
+				dag.addVertex(step);
+				multigraph.addVertex(step);
+			});
+
+			// Edges are added only for new steps, else a shared step would refer multiple times its underlyings
+			newSteps.forEach(step -> queryMultigraph.outgoingEdgesOf(step).forEach(edge -> {
+				CubeQueryStep underlyingStep = queryMultigraph.getEdgeTarget(edge);
+				// `null` if the step refers multiple times to the same underlying
+				dag.addEdge(step, underlyingStep);
+				multigraph.addEdge(step, underlyingStep);
+			}));
+
+			explicits.addAll(queryStepsDag.getExplicits());
+			queryStepsDag.getStepToValues().forEach(stepToValues::putIfAbsent);
+		}
+
+		return QueryStepsDag.builder()
+				.inducedToInducer(dag)
+				.multigraph(multigraph)
+				.explicits(explicits)
+				.stepToValues(stepToValues)
+				.build();
+	}
+
 }
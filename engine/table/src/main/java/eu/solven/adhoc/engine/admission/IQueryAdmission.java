@@ -0,0 +1,68 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.admission;
+
+import eu.solven.adhoc.engine.cancel.CancelledQueryException;
+import eu.solven.adhoc.table.IQueryPod;
+
+/**
+ * Decides when a query may start executing. It typically protects the JVM from executing too many heavy queries at the
+ * same time, by queuing the excess queries.
+ * 
+ * @author Benoit Lacelle
+ * @see WeightedFairQueryScheduler
+ */
+@FunctionalInterface
+public interface IQueryAdmission {
+	/**
+	 * Released once the admitted query is done.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	@FunctionalInterface
+	interface IAdmissionTicket extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+	/**
+	 * Blocks until given query is admitted.
+	 * 
+	 * @param queryPod
+	 * @return an {@link IAdmissionTicket} to be closed once the query is done.
+	 * @throws QueryRejectedException
+	 *             if the query is not admitted
+	 * @throws CancelledQueryException
+	 *             if the query is cancelled while waiting for admission
+	 */
+	IAdmissionTicket admit(IQueryPod queryPod);
+
+	/**
+	 * 
+	 * @return an {@link IQueryAdmission} admitting all queries right-away.
+	 */
+	static IQueryAdmission admitAll() {
+		return _ -> () -> {
+		};
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.admission;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import eu.solven.adhoc.query.AdhocQueryId;
+import eu.solven.adhoc.query.AdhocQueryIds;
+
+/**
+ * Thread-scoped declaration of who submits a query, and with which {@link QueryPriority}. A frontend (e.g. Pivotable)
+ * binds it for the duration of the submission call: it is read by {@link AdhocQueryIds#from(String, Object)} when the
+ * query is prepared, and stored in the {@link AdhocQueryId}, so it is available to {@link IQueryAdmission} even if the
+ * query is executed in another thread.
+ *
+ * <p>
+ * Without a binding, queries are submitted by an anonymous principal with {@link QueryPriority#INTERACTIVE}.
+ *
+ * @author Benoit Lacelle
+ * @see eu.solven.adhoc.query.SubmittedQueryIdScope
+ */
+public final class QueryAdmissionScope {
+
+	/**
+	 * Who submits a query, and how urgent it is.
+	 * 
+	 * @param principal
+	 *            typically a user or an API client identifier
+	 * @param priority
+	 *            the priority class of the query
+	 */
+	public record Submitter(String principal, QueryPriority priority) {
+	}
+
+	private static final ScopedValue<Submitter> CURRENT_SUBMITTER = ScopedValue.newInstance();
+
+	private QueryAdmissionScope() {
+		// Utility class with static helpers only.
+	}
+
+	/**
+	 * Binds the {@link Submitter} for the duration of {@code body}.
+	 *
+	 * @param <R>
+	 *            the body's return type
+	 * @param submitter
+	 *            the {@link Submitter} of the queries prepared by {@code body}
+	 * @param body
+	 *            the body to run inside the scope
+	 * @return the value returned by {@code body}
+	 */
+	public static <R> R runWith(Submitter submitter, Supplier<R> body) {
+		try {
+			return ScopedValue.where(CURRENT_SUBMITTER, submitter).call(body::get);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @return the bound {@link Submitter} for the current scope, or {@link Optional#empty()} when no scope is active
+	 */
+	public static Optional<Submitter> current() {
+		if (CURRENT_SUBMITTER.isBound()) {
+			return Optional.of(CURRENT_SUBMITTER.get());
+		}
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,50 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.admission;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The priority class of a query. Queued queries are admitted proportionally to the weight of their class: a batch
+ * query is delayed by interactive queries, but it is never starved.
+ * 
+ * @author Benoit Lacelle
+ */
+@RequiredArgsConstructor
+public enum QueryPriority {
+	/**
+	 * A user is waiting for the result, typically from a UI.
+	 */
+	INTERACTIVE(8),
+
+	/**
+	 * Nobody is actively waiting for the result, typically exports, scheduled reports or MCP tools.
+	 */
+	BATCH(1),
+
+	;
+
+	@Getter
+	final int weight;
+}
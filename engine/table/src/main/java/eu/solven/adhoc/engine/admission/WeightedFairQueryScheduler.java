@@ -0,0 +1,476 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.admission;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.base.Ticker;
+
+import eu.solven.adhoc.engine.cancel.CancelledQueryException;
+import eu.solven.adhoc.engine.observability.AdhocQueryMonitor;
+import eu.solven.adhoc.eventbus.AdhocEventBusHelpersUnsafe;
+import eu.solven.adhoc.eventbus.IAdhocEventBus;
+import eu.solven.adhoc.eventbus.QueryLifecycleEvent;
+import eu.solven.adhoc.measure.AdhocBlackHole;
+import eu.solven.adhoc.query.AdhocQueryId;
+import eu.solven.adhoc.table.IQueryPod;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An {@link IQueryAdmission} admitting queries against a CPU budget (a maximum number of running queries) and a memory
+ * budget (the estimated bytes of running queries, and the heap usage).
+ * 
+ * Excess queries are queued in one flow per principal, cube and {@link QueryPriority}. Flows are served with stride
+ * scheduling: each flow receives admissions proportionally to the weight of its {@link QueryPriority}, and a principal
+ * submitting many queries does not delay the queries of other principals.
+ * 
+ * A queued query is rejected with a {@link QueryRejectedException} if the queue is full, or if it is not admitted
+ * after `maxQueueDuration`.
+ * 
+ * @author Benoit Lacelle
+ */
+@Builder
+@Slf4j
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class WeightedFairQueryScheduler implements IQueryAdmission {
+	// Each admission moves a flow forward by `STRIDE / weight`
+	private static final long STRIDE = 1L << 20;
+
+	// Before any query completes, we assume a query lasts this long
+	private static final Duration DEFAULT_RUN_DURATION = Duration.ofSeconds(1);
+
+	/**
+	 * CPU budget: the maximum number of concurrently running queries.
+	 */
+	@Default
+	final int maxRunning = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Memory budget: the maximum sum of the estimated bytes of running queries.
+	 */
+	@Default
+	final long maxRunningBytes = Long.MAX_VALUE;
+
+	/**
+	 * Estimates the bytes retained by a query during its execution. Defaults to 0, i.e. the memory budget is not
+	 * considered.
+	 */
+	@NonNull
+	@Default
+	final ToLongFunction<IQueryPod> memoryEstimator = _ -> 0L;
+
+	/**
+	 * Memory budget: no additional query is admitted while the used heap is above this ratio of the max heap.
+	 */
+	@Default
+	final double maxHeapRatio = 1D;
+
+	/**
+	 * Fairness: the head query of the flow with the lowest pass, if it does not fit the memory budget, may be bypassed
+	 * this many times by the queries of other flows. Then, memory is reserved for it: other flows are admitted only if
+	 * they leave room for it, so that it is not starved by a stream of smaller queries.
+	 */
+	@Default
+	final int maxBypasses = 16;
+
+	/**
+	 * Above this number of queued queries, additional queries are rejected.
+	 */
+	@Default
+	final int maxQueued = 1024;
+
+	@NonNull
+	@Default
+	final Duration maxQueueDuration = Duration.ofMinutes(1);
+
+	@NonNull
+	@Default
+	final IAdhocEventBus eventBus = AdhocEventBusHelpersUnsafe.safeWrapper(AdhocBlackHole.getInstance());
+
+	@NonNull
+	@Default
+	final Ticker ticker = Ticker.systemTicker();
+
+	// Guarded by `flows`
+	final Map<FlowKey, Flow> flows = new LinkedHashMap<>();
+	final State state = new State();
+
+	/**
+	 * The flow of queries submitted by a principal on a cube with a given priority.
+	 */
+	protected record FlowKey(String principal, String cube, QueryPriority priority) {
+	}
+
+	/**
+	 * The queued queries of a {@link FlowKey}.
+	 */
+	protected static final class Flow {
+		final Deque<Waiter> waiters = new ArrayDeque<>();
+		final long stride;
+		long pass;
+
+		Flow(QueryPriority priority, long pass) {
+			this.stride = STRIDE / priority.getWeight();
+			this.pass = pass;
+		}
+	}
+
+	/**
+	 * Lifecycle of a {@link Waiter}.
+	 */
+	protected enum WaiterState {
+		QUEUED, ADMITTED, CANCELLED,
+	}
+
+	/**
+	 * A query waiting for admission.
+	 */
+	protected static final class Waiter {
+		final FlowKey flowKey;
+		final long estimatedBytes;
+		final long queuedNanos;
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		// Guarded by `flows`
+		WaiterState waiterState = WaiterState.QUEUED;
+		// Guarded by `flows`. The number of queries admitted while this query was the head of the lowest pass flow
+		int nbBypassed;
+
+		Waiter(FlowKey flowKey, long estimatedBytes, long queuedNanos) {
+			this.flowKey = flowKey;
+			this.estimatedBytes = estimatedBytes;
+			this.queuedNanos = queuedNanos;
+		}
+	}
+
+	/**
+	 * Mutable counters. Guarded by `flows`.
+	 */
+	protected static final class State {
+		int nbRunning;
+		int nbQueued;
+		long runningBytes;
+		// The pass of the latest admitted flow: a newly active flow starts from it, so it gains no credit from its
+		// idle period
+		long virtualTime;
+
+		long nbAdmitted;
+		long nbRejected;
+		long nbCancelled;
+		long totalQueueNanos;
+		long maxQueueNanos;
+		long avgRunNanos = DEFAULT_RUN_DURATION.toNanos();
+	}
+
+	@Override
+	public IAdmissionTicket admit(IQueryPod queryPod) {
+		AdhocQueryId queryId = queryPod.getQueryId();
+		FlowKey flowKey = new FlowKey(queryId.getPrincipal(), queryId.getCube(), queryId.getPriority());
+		long estimatedBytes = Math.max(0L, memoryEstimator.applyAsLong(queryPod));
+
+		Waiter waiter = new Waiter(flowKey, estimatedBytes, ticker.read());
+		synchronized (flows) {
+			if (state.nbQueued == 0 && canRun(estimatedBytes)) {
+				// Fast-track: nobody is waiting
+				onAdmitted(waiter);
+				return makeTicket(waiter);
+			} else if (state.nbQueued >= maxQueued) {
+				state.nbRejected++;
+				throw new QueryRejectedException(
+						"Too many queued queries (%s) for queryId=%s".formatted(state.nbQueued, queryId.getQueryId()),
+						estimateRetryAfter());
+			}
+
+			enqueue(waiter);
+			// The query may fit in the budgets even though the head of another flow does not
+			dispatch();
+		}
+
+		post(queryPod, AdhocQueryMonitor.TAG_QUERY_QUEUED);
+		log.debug("Queued queryId={} in flow={}", queryId.getQueryId(), flowKey);
+
+		Runnable onCancellation = () -> cancelWaiting(waiter);
+		queryPod.addCancellationListener(onCancellation);
+		try {
+			if (!waiter.latch.await(maxQueueDuration.toNanos(), TimeUnit.NANOSECONDS)) {
+				log.debug("Admission timeout for queryId={}", queryId.getQueryId());
+			}
+			return onWaited(queryPod, waiter);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancelWaiting(waiter);
+			// We may have been admitted concurrently
+			releaseIfAdmitted(waiter);
+			throw new CancelledQueryException("Interrupted while waiting for admission");
+		} finally {
+			queryPod.removeCancellationListener(onCancellation);
+		}
+	}
+
+	protected IAdmissionTicket onWaited(IQueryPod queryPod, Waiter waiter) {
+		WaiterState waiterState;
+		Duration retryAfter = Duration.ZERO;
+		synchronized (flows) {
+			waiterState = waiter.waiterState;
+			if (waiterState == WaiterState.QUEUED) {
+				// Timeout
+				dequeue(waiter);
+				state.nbRejected++;
+				retryAfter = estimateRetryAfter();
+				// The timed-out query may have been the head blocking its flow
+				dispatch();
+			}
+		}
+
+		if (waiterState == WaiterState.ADMITTED) {
+			post(queryPod, AdhocQueryMonitor.TAG_QUERY_ADMITTED);
+			return makeTicket(waiter);
+		}
+
+		post(queryPod, AdhocQueryMonitor.TAG_QUERY_REJECTED);
+		if (waiterState == WaiterState.CANCELLED) {
+			throw new CancelledQueryException("Cancelled while waiting for admission");
+		} else {
+			throw new QueryRejectedException("Not admitted after %s for queryId=%s".formatted(maxQueueDuration,
+					queryPod.getQueryId().getQueryId()), retryAfter);
+		}
+	}
+
+	protected void enqueue(Waiter waiter) {
+		Flow flow = flows.computeIfAbsent(waiter.flowKey, k -> new Flow(k.priority(), state.virtualTime));
+		flow.waiters.addLast(waiter);
+		state.nbQueued++;
+	}
+
+	protected void dequeue(Waiter waiter) {
+		Flow flow = flows.get(waiter.flowKey);
+		if (flow != null && flow.waiters.remove(waiter)) {
+			state.nbQueued--;
+			if (flow.waiters.isEmpty()) {
+				flows.remove(waiter.flowKey);
+			}
+		}
+	}
+
+	protected void cancelWaiting(Waiter waiter) {
+		synchronized (flows) {
+			if (waiter.waiterState != WaiterState.QUEUED) {
+				return;
+			}
+			dequeue(waiter);
+			waiter.waiterState = WaiterState.CANCELLED;
+			state.nbCancelled++;
+			// The cancelled query may have been the head blocking its flow
+			dispatch();
+		}
+		waiter.latch.countDown();
+	}
+
+	protected void releaseIfAdmitted(Waiter waiter) {
+		boolean isAdmitted;
+		synchronized (flows) {
+			isAdmitted = waiter.waiterState == WaiterState.ADMITTED;
+		}
+		if (isAdmitted) {
+			release(waiter);
+		}
+	}
+
+	protected boolean canRun(long estimatedBytes) {
+		if (state.nbRunning == 0) {
+			// Always admit a query if nothing is running, else a query larger than the budget would never run
+			return true;
+		}
+		return state.nbRunning < maxRunning && state.runningBytes + estimatedBytes <= maxRunningBytes
+				&& !isHeapPressure();
+	}
+
+	protected boolean isHeapPressure() {
+		if (maxHeapRatio >= 1D) {
+			return false;
+		}
+		Runtime runtime = Runtime.getRuntime();
+		long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+		return usedHeap > maxHeapRatio * runtime.maxMemory();
+	}
+
+	protected void onAdmitted(Waiter waiter) {
+		waiter.waiterState = WaiterState.ADMITTED;
+		state.nbRunning++;
+		state.runningBytes += waiter.estimatedBytes;
+		state.nbAdmitted++;
+
+		long queueNanos = ticker.read() - waiter.queuedNanos;
+		state.totalQueueNanos += queueNanos;
+		state.maxQueueNanos = Math.max(state.maxQueueNanos, queueNanos);
+	}
+
+	/**
+	 * Admits queued queries while the budgets allow it. Amongst the flows whose head query fits in the budgets, the flow
+	 * with the lowest pass is served first: a head query too large for the remaining budget does not block the other
+	 * flows, until it has been bypassed `maxBypasses` times.
+	 */
+	// guarded by `flows`
+	protected void dispatch() {
+		while (state.nbQueued > 0) {
+			Flow flow = pickFlow();
+			if (flow == null) {
+				// No head query fits in the budgets
+				break;
+			}
+			Waiter head = flow.waiters.getFirst();
+
+			dequeue(head);
+			state.virtualTime = flow.pass;
+			flow.pass += flow.stride;
+			onAdmitted(head);
+			head.latch.countDown();
+		}
+	}
+
+	/**
+	 * 
+	 * @return the {@link Flow} with the lowest pass if its head query can run. Else, the {@link Flow} with the lowest
+	 *         pass amongst the flows whose head query can run beside the memory reserved for the lowest pass flow, or
+	 *         null if none can run.
+	 */
+	protected @Nullable Flow pickFlow() {
+		Flow lowest = null;
+		for (Flow flow : flows.values()) {
+			if (lowest == null || flow.pass < lowest.pass) {
+				lowest = flow;
+			}
+		}
+		if (lowest == null) {
+			return null;
+		}
+
+		Waiter lowestHead = lowest.waiters.getFirst();
+		if (canRun(lowestHead.estimatedBytes)) {
+			return lowest;
+		}
+
+		long reservedBytes;
+		if (lowestHead.nbBypassed >= maxBypasses) {
+			reservedBytes = lowestHead.estimatedBytes;
+		} else {
+			reservedBytes = 0L;
+		}
+
+		Flow picked = null;
+		for (Flow flow : flows.values()) {
+			if (flow != lowest && (picked == null || flow.pass < picked.pass)
+					&& canRunBeside(flow.waiters.getFirst().estimatedBytes, reservedBytes)) {
+				picked = flow;
+			}
+		}
+		if (picked != null) {
+			lowestHead.nbBypassed++;
+		}
+		return picked;
+	}
+
+	/**
+	 * 
+	 * @param estimatedBytes
+	 * @param reservedBytes
+	 *            the memory reserved for a query not running yet.
+	 * @return true if a query can run, while leaving reservedBytes of the memory budget.
+	 */
+	protected boolean canRunBeside(long estimatedBytes, long reservedBytes) {
+		if (reservedBytes == 0L) {
+			return canRun(estimatedBytes);
+		}
+		return state.nbRunning < maxRunning && estimatedBytes <= maxRunningBytes - state.runningBytes - reservedBytes
+				&& !isHeapPressure();
+	}
+
+	protected IAdmissionTicket makeTicket(Waiter waiter) {
+		long admittedNanos = ticker.read();
+		AtomicBoolean released = new AtomicBoolean();
+
+		return () -> {
+			if (released.compareAndSet(false, true)) {
+				synchronized (flows) {
+					long runNanos = ticker.read() - admittedNanos;
+					// Exponentially-weighted moving average
+					state.avgRunNanos = (state.avgRunNanos * 7 + runNanos) / 8;
+				}
+				release(waiter);
+			}
+		};
+	}
+
+	protected void release(Waiter waiter) {
+		synchronized (flows) {
+			state.nbRunning--;
+			state.runningBytes -= waiter.estimatedBytes;
+			dispatch();
+		}
+	}
+
+	/**
+	 * 
+	 * @return an estimation of the delay before the queue can accept a new query.
+	 */
+	protected Duration estimateRetryAfter() {
+		long nbWaves = state.nbQueued / Math.max(1, maxRunning) + 1;
+		return Duration.ofNanos(state.avgRunNanos * nbWaves);
+	}
+
+	protected void post(IQueryPod queryPod, String tag) {
+		eventBus.post(QueryLifecycleEvent.builder()
+				.query(queryPod)
+				.tag(AdhocQueryMonitor.TAG_QUERY_LIFECYCLE)
+				.tag(tag)
+				.build());
+	}
+
+	public QueryAdmissionStats getStats() {
+		synchronized (flows) {
+			return QueryAdmissionStats.builder()
+					.nbRunning(state.nbRunning)
+					.nbQueued(state.nbQueued)
+					.runningBytes(state.runningBytes)
+					.nbAdmitted(state.nbAdmitted)
+					.nbRejected(state.nbRejected)
+					.nbCancelledWhileQueued(state.nbCancelled)
+					.totalQueueDuration(Duration.ofNanos(state.totalQueueNanos))
+					.maxQueueDuration(Duration.ofNanos(state.maxQueueNanos))
+					.build();
+		}
+	}
+}
@@ -0,0 +1,286 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Ints;
+
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.column.Cuboid;
+import eu.solven.adhoc.dataframe.column.hash.MultitypeHashMergeableColumn;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.measure.aggregation.IAggregation;
+import eu.solven.adhoc.measure.aggregation.comparable.MaxAggregation;
+import eu.solven.adhoc.measure.aggregation.comparable.MinAggregation;
+import eu.solven.adhoc.measure.operator.IOperatorFactory;
+import eu.solven.adhoc.measure.operator.StandardOperatorFactory;
+import eu.solven.adhoc.measure.sum.CountAggregation;
+import eu.solven.adhoc.measure.sum.EmptyAggregation;
+import eu.solven.adhoc.measure.sum.SumAggregation;
+import eu.solven.adhoc.model.measure.Aggregator;
+import eu.solven.adhoc.table.IHasAppendDeltas;
+import eu.solven.adhoc.table.ITableWrapper;
+import eu.solven.adhoc.util.IHasCache;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link IQueryStepCache} over a table to which rows are only appended ({@link IHasAppendDeltas}). On
+ * {@link #refresh()}, the cached {@link Aggregator} cuboids are not dropped, but merged with the cuboids computed over
+ * the appended rows only: it is valid for aggregations like `SUM`, `COUNT`, `MIN` and `MAX`, for which aggregating the
+ * previous aggregate with the aggregate of the appended rows gives the aggregate of all rows.
+ * 
+ * Other steps (e.g. transformators, or aggregators like `AVG` or `RANK`) are dropped, and will be recomputed from the
+ * refreshed aggregator cuboids.
+ * 
+ * Each cuboid is cached with the watermark of the table it has been computed at, and only the rows appended after it
+ * are merged on {@link #refresh()}. As the table is read by the query after the cache lookup, and before the cuboid is
+ * pushed, a cuboid is cached only if the watermark did not move between the lookup and the push: else, the rows read
+ * by the query are unknown. Hence {@link IHasAppendDeltas#getWatermark()} is called on each cache miss and push.
+ * Concurrent queries missing the same step are covered by the lowest of their lookup watermarks.
+ * 
+ * @author Benoit Lacelle
+ */
+@Builder
+@Slf4j
+public class AppendAwareQueryStepCache implements IQueryStepCache, IHasCache {
+	public static final Set<String> DEFAULT_MERGEABLE_AGGREGATIONS = ImmutableSet.of(SumAggregation.KEY,
+			CountAggregation.KEY,
+			MinAggregation.KEY,
+			MaxAggregation.KEY,
+			EmptyAggregation.KEY);
+
+	// Steps missed but not pushed yet (e.g. failed queries) are eventually forgotten
+	private static final int MAXIMUM_PENDING_LOOKUPS = 16 * 1024;
+
+	@NonNull
+	final IHasAppendDeltas table;
+
+	@NonNull
+	final IAppendDeltaEvaluator deltaEvaluator;
+
+	@NonNull
+	@Default
+	final IOperatorFactory operatorFactory = StandardOperatorFactory.builder().build();
+
+	@NonNull
+	@Default
+	final Set<String> mergeableAggregations = DEFAULT_MERGEABLE_AGGREGATIONS;
+
+	@Default
+	final long maximumBytes = CostAwareQueryStepCache.DEFAULT_MAXIMUM_BYTES;
+
+	@NonNull
+	@Default
+	final ICuboidSizeEstimator sizeEstimator = new StandardCuboidSizeEstimator();
+
+	// Lazily initialized, as it depends on `maximumBytes`
+	final Supplier<Cache<CubeQueryStep, WatermarkedCuboid>> stepToCuboid = Suppliers.memoize(this::makeCache);
+
+	// The lowest watermark at which each missed step has been looked up, by the queries which will push it
+	final Cache<CubeQueryStep, Long> stepToLookupWatermark =
+			CacheBuilder.newBuilder().maximumSize(MAXIMUM_PENDING_LOOKUPS).build();
+
+	final LongAdder hitCount = new LongAdder();
+	final LongAdder missCount = new LongAdder();
+	final LongAdder rejectionCount = new LongAdder();
+	final LongAdder mergeCount = new LongAdder();
+	final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * An entry of the cache.
+	 * 
+	 * @param watermark
+	 *            the watermark of the table when the cuboid has been computed.
+	 * @param bytes
+	 *            the estimated heap footprint of the cuboid.
+	 */
+	protected record WatermarkedCuboid(ICuboid cuboid, long watermark, long bytes) {
+	}
+
+	protected Cache<CubeQueryStep, WatermarkedCuboid> makeCache() {
+		return CacheBuilder.newBuilder()
+				.maximumWeight(maximumBytes)
+				.<CubeQueryStep, WatermarkedCuboid>weigher((step, cached) -> Ints.saturatedCast(cached.bytes()))
+				.<CubeQueryStep, WatermarkedCuboid>removalListener(notification -> {
+					if (notification.wasEvicted()) {
+						evictionCount.increment();
+					}
+				})
+				.build();
+	}
+
+	protected ConcurrentMap<CubeQueryStep, WatermarkedCuboid> asMap() {
+		return stepToCuboid.get().asMap();
+	}
+
+	@Override
+	public Optional<ICuboid> getValue(CubeQueryStep step) {
+		WatermarkedCuboid cached = asMap().get(step);
+		if (cached == null) {
+			// The table is read after this lookup: if the watermark did not move when the cuboid is pushed, the cuboid
+			// has been computed at this watermark
+			stepToLookupWatermark.asMap().merge(step, table.getWatermark(), Math::min);
+			missCount.increment();
+			return Optional.empty();
+		} else {
+			hitCount.increment();
+			return Optional.of(cached.cuboid());
+		}
+	}
+
+	@Override
+	public void pushValues(Map<CubeQueryStep, ICuboid> queryStepToValues) {
+		// Fetched at most once, as it may be a query to the table
+		Supplier<Long> currentWatermark = Suppliers.memoize(table::getWatermark);
+
+		queryStepToValues.forEach((step, cuboid) -> {
+			Long lookupWatermark = stepToLookupWatermark.asMap().remove(step);
+			if (lookupWatermark == null) {
+				log.trace("Skip step={} as it has not been looked-up", step);
+				rejectionCount.increment();
+			} else if (lookupWatermark != currentWatermark.get().longValue()) {
+				log.debug("Skip step={} as rows have been appended while it was computed", step);
+				rejectionCount.increment();
+			} else {
+				long bytes = sizeEstimator.estimateBytes(cuboid);
+				stepToCuboid.get().put(step, new WatermarkedCuboid(cuboid, lookupWatermark, bytes));
+			}
+		});
+	}
+
+	/**
+	 * Catch up with the rows appended since each cuboid has been computed.
+	 */
+	public synchronized void refresh() {
+		long currentWatermark = table.getWatermark();
+
+		// Cuboids computed at the same watermark are merged with the same appended rows
+		Map<Long, Map<CubeQueryStep, IAggregation>> watermarkToMergeableSteps = new TreeMap<>();
+		asMap().forEach((step, cached) -> {
+			if (cached.watermark() == currentWatermark) {
+				return;
+			}
+
+			Optional<IAggregation> optAggregation = getMergeableAggregation(step);
+			if (optAggregation.isPresent() && cached.watermark() < currentWatermark) {
+				watermarkToMergeableSteps.computeIfAbsent(cached.watermark(), k -> new LinkedHashMap<>())
+						.put(step, optAggregation.get());
+			} else if (asMap().remove(step, cached)) {
+				// Either not mergeable, or the table is not append-only (e.g. it has been truncated)
+				evictionCount.increment();
+			}
+		});
+
+		watermarkToMergeableSteps.forEach((fromWatermark, mergeableSteps) -> {
+			ITableWrapper appendedRows = table.getAppendDelta(fromWatermark, currentWatermark);
+			Map<CubeQueryStep, ICuboid> stepToDelta = deltaEvaluator.evaluate(appendedRows, mergeableSteps.keySet());
+
+			mergeableSteps.forEach((step, aggregation) -> {
+				WatermarkedCuboid cached = asMap().get(step);
+				ICuboid delta = stepToDelta.get(step);
+				if (cached == null || cached.watermark() != fromWatermark) {
+					log.trace("step={} has been modified concurrently", step);
+				} else if (delta == null) {
+					log.debug("No delta for step={}", step);
+					if (asMap().remove(step, cached)) {
+						evictionCount.increment();
+					}
+				} else {
+					ICuboid merged = merge(cached.cuboid(), delta, aggregation);
+					WatermarkedCuboid refreshed =
+							new WatermarkedCuboid(merged, currentWatermark, sizeEstimator.estimateBytes(merged));
+					if (asMap().replace(step, cached, refreshed)) {
+						mergeCount.increment();
+					}
+				}
+			});
+
+			log.debug("Refreshed from watermark={} to watermark={} merging {} cuboids",
+					fromWatermark,
+					currentWatermark,
+					mergeableSteps.size());
+		});
+	}
+
+	/**
+	 * 
+	 * @param step
+	 * @return the {@link IAggregation} to merge the cached cuboid with the cuboid of the appended rows, or empty if
+	 *         this step has to be recomputed from scratch.
+	 */
+	protected Optional<IAggregation> getMergeableAggregation(CubeQueryStep step) {
+		if (step.getMeasure() instanceof Aggregator aggregator
+				&& mergeableAggregations.contains(aggregator.getAggregationKey())) {
+			return Optional.of(operatorFactory.makeAggregation(aggregator));
+		} else {
+			return Optional.empty();
+		}
+	}
+
+	protected ICuboid merge(ICuboid cached, ICuboid delta, IAggregation aggregation) {
+		MultitypeHashMergeableColumn<ISlice> merged = MultitypeHashMergeableColumn.<ISlice>builder()
+				.aggregation(aggregation)
+				.capacity(Math.toIntExact(cached.size() + delta.size()))
+				.build();
+
+		cached.stream().forEach(s -> s.getValueProvider().acceptReceiver(merged.merge(s.getSlice())));
+		delta.stream().forEach(s -> s.getValueProvider().acceptReceiver(merged.merge(s.getSlice())));
+
+		return Cuboid.builder().columns(cached.getColumns()).values(merged).build();
+	}
+
+	public QueryStepCacheStats getStats() {
+		return QueryStepCacheStats.builder()
+				.hitCount(hitCount.sum())
+				.missCount(missCount.sum())
+				.evictionCount(evictionCount.sum())
+				.rejectionCount(rejectionCount.sum())
+				.mergeCount(mergeCount.sum())
+				.heapBytes(asMap().values().stream().mapToLong(WatermarkedCuboid::bytes).sum())
+				.heapEntries(asMap().size())
+				.build();
+	}
+
+	@Override
+	public void invalidateAll() {
+		stepToLookupWatermark.invalidateAll();
+		evictionCount.add(asMap().size());
+		asMap().clear();
+	}
+}
@@ -0,0 +1,361 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.engine.observability.SizeAndDuration;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.util.IHasCache;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link IQueryStepCache} weighing each {@link ICuboid} by its estimated retained bytes, and retaining in priority
+ * the cuboids which would be the slowest to recompute.
+ * 
+ * The value of an entry is its computation time (as reported by the {@link SizeAndDuration} given to
+ * {@link #pushValue(CubeQueryStep, ICuboid, SizeAndDuration)}) times its recent popularity (estimated by a
+ * {@link CountMinFrequencySketch}, TinyLFU-style). When the heap budget is exceeded, the entries with the lowest value
+ * per byte are evicted first, and a pushed cuboid is admitted only if it is worth more than the entries it would evict.
+ * This prevents a cheap but large cuboid from flushing many smaller cuboids which were slow to compute.
+ * 
+ * Optionally, cuboids evicted from the heap are spilled through a {@link ICuboidSpillStore} (e.g. into direct memory or
+ * memory-mapped files), up to a second budget.
+ * 
+ * @author Benoit Lacelle
+ */
+@Builder
+@Slf4j
+public class CostAwareQueryStepCache implements IQueryStepCache, IHasCache {
+	public static final long DEFAULT_MAXIMUM_BYTES = 256L * 1024 * 1024;
+
+	@Default
+	long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+
+	// Cuboids computed faster than this are not worth caching
+	@NonNull
+	@Default
+	Duration minimumCost = Duration.ZERO;
+
+	@NonNull
+	@Default
+	ICuboidSizeEstimator sizeEstimator = new StandardCuboidSizeEstimator();
+
+	@NonNull
+	@Default
+	ICuboidSpillStore spillStore = ICuboidSpillStore.none();
+
+	// `0` disables spilling
+	@Default
+	long maximumSpilledBytes = 0L;
+
+	@NonNull
+	@Default
+	CountMinFrequencySketch frequencySketch = new CountMinFrequencySketch(1024);
+
+	// Reads of on-heap entries are lock-free, while mutations and reads of spilled entries are guarded by `this`
+	final Map<CubeQueryStep, CachedCuboid> stepToCached = new ConcurrentHashMap<>();
+	final AtomicLong heapBytes = new AtomicLong();
+	final AtomicLong spilledBytes = new AtomicLong();
+
+	final LongAdder hitCount = new LongAdder();
+	final LongAdder missCount = new LongAdder();
+	final LongAdder rejectionCount = new LongAdder();
+	final LongAdder evictionCount = new LongAdder();
+	final LongAdder evictedCostNanos = new LongAdder();
+	final LongAdder spillCount = new LongAdder();
+
+	/**
+	 * An entry of the cache: either an on-heap {@link ICuboid}, or a spilled one.
+	 * 
+	 * @param bytes
+	 *            the estimated heap footprint for an on-heap entry, the off-heap footprint for a spilled entry.
+	 * @param costNanos
+	 *            the time it took to compute the cuboid.
+	 */
+	protected record CachedCuboid(@Nullable ICuboid cuboid,
+			ICuboidSpillStore.@Nullable ISpilledCuboid spilled,
+			long bytes,
+			long costNanos) {
+
+		boolean isSpilled() {
+			return spilled != null;
+		}
+
+		ICuboid load() {
+			if (spilled != null) {
+				return spilled.load();
+			} else if (cuboid != null) {
+				return cuboid;
+			} else {
+				throw new IllegalStateException("Neither on-heap nor spilled");
+			}
+		}
+	}
+
+	public static CostAwareQueryStepCache withMaximumBytes(long maximumBytes) {
+		return CostAwareQueryStepCache.builder().maximumBytes(maximumBytes).build();
+	}
+
+	@Override
+	public Optional<ICuboid> getValue(CubeQueryStep step) {
+		// Misses are recorded too: a step requested often is worth being admitted once computed
+		frequencySketch.increment(step);
+
+		CachedCuboid cached = stepToCached.get(step);
+		if (cached == null) {
+			missCount.increment();
+			return Optional.empty();
+		} else if (cached.isSpilled()) {
+			return loadSpilled(step);
+		} else {
+			hitCount.increment();
+			return Optional.of(cached.load());
+		}
+	}
+
+	/**
+	 * A spilled entry is loaded under the same lock as the mutations, as an eviction releases (e.g. unmaps) its backing
+	 * storage: loading it concurrently would read released memory.
+	 */
+	protected synchronized Optional<ICuboid> loadSpilled(CubeQueryStep step) {
+		// Re-read under the lock, as the entry may have been evicted or replaced in the meantime
+		CachedCuboid cached = stepToCached.get(step);
+		if (cached == null) {
+			missCount.increment();
+			return Optional.empty();
+		} else {
+			hitCount.increment();
+			return Optional.of(cached.load());
+		}
+	}
+
+	@Override
+	public void pushValue(CubeQueryStep step, ICuboid value, @Nullable SizeAndDuration sizeAndDuration) {
+		long costNanos;
+		if (sizeAndDuration == null) {
+			costNanos = 0L;
+		} else {
+			costNanos = sizeAndDuration.getDuration().toNanos();
+		}
+
+		if (costNanos < minimumCost.toNanos()) {
+			log.trace("Skip caching step={} as cost={}ns is lower than minimumCost={}", step, costNanos, minimumCost);
+			rejectionCount.increment();
+			return;
+		}
+
+		// At least 1 byte, so that the density is always defined
+		long bytes = Math.max(1L, sizeEstimator.estimateBytes(value));
+		CachedCuboid candidate = new CachedCuboid(value, null, bytes, costNanos);
+
+		synchronized (this) {
+			admit(step, candidate);
+		}
+	}
+
+	@Override
+	public void pushValues(Map<CubeQueryStep, ICuboid> queryStepToValues) {
+		queryStepToValues.forEach((step, cuboid) -> pushValue(step, cuboid, null));
+	}
+
+	// guarded by `this`
+	protected void admit(CubeQueryStep step, CachedCuboid candidate) {
+		CachedCuboid previous = stepToCached.remove(step);
+		if (previous != null) {
+			// The new cuboid replaces the previous one
+			unaccount(previous);
+			release(previous);
+		}
+
+		long excessBytes = heapBytes.get() + candidate.bytes() - maximumBytes;
+		if (excessBytes <= 0) {
+			// The candidate fits in the heap budget
+			putOnHeap(step, candidate);
+		} else if (candidate.bytes() > maximumBytes) {
+			// The candidate would not fit even in an empty cache
+			rejectionCount.increment();
+			spillElseDrop(step, candidate, false);
+		} else {
+			List<Victim> victims = selectVictims(false, excessBytes);
+			double victimsValue = victims.stream().mapToDouble(victim -> value(victim.step(), victim.cached())).sum();
+
+			if (value(step, candidate) >= victimsValue) {
+				// The candidate is worth more than the entries it evicts
+				victims.forEach(victim -> {
+					stepToCached.remove(victim.step());
+					unaccount(victim.cached());
+					spillElseDrop(victim.step(), victim.cached(), true);
+				});
+				putOnHeap(step, candidate);
+			} else {
+				// The candidate is worth less than the entries it would evict: keep the existing entries
+				rejectionCount.increment();
+				spillElseDrop(step, candidate, false);
+			}
+		}
+	}
+
+	protected void putOnHeap(CubeQueryStep step, CachedCuboid cached) {
+		stepToCached.put(step, cached);
+		heapBytes.addAndGet(cached.bytes());
+	}
+
+	// guarded by `this`
+	protected void spillElseDrop(CubeQueryStep step, CachedCuboid cached, boolean wasCached) {
+		Optional<CachedCuboid> optSpilled = Optional.empty();
+		if (cached.bytes() <= maximumSpilledBytes && cached.cuboid() != null) {
+			optSpilled = spillStore.spill(cached.cuboid())
+					.map(spilled -> new CachedCuboid(null, spilled, spilled.getSpilledBytes(), cached.costNanos()));
+		}
+
+		if (optSpilled.isPresent() && optSpilled.get().bytes() <= maximumSpilledBytes) {
+			CachedCuboid spilled = optSpilled.get();
+
+			long excessBytes = spilledBytes.get() + spilled.bytes() - maximumSpilledBytes;
+			if (excessBytes > 0) {
+				// The spill region is full: the spilled entries with the lowest value per byte are dropped
+				selectVictims(true, excessBytes).forEach(victim -> {
+					stepToCached.remove(victim.step());
+					unaccount(victim.cached());
+					drop(victim.cached());
+				});
+			}
+
+			stepToCached.put(step, spilled);
+			spilledBytes.addAndGet(spilled.bytes());
+			spillCount.increment();
+		} else {
+			// Not spillable: the cuboid leaves the cache
+			optSpilled.ifPresent(this::release);
+			if (wasCached) {
+				drop(cached);
+			}
+		}
+	}
+
+	protected void drop(CachedCuboid cached) {
+		evictionCount.increment();
+		evictedCostNanos.add(cached.costNanos());
+		release(cached);
+	}
+
+	protected void release(CachedCuboid cached) {
+		ICuboidSpillStore.ISpilledCuboid spilled = cached.spilled();
+		if (spilled != null) {
+			spilled.release();
+		}
+	}
+
+	protected void unaccount(CachedCuboid cached) {
+		if (cached.isSpilled()) {
+			spilledBytes.addAndGet(-cached.bytes());
+		} else {
+			heapBytes.addAndGet(-cached.bytes());
+		}
+	}
+
+	/**
+	 * A candidate for eviction.
+	 */
+	protected record Victim(CubeQueryStep step, CachedCuboid cached, double density) {
+	}
+
+	/**
+	 * 
+	 * @param spilled
+	 *            true if the victims are to be found amongst the spilled entries, else amongst the on-heap entries.
+	 * @param excessBytes
+	 * @return the entries with the lowest value per byte, whose cumulated bytes cover the excess.
+	 */
+	protected List<Victim> selectVictims(boolean spilled, long excessBytes) {
+		// Densities are computed once, as the frequencies may change concurrently while sorting
+		List<Victim> candidates = stepToCached.entrySet()
+				.stream()
+				.filter(e -> e.getValue().isSpilled() == spilled)
+				.map(e -> new Victim(e.getKey(), e.getValue(), value(e.getKey(), e.getValue()) / e.getValue().bytes()))
+				.sorted(Comparator.comparingDouble(Victim::density))
+				.toList();
+
+		List<Victim> victims = new ArrayList<>();
+		long freedBytes = 0;
+		for (Victim candidate : candidates) {
+			if (freedBytes >= excessBytes) {
+				break;
+			}
+			victims.add(candidate);
+			freedBytes += candidate.cached().bytes();
+		}
+		return victims;
+	}
+
+	/**
+	 * 
+	 * @return the expected computation time saved by retaining this entry.
+	 */
+	protected double value(CubeQueryStep step, CachedCuboid cached) {
+		// `+1` so that a never-requested entry still has a value related to its cost
+		int frequency = frequencySketch.frequency(step) + 1;
+		// `+1` so that entries with an unknown cost are still ordered by popularity
+		return (double) frequency * (cached.costNanos() + 1);
+	}
+
+	public QueryStepCacheStats getStats() {
+		long spilledEntries = stepToCached.values().stream().filter(CachedCuboid::isSpilled).count();
+
+		return QueryStepCacheStats.builder()
+				.hitCount(hitCount.sum())
+				.missCount(missCount.sum())
+				.rejectionCount(rejectionCount.sum())
+				.evictionCount(evictionCount.sum())
+				.evictedCostNanos(evictedCostNanos.sum())
+				.spillCount(spillCount.sum())
+				.heapBytes(heapBytes.get())
+				.spilledBytes(spilledBytes.get())
+				.heapEntries(stepToCached.size() - spilledEntries)
+				.spilledEntries(spilledEntries)
+				.build();
+	}
+
+	@Override
+	public synchronized void invalidateAll() {
+		stepToCached.values().forEach(this::release);
+		stepToCached.clear();
+		heapBytes.set(0);
+		spilledBytes.set(0);
+	}
+}
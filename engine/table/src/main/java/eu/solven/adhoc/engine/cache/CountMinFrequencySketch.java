@@ -0,0 +1,108 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import com.google.common.math.IntMath;
+
+/**
+ * A Count-Min sketch estimating the popularity of keys, as used by TinyLFU admission policies: it remembers how often
+ * a key has been requested, including keys which are not (or not anymore) in the cache.
+ * 
+ * Counters saturate at {@value #MAX_COUNT}, and are all halved once the number of increments reaches the sample size,
+ * so that old popularity fades away.
+ * 
+ * @author Benoit Lacelle
+ */
+public class CountMinFrequencySketch {
+	protected static final int DEPTH = 4;
+	protected static final int MAX_COUNT = 15;
+
+	// Odd constants spreading the hash differently for each row
+	private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+
+	protected final int width;
+	protected final int[] counters;
+	protected final int sampleSize;
+
+	// guarded by `this`
+	protected int nbIncrements;
+
+	/**
+	 * 
+	 * @param expectedKeys
+	 *            the number of distinct keys expected to be tracked concurrently. It drives the accuracy of the sketch.
+	 */
+	public CountMinFrequencySketch(int expectedKeys) {
+		this.width = IntMath.ceilingPowerOfTwo(Math.max(16, expectedKeys));
+		this.counters = new int[DEPTH * width];
+		this.sampleSize = 10 * width;
+	}
+
+	public synchronized void increment(Object key) {
+		int hash = key.hashCode();
+
+		boolean incremented = false;
+		for (int row = 0; row < DEPTH; row++) {
+			int index = indexOf(hash, row);
+			if (counters[index] < MAX_COUNT) {
+				counters[index]++;
+				incremented = true;
+			}
+		}
+
+		if (incremented && ++nbIncrements >= sampleSize) {
+			reset();
+		}
+	}
+
+	/**
+	 * 
+	 * @param key
+	 * @return the estimated number of recent increments for given key. It may over-estimate, never under-estimate.
+	 */
+	public synchronized int frequency(Object key) {
+		int hash = key.hashCode();
+
+		int frequency = MAX_COUNT;
+		for (int row = 0; row < DEPTH; row++) {
+			frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+		}
+		return frequency;
+	}
+
+	protected int indexOf(int hash, int row) {
+		int h = hash * SEEDS[row];
+		h ^= h >>> 16;
+		return row * width + (h & (width - 1));
+	}
+
+	/**
+	 * Halve all counters, so that the sketch adapts to the recent popularity.
+	 */
+	protected void reset() {
+		for (int i = 0; i < counters.length; i++) {
+			counters[i] >>>= 1;
+		}
+		nbIncrements /= 2;
+	}
+}
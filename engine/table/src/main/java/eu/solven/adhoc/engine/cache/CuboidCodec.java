@@ -0,0 +1,321 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Ints;
+
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.column.Cuboid;
+import eu.solven.adhoc.dataframe.column.hash.MultitypeHashColumn;
+import eu.solven.adhoc.map.factory.IMapBuilderPreKeys;
+import eu.solven.adhoc.map.factory.ISliceFactory;
+import eu.solven.adhoc.primitive.IValueReceiver;
+import eu.solven.pepper.core.PepperLogHelper;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Binary encoding of an {@link ICuboid}, enabling to move it out of the heap (e.g. {@link OffHeapCuboidSpillStore}).
+ * 
+ * The format is row-oriented: a header with the columns, then for each slice its coordinates followed by its value.
+ * Each coordinate and value is prefixed by a type tag. Only simple types are supported (`long`, `int`, `double`,
+ * `float`, {@link String}, {@link Boolean}, {@link LocalDate} and `null`): any other type (e.g. an aggregation carrier)
+ * leads to an {@link IllegalArgumentException}. Boxed types are restored as-is: an {@link Integer} is not decoded as a
+ * {@link Long}.
+ * 
+ * @author Benoit Lacelle
+ */
+@UtilityClass
+public class CuboidCodec {
+	private static final int MAGIC = 0xADC0B01D;
+	// Version 2 introduced `TAG_INT` and `TAG_FLOAT`. Version 1 payloads are still decodable.
+	private static final byte VERSION = 2;
+	private static final byte VERSION_1 = 1;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_LONG = 1;
+	private static final byte TAG_DOUBLE = 2;
+	private static final byte TAG_STRING = 3;
+	private static final byte TAG_BOOLEAN = 4;
+	private static final byte TAG_LOCAL_DATE = 5;
+	private static final byte TAG_INT = 6;
+	private static final byte TAG_FLOAT = 7;
+
+	/**
+	 * 
+	 * @param cuboid
+	 * @return the encoded {@link ICuboid}, or empty if it holds a type which is not supported by this codec.
+	 */
+	public static Optional<byte[]> tryEncode(ICuboid cuboid) {
+		try {
+			return Optional.of(encode(cuboid));
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+
+	public static byte[] encode(ICuboid cuboid) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			encode(cuboid, output);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	public static void encode(ICuboid cuboid, DataOutput output) throws IOException {
+		output.writeInt(MAGIC);
+		output.writeByte(VERSION);
+
+		writeStrings(output, cuboid.getColumns());
+
+		// The slices columns may differ from the cuboid columns (e.g. on a masked cuboid)
+		List<String> sliceColumns = cuboid.slices()
+				.findAny()
+				.<List<String>>map(slice -> ImmutableList.copyOf(slice.columnsKeySet()))
+				.orElse(ImmutableList.of());
+		writeStrings(output, sliceColumns);
+
+		output.writeInt(Ints.checkedCast(cuboid.size()));
+
+		IValueReceiver valueWriter = new IValueReceiver() {
+			@Override
+			public void onLong(long v) {
+				writeLong(output, v);
+			}
+
+			@Override
+			public void onDouble(double v) {
+				writeDouble(output, v);
+			}
+
+			@Override
+			public void onObject(@Nullable Object v) {
+				writeObject(output, v);
+			}
+		};
+
+		cuboid.stream().forEach(sliceAndMeasure -> {
+			ISlice slice = sliceAndMeasure.getSlice();
+			if (slice.columnsKeySet().size() != sliceColumns.size()) {
+				throw new IllegalArgumentException(
+						"Inconsistent columns: %s vs %s".formatted(slice.columnsKeySet(), sliceColumns));
+			}
+			sliceColumns.forEach(column -> writeObject(output, slice.getGroupBy(column)));
+			sliceAndMeasure.getValueProvider().acceptReceiver(valueWriter);
+		});
+	}
+
+	protected static void writeStrings(DataOutput output, Collection<String> strings) throws IOException {
+		output.writeInt(strings.size());
+		for (String string : strings) {
+			writeString(output, string);
+		}
+	}
+
+	protected static void writeString(DataOutput output, String string) throws IOException {
+		// `DataOutput.writeUTF` is limited to 64KB
+		byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(utf8.length);
+		output.write(utf8);
+	}
+
+	protected static void writeLong(DataOutput output, long v) {
+		try {
+			output.writeByte(TAG_LONG);
+			output.writeLong(v);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	protected static void writeDouble(DataOutput output, double v) {
+		try {
+			output.writeByte(TAG_DOUBLE);
+			output.writeDouble(v);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	protected static void writeObject(DataOutput output, @Nullable Object v) {
+		try {
+			switch (v) {
+			case null -> output.writeByte(TAG_NULL);
+			case Long l -> writeLong(output, l);
+			case Integer i -> {
+				output.writeByte(TAG_INT);
+				output.writeInt(i);
+			}
+			case Double d -> writeDouble(output, d);
+			case Float f -> {
+				output.writeByte(TAG_FLOAT);
+				output.writeFloat(f);
+			}
+			case String s -> {
+				output.writeByte(TAG_STRING);
+				writeString(output, s);
+			}
+			case Boolean b -> {
+				output.writeByte(TAG_BOOLEAN);
+				output.writeBoolean(b);
+			}
+			case LocalDate date -> {
+				output.writeByte(TAG_LOCAL_DATE);
+				output.writeLong(date.toEpochDay());
+			}
+			default -> throw new IllegalArgumentException(
+					"Not encodable: %s".formatted(PepperLogHelper.getObjectAndClass(v)));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public static ICuboid decode(ByteBuffer buffer, ISliceFactory sliceFactory) {
+		try {
+			return decode(new DataInputStream(asInputStream(buffer)), sliceFactory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public static ICuboid decode(DataInput input, ISliceFactory sliceFactory) throws IOException {
+		int magic = input.readInt();
+		if (magic != MAGIC) {
+			throw new IllegalArgumentException("Invalid magic: %s".formatted(Integer.toHexString(magic)));
+		}
+		byte version = input.readByte();
+		if (version != VERSION && version != VERSION_1) {
+			throw new IllegalArgumentException("Unsupported version: %s".formatted(version));
+		}
+
+		List<String> columns = readStrings(input);
+		List<String> sliceColumns = readStrings(input);
+		int nbSlices = input.readInt();
+
+		// `cleanDirty=false` so that boxed `Integer` and `Float` values are not turned into `long` and `double`
+		MultitypeHashColumn<ISlice> values =
+				MultitypeHashColumn.<ISlice>builder().capacity(nbSlices).cleanDirty(false).build();
+
+		for (int i = 0; i < nbSlices; i++) {
+			IMapBuilderPreKeys sliceBuilder = sliceFactory.newMapBuilder(sliceColumns);
+			for (int c = 0; c < sliceColumns.size(); c++) {
+				sliceBuilder.append(readObject(input));
+			}
+			ISlice slice = sliceBuilder.build().asSlice();
+
+			byte tag = input.readByte();
+			if (tag == TAG_LONG) {
+				values.append(slice).onLong(input.readLong());
+			} else if (tag == TAG_DOUBLE) {
+				values.append(slice).onDouble(input.readDouble());
+			} else if (tag == TAG_NULL) {
+				// A null value is not appended
+				continue;
+			} else {
+				values.append(slice).onObject(readObject(tag, input));
+			}
+		}
+
+		return Cuboid.builder().columns(columns).values(values).build();
+	}
+
+	protected static List<String> readStrings(DataInput input) throws IOException {
+		int size = input.readInt();
+		ImmutableList.Builder<String> strings = ImmutableList.builderWithExpectedSize(size);
+		for (int i = 0; i < size; i++) {
+			strings.add(readString(input));
+		}
+		return strings.build();
+	}
+
+	protected static String readString(DataInput input) throws IOException {
+		byte[] utf8 = new byte[input.readInt()];
+		input.readFully(utf8);
+		return new String(utf8, StandardCharsets.UTF_8);
+	}
+
+	protected static @Nullable Object readObject(DataInput input) throws IOException {
+		return readObject(input.readByte(), input);
+	}
+
+	protected static @Nullable Object readObject(byte tag, DataInput input) throws IOException {
+		return switch (tag) {
+		case TAG_NULL -> null;
+		case TAG_LONG -> input.readLong();
+		case TAG_DOUBLE -> input.readDouble();
+		case TAG_STRING -> readString(input);
+		case TAG_BOOLEAN -> input.readBoolean();
+		case TAG_LOCAL_DATE -> LocalDate.ofEpochDay(input.readLong());
+		case TAG_INT -> input.readInt();
+		case TAG_FLOAT -> input.readFloat();
+		default -> throw new IllegalArgumentException("Unknown tag: %s".formatted(tag));
+		};
+	}
+
+	protected static InputStream asInputStream(ByteBuffer buffer) {
+		// `duplicate` so that concurrent readers do not share a position
+		ByteBuffer readable = buffer.duplicate();
+
+		return new InputStream() {
+			@Override
+			public int read() {
+				if (readable.hasRemaining()) {
+					return readable.get() & 0xFF;
+				} else {
+					return -1;
+				}
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				if (!readable.hasRemaining()) {
+					return -1;
+				}
+				int length = Math.min(len, readable.remaining());
+				readable.get(b, off, length);
+				return length;
+			}
+		};
+	}
+}
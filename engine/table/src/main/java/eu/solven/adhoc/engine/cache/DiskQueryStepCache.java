@@ -0,0 +1,498 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.engine.observability.SizeAndDuration;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.filter.AdhocPublicJackson;
+import eu.solven.adhoc.filter.ISliceFilter;
+import eu.solven.adhoc.map.factory.ISliceFactory;
+import eu.solven.adhoc.model.measure.IMeasure;
+import eu.solven.adhoc.model.query.IGroupBy;
+import eu.solven.adhoc.options.IQueryOption;
+import eu.solven.adhoc.util.IHasCache;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+
+/**
+ * A second-level {@link IQueryStepCache}, persisting {@link ICuboid} into a local directory so that they survive a
+ * restart. Each {@link ICuboid} is encoded with {@link CuboidCodec} into its own file, and memory-mapped back on hit.
+ * 
+ * Lookups are first done in the first-level cache (e.g. a {@link CostAwareQueryStepCache}), and disk hits are promoted
+ * into it.
+ * 
+ * As entries outlive the JVM, they can not be keyed by {@link CubeQueryStep} identity: the key is a fingerprint of the
+ * JSON of the step (see {@link #toKey(CubeQueryStep)}). A step is not persisted if its JSON can not be read back into
+ * an equal step (e.g. a custom measure or customMarker not supported by Jackson). As a {@link CubeQueryStep} does
+ * not refer to its table, the {@link #tableName} is part of the key: a directory may then be shared by multiple cubes
+ * without mixing their entries. The {@link #tableEpoch} is also part of the key: it is typically the version of the
+ * underlying table, so that a new version of the data makes previous entries unreachable. Unreachable entries are
+ * eventually deleted, the least recently used first, once {@link #maximumBytes} is exceeded.
+ * 
+ * On startup, the most recently used entries are memory-mapped and loaded in the page cache, up to
+ * {@link #warmUpBytes}.
+ * 
+ * @author Benoit Lacelle
+ */
+@Builder
+@Slf4j
+public class DiskQueryStepCache implements IQueryStepCache, IHasCache {
+	public static final long DEFAULT_MAXIMUM_BYTES = 1024L * 1024 * 1024;
+	public static final long DEFAULT_WARM_UP_BYTES = 64L * 1024 * 1024;
+
+	private static final String EXTENSION = ".cuboid";
+	private static final String TMP_EXTENSION = ".tmp";
+
+	private static final ObjectMapper OBJECT_MAPPER = AdhocPublicJackson.makeObjectMapper()
+			.rebuild()
+			.disable(SerializationFeature.INDENT_OUTPUT)
+			.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+			.build();
+
+	@NonNull
+	final Path directory;
+
+	// Identifies the table (or cube) of the cached steps, as different tables may have steps with the same fingerprint
+	@NonNull
+	final String tableName;
+
+	@NonNull
+	final ISliceFactory sliceFactory;
+
+	@NonNull
+	@Default
+	final IQueryStepCache firstLevel = IQueryStepCache.noCache();
+
+	@Default
+	final long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+
+	@Default
+	final long warmUpBytes = DEFAULT_WARM_UP_BYTES;
+
+	// Cuboids computed faster than this are not worth being written on disk
+	@NonNull
+	@Default
+	final Duration minimumCost = Duration.ZERO;
+
+	// Called on each lookup: it should be cheap (e.g. a cached table version)
+	@NonNull
+	@Default
+	final LongSupplier tableEpoch = () -> 0L;
+
+	// Writes may be done asynchronously, not to slow down the queries pushing into the cache
+	@NonNull
+	@Default
+	final Executor writeExecutor = MoreExecutors.directExecutor();
+
+	// Lazily initialized from the directory content, on first access
+	final Map<String, DiskEntry> keyToEntry = new ConcurrentHashMap<>();
+	final Supplier<Boolean> warmedUp = Suppliers.memoize(this::warmUp);
+	final AtomicLong diskBytes = new AtomicLong();
+
+	final LongAdder hitCount = new LongAdder();
+	final LongAdder missCount = new LongAdder();
+	final LongAdder writeCount = new LongAdder();
+	final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * A file of this cache.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	protected static final class DiskEntry {
+		final Path file;
+		final long bytes;
+		// Accessed concurrently: mapping the same file twice is harmless
+		volatile @Nullable MappedByteBuffer mapped;
+		volatile long lastAccessMillis;
+
+		DiskEntry(Path file, long bytes, long lastAccessMillis) {
+			this.file = file;
+			this.bytes = bytes;
+			this.lastAccessMillis = lastAccessMillis;
+		}
+	}
+
+	/**
+	 * Index the existing files, and load the most recently used ones in the page cache.
+	 * 
+	 * @return true
+	 */
+	protected boolean warmUp() {
+		try {
+			Files.createDirectories(directory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		List<DiskEntry> entries;
+		try (Stream<Path> files = Files.list(directory)) {
+			entries = files.map(this::readEntry).flatMap(Optional::stream).toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		long warmedBytes = 0;
+		int nbWarmed = 0;
+		List<DiskEntry> mostRecentFirst =
+				entries.stream().sorted(Comparator.comparingLong((DiskEntry e) -> e.lastAccessMillis).reversed()).toList();
+		for (DiskEntry entry : mostRecentFirst) {
+			String key = keyFromFileName(entry.file);
+			keyToEntry.put(key, entry);
+			diskBytes.addAndGet(entry.bytes);
+
+			if (warmedBytes + entry.bytes <= warmUpBytes) {
+				MappedByteBuffer mapped = map(entry);
+				if (mapped != null) {
+					mapped.load();
+					warmedBytes += entry.bytes;
+					nbWarmed++;
+				}
+			}
+		}
+
+		log.info("Indexed {} cuboids ({} bytes) from {}, warmed {} ({} bytes)",
+				entries.size(),
+				diskBytes.get(),
+				directory,
+				nbWarmed,
+				warmedBytes);
+
+		evictIfNecessary();
+		return true;
+	}
+
+	protected Optional<DiskEntry> readEntry(Path file) {
+		String fileName = file.getFileName().toString();
+		try {
+			if (fileName.endsWith(TMP_EXTENSION)) {
+				// An interrupted write
+				Files.deleteIfExists(file);
+				return Optional.empty();
+			} else if (!fileName.endsWith(EXTENSION)) {
+				return Optional.empty();
+			}
+			return Optional.of(new DiskEntry(file, Files.size(file), Files.getLastModifiedTime(file).toMillis()));
+		} catch (IOException e) {
+			log.warn("Issue indexing {}", file, e);
+			return Optional.empty();
+		}
+	}
+
+	protected String keyFromFileName(Path file) {
+		String fileName = file.getFileName().toString();
+		return fileName.substring(0, fileName.length() - EXTENSION.length());
+	}
+
+	/**
+	 * 
+	 * @param step
+	 * @return a fingerprint of the step, stable across JVMs, or empty if the step can not be fingerprinted exactly.
+	 */
+	protected Optional<String> toKey(CubeQueryStep step) {
+		Optional<String> measure = toExactJson(step.getMeasure(), IMeasure.class);
+		Optional<String> filter = toExactJson(step.getFilter(), ISliceFilter.class);
+		Optional<String> groupBy = toExactJson(step.getGroupBy(), IGroupBy.class);
+		Object customMarker = step.getCustomMarker();
+		Optional<String> customMarkerJson;
+		if (customMarker == null) {
+			customMarkerJson = Optional.of("null");
+		} else {
+			customMarkerJson = toExactJson(customMarker, customMarker.getClass());
+		}
+		List<Optional<String>> options =
+				step.getOptions().stream().map(option -> toExactJson(option, IQueryOption.class)).toList();
+
+		if (measure.isEmpty() || filter.isEmpty()
+				|| groupBy.isEmpty()
+				|| customMarkerJson.isEmpty()
+				|| options.stream().anyMatch(Optional::isEmpty)) {
+			return Optional.empty();
+		}
+
+		// `toString` is not used, as it holds the `id` of the step, which is not stable, and it may be truncated
+		String fingerprint = String.join("|",
+				"table=" + tableName,
+				"epoch=" + tableEpoch.getAsLong(),
+				"measure=" + measure.get(),
+				"filter=" + filter.get(),
+				"groupBy=" + groupBy.get(),
+				"customMarker=" + customMarkerJson.get(),
+				// Options are sorted, as their order does not matter
+				"options=" + options.stream().map(Optional::get).sorted().toList());
+		return Optional.of(Hashing.sha256().hashString(fingerprint, StandardCharsets.UTF_8).toString());
+	}
+
+	/**
+	 * 
+	 * @param value
+	 * @param clazz
+	 *            the type used to read back the JSON.
+	 * @return the JSON of the value, if it can be read back into an equal value. Else empty, as the JSON may be lossy.
+	 */
+	protected Optional<String> toExactJson(Object value, Class<?> clazz) {
+		try {
+			String json = OBJECT_MAPPER.writeValueAsString(value);
+			if (value.equals(OBJECT_MAPPER.readValue(json, clazz))) {
+				return Optional.of(json);
+			}
+			log.trace("Not an exact fingerprint: {} for {}", json, value);
+		} catch (JacksonException | IllegalArgumentException e) {
+			log.trace("Issue serializing {}", value, e);
+		}
+		return Optional.empty();
+	}
+
+	protected Path toFile(String key) {
+		return directory.resolve(key + EXTENSION);
+	}
+
+	@Override
+	public Optional<ICuboid> getValue(CubeQueryStep step) {
+		Optional<ICuboid> fromFirstLevel = firstLevel.getValue(step);
+		if (fromFirstLevel.isPresent()) {
+			return fromFirstLevel;
+		}
+
+		warmedUp.get();
+
+		Optional<String> optKey = toKey(step);
+		if (optKey.isEmpty()) {
+			missCount.increment();
+			return Optional.empty();
+		}
+		String key = optKey.get();
+		DiskEntry entry = keyToEntry.get(key);
+		if (entry == null) {
+			missCount.increment();
+			return Optional.empty();
+		}
+
+		MappedByteBuffer mapped = map(entry);
+		if (mapped == null) {
+			// The file has been deleted concurrently
+			missCount.increment();
+			return Optional.empty();
+		}
+
+		ICuboid cuboid;
+		try {
+			cuboid = CuboidCodec.decode(mapped, sliceFactory);
+		} catch (RuntimeException e) {
+			log.warn("Issue decoding {}. It is deleted", entry.file, e);
+			remove(key, entry);
+			missCount.increment();
+			return Optional.empty();
+		}
+
+		hitCount.increment();
+		touch(entry);
+		firstLevel.pushValue(step, cuboid, null);
+		return Optional.of(cuboid);
+	}
+
+	protected @Nullable MappedByteBuffer map(DiskEntry entry) {
+		MappedByteBuffer mapped = entry.mapped;
+		if (mapped == null) {
+			try (FileChannel channel = FileChannel.open(entry.file, StandardOpenOption.READ)) {
+				// The mapping remains valid after the channel is closed
+				mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, entry.bytes);
+				entry.mapped = mapped;
+			} catch (NoSuchFileException e) {
+				log.debug("Missing {}", entry.file, e);
+				return null;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return mapped;
+	}
+
+	protected void touch(DiskEntry entry) {
+		long now = System.currentTimeMillis();
+		entry.lastAccessMillis = now;
+		try {
+			// Persist the recency, to warm-up the most recently used entries after a restart
+			Files.setLastModifiedTime(entry.file, FileTime.fromMillis(now));
+		} catch (IOException e) {
+			log.debug("Issue touching {}", entry.file, e);
+		}
+	}
+
+	@Override
+	public void pushValue(CubeQueryStep step, ICuboid value, @Nullable SizeAndDuration sizeAndDuration) {
+		firstLevel.pushValue(step, value, sizeAndDuration);
+
+		if (sizeAndDuration != null && sizeAndDuration.getDuration().compareTo(minimumCost) < 0
+				|| sizeAndDuration == null && minimumCost.isPositive()) {
+			log.trace("Skip writing step={} as its cost is lower than minimumCost={}", step, minimumCost);
+			return;
+		}
+
+		Optional<String> optKey = toKey(step);
+		if (optKey.isEmpty()) {
+			log.debug("Skip writing step={} as it can not be fingerprinted exactly", step);
+			return;
+		}
+		String key = optKey.get();
+		writeExecutor.execute(() -> write(key, value));
+	}
+
+	@Override
+	public void pushValues(Map<CubeQueryStep, ICuboid> queryStepToValues) {
+		queryStepToValues.forEach((step, cuboid) -> pushValue(step, cuboid, null));
+	}
+
+	protected void write(String key, ICuboid cuboid) {
+		warmedUp.get();
+		if (keyToEntry.containsKey(key)) {
+			return;
+		}
+
+		Optional<byte[]> optEncoded = CuboidCodec.tryEncode(cuboid);
+		if (optEncoded.isEmpty()) {
+			log.debug("Skip writing key={} as the cuboid is not encodable", key);
+			return;
+		}
+		byte[] encoded = optEncoded.get();
+		if (encoded.length > maximumBytes) {
+			return;
+		}
+
+		Path file = toFile(key);
+		try {
+			// Write then move, so that a crash never leaves a partial `.cuboid` file
+			Path tmpFile = Files.createTempFile(directory, key, TMP_EXTENSION);
+			Files.write(tmpFile, encoded);
+			Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("Issue writing {}", file, e);
+			return;
+		}
+
+		DiskEntry entry = new DiskEntry(file, encoded.length, System.currentTimeMillis());
+		if (keyToEntry.putIfAbsent(key, entry) == null) {
+			diskBytes.addAndGet(entry.bytes);
+			writeCount.increment();
+			evictIfNecessary();
+		}
+	}
+
+	protected void evictIfNecessary() {
+		if (diskBytes.get() <= maximumBytes) {
+			return;
+		}
+
+		synchronized (this) {
+			List<Map.Entry<String, DiskEntry>> leastRecentFirst = keyToEntry.entrySet()
+					.stream()
+					.sorted(Comparator.comparingLong(e -> e.getValue().lastAccessMillis))
+					.toList();
+			for (Map.Entry<String, DiskEntry> e : leastRecentFirst) {
+				if (diskBytes.get() <= maximumBytes) {
+					break;
+				}
+				remove(e.getKey(), e.getValue());
+				evictionCount.increment();
+			}
+		}
+	}
+
+	protected void remove(String key, DiskEntry entry) {
+		if (keyToEntry.remove(key, entry)) {
+			diskBytes.addAndGet(-entry.bytes);
+			// A mapping remains readable by concurrent readers, even after the file is deleted
+			entry.mapped = null;
+			try {
+				Files.deleteIfExists(entry.file);
+			} catch (IOException e) {
+				log.warn("Issue deleting {}", entry.file, e);
+			}
+		}
+	}
+
+	public QueryStepCacheStats getStats() {
+		return QueryStepCacheStats.builder()
+				.hitCount(hitCount.sum())
+				.missCount(missCount.sum())
+				.evictionCount(evictionCount.sum())
+				.spillCount(writeCount.sum())
+				.spilledBytes(diskBytes.get())
+				.spilledEntries(keyToEntry.size())
+				.build();
+	}
+
+	/**
+	 * Delete all entries, including those from the first-level cache. Typically called when the underlying table has
+	 * been modified, if there is no {@link #tableEpoch}.
+	 */
+	@Override
+	public void invalidateAll() {
+		if (firstLevel instanceof IHasCache hasCache) {
+			hasCache.invalidateAll();
+		}
+
+		warmedUp.get();
+		keyToEntry.forEach(this::remove);
+	}
+}
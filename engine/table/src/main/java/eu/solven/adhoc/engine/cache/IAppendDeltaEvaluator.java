@@ -0,0 +1,47 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.table.ITableWrapper;
+
+/**
+ * Computes {@link CubeQueryStep} over a given {@link ITableWrapper}, typically holding the rows appended to a table.
+ * 
+ * @author Benoit Lacelle
+ * @see AppendAwareQueryStepCache
+ */
+@FunctionalInterface
+public interface IAppendDeltaEvaluator {
+	/**
+	 * 
+	 * @param table
+	 * @param steps
+	 * @return the {@link ICuboid} of each input {@link CubeQueryStep}, computed over the input table only.
+	 */
+	Map<CubeQueryStep, ICuboid> evaluate(ITableWrapper table, Collection<CubeQueryStep> steps);
+}
@@ -0,0 +1,73 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.util.Optional;
+
+import eu.solven.adhoc.cuboid.ICuboid;
+
+/**
+ * Enables moving {@link ICuboid} out of the heap, typically into direct memory or memory-mapped files. Used by
+ * {@link CostAwareQueryStepCache} to hold more cuboids than the heap budget, without GC pressure.
+ * 
+ * @author Benoit Lacelle
+ */
+@FunctionalInterface
+public interface ICuboidSpillStore {
+
+	/**
+	 * 
+	 * @param cuboid
+	 * @return an {@link ISpilledCuboid} holding a copy of the cuboid, or empty if this cuboid can not be spilled (e.g.
+	 *         it holds values which can not be serialized).
+	 */
+	Optional<ISpilledCuboid> spill(ICuboid cuboid);
+
+	static ICuboidSpillStore none() {
+		return _ -> Optional.empty();
+	}
+
+	/**
+	 * A {@link ICuboid} which has been moved out of the heap.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	interface ISpilledCuboid {
+		/**
+		 * 
+		 * @return the number of off-heap bytes retained by this spilled cuboid.
+		 */
+		long getSpilledBytes();
+
+		/**
+		 * 
+		 * @return a fresh on-heap {@link ICuboid}, equivalent to the spilled one.
+		 */
+		ICuboid load();
+
+		/**
+		 * Release the off-heap resources. A released {@link ISpilledCuboid} must not be loaded anymore.
+		 */
+		void release();
+	}
+}
@@ -0,0 +1,120 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.map.factory.ISliceFactory;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link ICuboidSpillStore} encoding {@link ICuboid} with {@link CuboidCodec}, into direct {@link ByteBuffer} or, if a
+ * directory is provided, into memory-mapped files.
+ * 
+ * Memory-mapped files are not accounted by `-XX:MaxDirectMemorySize`, and their pages can be reclaimed by the OS
+ * under memory pressure.
+ * 
+ * @author Benoit Lacelle
+ */
+@Builder
+@Slf4j
+public class OffHeapCuboidSpillStore implements ICuboidSpillStore {
+	@NonNull
+	final ISliceFactory sliceFactory;
+
+	// If null, cuboids are spilled into direct ByteBuffers
+	@Nullable
+	final Path directory;
+
+	@Override
+	public Optional<ICuboidSpillStore.ISpilledCuboid> spill(ICuboid cuboid) {
+		return CuboidCodec.tryEncode(cuboid).map(this::spill);
+	}
+
+	protected ICuboidSpillStore.ISpilledCuboid spill(byte[] encoded) {
+		if (directory == null) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length);
+			buffer.put(encoded).flip();
+			return new SpilledCuboid(buffer, null);
+		} else {
+			try {
+				Path file = Files.createTempFile(directory, "cuboid-", ".bin");
+				Files.write(file, encoded);
+				try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+					// The mapping remains valid after the channel is closed
+					ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, encoded.length);
+					return new SpilledCuboid(buffer, file);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * A {@link ICuboidSpillStore.ISpilledCuboid} backed by a direct or a memory-mapped {@link ByteBuffer}.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	@RequiredArgsConstructor
+	protected class SpilledCuboid implements ICuboidSpillStore.ISpilledCuboid {
+		final ByteBuffer buffer;
+		@Nullable
+		final Path file;
+
+		@Override
+		public long getSpilledBytes() {
+			return buffer.capacity();
+		}
+
+		@Override
+		public ICuboid load() {
+			return CuboidCodec.decode(buffer, sliceFactory);
+		}
+
+		@Override
+		public void release() {
+			// The direct memory is released when the buffer is garbage-collected
+			if (file != null) {
+				try {
+					Files.deleteIfExists(file);
+				} catch (IOException e) {
+					log.warn("Issue deleting spilled cuboid at {}", file, e);
+				}
+			}
+		}
+	}
+}
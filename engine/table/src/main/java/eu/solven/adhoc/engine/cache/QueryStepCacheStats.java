@@ -0,0 +1,67 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Snapshot of the metrics of a {@link IQueryStepCache}.
+ * 
+ * @author Benoit Lacelle
+ */
+@Value
+@Builder
+public class QueryStepCacheStats {
+	long hitCount;
+	long missCount;
+
+	// Number of pushed cuboids refused by the admission policy
+	long rejectionCount;
+
+	// Number of cuboids dropped from the cache (i.e. neither on-heap nor spilled anymore)
+	long evictionCount;
+	// Sum of the computation time of the evicted cuboids: the time we may have to spend again to recompute them
+	long evictedCostNanos;
+
+	// Number of cuboids moved from the heap to the spill region (or written on disk)
+	long spillCount;
+
+	// Number of cached cuboids merged with the cuboid of appended rows
+	long mergeCount;
+
+	long heapBytes;
+	long spilledBytes;
+
+	long heapEntries;
+	long spilledEntries;
+
+	public double hitRate() {
+		long requestCount = hitCount + missCount;
+		if (requestCount == 0) {
+			return 1D;
+		} else {
+			return (double) hitCount / requestCount;
+		}
+	}
+}
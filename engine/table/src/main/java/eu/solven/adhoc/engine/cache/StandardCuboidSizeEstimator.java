@@ -0,0 +1,61 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.util.Set;
+
+import eu.solven.adhoc.collection.IHasRetainedBytes;
+import eu.solven.adhoc.cuboid.ICuboid;
+
+/**
+ * Default {@link ICuboidSizeEstimator}: relies on {@link IHasRetainedBytes} when available (i.e. introspecting the
+ * capacity of the underlying columns), else on a per-slice heuristic, based on the number of sliced columns.
+ * 
+ * It does not walk the slices (which would cost as much as the cuboid itself): it assumes each slice is a small
+ * object referring to its coordinates, held in a hash structure, and associated to a (possibly primitive) value.
+ * 
+ * @author Benoit Lacelle
+ */
+public class StandardCuboidSizeEstimator implements ICuboidSizeEstimator {
+	// Fixed cost of a cuboid, whatever its size (the cuboid, its column, the columns names)
+	protected static final long BYTES_PER_CUBOID = 256;
+	// Slice object, its keySet reference and its hash-structure entry
+	protected static final long BYTES_PER_SLICE = 48;
+	// Reference to the coordinate, and an amortized share of the coordinate itself (coordinates are shared amongst
+	// slices, typically through the dictionary of the slice factory)
+	protected static final long BYTES_PER_COORDINATE = 8;
+	// A primitive value, or a reference to a boxed value
+	protected static final long BYTES_PER_VALUE = 16;
+
+	@Override
+	public long estimateBytes(ICuboid cuboid) {
+		if (cuboid instanceof IHasRetainedBytes hasRetainedBytes) {
+			return hasRetainedBytes.estimateRetainedBytes();
+		}
+
+		Set<String> columns = cuboid.getColumns();
+		long bytesPerSlice = BYTES_PER_SLICE + columns.size() * BYTES_PER_COORDINATE + BYTES_PER_VALUE;
+
+		return BYTES_PER_CUBOID + cuboid.size() * bytesPerSlice;
+	}
+}
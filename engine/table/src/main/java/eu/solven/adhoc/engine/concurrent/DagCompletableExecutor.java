@@ -38,6 +38,8 @@ import org.jspecify.annotations.NonNull;
 
 import com.google.common.base.MoreObjects;
 
+import eu.solven.adhoc.engine.cancel.CancellationHelpers;
+import eu.solven.adhoc.engine.context.IIsCancellable;
 import eu.solven.adhoc.engine.dag.IAdhocDag;
 import eu.solven.adhoc.options.IHasQueryOptions;
 import lombok.Builder;
@@ -86,6 +88,11 @@ public class DagCompletableExecutor<T> {
 	@Default
 	final IHasQueryOptions hasOptions = IHasQueryOptions.noOption();
 
+	// Checked before starting each step, so that a cancelled DAG does not start any additional step
+	@NonNull
+	@Default
+	final IIsCancellable cancellable = IIsCancellable.notCancellable();
+
 	final TimeWeightedConcurrency tracker = TimeWeightedConcurrency.builder().build();
 
 	/**
@@ -149,6 +156,8 @@ public class DagCompletableExecutor<T> {
 						step,
 						dependencyFutures.size(),
 						outgoingEdges.size());
+				CancellationHelpers.checkNotCancelled(cancellable, step);
+
 				tracker.startConcurrentTask();
 				try {
 					onReadyStep.accept(step);
@@ -33,6 +33,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 
 import eu.solven.adhoc.cuboid.ICuboid;
 import eu.solven.adhoc.engine.cancel.CancellationHelpers;
+import eu.solven.adhoc.engine.cancel.CancellationScope;
 import eu.solven.adhoc.engine.cancel.CancelledQueryException;
 import eu.solven.adhoc.engine.dag.GraphHelpers;
 import eu.solven.adhoc.engine.dag.IAdhocDag;
@@ -53,7 +54,8 @@ public class QueryEngineConcurrencyHelper {
 	/**
 	 * Execute the steps as described by a DAG.
 	 * 
-	 * This handles cancellation as described by QueryPod.
+	 * This handles cancellation as described by QueryPod: each step is executed with the queryPod bound in
+	 * {@link CancellationScope}, so that hot loops can stop early.
 	 * 
 	 * @param queryPod
 	 * @param queryStepsDag
@@ -70,7 +72,11 @@ public class QueryEngineConcurrencyHelper {
 			}
 
 			try {
-				queryStepConsumer.accept(step);
+				// Bound on the thread actually executing the step, so its hot loops can check for cancellation
+				CancellationScope.runWith(queryPod, () -> {
+					queryStepConsumer.accept(step);
+					return null;
+				});
 			} finally {
 				CancellationHelpers.afterCancellable(queryPod);
 			}
@@ -115,6 +121,7 @@ public class QueryEngineConcurrencyHelper {
 				.onReadyStep(onReadyStep)
 				.executor(queryPod.getExecutorService())
 				.hasOptions(queryPod)
+				.cancellable(queryPod)
 				.build();
 
 		CompletableFuture<Void> root = executor.executeRecursively(rootSteps);
@@ -0,0 +1,292 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.concurrent;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+import eu.solven.adhoc.engine.cancel.CancellationScope;
+import eu.solven.adhoc.engine.cancel.CancelledQueryException;
+import eu.solven.adhoc.engine.context.IIsCancellable;
+import eu.solven.adhoc.exception.AdhocExceptionHelpers;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deduplicates concurrent executions of the same key: while an execution is in-flight, any other caller for an equal
+ * key receives the result of the in-flight execution instead of triggering its own.
+ * 
+ * Callers are ref-counted: cancelling the {@link ListenableFuture} returned to one caller does not cancel the shared
+ * execution, until all callers have cancelled. Nothing is retained once the execution is done: this is not a cache.
+ * 
+ * @param <K>
+ *            the key type. It must have proper `.equals` and `.hashCode`.
+ * @param <V>
+ *            the value type. It is shared by all callers: it should be immutable.
+ * @author Benoit Lacelle
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+	final ConcurrentMap<K, Flight<V>> keyToFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * An in-flight execution, with the number of callers waiting for it.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	protected static final class Flight<V> {
+		final SettableFuture<V> shared = SettableFuture.create();
+		// Starts with the leader
+		final AtomicInteger nbCallers = new AtomicInteger(1);
+
+		/**
+		 * @return true if the caller joined the flight. False if the flight has been abandoned by all its callers.
+		 */
+		boolean tryJoin() {
+			while (true) {
+				int current = nbCallers.get();
+				if (current <= 0) {
+					return false;
+				} else if (nbCallers.compareAndSet(current, current + 1)) {
+					return true;
+				}
+			}
+		}
+
+		/**
+		 * @return true if this was the last caller
+		 */
+		boolean leave() {
+			return nbCallers.decrementAndGet() == 0;
+		}
+	}
+
+	/**
+	 * Result of joining or starting a flight.
+	 */
+	protected record Boarding<V>(Flight<V> flight, boolean isLeader) {
+	}
+
+	protected Boarding<V> board(K key) {
+		@SuppressWarnings("unchecked")
+		Boarding<V>[] boarding = new Boarding[1];
+
+		keyToFlight.compute(key, (_, existing) -> {
+			if (existing != null && existing.tryJoin()) {
+				boarding[0] = new Boarding<>(existing, false);
+				return existing;
+			} else {
+				Flight<V> flight = new Flight<>();
+				boarding[0] = new Boarding<>(flight, true);
+				return flight;
+			}
+		});
+
+		return boarding[0];
+	}
+
+	protected void land(K key, Flight<V> flight) {
+		keyToFlight.remove(key, flight);
+	}
+
+	/**
+	 * 
+	 * @param key
+	 * @param execution
+	 *            started only if there is no in-flight execution for an equal key.
+	 * @return a {@link ListenableFuture} dedicated to this caller. Cancelling it cancels the shared execution only if
+	 *         all other callers has cancelled too.
+	 */
+	public ListenableFuture<V> executeAsync(K key, Supplier<ListenableFuture<V>> execution) {
+		Boarding<V> boarding = board(key);
+		Flight<V> flight = boarding.flight();
+
+		if (boarding.isLeader()) {
+			flight.shared.addListener(() -> land(key, flight), MoreExecutors.directExecutor());
+			try {
+				flight.shared.setFuture(execution.get());
+			} catch (RuntimeException e) {
+				flight.shared.setException(e);
+			}
+		} else {
+			log.debug("Joining in-flight execution for key={}", key);
+		}
+
+		SettableFuture<V> callerFuture = SettableFuture.create();
+		callerFuture.setFuture(Futures.nonCancellationPropagating(flight.shared));
+		callerFuture.addListener(() -> {
+			if (callerFuture.isCancelled() && flight.leave()) {
+				log.debug("All callers cancelled the execution for key={}", key);
+				land(key, flight);
+				flight.shared.cancel(true);
+			}
+		}, MoreExecutors.directExecutor());
+
+		return callerFuture;
+	}
+
+	/**
+	 * Similar to {@link #execute(Object, IIsCancellable, OptionalLong, Supplier)}, for a caller cancelled through
+	 * {@link CancellationScope#current()}, without deadline.
+	 * 
+	 * @param key
+	 * @param execution
+	 *            executed only if there is no in-flight execution for an equal key.
+	 * @return the result of the execution, possibly computed by another thread.
+	 */
+	public V execute(K key, Supplier<V> execution) {
+		return execute(key, CancellationScope.current(), OptionalLong.empty(), execution);
+	}
+
+	/**
+	 * The leader executes in the current thread, while other callers for an equal key wait for its result. If the
+	 * leader is cancelled, the waiting callers retry, as one caller cancelling must not cancel the others.
+	 * 
+	 * A waiting caller stops waiting on its own cancellation or deadline, by throwing a
+	 * {@link CancelledQueryException}: the shared execution goes on for the other callers.
+	 * 
+	 * @param key
+	 * @param caller
+	 *            the cancellation of the calling query.
+	 * @param deadlineNanoTime
+	 *            the {@link System#nanoTime()} after which the calling query times out, if any.
+	 * @param execution
+	 *            executed only if there is no in-flight execution for an equal key.
+	 * @return the result of the execution, possibly computed by another thread.
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public V execute(K key, IIsCancellable caller, OptionalLong deadlineNanoTime, Supplier<V> execution) {
+		while (true) {
+			Boarding<V> boarding = board(key);
+			Flight<V> flight = boarding.flight();
+
+			if (boarding.isLeader()) {
+				try {
+					V value = execution.get();
+					flight.shared.set(value);
+					return value;
+				} catch (RuntimeException | Error e) {
+					flight.shared.setException(e);
+					throw e;
+				} finally {
+					land(key, flight);
+				}
+			}
+
+			log.debug("Waiting for in-flight execution for key={}", key);
+			try {
+				return awaitFlight(flight, caller, deadlineNanoTime);
+			} catch (CancelledQueryException e) {
+				throw e;
+			} catch (CancellationException e) {
+				log.debug("In-flight execution for key={} has been cancelled: retrying", key);
+				continue;
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (isCancellation(cause)) {
+					log.debug("In-flight execution for key={} has been cancelled: retrying", key);
+					continue;
+				}
+				String eMsg = "In-flight execution failed for key=%s".formatted(key);
+				if (cause instanceof RuntimeException runtimeE) {
+					throw AdhocExceptionHelpers.wrap(eMsg, runtimeE);
+				} else {
+					throw new IllegalStateException(eMsg, cause);
+				}
+			} finally {
+				flight.leave();
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * @param flight
+	 * @param caller
+	 * @param deadlineNanoTime
+	 * @return the result of the shared execution.
+	 * @throws ExecutionException
+	 *             if the shared execution failed.
+	 * @throws CancelledQueryException
+	 *             if the caller has been cancelled, or reached its deadline, while waiting.
+	 */
+	protected V awaitFlight(Flight<V> flight, IIsCancellable caller, OptionalLong deadlineNanoTime)
+			throws ExecutionException {
+		// A view dedicated to this caller: cancelling it does not cancel the shared execution
+		SettableFuture<V> waiter = SettableFuture.create();
+		waiter.setFuture(Futures.nonCancellationPropagating(flight.shared));
+		Runnable onCancel = () -> waiter.cancel(false);
+		caller.addCancellationListener(onCancel);
+		try {
+			if (caller.isCancelled()) {
+				throw new CancelledQueryException("Cancelled while waiting for an in-flight execution");
+			} else if (deadlineNanoTime.isPresent()) {
+				long remainingNanos = deadlineNanoTime.getAsLong() - System.nanoTime();
+				return waiter.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+			} else {
+				return waiter.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancelledQueryException("Interrupted while waiting for an in-flight execution");
+		} catch (TimeoutException e) {
+			throw new CancelledQueryException("Deadline reached while waiting for an in-flight execution");
+		} catch (CancellationException e) {
+			if (caller.isCancelled()) {
+				throw new CancelledQueryException("Cancelled while waiting for an in-flight execution");
+			}
+			// The shared execution has been cancelled
+			throw e;
+		} finally {
+			caller.removeCancellationListener(onCancel);
+		}
+	}
+
+	protected boolean isCancellation(@Nullable Throwable t) {
+		if (t == null) {
+			return false;
+		}
+		return t instanceof CancellationException || Throwables.getRootCause(t) instanceof InterruptedException;
+	}
+
+	/**
+	 * @return the number of keys with an in-flight execution.
+	 */
+	public int getNbInFlight() {
+		return keyToFlight.size();
+	}
+}
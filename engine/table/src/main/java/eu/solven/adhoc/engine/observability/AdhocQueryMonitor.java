@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import eu.solven.adhoc.eventbus.QueryLifecycleEvent;
 import eu.solven.adhoc.table.IQueryPod;
@@ -44,16 +45,27 @@ public class AdhocQueryMonitor {
 	public static final String TAG_QUERY_LIFECYCLE = "QUERY_LIFECYCLE";
 	public static final String TAG_QUERY_START = "QUERY_START";
 	public static final String TAG_QUERY_DONE = "QUERY_DONE";
+	// Posted by IQueryAdmission, before TAG_QUERY_START
+	public static final String TAG_QUERY_QUEUED = "QUERY_QUEUED";
+	public static final String TAG_QUERY_ADMITTED = "QUERY_ADMITTED";
+	public static final String TAG_QUERY_REJECTED = "QUERY_REJECTED";
 
 	private static final int DEFAULT_MAX_SLOW_QUERIES = 100;
 
 	// TODO Is it a leak to reference the whole context?
 	protected final Map<IQueryPod, OffsetDateTime> queryToStart = new ConcurrentHashMap<>();
 
+	// Queries waiting for admission
+	protected final Map<IQueryPod, OffsetDateTime> queryToQueued = new ConcurrentHashMap<>();
+
 	protected final int slowestQueriedMax;
 	// TODO Is it a leak to reference the whole context?
 	protected final BlockingQueue<Map.Entry<IQueryPod, Duration>> slowestQueried;
 
+	// Memory consumption of the completed queries
+	protected final AtomicLong totalAllocatedBytes = new AtomicLong();
+	protected final AtomicLong maxPeakRetainedBytes = new AtomicLong();
+
 	public AdhocQueryMonitor() {
 		this(DEFAULT_MAX_SLOW_QUERIES);
 	}
@@ -70,7 +82,19 @@ public class AdhocQueryMonitor {
 
 		int nbActive;
 		synchronized (query) {
-			if (lifecycleEvent.getTags().contains(TAG_QUERY_START)) {
+			if (lifecycleEvent.getTags().contains(TAG_QUERY_QUEUED)) {
+				queryToQueued.put(query, now());
+				nbActive = -1;
+			} else if (lifecycleEvent.getTags().contains(TAG_QUERY_ADMITTED)
+					|| lifecycleEvent.getTags().contains(TAG_QUERY_REJECTED)) {
+				OffsetDateTime queued = queryToQueued.remove(query);
+				if (queued != null) {
+					log.debug("queryId={} waited {} for admission",
+							query.getQueryId().getQueryId(),
+							Duration.between(queued, now()));
+				}
+				nbActive = -1;
+			} else if (lifecycleEvent.getTags().contains(TAG_QUERY_START)) {
 				OffsetDateTime removed = queryToStart.put(query, now());
 
 				if (removed != null) {
@@ -94,6 +118,7 @@ public class AdhocQueryMonitor {
 				}
 				nbActive = queryToStart.size();
 
+				onQueryMemory(lifecycleEvent);
 			} else {
 				nbActive = -1;
 			}
@@ -104,6 +129,39 @@ public class AdhocQueryMonitor {
 		}
 	}
 
+	protected void onQueryMemory(QueryLifecycleEvent doneEvent) {
+		if (doneEvent.getAllocatedBytes() > 0) {
+			totalAllocatedBytes.addAndGet(doneEvent.getAllocatedBytes());
+		}
+		if (doneEvent.getPeakRetainedBytes() > 0) {
+			maxPeakRetainedBytes.accumulateAndGet(doneEvent.getPeakRetainedBytes(), Math::max);
+		}
+	}
+
+	/**
+	 * 
+	 * @return the bytes allocated by the completed queries.
+	 */
+	public long getTotalAllocatedBytes() {
+		return totalAllocatedBytes.get();
+	}
+
+	/**
+	 * 
+	 * @return the maximum, amongst the completed queries, of the peak of bytes retained by a query.
+	 */
+	public long getMaxPeakRetainedBytes() {
+		return maxPeakRetainedBytes.get();
+	}
+
+	/**
+	 * 
+	 * @return the number of queries waiting for admission.
+	 */
+	public int getNbQueued() {
+		return queryToQueued.size();
+	}
+
 	private Comparator<Map.Entry<IQueryPod, Duration>> comparatorForSlowest() {
 		// We want first entry with large duration
 		return Map.Entry.comparingByValue();
@@ -31,6 +31,7 @@ import eu.solven.adhoc.eventbus.AdhocEventsFromGuavaEventBusToSfl4j;
 import eu.solven.adhoc.eventbus.AdhocLogEvent.AdhocLogEventBuilder;
 import eu.solven.adhoc.query.AdhocQueryId;
 import eu.solven.pepper.core.PepperLogHelper;
+import lombok.Builder.Default;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,6 +45,10 @@ import lombok.extern.slf4j.Slf4j;
 public class DagExplainerForPerfs extends DagExplainer {
 	private static final String EOL = AdhocEventsFromGuavaEventBusToSfl4j.EOL;
 
+	// If true, the allocated and retained bytes are reported next to the size and duration
+	@Default
+	final boolean memory = false;
+
 	@Override
 	protected AdhocLogEventBuilder openEventBuilder() {
 		return super.openEventBuilder().performance(true);
@@ -87,8 +92,22 @@ public class DagExplainerForPerfs extends DagExplainer {
 			return EOL + prefix + "No cost info";
 		}
 
-		return EOL + "%ssize=%s duration=%s".formatted(prefix,
+		String costInfo = EOL + "%ssize=%s duration=%s".formatted(prefix,
 				cost.getSize(),
 				PepperLogHelper.humanDuration(cost.getDuration().toNanos(), TimeUnit.NANOSECONDS));
+
+		if (memory) {
+			costInfo += " allocated=%s retained=%s".formatted(humanBytes(cost.getAllocatedBytes()),
+					humanBytes(cost.getRetainedBytes()));
+		}
+
+		return costInfo;
+	}
+
+	protected String humanBytes(long bytes) {
+		if (bytes < 0) {
+			return "?";
+		}
+		return PepperLogHelper.humanBytes(bytes).toString();
 	}
 }
@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.observability;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import eu.solven.adhoc.engine.step.ICubeQueryStep;
+
+/**
+ * Tracks the bytes retained by the cuboids held by a query, given the cuboids are released once all their consumers
+ * are evaluated. It enables reporting the peak of memory concurrently retained by a query.
+ * 
+ * @author Benoit Lacelle
+ */
+public class RetainedBytesTracker {
+	final Map<ICubeQueryStep, Long> stepToRetainedBytes = new ConcurrentHashMap<>();
+
+	final AtomicLong retainedBytes = new AtomicLong();
+	final AtomicLong peakRetainedBytes = new AtomicLong();
+
+	/**
+	 * Register the output of a step as retained, until {@link #onReleased(ICubeQueryStep)}.
+	 * 
+	 * @param step
+	 * @param bytes
+	 *            the bytes retained by the output of the step. Ignored if negative (i.e. unknown).
+	 */
+	public void onRetained(ICubeQueryStep step, long bytes) {
+		if (bytes < 0) {
+			return;
+		}
+
+		Long previous = stepToRetainedBytes.put(step, bytes);
+		long delta;
+		if (previous == null) {
+			delta = bytes;
+		} else {
+			delta = bytes - previous;
+		}
+		long current = retainedBytes.addAndGet(delta);
+		peakRetainedBytes.accumulateAndGet(current, Math::max);
+	}
+
+	/**
+	 * Register the output of a step as not retained anymore (e.g. pruned once all its consumers are evaluated).
+	 * 
+	 * @param step
+	 */
+	public void onReleased(ICubeQueryStep step) {
+		Long previous = stepToRetainedBytes.remove(step);
+		if (previous != null) {
+			retainedBytes.addAndGet(-previous);
+		}
+	}
+
+	/**
+	 * 
+	 * @return the bytes currently retained.
+	 */
+	public long getRetainedBytes() {
+		return retainedBytes.get();
+	}
+
+	/**
+	 * 
+	 * @return the maximum of {@link #getRetainedBytes()} through the life of the query.
+	 */
+	public long getPeakRetainedBytes() {
+		return peakRetainedBytes.get();
+	}
+}
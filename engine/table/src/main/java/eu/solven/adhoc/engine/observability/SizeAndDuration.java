@@ -23,8 +23,10 @@
 package eu.solven.adhoc.engine.observability;
 
 import java.time.Duration;
+import java.util.Collection;
 
 import lombok.Builder;
+import lombok.Builder.Default;
 import lombok.Value;
 
 /**
@@ -35,6 +37,41 @@ import lombok.Value;
 @Value
 @Builder
 public class SizeAndDuration {
+	/**
+	 * Used by memory counters when they are not available (e.g. on a JVM not supporting thread allocation measurement).
+	 */
+	public static final long UNKNOWN_BYTES = -1;
+
 	long size;
 	Duration duration;
+
+	/**
+	 * Bytes allocated by the thread computing the step. It excludes the allocations done by other threads (e.g. when
+	 * the step is computed by partitions with {@link eu.solven.adhoc.options.StandardQueryOptions#PARTITIONED}).
+	 * {@link #UNKNOWN_BYTES} if not available.
+	 */
+	@Default
+	long allocatedBytes = UNKNOWN_BYTES;
+
+	/**
+	 * Estimated bytes retained by the output of the step (see {@link eu.solven.adhoc.collection.IHasRetainedBytes}).
+	 * {@link #UNKNOWN_BYTES} if not available.
+	 */
+	@Default
+	long retainedBytes = UNKNOWN_BYTES;
+
+	/**
+	 * 
+	 * @param costs
+	 * @return the sum of the known {@link #getAllocatedBytes()}, or {@link #UNKNOWN_BYTES} if none is known.
+	 */
+	public static long sumAllocatedBytes(Collection<SizeAndDuration> costs) {
+		long sum = UNKNOWN_BYTES;
+		for (SizeAndDuration cost : costs) {
+			if (cost.getAllocatedBytes() >= 0) {
+				sum = Math.max(0, sum) + cost.getAllocatedBytes();
+			}
+		}
+		return sum;
+	}
 }
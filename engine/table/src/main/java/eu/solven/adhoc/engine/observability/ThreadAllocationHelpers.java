@@ -0,0 +1,97 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.observability;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Helps measuring the bytes allocated by the current thread, through {@link com.sun.management.ThreadMXBean}. It is
+ * cheap (a read of a thread-local counter), hence it can be measured on each step.
+ * 
+ * @author Benoit Lacelle
+ */
+@Slf4j
+public final class ThreadAllocationHelpers {
+	private static final com.sun.management.@Nullable ThreadMXBean THREAD_MX_BEAN = detectThreadMXBean();
+
+	private ThreadAllocationHelpers() {
+		// hidden
+	}
+
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	private static com.sun.management.@Nullable ThreadMXBean detectThreadMXBean() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if (threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean) {
+			try {
+				if (sunThreadMXBean.isThreadAllocatedMemorySupported()
+						&& sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+					return sunThreadMXBean;
+				}
+			} catch (RuntimeException e) {
+				log.debug("Issue detecting thread allocated memory support", e);
+			}
+		}
+		log.info("Thread allocated memory is not supported by this JVM: allocations will not be reported");
+		return null;
+	}
+
+	/**
+	 * 
+	 * @return the number of bytes allocated by the current thread since its start, or
+	 *         {@link SizeAndDuration#UNKNOWN_BYTES} if not available (e.g. for a virtual thread, depending on the JVM).
+	 */
+	public static long currentThreadAllocatedBytes() {
+		if (THREAD_MX_BEAN == null) {
+			return SizeAndDuration.UNKNOWN_BYTES;
+		}
+		long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+		if (allocated < 0) {
+			return SizeAndDuration.UNKNOWN_BYTES;
+		}
+		return allocated;
+	}
+
+	/**
+	 * 
+	 * @param before
+	 *            a value previously returned by {@link #currentThreadAllocatedBytes()}, on the same thread.
+	 * @return the number of bytes allocated by the current thread since {@code before}, or
+	 *         {@link SizeAndDuration#UNKNOWN_BYTES} if not available.
+	 */
+	public static long allocatedSince(long before) {
+		if (before < 0) {
+			return SizeAndDuration.UNKNOWN_BYTES;
+		}
+		long after = currentThreadAllocatedBytes();
+		if (after < before) {
+			// Either unknown, or the thread changed (e.g. a virtual thread resumed on another carrier)
+			return SizeAndDuration.UNKNOWN_BYTES;
+		}
+		return after - before;
+	}
+}
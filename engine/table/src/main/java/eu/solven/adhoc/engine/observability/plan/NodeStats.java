@@ -26,6 +26,8 @@ import java.time.Instant;
 
 import org.jspecify.annotations.Nullable;
 
+import eu.solven.adhoc.engine.observability.SizeAndDuration;
+
 import lombok.Builder;
 import lombok.Value;
 
@@ -34,8 +36,8 @@ import lombok.Value;
  * execution in EXPLAIN_ANALYZE_V2 / live-view mode.
  *
  * <p>
- * Memory / I/O byte counters are deliberately omitted — they are hard to measure cheaply on the JVM and we would rather
- * ship without them than ship inaccurate numbers. Add when there is a reliable mechanism.
+ * Memory counters are measured cheaply: allocations through the per-thread allocation counter of the JVM, retention by
+ * introspecting the capacity of the produced columns. I/O byte counters are deliberately omitted.
  *
  * @author Benoit Lacelle
  */
@@ -74,6 +76,16 @@ public class NodeStats {
 	@Builder.Default
 	boolean estimated = false;
 
+	/**
+	 * Bytes allocated by the thread evaluating this node, when known. Allocations by other threads (e.g. partitions
+	 * evaluated concurrently) are not included.
+	 */
+	@Nullable
+	Long allocatedBytes;
+
+	/** Estimated bytes retained by the output of this node, when known. */
+	@Nullable
+	Long retainedBytes;
 	/** Short error string when the node FAILED. {@code null} otherwise. */
 	@Nullable
 	String errorMessage;
@@ -82,4 +94,31 @@ public class NodeStats {
 	public static NodeStats empty() {
 		return NodeStats.builder().build();
 	}
+
+	/**
+	 * 
+	 * @param cost
+	 *            the execution feedback of a completed node
+	 * @return the stats of a completed node
+	 */
+	public static NodeStats fromCost(SizeAndDuration cost) {
+		return NodeStats.builder()
+				.rowsOut(cost.getSize())
+				.elapsedMs(Math.max(0L, cost.getDuration().toMillis()))
+				.allocatedBytes(knownBytes(cost.getAllocatedBytes()))
+				.retainedBytes(knownBytes(cost.getRetainedBytes()))
+				.build();
+	}
+
+	/**
+	 * 
+	 * @param bytes
+	 * @return null if the bytes are unknown (i.e. negative).
+	 */
+	public static @Nullable Long knownBytes(long bytes) {
+		if (bytes < 0) {
+			return null;
+		}
+		return bytes;
+	}
 }
@@ -368,10 +368,7 @@ public class QueryPlanProjector {
 			if (cost == null) {
 				stats = NodeStats.empty();
 			} else {
-				stats = NodeStats.builder()
-						.rowsOut(cost.getSize())
-						.elapsedMs(Math.max(0L, cost.getDuration().toMillis()))
-						.build();
+				stats = NodeStats.fromCost(cost);
 			}
 			String id = emit(step,
 					QueryPlanNode.builder()
@@ -92,6 +92,11 @@ public class QueryPlanSummary {
 	/** Sum of {@link NodeStats#getRowsOut()} across every DONE node. {@code 0} when no stats are populated yet. */
 	long totalRowsOut;
 
+	/**
+	 * Sum of {@link NodeStats#getAllocatedBytes()} across every DONE node. {@code 0} when no stats are populated yet.
+	 */
+	long totalAllocatedBytes;
+
 	/**
 	 * Label of the most-recently completed node (max {@code completedAt}). {@code null} when no node has finished yet.
 	 * Useful for "Last finished: combinator k1.cube — 12 ms" status lines.
@@ -144,6 +149,7 @@ public class QueryPlanSummary {
 				.elapsedMs(elapsed)
 				.startDelayMs(startDelay)
 				.totalRowsOut(counter.rowsOut)
+				.totalAllocatedBytes(counter.allocatedBytes)
 				.latestCompletedLabel(counter.latestCompletedLabel)
 				.build();
 	}
@@ -164,6 +170,9 @@ public class QueryPlanSummary {
 			if (n.getStats().getRowsOut() != null) {
 				counter.rowsOut += n.getStats().getRowsOut();
 			}
+			if (n.getStats().getAllocatedBytes() != null) {
+				counter.allocatedBytes += n.getStats().getAllocatedBytes();
+			}
 			Instant completedAt = n.getStats().getCompletedAt();
 			if (completedAt != null
 					&& (counter.latestCompletedAt == null || completedAt.isAfter(counter.latestCompletedAt))) {
@@ -188,6 +197,7 @@ public class QueryPlanSummary {
 		long running;
 		long failed;
 		long rowsOut;
+		long allocatedBytes;
 		@Nullable
 		Instant latestCompletedAt;
 		@Nullable
@@ -31,6 +31,7 @@ import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 
@@ -49,7 +50,9 @@ import eu.solven.adhoc.model.measure.ReferencedMeasure;
 import eu.solven.adhoc.model.query.IGroupBy;
 import eu.solven.adhoc.model.query.IHasCustomMarker;
 import eu.solven.adhoc.model.query.IHasMeasures;
+import eu.solven.adhoc.model.query.IHasTopClause;
 import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.model.query.top.CubeTopClause;
 import eu.solven.adhoc.options.IHasQueryOptions;
 import eu.solven.adhoc.options.IQueryOption;
 import eu.solven.adhoc.options.StandardQueryOptions;
@@ -91,6 +94,12 @@ public class CubeQuery implements ICubeQuery {
 	@Singular
 	ImmutableSet<IQueryOption> options;
 
+	// Restricts the output to a window of ordered slices
+	@NonNull
+	@Default
+	@JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = CubeTopClause.JsonExcludeNotPresent.class)
+	CubeTopClause topClause = CubeTopClause.NO_LIMIT;
+
 	@Override
 	public Optional<?> optCustomMarker() {
 		return Optional.ofNullable(customMarker);
@@ -274,6 +283,9 @@ public class CubeQuery implements ICubeQuery {
 		if (query instanceof IHasQueryOptions hasQueryOptions) {
 			builder.options(hasQueryOptions.getOptions());
 		}
+		if (query instanceof IHasTopClause hasTopClause) {
+			builder.topClause(hasTopClause.getTopClause());
+		}
 
 		return builder;
 	}
@@ -26,6 +26,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -53,10 +54,12 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 
 import eu.solven.adhoc.collection.AdhocCollectionHelpers;
+import eu.solven.adhoc.column.IColumnsManager;
 import eu.solven.adhoc.column.calculated.ICalculatedColumn;
 import eu.solven.adhoc.column.generated_column.IColumnGenerator;
 import eu.solven.adhoc.cuboid.ICuboid;
 import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.aggregating.spill.SpillBudget;
 import eu.solven.adhoc.dataframe.column.Cuboid;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
 import eu.solven.adhoc.dataframe.column.IMultitypeMergeableColumn;
@@ -68,12 +71,16 @@ import eu.solven.adhoc.dataframe.tabular.ITabularView;
 import eu.solven.adhoc.dataframe.tabular.ListMapEntryBasedTabularViewDrillThrough;
 import eu.solven.adhoc.engine.ISinkExecutionFeedback;
 import eu.solven.adhoc.engine.QueryStepsDag;
+import eu.solven.adhoc.engine.cache.ICuboidSizeEstimator;
+import eu.solven.adhoc.engine.cache.StandardCuboidSizeEstimator;
 import eu.solven.adhoc.engine.concurrent.QueryEngineConcurrencyHelper;
+import eu.solven.adhoc.engine.concurrent.SingleFlight;
 import eu.solven.adhoc.engine.dag.IAdhocDag;
 import eu.solven.adhoc.engine.observability.DagExplainer;
 import eu.solven.adhoc.engine.observability.DagExplainerForPerfs;
 import eu.solven.adhoc.engine.observability.SizeAndDuration;
 import eu.solven.adhoc.engine.observability.TableDagExplainer;
+import eu.solven.adhoc.engine.observability.ThreadAllocationHelpers;
 import eu.solven.adhoc.engine.observability.plan.IQueryPlanRegistry;
 import eu.solven.adhoc.engine.observability.plan.NodeOperator;
 import eu.solven.adhoc.engine.observability.plan.NodeState;
@@ -82,6 +89,9 @@ import eu.solven.adhoc.engine.observability.plan.QueryPlanNode;
 import eu.solven.adhoc.engine.observability.plan.QueryPlanProjector;
 import eu.solven.adhoc.engine.step.CubeQueryStep;
 import eu.solven.adhoc.engine.step.TableQueryStep;
+import eu.solven.adhoc.engine.tabular.cost.ITableQueryCostModel;
+import eu.solven.adhoc.engine.tabular.cost.NoopTableQueryCostModel;
+import eu.solven.adhoc.engine.tabular.cost.TableStepShape;
 import eu.solven.adhoc.engine.tabular.inducer.ITableQueryInducer;
 import eu.solven.adhoc.engine.tabular.optimizer.IHasDagFromInducedToInducer;
 import eu.solven.adhoc.engine.tabular.optimizer.IHasFilterOptimizer;
@@ -105,13 +115,20 @@ import eu.solven.adhoc.filter.ISliceFilter;
 import eu.solven.adhoc.filter.editor.SimpleFilterEditor;
 import eu.solven.adhoc.filter.optimizer.IFilterOptimizer;
 import eu.solven.adhoc.filter.value.IValueMatcher;
+import eu.solven.adhoc.map.factory.ISliceFactory;
 import eu.solven.adhoc.measure.AdhocBlackHole;
 import eu.solven.adhoc.model.column.IAdhocColumn;
+import eu.solven.adhoc.model.column.ReferencedColumn;
 import eu.solven.adhoc.model.measure.Aggregator;
 import eu.solven.adhoc.model.measure.Dispatchor;
 import eu.solven.adhoc.model.measure.EmptyMeasure;
 import eu.solven.adhoc.model.measure.IMeasure;
 import eu.solven.adhoc.model.query.IGroupBy;
+import eu.solven.adhoc.model.query.IHasMeasures;
+import eu.solven.adhoc.model.query.IHasTopClause;
+import eu.solven.adhoc.model.query.top.CubeOrderBy;
+import eu.solven.adhoc.model.query.top.CubeTopClause;
+import eu.solven.adhoc.options.SpillToDisk;
 import eu.solven.adhoc.options.StandardQueryOptions;
 import eu.solven.adhoc.query.groupby.GroupByHelpers;
 import eu.solven.adhoc.query.table.FilteredAggregator;
@@ -119,6 +136,7 @@ import eu.solven.adhoc.query.table.TableQuery;
 import eu.solven.adhoc.query.table.TableQueryV2;
 import eu.solven.adhoc.query.table.TableQueryV3;
 import eu.solven.adhoc.query.table.TableQueryV4;
+import eu.solven.adhoc.query.top.AdhocTopClause;
 import eu.solven.adhoc.table.IQueryPod;
 import eu.solven.adhoc.table.ITableWrapper;
 import eu.solven.adhoc.util.IStopwatch;
@@ -142,6 +160,7 @@ import lombok.extern.slf4j.Slf4j;
 @SuppressWarnings({ "PMD.GodClass", "PMD.CouplingBetweenObjects" })
 // https://math.stackexchange.com/questions/2966359/how-to-calculate-cost-in-discrete-markov-transitions
 public class TableQueryEngine implements ITableQueryEngine {
+	private static final ICuboidSizeEstimator CUBOID_SIZE_ESTIMATOR = new StandardCuboidSizeEstimator();
 
 	@NonNull
 	@Default
@@ -161,8 +180,30 @@ public class TableQueryEngine implements ITableQueryEngine {
 
 	final ITableQueryInducer inducer;
 
+	/**
+	 * Deduplicates concurrent identical table queries. It is shared across queries when provided by a long-lived
+	 * {@link ITableQueryEngineFactory}.
+	 */
+	@NonNull
+	@Default
+	final SingleFlight<TableQueryFlightKey, Map<TableQueryStep, ICuboid>> tableQueriesFlight = new SingleFlight<>();
+
+	/**
+	 * Records the costs of the table steps. It is shared across queries when provided by a long-lived
+	 * {@link ITableQueryEngineFactory}.
+	 */
+	@NonNull
+	@Default
+	final ITableQueryCostModel costModel = NoopTableQueryCostModel.INSTANCE;
+
 	final Supplier<Set<String>> generatedColumnsSupplier = Suppliers.memoize(this::computeGeneratedColumns);
 
+	// The steps evaluated by a table query limited by a pushed-down top clause
+	final Set<TableQueryStep> truncatedSteps = ConcurrentHashMap.newKeySet();
+
+	// The disk space spilled by all the table queries of this query
+	final Supplier<SpillBudget> spillBudget = Suppliers.memoize(this::makeSpillBudget);
+
 	/**
 	 * Plan-fragment cache of the {@link NodeOperator#TABLE_QUERY} {@link QueryPlanNode}s built by
 	 * {@link #processOneTableQuery}. Keyed by the {@link TableQueryV4} the V4 represents so
@@ -185,6 +226,12 @@ public class TableQueryEngine implements ITableQueryEngine {
 		}
 	});
 
+	protected SpillBudget makeSpillBudget() {
+		return SpillToDisk.lookup(queryPod.getOptions())
+				.map(spillToDisk -> SpillBudget.of(spillToDisk.diskBudgetBytes()))
+				.orElseGet(SpillBudget::unbounded);
+	}
+
 	@Override
 	public Map<TableQueryStep, ICuboid> executeTableQueries(QueryStepsDag queryStepsDag) {
 		ISinkExecutionFeedback executionFeedfack = prepareExecutionFeedback(queryStepsDag);
@@ -204,6 +251,12 @@ public class TableQueryEngine implements ITableQueryEngine {
 		Map<TableQueryStep, ICuboid> stepToSuppressedValues =
 				executeTableQueries(suppressedQuerySteps, executionFeedfack);
 
+		calculatedToSuppressed.forEach((generatedStep, suppressedStep) -> {
+			if (truncatedSteps.contains(suppressedStep)) {
+				queryStepsDag.getTruncatedSteps().add(CubeQueryStep.edit(generatedStep).build());
+			}
+		});
+
 		return restoreSuppressedGroupBy(calculatedToSuppressed, stepToSuppressedValues);
 	}
 
@@ -302,7 +355,7 @@ public class TableQueryEngine implements ITableQueryEngine {
 	protected Map<TableQueryStep, ICuboid> executeTableQueries(Set<TableQueryStep> steps,
 			ISinkExecutionFeedback executionFeedfack) {
 		// Split these queries given inducing logic. (e.g. `SUM(a) GROUP BY b` may be induced by `SUM(a) GROUP BY b, c`)
-		SplitTableQueries withoutShared = tableQueryFactory.splitInduced(queryPod, steps);
+		SplitTableQueries withoutShared = pushdownTopClause(tableQueryFactory.splitInduced(queryPod, steps));
 
 		// Evaluate shared nodes asynchronously, in parallel of tableQueries
 		ListenableFuture<IAdhocDag<TableQueryStep>> futureSharedGraph = queryPod.getExecutorService().submit(() -> {
@@ -310,7 +363,9 @@ public class TableQueryEngine implements ITableQueryEngine {
 		});
 
 		// Execute the actual tableQueries
+		IStopwatch tableQueriesStopwatch = factories.getStopwatchFactory().createStarted();
 		Map<TableQueryStep, ICuboid> stepToValuesFromtableWrapper = executeTableQueries(withoutShared, withoutShared);
+		Duration tableQueriesElapsed = tableQueriesStopwatch.elapsed();
 
 		// Wait for sharedNodes execution
 		SplitTableQueries withShared = waitAndMergeSharedNodes(withoutShared, futureSharedGraph);
@@ -343,9 +398,41 @@ public class TableQueryEngine implements ITableQueryEngine {
 		publishInducedFragments(withShared);
 
 		transferSizeAndCost(withShared, executionFeedfack);
+		recordCosts(withShared, tableQueriesElapsed);
 		return stepToValues;
 	}
 
+	/**
+	 * Feeds the {@link ITableQueryCostModel} with the costs of this query, to help planning later queries.
+	 * 
+	 * @param inducerAndInduced
+	 * @param tableQueriesElapsed
+	 *            the time spent executing the tableQueries
+	 */
+	protected void recordCosts(SplitTableQueries inducerAndInduced, Duration tableQueriesElapsed) {
+		if (costModel == NoopTableQueryCostModel.INSTANCE) {
+			// Skip computing the shapes
+			return;
+		}
+
+		String table = queryPod.getTable().getName();
+		Set<TableQueryStep> inducers = inducerAndInduced.getInducers();
+
+		inducerAndInduced.getStepToCost().forEach((step, cost) -> {
+			TableStepShape shape = TableStepShape.of(table, step);
+			if (inducers.contains(step)) {
+				costModel.onTableStep(shape, cost);
+			} else {
+				costModel.onInducedStep(shape, cost);
+			}
+		});
+
+		Set<TableStepShape> inducerShapes = inducers.stream()
+				.map(inducer -> TableStepShape.of(table, inducer))
+				.collect(ImmutableSet.toImmutableSet());
+		costModel.onTableQueries(inducerShapes, tableQueriesElapsed);
+	}
+
 	/**
 	 * Publish a {@link QueryPlanNode} fragment for every induced {@link TableQueryStep} — i.e. every step in the
 	 * table-side DAG that is NOT itself an inducer (those are already published as anchors of the merged
@@ -414,10 +501,7 @@ public class TableQueryEngine implements ITableQueryEngine {
 				stats = NodeStats.empty();
 			} else {
 				state = NodeState.DONE;
-				stats = NodeStats.builder()
-						.rowsOut(cost.getSize())
-						.elapsedMs(Math.max(0L, cost.getDuration().toMillis()))
-						.build();
+				stats = NodeStats.fromCost(cost);
 			}
 
 			// IMPORTANT: subject MUST NOT be `induced` itself. The fragment is anchored on `induced`
@@ -466,6 +550,116 @@ public class TableQueryEngine implements ITableQueryEngine {
 				.forEach(e -> executionFeedfack.registerExecutionFeedback(e.getKey(), e.getValue()));
 	}
 
+	/**
+	 * Pushes the cube-level {@link CubeTopClause} down to the table as an {@link AdhocTopClause}, when the table output
+	 * is the cube output. The engine still selects the final window: a table ignoring the clause returns a superset.
+	 * 
+	 * @param split
+	 * @return a {@link SplitTableQueries} where the single {@link TableQueryV4} may be limited.
+	 */
+	protected SplitTableQueries pushdownTopClause(SplitTableQueries split) {
+		Optional<AdhocTopClause> optTopClause = makePushdownTopClause(split);
+		if (optTopClause.isEmpty()) {
+			return split;
+		}
+
+		TableQueryV4 limited =
+				AdhocCollectionHelpers.getFirst(split.getTableQueries()).toBuilder().topClause(optTopClause.get()).build();
+		log.debug("Pushing down topClause={} into {}", optTopClause.get(), limited);
+
+		Map<TableQueryStep, TableQueryV4> stepToTables = new LinkedHashMap<>();
+		split.getStepToTables().keySet().forEach(step -> stepToTables.put(step, limited));
+		truncatedSteps.addAll(stepToTables.keySet());
+		return split.toBuilder().clearStepToTables().stepToTables(stepToTables).build();
+	}
+
+	/**
+	 * The pushdown is restricted to the case where discarded slices can not be needed by the engine:
+	 * <ul>
+	 * <li>every queried measure is an {@link Aggregator}, hence no transformator consumes the table output,</li>
+	 * <li>a single {@link TableQueryV4} is evaluated along the query {@link IGroupBy}, without induced steps,</li>
+	 * <li>each {@link CubeOrderBy} refers to an aggregator or a groupBy column, in a single direction.</li>
+	 * </ul>
+	 * 
+	 * @param split
+	 * @return the {@link AdhocTopClause} to push down, if applicable.
+	 */
+	protected Optional<AdhocTopClause> makePushdownTopClause(SplitTableQueries split) {
+		if (!(queryPod.getQuery() instanceof IHasTopClause hasTopClause)
+				|| !(queryPod.getQuery() instanceof IHasMeasures hasMeasures)) {
+			return Optional.empty();
+		}
+		CubeTopClause cubeTopClause = hasTopClause.getTopClause();
+		if (!cubeTopClause.isLimited() || cubeTopClause.getOrderBys().isEmpty()) {
+			return Optional.empty();
+		}
+
+		// AdhocTopClause has a single direction
+		Set<Boolean> directions =
+				cubeTopClause.getOrderBys().stream().map(CubeOrderBy::isDesc).collect(Collectors.toSet());
+		if (directions.size() != 1) {
+			return Optional.empty();
+		}
+
+		Set<String> aggregatorNames = new HashSet<>();
+		for (IMeasure measure : hasMeasures.getMeasures()) {
+			if (queryPod.resolveIfRef(measure) instanceof Aggregator aggregator) {
+				aggregatorNames.add(aggregator.getName());
+			} else {
+				// A transformator may need the slices discarded by the limit
+				return Optional.empty();
+			}
+		}
+
+		if (split.getTableQueries().size() != 1 || split.edgeCount() > 0) {
+			return Optional.empty();
+		}
+		TableQueryV4 tableQuery = AdhocCollectionHelpers.getFirst(split.getTableQueries());
+		Set<String> groupByColumns = queryPod.getQuery().getGroupBy().getSequencedColumns();
+		if (tableQuery.getGroupBys().size() != 1 || !AdhocCollectionHelpers.getFirst(tableQuery.getGroupBys())
+				.getSequencedColumns()
+				.equals(groupByColumns)) {
+			// e.g. some generated columns are suppressed from the table groupBy
+			return Optional.empty();
+		}
+
+		Set<String> aliases = tableQuery.getGroupByToAggregators()
+				.values()
+				.stream()
+				.map(FilteredAggregator::getAlias)
+				.collect(Collectors.toSet());
+		boolean orderByAreKnown = cubeTopClause.getOrderBys().stream().map(CubeOrderBy::getName).allMatch(name -> {
+			if (aggregatorNames.contains(name)) {
+				return aliases.contains(name);
+			} else {
+				return groupByColumns.contains(name);
+			}
+		});
+		if (!orderByAreKnown) {
+			return Optional.empty();
+		}
+
+		// The engine breaks ties by the slice natural ordering, i.e. by ascending coordinates along the sorted
+		// columns: the table must break ties the same way, else it may discard slices selected by the engine
+		Set<String> orderByNames =
+				cubeTopClause.getOrderBys().stream().map(CubeOrderBy::getName).collect(Collectors.toSet());
+		List<ReferencedColumn> tieBreakers = groupByColumns.stream()
+				.sorted()
+				.filter(column -> !orderByNames.contains(column))
+				.map(ReferencedColumn::ref)
+				.toList();
+
+		return Optional.of(AdhocTopClause.builder()
+				.columns(cubeTopClause.getOrderBys().stream().map(o -> ReferencedColumn.ref(o.getName())).toList())
+				.tieBreakers(tieBreakers)
+				.desc(directions.iterator().next())
+				// The engine sorts `null` last: the table must not fill the limit with `null` aggregates
+				.nullsLast(true)
+				// The offset is applied by the engine
+				.limit(cubeTopClause.getFetchSize())
+				.build());
+	}
+
 	protected DagExplainer makeDagExplainer() {
 		return DagExplainer.builder().eventBus(eventBus).build();
 	}
@@ -474,12 +668,15 @@ public class TableQueryEngine implements ITableQueryEngine {
 		makeDagExplainer().explain(tableQueryPod.getQueryId(), queryStepsDag);
 	}
 
-	protected DagExplainer makeDagExplainerForPerfs() {
-		return DagExplainerForPerfs.builder().eventBus(eventBus).build();
+	protected DagExplainer makeDagExplainerForPerfs(IQueryPod tableQueryPod) {
+		return DagExplainerForPerfs.builder()
+				.eventBus(eventBus)
+				.memory(StandardQueryOptions.EXPLAIN_MEMORY.isActive(tableQueryPod.getOptions()))
+				.build();
 	}
 
 	protected void explainDagPerfs(IQueryPod tableQueryPod, IHasDagFromInducedToInducer<?> queryStepsDag) {
-		makeDagExplainerForPerfs().explain(tableQueryPod.getQueryId(), queryStepsDag);
+		makeDagExplainerForPerfs(tableQueryPod).explain(tableQueryPod.getQueryId(), queryStepsDag);
 	}
 
 	// Manages concurrency: the logic here should be strictly minimal on-top of concurrency
@@ -548,11 +745,13 @@ public class TableQueryEngine implements ITableQueryEngine {
 		}
 
 		IStopwatch stopWatch = factories.getStopwatchFactory().createStarted();
+		long allocatedBefore = ThreadAllocationHelpers.currentThreadAllocatedBytes();
 
 		Map<TableQueryStep, ICuboid> stepToValues =
 				processOneTableQueryV4(sinkExecutionFeedback, tableQueries, tableQuery);
 
 		Duration elapsed = stopWatch.elapsed();
+		long allocatedBytes = ThreadAllocationHelpers.allocatedSince(allocatedBefore);
 		long nbCells = stepToValues.values().stream().mapToLong(ICuboid::size).sum();
 		eventBus.post(TableStepIsCompleted.builder()
 				.tableQuery(tableQuery)
@@ -564,7 +763,12 @@ public class TableQueryEngine implements ITableQueryEngine {
 		// Mutate the V4 node in-place so subsequent snapshots see the final stats. The plan model already mutates
 		// state/stats in place for cube-side nodes (see QueryPlanNode#setState/setStats); same contract here.
 		v4Node.setState(NodeState.DONE);
-		v4Node.setStats(NodeStats.builder().rowsOut(nbCells).elapsedMs(Math.max(0L, elapsed.toMillis())).build());
+		v4Node.setStats(NodeStats.builder()
+				.rowsOut(nbCells)
+				.elapsedMs(Math.max(0L, elapsed.toMillis()))
+				.allocatedBytes(NodeStats.knownBytes(allocatedBytes))
+				.retainedBytes(stepToValues.values().stream().mapToLong(this::estimateRetainedBytes).sum())
+				.build());
 
 		eventBus.post(AdhocLogEvent.builder()
 				.debug(queryPod.isDebug())
@@ -631,9 +835,76 @@ public class TableQueryEngine implements ITableQueryEngine {
 	protected Map<TableQueryStep, ICuboid> executeOneNonAmbiguous(ISinkExecutionFeedback sinkExecutionFeedback,
 			IHasTableQueryForSteps tableQueries,
 			TableQueryV4 tableQuery) {
-		IStopwatch stopWatchSinking;
+		IStopwatch stopWatchSinking = factories.getStopwatchFactory().createStarted();
+		long allocatedBefore = ThreadAllocationHelpers.currentThreadAllocatedBytes();
 		Map<TableQueryStep, ICuboid> stepToValues;
 
+		if (isSingleFlight()) {
+			Set<TableQueryStep> sourceSteps = ImmutableSet.copyOf(collectSourceSteps(tableQueries, tableQuery));
+			TableQueryFlightKey key = new TableQueryFlightKey(queryPod.getTable(),
+					queryPod.getColumnsManager(),
+					queryPod.getSliceFactory(),
+					tableQuery,
+					sourceSteps);
+
+			Map<TableQueryStep, ICuboid> sharedStepToValues =
+					tableQueriesFlight.execute(key,
+							queryPod,
+							queryPod.getDeadlineNanoTime(),
+							() -> openAndAggregate(tableQueries, tableQuery));
+			stepToValues = rekeyOnOwnSteps(sourceSteps, sharedStepToValues);
+		} else {
+			stepToValues = openAndAggregate(tableQueries, tableQuery);
+		}
+
+		Duration elapsed = stopWatchSinking.elapsed();
+		long allocatedBytes = ThreadAllocationHelpers.allocatedSince(allocatedBefore);
+		reportOnTableQuery(tableQuery, sinkExecutionFeedback, elapsed, allocatedBytes, stepToValues);
+		return stepToValues;
+	}
+
+	/**
+	 * Identifies a table query which can be shared by concurrent queries: the {@link TableQueryV4} is not enough, as the
+	 * table, the columns (e.g. transcoding) and the steps relying on it may differ.
+	 */
+	protected record TableQueryFlightKey(ITableWrapper table,
+			IColumnsManager columnsManager,
+			ISliceFactory sliceFactory,
+			TableQueryV4 tableQuery,
+			Set<TableQueryStep> steps) {
+	}
+
+	/**
+	 * DEBUG and EXPLAIN expects the logs of their own execution, and NO_CACHE expects a fresh execution.
+	 * 
+	 * @return true if this query can share the execution of a concurrent identical table query.
+	 */
+	protected boolean isSingleFlight() {
+		return !queryPod.isDebugOrExplain() && !StandardQueryOptions.NO_CACHE.isActive(queryPod.getOptions());
+	}
+
+	/**
+	 * A shared result is keyed by the steps of the query which executed it. These steps are equal but not the same:
+	 * they would not hold the cache of current query.
+	 */
+	protected Map<TableQueryStep, ICuboid> rekeyOnOwnSteps(Set<TableQueryStep> sourceSteps,
+			Map<TableQueryStep, ICuboid> sharedStepToValues) {
+		Map<TableQueryStep, ICuboid> stepToValues = new LinkedHashMap<>();
+		sourceSteps.forEach(step -> {
+			ICuboid cuboid = sharedStepToValues.get(step);
+			if (cuboid != null) {
+				stepToValues.put(step, cuboid);
+			}
+		});
+		if (stepToValues.size() != sharedStepToValues.size()) {
+			throw new IllegalStateException("Inconsistent steps: %s vs %s".formatted(sourceSteps,
+					sharedStepToValues.keySet()));
+		}
+		return stepToValues;
+	}
+
+	protected Map<TableQueryStep, ICuboid> openAndAggregate(IHasTableQueryForSteps tableQueries,
+			TableQueryV4 tableQuery) {
 		IStopwatch openingStopwatch = factories.getStopwatchFactory().createStarted();
 		// Open the stream: the table may or may not return after the actual execution
 		try (ITabularRecordStream rowsStream = openTableStream(tableQuery)) {
@@ -651,13 +922,8 @@ public class TableQueryEngine implements ITableQueryEngine {
 						.build());
 			}
 
-			stopWatchSinking = factories.getStopwatchFactory().createStarted();
-			stepToValues = aggregateStreamToAggregates(tableQueries, tableQuery, rowsStream);
+			return aggregateStreamToAggregates(tableQueries, tableQuery, rowsStream);
 		}
-
-		Duration elapsed = stopWatchSinking.elapsed();
-		reportOnTableQuery(tableQuery, sinkExecutionFeedback, elapsed, stepToValues);
-		return stepToValues;
 	}
 
 	/**
@@ -779,6 +1045,7 @@ public class TableQueryEngine implements ITableQueryEngine {
 	protected void reportOnTableQuery(TableQueryV4 tableQuery,
 			ISinkExecutionFeedback sinkExecutionFeedback,
 			Duration elapsed,
+			long allocatedBytes,
 			Map<TableQueryStep, ICuboid> oneQueryStepToValues) {
 		boolean isExplain = queryPod.isDebugOrExplain();
 
@@ -788,6 +1055,14 @@ public class TableQueryEngine implements ITableQueryEngine {
 			dagExplainer.header(toPerfLog(tableQuery));
 		}
 
+		// The allocations are not decomposed per aggregator: they are spread evenly, so that they sum up correctly
+		long stepAllocatedBytes;
+		if (allocatedBytes < 0 || oneQueryStepToValues.isEmpty()) {
+			stepAllocatedBytes = allocatedBytes;
+		} else {
+			stepAllocatedBytes = allocatedBytes / oneQueryStepToValues.size();
+		}
+
 		for (Map.Entry<TableQueryStep, ICuboid> entry : oneQueryStepToValues.entrySet()) {
 			TableQueryStep queryStep = entry.getKey();
 			ICuboid column = entry.getValue();
@@ -801,7 +1076,12 @@ public class TableQueryEngine implements ITableQueryEngine {
 					.build());
 
 			sinkExecutionFeedback.registerExecutionFeedback(queryStep,
-					SizeAndDuration.builder().size(column.size()).duration(elapsed).build());
+					SizeAndDuration.builder()
+							.size(column.size())
+							.duration(elapsed)
+							.allocatedBytes(stepAllocatedBytes)
+							.retainedBytes(estimateRetainedBytes(column))
+							.build());
 
 			if (isExplain) {
 				dagExplainer.step(toPerfLog(queryStep));
@@ -1076,6 +1356,7 @@ public class TableQueryEngine implements ITableQueryEngine {
 				.sliceFactory(queryPod.getSliceFactory())
 				.queryPod(queryPod)
 				.tableQuery(tableQuery)
+				.spillBudget(spillBudget.get())
 				.build();
 	}
 
@@ -1218,11 +1499,13 @@ public class TableQueryEngine implements ITableQueryEngine {
 			eventBus.post(QueryStepIsEvaluating.builder().queryStep(induced).source(this).build());
 
 			IStopwatch stopWatch = factories.getStopwatchFactory().createStarted();
+			long allocatedBefore = ThreadAllocationHelpers.currentThreadAllocatedBytes();
 
 			IMultitypeMergeableColumn<ISlice> inducedValues =
 					inducer.evaluateInduced(queryPod, inducerAndInduced, stepToValues, induced);
 
 			Duration elapsed = stopWatch.elapsed();
+			long allocatedBytes = ThreadAllocationHelpers.allocatedSince(allocatedBefore);
 			eventBus.post(QueryStepIsCompleted.builder()
 					.querystep(induced)
 					.nbCells(inducedValues.size())
@@ -1230,8 +1513,8 @@ public class TableQueryEngine implements ITableQueryEngine {
 					.duration(elapsed)
 					.build());
 
-			ICuboid alreadyPresent =
-					stepToValues.putIfAbsent(induced, Cuboid.forGroupBy(induced).values(inducedValues).build());
+			ICuboid inducedCuboid = Cuboid.forGroupBy(induced).values(inducedValues).build();
+			ICuboid alreadyPresent = stepToValues.putIfAbsent(induced, inducedCuboid);
 			if (alreadyPresent != null) {
 				// This may happen on CONCURRENT queries, as we might request the same underlying multiple times.
 				log.warn("Already present: induced={} (from {} to {}). Should not happen since 0.0.14",
@@ -1241,7 +1524,21 @@ public class TableQueryEngine implements ITableQueryEngine {
 			}
 
 			inducerAndInduced.registerExecutionFeedback(induced,
-					SizeAndDuration.builder().size(inducedValues.size()).duration(elapsed).build());
+					SizeAndDuration.builder()
+							.size(inducedValues.size())
+							.duration(elapsed)
+							.allocatedBytes(allocatedBytes)
+							.retainedBytes(estimateRetainedBytes(inducedCuboid))
+							.build());
 		}
 	}
+
+	/**
+	 * 
+	 * @param cuboid
+	 * @return an estimation of the bytes retained by given {@link ICuboid}.
+	 */
+	protected long estimateRetainedBytes(ICuboid cuboid) {
+		return CUBOID_SIZE_ESTIMATOR.estimateBytes(cuboid);
+	}
 }
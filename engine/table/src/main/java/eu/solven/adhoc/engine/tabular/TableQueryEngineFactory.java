@@ -29,7 +29,10 @@ import org.jspecify.annotations.NonNull;
 import eu.solven.adhoc.cuboid.ICuboid;
 import eu.solven.adhoc.dataframe.tabular.ITabularView;
 import eu.solven.adhoc.engine.QueryStepsDag;
+import eu.solven.adhoc.engine.concurrent.SingleFlight;
 import eu.solven.adhoc.engine.step.TableQueryStep;
+import eu.solven.adhoc.engine.tabular.cost.ITableQueryCostModel;
+import eu.solven.adhoc.engine.tabular.cost.NoopTableQueryCostModel;
 import eu.solven.adhoc.engine.tabular.inducer.ITableQueryInducer;
 import eu.solven.adhoc.engine.tabular.inducer.ITableQueryInducerFactory;
 import eu.solven.adhoc.engine.tabular.inducer.TableQueryInducerFactory;
@@ -82,6 +85,17 @@ public class TableQueryEngineFactory implements ITableQueryEngineFactory {
 	@Default
 	final ITableQueryInducerFactory inducerFactory = new TableQueryInducerFactory();
 
+	// Shared across queries, so that concurrent identical tableQueries are executed only once
+	@NonNull
+	@Default
+	final SingleFlight<TableQueryEngine.TableQueryFlightKey, Map<TableQueryStep, ICuboid>> tableQueriesFlight =
+			new SingleFlight<>();
+
+	// Shared across queries, so that the costs observed by a query help planning the next ones
+	@NonNull
+	@Default
+	final ITableQueryCostModel costModel = NoopTableQueryCostModel.INSTANCE;
+
 	@Override
 	public Map<TableQueryStep, ICuboid> executeTableQueries(IQueryPod queryPod, QueryStepsDag queryStepsDag) {
 		return bootstrap(queryPod).executeTableQueries(queryStepsDag);
@@ -121,6 +135,8 @@ public class TableQueryEngineFactory implements ITableQueryEngineFactory {
 				.queryPod(queryPod)
 				.tableQueryFactory(optimizer)
 				.inducer(inducer)
+				.tableQueriesFlight(tableQueriesFlight)
+				.costModel(costModel)
 				.build();
 	}
 
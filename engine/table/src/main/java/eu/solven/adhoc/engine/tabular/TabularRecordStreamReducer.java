@@ -22,44 +22,67 @@
  */
 package eu.solven.adhoc.engine.tabular;
 
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.Sets;
+import com.google.common.primitives.Ints;
 
 import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.aggregating.AdhocPrimitiveMapHelpers;
 import eu.solven.adhoc.dataframe.aggregating.AggregatingColumns;
 import eu.solven.adhoc.dataframe.aggregating.AggregatingColumnsDistinct;
 import eu.solven.adhoc.dataframe.aggregating.PartitionedMultitypeMergeableGrid;
+import eu.solven.adhoc.dataframe.aggregating.SpillingAggregatingColumns;
+import eu.solven.adhoc.dataframe.aggregating.spill.SliceSpillKeyCodec;
+import eu.solven.adhoc.dataframe.aggregating.spill.SpillBudget;
 import eu.solven.adhoc.dataframe.column.partitioned.IPartitioned;
 import eu.solven.adhoc.dataframe.column.partitioned.PartitioningHelpers;
+import eu.solven.adhoc.dataframe.column.partitioned.ShardKey;
 import eu.solven.adhoc.dataframe.column.partitioned.ShardingForEachParameters;
 import eu.solven.adhoc.dataframe.filter.FilterMatcher;
 import eu.solven.adhoc.dataframe.row.ITabularRecord;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatch;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatch.IAggregateColumn;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatch.IDictionarizedColumn;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatchStream;
 import eu.solven.adhoc.dataframe.row.ITabularRecordStream;
 import eu.solven.adhoc.dataframe.tabular.IMultitypeMergeableGrid;
 import eu.solven.adhoc.dataframe.tabular.IMultitypeMergeableGrid.IOpenedSlice;
+import eu.solven.adhoc.encoding.column.AdhocColumnUnsafe;
+import eu.solven.adhoc.engine.cancel.AmortizedCancellationCheck;
+import eu.solven.adhoc.engine.cancel.CancellationHelpers;
+import eu.solven.adhoc.engine.cancel.CancelledQueryException;
 import eu.solven.adhoc.engine.tabular.groupingset.GroupingSetMergeableGrid;
 import eu.solven.adhoc.engine.tabular.groupingset.IGroupingSetAnalyzer;
 import eu.solven.adhoc.engine.tabular.groupingset.IGroupingSetAnalyzer.GroupByMarker;
 import eu.solven.adhoc.engine.tabular.groupingset.UniqueGroupingSetAnalyzer;
 import eu.solven.adhoc.exception.AdhocExceptionHelpers;
+import eu.solven.adhoc.factories.IColumnFactory;
 import eu.solven.adhoc.factories.PodExecutors;
+import eu.solven.adhoc.map.factory.IMapBuilderPreKeys;
 import eu.solven.adhoc.map.factory.ISliceFactory;
 import eu.solven.adhoc.map.keyset.SequencedSetLikeList;
 import eu.solven.adhoc.map.keyset.SequencedSetUnsafe;
 import eu.solven.adhoc.measure.operator.IOperatorFactory;
 import eu.solven.adhoc.measure.sum.EmptyAggregation;
 import eu.solven.adhoc.model.query.IGroupBy;
+import eu.solven.adhoc.options.SpillToDisk;
 import eu.solven.adhoc.options.StandardQueryOptions;
 import eu.solven.adhoc.primitive.IValueProvider;
 import eu.solven.adhoc.primitive.IValueReceiver;
@@ -67,9 +90,11 @@ import eu.solven.adhoc.query.table.FilteredAggregator;
 import eu.solven.adhoc.query.table.TableQueryV4;
 import eu.solven.adhoc.stream.IConsumingStream;
 import eu.solven.adhoc.table.IQueryPod;
+import eu.solven.adhoc.table.statistics.ColumnStatisticsHelpers;
 import eu.solven.adhoc.util.AdhocUnsafe;
 import eu.solven.pepper.core.PepperStreamHelper;
 import lombok.Builder;
+import lombok.Builder.Default;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
@@ -94,25 +119,93 @@ public class TabularRecordStreamReducer implements ITabularRecordStreamReducer {
 	@NonNull
 	TableQueryV4 tableQuery;
 
+	// Shared by the table queries of a query. If null, it is shared by the grids of this reducer only.
+	@Nullable
+	SpillBudget spillBudget;
+
+	// The FILTER of EMPTY aggregators are applied on each record: they are compiled once per aggregator
+	@NonNull
+	@Default
+	Map<FilteredAggregator, FilterMatcher> emptyAggregatorToMatcher = new ConcurrentHashMap<>();
+
 	protected IMultitypeMergeableGrid<ISlice> makeAggregatingMeasures(ITabularRecordStream stream,
 			Set<FilteredAggregator> aggregators) {
+		boolean partitioned = StandardQueryOptions.PARTITIONED.isActive(queryPod.getOptions());
+		int nbPartitions;
+		if (partitioned) {
+			nbPartitions = AdhocUnsafe.getParallelism();
+		} else {
+			nbPartitions = 1;
+		}
+
+		// Size the aggregates up front given the table column statistics
+		final int initialCapacity;
+		OptionalLong optEstimatedSlices = estimateSlices();
+		if (optEstimatedSlices.isPresent()) {
+			long estimatedSlices = optEstimatedSlices.getAsLong();
+			// `NO_ESTIMATION` is `0`: an empty result is sized as a single slice
+			initialCapacity = Ints.saturatedCast(Math.max(1,
+					Math.min(estimatedSlices / nbPartitions, AdhocColumnUnsafe.getDefaultColumnCapacity())));
+
+			if (queryPod.isDebugOrExplain()) {
+				log.info("[EXPLAIN] Aggregates sized for estimatedSlices={} given column statistics", estimatedSlices);
+			}
+		} else {
+			initialCapacity = IColumnFactory.NO_ESTIMATION;
+		}
+
 		Supplier<IMultitypeMergeableGrid<ISlice>> gridFactory;
 
-		if (stream.isDistinctSlices()) {
-			gridFactory = () -> AggregatingColumnsDistinct.<ISlice>builder().operatorFactory(operatorFactory).build();
+		Optional<SpillToDisk> optSpillToDisk = SpillToDisk.lookup(queryPod.getOptions());
+		if (optSpillToDisk.isPresent()) {
+			SpillToDisk spillToDisk = optSpillToDisk.get();
+			if (queryPod.isDebugOrExplain()) {
+				log.info("[EXPLAIN] Aggregates may spill to disk given {}", spillToDisk);
+			}
+
+			// One budget for all grids (e.g. one grid per partition)
+			SpillBudget diskBudget;
+			if (spillBudget == null) {
+				diskBudget = SpillBudget.of(spillToDisk.diskBudgetBytes());
+			} else {
+				diskBudget = spillBudget;
+			}
+			gridFactory = () -> SpillingAggregatingColumns.<ISlice>builder()
+					.operatorFactory(operatorFactory)
+					.keyCodec(new SliceSpillKeyCodec())
+					.diskBudget(diskBudget)
+					.heapUsageRatio(spillToDisk.heapUsageRatio())
+					.build();
+		} else if (stream.isDistinctSlices()) {
+			gridFactory = () -> AggregatingColumnsDistinct.<ISlice>builder()
+					.operatorFactory(operatorFactory)
+					.initialCapacity(initialCapacity)
+					.build();
 		} else {
-			gridFactory = () -> AggregatingColumns.<ISlice>builder().operatorFactory(operatorFactory).build();
+			gridFactory = () -> {
+				AggregatingColumns.AggregatingColumnsBuilder<ISlice, ?, ?> builder =
+						AggregatingColumns.<ISlice>builder().operatorFactory(operatorFactory);
+				if (initialCapacity != IColumnFactory.NO_ESTIMATION) {
+					builder.sliceToIndex(AdhocPrimitiveMapHelpers.newHashMapDefaultMinus1(initialCapacity));
+				}
+				return builder.initialCapacity(initialCapacity).build();
+			};
 		}
 
 		Supplier<IMultitypeMergeableGrid<ISlice>> gridFactory2;
-		if (StandardQueryOptions.PARTITIONED.isActive(queryPod.getOptions())) {
-			int nbPartitions = AdhocUnsafe.getParallelism();
+		if (partitioned) {
 			if (queryPod.isDebugOrExplain()) {
 				log.info("[EXPLAIN] Partitioned is activated with parallelism={}", nbPartitions);
 			}
 
+			ShardKey shardKey = ShardKey.onColumns(queryPod.getTable().getShardColumns());
+			if (queryPod.isDebugOrExplain() && !shardKey.getColumns().isEmpty()) {
+				log.info("[EXPLAIN] Partitioned on shardKey={}", shardKey.getColumns());
+			}
+
 			gridFactory2 = () -> PartitionedMultitypeMergeableGrid.<ISlice, Integer>builder()
 					.partitions(IntStream.range(0, nbPartitions).mapToObj(_ -> gridFactory.get()).toList())
+					.shardKey(shardKey)
 					.build();
 		} else {
 			gridFactory2 = gridFactory;
@@ -125,15 +218,29 @@ public class TabularRecordStreamReducer implements ITabularRecordStreamReducer {
 		}
 	}
 
+	/**
+	 * 
+	 * @return the number of slices, estimated from the cached column statistics. Empty if there is multiple groupBys
+	 *         (i.e. a `GROUPING SET`), or if some statistics are missing (e.g. for a calculated column).
+	 */
+	protected OptionalLong estimateSlices() {
+		Optional<IGroupBy> singleGroupBy = tableQuery.singleGroupBy();
+		if (singleGroupBy.isEmpty()) {
+			return OptionalLong.empty();
+		}
+		return ColumnStatisticsHelpers.estimateSlices(queryPod.getTable(), singleGroupBy.get().getSortedColumns());
+	}
+
+	protected GroupByMarker makeGroupByMarker(IGroupBy groupBy) {
+		NavigableSet<String> groupedByColumns = groupBy.getSortedColumns();
+		SequencedSetLikeList sequencedKeyset = SequencedSetUnsafe.internKeyset(groupedByColumns);
+		return new GroupByMarker(groupBy, sequencedKeyset);
+	}
+
 	protected IGroupingSetAnalyzer makeGroupingSetAnalyzer() {
 		Optional<IGroupBy> singleGroupBy = tableQuery.singleGroupBy();
 		if (singleGroupBy.isPresent()) {
-			IGroupBy groupBy = singleGroupBy.get();
-			NavigableSet<String> groupedByColumns = groupBy.getSortedColumns();
-			SequencedSetLikeList sequencedKeyset = SequencedSetUnsafe.internKeyset(groupedByColumns);
-			return UniqueGroupingSetAnalyzer.builder()
-					.sequencedKeyset(new GroupByMarker(groupBy, sequencedKeyset))
-					.build();
+			return UniqueGroupingSetAnalyzer.builder().sequencedKeyset(makeGroupByMarker(singleGroupBy.get())).build();
 		} else {
 			Map<Set<String>, GroupByMarker> columnsToMarker = tableQuery.getGroupBys()
 					.stream()
@@ -207,26 +314,18 @@ public class TabularRecordStreamReducer implements ITabularRecordStreamReducer {
 			// would prevent some sharing. (e.g. Considering DuckDB reading Parquet files on each SQL, it seems
 			// reasonable to prefer doing as many computations in a single pass).
 			try {
-				// Reference equality is intentional: PerfectHashMap.keySet() returns the shared PerfectHashKeyset
-				// instance when the map is fully populated, so `==` detects the zero-work fast path without an
-				// element-by-element Set#equals walk.
-				@SuppressWarnings("PMD.CompareObjectsWithEquals")
-				IConsumingStream<GroupByAndTabularRecord> records2 = stream.records().map(input -> {
-					GroupByMarker groupByMarker = groupingSetAnalyzer.getGroupingSet(input);
-
-					if (groupByMarker.keySet() == input.columnsKeySet()) {
-						return new GroupByAndTabularRecord(groupByMarker, input);
-					} else {
-						// Typically useful to discard the column underlying a calculated column
-						ITabularRecord retainedRecord = input.retainAll(groupByMarker.keySet().sortedSet());
-
-						return new GroupByAndTabularRecord(groupByMarker, retainedRecord);
-					}
+				if (stream instanceof ITabularRecordBatchStream batchStream && isBatchReducible(grid)) {
+					reduceBatches(batchStream, groupingSetAnalyzer, grid);
+					return grid;
+				}
 
-				});
+				IConsumingStream<GroupByAndTabularRecord> records2 =
+						stream.records().map(input -> retainGroupBy(groupingSetAnalyzer, input));
 
 				if (grid instanceof IPartitioned<?> partitioned) {
 					int nbPartitions = partitioned.getNbPartitions();
+					// Route with the grid own ShardKey, so that each consumer thread owns its partition
+					ShardKey shardKey = partitioned.getShardKey();
 					// Wrap the per-partition worker task with the slice-factory scope on the virtual thread that
 					// actually consumes the queue (once per partition, for the whole drain loop — so scope setup
 					// is paid once per consumer, not per element).
@@ -236,18 +335,21 @@ public class TabularRecordStreamReducer implements ITabularRecordStreamReducer {
 							.nbPartitions(nbPartitions)
 							.partitioner(input -> {
 								ISlice slice = input.retainedRecord().asSlice();
-								return PartitioningHelpers.getPartitionIndex(slice, nbPartitions);
+								return shardKey.getPartitionIndex(slice, nbPartitions);
 							})
 							.consumer(input -> {
 								forEachMeasure(input.groupByMarker(), input.retainedRecord(), peekOnCoordinate, grid);
 							})
 							.executor(scopedExecutor)
+							.cancellable(queryPod)
 							.build());
 				} else {
+					AmortizedCancellationCheck cancellationCheck = AmortizedCancellationCheck.of(queryPod, tableQuery);
 					// synchronized: when CONCURRENT is active, Arrow batches may be processed
 					// concurrently, so multiple threads can call forEachMeasure simultaneously
 					records2.forEach(input -> {
 						synchronized (TabularRecordStreamReducer.this) {
+							cancellationCheck.check();
 							forEachMeasure(input.groupByMarker(), input.retainedRecord(), peekOnCoordinate, grid);
 						}
 					});
@@ -255,6 +357,9 @@ public class TabularRecordStreamReducer implements ITabularRecordStreamReducer {
 			} finally {
 				aggregatedRecordLogger.closeHandler().run();
 			}
+		} catch (CancelledQueryException e) {
+			// A cancellation must not be turned into a measure value
+			throw e;
 		} catch (RuntimeException e) {
 			if (queryPod.getOptions().contains(StandardQueryOptions.EXCEPTIONS_AS_MEASURE_VALUE)) {
 
@@ -275,6 +380,112 @@ public class TabularRecordStreamReducer implements ITabularRecordStreamReducer {
 		return grid;
 	}
 
+	// Reference equality is intentional: PerfectHashMap.keySet() returns the shared PerfectHashKeyset
+	// instance when the map is fully populated, so `==` detects the zero-work fast path without an
+	// element-by-element Set#equals walk.
+	@SuppressWarnings("PMD.CompareObjectsWithEquals")
+	protected GroupByAndTabularRecord retainGroupBy(IGroupingSetAnalyzer groupingSetAnalyzer, ITabularRecord input) {
+		GroupByMarker groupByMarker = groupingSetAnalyzer.getGroupingSet(input);
+
+		if (groupByMarker.keySet() == input.columnsKeySet()) {
+			return new GroupByAndTabularRecord(groupByMarker, input);
+		} else {
+			// Typically useful to discard the column underlying a calculated column
+			ITabularRecord retainedRecord = input.retainAll(groupByMarker.keySet().sortedSet());
+
+			return new GroupByAndTabularRecord(groupByMarker, retainedRecord);
+		}
+	}
+
+	/**
+	 * The batch path skips the per-row logging of DEBUG and EXPLAIN, and the partitioning of the records: these fall
+	 * back to the record path.
+	 * 
+	 * @return true if a {@link ITabularRecordBatchStream} can be reduced batch-by-batch.
+	 */
+	protected boolean isBatchReducible(IMultitypeMergeableGrid<ISlice> grid) {
+		return tableQuery.singleGroupBy().isPresent() && !(grid instanceof IPartitioned<?>)
+				&& !queryPod.isDebugOrExplain();
+	}
+
+	@SuppressWarnings({ "PMD.AvoidSynchronizedStatement", "PMD.CloseResource" })
+	protected void reduceBatches(ITabularRecordBatchStream stream,
+			IGroupingSetAnalyzer groupingSetAnalyzer,
+			IMultitypeMergeableGrid<ISlice> grid) {
+		GroupByMarker groupByMarker = makeGroupByMarker(tableQuery.singleGroupBy()
+				.orElseThrow(() -> new IllegalStateException("Batches requires a single groupBy")));
+
+		// synchronized: Arrow batches may be processed concurrently
+		stream.batches().forEach(batch -> {
+			// A batch holds thousands of rows: checking once per batch is cheap enough
+			CancellationHelpers.checkNotCancelled(queryPod, tableQuery);
+			synchronized (TabularRecordStreamReducer.this) {
+				reduceBatch(groupingSetAnalyzer, groupByMarker, batch, grid);
+			}
+		});
+	}
+
+	/**
+	 * Contributes a whole batch: each groupBy column is dictionarized once per batch, and aggregates are pushed
+	 * straight from the batch columns into the grid.
+	 */
+	protected void reduceBatch(IGroupingSetAnalyzer groupingSetAnalyzer,
+			GroupByMarker groupByMarker,
+			ITabularRecordBatch batch,
+			IMultitypeMergeableGrid<ISlice> grid) {
+		int nbRows = batch.getNbRows();
+		ImmutableList<String> columns = batch.getColumns();
+
+		if (!groupByMarker.keySet().sortedSet().equals(ImmutableSet.copyOf(columns))) {
+			// Some columns has to be discarded, which may merge rows: rely on the record path
+			BiConsumer<ITabularRecord, ISlice> noPeek = (_, _) -> {
+			};
+			for (int rowIndex = 0; rowIndex < nbRows; rowIndex++) {
+				GroupByAndTabularRecord input = retainGroupBy(groupingSetAnalyzer, batch.getRecord(rowIndex));
+				forEachMeasure(input.groupByMarker(), input.retainedRecord(), noPeek, grid);
+			}
+			return;
+		}
+
+		int nbColumns = columns.size();
+		IDictionarizedColumn[] dictionarized = new IDictionarizedColumn[nbColumns];
+		for (int columnIndex = 0; columnIndex < nbColumns; columnIndex++) {
+			dictionarized[columnIndex] = batch.dictionarize(columnIndex);
+		}
+
+		List<FilteredAggregator> aggregators = ImmutableList.copyOf(tableQuery.getAggregators(groupByMarker.groupBy()));
+		int nbAggregators = aggregators.size();
+		IAggregateColumn[] aggregates = new IAggregateColumn[nbAggregators];
+		for (int aggregatorIndex = 0; aggregatorIndex < nbAggregators; aggregatorIndex++) {
+			FilteredAggregator filteredAggregator = aggregators.get(aggregatorIndex);
+			if (!EmptyAggregation.isEmpty(filteredAggregator.getAggregator())) {
+				aggregates[aggregatorIndex] = batch.getAggregate(filteredAggregator.getAlias());
+			}
+		}
+
+		for (int rowIndex = 0; rowIndex < nbRows; rowIndex++) {
+			IMapBuilderPreKeys sliceBuilder = sliceFactory.newMapBuilder(columns);
+			for (int columnIndex = 0; columnIndex < nbColumns; columnIndex++) {
+				IDictionarizedColumn column = dictionarized[columnIndex];
+				sliceBuilder.append(column.getCoordinate(column.getCode(rowIndex)));
+			}
+			ISlice slice = sliceBuilder.build().asSlice();
+
+			IOpenedSlice openedSlice = grid.openSlice(slice);
+			for (int aggregatorIndex = 0; aggregatorIndex < nbAggregators; aggregatorIndex++) {
+				FilteredAggregator filteredAggregator = aggregators.get(aggregatorIndex);
+				IValueReceiver valueReceiver = openedSlice.contribute(filteredAggregator);
+
+				IAggregateColumn aggregate = aggregates[aggregatorIndex];
+				if (aggregate == null) {
+					onEmptyAggregator(filteredAggregator, slice, valueReceiver);
+				} else {
+					aggregate.acceptReceiver(rowIndex, valueReceiver);
+				}
+			}
+		}
+	}
+
 	protected void forEachMeasure(GroupByMarker sequencedKeyset,
 			ITabularRecord tableRecord,
 			BiConsumer<ITabularRecord, ISlice> peekOnCoordinate,
@@ -299,20 +510,27 @@ public class TabularRecordStreamReducer implements ITabularRecordStreamReducer {
 			}
 
 			if (EmptyAggregation.isEmpty(filteredAggregator.getAggregator())) {
-				if (FilterMatcher.builder()
-						.sliceFactory(sliceFactory)
-						.filter(filteredAggregator.getFilter())
-						.onMissingColumn(_ -> true)
-						.build()
-						.match(slice)) {
-					// TODO Introduce .onBoolean
-					valueReceiver.onLong(0);
-				} else {
-					valueReceiver.onObject(null);
-				}
+				onEmptyAggregator(filteredAggregator, slice, valueReceiver);
 			} else {
 				tableRecord.onAggregate(filteredAggregator.getAlias()).acceptReceiver(valueReceiver);
 			}
 		});
 	}
+
+	protected void onEmptyAggregator(FilteredAggregator filteredAggregator,
+			ISlice slice,
+			IValueReceiver valueReceiver) {
+		FilterMatcher filterMatcher = emptyAggregatorToMatcher.computeIfAbsent(filteredAggregator,
+				a -> FilterMatcher.builder()
+						.sliceFactory(sliceFactory)
+						.filter(a.getFilter())
+						.onMissingColumn(_ -> true)
+						.build());
+		if (filterMatcher.match(slice)) {
+			// TODO Introduce .onBoolean
+			valueReceiver.onLong(0);
+		} else {
+			valueReceiver.onObject(null);
+		}
+	}
 }
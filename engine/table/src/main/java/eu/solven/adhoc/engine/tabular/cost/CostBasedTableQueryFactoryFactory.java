@@ -0,0 +1,108 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import java.util.Set;
+
+import org.jspecify.annotations.NonNull;
+
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.adhoc.engine.tabular.grouper.ITableStepsGrouper;
+import eu.solven.adhoc.engine.tabular.optimizer.TableQueryFactoryFactory;
+import eu.solven.adhoc.engine.tabular.splitter.ITableStepsSplitter;
+import eu.solven.adhoc.engine.tabular.splitter.InduceByAdhocComplete;
+import eu.solven.adhoc.filter.IFilterQueryBundle;
+import eu.solven.adhoc.options.IHasQueryOptions;
+import eu.solven.adhoc.options.IQueryOption;
+import eu.solven.adhoc.query.InternalQueryOptions;
+import eu.solven.adhoc.table.IQueryPod;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A {@link TableQueryFactoryFactory} relying on an {@link ITableQueryCostModel} to choose, per query, which steps are
+ * induced by Adhoc and how the inducers are grouped into table queries.
+ * 
+ * An explicit {@link InternalQueryOptions} takes precedence over the cost model, which is useful to get a deterministic
+ * plan (e.g. in unit-tests).
+ * 
+ * @author Benoit Lacelle
+ */
+@RequiredArgsConstructor
+public class CostBasedTableQueryFactoryFactory extends TableQueryFactoryFactory {
+	private static final Set<IQueryOption> SPLITTER_OPTIONS =
+			ImmutableSet.of(InternalQueryOptions.INDUCE_BY_ADHOC, InternalQueryOptions.INDUCE_BY_TABLE);
+	private static final Set<IQueryOption> GROUPER_OPTIONS =
+			ImmutableSet.of(InternalQueryOptions.TABLEQUERY_PER_OPTIONS,
+					InternalQueryOptions.TABLEQUERY_PER_AGGREGATOR,
+					InternalQueryOptions.TABLEQUERY_PER_STEPS,
+					InternalQueryOptions.TABLEQUERY_PER_AFFINITY);
+
+	@NonNull
+	final ITableQueryCostModel costModel;
+
+	@Override
+	protected ITableStepsSplitter makeSplitter(IFilterQueryBundle filterBundle, IHasQueryOptions hasOptions) {
+		if (hasAnyOption(hasOptions, SPLITTER_OPTIONS)) {
+			return super.makeSplitter(filterBundle, hasOptions);
+		}
+
+		return CostBasedTableStepsSplitter.builder()
+				.delegate(InduceByAdhocComplete.makeFactory().make(filterBundle))
+				.costModel(costModel)
+				.table(getTable(hasOptions))
+				.build();
+	}
+
+	@Override
+	protected ITableStepsGrouper makeGrouper(IFilterQueryBundle filterBundle,
+			ITableStepsSplitter splitter,
+			IHasQueryOptions hasOptions) {
+		if (hasAnyOption(hasOptions, GROUPER_OPTIONS)) {
+			return super.makeGrouper(filterBundle, splitter, hasOptions);
+		}
+
+		return CostBasedTableStepsGrouper.builder()
+				.costModel(costModel)
+				.table(getTable(hasOptions))
+				.hasOptions(hasOptions)
+				.build();
+	}
+
+	protected boolean hasAnyOption(IHasQueryOptions hasOptions, Set<IQueryOption> options) {
+		return hasOptions.getOptions().stream().anyMatch(options::contains);
+	}
+
+	/**
+	 * 
+	 * @param hasOptions
+	 * @return the name of the table, as costs are not comparable from one table to another.
+	 */
+	protected String getTable(IHasQueryOptions hasOptions) {
+		if (hasOptions instanceof IQueryPod queryPod) {
+			return queryPod.getTable().getName();
+		} else {
+			return "unknown";
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.jspecify.annotations.NonNull;
+
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.adhoc.engine.step.TableQueryStep;
+import eu.solven.adhoc.engine.tabular.grouper.ITableStepsGrouper;
+import eu.solven.adhoc.engine.tabular.grouper.TableStepsGrouper;
+import eu.solven.adhoc.engine.tabular.grouper.TableStepsGrouperByAffinity;
+import eu.solven.adhoc.options.IHasQueryOptions;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chooses between {@link TableStepsGrouper} (a single `GROUPING SETS` query per context) and
+ * {@link TableStepsGrouperByAffinity} (biclique decomposition) given an {@link ITableQueryCostModel}.
+ * 
+ * @author Benoit Lacelle
+ */
+@Slf4j
+@Builder
+public class CostBasedTableStepsGrouper implements ITableStepsGrouper {
+	@NonNull
+	@Default
+	final TableStepsGrouper groupingSets = new TableStepsGrouper();
+
+	@NonNull
+	@Default
+	final TableStepsGrouper biclique = new TableStepsGrouperByAffinity();
+
+	@NonNull
+	final ITableQueryCostModel costModel;
+
+	@NonNull
+	final String table;
+
+	@NonNull
+	final IHasQueryOptions hasOptions;
+
+	@Override
+	public TableQueryStep tableQueryGroupBy(TableQueryStep inducer) {
+		// Both strategies share the same mandatory partition
+		return groupingSets.tableQueryGroupBy(inducer);
+	}
+
+	@Override
+	public Collection<? extends Set<TableQueryStep>> groupInducers(Set<TableQueryStep> inducers) {
+		Collection<? extends Set<TableQueryStep>> asGroupingSets = groupingSets.groupInducers(inducers);
+		Collection<? extends Set<TableQueryStep>> asBicliques = biclique.groupInducers(inducers);
+
+		if (ImmutableSet.copyOf(asGroupingSets).equals(ImmutableSet.copyOf(asBicliques))) {
+			// Same partition: there is no decision to make
+			return asGroupingSets;
+		}
+
+		Set<TableStepShape> shapes = inducers.stream()
+				.map(inducer -> TableStepShape.of(table, inducer))
+				.collect(ImmutableSet.toImmutableSet());
+		CostDecision<GroupingStrategy> decision = costModel.chooseGrouping(shapes);
+
+		if (hasOptions.isDebugOrExplain()) {
+			log.info("[EXPLAIN] {} for {} inducers as {}", decision.getChoice(), inducers.size(), decision.getReason());
+		}
+
+		return switch (decision.getChoice()) {
+		case GROUPING_SETS -> asGroupingSets;
+		case BICLIQUE -> asBicliques;
+		};
+	}
+}
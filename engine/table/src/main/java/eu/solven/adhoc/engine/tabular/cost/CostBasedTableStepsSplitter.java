@@ -0,0 +1,92 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import java.util.List;
+
+import org.jspecify.annotations.NonNull;
+
+import eu.solven.adhoc.engine.dag.GraphHelpers;
+import eu.solven.adhoc.engine.dag.IAdhocDag;
+import eu.solven.adhoc.engine.step.TableQueryStep;
+import eu.solven.adhoc.engine.tabular.splitter.ITableStepsSplitter;
+import eu.solven.adhoc.options.IHasOptionsAndExecutorService;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decorates an {@link ITableStepsSplitter} by querying the table for the induced steps which induction is expected to
+ * be slower than a dedicated table query, given an {@link ITableQueryCostModel}.
+ * 
+ * @author Benoit Lacelle
+ */
+@Slf4j
+@Builder
+public class CostBasedTableStepsSplitter implements ITableStepsSplitter {
+	@NonNull
+	final ITableStepsSplitter delegate;
+
+	@NonNull
+	final ITableQueryCostModel costModel;
+
+	@NonNull
+	final String table;
+
+	@Override
+	public IAdhocDag<TableQueryStep> splitInducedAsDag(IHasOptionsAndExecutorService hasOptions,
+			IAdhocDag<TableQueryStep> inducedToInducer) {
+		IAdhocDag<TableQueryStep> split = delegate.splitInducedAsDag(hasOptions, inducedToInducer);
+
+		List<TableQueryStep> induceds = GraphHelpers.getInduceds(split).asList();
+		if (induceds.isEmpty()) {
+			return split;
+		}
+
+		IAdhocDag<TableQueryStep> costBased = GraphHelpers.copy(split);
+		induceds.forEach(induced -> {
+			TableStepShape inducedShape = TableStepShape.of(table, induced);
+
+			// Any inducer is a coarser step, which table query cost is a proxy for a dedicated table query
+			TableQueryStep inducer = split.getEdgeTarget(split.outgoingEdgesOf(induced).iterator().next());
+			CostDecision<InducingStrategy> decision =
+					costModel.chooseInducing(inducedShape, TableStepShape.of(table, inducer));
+
+			if (decision.getChoice() == InducingStrategy.QUERY) {
+				// Removing the edges turns the induced step into an inducer, hence evaluated by the table
+				costBased.removeAllEdges(List.copyOf(costBased.outgoingEdgesOf(induced)));
+			}
+
+			if (hasOptions.isDebugOrExplain()) {
+				log.info("[EXPLAIN] {} step={} as {}", decision.getChoice(), induced, decision.getReason());
+			}
+		});
+
+		return costBased;
+	}
+
+	@Override
+	public IAdhocDag<TableQueryStep> getLazyGraph(IHasOptionsAndExecutorService hasOptions,
+			IAdhocDag<TableQueryStep> withoutShared) {
+		return delegate.getLazyGraph(hasOptions, withoutShared);
+	}
+}
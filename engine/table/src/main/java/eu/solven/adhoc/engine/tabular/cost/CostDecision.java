@@ -0,0 +1,49 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import org.jspecify.annotations.NonNull;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A decision of a {@link ITableQueryCostModel}, with the reason to be reported by `EXPLAIN`.
+ * 
+ * @param <T>
+ *            the type of the chosen option.
+ * @author Benoit Lacelle
+ */
+@Value
+@Builder
+public class CostDecision<T> {
+	@NonNull
+	T choice;
+
+	@NonNull
+	String reason;
+
+	public static <T> CostDecision<T> of(T choice, String reason) {
+		return CostDecision.<T>builder().choice(choice).reason(reason).build();
+	}
+}
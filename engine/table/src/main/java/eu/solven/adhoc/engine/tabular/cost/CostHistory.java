@@ -0,0 +1,76 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The costs observed for a given key, as exponentially-weighted moving averages: recent observations weight more, so
+ * the history follows an evolving table.
+ * 
+ * @author Benoit Lacelle
+ */
+@Value
+@Builder
+public class CostHistory {
+	long count;
+	double meanNanos;
+	double meanSize;
+
+	/**
+	 * 
+	 * @param previous
+	 *            may be null if this is the first observation.
+	 * @param duration
+	 * @param size
+	 * @param weight
+	 *            the weight of the new observation, in `]0, 1]`.
+	 * @return the history including the new observation.
+	 */
+	public static CostHistory merge(@Nullable CostHistory previous, Duration duration, long size, double weight) {
+		double nanos = duration.toNanos();
+		if (previous == null) {
+			return CostHistory.builder().count(1).meanNanos(nanos).meanSize(size).build();
+		}
+
+		return CostHistory.builder()
+				.count(previous.count + 1)
+				.meanNanos(previous.meanNanos + weight * (nanos - previous.meanNanos))
+				.meanSize(previous.meanSize + weight * (size - previous.meanSize))
+				.build();
+	}
+
+	public Duration getMeanDuration() {
+		return Duration.ofNanos((long) meanNanos);
+	}
+
+	@Override
+	public String toString() {
+		return "mean=%s over count=%s".formatted(getMeanDuration(), count);
+	}
+}
@@ -0,0 +1,47 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import eu.solven.adhoc.engine.tabular.grouper.TableStepsGrouper;
+import eu.solven.adhoc.engine.tabular.grouper.TableStepsGrouperByAffinity;
+
+/**
+ * How table steps are grouped into table queries.
+ * 
+ * @author Benoit Lacelle
+ */
+public enum GroupingStrategy {
+	/**
+	 * A single table query per context, relying on `GROUPING SETS`. It may evaluate irrelevant (measure, groupBy).
+	 * 
+	 * @see TableStepsGrouper
+	 */
+	GROUPING_SETS,
+
+	/**
+	 * One table query per biclique of (measure, groupBy): no irrelevant (measure, groupBy), but more table queries.
+	 * 
+	 * @see TableStepsGrouperByAffinity
+	 */
+	BICLIQUE,
+}
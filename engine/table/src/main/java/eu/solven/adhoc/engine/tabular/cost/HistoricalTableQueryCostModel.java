@@ -0,0 +1,183 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.adhoc.engine.observability.SizeAndDuration;
+import eu.solven.adhoc.util.IHasCache;
+import lombok.Builder;
+
+/**
+ * An {@link ITableQueryCostModel} based on the costs observed by previous queries. The history is bounded: the least
+ * recently used shapes are evicted.
+ * 
+ * The decisions are deterministic given the history: a test can replay a given history to get a given plan.
+ * 
+ * @author Benoit Lacelle
+ */
+public class HistoricalTableQueryCostModel implements ITableQueryCostModel, IHasCache {
+	public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+	public static final int DEFAULT_MIN_SAMPLES = 3;
+	public static final double DEFAULT_WEIGHT = 0.2D;
+
+	// The number of observations before a history is considered relevant
+	protected final int minSamples;
+	// A step is queried if its induction is slower than its table query by this ratio
+	protected final double inductionToQueryRatio;
+	// The weight of the latest observation in the moving averages
+	protected final double weight;
+
+	protected final Cache<TableStepShape, CostHistory> tableSteps;
+	protected final Cache<TableStepShape, CostHistory> inducedSteps;
+	protected final Cache<GroupingKey, CostHistory> groupings;
+	// The latest grouping decision per set of inducers, to attribute the cost of the table queries
+	protected final Cache<Set<TableStepShape>, GroupingStrategy> inducersToGrouping;
+
+	/**
+	 * The (set of inducers, strategy) which costs are compared.
+	 */
+	protected record GroupingKey(Set<TableStepShape> inducers, GroupingStrategy strategy) {
+	}
+
+	/**
+	 * Non-positive parameters fallback on their defaults.
+	 */
+	@Builder
+	public HistoricalTableQueryCostModel(long maximumSize,
+			int minSamples,
+			double inductionToQueryRatio,
+			double weight) {
+		long capacity = maximumSize > 0 ? maximumSize : DEFAULT_MAXIMUM_SIZE;
+		this.minSamples = minSamples > 0 ? minSamples : DEFAULT_MIN_SAMPLES;
+		this.inductionToQueryRatio = inductionToQueryRatio > 0 ? inductionToQueryRatio : 1D;
+		this.weight = weight > 0 && weight <= 1 ? weight : DEFAULT_WEIGHT;
+
+		this.tableSteps = CacheBuilder.newBuilder().maximumSize(capacity).build();
+		this.inducedSteps = CacheBuilder.newBuilder().maximumSize(capacity).build();
+		this.groupings = CacheBuilder.newBuilder().maximumSize(capacity).build();
+		this.inducersToGrouping = CacheBuilder.newBuilder().maximumSize(capacity).build();
+	}
+
+	@Override
+	public void onTableStep(TableStepShape shape, SizeAndDuration cost) {
+		merge(tableSteps, shape, cost.getDuration(), cost.getSize());
+	}
+
+	@Override
+	public void onInducedStep(TableStepShape shape, SizeAndDuration cost) {
+		merge(inducedSteps, shape, cost.getDuration(), cost.getSize());
+	}
+
+	@Override
+	public void onTableQueries(Set<TableStepShape> inducers, Duration duration) {
+		GroupingStrategy strategy = inducersToGrouping.getIfPresent(inducers);
+		if (strategy == null) {
+			// The grouping has not been chosen by this model (e.g. forced by an option)
+			return;
+		}
+		merge(groupings, new GroupingKey(ImmutableSet.copyOf(inducers), strategy), duration, inducers.size());
+	}
+
+	protected <K> void merge(Cache<K, CostHistory> cache, K key, Duration duration, long size) {
+		cache.asMap().compute(key, (k, previous) -> CostHistory.merge(previous, duration, size, weight));
+	}
+
+	/**
+	 * 
+	 * @param history
+	 * @return the given history if it has enough observations, else null.
+	 */
+	protected @Nullable CostHistory relevant(@Nullable CostHistory history) {
+		if (history == null || history.getCount() < minSamples) {
+			return null;
+		}
+		return history;
+	}
+
+	@Override
+	public CostDecision<InducingStrategy> chooseInducing(TableStepShape induced, TableStepShape inducer) {
+		CostHistory induction = relevant(inducedSteps.getIfPresent(induced));
+		if (induction == null) {
+			return CostDecision.of(InducingStrategy.INDUCE, "no induction history");
+		}
+
+		CostHistory query = relevant(tableSteps.getIfPresent(induced));
+		String queryOrigin = "tableQuery";
+		if (query == null) {
+			// A coarser `GROUP BY` is expected to be as costly as the inducer table query
+			query = relevant(tableSteps.getIfPresent(inducer));
+			queryOrigin = "inducer tableQuery";
+		}
+		if (query == null) {
+			return CostDecision.of(InducingStrategy.INDUCE, "no tableQuery history");
+		}
+
+		if (induction.getMeanNanos() > inductionToQueryRatio * query.getMeanNanos()) {
+			return CostDecision.of(InducingStrategy.QUERY,
+					"induction (%s) is slower than %s (%s)".formatted(induction, queryOrigin, query));
+		} else {
+			return CostDecision.of(InducingStrategy.INDUCE,
+					"induction (%s) is faster than %s (%s)".formatted(induction, queryOrigin, query));
+		}
+	}
+
+	@Override
+	public CostDecision<GroupingStrategy> chooseGrouping(Set<TableStepShape> inducers) {
+		Set<TableStepShape> key = ImmutableSet.copyOf(inducers);
+		CostHistory groupingSets =
+				relevant(groupings.getIfPresent(new GroupingKey(key, GroupingStrategy.GROUPING_SETS)));
+		CostHistory biclique = relevant(groupings.getIfPresent(new GroupingKey(key, GroupingStrategy.BICLIQUE)));
+
+		CostDecision<GroupingStrategy> decision;
+		if (groupingSets == null) {
+			decision = CostDecision.of(GroupingStrategy.GROUPING_SETS, "collecting history");
+		} else if (biclique == null) {
+			decision = CostDecision.of(GroupingStrategy.BICLIQUE, "exploring (%s)".formatted(groupingSets));
+		} else if (biclique.getMeanNanos() < groupingSets.getMeanNanos()) {
+			decision = CostDecision.of(GroupingStrategy.BICLIQUE,
+					"biclique (%s) is faster than groupingSets (%s)".formatted(biclique, groupingSets));
+		} else {
+			decision = CostDecision.of(GroupingStrategy.GROUPING_SETS,
+					"groupingSets (%s) is faster than biclique (%s)".formatted(groupingSets, biclique));
+		}
+
+		inducersToGrouping.put(key, decision.getChoice());
+		return decision;
+	}
+
+	@Override
+	public void invalidateAll() {
+		tableSteps.invalidateAll();
+		inducedSteps.invalidateAll();
+		groupings.invalidateAll();
+		inducersToGrouping.invalidateAll();
+	}
+}
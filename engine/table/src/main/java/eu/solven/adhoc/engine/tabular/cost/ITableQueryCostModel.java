@@ -0,0 +1,81 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import java.time.Duration;
+import java.util.Set;
+
+import eu.solven.adhoc.engine.observability.SizeAndDuration;
+
+/**
+ * Records the costs of table queries and of inductions, to choose how later queries are planned.
+ * 
+ * Implementations are shared across queries, hence they must be thread-safe. Their memory footprint should be bounded.
+ * 
+ * @author Benoit Lacelle
+ * @see HistoricalTableQueryCostModel
+ */
+public interface ITableQueryCostModel {
+
+	/**
+	 * 
+	 * @param shape
+	 * @param cost
+	 *            the cost of the table query which evaluated a step with given shape.
+	 */
+	void onTableStep(TableStepShape shape, SizeAndDuration cost);
+
+	/**
+	 * 
+	 * @param shape
+	 * @param cost
+	 *            the cost of inducing a step with given shape.
+	 */
+	void onInducedStep(TableStepShape shape, SizeAndDuration cost);
+
+	/**
+	 * 
+	 * @param inducers
+	 *            the shapes of the steps evaluated by the table.
+	 * @param duration
+	 *            the duration of the table queries and of the inductions.
+	 */
+	void onTableQueries(Set<TableStepShape> inducers, Duration duration);
+
+	/**
+	 * 
+	 * @param induced
+	 * @param inducer
+	 *            a step from which `induced` can be induced.
+	 * @return how `induced` should be evaluated.
+	 */
+	CostDecision<InducingStrategy> chooseInducing(TableStepShape induced, TableStepShape inducer);
+
+	/**
+	 * 
+	 * @param inducers
+	 *            the shapes of the steps to be evaluated by the table.
+	 * @return how the inducers should be grouped into table queries.
+	 */
+	CostDecision<GroupingStrategy> chooseGrouping(Set<TableStepShape> inducers);
+}
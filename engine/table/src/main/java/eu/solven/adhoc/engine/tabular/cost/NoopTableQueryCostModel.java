@@ -0,0 +1,66 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import java.time.Duration;
+import java.util.Set;
+
+import eu.solven.adhoc.engine.observability.SizeAndDuration;
+
+/**
+ * An {@link ITableQueryCostModel} recording nothing, and keeping the default plans.
+ * 
+ * @author Benoit Lacelle
+ */
+public final class NoopTableQueryCostModel implements ITableQueryCostModel {
+	public static final NoopTableQueryCostModel INSTANCE = new NoopTableQueryCostModel();
+
+	private NoopTableQueryCostModel() {
+		// Use INSTANCE
+	}
+
+	@Override
+	public void onTableStep(TableStepShape shape, SizeAndDuration cost) {
+		// Nothing to record
+	}
+
+	@Override
+	public void onInducedStep(TableStepShape shape, SizeAndDuration cost) {
+		// Nothing to record
+	}
+
+	@Override
+	public void onTableQueries(Set<TableStepShape> inducers, Duration duration) {
+		// Nothing to record
+	}
+
+	@Override
+	public CostDecision<InducingStrategy> chooseInducing(TableStepShape induced, TableStepShape inducer) {
+		return CostDecision.of(InducingStrategy.INDUCE, "noop");
+	}
+
+	@Override
+	public CostDecision<GroupingStrategy> chooseGrouping(Set<TableStepShape> inducers) {
+		return CostDecision.of(GroupingStrategy.GROUPING_SETS, "noop");
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import org.jspecify.annotations.NonNull;
+
+import com.google.common.collect.ImmutableSortedSet;
+
+import eu.solven.adhoc.engine.step.ICubeQueryStep;
+import eu.solven.adhoc.engine.step.TableQueryStep;
+import eu.solven.adhoc.filter.FilterHelpers;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The shape of a {@link TableQueryStep}: the costs of steps sharing a shape are expected to be similar. It ignores the
+ * measure and the filtered values, so that the costs observed by a query help planning queries with other filters.
+ * 
+ * @author Benoit Lacelle
+ */
+@Value
+@Builder
+public class TableStepShape {
+	@NonNull
+	String table;
+
+	@NonNull
+	ImmutableSortedSet<String> groupBy;
+
+	@NonNull
+	ImmutableSortedSet<String> filteredColumns;
+
+	public static TableStepShape of(String table, ICubeQueryStep step) {
+		return TableStepShape.builder()
+				.table(table)
+				.groupBy(ImmutableSortedSet.copyOf(step.getGroupBy().getSortedNameToColumn().keySet()))
+				.filteredColumns(ImmutableSortedSet.copyOf(FilterHelpers.getFilteredColumns(step.getFilter())))
+				.build();
+	}
+
+	@Override
+	public String toString() {
+		return "table=%s groupBy=%s filtered=%s".formatted(table, groupBy, filteredColumns);
+	}
+}
@@ -0,0 +1,12 @@
+/**
+ * Cost model choosing, given the costs observed by previous queries, which table steps are induced by Adhoc and which
+ * are queried to the table, and how table steps are grouped into table queries.
+ *
+ * <p>
+ * All types in this package are null-marked: parameters, return types and fields are non-null by default; explicit
+ * {@link org.jspecify.annotations.Nullable @Nullable} marks the opt-outs.
+ */
+@NullMarked
+package eu.solven.adhoc.engine.tabular.cost;
+
+import org.jspecify.annotations.NullMarked;
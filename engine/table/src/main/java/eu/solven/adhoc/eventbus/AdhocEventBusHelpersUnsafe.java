@@ -39,10 +39,11 @@ public class AdhocEventBusHelpersUnsafe {
 
 	/**
 	 * Wraps an {@link IAdhocEventBus} so that all events are forked into a plain SLF4J log, with proper FQDN
-	 * management.
+	 * management. Closing it closes the decorated {@link IAdhocEventBus}, if it is {@link AutoCloseable} (e.g. a
+	 * {@link RingBufferAdhocEventBus}).
 	 */
 	@RequiredArgsConstructor
-	private static final class WrappingEventBusForSlf4jFQDN implements IAdhocEventBus {
+	private static final class WrappingEventBusForSlf4jFQDN implements IAdhocEventBus, AutoCloseable {
 		final IAdhocEventBus decorated;
 
 		@Override
@@ -54,6 +55,13 @@ public class AdhocEventBusHelpersUnsafe {
 				decorated.post(event);
 			}
 		}
+
+		@Override
+		public void close() throws Exception {
+			if (decorated instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
 	}
 
 	public static IAdhocEventBus safeWrapper(IAdhocEventBus eventBus) {
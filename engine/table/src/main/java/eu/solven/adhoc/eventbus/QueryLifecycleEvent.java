@@ -26,8 +26,10 @@ import org.jspecify.annotations.NonNull;
 
 import com.google.common.collect.ImmutableSet;
 
+import eu.solven.adhoc.engine.observability.SizeAndDuration;
 import eu.solven.adhoc.table.IQueryPod;
 import lombok.Builder;
+import lombok.Builder.Default;
 import lombok.Singular;
 import lombok.Value;
 import lombok.With;
@@ -49,4 +51,12 @@ public class QueryLifecycleEvent implements IAdhocEvent {
 
 	@With
 	String fqdn;
+
+	// Bytes allocated by the steps of the query. Typically reported on TAG_QUERY_DONE.
+	@Default
+	long allocatedBytes = SizeAndDuration.UNKNOWN_BYTES;
+
+	// Peak of bytes retained by the cuboids concurrently held by the query. Typically reported on TAG_QUERY_DONE.
+	@Default
+	long peakRetainedBytes = SizeAndDuration.UNKNOWN_BYTES;
 }
@@ -0,0 +1,360 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.eventbus;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An asynchronous {@link IAdhocEventBus}: {@link #post(Object)} publishes into a bounded lock-free ring-buffer, and a
+ * single consumer thread delivers the events, by batches, to the {@link #delegate}. It prevents a slow listener (e.g.
+ * a Guava or greenrobot bus with costly subscribers) from blocking the DAG worker threads.
+ * <p>
+ * The ring-buffer slots are preallocated: publishing an event allocates nothing. Producers claim a sequence with a CAS,
+ * write the event into the slot, and then publish the slot by bumping its sequence (Vyukov's bounded queue, restricted
+ * to a single consumer).
+ * <p>
+ * Events are delivered in the order their sequence has been claimed. When the ring-buffer is full, the
+ * {@link OverflowPolicy} either drops the event or blocks the publisher until a slot is released.
+ * 
+ * @author Benoit Lacelle
+ */
+@Slf4j
+@SuppressWarnings("PMD.AvoidUsingVolatile")
+public class RingBufferAdhocEventBus implements IAdhocEventBus, AutoCloseable {
+	public static final int DEFAULT_CAPACITY = 8 * 1024;
+	// With a single slot, a published slot (`s + 1`) would look free for the next sequence (`s + 1`)
+	public static final int MIN_CAPACITY = 2;
+	public static final int DEFAULT_BATCH_SIZE = 256;
+	public static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+	// A blocked publisher (or a flush) re-checks the ring-buffer at least this often. The idle consumer parks without
+	// timeout, as publishers unpark it.
+	private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final int SPINS_BEFORE_PARK = 64;
+
+	/**
+	 * What to do when an event is published while the ring-buffer is full.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	public enum OverflowPolicy {
+		/** The event is dropped, and counted in {@link RingBufferAdhocEventBus#getDropped()}. */
+		DROP,
+		/** The publisher waits for the consumer to release a slot (backpressure). */
+		BLOCK,
+	}
+
+	final IAdhocEventBus delegate;
+	final OverflowPolicy overflowPolicy;
+	final int batchSize;
+	final Duration closeTimeout;
+
+	final int mask;
+	// Slot `i` holds the event with sequence `s` when `sequences[i] == s + 1`, and is free for sequence `s` when
+	// `sequences[i] == s`.
+	final @Nullable Object[] slots;
+	final AtomicLongArray sequences;
+
+	// Next sequence to be claimed by a publisher
+	final AtomicLong tail = new AtomicLong();
+	// Next sequence to be consumed. Written only by the consumer thread.
+	volatile long head;
+
+	volatile boolean consumerParked;
+	volatile boolean closed;
+	// The number of publishers which checked `closed` but did not publish yet: the consumer must not exit before they
+	// are done, else their event would be neither delivered nor dropped.
+	final AtomicInteger publishing = new AtomicInteger();
+
+	final AtomicLong dropped = new AtomicLong();
+	final AtomicLong delivered = new AtomicLong();
+	final AtomicLong failed = new AtomicLong();
+
+	final Thread consumer;
+
+	@Builder
+	public RingBufferAdhocEventBus(@NonNull IAdhocEventBus delegate,
+			int capacity,
+			@Nullable OverflowPolicy overflowPolicy,
+			int batchSize,
+			@Nullable Duration closeTimeout,
+			@Nullable String threadName) {
+		this.delegate = delegate;
+		int actualCapacity;
+		if (capacity <= 0) {
+			actualCapacity = DEFAULT_CAPACITY;
+		} else if (capacity <= MIN_CAPACITY) {
+			actualCapacity = MIN_CAPACITY;
+		} else {
+			// Round up to a power of 2, so that a sequence is turned into a slot index with a mask
+			actualCapacity = Integer.highestOneBit(capacity - 1) << 1;
+		}
+		this.mask = actualCapacity - 1;
+		if (overflowPolicy == null) {
+			this.overflowPolicy = OverflowPolicy.BLOCK;
+		} else {
+			this.overflowPolicy = overflowPolicy;
+		}
+		if (batchSize <= 0) {
+			this.batchSize = DEFAULT_BATCH_SIZE;
+		} else {
+			this.batchSize = batchSize;
+		}
+		if (closeTimeout == null) {
+			this.closeTimeout = DEFAULT_CLOSE_TIMEOUT;
+		} else {
+			this.closeTimeout = closeTimeout;
+		}
+
+		this.slots = new Object[actualCapacity];
+		this.sequences = new AtomicLongArray(actualCapacity);
+		for (int i = 0; i < actualCapacity; i++) {
+			sequences.set(i, i);
+		}
+
+		String name;
+		if (threadName == null) {
+			name = "adhoc-eventbus";
+		} else {
+			name = threadName;
+		}
+		this.consumer = Thread.ofPlatform().name(name).daemon().unstarted(this::consume);
+		this.consumer.start();
+	}
+
+	public int getCapacity() {
+		return slots.length;
+	}
+
+	/**
+	 * @return the number of events published but not delivered yet.
+	 */
+	public long size() {
+		return Math.max(0, tail.get() - head);
+	}
+
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	public long getDelivered() {
+		return delivered.get();
+	}
+
+	/**
+	 * @return the number of events for which the {@link #delegate} threw.
+	 */
+	public long getFailed() {
+		return failed.get();
+	}
+
+	@Override
+	public void post(Object event) {
+		if (Thread.currentThread() == consumer) {
+			// A listener publishing an event: blocking would dead-lock the consumer
+			deliver(event);
+			return;
+		}
+
+		// Registered before checking `closed`, so that the consumer does not exit while this event is being published
+		publishing.incrementAndGet();
+		try {
+			if (closed) {
+				dropped.incrementAndGet();
+				log.debug("Dropping event={} as the eventBus is closed", event);
+			} else if (!offer(event)) {
+				if (overflowPolicy == OverflowPolicy.BLOCK) {
+					offerBlocking(event);
+				} else {
+					dropped.incrementAndGet();
+				}
+			}
+		} finally {
+			publishing.decrementAndGet();
+		}
+	}
+
+	/**
+	 * 
+	 * @param event
+	 *            the event to publish.
+	 * @return false if the ring-buffer is full.
+	 */
+	protected boolean offer(Object event) {
+		while (true) {
+			long sequence = tail.get();
+			int index = (int) (sequence & mask);
+			long slotSequence = sequences.get(index);
+
+			if (slotSequence == sequence) {
+				if (tail.compareAndSet(sequence, sequence + 1)) {
+					slots[index] = event;
+					// Volatile write: it is ordered before the read of `consumerParked`
+					sequences.set(index, sequence + 1);
+
+					if (consumerParked) {
+						LockSupport.unpark(consumer);
+					}
+					return true;
+				}
+			} else if (slotSequence < sequence) {
+				// The slot still holds the event published one lap before
+				return false;
+			}
+			// Else another publisher claimed this sequence: retry with the new tail
+		}
+	}
+
+	protected void offerBlocking(Object event) {
+		int spins = 0;
+		while (!offer(event)) {
+			if (closed) {
+				dropped.incrementAndGet();
+				return;
+			} else if (spins < SPINS_BEFORE_PARK) {
+				spins++;
+				Thread.onSpinWait();
+			} else {
+				LockSupport.parkNanos(this, PARK_NANOS);
+			}
+		}
+	}
+
+	protected @Nullable Object poll() {
+		long sequence = head;
+		int index = (int) (sequence & mask);
+
+		if (sequences.get(index) != sequence + 1) {
+			// Not published yet
+			return null;
+		}
+
+		Object event = slots[index];
+		slots[index] = null;
+		// Release the slot for the next lap
+		sequences.set(index, sequence + mask + 1);
+		head = sequence + 1;
+		return event;
+	}
+
+	protected void consume() {
+		while (true) {
+			int nbDelivered = drainBatch();
+
+			if (nbDelivered == 0) {
+				if (closed) {
+					// `publishing` is read before `tail`: a publisher registered after this read sees `closed`
+					if (publishing.get() == 0 && tail.get() == head) {
+						return;
+					}
+					// Some publishers are completing their `post`
+					Thread.onSpinWait();
+					continue;
+				}
+
+				consumerParked = true;
+				// Re-check after flagging, as a publisher may have published before reading `consumerParked`. No
+				// wakeup is lost: such a publisher reads `consumerParked` after publishing, and unparks the consumer.
+				if (sequences.get((int) (head & mask)) != head + 1 && !closed) {
+					LockSupport.park(this);
+				}
+				consumerParked = false;
+			}
+		}
+	}
+
+	protected int drainBatch() {
+		int nbDelivered = 0;
+		while (nbDelivered < batchSize) {
+			Object event = poll();
+			if (event == null) {
+				break;
+			}
+			deliver(event);
+			nbDelivered++;
+		}
+		return nbDelivered;
+	}
+
+	protected void deliver(Object event) {
+		try {
+			delegate.post(event);
+			delivered.incrementAndGet();
+		} catch (RuntimeException e) {
+			failed.incrementAndGet();
+			log.warn("Issue delivering event={}", event, e);
+		}
+	}
+
+	/**
+	 * Waits for the events published before this call to be delivered.
+	 * 
+	 * @param timeout
+	 *            the maximum duration to wait for.
+	 * @return true if the events have been delivered, false on timeout.
+	 */
+	public boolean flush(Duration timeout) {
+		long target = tail.get();
+		long deadline = System.nanoTime() + timeout.toNanos();
+		while (head < target) {
+			if (System.nanoTime() - deadline > 0 || !consumer.isAlive()) {
+				return false;
+			}
+			LockSupport.unpark(consumer);
+			LockSupport.parkNanos(this, PARK_NANOS);
+		}
+		return true;
+	}
+
+	/**
+	 * Stops accepting events, and waits for the pending events to be delivered. An event posted concurrently is either
+	 * delivered or counted in {@link #getDropped()}.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		LockSupport.unpark(consumer);
+
+		try {
+			consumer.join(closeTimeout);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Interrupted while closing {}", this, e);
+		}
+
+		if (consumer.isAlive()) {
+			log.warn("{} events not delivered after {}", size(), closeTimeout);
+		}
+	}
+}
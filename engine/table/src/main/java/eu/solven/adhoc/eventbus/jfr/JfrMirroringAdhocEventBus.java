@@ -0,0 +1,124 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.eventbus.jfr;
+
+import eu.solven.adhoc.engine.step.ICubeQueryStep;
+import eu.solven.adhoc.eventbus.AdhocQueryPhaseIsCompleted;
+import eu.solven.adhoc.eventbus.IAdhocEventBus;
+import eu.solven.adhoc.eventbus.QueryLifecycleEvent;
+import eu.solven.adhoc.eventbus.QueryStepIsCompleted;
+import eu.solven.adhoc.eventbus.QueryStepIsEvaluating;
+import eu.solven.adhoc.eventbus.TableStepIsCompleted;
+import eu.solven.adhoc.eventbus.TableStepIsEvaluating;
+import eu.solven.adhoc.query.AdhocQueryId;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Decorates an {@link IAdhocEventBus} by mirroring each lifecycle event as a JDK Flight Recorder event, on the
+ * publishing thread.
+ * <p>
+ * When no recording is enabling these events, {@code shouldCommit()} is false: the JFR event is not populated, and its
+ * allocation is typically eliminated by escape analysis. The cost is then a few type-checks per event.
+ * 
+ * @author Benoit Lacelle
+ */
+@RequiredArgsConstructor
+public class JfrMirroringAdhocEventBus implements IAdhocEventBus, AutoCloseable {
+	final IAdhocEventBus decorated;
+
+	@Override
+	public void post(Object event) {
+		mirror(event);
+
+		decorated.post(event);
+	}
+
+	protected void mirror(Object event) {
+		if (event instanceof QueryStepIsEvaluating evaluating) {
+			onQueryStep(evaluating.getQueryStep(), false, 0, 0);
+		} else if (event instanceof QueryStepIsCompleted completed) {
+			onQueryStep(completed.getQuerystep(), true, completed.getNbCells(), completed.getDuration().toNanos());
+		} else if (event instanceof TableStepIsEvaluating evaluating) {
+			onTableStep(evaluating.getTableQuery(), false, 0, 0);
+		} else if (event instanceof TableStepIsCompleted completed) {
+			onTableStep(completed.getTableQuery(), true, completed.getNbCells(), completed.getDuration().toNanos());
+		} else if (event instanceof QueryLifecycleEvent lifecycle) {
+			onQueryLifecycle(lifecycle);
+		} else if (event instanceof AdhocQueryPhaseIsCompleted phase) {
+			onQueryPhase(phase);
+		}
+	}
+
+	protected void onQueryStep(ICubeQueryStep step, boolean completed, long nbCells, long durationNanos) {
+		QueryStepJfrEvent jfrEvent = new QueryStepJfrEvent();
+		if (jfrEvent.shouldCommit()) {
+			jfrEvent.completed = completed;
+			jfrEvent.measure = step.getMeasure().getName();
+			jfrEvent.groupBy = step.getGroupBy().toString();
+			jfrEvent.filter = step.getFilter().toString();
+			jfrEvent.nbCells = nbCells;
+			jfrEvent.stepDuration = durationNanos;
+			jfrEvent.commit();
+		}
+	}
+
+	protected void onTableStep(Object tableQuery, boolean completed, long nbCells, long durationNanos) {
+		TableStepJfrEvent jfrEvent = new TableStepJfrEvent();
+		if (jfrEvent.shouldCommit()) {
+			jfrEvent.completed = completed;
+			jfrEvent.tableQuery = tableQuery.toString();
+			jfrEvent.nbCells = nbCells;
+			jfrEvent.stepDuration = durationNanos;
+			jfrEvent.commit();
+		}
+	}
+
+	protected void onQueryLifecycle(QueryLifecycleEvent lifecycle) {
+		QueryLifecycleJfrEvent jfrEvent = new QueryLifecycleJfrEvent();
+		if (jfrEvent.shouldCommit()) {
+			AdhocQueryId queryId = lifecycle.getQuery().getQueryId();
+			jfrEvent.queryId = String.valueOf(queryId.getQueryId());
+			jfrEvent.cube = String.valueOf(queryId.getCube());
+			jfrEvent.tags = String.join(",", lifecycle.getTags());
+			jfrEvent.allocatedBytes = lifecycle.getAllocatedBytes();
+			jfrEvent.peakRetainedBytes = lifecycle.getPeakRetainedBytes();
+			jfrEvent.commit();
+		}
+	}
+
+	protected void onQueryPhase(AdhocQueryPhaseIsCompleted phase) {
+		QueryPhaseJfrEvent jfrEvent = new QueryPhaseJfrEvent();
+		if (jfrEvent.shouldCommit()) {
+			jfrEvent.phase = phase.getPhase();
+			jfrEvent.source = phase.getSource().getClass().getName();
+			jfrEvent.commit();
+		}
+	}
+
+	@Override
+	public void close() throws Exception {
+		if (decorated instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+}
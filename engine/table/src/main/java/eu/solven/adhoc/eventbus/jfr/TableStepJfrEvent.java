@@ -0,0 +1,58 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.eventbus.jfr;
+
+import eu.solven.adhoc.eventbus.TableStepIsCompleted;
+import eu.solven.adhoc.eventbus.TableStepIsEvaluating;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR mirror of {@link TableStepIsEvaluating} and {@link TableStepIsCompleted}.
+ * 
+ * @author Benoit Lacelle
+ */
+@Name("eu.solven.adhoc.TableStep")
+@Label("Table Step")
+@Category({ "Adhoc", "Table" })
+@Description("A query to the table is evaluating, or is completed")
+@StackTrace(false)
+public class TableStepJfrEvent extends Event {
+	@Label("Completed")
+	boolean completed;
+
+	@Label("Table Query")
+	String tableQuery = "";
+
+	@Label("Cells")
+	long nbCells;
+
+	@Label("Step Duration")
+	@Timespan(Timespan.NANOSECONDS)
+	long stepDuration;
+}
@@ -0,0 +1,11 @@
+/**
+ * JDK Flight Recorder events mirroring the Adhoc lifecycle events, to profile queries with JFR.
+ *
+ * <p>
+ * All types in this package are null-marked: parameters, return types and fields are non-null by default; explicit
+ * {@link org.jspecify.annotations.Nullable @Nullable} marks the opt-outs.
+ */
+@NullMarked
+package eu.solven.adhoc.eventbus.jfr;
+
+import org.jspecify.annotations.NullMarked;
@@ -22,8 +22,14 @@
  */
 package eu.solven.adhoc.model.column;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.NonNull;
 
@@ -31,14 +37,24 @@ import com.ezylang.evalex.EvaluationException;
 import com.ezylang.evalex.Expression;
 import com.ezylang.evalex.data.EvaluationValue;
 import com.ezylang.evalex.parser.ParseException;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
 
 import eu.solven.adhoc.column.calculated.ICalculatedColumn;
 import eu.solven.adhoc.cuboid.tabular.ITabularGroupByRecord;
+import eu.solven.adhoc.measure.combination.expression.CompiledExpression;
+import eu.solven.adhoc.measure.combination.expression.ExpressionCompiler;
+import eu.solven.adhoc.measure.combination.expression.ExpressionInputs;
 import eu.solven.adhoc.table.ITableWrapper;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Builder.Default;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * A {@link EvaluatedExpressionColumn} is a column whose value is computed by the Adhoc engine — not by the underlying
@@ -61,11 +77,16 @@ import lombok.extern.jackson.Jacksonized;
  * See the EvalEx documentation for the complete list of operators and built-in functions.
  * </p>
  *
+ * <p>
+ * Arithmetic expressions over `long` coordinates are evaluated by a {@link CompiledExpression}, skipping EvalEx.
+ * </p>
+ *
  * @author Benoit Lacelle
  */
 @Value
 @Builder
 @Jacksonized
+@Slf4j
 public class EvaluatedExpressionColumn implements ICalculatedColumn {
 	// The name of the evaluated column
 	@NonNull
@@ -78,8 +99,72 @@ public class EvaluatedExpressionColumn implements ICalculatedColumn {
 	@NonNull
 	String expression;
 
+	// Empty if the expression is not handled by the compiler
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	Supplier<Optional<CompiledColumn>> compiled = Suppliers.memoize(this::compile);
+
+	/**
+	 * A {@link CompiledExpression}, with the variable name of each slot.
+	 */
+	protected record CompiledColumn(CompiledExpression expression, List<String> slotToVariable) {
+	}
+
+	protected Optional<CompiledColumn> compile() {
+		// EvalEx variables are case-insensitive
+		Map<String, Integer> variableToSlot = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		List<String> slotToVariable = new ArrayList<>();
+
+		return ExpressionCompiler.tryCompile(expression, new ExpressionCompiler.IVariableSlots() {
+
+			@Override
+			public int slotOf(String name) {
+				return variableToSlot.computeIfAbsent(name, k -> {
+					slotToVariable.add(k);
+					return slotToVariable.size() - 1;
+				});
+			}
+
+			@Override
+			public int slotOf(String name, int index) {
+				return -1;
+			}
+		}).map(compiledExpression -> new CompiledColumn(compiledExpression, ImmutableList.copyOf(slotToVariable)));
+	}
+
 	@Override
 	public Object computeCoordinate(ITabularGroupByRecord record) {
+		Optional<CompiledColumn> optCompiled = compiled.get();
+		if (optCompiled.isPresent()) {
+			CompiledColumn compiledColumn = optCompiled.get();
+			CompiledExpression compiledExpression = compiledColumn.expression();
+			ExpressionInputs inputs = compiledExpression.newInputs();
+			List<String> slotToVariable = compiledColumn.slotToVariable();
+			for (int slot = 0; slot < slotToVariable.size(); slot++) {
+				inputs.setObject(slot, record.getGroupBy(slotToVariable.get(slot)));
+			}
+
+			// Only the `long` path is taken, as EvalEx `BigDecimal` arithmetic may differ from `double` arithmetic, and a
+			// coordinate must be stable.
+			if (compiledExpression.isLong(inputs)) {
+				try {
+					return BigDecimal.valueOf(compiledExpression.evaluateLong(inputs));
+				} catch (ArithmeticException e) {
+					// Overflow: let EvalEx compute the exact result
+					log.trace("Overflow on `{}`", expression, e);
+				}
+			}
+		}
+
+		return evaluate(record);
+	}
+
+	/**
+	 * Evaluate the expression with EvalEx, which handles any expression but is much slower than
+	 * {@link CompiledExpression}.
+	 */
+	protected Object evaluate(ITabularGroupByRecord record) {
 		Expression exp = makeExpression();
 
 		EvaluationValue result;
@@ -26,6 +26,7 @@ import java.util.UUID;
 
 import org.jspecify.annotations.NonNull;
 
+import eu.solven.adhoc.engine.admission.QueryPriority;
 import eu.solven.adhoc.util.AdhocUnsafe;
 import lombok.Builder;
 import lombok.Builder.Default;
@@ -62,4 +63,13 @@ public class AdhocQueryId {
 
 	@NonNull
 	String cube;
+
+	// Who submitted the query. Used by IQueryAdmission for fairness between principals.
+	@NonNull
+	@Default
+	String principal = "";
+
+	@NonNull
+	@Default
+	QueryPriority priority = QueryPriority.INTERACTIVE;
 }
@@ -22,6 +22,7 @@
  */
 package eu.solven.adhoc.query;
 
+import eu.solven.adhoc.engine.admission.QueryAdmissionScope;
 import eu.solven.adhoc.engine.step.ICubeQuery;
 import lombok.experimental.UtilityClass;
 
@@ -46,6 +47,8 @@ public class AdhocQueryIds {
 		// When the caller has pre-generated a tracking UUID (typically Pivotable's async-query manager), adopt it so
 		// the engine's queryId matches the UUID surfaced over the HTTP / Live View boundary.
 		SubmittedQueryIdScope.current().ifPresent(builder::queryId);
+		QueryAdmissionScope.current()
+				.ifPresent(submitter -> builder.principal(submitter.principal()).priority(submitter.priority()));
 
 		if (query instanceof IHasParentQueryId hasParentQueryId) {
 			builder.parentQueryId(hasParentQueryId.getParentQueryId().getQueryId());
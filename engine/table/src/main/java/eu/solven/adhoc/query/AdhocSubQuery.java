@@ -31,6 +31,7 @@ import eu.solven.adhoc.engine.step.ICubeQuery;
 import eu.solven.adhoc.filter.ISliceFilter;
 import eu.solven.adhoc.model.measure.IMeasure;
 import eu.solven.adhoc.model.query.IGroupBy;
+import eu.solven.adhoc.model.query.top.CubeTopClause;
 import eu.solven.adhoc.options.IQueryOption;
 import lombok.Builder;
 import lombok.Value;
@@ -73,4 +74,9 @@ public final class AdhocSubQuery implements ICubeQuery, IHasParentQueryId {
 		return subQuery.getOptions();
 	}
 
+	@Override
+	public CubeTopClause getTopClause() {
+		return subQuery.getTopClause();
+	}
+
 }
@@ -50,10 +50,17 @@ public class AdhocTopClause {
 	@Singular
 	final List<IAdhocColumn> columns;
 
+	// Sorted ascending after the columns, whatever the direction, so that ties are broken deterministically
+	@Singular
+	final List<IAdhocColumn> tieBreakers;
+
 	@Default
 	final int limit = NO_TOP;
 	@Default
 	final boolean desc = true;
+	// If true, `NULLS LAST` whatever the direction. Else, the database default applies.
+	@Default
+	final boolean nullsLast = false;
 
 	public boolean isPresent() {
 		return !columns.isEmpty();
@@ -65,6 +72,15 @@ public class AdhocTopClause {
 			return "noLimit";
 		}
 
-		return "limit=%s desc=%s columns=%s".formatted(limit, desc, columns);
+		String asString;
+		if (nullsLast) {
+			asString = "limit=%s desc=%s nullsLast=true columns=%s".formatted(limit, desc, columns);
+		} else {
+			asString = "limit=%s desc=%s columns=%s".formatted(limit, desc, columns);
+		}
+		if (!tieBreakers.isEmpty()) {
+			asString += " tieBreakers=%s".formatted(tieBreakers);
+		}
+		return asString;
 	}
 }
@@ -0,0 +1,49 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table;
+
+/**
+ * An {@link ITableWrapper} whose rows are only appended (e.g. intraday trades), enabling caches to be maintained
+ * incrementally instead of being fully invalidated.
+ * 
+ * @author Benoit Lacelle
+ */
+public interface IHasAppendDeltas {
+
+	/**
+	 * 
+	 * @return a watermark which increases when rows are appended. It is typically a row count, or the maximum of some
+	 *         monotonically increasing column.
+	 */
+	long getWatermark();
+
+	/**
+	 * 
+	 * @param fromWatermark
+	 *            exclusive
+	 * @param toWatermark
+	 *            inclusive
+	 * @return an {@link ITableWrapper} holding only the rows appended between the two watermarks.
+	 */
+	ITableWrapper getAppendDelta(long fromWatermark, long toWatermark);
+}
@@ -22,6 +22,8 @@
  */
 package eu.solven.adhoc.table;
 
+import java.util.OptionalLong;
+
 import eu.solven.adhoc.column.IColumnsManager;
 import eu.solven.adhoc.engine.cache.IQueryStepCache;
 import eu.solven.adhoc.engine.context.IIsCancellable;
@@ -92,4 +94,12 @@ public interface IQueryPod extends IHasOptionsAndExecutorService, IHasExecutorAn
 		return NoopQueryPlanRegistry.INSTANCE;
 	}
 
+	/**
+	 * @return the {@link System#nanoTime()} after which this query times out, if any. Typically used to bound a blocking
+	 *         wait.
+	 */
+	default OptionalLong getDeadlineNanoTime() {
+		return OptionalLong.empty();
+	}
+
 }
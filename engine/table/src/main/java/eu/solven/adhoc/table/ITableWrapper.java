@@ -24,6 +24,8 @@ package eu.solven.adhoc.table;
 
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
 
 import eu.solven.adhoc.beta.schema.CoordinatesSample;
 import eu.solven.adhoc.column.IHasColumns;
@@ -34,6 +36,8 @@ import eu.solven.adhoc.query.table.TableQuery;
 import eu.solven.adhoc.query.table.TableQueryV2;
 import eu.solven.adhoc.query.table.TableQueryV3;
 import eu.solven.adhoc.query.table.TableQueryV4;
+import eu.solven.adhoc.table.statistics.ColumnStatisticsHelpers;
+import eu.solven.adhoc.table.statistics.TableColumnStatistics;
 import eu.solven.adhoc.util.IHasName;
 import eu.solven.pepper.core.PepperStreamHelper;
 
@@ -104,6 +108,18 @@ public interface ITableWrapper extends IHasColumns, IHasName {
 		return streamSlices(SimpleQueryPod.forTable(this), tableQuery);
 	}
 
+	/**
+	 * The shard key is used by {@link eu.solven.adhoc.options.StandardQueryOptions#PARTITIONED} to route slices to
+	 * partitions. A good shard key is a column present in most groupBys, with a well-distributed cardinality (e.g. a
+	 * book, or a portfolio): a slice then keeps its partition through the DAG, as long as the groupBy retains these
+	 * columns.
+	 * 
+	 * @return the columns on which slices are routed to partitions. If empty, slices are routed by their hashCode.
+	 */
+	default Set<String> getShardColumns() {
+		return Set.of();
+	}
+
 	/**
 	 * 
 	 * @param column
@@ -113,7 +129,12 @@ public interface ITableWrapper extends IHasColumns, IHasName {
 	 * @return
 	 */
 	default CoordinatesSample getCoordinates(String column, IValueMatcher valueMatcher, int limit) {
-		return ColumnMetadataHelpers.getCoordinatesMostGeneric(this, column, valueMatcher, limit);
+		// Column pickers typically request the most frequent coordinates: they may be served by the statistics
+		Optional<CoordinatesSample> fromStatistics = getCachedColumnStatistics(column)
+				.flatMap(statistics -> ColumnStatisticsHelpers.toCoordinatesSample(statistics, valueMatcher, limit));
+
+		return fromStatistics
+				.orElseGet(() -> ColumnMetadataHelpers.getCoordinatesMostGeneric(this, column, valueMatcher, limit));
 	}
 
 	/**
@@ -129,4 +150,27 @@ public interface ITableWrapper extends IHasColumns, IHasName {
 				.collect(PepperStreamHelper.toLinkedMap(Entry::getKey,
 						e -> getCoordinates(e.getKey(), e.getValue(), limit)));
 	}
+
+	/**
+	 * This may be expensive, as it may scan the whole table. It is typically used to serve column metadata (e.g. in a
+	 * column picker), and to estimate the number of slices of a query.
+	 * 
+	 * @param columns
+	 * @return the statistics of given columns.
+	 */
+	default Map<String, TableColumnStatistics> getColumnStatistics(Set<String> columns) {
+		return ColumnStatisticsHelpers.getColumnStatisticsMostGeneric(this, columns);
+	}
+
+	/**
+	 * This must be cheap, as it is called while planning queries: an implementation should not query the underlying
+	 * table (e.g. statistics are computed on {@link #getColumnStatistics(Set)}), but it may refresh stale statistics
+	 * asynchronously.
+	 * 
+	 * @param column
+	 * @return the statistics of given column, if they are readily available (e.g. cached).
+	 */
+	default Optional<TableColumnStatistics> getCachedColumnStatistics(String column) {
+		return Optional.empty();
+	}
 }
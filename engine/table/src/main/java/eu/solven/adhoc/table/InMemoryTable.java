@@ -23,6 +23,7 @@
 package eu.solven.adhoc.table;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -51,7 +52,7 @@ import com.google.common.collect.Sets;
 
 import eu.solven.adhoc.column.ColumnMetadata;
 import eu.solven.adhoc.cuboid.slice.ISlice;
-import eu.solven.adhoc.dataframe.filter.MoreFilterHelpers;
+import eu.solven.adhoc.dataframe.filter.FilterMatcher;
 import eu.solven.adhoc.dataframe.row.ITabularRecord;
 import eu.solven.adhoc.dataframe.row.ITabularRecordStream;
 import eu.solven.adhoc.dataframe.row.TabularRecordOverMaps;
@@ -69,6 +70,8 @@ import eu.solven.adhoc.query.table.TableQueryV2;
 import eu.solven.adhoc.query.table.TableQueryV3;
 import eu.solven.adhoc.query.table.TableQueryV4;
 import eu.solven.adhoc.stream.IConsumingStream;
+import eu.solven.adhoc.table.statistics.AppendOnlyColumnStatistics;
+import eu.solven.adhoc.table.statistics.TableColumnStatistics;
 import eu.solven.adhoc.util.AdhocUnsafe;
 import lombok.Builder.Default;
 import lombok.Getter;
@@ -83,7 +86,7 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @SuperBuilder
-public class InMemoryTable implements ITableWrapper, IHasHealthDetails {
+public class InMemoryTable implements ITableWrapper, IHasHealthDetails, IHasAppendDeltas {
 
 	// Pre-compiled pattern for recognising double-quoted column names such as `"some.column"`.
 	// See https://docs.oracle.com/en/java/docs/api/java.base/java/util/regex/Pattern.html
@@ -104,10 +107,18 @@ public class InMemoryTable implements ITableWrapper, IHasHealthDetails {
 	@Default
 	boolean throwOnUnknownColumn = true;
 
+	@Default
+	@NonNull
+	@Getter
+	Set<String> shardColumns = ImmutableSet.of();
+
 	// This is useful to collect in one go all columns expected by a forest
 	@Getter
 	final Set<String> unknownColumns = new ConcurrentSkipListSet<>();
 
+	// Maintained incrementally, given rows are only appended
+	final AppendOnlyColumnStatistics columnStatistics = new AppendOnlyColumnStatistics();
+
 	public static InMemoryTable newInstance(Map<String, ?> options) {
 		return InMemoryTable.builder().build();
 	}
@@ -120,6 +131,29 @@ public class InMemoryTable implements ITableWrapper, IHasHealthDetails {
 		return rows.stream();
 	}
 
+	/**
+	 * The watermark is the number of rows: it is valid as long as rows are only appended, through
+	 * {@link #add(Map)}.
+	 */
+	@Override
+	public long getWatermark() {
+		return rows.size();
+	}
+
+	@Override
+	public InMemoryTable getAppendDelta(long fromWatermark, long toWatermark) {
+		List<Map<String, ?>> appendedRows =
+				new ArrayList<>(rows.subList(Math.toIntExact(fromWatermark), Math.toIntExact(toWatermark)));
+
+		return InMemoryTable.builder()
+				.name(name)
+				.rows(appendedRows)
+				.distinctSlices(distinctSlices)
+				// The appended rows may not hold all columns
+				.throwOnUnknownColumn(false)
+				.build();
+	}
+
 	@Override
 	public ITabularRecordStream streamSlices(IQueryPod queryPod, TableQueryV4 tableQuery) {
 		return TableWrapperHelpers.v3TovV2(queryPod, tableQuery.streamV3(), this);
@@ -205,9 +239,9 @@ public class InMemoryTable implements ITableWrapper, IHasHealthDetails {
 			Set<String> aggregateColumns,
 			boolean isEmptyAggregation,
 			Set<String> groupByColumns) {
-		Stream<Map<String, ?>> matchingRows = this.stream().filter(row -> {
-			return MoreFilterHelpers.match(tableQuery.getFilter(), row);
-		});
+		// Compiled once for all rows
+		FilterMatcher filterMatcher = FilterMatcher.builder().filter(tableQuery.getFilter()).build();
+		Stream<Map<String, ?>> matchingRows = this.stream().filter(filterMatcher::match);
 
 		SetMultimap<String, FilteredAggregator> columnToAggregators = LinkedHashMultimap.create();
 		aggregateColumns.forEach(aggregatedColumn -> {
@@ -217,10 +251,14 @@ public class InMemoryTable implements ITableWrapper, IHasHealthDetails {
 					.forEach(a -> columnToAggregators.put(aggregatedColumn, a));
 		});
 
+		Map<FilteredAggregator, FilterMatcher> aggregatorToMatcher = new HashMap<>();
+		columnToAggregators.values()
+				.forEach(a -> aggregatorToMatcher.put(a, FilterMatcher.builder().filter(a.getFilter()).build()));
+
 		ISliceFactory sliceFactory = queryPod.getSliceFactory();
 
 		Stream<ITabularRecord> stream = matchingRows.map(row -> {
-			return toRecord(sliceFactory, tableQuery, columnToAggregators, groupByColumns, row);
+			return toRecord(sliceFactory, tableQuery, columnToAggregators, aggregatorToMatcher, groupByColumns, row);
 		});
 
 		if (isEmptyAggregation) {
@@ -309,6 +347,7 @@ public class InMemoryTable implements ITableWrapper, IHasHealthDetails {
 	protected ITabularRecord toRecord(ISliceFactory sliceFactory,
 			TableQueryV2 tableQuery,
 			SetMultimap<String, FilteredAggregator> columnToAggregators,
+			Map<FilteredAggregator, FilterMatcher> aggregatorToMatcher,
 			Set<String> groupByColumns,
 			Map<String, ?> row) {
 		Map<String, Object> aggregates = LinkedHashMap.newLinkedHashMap(tableQuery.getAggregators().size());
@@ -316,7 +355,7 @@ public class InMemoryTable implements ITableWrapper, IHasHealthDetails {
 		columnToAggregators.asMap().forEach((aggregatedColumn, aggs) -> {
 			Object aggregatorUnderlyingValue = row.get(aggregatedColumn);
 			aggs.forEach(a -> {
-				if (!MoreFilterHelpers.match(a.getFilter(), row)) {
+				if (!aggregatorToMatcher.get(a).match(row)) {
 					// This aggregate is rejected by the `FILTER` clause
 					return;
 				}
@@ -401,6 +440,20 @@ public class InMemoryTable implements ITableWrapper, IHasHealthDetails {
 				.toList();
 	}
 
+	@Override
+	public Map<String, TableColumnStatistics> getColumnStatistics(Set<String> columns) {
+		return columnStatistics.getStatistics(rows, columns);
+	}
+
+	/**
+	 * Serves the statistics as of their latest computation: the rows appended since then are processed asynchronously,
+	 * not by the querying thread.
+	 */
+	@Override
+	public Optional<TableColumnStatistics> getCachedColumnStatistics(String column) {
+		return columnStatistics.getSnapshot(rows, column);
+	}
+
 	@Override
 	public String toString() {
 		ToStringHelper toStringHelper = MoreObjects.toStringHelper(this).add("size", rows.size());
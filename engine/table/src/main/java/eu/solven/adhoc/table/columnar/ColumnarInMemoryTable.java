@@ -0,0 +1,753 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.columnar;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.util.ClassUtils;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+
+import eu.solven.adhoc.column.ColumnMetadata;
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.aggregating.AggregatingColumns;
+import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
+import eu.solven.adhoc.dataframe.row.CompositeTabularRecordStream;
+import eu.solven.adhoc.dataframe.row.ITabularRecord;
+import eu.solven.adhoc.dataframe.row.ITabularRecordStream;
+import eu.solven.adhoc.dataframe.row.TabularRecordOverMaps;
+import eu.solven.adhoc.dataframe.stream.SuppliedTabularRecordConsumingStream;
+import eu.solven.adhoc.dataframe.tabular.IMultitypeMergeableGrid.IOpenedSlice;
+import eu.solven.adhoc.engine.observability.IHasHealthDetails;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.filter.FilterHelpers;
+import eu.solven.adhoc.filter.IAndFilter;
+import eu.solven.adhoc.filter.IColumnFilter;
+import eu.solven.adhoc.filter.INotFilter;
+import eu.solven.adhoc.filter.IOrFilter;
+import eu.solven.adhoc.filter.ISliceFilter;
+import eu.solven.adhoc.map.factory.IMapBuilderPreKeys;
+import eu.solven.adhoc.map.factory.ISliceFactory;
+import eu.solven.adhoc.measure.aggregation.carrier.IAggregationCarrier;
+import eu.solven.adhoc.measure.aggregation.comparable.MaxAggregation;
+import eu.solven.adhoc.measure.aggregation.comparable.MinAggregation;
+import eu.solven.adhoc.measure.operator.IOperatorFactory;
+import eu.solven.adhoc.measure.operator.StandardOperatorFactory;
+import eu.solven.adhoc.measure.sum.CountAggregation;
+import eu.solven.adhoc.measure.sum.EmptyAggregation;
+import eu.solven.adhoc.measure.sum.SumAggregation;
+import eu.solven.adhoc.model.measure.Aggregator;
+import eu.solven.adhoc.primitive.IValueProvider;
+import eu.solven.adhoc.query.ICountMeasuresConstants;
+import eu.solven.adhoc.query.table.FilteredAggregator;
+import eu.solven.adhoc.query.table.TableQueryV2;
+import eu.solven.adhoc.query.table.TableQueryV3;
+import eu.solven.adhoc.query.table.TableQueryV4;
+import eu.solven.adhoc.stream.IConsumingStream;
+import eu.solven.adhoc.table.IQueryPod;
+import eu.solven.adhoc.table.ITableWrapper;
+import eu.solven.adhoc.table.InMemoryTable;
+import eu.solven.adhoc.table.TableWrapperHelpers;
+import eu.solven.pepper.core.PepperLogHelper;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An in-memory {@link ITableWrapper}, storing its rows column by column. Each column is dictionary-encoded, with a
+ * bitmap of rows per distinct value: {@link ISliceFilter} are evaluated as bitmap algebra (instead of being evaluated
+ * row by row), and usual aggregations (`SUM`, `MIN`, `MAX`, `COUNT`) are executed by the table into an
+ * {@link AggregatingColumns}, hence returning distinct slices.
+ *
+ * It is a drop-in replacement for {@link InMemoryTable}, relevant for large reference data or test fixtures.
+ *
+ * @author Benoit Lacelle
+ */
+@Slf4j
+@SuperBuilder
+@SuppressWarnings("PMD.GodClass")
+public class ColumnarInMemoryTable implements ITableWrapper, IHasHealthDetails {
+
+	// Pre-compiled pattern for recognising double-quoted column names such as `"some.column"`.
+	private static final Pattern QUOTED_COLUMN_PATTERN = Pattern.compile("\"[^\"]+\"");
+
+	@Default
+	@NonNull
+	@Getter
+	String name = "columnarInMemory";
+
+	@Default
+	boolean throwOnUnknownColumn = true;
+
+	// Used to aggregate within the table
+	@Default
+	@NonNull
+	IOperatorFactory operatorFactory = StandardOperatorFactory.builder().build();
+
+	// This is useful to collect in one go all columns expected by a forest
+	@Getter
+	final Set<String> unknownColumns = new ConcurrentSkipListSet<>();
+
+	// Appends are exclusive, while queries can be executed concurrently
+	final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	final Map<String, DictionarizedBitmapColumn> columns = new LinkedHashMap<>();
+
+	int nbRows;
+
+	/**
+	 * How an aggregator is computed from the columns.
+	 */
+	protected enum AggregatorKind {
+		EMPTY, COUNT_ASTERISK, COUNT, VALUE,
+	}
+
+	/**
+	 * Prepared {@link FilteredAggregator}, given a query.
+	 *
+	 * @param aggregator
+	 * @param kind
+	 * @param column
+	 *            the aggregated column. `null` if not known by this table.
+	 * @param filteredRows
+	 *            the rows matching the FILTER clause, iterated along the table rows. `null` if the aggregator is not
+	 *            filtered.
+	 */
+	protected record PreparedAggregator(FilteredAggregator aggregator,
+			AggregatorKind kind,
+			@Nullable DictionarizedBitmapColumn column,
+			@Nullable PeekableIntIterator filteredRows) {
+
+		/**
+		 * BEWARE This must be called with increasing rowIndex.
+		 */
+		boolean isAccepted(int rowIndex) {
+			if (filteredRows == null) {
+				return true;
+			}
+			filteredRows.advanceIfNeeded(rowIndex);
+			return filteredRows.hasNext() && filteredRows.peekNext() == rowIndex;
+		}
+
+		DictionarizedBitmapColumn getColumn() {
+			return Objects.requireNonNull(column, "Unknown column");
+		}
+
+		/**
+		 * @return the code of the aggregated column for given row.
+		 */
+		int readCode(int rowIndex) {
+			if (column == null) {
+				return DictionarizedBitmapColumn.CODE_ABSENT;
+			} else {
+				return column.readCode(rowIndex);
+			}
+		}
+	}
+
+	public void add(Map<String, ?> row) {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			doAdd(row);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	public void addAll(Iterable<? extends Map<String, ?>> rows) {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			rows.forEach(this::doAdd);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void doAdd(Map<String, ?> row) {
+		row.forEach((column, value) -> {
+			// A new column is considered absent from all previous rows
+			columns.computeIfAbsent(column, _ -> new DictionarizedBitmapColumn(nbRows)).append(value);
+		});
+
+		if (columns.size() != row.size()) {
+			// Some columns are absent from this row
+			columns.values().forEach(column -> {
+				if (column.size() == nbRows) {
+					column.appendAbsent();
+				}
+			});
+		}
+
+		nbRows++;
+	}
+
+	/**
+	 * Pack the columns. Typically called once all rows are added. Later rows are still accepted.
+	 */
+	public void compact() {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			columns.values().forEach(DictionarizedBitmapColumn::compact);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public ITabularRecordStream streamSlices(IQueryPod queryPod, TableQueryV4 tableQuery) {
+		return TableWrapperHelpers.v3TovV2(queryPod, tableQuery.streamV3(), this);
+	}
+
+	/**
+	 * Stream every stored row matching {@code tableQuery.getFilter()} as a separate {@link ITabularRecord}: no
+	 * aggregation is done by the table.
+	 */
+	@Override
+	public ITabularRecordStream streamRows(IQueryPod queryPod, TableQueryV3 tableQuery) {
+		List<ITabularRecordStream> underlyings =
+				tableQuery.streamV2().map(v2 -> streamSlices(queryPod, v2, false)).toList();
+
+		return CompositeTabularRecordStream.builder().underlyings(underlyings).build();
+	}
+
+	@Override
+	public ITabularRecordStream streamSlices(IQueryPod queryPod, TableQueryV2 tableQuery) {
+		return streamSlices(queryPod, tableQuery, true);
+	}
+
+	/**
+	 *
+	 * @param queryPod
+	 * @param tableQuery
+	 * @param mayAggregate
+	 *            if false, one {@link ITabularRecord} is returned per matching row.
+	 * @return
+	 */
+	protected ITabularRecordStream streamSlices(IQueryPod queryPod, TableQueryV2 tableQuery, boolean mayAggregate) {
+		if (!this.equals(queryPod.getTable())) {
+			throw new IllegalStateException("Inconsistent tables: %s vs %s".formatted(queryPod.getTable(), this));
+		}
+
+		checkQuery(tableQuery);
+
+		// Aggregate within the table only if we know the aggregation can be re-applied by the engine
+		boolean isAggregating = mayAggregate && tableQuery.getAggregators()
+				.stream()
+				.map(FilteredAggregator::getAggregator)
+				.allMatch(this::isAggregatedByTable);
+
+		if (queryPod.isExplain()) {
+			log.info("[EXPLAIN] tableQuery: {} (aggregatedByTable={})", tableQuery, isAggregating);
+		}
+
+		ISliceFactory sliceFactory = queryPod.getSliceFactory();
+
+		return new SuppliedTabularRecordConsumingStream(tableQuery, isAggregating, () -> {
+			// The records are materialized, to release the lock as soon as possible
+			List<ITabularRecord> records = readLocked(() -> {
+				if (isAggregating) {
+					return toSliceRecords(sliceFactory, tableQuery);
+				} else {
+					return toRowRecords(sliceFactory, tableQuery);
+				}
+			});
+			return IConsumingStream.fromStream(records.stream());
+		});
+	}
+
+	protected boolean isAggregatedByTable(Aggregator aggregator) {
+		String aggregationKey = aggregator.getAggregationKey();
+		return EmptyAggregation.isEmpty(aggregator) || CountAggregation.isCount(aggregationKey)
+				|| SumAggregation.isSum(aggregationKey)
+				|| MinAggregation.KEY.equals(aggregationKey)
+				|| MaxAggregation.KEY.equals(aggregationKey);
+	}
+
+	protected <T> T readLocked(Supplier<T> supplier) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return supplier.get();
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	protected void checkQuery(TableQueryV2 tableQuery) {
+		Set<String> filteredColumns = FilterHelpers.getFilteredColumns(tableQuery.getFilter());
+		if (tableQuery.getAggregators()
+				.stream()
+				.map(FilteredAggregator::getAggregator)
+				// if the aggregator name is also a column name, then the filtering is valid (as we'll filter on the
+				// column)
+				.filter(a -> !a.getName().equals(a.getColumnName()))
+				.anyMatch(a -> filteredColumns.contains(a.getName()))) {
+			// e.g. `SELECT c, SUM(k) AS k WHERE k >= 100`
+			throw new IllegalArgumentException(
+					"%s can not filter a measure. query=%s".formatted(getClass().getSimpleName(), tableQuery));
+		}
+
+		Set<String> tableColumns = readLocked(() -> ImmutableSet.copyOf(columns.keySet()));
+		checkKnownColumns(tableColumns, filteredColumns, "filtered");
+
+		Set<String> aggregateFilteredColumns = tableQuery.getAggregators()
+				.stream()
+				.map(FilteredAggregator::getFilter)
+				.flatMap(f -> FilterHelpers.getFilteredColumns(f).stream())
+				.collect(ImmutableSet.toImmutableSet());
+		checkKnownColumns(tableColumns, aggregateFilteredColumns, "aggregateFiltered");
+
+		Set<String> aggregateColumnsFromTable = tableQuery.getAggregators()
+				.stream()
+				.map(a -> a.getAggregator().getColumnName())
+				.map(this::clearColumnName)
+				.filter(s -> !s.equals(Aggregator.empty().getColumnName()))
+				.filter(s -> !ICountMeasuresConstants.ASTERISK.equals(s))
+				.collect(ImmutableSet.toImmutableSet());
+		checkKnownColumns(tableColumns, aggregateColumnsFromTable, "aggregated");
+
+		checkKnownColumns(tableColumns, getGroupByColumns(tableQuery), "groupBy");
+	}
+
+	/**
+	 *
+	 * @param column
+	 *            a column name, potentially wrapped with `"`.
+	 * @return a clear columnName
+	 */
+	protected String clearColumnName(String column) {
+		if (QUOTED_COLUMN_PATTERN.matcher(column).matches()) {
+			// e.g. `"some.column"` is not a joined column but a base column with a `.` in its name.
+			return column.substring(1, column.length() - 1);
+		} else {
+			return column;
+		}
+	}
+
+	protected Set<String> getGroupByColumns(TableQueryV2 tableQuery) {
+		return tableQuery.getGroupBy()
+				.getSortedColumns()
+				.stream()
+				.map(this::clearColumnName)
+				.collect(Collectors.toCollection(TreeSet::new));
+	}
+
+	protected void checkKnownColumns(Set<String> tableColumns, Set<String> queriedColumns, String columnUse) {
+		Set<String> unknownQueriedColumns = Sets.difference(queriedColumns, tableColumns);
+		if (!unknownQueriedColumns.isEmpty()) {
+			unknownColumns.addAll(unknownQueriedColumns);
+
+			String msg = "Unknown %s columns: %s".formatted(columnUse, unknownQueriedColumns);
+			if (throwOnUnknownColumn) {
+				throw new IllegalArgumentException(msg);
+			} else {
+				log.warn(msg);
+			}
+		}
+	}
+
+	/**
+	 * BEWARE This must be called while holding the read lock.
+	 *
+	 * @param filter
+	 * @return the rows matching given filter.
+	 */
+	protected RoaringBitmap toBitmap(ISliceFilter filter) {
+		if (filter.isMatchAll()) {
+			return RoaringBitmap.bitmapOfRange(0L, nbRows);
+		} else if (filter.isMatchNone()) {
+			return new RoaringBitmap();
+		} else if (filter.isAnd() && filter instanceof IAndFilter andFilter) {
+			RoaringBitmap matching = null;
+			for (ISliceFilter operand : andFilter.getOperands()) {
+				RoaringBitmap operandMatching = toBitmap(operand);
+				if (matching == null) {
+					matching = operandMatching;
+				} else {
+					matching.and(operandMatching);
+				}
+
+				if (matching.isEmpty()) {
+					// Skip the other operands
+					break;
+				}
+			}
+			if (matching == null) {
+				return RoaringBitmap.bitmapOfRange(0L, nbRows);
+			}
+			return matching;
+		} else if (filter.isOr() && filter instanceof IOrFilter orFilter) {
+			List<RoaringBitmap> operandsMatching = orFilter.getOperands().stream().map(this::toBitmap).toList();
+			return FastAggregation.or(operandsMatching.iterator());
+		} else if (filter.isNot() && filter instanceof INotFilter notFilter) {
+			return RoaringBitmap.flip(toBitmap(notFilter.getNegated()), 0L, nbRows);
+		} else if (filter.isColumnFilter() && filter instanceof IColumnFilter columnFilter) {
+			DictionarizedBitmapColumn column = columns.get(columnFilter.getColumn());
+
+			if (column == null) {
+				// All rows are missing this column
+				if (columnFilter.isNullIfAbsent() && columnFilter.getValueMatcher().match(null)) {
+					return RoaringBitmap.bitmapOfRange(0L, nbRows);
+				} else {
+					return new RoaringBitmap();
+				}
+			}
+
+			return column.getMatchingRows(columnFilter.getValueMatcher(), columnFilter.isNullIfAbsent());
+		} else {
+			throw new UnsupportedOperationException(PepperLogHelper.getObjectAndClass(filter).toString());
+		}
+	}
+
+	protected List<PreparedAggregator> prepareAggregators(TableQueryV2 tableQuery) {
+		return tableQuery.getAggregators().stream().map(filteredAggregator -> {
+			Aggregator aggregator = filteredAggregator.getAggregator();
+			String aggregatedColumn = clearColumnName(aggregator.getColumnName());
+
+			AggregatorKind kind;
+			if (EmptyAggregation.isEmpty(aggregator)) {
+				kind = AggregatorKind.EMPTY;
+			} else if (CountAggregation.isCount(aggregator.getAggregationKey())) {
+				if (ICountMeasuresConstants.ASTERISK.equals(aggregatedColumn)) {
+					// `COUNT(*)` counts even if there is no value
+					kind = AggregatorKind.COUNT_ASTERISK;
+				} else {
+					// COUNT only if the COUNTed column is not null
+					kind = AggregatorKind.COUNT;
+				}
+			} else {
+				kind = AggregatorKind.VALUE;
+			}
+
+			PeekableIntIterator filteredRows;
+			if (filteredAggregator.getFilter().isMatchAll()) {
+				filteredRows = null;
+			} else {
+				filteredRows = toBitmap(filteredAggregator.getFilter()).getIntIterator();
+			}
+
+			return new PreparedAggregator(filteredAggregator, kind, columns.get(aggregatedColumn), filteredRows);
+		}).toList();
+	}
+
+	/**
+	 * One {@link ITabularRecord} per matching row, similarly to {@link InMemoryTable}.
+	 */
+	protected List<ITabularRecord> toRowRecords(ISliceFactory sliceFactory, TableQueryV2 tableQuery) {
+		RoaringBitmap matchingRows = toBitmap(tableQuery.getFilter());
+		List<PreparedAggregator> aggregators = prepareAggregators(tableQuery);
+		RowGrouper grouper = new RowGrouper(getGroupByColumns(tableQuery));
+
+		List<ITabularRecord> records = new ArrayList<>(matchingRows.getCardinality());
+		matchingRows.forEach((int rowIndex) -> {
+			Map<String, @Nullable Object> aggregates = LinkedHashMap.newLinkedHashMap(aggregators.size());
+
+			aggregators.forEach(aggregator -> {
+				if (!aggregator.isAccepted(rowIndex)) {
+					// This aggregate is rejected by the `FILTER` clause
+					return;
+				}
+
+				String alias = aggregator.aggregator().getAlias();
+				switch (aggregator.kind()) {
+				// EmptyAggregation surfaces as a NULL column
+				case EMPTY -> aggregates.put(alias, null);
+				case COUNT_ASTERISK -> aggregates.put(alias, 1L);
+				case COUNT -> {
+					if (DictionarizedBitmapColumn.isValue(aggregator.readCode(rowIndex))) {
+						aggregates.put(alias, 1L);
+					}
+				}
+				case VALUE -> {
+					int code = aggregator.readCode(rowIndex);
+					if (DictionarizedBitmapColumn.isValue(code)) {
+						aggregates.put(alias, aggregator.getColumn().getValue(code));
+					}
+				}
+				}
+			});
+
+			records.add(TabularRecordOverMaps.builder()
+					.aggregates(aggregates)
+					.slice(tableQuery.getGroupBy(), grouper.toSlice(sliceFactory, rowIndex))
+					.build());
+		});
+
+		return records;
+	}
+
+	/**
+	 * One {@link ITabularRecord} per slice, where aggregations are executed into an {@link AggregatingColumns}.
+	 */
+	protected List<ITabularRecord> toSliceRecords(ISliceFactory sliceFactory, TableQueryV2 tableQuery) {
+		RoaringBitmap matchingRows = toBitmap(tableQuery.getFilter());
+		List<PreparedAggregator> aggregators = prepareAggregators(tableQuery);
+		RowGrouper grouper = new RowGrouper(getGroupByColumns(tableQuery));
+
+		AggregatingColumns<Integer> grid = AggregatingColumns.<Integer>builder().operatorFactory(operatorFactory).build();
+		List<IOpenedSlice> groupToOpened = new ArrayList<>();
+		// For each EmptyAggregation, the groups having at least one row accepted by the FILTER clause
+		Map<String, RoaringBitmap> emptyToGroups = new LinkedHashMap<>();
+
+		matchingRows.forEach((int rowIndex) -> {
+			int groupIndex = grouper.groupIndex(rowIndex);
+
+			IOpenedSlice opened;
+			if (groupIndex == groupToOpened.size()) {
+				opened = grid.openSlice(groupIndex);
+				groupToOpened.add(opened);
+			} else {
+				opened = groupToOpened.get(groupIndex);
+			}
+
+			aggregators.forEach(aggregator -> {
+				if (!aggregator.isAccepted(rowIndex)) {
+					// This aggregate is rejected by the `FILTER` clause
+					return;
+				}
+
+				FilteredAggregator filteredAggregator = aggregator.aggregator();
+				switch (aggregator.kind()) {
+				case EMPTY -> emptyToGroups.computeIfAbsent(filteredAggregator.getAlias(), _ -> new RoaringBitmap())
+						.add(groupIndex);
+				case COUNT_ASTERISK -> opened.contribute(filteredAggregator).onLong(1L);
+				case COUNT -> {
+					if (DictionarizedBitmapColumn.isValue(aggregator.readCode(rowIndex))) {
+						opened.contribute(filteredAggregator).onLong(1L);
+					}
+				}
+				case VALUE -> {
+					int code = aggregator.readCode(rowIndex);
+					if (DictionarizedBitmapColumn.isValue(code)) {
+						// Primitive values are provided without boxing
+						aggregator.getColumn().getProvider(code).acceptReceiver(opened.contribute(filteredAggregator));
+					}
+				}
+				}
+			});
+		});
+
+		Map<String, IMultitypeColumnFastGet<Integer>> aliasToColumn = new LinkedHashMap<>();
+		aggregators.stream().filter(a -> a.kind() != AggregatorKind.EMPTY).forEach(aggregator -> {
+			FilteredAggregator filteredAggregator = aggregator.aggregator();
+			CubeQueryStep step = CubeQueryStep.edit(tableQuery).measure(filteredAggregator.getAggregator()).build();
+			aliasToColumn.put(filteredAggregator.getAlias(), grid.closeColumn(step, filteredAggregator));
+		});
+
+		int nbGroups = groupToOpened.size();
+		List<ITabularRecord> records = new ArrayList<>(nbGroups);
+		for (int groupIndex = 0; groupIndex < nbGroups; groupIndex++) {
+			Map<String, @Nullable Object> aggregates = LinkedHashMap.newLinkedHashMap(aggregators.size());
+
+			int finalGroupIndex = groupIndex;
+			emptyToGroups.forEach((alias, groups) -> {
+				if (groups.contains(finalGroupIndex)) {
+					aggregates.put(alias, null);
+				}
+			});
+			aliasToColumn.forEach((alias, column) -> {
+				Object aggregate = IValueProvider.getValue(column.onValue(finalGroupIndex));
+				if (aggregate instanceof IAggregationCarrier carrier) {
+					// e.g. `COUNT` is accumulated as a carrier, while the engine expects the raw count from a table
+					aggregate = IValueProvider.getValue(carrier);
+				}
+				if (aggregate != null) {
+					aggregates.put(alias, aggregate);
+				}
+			});
+
+			records.add(TabularRecordOverMaps.builder()
+					.aggregates(aggregates)
+					.slice(tableQuery.getGroupBy(), grouper.toSlice(sliceFactory, grouper.getGroupRow(groupIndex)))
+					.build());
+		}
+
+		return records;
+	}
+
+	/**
+	 * Associates each row to a group, given the groupBy columns. Groups are indexed in order of appearance.
+	 *
+	 * BEWARE This must be used while holding the read lock.
+	 */
+	protected class RowGrouper {
+		final Set<String> groupByColumns;
+		final List<@Nullable DictionarizedBitmapColumn> groupByColumnsData;
+
+		// If the codes of all groupBy columns can be packed in a long, groups are indexed by a long key
+		final int @Nullable [] shifts;
+		final Long2IntOpenHashMap longToGroup = new Long2IntOpenHashMap();
+		final Object2IntOpenHashMap<IntArrayList> codesToGroup = new Object2IntOpenHashMap<>();
+
+		// group -> first row of given group
+		final IntArrayList groupToRow = new IntArrayList();
+
+		protected RowGrouper(Set<String> groupByColumns) {
+			this.groupByColumns = groupByColumns;
+
+			groupByColumnsData = new ArrayList<>(groupByColumns.size());
+			groupByColumns.forEach(column -> groupByColumnsData.add(columns.get(column)));
+
+			longToGroup.defaultReturnValue(-1);
+			codesToGroup.defaultReturnValue(-1);
+
+			int[] candidateShifts = new int[groupByColumns.size()];
+			int totalBits = 0;
+			for (int i = 0; i < candidateShifts.length; i++) {
+				candidateShifts[i] = totalBits;
+
+				DictionarizedBitmapColumn column = groupByColumnsData.get(i);
+				if (column != null) {
+					totalBits += Integer.SIZE - Integer.numberOfLeadingZeros(column.getNbCodes());
+				}
+			}
+
+			if (totalBits < Long.SIZE) {
+				shifts = candidateShifts;
+			} else {
+				shifts = null;
+			}
+		}
+
+		protected int readCode(int columnIndex, int rowIndex) {
+			DictionarizedBitmapColumn column = groupByColumnsData.get(columnIndex);
+			if (column == null) {
+				return DictionarizedBitmapColumn.CODE_ABSENT;
+			} else {
+				return column.readCode(rowIndex);
+			}
+		}
+
+		protected int groupIndex(int rowIndex) {
+			int nbColumns = groupByColumnsData.size();
+			int candidate = groupToRow.size();
+
+			int groupIndex;
+			if (shifts != null) {
+				long key = 0L;
+				for (int i = 0; i < nbColumns; i++) {
+					key |= (long) readCode(i, rowIndex) << shifts[i];
+				}
+				groupIndex = longToGroup.putIfAbsent(key, candidate);
+			} else {
+				int[] codes = new int[nbColumns];
+				for (int i = 0; i < nbColumns; i++) {
+					codes[i] = readCode(i, rowIndex);
+				}
+				groupIndex = codesToGroup.putIfAbsent(IntArrayList.wrap(codes), candidate);
+			}
+
+			if (groupIndex == -1) {
+				// This is a new group
+				groupToRow.add(rowIndex);
+				return candidate;
+			} else {
+				return groupIndex;
+			}
+		}
+
+		protected int getGroupRow(int groupIndex) {
+			return groupToRow.getInt(groupIndex);
+		}
+
+		protected ISlice toSlice(ISliceFactory sliceFactory, int rowIndex) {
+			IMapBuilderPreKeys groupByBuilder = sliceFactory.newMapBuilder(groupByColumns);
+			for (int i = 0; i < groupByColumnsData.size(); i++) {
+				DictionarizedBitmapColumn column = groupByColumnsData.get(i);
+				if (column == null) {
+					groupByBuilder.append(null);
+				} else {
+					groupByBuilder.append(column.getCoordinate(column.readCode(rowIndex)));
+				}
+			}
+			return groupByBuilder.build().asSlice();
+		}
+	}
+
+	@Override
+	public List<ColumnMetadata> getColumns() {
+		return readLocked(() -> {
+			List<ColumnMetadata> columnsMetadata = new ArrayList<>(columns.size());
+
+			columns.forEach((column, data) -> {
+				Set<Class<?>> classes = new LinkedHashSet<>();
+				data.getValues().forEach(value -> classes.add(value.getClass()));
+
+				if (classes.isEmpty()) {
+					// Only nulls: the type is unknown
+					return;
+				}
+
+				// Relates with eu.solven.adhoc.column.ColumnMetadata.merge(Collection<? extends ColumnMetadata>)
+				Class<?> type = classes.stream().reduce(ClassUtils::determineCommonAncestor).orElse(Object.class);
+				columnsMetadata.add(ColumnMetadata.builder().name(column).type(type).build());
+			});
+
+			return columnsMetadata;
+		});
+	}
+
+	@Override
+	public String toString() {
+		return readLocked(() -> MoreObjects.toStringHelper(this)
+				.add("name", name)
+				.add("rows", nbRows)
+				.add("columns", columns.keySet())
+				.toString());
+	}
+
+	@Override
+	public Map<String, ?> getHealthDetails() {
+		return readLocked(() -> ImmutableMap.of("rows", nbRows, "columns", columns.size()));
+	}
+
+}
@@ -0,0 +1,293 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.columnar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.RoaringBitmapWriter;
+
+import eu.solven.adhoc.encoding.IIntArray;
+import eu.solven.adhoc.encoding.dictionary.IDictionarizer;
+import eu.solven.adhoc.encoding.dictionary.MapDictionarizer;
+import eu.solven.adhoc.encoding.packing.PackedIntegers;
+import eu.solven.adhoc.filter.value.IValueMatcher;
+import eu.solven.adhoc.primitive.AdhocPrimitiveHelpers;
+import eu.solven.adhoc.primitive.IValueProvider;
+
+/**
+ * A column of a {@link ColumnarInMemoryTable}. Each row holds a code, referring to a dictionary of distinct values. A
+ * {@link RoaringBitmap} of rows is (lazily) indexed for each code, so that filters can be evaluated as bitmap algebra.
+ *
+ * Codes are packed with {@link PackedIntegers} on {@link #compact()}, which is typically very efficient as most columns
+ * have a low cardinality.
+ *
+ * BEWARE This is not thread-safe: {@link ColumnarInMemoryTable} is responsible for guarding concurrent accesses.
+ *
+ * @author Benoit Lacelle
+ */
+public class DictionarizedBitmapColumn {
+	/**
+	 * The row does not hold this column.
+	 */
+	public static final int CODE_ABSENT = 0;
+	/**
+	 * The row holds this column, with an explicit `null`.
+	 */
+	public static final int CODE_NULL = 1;
+
+	private static final int FIRST_VALUE_CODE = 2;
+
+	private static final int MIN_CAPACITY = 16;
+
+	final List<Object> intToObject = new ArrayList<>();
+	final IDictionarizer dictionarizer = MapDictionarizer.builder().intToObject(intToObject).build();
+
+	// code -> normalized coordinate, as seen by filters and slices
+	final List<@Nullable Object> codeToCoordinate = new ArrayList<>(Arrays.asList(null, null));
+	// code -> provider of the normalized value, to feed aggregations without boxing
+	final List<IValueProvider> codeToProvider = new ArrayList<>(List.of(IValueProvider.NULL, IValueProvider.NULL));
+
+	// Codes while appending. `null` once packed.
+	int @Nullable [] codes;
+	// Codes once packed. `null` while appending.
+	@Nullable
+	IIntArray packedCodes;
+	int size;
+
+	// code -> rows holding given code. `null` until first requested.
+	@Nullable
+	List<RoaringBitmap> codeToRows;
+
+	/**
+	 * @param nbRows
+	 *            the number of rows already in the table, which are all considered as not holding this column.
+	 */
+	public DictionarizedBitmapColumn(int nbRows) {
+		this.codes = new int[Math.max(MIN_CAPACITY, nbRows)];
+		this.size = nbRows;
+	}
+
+	/**
+	 * Append a row holding this column.
+	 *
+	 * @param value
+	 *            may be null, which is different from the row not holding this column.
+	 */
+	public void append(@Nullable Object value) {
+		int code;
+		if (value == null) {
+			code = CODE_NULL;
+		} else {
+			code = FIRST_VALUE_CODE + dictionarizer.toInt(value);
+			if (code == codeToCoordinate.size()) {
+				// This is a new value
+				IValueProvider provider = AdhocPrimitiveHelpers.normalizeValueAsProvider(value);
+				codeToProvider.add(provider);
+				codeToCoordinate.add(IValueProvider.getValue(provider));
+			}
+		}
+		appendCode(code);
+	}
+
+	/**
+	 * Append a row not holding this column.
+	 */
+	public void appendAbsent() {
+		appendCode(CODE_ABSENT);
+	}
+
+	protected void appendCode(int code) {
+		int[] appendable = ensureAppendable();
+		if (size == appendable.length) {
+			appendable = Arrays.copyOf(appendable, appendable.length * 2);
+			codes = appendable;
+		}
+		appendable[size] = code;
+
+		if (codeToRows != null) {
+			// Keep the index up-to-date, as it has already been built
+			while (codeToRows.size() <= code) {
+				codeToRows.add(new RoaringBitmap());
+			}
+			codeToRows.get(code).add(size);
+		}
+
+		size++;
+	}
+
+	protected int[] ensureAppendable() {
+		int[] appendable = codes;
+		if (appendable == null) {
+			// Unpack, as we receive new rows after a `compact()`
+			IIntArray packed = Objects.requireNonNull(packedCodes, "Neither appendable nor packed");
+
+			appendable = new int[Math.max(MIN_CAPACITY, size * 2)];
+			for (int i = 0; i < size; i++) {
+				appendable[i] = packed.readInt(i);
+			}
+			codes = appendable;
+			packedCodes = null;
+		}
+		return appendable;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of distinct codes, including {@link #CODE_ABSENT} and {@link #CODE_NULL}.
+	 */
+	public int getNbCodes() {
+		return codeToCoordinate.size();
+	}
+
+	public int readCode(int rowIndex) {
+		int[] appendable = codes;
+		if (appendable != null) {
+			return appendable[rowIndex];
+		} else {
+			return Objects.requireNonNull(packedCodes).readInt(rowIndex);
+		}
+	}
+
+	public static boolean isValue(int code) {
+		return code >= FIRST_VALUE_CODE;
+	}
+
+	/**
+	 * @return the raw value, as received by {@link #append(Object)}
+	 */
+	public @Nullable Object getValue(int code) {
+		if (isValue(code)) {
+			return intToObject.get(code - FIRST_VALUE_CODE);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * @return the normalized coordinate, as exposed to {@link IValueMatcher} and slices.
+	 */
+	public @Nullable Object getCoordinate(int code) {
+		return codeToCoordinate.get(code);
+	}
+
+	public IValueProvider getProvider(int code) {
+		return codeToProvider.get(code);
+	}
+
+	/**
+	 * @return the distinct raw values of this column.
+	 */
+	public List<Object> getValues() {
+		return intToObject;
+	}
+
+	/**
+	 * 
+	 * @param valueMatcher
+	 * @param nullIfAbsent
+	 *            if true, rows not holding this column are considered as holding `null`.
+	 * @return the rows matching given {@link IValueMatcher}.
+	 */
+	public RoaringBitmap getMatchingRows(IValueMatcher valueMatcher, boolean nullIfAbsent) {
+		List<RoaringBitmap> codeToRows = getCodeToRows();
+
+		List<RoaringBitmap> matching = new ArrayList<>();
+
+		// The matcher is evaluated once per distinct value, and not once per row
+		boolean matchNull = valueMatcher.match(null);
+		for (int code = 0; code < codeToRows.size(); code++) {
+			boolean match;
+			if (code == CODE_ABSENT) {
+				match = nullIfAbsent && matchNull;
+			} else if (code == CODE_NULL) {
+				match = matchNull;
+			} else {
+				match = valueMatcher.match(codeToCoordinate.get(code));
+			}
+
+			if (match) {
+				matching.add(codeToRows.get(code));
+			}
+		}
+
+		if (matching.isEmpty()) {
+			return new RoaringBitmap();
+		} else if (matching.size() == 1) {
+			return matching.getFirst().clone();
+		} else {
+			return FastAggregation.or(matching.iterator());
+		}
+	}
+
+	protected List<RoaringBitmap> getCodeToRows() {
+		List<RoaringBitmap> indexed = codeToRows;
+		if (indexed == null) {
+			indexed = buildIndex();
+			codeToRows = indexed;
+		}
+		return indexed;
+	}
+
+	protected List<RoaringBitmap> buildIndex() {
+		int nbCodes = getNbCodes();
+		List<RoaringBitmapWriter<RoaringBitmap>> writers = new ArrayList<>(nbCodes);
+		for (int code = 0; code < nbCodes; code++) {
+			writers.add(RoaringBitmapWriter.writer().get());
+		}
+
+		// Rows are visited in increasing order, which is the optimal case for RoaringBitmapWriter
+		for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+			writers.get(readCode(rowIndex)).add(rowIndex);
+		}
+
+		List<RoaringBitmap> indexed = new ArrayList<>(nbCodes);
+		writers.forEach(writer -> indexed.add(writer.get()));
+		return indexed;
+	}
+
+	/**
+	 * Pack the codes and optimize the bitmaps. Later appends are still accepted, but they will unpack the codes.
+	 */
+	public void compact() {
+		int[] appendable = codes;
+		if (appendable != null) {
+			packedCodes = PackedIntegers.doPack(Arrays.copyOf(appendable, size));
+			codes = null;
+		}
+
+		List<RoaringBitmap> indexed = codeToRows;
+		if (indexed != null) {
+			indexed.forEach(RoaringBitmap::runOptimize);
+		}
+	}
+
+}
@@ -0,0 +1,11 @@
+/**
+ * Columnar in-memory tables: each column is dictionary-encoded, and filters are evaluated as bitmap algebra.
+ *
+ * <p>
+ * All types in this package are null-marked: parameters, return types and fields are non-null by default; explicit
+ * {@link org.jspecify.annotations.Nullable @Nullable} marks the opt-outs.
+ */
+@NullMarked
+package eu.solven.adhoc.table.columnar;
+
+import org.jspecify.annotations.NullMarked;
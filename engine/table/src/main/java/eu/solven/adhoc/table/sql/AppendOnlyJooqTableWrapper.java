@@ -0,0 +1,76 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.sql;
+
+import org.jooq.Field;
+import org.jooq.TableLike;
+import org.jooq.impl.DSL;
+
+import eu.solven.adhoc.table.IHasAppendDeltas;
+import eu.solven.adhoc.table.ITableWrapper;
+import lombok.NonNull;
+
+/**
+ * A {@link JooqTableWrapper} over a table whose rows are only appended, with a monotonically increasing column (e.g.
+ * an ingestion sequence, or an ingestion timestamp as epoch millis). Typically used with DuckDB.
+ * 
+ * @author Benoit Lacelle
+ */
+public class AppendOnlyJooqTableWrapper extends JooqTableWrapper implements IHasAppendDeltas {
+	@NonNull
+	final String watermarkColumn;
+
+	public AppendOnlyJooqTableWrapper(String name, JooqTableWrapperParameters tableParameters, String watermarkColumn) {
+		super(name, tableParameters);
+		this.watermarkColumn = watermarkColumn;
+	}
+
+	protected Field<Long> watermarkField() {
+		return DSL.field(DSL.quotedName(watermarkColumn), Long.class);
+	}
+
+	@Override
+	public long getWatermark() {
+		TableLike<?> table = getTableParameters().getTableSupplier().getSchemaTable();
+		Long watermark = makeDsl().select(DSL.max(watermarkField())).from(table).fetchOne(0, Long.class);
+
+		if (watermark == null) {
+			// Empty table
+			return Long.MIN_VALUE;
+		} else {
+			return watermark;
+		}
+	}
+
+	@Override
+	public ITableWrapper getAppendDelta(long fromWatermark, long toWatermark) {
+		TableLike<?> table = getTableParameters().getTableSupplier().getSchemaTable();
+		TableLike<?> appendedRows = DSL.select()
+				.from(table)
+				.where(watermarkField().gt(fromWatermark).and(watermarkField().le(toWatermark)))
+				.asTable(DSL.quotedName(getName()));
+
+		return new JooqTableWrapper(getName(),
+				getTableParameters().toBuilder().tableSupplier(IJooqTableSupplier.constant(appendedRows)).build());
+	}
+}
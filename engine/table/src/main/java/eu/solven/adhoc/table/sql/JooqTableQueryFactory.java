@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.jooq.AggregateFunction;
 import org.jooq.Condition;
@@ -343,7 +344,7 @@ public class JooqTableQueryFactory implements IJooqTableQueryFactory {
 
 		// `ORDER BY ...` / `LIMIT ...`
 		ResultQuery<Record> resultQuery;
-		if (tableQuery.getTopClause().isPresent()) {
+		if (tableQuery.getTopClause().isPresent() && isTopClauseApplicable(tableQuery.getTopClause(), nonPushdowns)) {
 			Collection<? extends OrderField<?>> optOrderFields = getOptionalOrders(tableQuery);
 			resultQuery = applyOrderAndLimit(beforeOrder, optOrderFields, tableQuery.getTopClause().getLimit());
 		} else {
@@ -392,8 +393,20 @@ public class JooqTableQueryFactory implements IJooqTableQueryFactory {
 		// jOOQ's Select<R> does NOT extend SelectOrderByStep, so we cannot chain `.orderBy` directly on the
 		// unionAll result. Wrap the union as a derived table when a top-clause is present; the optimizer in
 		// every supported engine (DuckDB, Postgres, Redshift, ClickHouse) flattens this trivially.
+		// All branches share V4.filter, so their non-pushdown leftovers on the WHERE clause are identical — pick any.
+		ISliceFilter sharedNonPushdown = branches.get(0).conditionAndNonPushdown().getNonPushdown();
+		// Aliases of FAs that belong to more than one branch resolve to the same leftover (a function of the FA's
+		// filter), so the union is well-defined; otherwise each branch contributes its own.
+		Map<String, ISliceFilter> mergedAggregateLeftovers = new LinkedHashMap<>();
+		branches.forEach(b -> mergedAggregateLeftovers.putAll(b.aggregatorToNonPushdown()));
+
+		ImmutableSet<ISliceFilter> nonPushdowns = ImmutableSet.<ISliceFilter>builder()
+				.add(sharedNonPushdown)
+				.addAll(mergedAggregateLeftovers.values())
+				.build();
+
 		ResultQuery<Record> resultQuery;
-		if (tableQuery.getTopClause().isPresent()) {
+		if (tableQuery.getTopClause().isPresent() && isTopClauseApplicable(tableQuery.getTopClause(), nonPushdowns)) {
 			Collection<? extends OrderField<?>> optOrderFields = getOptionalOrders(tableQuery.getTopClause());
 			resultQuery = dslContext.selectFrom(union.asTable("u"))
 					.orderBy(optOrderFields)
@@ -402,13 +415,6 @@ public class JooqTableQueryFactory implements IJooqTableQueryFactory {
 			resultQuery = union;
 		}
 
-		// All branches share V4.filter, so their non-pushdown leftovers on the WHERE clause are identical — pick any.
-		ISliceFilter sharedNonPushdown = branches.get(0).conditionAndNonPushdown().getNonPushdown();
-		// Aliases of FAs that belong to more than one branch resolve to the same leftover (a function of the FA's
-		// filter), so the union is well-defined; otherwise each branch contributes its own.
-		Map<String, ISliceFilter> mergedAggregateLeftovers = new LinkedHashMap<>();
-		branches.forEach(b -> mergedAggregateLeftovers.putAll(b.aggregatorToNonPushdown()));
-
 		return QueryWithLeftover.builder()
 				.queries(partitionQuery(resultQuery))
 				.nonPushdown(sharedNonPushdown)
@@ -610,12 +616,30 @@ public class JooqTableQueryFactory implements IJooqTableQueryFactory {
 		return DSL.field("NULL");
 	}
 
+	/**
+	 * `ORDER BY ... LIMIT ...` is evaluated by the database, before the leftover filters are applied post-fetch: with
+	 * some leftover, the limit could keep rows rejected by the leftover and drop rows accepted by it.
+	 * 
+	 * @param topClause
+	 * @param nonPushdowns
+	 *            the filters evaluated post-fetch
+	 * @return true if the top clause can be evaluated by the database.
+	 */
+	protected boolean isTopClauseApplicable(AdhocTopClause topClause, Collection<ISliceFilter> nonPushdowns) {
+		if (nonPushdowns.stream().allMatch(ISliceFilter::isMatchAll)) {
+			return true;
+		}
+
+		log.warn("topClause={} is not applied as some filters are not pushed down: {}", topClause, nonPushdowns);
+		return false;
+	}
+
 	/**
 	 * Extract ORDER BY fields from a {@link AdhocTopClause}. Mirror of {@link #getOptionalOrders(TableQueryV3)} for
 	 * call sites (the UNION ALL path) that have the top clause directly rather than via a V3.
 	 */
 	protected List<? extends OrderField<?>> getOptionalOrders(AdhocTopClause topClause) {
-		return topClause.getColumns().stream().map(c -> {
+		Stream<SortField<Object>> orders = topClause.getColumns().stream().map(c -> {
 			Field<Object> field = columnAsField(c);
 			SortField<Object> desc;
 			if (topClause.isDesc()) {
@@ -623,8 +647,19 @@ public class JooqTableQueryFactory implements IJooqTableQueryFactory {
 			} else {
 				desc = field.asc();
 			}
+			if (topClause.isNullsLast()) {
+				desc = desc.nullsLast();
+			}
 			return desc;
-		}).toList();
+		});
+		Stream<SortField<Object>> tieBreakers = topClause.getTieBreakers().stream().map(c -> {
+			SortField<Object> asc = columnAsField(c).asc();
+			if (topClause.isNullsLast()) {
+				asc = asc.nullsLast();
+			}
+			return asc;
+		});
+		return Stream.concat(orders, tieBreakers).toList();
 	}
 
 	/**
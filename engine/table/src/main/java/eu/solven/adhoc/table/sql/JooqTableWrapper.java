@@ -32,6 +32,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -76,11 +77,16 @@ import eu.solven.adhoc.query.table.TableQuery;
 import eu.solven.adhoc.query.table.TableQueryV3;
 import eu.solven.adhoc.query.table.TableQueryV4;
 import eu.solven.adhoc.stream.IConsumingStream;
+import eu.solven.adhoc.table.ColumnMetadataHelpers;
 import eu.solven.adhoc.table.IQueryPod;
 import eu.solven.adhoc.table.ITableWrapper;
 import eu.solven.adhoc.table.sql.JooqTableWrapperParameters.JooqTableWrapperParametersBuilder;
 import eu.solven.adhoc.table.sql.duckdb.AdhocDuckDBUnsafe;
 import eu.solven.adhoc.table.sql.duckdb.DuckDBHelper;
+import eu.solven.adhoc.table.statistics.ColumnStatisticsCache;
+import eu.solven.adhoc.table.statistics.ColumnStatisticsCollector;
+import eu.solven.adhoc.table.statistics.ColumnStatisticsHelpers;
+import eu.solven.adhoc.table.statistics.TableColumnStatistics;
 import eu.solven.adhoc.util.IHasCache;
 import eu.solven.adhoc.util.map.AdhocMapPathGet;
 import lombok.AllArgsConstructor;
@@ -120,6 +126,9 @@ public class JooqTableWrapper implements ITableWrapper, IHasCache, IHasHealthDet
 	// until first call, by which point `tableParameters` is set.
 	final Supplier<JooqTableColumnsWrapper> columns = Suppliers.memoize(this::makeColumnsWrapper);
 
+	// Lazy / memoised, for the same reason as `columns`
+	final Supplier<ColumnStatisticsCache> columnStatistics = Suppliers.memoize(this::makeColumnStatisticsCache);
+
 	protected JooqTableColumnsWrapper makeColumnsWrapper() {
 		// Read parameters / name through their Lombok-generated getters so javac's definite-assignment analyzer
 		// does NOT flag the lambda-captured read of `tableParameters` / `name` (the lambda runs after the
@@ -127,6 +136,12 @@ public class JooqTableWrapper implements ITableWrapper, IHasCache, IHasHealthDet
 		return new JooqTableColumnsWrapper(getTableParameters(), this::getFieldType, getName());
 	}
 
+	protected ColumnStatisticsCache makeColumnStatisticsCache() {
+		return new ColumnStatisticsCache(getName(),
+				this::computeColumnStatistics,
+				getTableParameters().getColumnStatisticsRefreshAfterWrite());
+	}
+
 	@Override
 	public String getName() {
 		return name;
@@ -139,6 +154,7 @@ public class JooqTableWrapper implements ITableWrapper, IHasCache, IHasHealthDet
 	@Override
 	public void invalidateAll() {
 		columns.get().invalidateAll();
+		columnStatistics.get().invalidateAll();
 	}
 
 	@Override
@@ -333,12 +349,19 @@ public class JooqTableWrapper implements ITableWrapper, IHasCache, IHasHealthDet
 			boolean distinctSlices) {
 		IConsumingStream<ITabularRecord> tableStream = toMapStream(queryPod, mergedGroupBy, resultQuery);
 
+		return new SuppliedTabularRecordConsumingStream(source, distinctSlices, withQuerySemaphore(tableStream));
+	}
+
+	/**
+	 * Limit concurrent queries: acquire lazily when the stream is first opened.
+	 * 
+	 * The permit is released as soon as the first element arrives: at that point the DB has completed query execution
+	 * and is streaming results, so a new query can start. If the stream is closed before producing any element (empty
+	 * result or early cancel), the permit is released on close instead.
+	 */
+	protected <T> Supplier<IConsumingStream<T>> withQuerySemaphore(IConsumingStream<T> tableStream) {
 		Semaphore semaphore = querySemaphore();
-		// Limit concurrent queries: acquire lazily when the stream is first opened.
-		// The permit is released as soon as the first row arrives: at that point the DB has completed query
-		// execution and is streaming results, so a new query can start. If the stream is closed before
-		// producing any row (empty result or early cancel), the permit is released on close instead.
-		return new SuppliedTabularRecordConsumingStream(source, distinctSlices, () -> {
+		return () -> {
 			try {
 				Duration timeout = AdhocDuckDBUnsafe.getSemaphoreTimeout();
 				boolean acquired = semaphore.tryAcquire(timeout.getSeconds(), TimeUnit.SECONDS);
@@ -356,7 +379,7 @@ public class JooqTableWrapper implements ITableWrapper, IHasCache, IHasHealthDet
 				}
 			};
 			return tableStream.peek(_ -> releaseSemaphore.run()).onClose(releaseSemaphore);
-		});
+		};
 	}
 
 	protected String toSQL(ResultQuery<Record> resultQuery) {
@@ -528,22 +551,62 @@ public class JooqTableWrapper implements ITableWrapper, IHasCache, IHasHealthDet
 
 	@Override
 	public CoordinatesSample getCoordinates(String column, IValueMatcher valueMatcher, int limit) {
-		if (SQLDialect.DUCKDB == tableParameters.getDslSupplier().getDSLContext().dialect()) {
-			// `DuckDBHelper.getCoordinates` returns null only when its `Map.get(column)` misses, but here we just
-			// queried for the same column, so a sample is guaranteed to be present.
-			return Objects.requireNonNull(DuckDBHelper.getCoordinates(this, column, valueMatcher, limit));
-		} else {
-			return ITableWrapper.super.getCoordinates(column, valueMatcher, limit);
-		}
+		// `getCoordinates(Map, int)` returns a sample for each requested column
+		return Objects.requireNonNull(getCoordinates(Map.of(column, valueMatcher), limit).get(column));
 	}
 
 	@Override
 	public Map<String, CoordinatesSample> getCoordinates(Map<String, IValueMatcher> columnToValueMatcher, int limit) {
-		// TODO How should `null` be reported?
-		if (SQLDialect.DUCKDB == tableParameters.getDslSupplier().getDSLContext().dialect()) {
-			return DuckDBHelper.getCoordinates(this, columnToValueMatcher, limit);
+		Map<String, CoordinatesSample> columnToCoordinates = new TreeMap<>();
+
+		// Column pickers typically request the most frequent coordinates: they may be served by the statistics
+		Map<String, IValueMatcher> notFromStatistics = new LinkedHashMap<>();
+		columnToValueMatcher.forEach((column, valueMatcher) -> {
+			Optional<CoordinatesSample> fromStatistics = getCachedColumnStatistics(column).flatMap(
+					statistics -> ColumnStatisticsHelpers.toCoordinatesSample(statistics, valueMatcher, limit));
+			if (fromStatistics.isPresent()) {
+				columnToCoordinates.put(column, fromStatistics.get());
+			} else {
+				notFromStatistics.put(column, valueMatcher);
+			}
+		});
+
+		if (!notFromStatistics.isEmpty()) {
+			// TODO How should `null` be reported?
+			if (isDuckDB()) {
+				columnToCoordinates.putAll(DuckDBHelper.getCoordinates(this, notFromStatistics, limit));
+			} else {
+				notFromStatistics.forEach((column, valueMatcher) -> columnToCoordinates.put(column,
+						ColumnMetadataHelpers.getCoordinatesMostGeneric(this, column, valueMatcher, limit)));
+			}
+		}
+
+		return columnToCoordinates;
+	}
+
+	protected boolean isDuckDB() {
+		return SQLDialect.DUCKDB == tableParameters.getDslSupplier().getDSLContext().dialect();
+	}
+
+	/**
+	 * The statistics are cached, and refreshed asynchronously after
+	 * {@link JooqTableWrapperParameters#getColumnStatisticsRefreshAfterWrite()}.
+	 */
+	@Override
+	public Map<String, TableColumnStatistics> getColumnStatistics(Set<String> columns) {
+		return columnStatistics.get().getAll(columns);
+	}
+
+	@Override
+	public Optional<TableColumnStatistics> getCachedColumnStatistics(String column) {
+		return columnStatistics.get().getIfPresent(column);
+	}
+
+	protected Map<String, TableColumnStatistics> computeColumnStatistics(Set<String> columns) {
+		if (isDuckDB()) {
+			return DuckDBHelper.getColumnStatistics(this, columns, ColumnStatisticsCollector.DEFAULT_TOP_K);
 		} else {
-			return ITableWrapper.super.getCoordinates(columnToValueMatcher, limit);
+			return ColumnStatisticsHelpers.getColumnStatisticsMostGeneric(this, columns);
 		}
 	}
 
@@ -45,7 +45,7 @@ import lombok.Value;
  * @author Benoit Lacelle
  */
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class JooqTableWrapperParameters {
 	// Default JDBC fetchSize is typically 10
 	private static final int DEFAULT_FETCH_SIZE = 16 * 1024;
@@ -111,6 +111,15 @@ public class JooqTableWrapperParameters {
 	@NonNull
 	Duration fieldsCacheRefreshAfterWrite = Duration.ofMinutes(1);
 
+	/**
+	 * Age after which {@link JooqTableWrapper}'s column statistics are re-computed asynchronously, while the stale
+	 * statistics are still served. Default: 10 minutes, as statistics only need to be roughly accurate, and each
+	 * computation scans the column.
+	 */
+	@Default
+	@NonNull
+	Duration columnStatisticsRefreshAfterWrite = Duration.ofMinutes(10);
+
 	/**
 	 * Lombok @Builder
 	 *
@@ -29,8 +29,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 
+import java.util.stream.Stream;
 import javax.sql.DataSource;
 
 import org.duckdb.DuckDBConnection;
@@ -58,6 +60,7 @@ import eu.solven.adhoc.table.sql.IDSLSupplier;
 import eu.solven.adhoc.table.sql.JooqTableWrapper;
 import eu.solven.adhoc.table.sql.JooqTableWrapperParameters;
 import eu.solven.adhoc.table.sql.StandardDSLSupplier;
+import eu.solven.adhoc.table.statistics.TableColumnStatistics;
 import eu.solven.adhoc.util.NotYetImplementedException;
 import eu.solven.pepper.core.PepperLogHelper;
 import lombok.experimental.UtilityClass;
@@ -184,29 +187,8 @@ public class DuckDBHelper {
 				long estimatedCardinality = (long) Objects.requireNonNull(
 						IValueProvider.getValue(tabularRecord.onAggregate("approx_count_distinct" + measuresSuffix)));
 
-				// TODO Is it important to call `Array.free()`?
-				java.sql.Array array = (java.sql.Array) IValueProvider
-						.getValue(tabularRecord.onAggregate("approx_top_k" + measuresSuffix));
-
-				List<Object> coordinates;
-				if (array == null) {
-					// BEWARE When does this happen?
-					coordinates = ImmutableList.of();
-				} else {
-					try {
-						Object[] nativeArray = (Object[]) array.getArray();
-
-						if (nativeArray.length >= 1 && nativeArray[0] instanceof java.sql.Blob) {
-							// BEWARE We should have skip the search altogether
-							// Returning a Blob, or a `byte[]` has unclear usage/support
-							coordinates = ImmutableList.of();
-						} else {
-							coordinates = ImmutableList.copyOf(nativeArray);
-						}
-					} catch (SQLException e) {
-						throw new IllegalArgumentException(e);
-					}
-				}
+				List<Object> coordinates =
+						toCoordinates(IValueProvider.getValue(tabularRecord.onAggregate("approx_top_k" + measuresSuffix)));
 
 				columnToCoordinates.put(columns.get(columnIndex),
 						CoordinatesSample.builder()
@@ -220,6 +202,131 @@ public class DuckDBHelper {
 
 	}
 
+	/**
+	 * 
+	 * @param topK
+	 *            an `approx_top_k` aggregate
+	 * @return the coordinates of given aggregate
+	 */
+	static List<Object> toCoordinates(@Nullable Object topK) {
+		// TODO Is it important to call `Array.free()`?
+		java.sql.Array array = (java.sql.Array) topK;
+
+		if (array == null) {
+			// BEWARE When does this happen?
+			return ImmutableList.of();
+		}
+
+		try {
+			Object[] nativeArray = (Object[]) array.getArray();
+
+			if (nativeArray.length >= 1 && nativeArray[0] instanceof java.sql.Blob) {
+				// BEWARE We should have skip the search altogether
+				// Returning a Blob, or a `byte[]` has unclear usage/support
+				return ImmutableList.of();
+			} else {
+				// `approx_top_k` may report `NULL` as a frequent value
+				return Stream.of(nativeArray).filter(Objects::nonNull).collect(ImmutableList.toImmutableList());
+			}
+		} catch (SQLException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	/**
+	 * Compute in a single query the statistics of given columns, relying on DuckDB approximate aggregations.
+	 *
+	 * @param table
+	 * @param columns
+	 * @param topK
+	 *            the number of most frequent values to collect per column
+	 * @return the statistics of each column
+	 */
+	// https://duckdb.org/docs/stable/sql/functions/aggregates.html#approximate-aggregates
+	public static Map<String, TableColumnStatistics> getColumnStatistics(JooqTableWrapper table,
+			Set<String> columns,
+			int topK) {
+		if (columns.isEmpty()) {
+			return Map.of();
+		}
+
+		List<String> indexToColumn = new ArrayList<>(columns);
+
+		TableQueryBuilder queryBuilder = TableQuery.builder();
+		queryBuilder.aggregator(expression("count_rows", "count(*)"));
+		for (int columnIndex = 0; columnIndex < indexToColumn.size(); columnIndex++) {
+			String measuresSuffix = "_" + columnIndex;
+			Name columnName =
+					AdhocJooqHelper.name(indexToColumn.get(columnIndex), () -> DSL.using(SQLDialect.DUCKDB).parser());
+
+			queryBuilder.aggregator(expression("count_not_null" + measuresSuffix, "count(%s)".formatted(columnName)))
+					.aggregator(expression("approx_count_distinct" + measuresSuffix,
+							"approx_count_distinct(%s)".formatted(columnName)))
+					.aggregator(expression("min" + measuresSuffix, "min(%s)".formatted(columnName)))
+					.aggregator(expression("max" + measuresSuffix, "max(%s)".formatted(columnName)))
+					.aggregator(expression("approx_top_k" + measuresSuffix,
+							"approx_top_k(%s, %s)".formatted(columnName, topK)));
+		}
+
+		Optional<ITabularRecord> optRecord = table.streamSlices(queryBuilder.build()).records().findAny();
+
+		Map<String, TableColumnStatistics> columnToStatistics = new TreeMap<>();
+		if (optRecord.isEmpty()) {
+			indexToColumn.forEach(column -> columnToStatistics.put(column, TableColumnStatistics.unknown(column)));
+			return columnToStatistics;
+		}
+
+		ITabularRecord tabularRecord = optRecord.get();
+		long rowCount = getLong(tabularRecord, "count_rows");
+		for (int columnIndex = 0; columnIndex < indexToColumn.size(); columnIndex++) {
+			String column = indexToColumn.get(columnIndex);
+			String measuresSuffix = "_" + columnIndex;
+
+			List<Object> topValues = toCoordinates(getAggregate(tabularRecord, "approx_top_k" + measuresSuffix));
+
+			columnToStatistics.put(column,
+					TableColumnStatistics.builder()
+							.column(column)
+							.rowCount(rowCount)
+							.nullCount(rowCount - getLong(tabularRecord, "count_not_null" + measuresSuffix))
+							.estimatedCardinality(getLong(tabularRecord, "approx_count_distinct" + measuresSuffix))
+							.min(toComparable(getAggregate(tabularRecord, "min" + measuresSuffix)))
+							.max(toComparable(getAggregate(tabularRecord, "max" + measuresSuffix)))
+							.topValues(topValues)
+							// Fewer values than requested: these are all the values
+							.exhaustive(topValues.size() < topK)
+							.build());
+		}
+
+		return columnToStatistics;
+	}
+
+	static Aggregator expression(String name, String expression) {
+		return Aggregator.builder().aggregationKey(ExpressionAggregation.KEY).name(name).columnName(expression).build();
+	}
+
+	static @Nullable Object getAggregate(ITabularRecord tabularRecord, String aggregate) {
+		return IValueProvider.getValue(tabularRecord.onAggregate(aggregate));
+	}
+
+	static long getLong(ITabularRecord tabularRecord, String aggregate) {
+		Object value = getAggregate(tabularRecord, aggregate);
+		if (value instanceof Number number) {
+			return number.longValue();
+		} else {
+			return TableColumnStatistics.NO_ESTIMATION;
+		}
+	}
+
+	// e.g. a `BLOB` column has no meaningful min/max
+	static @Nullable Object toComparable(@Nullable Object value) {
+		if (value instanceof Comparable<?>) {
+			return value;
+		} else {
+			return null;
+		}
+	}
+
 	static void appendGetCoordinatesMeasures(int limit,
 			String column,
 			IValueMatcher valueMatcher,
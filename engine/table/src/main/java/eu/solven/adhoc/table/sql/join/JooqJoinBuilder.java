@@ -23,6 +23,7 @@
 package eu.solven.adhoc.table.sql.join;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -145,6 +146,18 @@ public class JooqJoinBuilder {
 		return on(column, column);
 	}
 
+	/**
+	 * Shortcut for {@link #onSame(String)} over a composite natural key.
+	 *
+	 * @param columns
+	 *            the columns shared on both sides, in the order of the ON clause.
+	 * @return this
+	 */
+	public JooqJoinBuilder onSame(Collection<String> columns) {
+		columns.forEach(this::onSame);
+		return this;
+	}
+
 	/**
 	 * Register a per-join column alias scoped to this JOIN's table — equivalent to calling
 	 * {@link JooqTableSupplierBuilder#withAlias(String, String)} immediately after the JOIN, but kept inside the join
@@ -0,0 +1,162 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.collect.ImmutableMap;
+
+import eu.solven.adhoc.map.ICoordinateNormalizer;
+import eu.solven.adhoc.map.StandardCoordinateNormalizer;
+import eu.solven.adhoc.util.AdhocUnsafe;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains incrementally the {@link TableColumnStatistics} of rows which are only appended: each call processes only
+ * the rows appended since the previous call.
+ * 
+ * {@link #getSnapshot(List, String)} never processes rows: it serves the statistics as of the latest computation, and
+ * catches up asynchronously with the rows appended since then.
+ * 
+ * @author Benoit Lacelle
+ */
+@Slf4j
+public class AppendOnlyColumnStatistics {
+	// Values are normalized like coordinates (e.g. `int` to `long`), so statistics can serve `getCoordinates`
+	protected final ICoordinateNormalizer coordinateNormalizer = new StandardCoordinateNormalizer();
+
+	// guarded by `this`
+	protected final Map<String, ColumnStatisticsCollector> columnToCollector = new LinkedHashMap<>();
+	// guarded by `this`. The number of rows already processed.
+	protected int watermark;
+
+	protected final Executor executor;
+
+	// The statistics of all known columns, as of `snapshotWatermark`
+	protected volatile Map<String, TableColumnStatistics> snapshot = ImmutableMap.of();
+	protected volatile int snapshotWatermark;
+	protected final AtomicBoolean refreshing = new AtomicBoolean();
+
+	public AppendOnlyColumnStatistics() {
+		this(AdhocUnsafe.getMaintenancePool());
+	}
+
+	public AppendOnlyColumnStatistics(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * 
+	 * @param rows
+	 *            all the rows, including the ones processed by previous calls.
+	 * @param columns
+	 * @return the statistics of given columns. A column which is missing from all rows is reported as always null.
+	 */
+	public synchronized Map<String, TableColumnStatistics> getStatistics(List<? extends Map<String, ?>> rows,
+			Set<String> columns) {
+		catchUp(rows);
+
+		Map<String, TableColumnStatistics> columnToStatistics = new TreeMap<>();
+		columns.forEach(column -> {
+			ColumnStatisticsCollector collector = columnToCollector.get(column);
+			if (collector == null) {
+				collector = new ColumnStatisticsCollector();
+				collector.update(null, watermark);
+			}
+			columnToStatistics.put(column, collector.toStatistics(column));
+		});
+		return columnToStatistics;
+	}
+
+	/**
+	 * This is cheap enough to be called while planning a query: it never waits for rows to be processed. If rows were
+	 * appended since the latest computation, the statistics are refreshed asynchronously.
+	 * 
+	 * @param rows
+	 *            all the rows, including the ones processed by previous calls.
+	 * @param column
+	 * @return the statistics of given column as of the latest computation, if the column was known at that time.
+	 */
+	public Optional<TableColumnStatistics> getSnapshot(List<? extends Map<String, ?>> rows, String column) {
+		if (snapshotWatermark < rows.size() && refreshing.compareAndSet(false, true)) {
+			try {
+				executor.execute(() -> {
+					try {
+						refreshSnapshot(rows);
+					} finally {
+						refreshing.set(false);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				// The next call will retry
+				refreshing.set(false);
+				log.warn("Issue scheduling the refresh of statistics", e);
+			}
+		}
+
+		return Optional.ofNullable(snapshot.get(column));
+	}
+
+	protected synchronized void refreshSnapshot(List<? extends Map<String, ?>> rows) {
+		catchUp(rows);
+
+		ImmutableMap.Builder<String, TableColumnStatistics> builder = ImmutableMap.builder();
+		columnToCollector.forEach((column, collector) -> builder.put(column, collector.toStatistics(column)));
+		snapshot = builder.build();
+		snapshotWatermark = watermark;
+	}
+
+	protected void catchUp(List<? extends Map<String, ?>> rows) {
+		int size = rows.size();
+		for (int rowIndex = watermark; rowIndex < size; rowIndex++) {
+			Map<String, ?> row = rows.get(rowIndex);
+
+			int previousRows = rowIndex;
+			row.keySet().forEach(column -> columnToCollector.computeIfAbsent(column, _ -> {
+				ColumnStatisticsCollector collector = new ColumnStatisticsCollector();
+				// The previous rows did not hold this column
+				collector.update(null, previousRows);
+				return collector;
+			}));
+
+			// A column missing from the row is considered null
+			columnToCollector.forEach((column, collector) -> {
+				Object value = row.get(column);
+				if (value == null) {
+					collector.update(null);
+				} else {
+					collector.update(coordinateNormalizer.normalizeCoordinate(value));
+				}
+			});
+		}
+		watermark = size;
+	}
+}
@@ -0,0 +1,154 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.adhoc.util.AdhocUnsafe;
+import eu.solven.adhoc.util.IHasCache;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches the {@link TableColumnStatistics} of a table. Entries are refreshed ahead: once older than
+ * `refreshAfterWrite`, the stale statistics are still served while they are re-computed asynchronously.
+ * 
+ * Statistics which can not be computed (e.g. an unknown column) are cached as {@link TableColumnStatistics#unknown}.
+ * 
+ * @author Benoit Lacelle
+ */
+@Slf4j
+public class ColumnStatisticsCache implements IHasCache {
+	protected final String tableName;
+	protected final Function<Set<String>, Map<String, TableColumnStatistics>> loader;
+
+	protected final LoadingCache<String, TableColumnStatistics> cache;
+
+	public ColumnStatisticsCache(String tableName,
+			Function<Set<String>, Map<String, TableColumnStatistics>> loader,
+			Duration refreshAfterWrite) {
+		this(tableName, loader, refreshAfterWrite, AdhocUnsafe.getMaintenancePool());
+	}
+
+	public ColumnStatisticsCache(String tableName,
+			Function<Set<String>, Map<String, TableColumnStatistics>> loader,
+			Duration refreshAfterWrite,
+			Executor executor) {
+		this.tableName = tableName;
+		this.loader = loader;
+
+		CacheLoader<String, TableColumnStatistics> cacheLoader = new CacheLoader<>() {
+			@Override
+			public TableColumnStatistics load(String column) {
+				return safeLoad(ImmutableSet.of(column)).get(column);
+			}
+
+			@Override
+			public Map<String, TableColumnStatistics> loadAll(Iterable<? extends String> columns) {
+				return safeLoad(ImmutableSet.copyOf(columns));
+			}
+		};
+
+		this.cache = CacheBuilder.newBuilder()
+				// https://github.com/google/guava/wiki/cachesexplained#refresh
+				.refreshAfterWrite(refreshAfterWrite)
+				.build(CacheLoader.asyncReloading(cacheLoader, executor));
+	}
+
+	protected Map<String, TableColumnStatistics> safeLoad(Set<String> columns) {
+		Map<String, TableColumnStatistics> columnToStatistics;
+		try {
+			columnToStatistics = loader.apply(columns);
+		} catch (RuntimeException e) {
+			if (columns.size() >= 2) {
+				// A single faulty column (e.g. an unknown column) should not prevent the statistics of other columns
+				log.debug("Issue computing statistics for table={} columns={}. Retrying column by column",
+						tableName,
+						columns,
+						e);
+				ImmutableMap.Builder<String, TableColumnStatistics> builder = ImmutableMap.builder();
+				columns.forEach(column -> builder.putAll(safeLoad(ImmutableSet.of(column))));
+				return builder.build();
+			}
+			log.warn("Issue computing statistics for table={} columns={}", tableName, columns, e);
+			columnToStatistics = Map.of();
+		}
+
+		ImmutableMap.Builder<String, TableColumnStatistics> builder = ImmutableMap.builder();
+		for (String column : columns) {
+			TableColumnStatistics statistics = columnToStatistics.get(column);
+			if (statistics == null) {
+				statistics = TableColumnStatistics.unknown(column);
+			}
+			builder.put(column, statistics);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Computes the statistics which are not cached yet, in a single call to the loader.
+	 * 
+	 * @param columns
+	 * @return the statistics of given columns.
+	 */
+	public Map<String, TableColumnStatistics> getAll(Set<String> columns) {
+		try {
+			return cache.getAll(columns);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Issue computing statistics for table=%s".formatted(tableName), e);
+		}
+	}
+
+	/**
+	 * This never waits for statistics to be computed: it is cheap enough to be called while planning a query. It does
+	 * not compute missing statistics (which would issue unexpected queries to the table), but it triggers the
+	 * asynchronous refresh of stale statistics.
+	 * 
+	 * @param column
+	 * @return the statistics of given column, if they are already cached.
+	 */
+	public Optional<TableColumnStatistics> getIfPresent(String column) {
+		if (cache.getIfPresent(column) == null) {
+			return Optional.empty();
+		}
+
+		// `getUnchecked` (and not `getIfPresent`) as it triggers the refresh of stale statistics
+		return Optional.of(cache.getUnchecked(column));
+	}
+
+	@Override
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Collects incrementally the {@link TableColumnStatistics} of a column, given its values (or its distinct values with
+ * their number of occurrences).
+ * 
+ * This is not thread-safe.
+ * 
+ * @author Benoit Lacelle
+ */
+public class ColumnStatisticsCollector {
+	/**
+	 * The default number of most frequent values to track. It matches the default number of coordinates requested by
+	 * column pickers.
+	 */
+	public static final int DEFAULT_TOP_K = 100;
+
+	protected final int topK;
+	protected final HyperLogLogSketch cardinality = new HyperLogLogSketch();
+	protected final FrequentValuesSketch frequentValues;
+
+	protected long rowCount;
+	protected long nullCount;
+
+	protected @Nullable Comparable<Object> min;
+	protected @Nullable Comparable<Object> max;
+	// false once we received values which can not be compared together
+	protected boolean comparable = true;
+
+	public ColumnStatisticsCollector() {
+		this(DEFAULT_TOP_K);
+	}
+
+	public ColumnStatisticsCollector(int topK) {
+		this.topK = topK;
+		this.frequentValues = new FrequentValuesSketch(topK);
+	}
+
+	public void update(@Nullable Object value) {
+		update(value, 1);
+	}
+
+	/**
+	 * 
+	 * @param value
+	 * @param weight
+	 *            the number of rows having given value
+	 */
+	public void update(@Nullable Object value, long weight) {
+		if (weight <= 0) {
+			return;
+		}
+
+		rowCount += weight;
+		if (value == null) {
+			nullCount += weight;
+			return;
+		}
+
+		cardinality.update(value);
+		frequentValues.update(value, weight);
+		updateMinMax(value);
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void updateMinMax(Object value) {
+		if (!comparable) {
+			return;
+		} else if (!(value instanceof Comparable<?>) || min != null && min.getClass() != value.getClass()) {
+			// e.g. a column mixing `String` and `Long`
+			comparable = false;
+			min = null;
+			max = null;
+			return;
+		}
+
+		Comparable<Object> asComparable = (Comparable<Object>) value;
+		if (min == null || asComparable.compareTo(min) < 0) {
+			min = asComparable;
+		}
+		if (max == null || asComparable.compareTo(max) > 0) {
+			max = asComparable;
+		}
+	}
+
+	public TableColumnStatistics toStatistics(String column) {
+		long estimatedCardinality;
+		boolean exhaustive = frequentValues.isExhaustive();
+		if (exhaustive) {
+			// All distinct values are tracked: the cardinality is exact
+			estimatedCardinality = frequentValues.valueToCount.size();
+		} else {
+			estimatedCardinality = cardinality.estimate();
+		}
+
+		return TableColumnStatistics.builder()
+				.column(column)
+				.rowCount(rowCount)
+				.nullCount(nullCount)
+				.estimatedCardinality(estimatedCardinality)
+				.min(min)
+				.max(max)
+				.topValues(frequentValues.topValues(topK))
+				.exhaustive(exhaustive)
+				.build();
+	}
+}
@@ -0,0 +1,176 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.common.math.LongMath;
+
+import eu.solven.adhoc.beta.schema.CoordinatesSample;
+import eu.solven.adhoc.filter.value.IValueMatcher;
+import eu.solven.adhoc.model.measure.Aggregator;
+import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.primitive.IValueProvider;
+import eu.solven.adhoc.query.table.TableQuery;
+import eu.solven.adhoc.table.ITableWrapper;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Helpers related to {@link TableColumnStatistics}.
+ * 
+ * @author Benoit Lacelle
+ */
+@UtilityClass
+public class ColumnStatisticsHelpers {
+
+	/**
+	 * Compute the statistics of each column with a `GROUP BY column` with `COUNT(*)`. It is valid for any
+	 * {@link ITableWrapper}, but it streams as many records as the column cardinality.
+	 * 
+	 * @param table
+	 * @param columns
+	 * @return the statistics for each column
+	 */
+	public static Map<String, TableColumnStatistics> getColumnStatisticsMostGeneric(ITableWrapper table,
+			Set<String> columns) {
+		Aggregator countAsterisk = Aggregator.countAsterisk();
+
+		Map<String, TableColumnStatistics> columnToStatistics = new TreeMap<>();
+		columns.forEach(column -> {
+			TableQuery tableQuery =
+					TableQuery.builder().groupBy(GroupByColumns.named(column)).aggregator(countAsterisk).build();
+
+			ColumnStatisticsCollector collector = new ColumnStatisticsCollector();
+			table.streamSlices(tableQuery).records().forEach(r -> {
+				Object count = IValueProvider.getValue(r.onAggregate(countAsterisk.getName()));
+
+				long weight;
+				if (count instanceof Number countAsNumber) {
+					weight = countAsNumber.longValue();
+				} else {
+					// Not all tables provide the COUNT(*) (e.g. tables returning rows)
+					weight = 1;
+				}
+				collector.update(r.getGroupBy(column), weight);
+			});
+
+			columnToStatistics.put(column, collector.toStatistics(column));
+		});
+		return columnToStatistics;
+	}
+
+	/**
+	 * 
+	 * @param statistics
+	 * @param valueMatcher
+	 * @param limit
+	 *            the maximum number of coordinates. `-1` means no limit.
+	 * @return a {@link CoordinatesSample} if it can be served by the statistics, i.e. if all values are requested and
+	 *         the statistics know enough values.
+	 */
+	public static Optional<CoordinatesSample> toCoordinatesSample(TableColumnStatistics statistics,
+			IValueMatcher valueMatcher,
+			int limit) {
+		if (!IValueMatcher.MATCH_ALL.equals(valueMatcher) || statistics.getEstimatedCardinality() < 0) {
+			return Optional.empty();
+		}
+
+		List<Object> topValues = statistics.getTopValues();
+
+		List<Object> coordinates;
+		if (limit >= 0 && limit <= topValues.size()) {
+			coordinates = topValues.subList(0, limit);
+		} else if (statistics.isExhaustive()) {
+			coordinates = topValues;
+		} else {
+			// Some requested coordinates are not in the statistics
+			return Optional.empty();
+		}
+
+		return Optional.of(CoordinatesSample.builder()
+				.coordinates(coordinates)
+				.estimatedCardinality(statistics.getEstimatedCardinality())
+				.build());
+	}
+
+	/**
+	 * Estimate the number of slices of a `GROUP BY` given the cardinality of its columns, capped by the number of rows.
+	 * It relies only on {@link ITableWrapper#getCachedColumnStatistics(String)}, hence it is cheap enough to be called
+	 * while planning a query.
+	 * 
+	 * @param table
+	 * @param columns
+	 *            the groupBy columns
+	 * @return the estimated number of slices, or empty if some statistics are not available.
+	 */
+	public static OptionalLong estimateSlices(ITableWrapper table, Collection<String> columns) {
+		if (columns.isEmpty()) {
+			// grandTotal
+			return OptionalLong.of(1);
+		}
+
+		long slices = 1;
+		long rows = TableColumnStatistics.NO_ESTIMATION;
+		for (String column : columns) {
+			Optional<TableColumnStatistics> optStatistics = table.getCachedColumnStatistics(column);
+			if (optStatistics.isEmpty() || optStatistics.get().getEstimatedCardinality() < 0) {
+				return OptionalLong.empty();
+			}
+			TableColumnStatistics statistics = optStatistics.get();
+
+			long cardinality = statistics.getEstimatedCardinality();
+			if (statistics.getNullCount() > 0) {
+				// `null` is a coordinate of its own
+				cardinality++;
+			}
+			slices = LongMath.saturatedMultiply(slices, Math.max(1, cardinality));
+			rows = Math.max(rows, statistics.getRowCount());
+		}
+
+		if (rows >= 0) {
+			slices = Math.min(slices, rows);
+		}
+		return OptionalLong.of(slices);
+	}
+
+	/**
+	 * 
+	 * @param table
+	 * @param columns
+	 * @return the estimated number of rows in the table, or empty if no statistics is available.
+	 */
+	public static OptionalLong estimateRows(ITableWrapper table, Collection<String> columns) {
+		return columns.stream()
+				.map(table::getCachedColumnStatistics)
+				.flatMap(Optional::stream)
+				.mapToLong(TableColumnStatistics::getRowCount)
+				.filter(rowCount -> rowCount >= 0)
+				.max();
+	}
+}
@@ -0,0 +1,134 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.google.common.base.MoreObjects;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+
+/**
+ * A Misra-Gries sketch, tracking the most frequent values of a stream with a bounded number of counters. Each value
+ * with a frequency above `totalWeight / (capacity + 1)` is guaranteed to be tracked. Counters may under-estimate the
+ * actual frequencies.
+ * 
+ * @author Benoit Lacelle
+ * @see <a href="https://en.wikipedia.org/wiki/Misra%E2%80%93Gries_summary">Misra-Gries summary</a>
+ */
+public class FrequentValuesSketch {
+	protected final int capacity;
+	protected final Object2LongMap<Object> valueToCount;
+
+	// true once a value has been discarded, i.e. once the tracked values may not be all the distinct values
+	protected boolean truncated;
+
+	public FrequentValuesSketch(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be positive. Was %s".formatted(capacity));
+		}
+		this.capacity = capacity;
+		this.valueToCount = new Object2LongOpenHashMap<>(capacity);
+	}
+
+	/**
+	 * 
+	 * @param value
+	 * @param weight
+	 *            the number of occurrences of given value (e.g. the `COUNT(*)` of a `GROUP BY` row)
+	 */
+	public void update(Object value, long weight) {
+		if (weight <= 0) {
+			return;
+		}
+
+		long count = valueToCount.getLong(value);
+		if (count > 0) {
+			valueToCount.put(value, count + weight);
+			return;
+		}
+
+		long remainingWeight = weight;
+		if (valueToCount.size() >= capacity) {
+			// Decrement all counters (including the new value) by the smallest count, dropping the exhausted counters
+			long decrement = Math.min(remainingWeight, minCount());
+			Object2LongMap<Object> decremented = new Object2LongOpenHashMap<>(capacity);
+			for (Object2LongMap.Entry<Object> e : valueToCount.object2LongEntrySet()) {
+				long newCount = e.getLongValue() - decrement;
+				if (newCount > 0) {
+					decremented.put(e.getKey(), newCount);
+				}
+			}
+			valueToCount.clear();
+			valueToCount.putAll(decremented);
+			remainingWeight -= decrement;
+			truncated = true;
+		}
+
+		if (remainingWeight > 0) {
+			valueToCount.put(value, remainingWeight);
+		}
+	}
+
+	protected long minCount() {
+		long min = Long.MAX_VALUE;
+		for (Object2LongMap.Entry<Object> e : valueToCount.object2LongEntrySet()) {
+			min = Math.min(min, e.getLongValue());
+		}
+		return min;
+	}
+
+	/**
+	 * 
+	 * @param limit
+	 *            the maximum number of returned values
+	 * @return the tracked values, the most frequent first.
+	 */
+	public List<Object> topValues(int limit) {
+		return valueToCount.object2LongEntrySet()
+				.stream()
+				.sorted(Comparator.comparingLong(Object2LongMap.Entry<Object>::getLongValue).reversed())
+				.limit(limit)
+				.map(Object2LongMap.Entry::getKey)
+				.toList();
+	}
+
+	/**
+	 * 
+	 * @return true if the tracked values are all the distinct values received so far.
+	 */
+	public boolean isExhaustive() {
+		return !truncated;
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+				.add("capacity", capacity)
+				.add("size", valueToCount.size())
+				.add("truncated", truncated)
+				.toString();
+	}
+}
@@ -0,0 +1,144 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * A HyperLogLog sketch, estimating the number of distinct values with a fixed memory footprint (one byte per
+ * register). With {@value #DEFAULT_PRECISION} bits of precision, the standard error is around 1.6%.
+ * 
+ * Values are hashed from their {@link Object#hashCode()}, hence values with the same hashCode (e.g. `1` and `1L`) are
+ * counted once.
+ * 
+ * @author Benoit Lacelle
+ * @see <a href="https://algo.inria.fr/flajolet/Publications/FlFuGaMe07.pdf">HyperLogLog</a>
+ */
+public class HyperLogLogSketch {
+	public static final int DEFAULT_PRECISION = 12;
+
+	protected final int precision;
+	protected final byte[] registers;
+
+	public HyperLogLogSketch() {
+		this(DEFAULT_PRECISION);
+	}
+
+	@SuppressWarnings("checkstyle:MagicNumber")
+	public HyperLogLogSketch(int precision) {
+		if (precision < 4 || precision > 18) {
+			throw new IllegalArgumentException("precision must be in [4, 18]. Was %s".formatted(precision));
+		}
+		this.precision = precision;
+		this.registers = new byte[1 << precision];
+	}
+
+	/**
+	 * 
+	 * @param value
+	 *            null values are ignored.
+	 */
+	public void update(@Nullable Object value) {
+		if (value == null) {
+			return;
+		}
+		updateHash(mix(value.hashCode()));
+	}
+
+	protected void updateHash(long hash) {
+		int index = (int) (hash >>> (Long.SIZE - precision));
+		// The rank is the position of the leftmost 1-bit in the remaining bits, starting at 1
+		long remaining = hash << precision;
+		int rank = Math.min(Long.numberOfLeadingZeros(remaining), Long.SIZE - precision) + 1;
+
+		if (rank > registers[index]) {
+			registers[index] = (byte) rank;
+		}
+	}
+
+	/**
+	 * Spread a 32-bits hashCode over 64 bits (`fmix64` from MurmurHash3), as HyperLogLog requires uniform hashes.
+	 */
+	@SuppressWarnings("checkstyle:MagicNumber")
+	protected static long mix(int hashCode) {
+		long h = hashCode;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	/**
+	 * 
+	 * @param other
+	 *            a {@link HyperLogLogSketch} with the same precision. It is not modified.
+	 */
+	public void merge(HyperLogLogSketch other) {
+		if (other.precision != precision) {
+			throw new IllegalArgumentException(
+					"Can not merge precision=%s into precision=%s".formatted(other.precision, precision));
+		}
+		for (int i = 0; i < registers.length; i++) {
+			if (other.registers[i] > registers[i]) {
+				registers[i] = other.registers[i];
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * @return the estimated number of distinct values.
+	 */
+	@SuppressWarnings("checkstyle:MagicNumber")
+	public long estimate() {
+		int m = registers.length;
+
+		double sum = 0;
+		int nbZeros = 0;
+		for (byte register : registers) {
+			sum += 1D / (1L << register);
+			if (register == 0) {
+				nbZeros++;
+			}
+		}
+
+		double alpha = 0.7213 / (1 + 1.079 / m);
+		double estimate = alpha * m * m / sum;
+
+		if (estimate <= 2.5 * m && nbZeros > 0) {
+			// Small range correction: linear counting is more accurate
+			estimate = m * Math.log((double) m / nbZeros);
+		}
+
+		return Math.round(estimate);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this).add("precision", precision).add("estimate", estimate()).toString();
+	}
+}
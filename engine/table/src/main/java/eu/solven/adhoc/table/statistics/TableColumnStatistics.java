@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.google.common.collect.ImmutableList;
+
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Statistics about a table column. They are typically approximate (e.g. computed through sketches, or through
+ * approximate SQL aggregations), and may be stale (as they are cached).
+ * 
+ * @author Benoit Lacelle
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class TableColumnStatistics {
+	public static final long NO_ESTIMATION = -1;
+
+	@NonNull
+	String column;
+
+	// The number of rows in the table, including rows where the column is null
+	@Default
+	long rowCount = NO_ESTIMATION;
+
+	// The estimated number of distinct non-null values
+	@Default
+	long estimatedCardinality = NO_ESTIMATION;
+
+	// The number of rows where the column is null
+	@Default
+	long nullCount = NO_ESTIMATION;
+
+	// null if unknown, or if the values are not comparable
+	@Nullable
+	Object min;
+
+	@Nullable
+	Object max;
+
+	// The most frequent values, the most frequent first
+	@Singular
+	ImmutableList<Object> topValues;
+
+	// If true, `topValues` holds all the distinct non-null values
+	@Default
+	boolean exhaustive = false;
+
+	/**
+	 * 
+	 * @return the ratio of rows where the column is null, or {@link Double#NaN} if unknown.
+	 */
+	@JsonIgnore
+	public double getNullFraction() {
+		if (rowCount <= 0 || nullCount < 0) {
+			return Double.NaN;
+		}
+		return (double) nullCount / rowCount;
+	}
+
+	/**
+	 * 
+	 * @param column
+	 * @return a {@link TableColumnStatistics} with no information.
+	 */
+	public static TableColumnStatistics unknown(String column) {
+		return TableColumnStatistics.builder().column(column).build();
+	}
+}
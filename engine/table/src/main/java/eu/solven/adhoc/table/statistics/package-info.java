@@ -0,0 +1,12 @@
+/**
+ * Statistics about table columns (cardinality, min/max, null fraction, most frequent values), used to serve column
+ * metadata cheaply and to size the structures aggregating table results.
+ *
+ * <p>
+ * All types in this package are null-marked: parameters, return types and fields are non-null by default; explicit
+ * {@link org.jspecify.annotations.Nullable @Nullable} marks the opt-outs.
+ */
+@NullMarked
+package eu.solven.adhoc.table.statistics;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,303 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.admission;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.engine.admission.IQueryAdmission.IAdmissionTicket;
+import eu.solven.adhoc.query.AdhocQueryId;
+import eu.solven.adhoc.table.EmptyTableWrapper;
+import eu.solven.adhoc.table.IQueryPod;
+import eu.solven.adhoc.table.SimpleQueryPod;
+
+public class TestWeightedFairQueryScheduler {
+	ExecutorService executor = Executors.newCachedThreadPool();
+
+	List<String> admitted = new CopyOnWriteArrayList<>();
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private IQueryPod pod(String principal, QueryPriority priority) {
+		AdhocQueryId queryId = AdhocQueryId.builder().cube("someCube").principal(principal).priority(priority).build();
+		return SimpleQueryPod.builder().table(EmptyTableWrapper.builder().name("empty").build()).queryId(queryId).build();
+	}
+
+	// Admit then release right-away, recording the admission order
+	private Future<?> submit(WeightedFairQueryScheduler scheduler, String name, IQueryPod pod) {
+		int nbQueued = scheduler.getStats().getNbQueued();
+		Future<?> future = executor.submit(() -> {
+			try (IAdmissionTicket _ = scheduler.admit(pod)) {
+				admitted.add(name);
+			}
+		});
+		// Ensure queries are queued in submission order
+		awaitUntil(() -> scheduler.getStats().getNbQueued() == nbQueued + 1);
+		return future;
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline) {
+				throw new IllegalStateException("Timeout");
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	@Test
+	public void testAdmitAll() {
+		try (IAdmissionTicket _ = IQueryAdmission.admitAll().admit(pod("a", QueryPriority.INTERACTIVE))) {
+			Assertions.assertThat(admitted).isEmpty();
+		}
+	}
+
+	@Test
+	public void testFastTrack() {
+		WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder().maxRunning(2).build();
+
+		IAdmissionTicket ticket1 = scheduler.admit(pod("a", QueryPriority.INTERACTIVE));
+		IAdmissionTicket ticket2 = scheduler.admit(pod("a", QueryPriority.INTERACTIVE));
+		Assertions.assertThat(scheduler.getStats().getNbRunning()).isEqualTo(2);
+
+		ticket1.close();
+		// Closing twice is a no-op
+		ticket1.close();
+		ticket2.close();
+
+		QueryAdmissionStats stats = scheduler.getStats();
+		Assertions.assertThat(stats.getNbRunning()).isEqualTo(0);
+		Assertions.assertThat(stats.getNbAdmitted()).isEqualTo(2);
+		Assertions.assertThat(stats.getNbQueued()).isEqualTo(0);
+	}
+
+	@Test
+	public void testFairAcrossPrincipals() throws Exception {
+		WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder().maxRunning(1).build();
+
+		IAdmissionTicket running = scheduler.admit(pod("a", QueryPriority.INTERACTIVE));
+
+		List<Future<?>> futures = List.of(submit(scheduler, "a1", pod("a", QueryPriority.INTERACTIVE)),
+				submit(scheduler, "a2", pod("a", QueryPriority.INTERACTIVE)),
+				submit(scheduler, "a3", pod("a", QueryPriority.INTERACTIVE)),
+				submit(scheduler, "b1", pod("b", QueryPriority.INTERACTIVE)));
+
+		running.close();
+		for (Future<?> future : futures) {
+			future.get(1, TimeUnit.MINUTES);
+		}
+
+		// `b` is not delayed by the queries previously queued by `a`
+		Assertions.assertThat(admitted).containsExactly("a1", "b1", "a2", "a3");
+	}
+
+	@Test
+	public void testWeightedPriorities() throws Exception {
+		WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder().maxRunning(1).build();
+
+		IAdmissionTicket running = scheduler.admit(pod("a", QueryPriority.INTERACTIVE));
+
+		List<Future<?>> futures = List.of(submit(scheduler, "batch1", pod("a", QueryPriority.BATCH)),
+				submit(scheduler, "batch2", pod("a", QueryPriority.BATCH)),
+				submit(scheduler, "interactive1", pod("a", QueryPriority.INTERACTIVE)),
+				submit(scheduler, "interactive2", pod("a", QueryPriority.INTERACTIVE)));
+
+		running.close();
+		for (Future<?> future : futures) {
+			future.get(1, TimeUnit.MINUTES);
+		}
+
+		Assertions.assertThat(admitted).containsExactly("batch1", "interactive1", "interactive2", "batch2");
+	}
+
+	@Test
+	public void testMemoryBudget() throws Exception {
+		WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder()
+				.maxRunning(10)
+				.memoryEstimator(_ -> 100L)
+				.maxRunningBytes(150L)
+				.build();
+
+		IAdmissionTicket running = scheduler.admit(pod("a", QueryPriority.INTERACTIVE));
+		Assertions.assertThat(scheduler.getStats().getRunningBytes()).isEqualTo(100L);
+
+		Future<?> queued = submit(scheduler, "a1", pod("a", QueryPriority.INTERACTIVE));
+		Assertions.assertThat(admitted).isEmpty();
+
+		running.close();
+		queued.get(1, TimeUnit.MINUTES);
+		Assertions.assertThat(admitted).containsExactly("a1");
+		Assertions.assertThat(scheduler.getStats().getRunningBytes()).isEqualTo(0L);
+	}
+
+	@Test
+	public void testMemoryBudget_headDoesNotBlockOtherFlows() throws Exception {
+		WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder()
+				.maxRunning(10)
+				.memoryEstimator(queryPod -> "big".equals(queryPod.getQueryId().getPrincipal()) ? 100L : 10L)
+				.maxRunningBytes(150L)
+				.build();
+
+		IAdmissionTicket runningSmall = scheduler.admit(pod("small", QueryPriority.INTERACTIVE));
+		IAdmissionTicket runningBig = scheduler.admit(pod("big", QueryPriority.INTERACTIVE));
+
+		// Does not fit the memory budget
+		Future<?> queuedBig = submit(scheduler, "big1", pod("big", QueryPriority.INTERACTIVE));
+		runningSmall.close();
+
+		// `small1` fits the memory budget: it is not blocked by the head of the `big` flow
+		Future<?> queuedSmall = executor.submit(() -> {
+			try (IAdmissionTicket _ = scheduler.admit(pod("small", QueryPriority.INTERACTIVE))) {
+				admitted.add("small1");
+			}
+		});
+		queuedSmall.get(1, TimeUnit.MINUTES);
+		Assertions.assertThat(admitted).containsExactly("small1");
+
+		runningBig.close();
+		queuedBig.get(1, TimeUnit.MINUTES);
+		Assertions.assertThat(admitted).containsExactly("small1", "big1");
+		Assertions.assertThat(scheduler.getStats().getRunningBytes()).isEqualTo(0L);
+	}
+
+	@Test
+	public void testMemoryBudget_releaseAdmitsFittingFlow() throws Exception {
+		WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder()
+				.maxRunning(2)
+				.memoryEstimator(queryPod -> "big".equals(queryPod.getQueryId().getPrincipal()) ? 100L : 10L)
+				.maxRunningBytes(150L)
+				.build();
+
+		IAdmissionTicket runningSmall = scheduler.admit(pod("small", QueryPriority.INTERACTIVE));
+		IAdmissionTicket runningBig = scheduler.admit(pod("big", QueryPriority.INTERACTIVE));
+
+		// Both are queued, as `maxRunning` is reached
+		Future<?> queuedBig = submit(scheduler, "big1", pod("big", QueryPriority.INTERACTIVE));
+		Future<?> queuedSmall = submit(scheduler, "small1", pod("small", QueryPriority.INTERACTIVE));
+
+		// The `big` flow has the lowest pass, but its head does not fit the memory budget
+		runningSmall.close();
+		queuedSmall.get(1, TimeUnit.MINUTES);
+		Assertions.assertThat(admitted).containsExactly("small1");
+
+		runningBig.close();
+		queuedBig.get(1, TimeUnit.MINUTES);
+		Assertions.assertThat(admitted).containsExactly("small1", "big1");
+	}
+
+	@Test
+	public void testMemoryBudget_largeQueryNotStarved() throws Exception {
+		WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder()
+				.maxRunning(10)
+				.memoryEstimator(queryPod -> "big".equals(queryPod.getQueryId().getPrincipal()) ? 100L : 10L)
+				.maxRunningBytes(150L)
+				.maxBypasses(2)
+				.build();
+
+		IAdmissionTicket runningBig = scheduler.admit(pod("big", QueryPriority.INTERACTIVE));
+		// Does not fit the memory budget
+		Future<?> queuedBig = submit(scheduler, "big1", pod("big", QueryPriority.INTERACTIVE));
+
+		// Small queries may bypass the large query, up to `maxBypasses`
+		IAdmissionTicket runningSmall1 = scheduler.admit(pod("small", QueryPriority.INTERACTIVE));
+		IAdmissionTicket runningSmall2 = scheduler.admit(pod("small", QueryPriority.INTERACTIVE));
+
+		// The memory is now reserved for the large query
+		Future<?> queuedSmall = submit(scheduler, "small3", pod("small", QueryPriority.INTERACTIVE));
+		runningSmall1.close();
+		runningSmall2.close();
+		Assertions.assertThat(admitted).isEmpty();
+		Assertions.assertThat(scheduler.getStats().getNbQueued()).isEqualTo(2);
+
+		runningBig.close();
+		queuedBig.get(1, TimeUnit.MINUTES);
+		queuedSmall.get(1, TimeUnit.MINUTES);
+		Assertions.assertThat(admitted).containsExactly("big1", "small3");
+		Assertions.assertThat(scheduler.getStats().getRunningBytes()).isEqualTo(0L);
+	}
+
+	@Test
+	public void testRejected_queueIsFull() {
+		WeightedFairQueryScheduler scheduler =
+				WeightedFairQueryScheduler.builder().maxRunning(1).maxQueued(1).build();
+
+		IAdmissionTicket running = scheduler.admit(pod("a", QueryPriority.INTERACTIVE));
+		submit(scheduler, "a1", pod("a", QueryPriority.INTERACTIVE));
+
+		Assertions.assertThatThrownBy(() -> scheduler.admit(pod("b", QueryPriority.INTERACTIVE)))
+				.isInstanceOfSatisfying(QueryRejectedException.class,
+						e -> Assertions.assertThat(e.getRetryAfter()).isPositive());
+		Assertions.assertThat(scheduler.getStats().getNbRejected()).isEqualTo(1);
+
+		running.close();
+	}
+
+	@Test
+	public void testRejected_timeout() {
+		WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder()
+				.maxRunning(1)
+				.maxQueueDuration(Duration.ofMillis(10))
+				.build();
+
+		try (IAdmissionTicket _ = scheduler.admit(pod("a", QueryPriority.INTERACTIVE))) {
+			Assertions.assertThatThrownBy(() -> scheduler.admit(pod("b", QueryPriority.INTERACTIVE)))
+					.isInstanceOf(QueryRejectedException.class);
+		}
+
+		QueryAdmissionStats stats = scheduler.getStats();
+		Assertions.assertThat(stats.getNbRejected()).isEqualTo(1);
+		Assertions.assertThat(stats.getNbQueued()).isEqualTo(0);
+		Assertions.assertThat(stats.getNbRunning()).isEqualTo(0);
+	}
+
+	@Test
+	public void testInterrupted() throws Exception {
+		WeightedFairQueryScheduler scheduler = WeightedFairQueryScheduler.builder().maxRunning(1).build();
+
+		try (IAdmissionTicket _ = scheduler.admit(pod("a", QueryPriority.INTERACTIVE))) {
+			Future<?> queued = submit(scheduler, "a1", pod("a", QueryPriority.INTERACTIVE));
+
+			queued.cancel(true);
+			awaitUntil(() -> scheduler.getStats().getNbCancelledWhileQueued() == 1);
+		}
+
+		QueryAdmissionStats stats = scheduler.getStats();
+		Assertions.assertThat(stats.getNbQueued()).isEqualTo(0);
+		Assertions.assertThat(stats.getNbRunning()).isEqualTo(0);
+		Assertions.assertThat(admitted).isEmpty();
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.column.Cuboid;
+import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
+import eu.solven.adhoc.dataframe.column.hash.MultitypeHashColumn;
+import eu.solven.adhoc.engine.observability.SizeAndDuration;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.map.factory.RowSliceFactory;
+import eu.solven.adhoc.primitive.IValueProviderTestHelpers;
+
+public class TestCostAwareQueryStepCache {
+	RowSliceFactory sliceFactory = RowSliceFactory.builder().build();
+
+	// 100 bytes per slice, to make the budgets easy to reason about
+	ICuboidSizeEstimator sizeEstimator = cuboid -> 100 * cuboid.size();
+
+	ICuboid cuboid(int nbSlices) {
+		IMultitypeColumnFastGet<ISlice> values = MultitypeHashColumn.<ISlice>builder().build();
+		for (int i = 0; i < nbSlices; i++) {
+			values.append(sliceFactory.newMapBuilder("c").append("c" + i).build().asSlice()).onLong(i);
+		}
+		return Cuboid.builder().column("c").values(values).build();
+	}
+
+	CubeQueryStep step(String measure) {
+		return CubeQueryStep.builder().measure(measure).build();
+	}
+
+	SizeAndDuration cost(ICuboid cuboid, Duration duration) {
+		return SizeAndDuration.builder().size(cuboid.size()).duration(duration).build();
+	}
+
+	@Test
+	public void testHitMiss() {
+		CostAwareQueryStepCache cache = CostAwareQueryStepCache.builder().sizeEstimator(sizeEstimator).build();
+
+		Assertions.assertThat(cache.getValue(step("m"))).isEmpty();
+
+		ICuboid cuboid = cuboid(3);
+		cache.pushValue(step("m"), cuboid, cost(cuboid, Duration.ofMillis(10)));
+
+		Assertions.assertThat(cache.getValue(step("m"))).contains(cuboid);
+
+		QueryStepCacheStats stats = cache.getStats();
+		Assertions.assertThat(stats.getHitCount()).isEqualTo(1);
+		Assertions.assertThat(stats.getMissCount()).isEqualTo(1);
+		Assertions.assertThat(stats.getHeapBytes()).isEqualTo(300);
+		Assertions.assertThat(stats.getHeapEntries()).isEqualTo(1);
+		Assertions.assertThat(stats.hitRate()).isEqualTo(0.5D);
+	}
+
+	@Test
+	public void testCheapLargeCuboid_doesNotEvictExpensiveSmallOnes() {
+		CostAwareQueryStepCache cache =
+				CostAwareQueryStepCache.builder().sizeEstimator(sizeEstimator).maximumBytes(2_000).build();
+
+		for (int i = 0; i < 10; i++) {
+			ICuboid small = cuboid(1);
+			cache.pushValue(step("slow_" + i), small, cost(small, Duration.ofSeconds(1)));
+		}
+
+		// Would evict all the small cuboids, while being much cheaper to recompute
+		ICuboid large = cuboid(15);
+		cache.pushValue(step("fast"), large, cost(large, Duration.ofMillis(1)));
+
+		Assertions.assertThat(cache.getValue(step("fast"))).isEmpty();
+		for (int i = 0; i < 10; i++) {
+			Assertions.assertThat(cache.getValue(step("slow_" + i))).isPresent();
+		}
+
+		QueryStepCacheStats stats = cache.getStats();
+		Assertions.assertThat(stats.getRejectionCount()).isEqualTo(1);
+		Assertions.assertThat(stats.getEvictionCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void testExpensiveCuboid_evictsCheapOnes() {
+		CostAwareQueryStepCache cache =
+				CostAwareQueryStepCache.builder().sizeEstimator(sizeEstimator).maximumBytes(1_000).build();
+
+		ICuboid cheap = cuboid(5);
+		cache.pushValue(step("cheap"), cheap, cost(cheap, Duration.ofMillis(1)));
+		ICuboid cheap2 = cuboid(4);
+		cache.pushValue(step("cheap2"), cheap2, cost(cheap2, Duration.ofMillis(2)));
+
+		ICuboid expensive = cuboid(5);
+		cache.pushValue(step("expensive"), expensive, cost(expensive, Duration.ofSeconds(10)));
+
+		Assertions.assertThat(cache.getValue(step("expensive"))).isPresent();
+		// Lowest value per byte is evicted first: this frees enough bytes
+		Assertions.assertThat(cache.getValue(step("cheap"))).isEmpty();
+		Assertions.assertThat(cache.getValue(step("cheap2"))).isPresent();
+
+		QueryStepCacheStats stats = cache.getStats();
+		Assertions.assertThat(stats.getEvictionCount()).isEqualTo(1);
+		Assertions.assertThat(stats.getEvictedCostNanos()).isEqualTo(Duration.ofMillis(1).toNanos());
+		Assertions.assertThat(stats.getHeapBytes()).isEqualTo(900);
+	}
+
+	@Test
+	public void testMinimumCost() {
+		CostAwareQueryStepCache cache = CostAwareQueryStepCache.builder().minimumCost(Duration.ofMillis(100)).build();
+
+		ICuboid cuboid = cuboid(3);
+		cache.pushValue(step("fast"), cuboid, cost(cuboid, Duration.ofMillis(1)));
+		cache.pushValue(step("slow"), cuboid, cost(cuboid, Duration.ofSeconds(1)));
+
+		Assertions.assertThat(cache.getValue(step("fast"))).isEmpty();
+		Assertions.assertThat(cache.getValue(step("slow"))).isPresent();
+	}
+
+	@Test
+	public void testSpillOffHeap() {
+		CostAwareQueryStepCache cache = CostAwareQueryStepCache.builder()
+				.sizeEstimator(sizeEstimator)
+				.maximumBytes(1_000)
+				.spillStore(OffHeapCuboidSpillStore.builder().sliceFactory(sliceFactory).build())
+				.maximumSpilledBytes(1_000_000)
+				.build();
+
+		ICuboid first = cuboid(8);
+		cache.pushValue(step("first"), first, cost(first, Duration.ofMillis(1)));
+		ICuboid second = cuboid(8);
+		cache.pushValue(step("second"), second, cost(second, Duration.ofSeconds(1)));
+
+		QueryStepCacheStats stats = cache.getStats();
+		Assertions.assertThat(stats.getSpillCount()).isEqualTo(1);
+		Assertions.assertThat(stats.getEvictionCount()).isEqualTo(0);
+		Assertions.assertThat(stats.getHeapEntries()).isEqualTo(1);
+		Assertions.assertThat(stats.getSpilledEntries()).isEqualTo(1);
+		Assertions.assertThat(stats.getSpilledBytes()).isPositive();
+
+		// The spilled cuboid is reloaded on the heap
+		ICuboid reloaded = cache.getValue(step("first")).get();
+		Assertions.assertThat(reloaded).isNotSameAs(first);
+		Assertions.assertThat(reloaded.size()).isEqualTo(8);
+		ISlice c7 = sliceFactory.newMapBuilder("c").append("c7").build().asSlice();
+		Assertions.assertThat(IValueProviderTestHelpers.getLong(reloaded.onValue(c7))).isEqualTo(7L);
+
+		cache.invalidateAll();
+		Assertions.assertThat(cache.getValue(step("first"))).isEmpty();
+		Assertions.assertThat(cache.getStats().getSpilledBytes()).isEqualTo(0);
+	}
+}
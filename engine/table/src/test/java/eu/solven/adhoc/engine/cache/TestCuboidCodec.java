@@ -0,0 +1,106 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.column.Cuboid;
+import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
+import eu.solven.adhoc.dataframe.column.hash.MultitypeHashColumn;
+import eu.solven.adhoc.map.factory.RowSliceFactory;
+import eu.solven.adhoc.primitive.IValueProviderTestHelpers;
+
+public class TestCuboidCodec {
+	RowSliceFactory sliceFactory = RowSliceFactory.builder().build();
+
+	ISlice slice(Object country, Object date) {
+		return sliceFactory.newMapBuilder("country", "date").append(country).append(date).build().asSlice();
+	}
+
+	@Test
+	public void testRoundTrip() {
+		IMultitypeColumnFastGet<ISlice> values = MultitypeHashColumn.<ISlice>builder().build();
+		values.append(slice("FR", LocalDate.of(2026, 1, 1))).onLong(123L);
+		values.append(slice("DE", LocalDate.of(2026, 1, 2))).onDouble(12.34D);
+		values.append(slice(null, LocalDate.of(2026, 1, 3))).onObject("someString");
+		ICuboid cuboid = Cuboid.builder().column("country").column("date").values(values).build();
+
+		byte[] encoded = CuboidCodec.encode(cuboid);
+		ICuboid decoded = CuboidCodec.decode(ByteBuffer.wrap(encoded), sliceFactory);
+
+		Assertions.assertThat(decoded.getColumns()).containsExactly("country", "date");
+		Assertions.assertThat(decoded.size()).isEqualTo(3);
+		Assertions.assertThat(IValueProviderTestHelpers.getLong(decoded.onValue(slice("FR", LocalDate.of(2026, 1, 1)))))
+				.isEqualTo(123L);
+		Assertions
+				.assertThat(IValueProviderTestHelpers.getDouble(decoded.onValue(slice("DE", LocalDate.of(2026, 1, 2)))))
+				.isEqualTo(12.34D);
+		Assertions.assertThat(ICuboid.getValue(decoded, slice(null, LocalDate.of(2026, 1, 3)))).isEqualTo("someString");
+	}
+
+	@Test
+	public void testRoundTrip_exactTypes() {
+		IMultitypeColumnFastGet<ISlice> values = MultitypeHashColumn.<ISlice>builder().cleanDirty(false).build();
+		values.append(slice(1, 2L)).onObject(3);
+		values.append(slice(1.5F, 2.5D)).onObject(3.5F);
+		ICuboid cuboid = Cuboid.builder().column("country").column("date").values(values).build();
+
+		ICuboid decoded = CuboidCodec.decode(ByteBuffer.wrap(CuboidCodec.encode(cuboid)), sliceFactory);
+
+		// Coordinates are normalized by the ISliceFactory: the round-trip must not alter them further
+		for (String column : List.of("country", "date")) {
+			Assertions.assertThat(decoded.slices().<Object>map(s -> s.getGroupBy(column).getClass()).toList())
+					.containsExactlyInAnyOrderElementsOf(
+							cuboid.slices().<Object>map(s -> s.getGroupBy(column).getClass()).toList());
+		}
+
+		Assertions.assertThat(ICuboid.getValue(decoded, slice(1, 2L))).isInstanceOf(Integer.class).isEqualTo(3);
+		Assertions.assertThat(ICuboid.getValue(decoded, slice(1.5F, 2.5D)))
+				.isInstanceOf(Float.class)
+				.isEqualTo(3.5F);
+	}
+
+	@Test
+	public void testEmpty() {
+		ICuboid decoded = CuboidCodec.decode(ByteBuffer.wrap(CuboidCodec.encode(Cuboid.empty())), sliceFactory);
+
+		Assertions.assertThat(decoded.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testNotEncodable() {
+		IMultitypeColumnFastGet<ISlice> values = MultitypeHashColumn.<ISlice>builder().build();
+		values.append(slice("FR", "someDate")).onObject(Duration.ofSeconds(1));
+		ICuboid cuboid = Cuboid.builder().column("country").column("date").values(values).build();
+
+		Assertions.assertThat(CuboidCodec.tryEncode(cuboid)).isEmpty();
+	}
+}
@@ -0,0 +1,224 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import eu.solven.adhoc.cuboid.ICuboid;
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.column.Cuboid;
+import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
+import eu.solven.adhoc.dataframe.column.hash.MultitypeHashColumn;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.filter.ColumnFilter;
+import eu.solven.adhoc.map.factory.RowSliceFactory;
+import eu.solven.adhoc.primitive.IValueProviderTestHelpers;
+
+public class TestDiskQueryStepCache {
+	RowSliceFactory sliceFactory = RowSliceFactory.builder().build();
+
+	@TempDir
+	Path directory;
+
+	ISlice slice(int i) {
+		return sliceFactory.newMapBuilder("c").append("c" + i).build().asSlice();
+	}
+
+	ICuboid cuboid(int nbSlices) {
+		IMultitypeColumnFastGet<ISlice> values = MultitypeHashColumn.<ISlice>builder().build();
+		for (int i = 0; i < nbSlices; i++) {
+			values.append(slice(i)).onLong(i);
+		}
+		return Cuboid.builder().column("c").values(values).build();
+	}
+
+	CubeQueryStep step(String measure) {
+		return CubeQueryStep.builder().measure(measure).build();
+	}
+
+	DiskQueryStepCache.DiskQueryStepCacheBuilder cacheBuilder() {
+		return DiskQueryStepCache.builder().directory(directory).tableName("someTable").sliceFactory(sliceFactory);
+	}
+
+	long nbFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.count();
+		}
+	}
+
+	@Test
+	public void testSurvivesRestart() {
+		DiskQueryStepCache cache = cacheBuilder().build();
+		Assertions.assertThat(cache.getValue(step("m"))).isEmpty();
+		cache.pushValue(step("m"), cuboid(3), null);
+
+		// A fresh instance, as after a restart
+		DiskQueryStepCache restarted = cacheBuilder().build();
+		ICuboid fromDisk = restarted.getValue(step("m")).orElseThrow();
+
+		Assertions.assertThat(fromDisk.getColumns()).containsExactly("c");
+		Assertions.assertThat(fromDisk.size()).isEqualTo(3);
+		Assertions.assertThat(IValueProviderTestHelpers.getLong(fromDisk.onValue(slice(2)))).isEqualTo(2L);
+
+		Assertions.assertThat(restarted.getValue(step("other"))).isEmpty();
+
+		QueryStepCacheStats stats = restarted.getStats();
+		Assertions.assertThat(stats.getHitCount()).isEqualTo(1);
+		Assertions.assertThat(stats.getMissCount()).isEqualTo(1);
+		Assertions.assertThat(stats.getSpilledEntries()).isEqualTo(1);
+	}
+
+	@Test
+	public void testPromoteToFirstLevel() {
+		cacheBuilder().build().pushValue(step("m"), cuboid(3), null);
+
+		CostAwareQueryStepCache firstLevel = CostAwareQueryStepCache.builder().build();
+		DiskQueryStepCache cache = cacheBuilder().firstLevel(firstLevel).build();
+
+		Assertions.assertThat(firstLevel.getValue(step("m"))).isEmpty();
+		Assertions.assertThat(cache.getValue(step("m"))).isPresent();
+		Assertions.assertThat(firstLevel.getValue(step("m"))).isPresent();
+	}
+
+	@Test
+	public void testEpoch() {
+		AtomicLong epoch = new AtomicLong();
+		DiskQueryStepCache cache = cacheBuilder().tableEpoch(epoch::get).build();
+		cache.pushValue(step("m"), cuboid(3), null);
+		Assertions.assertThat(cache.getValue(step("m"))).isPresent();
+
+		// The table has been updated
+		epoch.incrementAndGet();
+		Assertions.assertThat(cache.getValue(step("m"))).isEmpty();
+	}
+
+	@Test
+	public void testSharedDirectory_differentTables() throws IOException {
+		DiskQueryStepCache cache = cacheBuilder().build();
+		cache.pushValue(step("m"), cuboid(3), null);
+
+		// Another table, sharing the same directory, must not see the entries of the first table
+		DiskQueryStepCache otherTable = cacheBuilder().tableName("otherTable").build();
+		Assertions.assertThat(otherTable.getValue(step("m"))).isEmpty();
+
+		otherTable.pushValue(step("m"), cuboid(5), null);
+		Assertions.assertThat(nbFiles()).isEqualTo(2);
+
+		Assertions.assertThat(cacheBuilder().build().getValue(step("m"))).hasValueSatisfying(c -> {
+			Assertions.assertThat(c.size()).isEqualTo(3);
+		});
+		Assertions.assertThat(cacheBuilder().tableName("otherTable").build().getValue(step("m")))
+				.hasValueSatisfying(c -> {
+					Assertions.assertThat(c.size()).isEqualTo(5);
+				});
+	}
+
+	@Test
+	public void testInvalidateAll() throws IOException {
+		DiskQueryStepCache cache = cacheBuilder().build();
+		cache.pushValue(step("m"), cuboid(3), null);
+		Assertions.assertThat(nbFiles()).isEqualTo(1);
+
+		cache.invalidateAll();
+
+		Assertions.assertThat(nbFiles()).isEqualTo(0);
+		Assertions.assertThat(cache.getValue(step("m"))).isEmpty();
+		Assertions.assertThat(cacheBuilder().build().getValue(step("m"))).isEmpty();
+	}
+
+	@Test
+	public void testEvictLeastRecentlyUsed() throws IOException, InterruptedException {
+		long cuboidBytes = CuboidCodec.encode(cuboid(10)).length;
+		DiskQueryStepCache cache = cacheBuilder().maximumBytes(2 * cuboidBytes).build();
+
+		// Sleeps ensure distinct access times
+		cache.pushValue(step("m1"), cuboid(10), null);
+		Thread.sleep(5);
+		cache.pushValue(step("m2"), cuboid(10), null);
+		Thread.sleep(5);
+		// `m1` is now more recently used than `m2`
+		Assertions.assertThat(cache.getValue(step("m1"))).isPresent();
+		Thread.sleep(5);
+
+		cache.pushValue(step("m3"), cuboid(10), null);
+
+		Assertions.assertThat(nbFiles()).isEqualTo(2);
+		Assertions.assertThat(cache.getValue(step("m1"))).isPresent();
+		Assertions.assertThat(cache.getValue(step("m2"))).isEmpty();
+		Assertions.assertThat(cache.getValue(step("m3"))).isPresent();
+	}
+
+	@Test
+	public void testKey_largeInFilters() {
+		// More operands than printed by `InMatcher.toString()`
+		List<String> operands = IntStream.range(0, 32).mapToObj(i -> "v" + i).collect(Collectors.toList());
+		List<String> otherOperands = new ArrayList<>(operands);
+		otherOperands.set(otherOperands.size() - 1, "other");
+
+		CubeQueryStep step = step("m").toBuilder().filter(ColumnFilter.matchIn("c", operands)).build();
+		CubeQueryStep otherStep = step("m").toBuilder().filter(ColumnFilter.matchIn("c", otherOperands)).build();
+		Assertions.assertThat(step.getFilter().toString()).isEqualTo(otherStep.getFilter().toString());
+
+		DiskQueryStepCache cache = cacheBuilder().build();
+		cache.pushValue(step, cuboid(3), null);
+
+		Assertions.assertThat(cache.getValue(step)).isPresent();
+		Assertions.assertThat(cache.getValue(otherStep)).isEmpty();
+	}
+
+	@Test
+	public void testKey_notFingerprintable() throws IOException {
+		// A customMarker which is not serializable by Jackson
+		CubeQueryStep step = step("m").toBuilder().customMarker(new Object()).build();
+
+		DiskQueryStepCache cache = cacheBuilder().build();
+		cache.pushValue(step, cuboid(3), null);
+
+		Assertions.assertThat(nbFiles()).isEqualTo(0);
+		Assertions.assertThat(cache.getValue(step)).isEmpty();
+	}
+
+	@Test
+	public void testNotEncodable() throws IOException {
+		IMultitypeColumnFastGet<ISlice> values = MultitypeHashColumn.<ISlice>builder().build();
+		values.append(slice(0)).onObject(new Object());
+		ICuboid cuboid = Cuboid.builder().column("c").values(values).build();
+
+		DiskQueryStepCache cache = cacheBuilder().build();
+		cache.pushValue(step("m"), cuboid, null);
+
+		Assertions.assertThat(nbFiles()).isEqualTo(0);
+	}
+}
@@ -0,0 +1,306 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.concurrent;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import eu.solven.adhoc.engine.cancel.CancelledQueryException;
+import eu.solven.adhoc.engine.context.IIsCancellable;
+
+public class TestSingleFlight {
+	SingleFlight<String, String> singleFlight = new SingleFlight<>();
+	AtomicInteger nbExecutions = new AtomicInteger();
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void testExecute_concurrent() throws Exception {
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		CountDownLatch leaderRelease = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute("k", () -> {
+			nbExecutions.incrementAndGet();
+			leaderStarted.countDown();
+			awaitUninterruptibly(leaderRelease);
+			return "v";
+		}));
+		leaderStarted.await();
+
+		List<Future<String>> followers = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			followers.add(executor.submit(() -> singleFlight.execute("k", () -> {
+				nbExecutions.incrementAndGet();
+				return "other";
+			})));
+		}
+
+		// Let the followers join the flight
+		Thread.sleep(50);
+		leaderRelease.countDown();
+
+		Assertions.assertThat(leader.get(1, TimeUnit.MINUTES)).isEqualTo("v");
+		for (Future<String> follower : followers) {
+			Assertions.assertThat(follower.get(1, TimeUnit.MINUTES)).isEqualTo("v");
+		}
+		Assertions.assertThat(nbExecutions).hasValue(1);
+		Assertions.assertThat(singleFlight.getNbInFlight()).isEqualTo(0);
+	}
+
+	@Test
+	void testExecute_sequential_noRetention() {
+		Assertions.assertThat(singleFlight.execute("k", () -> "v1")).isEqualTo("v1");
+		Assertions.assertThat(singleFlight.execute("k", () -> "v2")).isEqualTo("v2");
+
+		Assertions.assertThat(singleFlight.getNbInFlight()).isEqualTo(0);
+	}
+
+	@Test
+	void testExecute_differentKeys() {
+		Assertions.assertThat(singleFlight.execute("k1", () -> "v1")).isEqualTo("v1");
+		Assertions.assertThat(singleFlight.execute("k2", () -> "v2")).isEqualTo("v2");
+	}
+
+	@Test
+	void testExecute_leaderFails() throws Exception {
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		CountDownLatch leaderRelease = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute("k", () -> {
+			leaderStarted.countDown();
+			awaitUninterruptibly(leaderRelease);
+			throw new IllegalArgumentException("Something went wrong");
+		}));
+		leaderStarted.await();
+
+		Future<String> follower = executor.submit(() -> singleFlight.execute("k", () -> "other"));
+		Thread.sleep(50);
+		leaderRelease.countDown();
+
+		Assertions.assertThatThrownBy(() -> leader.get(1, TimeUnit.MINUTES))
+				.hasRootCauseInstanceOf(IllegalArgumentException.class);
+		Assertions.assertThatThrownBy(() -> follower.get(1, TimeUnit.MINUTES))
+				.hasRootCauseInstanceOf(IllegalArgumentException.class)
+				.hasStackTraceContaining("In-flight execution failed for key=k");
+	}
+
+	@Test
+	void testExecute_leaderCancelled_followerRetries() throws Exception {
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		CountDownLatch leaderRelease = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute("k", () -> {
+			leaderStarted.countDown();
+			awaitUninterruptibly(leaderRelease);
+			throw new CancelledQueryException("leader is cancelled");
+		}));
+		leaderStarted.await();
+
+		Future<String> follower = executor.submit(() -> singleFlight.execute("k", () -> {
+			nbExecutions.incrementAndGet();
+			return "follower";
+		}));
+		Thread.sleep(50);
+		leaderRelease.countDown();
+
+		Assertions.assertThatThrownBy(() -> leader.get(1, TimeUnit.MINUTES))
+				.hasCauseInstanceOf(CancelledQueryException.class);
+		// The follower is not cancelled: it executes by itself
+		Assertions.assertThat(follower.get(1, TimeUnit.MINUTES)).isEqualTo("follower");
+		Assertions.assertThat(nbExecutions).hasValue(1);
+	}
+
+	/**
+	 * A minimal {@link IIsCancellable}, standing for the query of a caller.
+	 */
+	static class CancellableCaller implements IIsCancellable {
+		final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+		volatile @Nullable OffsetDateTime cancellationDate;
+
+		void cancel() {
+			cancellationDate = OffsetDateTime.now();
+			listeners.forEach(Runnable::run);
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return cancellationDate != null;
+		}
+
+		@Override
+		public @Nullable OffsetDateTime getCancellationDate() {
+			return cancellationDate;
+		}
+
+		@Override
+		public void addCancellationListener(Runnable runnable) {
+			listeners.add(runnable);
+		}
+
+		@Override
+		public void removeCancellationListener(Runnable runnable) {
+			listeners.remove(runnable);
+		}
+	}
+
+	@Test
+	void testExecute_followerCancelled_leaderGoesOn() throws Exception {
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		CountDownLatch leaderRelease = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute("k", () -> {
+			leaderStarted.countDown();
+			awaitUninterruptibly(leaderRelease);
+			return "v";
+		}));
+		leaderStarted.await();
+
+		CancellableCaller caller = new CancellableCaller();
+		Future<String> follower =
+				executor.submit(() -> singleFlight.execute("k", caller, OptionalLong.empty(), () -> "other"));
+		Thread.sleep(50);
+		caller.cancel();
+
+		Assertions.assertThatThrownBy(() -> follower.get(1, TimeUnit.MINUTES))
+				.hasCauseInstanceOf(CancelledQueryException.class);
+		Assertions.assertThat(caller.listeners).isEmpty();
+
+		// The shared execution is not cancelled by the follower
+		leaderRelease.countDown();
+		Assertions.assertThat(leader.get(1, TimeUnit.MINUTES)).isEqualTo("v");
+	}
+
+	@Test
+	void testExecute_followerDeadline() throws Exception {
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		CountDownLatch leaderRelease = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute("k", () -> {
+			leaderStarted.countDown();
+			awaitUninterruptibly(leaderRelease);
+			return "v";
+		}));
+		leaderStarted.await();
+
+		OptionalLong deadline = OptionalLong.of(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50));
+		Assertions
+				.assertThatThrownBy(
+						() -> singleFlight.execute("k", new CancellableCaller(), deadline, () -> "other"))
+				.isInstanceOf(CancelledQueryException.class)
+				.hasMessageContaining("Deadline");
+
+		leaderRelease.countDown();
+		Assertions.assertThat(leader.get(1, TimeUnit.MINUTES)).isEqualTo("v");
+	}
+
+	@Test
+	void testExecuteAsync_shared() throws Exception {
+		SettableFuture<String> execution = SettableFuture.create();
+
+		ListenableFuture<String> first = singleFlight.executeAsync("k", () -> {
+			nbExecutions.incrementAndGet();
+			return execution;
+		});
+		ListenableFuture<String> second = singleFlight.executeAsync("k", () -> {
+			nbExecutions.incrementAndGet();
+			return SettableFuture.create();
+		});
+
+		Assertions.assertThat(nbExecutions).hasValue(1);
+		Assertions.assertThat(singleFlight.getNbInFlight()).isEqualTo(1);
+
+		execution.set("v");
+
+		Assertions.assertThat(first.get()).isEqualTo("v");
+		Assertions.assertThat(second.get()).isEqualTo("v");
+		Assertions.assertThat(singleFlight.getNbInFlight()).isEqualTo(0);
+	}
+
+	@Test
+	void testExecuteAsync_cancelOne() throws Exception {
+		SettableFuture<String> execution = SettableFuture.create();
+
+		ListenableFuture<String> first = singleFlight.executeAsync("k", () -> execution);
+		ListenableFuture<String> second = singleFlight.executeAsync("k", () -> SettableFuture.create());
+
+		first.cancel(true);
+
+		// The other caller still relies on the shared execution
+		Assertions.assertThat(execution.isCancelled()).isFalse();
+
+		execution.set("v");
+		Assertions.assertThat(first.isCancelled()).isTrue();
+		Assertions.assertThat(second.get()).isEqualTo("v");
+	}
+
+	@Test
+	void testExecuteAsync_cancelAll() {
+		SettableFuture<String> execution = SettableFuture.create();
+
+		ListenableFuture<String> first = singleFlight.executeAsync("k", () -> execution);
+		ListenableFuture<String> second = singleFlight.executeAsync("k", () -> SettableFuture.create());
+
+		first.cancel(true);
+		second.cancel(true);
+
+		Assertions.assertThat(execution.isCancelled()).isTrue();
+		Assertions.assertThat(singleFlight.getNbInFlight()).isEqualTo(0);
+
+		// A new caller does not join the cancelled flight
+		SettableFuture<String> newExecution = SettableFuture.create();
+		ListenableFuture<String> third = singleFlight.executeAsync("k", () -> newExecution);
+		newExecution.set("v");
+		Assertions.assertThat(third).isDone().isNotCancelled();
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
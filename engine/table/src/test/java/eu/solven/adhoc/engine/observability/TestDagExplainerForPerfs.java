@@ -22,6 +22,7 @@
  */
 package eu.solven.adhoc.engine.observability;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -131,4 +132,35 @@ public class TestDagExplainerForPerfs {
 				            |  No cost info
 				            \\-- !4""");
 	}
+
+	@Test
+	public void testPerfLog_memory() {
+		DagExplainerForPerfs dagExplainer =
+				DagExplainerForPerfs.builder().eventBus(eventBus::post).memory(true).build();
+
+		Aggregator aggregator = Aggregator.sum("a");
+
+		QueryStepsDagBuilder queryStepsDagBuilder = new QueryStepsDagBuilder(AdhocFactories.builder().build(),
+				m -> m,
+				CubeQuery.builder().measure("a").build(),
+				Set.of(aggregator),
+				IQueryStepCache.noCache());
+
+		QueryStepsDag dag = queryStepsDagBuilder.makeQueryDag();
+		dag.getExplicits()
+				.forEach(step -> dag.registerExecutionFeedback(step,
+						SizeAndDuration.builder()
+								.size(3)
+								.duration(Duration.ofMillis(5))
+								.retainedBytes(2048)
+								.build()));
+
+		dagExplainer.explain(AdhocQueryIds.from("someCube", "someQueryObject"), dag);
+
+		Assertions.assertThat(String.join("\n", messages))
+				.contains("m=a(SUM) filter=matchAll groupBy=grandTotal")
+				.contains("size=3 duration=")
+				// allocatedBytes is unknown
+				.contains(" allocated=? retained=");
+	}
 }
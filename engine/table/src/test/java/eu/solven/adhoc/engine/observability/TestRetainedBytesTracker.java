@@ -0,0 +1,71 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.observability;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+
+public class TestRetainedBytesTracker {
+	final CubeQueryStep stepCountry =
+			CubeQueryStep.builder().measure("m").groupBy(GroupByColumns.named("country")).build();
+	final CubeQueryStep stepCcy = CubeQueryStep.builder().measure("m").groupBy(GroupByColumns.named("ccy")).build();
+
+	final RetainedBytesTracker tracker = new RetainedBytesTracker();
+
+	@Test
+	public void testRetainThenRelease() {
+		tracker.onRetained(stepCountry, 100);
+		tracker.onRetained(stepCcy, 50);
+
+		Assertions.assertThat(tracker.getRetainedBytes()).isEqualTo(150);
+		Assertions.assertThat(tracker.getPeakRetainedBytes()).isEqualTo(150);
+
+		tracker.onReleased(stepCountry);
+
+		Assertions.assertThat(tracker.getRetainedBytes()).isEqualTo(50);
+		Assertions.assertThat(tracker.getPeakRetainedBytes()).isEqualTo(150);
+
+		tracker.onRetained(stepCountry, 20);
+
+		Assertions.assertThat(tracker.getRetainedBytes()).isEqualTo(70);
+		Assertions.assertThat(tracker.getPeakRetainedBytes()).isEqualTo(150);
+	}
+
+	@Test
+	public void testReleaseUnknown() {
+		tracker.onReleased(stepCountry);
+
+		Assertions.assertThat(tracker.getRetainedBytes()).isEqualTo(0);
+		Assertions.assertThat(tracker.getPeakRetainedBytes()).isEqualTo(0);
+	}
+
+	@Test
+	public void testUnknownBytes() {
+		tracker.onRetained(stepCountry, SizeAndDuration.UNKNOWN_BYTES);
+
+		Assertions.assertThat(tracker.getRetainedBytes()).isEqualTo(0);
+	}
+}
@@ -22,25 +22,39 @@
  */
 package eu.solven.adhoc.engine.tabular;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
+
 import eu.solven.adhoc.IAdhocTestConstants;
 import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
+import eu.solven.adhoc.dataframe.row.ITabularRecord;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatch;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatchStream;
 import eu.solven.adhoc.dataframe.row.ITabularRecordStream;
+import eu.solven.adhoc.dataframe.stream.SuppliedTabularRecordBatchStream;
 import eu.solven.adhoc.dataframe.tabular.IMultitypeMergeableGrid;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
 import eu.solven.adhoc.engine.tabular.inducer.ITableQueryInducer;
 import eu.solven.adhoc.engine.tabular.optimizer.ITableQueryFactory;
 import eu.solven.adhoc.filter.ColumnFilter;
 import eu.solven.adhoc.model.measure.Aggregator;
 import eu.solven.adhoc.model.query.groupby.GroupByColumns;
 import eu.solven.adhoc.options.IHasQueryOptions;
+import eu.solven.adhoc.primitive.IValueProvider;
 import eu.solven.adhoc.query.table.FilteredAggregator;
 import eu.solven.adhoc.query.table.TableQuery;
 import eu.solven.adhoc.query.table.TableQueryV2;
 import eu.solven.adhoc.query.table.TableQueryV3;
+import eu.solven.adhoc.stream.IConsumingStream;
 import eu.solven.adhoc.table.InMemoryTable;
 import eu.solven.adhoc.table.SimpleQueryPod;
 
@@ -140,4 +154,102 @@ public class TestTabularRecordStreamReducer implements IAdhocTestConstants {
 		// column.
 		Assertions.assertThat(merged.size(empty)).isEqualTo(1);
 	}
+
+	/**
+	 * A {@link ITabularRecordBatchStream} wrapping a single batch of {@link ITabularRecord}.
+	 */
+	protected ITabularRecordBatchStream asBatchStream(List<ITabularRecord> records, List<String> columns) {
+		ITabularRecordBatch batch = new ITabularRecordBatch() {
+
+			@Override
+			public int getNbRows() {
+				return records.size();
+			}
+
+			@Override
+			public ImmutableList<String> getColumns() {
+				return ImmutableList.copyOf(columns);
+			}
+
+			@Override
+			public IDictionarizedColumn dictionarize(int columnIndex) {
+				String column = columns.get(columnIndex);
+				List<Object> coordinates = records.stream()
+						.map(r -> r.getGroupBy(column))
+						.distinct()
+						.collect(Collectors.toCollection(ArrayList::new));
+
+				return new IDictionarizedColumn() {
+					@Override
+					public int getCode(int rowIndex) {
+						return coordinates.indexOf(records.get(rowIndex).getGroupBy(column));
+					}
+
+					@Override
+					public Object getCoordinate(int code) {
+						return coordinates.get(code);
+					}
+
+					@Override
+					public int getNbCodes() {
+						return coordinates.size();
+					}
+				};
+			}
+
+			@Override
+			public IAggregateColumn getAggregate(String aggregateName) {
+				return (rowIndex, receiver) -> records.get(rowIndex)
+						.onAggregate(aggregateName)
+						.acceptReceiver(receiver);
+			}
+
+			@Override
+			public ITabularRecord getRecord(int rowIndex) {
+				return records.get(rowIndex);
+			}
+		};
+
+		return new SuppliedTabularRecordBatchStream("test", false, () -> IConsumingStream.fromStream(Stream.of(batch)));
+	}
+
+	@Test
+	public void testBatches_sameAsRecords() {
+		InMemoryTable tableWrapper = InMemoryTable.builder().distinctSlices(false).build();
+
+		tableWrapper.add(Map.of("a", "a1", "k1", 10));
+		tableWrapper.add(Map.of("a", "a2", "k1", 20));
+		tableWrapper.add(Map.of("a", "a1", "k1", 30));
+		tableWrapper.add(Map.of("k1", 40));
+
+		TableQueryV2 tableQueryV2 = TableQueryV2.builder()
+				.aggregator(FilteredAggregator.builder().aggregator(k1Sum).build())
+				.aggregator(FilteredAggregator.builder().aggregator(Aggregator.countAsterisk()).build())
+				.groupBy(GroupByColumns.named("a"))
+				.build();
+		TableQueryV3 tableQuery = TableQueryV3.edit(tableQueryV2).build();
+
+		TableQueryEngine bootstrapped =
+				(TableQueryEngine) engine.bootstrap(SimpleQueryPod.forTable(tableWrapper), optimizer, inducer);
+
+		List<ITabularRecord> records =
+				tableWrapper.streamSlices(SimpleQueryPod.forTable(tableWrapper), tableQuery).records().toList();
+		IMultitypeMergeableGrid<ISlice> fromRecords = bootstrapped.mergeTableAggregates(tableQuery,
+				tableWrapper.streamSlices(SimpleQueryPod.forTable(tableWrapper), tableQuery));
+		IMultitypeMergeableGrid<ISlice> fromBatches =
+				bootstrapped.mergeTableAggregates(tableQuery, asBatchStream(records, List.of("a")));
+
+		for (Aggregator aggregator : List.of(k1Sum, Aggregator.countAsterisk())) {
+			CubeQueryStep step = CubeQueryStep.edit(tableQueryV2).measure(aggregator).build();
+			IMultitypeColumnFastGet<ISlice> expected = fromRecords.closeColumn(step, aggregator);
+			IMultitypeColumnFastGet<ISlice> actual = fromBatches.closeColumn(step, aggregator);
+
+			Assertions.assertThat(actual.size()).isEqualTo(expected.size()).isEqualTo(3);
+			records.forEach(r -> {
+				ISlice slice = r.asSlice();
+				Assertions.assertThat(IValueProvider.getValue(actual.onValue(slice)))
+						.isEqualTo(IValueProvider.getValue(expected.onValue(slice)));
+			});
+		}
+	}
 }
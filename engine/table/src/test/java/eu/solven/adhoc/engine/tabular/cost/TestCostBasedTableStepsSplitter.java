@@ -0,0 +1,95 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.adhoc.engine.dag.IAdhocDag;
+import eu.solven.adhoc.engine.observability.SizeAndDuration;
+import eu.solven.adhoc.engine.step.TableQueryStep;
+import eu.solven.adhoc.engine.tabular.splitter.InduceByAdhocComplete;
+import eu.solven.adhoc.model.measure.Aggregator;
+import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.options.IHasOptionsAndExecutorService;
+
+public class TestCostBasedTableStepsSplitter {
+	HistoricalTableQueryCostModel costModel = HistoricalTableQueryCostModel.builder().minSamples(1).build();
+
+	CostBasedTableStepsSplitter splitter = CostBasedTableStepsSplitter.builder()
+			.delegate(InduceByAdhocComplete.builder().build())
+			.costModel(costModel)
+			.table("t")
+			.build();
+
+	TableQueryStep stepA =
+			TableQueryStep.builder().aggregator(Aggregator.sum("m")).groupBy(GroupByColumns.named("a")).build();
+	TableQueryStep stepAB =
+			TableQueryStep.builder().aggregator(Aggregator.sum("m")).groupBy(GroupByColumns.named("a", "b")).build();
+
+	private static SizeAndDuration cost(long millis) {
+		return SizeAndDuration.builder().size(123).duration(Duration.ofMillis(millis)).build();
+	}
+
+	@Test
+	public void testNoHistory_induce() {
+		IAdhocDag<TableQueryStep> split =
+				splitter.splitInducedAsDag(IHasOptionsAndExecutorService.noOption(), ImmutableSet.of(stepA, stepAB));
+
+		Assertions.assertThat(split.containsEdge(stepA, stepAB)).isTrue();
+	}
+
+	@Test
+	public void testSlowInduction_query() {
+		costModel.onInducedStep(TableStepShape.of("t", stepA), cost(1000));
+		costModel.onTableStep(TableStepShape.of("t", stepAB), cost(10));
+
+		IAdhocDag<TableQueryStep> split =
+				splitter.splitInducedAsDag(IHasOptionsAndExecutorService.noOption(), ImmutableSet.of(stepA, stepAB));
+
+		Assertions.assertThat(split.vertexSet()).contains(stepA, stepAB);
+		Assertions.assertThat(split.edgeSet()).isEmpty();
+	}
+
+	@Test
+	public void testGrouper_samePartition() {
+		CostBasedTableStepsGrouper grouper = CostBasedTableStepsGrouper.builder()
+				.costModel(costModel)
+				.table("t")
+				.hasOptions(IHasOptionsAndExecutorService.noOption())
+				.build();
+
+		Set<TableQueryStep> inducers = ImmutableSet.of(stepA, stepAB);
+		Assertions.assertThat(grouper.groupInducers(inducers)).hasSize(1);
+
+		// The model is not involved when both strategies agree
+		costModel.onTableQueries(ImmutableSet.of(TableStepShape.of("t", stepA), TableStepShape.of("t", stepAB)),
+				Duration.ofMillis(1));
+		Assertions.assertThat(costModel.groupings.size()).isZero();
+	}
+}
@@ -0,0 +1,132 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.tabular.cost;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+
+import eu.solven.adhoc.engine.observability.SizeAndDuration;
+
+public class TestHistoricalTableQueryCostModel {
+	HistoricalTableQueryCostModel costModel = HistoricalTableQueryCostModel.builder().minSamples(2).build();
+
+	TableStepShape shapeA = TableStepShape.builder()
+			.table("t")
+			.groupBy(ImmutableSortedSet.of("a"))
+			.filteredColumns(ImmutableSortedSet.of())
+			.build();
+	TableStepShape shapeAB = TableStepShape.builder()
+			.table("t")
+			.groupBy(ImmutableSortedSet.of("a", "b"))
+			.filteredColumns(ImmutableSortedSet.of())
+			.build();
+
+	private static SizeAndDuration cost(long millis) {
+		return SizeAndDuration.builder().size(123).duration(Duration.ofMillis(millis)).build();
+	}
+
+	@Test
+	public void testMerge() {
+		CostHistory first = CostHistory.merge(null, Duration.ofMillis(100), 10, 0.5D);
+		Assertions.assertThat(first.getCount()).isEqualTo(1);
+		Assertions.assertThat(first.getMeanDuration()).isEqualTo(Duration.ofMillis(100));
+
+		CostHistory second = CostHistory.merge(first, Duration.ofMillis(200), 20, 0.5D);
+		Assertions.assertThat(second.getCount()).isEqualTo(2);
+		Assertions.assertThat(second.getMeanDuration()).isEqualTo(Duration.ofMillis(150));
+		Assertions.assertThat(second.getMeanSize()).isEqualTo(15D);
+	}
+
+	@Test
+	public void testInducing_noHistory() {
+		CostDecision<InducingStrategy> decision = costModel.chooseInducing(shapeA, shapeAB);
+
+		Assertions.assertThat(decision.getChoice()).isEqualTo(InducingStrategy.INDUCE);
+		Assertions.assertThat(decision.getReason()).isEqualTo("no induction history");
+	}
+
+	@Test
+	public void testInducing_notEnoughSamples() {
+		costModel.onInducedStep(shapeA, cost(1000));
+		costModel.onTableStep(shapeAB, cost(10));
+
+		Assertions.assertThat(costModel.chooseInducing(shapeA, shapeAB).getChoice())
+				.isEqualTo(InducingStrategy.INDUCE);
+	}
+
+	@Test
+	public void testInducing_slowInduction() {
+		for (int i = 0; i < 2; i++) {
+			costModel.onInducedStep(shapeA, cost(1000));
+			costModel.onTableStep(shapeAB, cost(10));
+		}
+
+		CostDecision<InducingStrategy> decision = costModel.chooseInducing(shapeA, shapeAB);
+		Assertions.assertThat(decision.getChoice()).isEqualTo(InducingStrategy.QUERY);
+		Assertions.assertThat(decision.getReason()).startsWith("induction (mean=PT1S over count=2) is slower than");
+
+		costModel.invalidateAll();
+		Assertions.assertThat(costModel.chooseInducing(shapeA, shapeAB).getChoice())
+				.isEqualTo(InducingStrategy.INDUCE);
+	}
+
+	@Test
+	public void testInducing_fastInduction() {
+		for (int i = 0; i < 2; i++) {
+			costModel.onInducedStep(shapeA, cost(10));
+			costModel.onTableStep(shapeAB, cost(1000));
+		}
+
+		Assertions.assertThat(costModel.chooseInducing(shapeA, shapeAB).getChoice())
+				.isEqualTo(InducingStrategy.INDUCE);
+	}
+
+	@Test
+	public void testGrouping_exploreThenExploit() {
+		Set<TableStepShape> inducers = ImmutableSet.of(shapeA, shapeAB);
+
+		// Unknown decisions are not recorded
+		costModel.onTableQueries(inducers, Duration.ofMillis(1));
+
+		for (int i = 0; i < 2; i++) {
+			Assertions.assertThat(costModel.chooseGrouping(inducers).getChoice())
+					.isEqualTo(GroupingStrategy.GROUPING_SETS);
+			costModel.onTableQueries(inducers, Duration.ofMillis(100));
+		}
+
+		for (int i = 0; i < 2; i++) {
+			Assertions.assertThat(costModel.chooseGrouping(inducers).getChoice()).isEqualTo(GroupingStrategy.BICLIQUE);
+			costModel.onTableQueries(inducers, Duration.ofMillis(10));
+		}
+
+		CostDecision<GroupingStrategy> decision = costModel.chooseGrouping(inducers);
+		Assertions.assertThat(decision.getChoice()).isEqualTo(GroupingStrategy.BICLIQUE);
+		Assertions.assertThat(decision.getReason()).startsWith("biclique (mean=PT0.01S over count=2) is faster");
+	}
+}
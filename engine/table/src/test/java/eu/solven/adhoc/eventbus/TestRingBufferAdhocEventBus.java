@@ -0,0 +1,288 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.eventbus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.eventbus.RingBufferAdhocEventBus.OverflowPolicy;
+
+public class TestRingBufferAdhocEventBus {
+	final List<Object> received = new CopyOnWriteArrayList<>();
+
+	@Test
+	public void testCapacity_powerOf2() {
+		try (RingBufferAdhocEventBus eventBus = RingBufferAdhocEventBus.builder().delegate(received::add).build()) {
+			Assertions.assertThat(eventBus.getCapacity()).isEqualTo(RingBufferAdhocEventBus.DEFAULT_CAPACITY);
+		}
+		try (RingBufferAdhocEventBus eventBus =
+				RingBufferAdhocEventBus.builder().delegate(received::add).capacity(100).build()) {
+			Assertions.assertThat(eventBus.getCapacity()).isEqualTo(128);
+		}
+	}
+
+	@Test
+	public void testDeliveryOrder() {
+		try (RingBufferAdhocEventBus eventBus =
+				RingBufferAdhocEventBus.builder().delegate(received::add).capacity(16).batchSize(4).build()) {
+			IntStream.range(0, 1000).forEach(eventBus::post);
+
+			Assertions.assertThat(eventBus.flush(Duration.ofSeconds(10))).isTrue();
+			Assertions.assertThat(received).containsExactlyElementsOf(IntStream.range(0, 1000).boxed().toList());
+			Assertions.assertThat(eventBus.getDelivered()).isEqualTo(1000);
+			Assertions.assertThat(eventBus.getDropped()).isZero();
+			Assertions.assertThat(eventBus.size()).isZero();
+		}
+	}
+
+	@Test
+	public void testConcurrentPublishers() throws InterruptedException {
+		int nbThreads = 4;
+		int nbPerThread = 10_000;
+		try (RingBufferAdhocEventBus eventBus =
+				RingBufferAdhocEventBus.builder().delegate(received::add).capacity(64).build()) {
+			List<Thread> threads = IntStream.range(0, nbThreads)
+					.mapToObj(t -> Thread.ofPlatform().start(() -> {
+						for (int i = 0; i < nbPerThread; i++) {
+							eventBus.post(t + "-" + i);
+						}
+					}))
+					.toList();
+			for (Thread thread : threads) {
+				thread.join();
+			}
+
+			Assertions.assertThat(eventBus.flush(Duration.ofSeconds(10))).isTrue();
+			Assertions.assertThat(received).hasSize(nbThreads * nbPerThread).doesNotHaveDuplicates();
+
+			// Each publisher events are received in its publication order
+			for (int t = 0; t < nbThreads; t++) {
+				String prefix = t + "-";
+				Assertions.assertThat(received.stream()
+						.map(String.class::cast)
+						.filter(s -> s.startsWith(prefix))
+						.map(s -> Integer.parseInt(s.substring(prefix.length())))
+						.toList()).isSorted();
+			}
+		}
+	}
+
+	@Test
+	public void testCapacity_minimum() {
+		try (RingBufferAdhocEventBus eventBus =
+				RingBufferAdhocEventBus.builder().delegate(received::add).capacity(1).build()) {
+			Assertions.assertThat(eventBus.getCapacity()).isEqualTo(RingBufferAdhocEventBus.MIN_CAPACITY);
+		}
+	}
+
+	@Test
+	public void testConcurrentPublishers_minimumCapacity() throws InterruptedException {
+		int nbThreads = 4;
+		int nbPerThread = 10_000;
+		try (RingBufferAdhocEventBus eventBus =
+				RingBufferAdhocEventBus.builder().delegate(received::add).capacity(1).build()) {
+			List<Thread> threads = IntStream.range(0, nbThreads)
+					.mapToObj(t -> Thread.ofPlatform().start(() -> {
+						for (int i = 0; i < nbPerThread; i++) {
+							eventBus.post(t + "-" + i);
+						}
+					}))
+					.toList();
+			for (Thread thread : threads) {
+				thread.join();
+			}
+
+			Assertions.assertThat(eventBus.flush(Duration.ofSeconds(10))).isTrue();
+			// No event is lost nor overwritten, even with a ring-buffer of `MIN_CAPACITY` slots
+			Assertions.assertThat(received).hasSize(nbThreads * nbPerThread).doesNotHaveDuplicates();
+			Assertions.assertThat(eventBus.getDropped()).isZero();
+		}
+	}
+
+	@Test
+	public void testOverflow_drop() throws InterruptedException {
+		CountDownLatch isDelivering = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		try (RingBufferAdhocEventBus eventBus = RingBufferAdhocEventBus.builder().delegate(event -> {
+			isDelivering.countDown();
+			awaitUninterruptibly(release);
+			received.add(event);
+		}).capacity(4).overflowPolicy(OverflowPolicy.DROP).build()) {
+			// The first event is polled by the consumer, which then hangs in the delegate
+			eventBus.post(-1);
+			Assertions.assertThat(isDelivering.await(10, TimeUnit.SECONDS)).isTrue();
+
+			IntStream.range(0, 10).forEach(eventBus::post);
+			Assertions.assertThat(eventBus.getDropped()).isEqualTo(10 - 4);
+
+			release.countDown();
+			Assertions.assertThat(eventBus.flush(Duration.ofSeconds(10))).isTrue();
+			Assertions.assertThat(received).containsExactly(-1, 0, 1, 2, 3);
+		}
+	}
+
+	@Test
+	public void testOverflow_block() throws InterruptedException {
+		CountDownLatch isDelivering = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		try (RingBufferAdhocEventBus eventBus = RingBufferAdhocEventBus.builder().delegate(event -> {
+			isDelivering.countDown();
+			awaitUninterruptibly(release);
+			received.add(event);
+		}).capacity(4).overflowPolicy(OverflowPolicy.BLOCK).build()) {
+			eventBus.post(-1);
+			Assertions.assertThat(isDelivering.await(10, TimeUnit.SECONDS)).isTrue();
+
+			Thread publisher = Thread.ofPlatform().start(() -> IntStream.range(0, 10).forEach(eventBus::post));
+
+			// The publisher is blocked by the full ring-buffer
+			publisher.join(Duration.ofMillis(100));
+			Assertions.assertThat(publisher.isAlive()).isTrue();
+
+			release.countDown();
+			publisher.join(Duration.ofSeconds(10));
+			Assertions.assertThat(publisher.isAlive()).isFalse();
+
+			Assertions.assertThat(eventBus.flush(Duration.ofSeconds(10))).isTrue();
+			Assertions.assertThat(received).containsExactly(-1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+			Assertions.assertThat(eventBus.getDropped()).isZero();
+		}
+	}
+
+	@Test
+	public void testClose_drainsPendingEvents() {
+		RingBufferAdhocEventBus eventBus = RingBufferAdhocEventBus.builder().delegate(received::add).build();
+		IntStream.range(0, 100).forEach(eventBus::post);
+
+		eventBus.close();
+		Assertions.assertThat(received).hasSize(100);
+
+		// Events published after close are dropped
+		eventBus.post("afterClose");
+		Assertions.assertThat(received).hasSize(100);
+		Assertions.assertThat(eventBus.getDropped()).isEqualTo(1);
+	}
+
+	@Test
+	public void testClose_concurrentPublishers() throws InterruptedException {
+		int nbThreads = 4;
+		int nbPerThread = 10_000;
+		RingBufferAdhocEventBus eventBus =
+				RingBufferAdhocEventBus.builder().delegate(received::add).capacity(64).build();
+
+		CountDownLatch started = new CountDownLatch(nbThreads);
+		List<Thread> threads = IntStream.range(0, nbThreads).mapToObj(t -> Thread.ofPlatform().start(() -> {
+			started.countDown();
+			for (int i = 0; i < nbPerThread; i++) {
+				eventBus.post(t + "-" + i);
+			}
+		})).toList();
+
+		awaitUninterruptibly(started);
+		eventBus.close();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// Each event is either delivered or dropped, even if published while closing
+		Assertions.assertThat(eventBus.getDelivered()).isEqualTo(received.size());
+		Assertions.assertThat(eventBus.getDelivered() + eventBus.getDropped()).isEqualTo(nbThreads * nbPerThread);
+		Assertions.assertThat(eventBus.size()).isZero();
+	}
+
+	@Test
+	public void testIdle_consumerParkedWithoutTimeout() throws InterruptedException {
+		try (RingBufferAdhocEventBus eventBus = RingBufferAdhocEventBus.builder().delegate(received::add).build()) {
+			eventBus.post("a");
+			Assertions.assertThat(eventBus.flush(Duration.ofSeconds(10))).isTrue();
+
+			// An idle consumer does not wake up periodically
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (eventBus.consumer.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+				Thread.sleep(1);
+			}
+			Assertions.assertThat(eventBus.consumer.getState()).isEqualTo(Thread.State.WAITING);
+
+			// ... and is woken up by publishers
+			eventBus.post("b");
+			Assertions.assertThat(eventBus.flush(Duration.ofSeconds(10))).isTrue();
+			Assertions.assertThat(received).containsExactly("a", "b");
+		}
+	}
+
+	@Test
+	public void testDelegateThrows() {
+		try (RingBufferAdhocEventBus eventBus = RingBufferAdhocEventBus.builder().delegate(event -> {
+			if ("fail".equals(event)) {
+				throw new IllegalStateException("Simulated failure");
+			}
+			received.add(event);
+		}).build()) {
+			eventBus.post("a");
+			eventBus.post("fail");
+			eventBus.post("b");
+
+			Assertions.assertThat(eventBus.flush(Duration.ofSeconds(10))).isTrue();
+			Assertions.assertThat(received).containsExactly("a", "b");
+			Assertions.assertThat(eventBus.getFailed()).isEqualTo(1);
+			Assertions.assertThat(eventBus.getDelivered()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	public void testReentrantPost() {
+		// The minimum capacity would dead-lock if a listener publishing were enqueued instead of delivered inline
+		RingBufferAdhocEventBus[] holder = new RingBufferAdhocEventBus[1];
+		try (RingBufferAdhocEventBus eventBus = RingBufferAdhocEventBus.builder().delegate(event -> {
+			received.add(event);
+			if (event instanceof Integer i && i > 0) {
+				holder[0].post(i - 1);
+			}
+		}).capacity(1).build()) {
+			holder[0] = eventBus;
+
+			eventBus.post(3);
+
+			Assertions.assertThat(eventBus.flush(Duration.ofSeconds(10))).isTrue();
+			Assertions.assertThat(received).containsExactly(3, 2, 1, 0);
+		}
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -45,6 +45,19 @@ public class TestAdhocTopClause {
 		Assertions.assertThat(clause).hasToString("noLimit");
 	}
 
+	@Test
+	public void testWithTieBreakers() {
+		AdhocTopClause clause = AdhocTopClause.builder()
+				.column(ReferencedColumn.ref("a"))
+				.tieBreaker(ReferencedColumn.ref("b"))
+				.limit(10)
+				.build();
+
+		Assertions.assertThat(clause.getTieBreakers()).containsExactly(ReferencedColumn.ref("b"));
+		Assertions.assertThat(clause).hasToString(
+				"limit=10 desc=true columns=[ReferencedColumn(name=a)] tieBreakers=[ReferencedColumn(name=b)]");
+	}
+
 	@Test
 	public void testWithColumnsAndLimit_isPresent() {
 		AdhocTopClause clause = AdhocTopClause.builder().column(ReferencedColumn.ref("a")).limit(10).build();
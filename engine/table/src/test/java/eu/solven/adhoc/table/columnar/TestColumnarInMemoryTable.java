@@ -0,0 +1,227 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.columnar;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.IAdhocTestConstants;
+import eu.solven.adhoc.dataframe.row.ITabularRecordStream;
+import eu.solven.adhoc.filter.ColumnFilter;
+import eu.solven.adhoc.filter.FilterBuilder;
+import eu.solven.adhoc.filter.NotFilter;
+import eu.solven.adhoc.filter.value.NullMatcher;
+import eu.solven.adhoc.measure.sum.AvgAggregation;
+import eu.solven.adhoc.model.measure.Aggregator;
+import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.query.table.FilteredAggregator;
+import eu.solven.adhoc.query.table.TableQueryV2;
+import eu.solven.adhoc.query.table.TableQueryV3;
+import eu.solven.adhoc.table.SimpleQueryPod;
+
+public class TestColumnarInMemoryTable implements IAdhocTestConstants {
+	ColumnarInMemoryTable table = ColumnarInMemoryTable.builder().build();
+
+	private void addRows() {
+		table.add(Map.of("a", "a1", "b", "b1", "k1", 10));
+		table.add(Map.of("a", "a1", "b", "b2", "k1", 20));
+		table.add(Map.of("a", "a2", "b", "b1", "k1", 30));
+		// `a` is absent
+		table.add(Map.of("b", "b2", "k1", 5));
+		// `k1` is null
+		Map<String, Object> withNull = new HashMap<>();
+		withNull.put("a", "a2");
+		withNull.put("k1", null);
+		table.add(withNull);
+	}
+
+	private List<Map<String, ?>> query(TableQueryV2 tableQuery) {
+		try (ITabularRecordStream stream = table.streamSlices(SimpleQueryPod.forTable(table), tableQuery)) {
+			return stream.toList();
+		}
+	}
+
+	private FilteredAggregator filtered(Aggregator aggregator) {
+		return FilteredAggregator.builder().aggregator(aggregator).build();
+	}
+
+	@Test
+	public void testGroupBy_sum() {
+		addRows();
+
+		TableQueryV2 tableQuery =
+				TableQueryV2.builder().groupBy(GroupByColumns.named("a")).aggregator(filtered(k1Sum)).build();
+
+		try (ITabularRecordStream stream = table.streamSlices(SimpleQueryPod.forTable(table), tableQuery)) {
+			Assertions.assertThat(stream.isDistinctSlices()).isTrue();
+		}
+
+		Map<String, Object> nullA = new HashMap<>();
+		nullA.put("a", null);
+		nullA.put("k1", 5L);
+		Assertions.assertThat(query(tableQuery))
+				.containsExactlyInAnyOrder(Map.of("a", "a1", "k1", 30L), Map.of("a", "a2", "k1", 30L), nullA);
+	}
+
+	@Test
+	public void testGrandTotal_count() {
+		addRows();
+
+		TableQueryV2 tableQuery = TableQueryV2.builder()
+				.aggregator(filtered(countAsterisk))
+				.aggregator(filtered(Aggregator.builder().name("k1Count").columnName("k1").aggregationKey("COUNT").build()))
+				.build();
+
+		Assertions.assertThat(query(tableQuery)).containsExactly(Map.of(countAsterisk.getName(), 5L, "k1Count", 4L));
+	}
+
+	@Test
+	public void testFilter_andOrNot() {
+		addRows();
+
+		// (a=a1 OR b=b2) AND NOT(k1=20)
+		TableQueryV2 tableQuery = TableQueryV2.builder()
+				.filter(FilterBuilder
+						.and(FilterBuilder.or(ColumnFilter.matchEq("a", "a1"), ColumnFilter.matchEq("b", "b2")).combine(),
+								NotFilter.builder().negated(ColumnFilter.matchEq("k1", 20)).build())
+						.combine())
+				.groupBy(GroupByColumns.named("b"))
+				.aggregator(filtered(k1Sum))
+				.build();
+
+		Assertions.assertThat(query(tableQuery))
+				.containsExactlyInAnyOrder(Map.of("b", "b1", "k1", 10L), Map.of("b", "b2", "k1", 5L));
+	}
+
+	@Test
+	public void testFilter_nullIfAbsent() {
+		addRows();
+
+		TableQueryV2 tableQuery = TableQueryV2.builder()
+				.filter(ColumnFilter.builder().column("a").valueMatcher(NullMatcher.matchNull()).nullIfAbsent(true).build())
+				.aggregator(filtered(k1Sum))
+				.build();
+		Assertions.assertThat(query(tableQuery)).containsExactly(Map.of("k1", 5L));
+
+		TableQueryV2 tableQueryNotAbsent = TableQueryV2.builder()
+				.filter(ColumnFilter.builder().column("k1").valueMatcher(NullMatcher.matchNull()).nullIfAbsent(false).build())
+				.aggregator(filtered(countAsterisk))
+				.build();
+		Assertions.assertThat(query(tableQueryNotAbsent)).containsExactly(Map.of(countAsterisk.getName(), 1L));
+	}
+
+	@Test
+	public void testPerAggregatorFilter() {
+		addRows();
+
+		TableQueryV2 tableQuery = TableQueryV2.builder()
+				.groupBy(GroupByColumns.named("b"))
+				.aggregator(FilteredAggregator.builder().aggregator(k1Sum).filter(ColumnFilter.matchEq("a", "a1")).build())
+				.aggregator(filtered(countAsterisk))
+				.build();
+
+		Map<String, Object> nullB = new HashMap<>();
+		nullB.put("b", null);
+		nullB.put(countAsterisk.getName(), 1L);
+		Assertions.assertThat(query(tableQuery))
+				.containsExactlyInAnyOrder(Map.of("b", "b1", "k1", 10L, countAsterisk.getName(), 2L),
+						Map.of("b", "b2", "k1", 20L, countAsterisk.getName(), 2L),
+						nullB);
+	}
+
+	@Test
+	public void testNotAggregatedByTable_avg() {
+		addRows();
+
+		Aggregator k1Avg = Aggregator.builder().name("k1").aggregationKey(AvgAggregation.KEY).build();
+		TableQueryV2 tableQuery = TableQueryV2.builder()
+				.filter(ColumnFilter.matchEq("a", "a1"))
+				.groupBy(GroupByColumns.named("a"))
+				.aggregator(filtered(k1Avg))
+				.build();
+
+		try (ITabularRecordStream stream = table.streamSlices(SimpleQueryPod.forTable(table), tableQuery)) {
+			Assertions.assertThat(stream.isDistinctSlices()).isFalse();
+		}
+		// One record per row, with the raw value
+		Assertions.assertThat(query(tableQuery))
+				.containsExactlyInAnyOrder(Map.of("a", "a1", "k1", 10), Map.of("a", "a1", "k1", 20));
+	}
+
+	@Test
+	public void testStreamRows() {
+		addRows();
+
+		TableQueryV3 tableQuery = TableQueryV3.builder()
+				.filter(ColumnFilter.matchEq("a", "a1"))
+				.groupBy(GroupByColumns.named("a"))
+				.aggregator(filtered(k1Sum))
+				.build();
+
+		try (ITabularRecordStream stream = table.streamRows(SimpleQueryPod.forTable(table), tableQuery)) {
+			Assertions.assertThat(stream.toList())
+					.containsExactlyInAnyOrder(Map.of("a", "a1", "k1", 10), Map.of("a", "a1", "k1", 20));
+		}
+	}
+
+	@Test
+	public void testAddAfterCompact() {
+		addRows();
+
+		TableQueryV2 tableQuery = TableQueryV2.builder()
+				.filter(ColumnFilter.matchEq("b", "b1"))
+				.groupBy(GroupByColumns.named("a"))
+				.aggregator(filtered(k1Sum))
+				.build();
+		Assertions.assertThat(query(tableQuery))
+				.containsExactlyInAnyOrder(Map.of("a", "a1", "k1", 10L), Map.of("a", "a2", "k1", 30L));
+
+		table.compact();
+		// A new column, and a new value on a indexed column
+		table.add(Map.of("a", "a3", "b", "b1", "k1", 100, "c", "c1"));
+
+		Assertions.assertThat(query(tableQuery))
+				.containsExactlyInAnyOrder(Map.of("a", "a1", "k1", 10L),
+						Map.of("a", "a2", "k1", 30L),
+						Map.of("a", "a3", "k1", 100L));
+
+		Assertions.assertThat(table.getColumnTypes())
+				.containsEntry("a", String.class)
+				.containsEntry("k1", Integer.class)
+				.containsEntry("c", String.class);
+	}
+
+	@Test
+	public void testUnknownColumn() {
+		addRows();
+
+		TableQueryV2 tableQuery = TableQueryV2.builder().groupBy(GroupByColumns.named("unknown")).build();
+		Assertions.assertThatThrownBy(() -> query(tableQuery))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("unknown");
+	}
+}
@@ -23,6 +23,7 @@
 package eu.solven.adhoc.table.sql.duckdb;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
@@ -51,6 +52,7 @@ import eu.solven.adhoc.table.sql.JooqTableQueryFactory;
 import eu.solven.adhoc.table.sql.JooqTableWrapper;
 import eu.solven.adhoc.table.sql.JooqTableWrapperParameters;
 import eu.solven.adhoc.table.sql.QueryWithLeftover;
+import eu.solven.adhoc.table.statistics.TableColumnStatistics;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -271,4 +273,45 @@ public class TestDuckDBHelper {
 		Assertions.assertThat(sample.getCoordinates()).contains("a1", "a2");
 	}
 
+	@Test
+	public void testGetColumnStatistics() {
+		IDSLSupplier dslSupplier = DuckDBHelper.inMemoryDSLSupplier();
+
+		DSLContext dslContext = dslSupplier.getDSLContext();
+		dslContext.createTable("someTable")
+				.column("someColumn", SQLDataType.VARCHAR)
+				.column("otherColumn", SQLDataType.INTEGER)
+				.execute();
+		dslContext.insertInto(DSL.table("someTable")).set(Map.of("someColumn", "a1", "otherColumn", 1)).execute();
+		dslContext.insertInto(DSL.table("someTable")).set(Map.of("someColumn", "a1", "otherColumn", 2)).execute();
+		dslContext.insertInto(DSL.table("someTable")).set(Map.of("someColumn", "b1")).execute();
+
+		JooqTableWrapperParameters tableParameters =
+				DuckDBHelper.parametersBuilder(dslSupplier).tableName("someTable").build();
+		JooqTableWrapper table = JooqTableWrapper.builder().name("someTable").tableParameters(tableParameters).build();
+		Map<String, TableColumnStatistics> statistics =
+				DuckDBHelper.getColumnStatistics(table, Set.of("someColumn", "otherColumn"), 7);
+
+		Assertions.assertThat(statistics.get("someColumn")).satisfies(s -> {
+			Assertions.assertThat(s.getRowCount()).isEqualTo(3);
+			Assertions.assertThat(s.getNullCount()).isEqualTo(0);
+			Assertions.assertThat(s.getEstimatedCardinality()).isEqualTo(2);
+			Assertions.assertThat(s.getMin()).isEqualTo("a1");
+			Assertions.assertThat(s.getMax()).isEqualTo("b1");
+			Assertions.assertThat(s.getTopValues()).containsExactly("a1", "b1");
+			Assertions.assertThat(s.isExhaustive()).isTrue();
+		});
+		Assertions.assertThat(statistics.get("otherColumn")).satisfies(s -> {
+			Assertions.assertThat(s.getNullCount()).isEqualTo(1);
+			Assertions.assertThat(s.getEstimatedCardinality()).isEqualTo(2);
+			Assertions.assertThat(s.getMin()).isEqualTo(1L);
+			Assertions.assertThat(s.getMax()).isEqualTo(2L);
+		});
+
+		// The statistics also serve `getCoordinates`, once cached
+		Assertions.assertThat(table.getColumnStatistics(Set.of("someColumn"))).containsKey("someColumn");
+		Assertions.assertThat(table.getCoordinates("someColumn", IValueMatcher.MATCH_ALL, 1).getCoordinates())
+				.containsExactly("a1");
+	}
+
 }
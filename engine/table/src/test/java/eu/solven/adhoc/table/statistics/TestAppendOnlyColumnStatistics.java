@@ -0,0 +1,100 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAppendOnlyColumnStatistics {
+	final AppendOnlyColumnStatistics statistics = new AppendOnlyColumnStatistics();
+	final List<Map<String, ?>> rows = new ArrayList<>();
+
+	@Test
+	public void testIncremental() {
+		rows.add(Map.of("c", "v1", "k", 1));
+		rows.add(Map.of("c", "v2", "k", 2));
+		rows.add(Map.of("k", 3));
+
+		TableColumnStatistics c = statistics.getStatistics(rows, Set.of("c")).get("c");
+		Assertions.assertThat(c.getRowCount()).isEqualTo(3);
+		Assertions.assertThat(c.getNullCount()).isEqualTo(1);
+		Assertions.assertThat(c.getNullFraction()).isCloseTo(1D / 3, Assertions.within(0.0001));
+		Assertions.assertThat(c.getEstimatedCardinality()).isEqualTo(2);
+		Assertions.assertThat(c.getMin()).isEqualTo("v1");
+		Assertions.assertThat(c.getMax()).isEqualTo("v2");
+		Assertions.assertThat(c.isExhaustive()).isTrue();
+		Assertions.assertThat(c.getTopValues()).containsExactlyInAnyOrder("v1", "v2");
+
+		rows.add(Map.of("c", "v0", "k", 4));
+		rows.add(Map.of("c", "v1", "k", 5));
+
+		c = statistics.getStatistics(rows, Set.of("c")).get("c");
+		Assertions.assertThat(c.getRowCount()).isEqualTo(5);
+		Assertions.assertThat(c.getEstimatedCardinality()).isEqualTo(3);
+		Assertions.assertThat(c.getMin()).isEqualTo("v0");
+		Assertions.assertThat(c.getTopValues()).first().isEqualTo("v1");
+	}
+
+	@Test
+	public void testColumnRequestedLater() {
+		rows.add(Map.of("c", "v1"));
+		rows.add(Map.of("c", "v2"));
+		statistics.getStatistics(rows, Set.of("c"));
+
+		rows.add(Map.of("c", "v3", "d", LocalDate.parse("2025-01-01")));
+
+		TableColumnStatistics d = statistics.getStatistics(rows, Set.of("c", "d")).get("d");
+		Assertions.assertThat(d.getRowCount()).isEqualTo(3);
+		// The rows preceding the first occurrence of `d` are counted as null
+		Assertions.assertThat(d.getNullCount()).isEqualTo(2);
+		Assertions.assertThat(d.getEstimatedCardinality()).isEqualTo(1);
+		Assertions.assertThat(d.getMin()).isEqualTo(LocalDate.parse("2025-01-01"));
+	}
+
+	@Test
+	public void testUnknownColumn() {
+		rows.add(Map.of("c", "v1"));
+
+		TableColumnStatistics unknown = statistics.getStatistics(rows, Set.of("unknown")).get("unknown");
+		Assertions.assertThat(unknown.getRowCount()).isEqualTo(1);
+		Assertions.assertThat(unknown.getNullCount()).isEqualTo(1);
+		Assertions.assertThat(unknown.getEstimatedCardinality()).isEqualTo(0);
+	}
+
+	@Test
+	public void testMixedTypes_noMinMax() {
+		rows.add(Map.of("c", "v1"));
+		rows.add(Map.of("c", 123));
+
+		TableColumnStatistics c = statistics.getStatistics(rows, Set.of("c")).get("c");
+		Assertions.assertThat(c.getEstimatedCardinality()).isEqualTo(2);
+		Assertions.assertThat(c.getMin()).isNull();
+		Assertions.assertThat(c.getMax()).isNull();
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+public class TestColumnStatisticsCache {
+	final List<Set<String>> loads = new ArrayList<>();
+	final List<Runnable> scheduled = new ArrayList<>();
+	final Executor deferred = scheduled::add;
+
+	final Function<Set<String>, Map<String, TableColumnStatistics>> loader = columns -> {
+		loads.add(columns);
+		if (columns.contains("faulty")) {
+			throw new IllegalArgumentException("Unknown column: faulty");
+		}
+
+		ImmutableMap.Builder<String, TableColumnStatistics> builder = ImmutableMap.builder();
+		columns.forEach(column -> builder.put(column,
+				TableColumnStatistics.builder().column(column).rowCount(10).estimatedCardinality(3).build()));
+		return builder.build();
+	};
+
+	@Test
+	public void testGetAll_singleLoad() {
+		ColumnStatisticsCache cache = new ColumnStatisticsCache("someTable", loader, Duration.ofMinutes(1), deferred);
+
+		Map<String, TableColumnStatistics> statistics = cache.getAll(Set.of("a", "b"));
+		Assertions.assertThat(statistics).containsOnlyKeys("a", "b");
+		Assertions.assertThat(statistics.get("a").getEstimatedCardinality()).isEqualTo(3);
+		Assertions.assertThat(loads).hasSize(1);
+
+		// Cached
+		cache.getAll(Set.of("a", "b"));
+		Assertions.assertThat(loads).hasSize(1);
+
+		cache.invalidateAll();
+		cache.getAll(Set.of("a"));
+		Assertions.assertThat(loads).hasSize(2);
+	}
+
+	@Test
+	public void testGetAll_faultyColumn() {
+		ColumnStatisticsCache cache = new ColumnStatisticsCache("someTable", loader, Duration.ofMinutes(1), deferred);
+
+		Map<String, TableColumnStatistics> statistics = cache.getAll(Set.of("a", "faulty"));
+
+		Assertions.assertThat(statistics.get("a").getEstimatedCardinality()).isEqualTo(3);
+		Assertions.assertThat(statistics.get("faulty")).isEqualTo(TableColumnStatistics.unknown("faulty"));
+		// The grouped load, then one load per column
+		Assertions.assertThat(loads).hasSize(3);
+	}
+
+	@Test
+	public void testGetIfPresent_doesNotLoad() {
+		ColumnStatisticsCache cache = new ColumnStatisticsCache("someTable", loader, Duration.ofMinutes(1), deferred);
+
+		Assertions.assertThat(cache.getIfPresent("a")).isEmpty();
+		// Planning a query must not issue queries to the table
+		Assertions.assertThat(scheduled).isEmpty();
+		Assertions.assertThat(loads).isEmpty();
+
+		cache.getAll(Set.of("a"));
+		Assertions.assertThat(cache.getIfPresent("a")).hasValueSatisfying(s -> {
+			Assertions.assertThat(s.getRowCount()).isEqualTo(10);
+		});
+		Assertions.assertThat(loads).hasSize(1);
+	}
+
+	@Test
+	public void testGetIfPresent_refreshAhead() {
+		ColumnStatisticsCache cache = new ColumnStatisticsCache("someTable", loader, Duration.ofNanos(1), deferred);
+
+		cache.getAll(Set.of("a"));
+		Assertions.assertThat(loads).hasSize(1);
+
+		// The stale statistics are served while being refreshed asynchronously
+		Assertions.assertThat(cache.getIfPresent("a")).isPresent();
+		Assertions.assertThat(scheduled).hasSize(1);
+
+		scheduled.forEach(Runnable::run);
+		Assertions.assertThat(loads).hasSize(2);
+	}
+}
@@ -0,0 +1,111 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.filter.value.EqualsMatcher;
+import eu.solven.adhoc.filter.value.IValueMatcher;
+import eu.solven.adhoc.table.InMemoryTable;
+
+public class TestColumnStatisticsHelpers {
+	final InMemoryTable table = InMemoryTable.builder().build();
+
+	@Test
+	public void testMostGeneric_matchesInMemory() {
+		table.add(Map.of("c", "v1", "d", "d1"));
+		table.add(Map.of("c", "v1", "d", "d2"));
+		table.add(Map.of("c", "v2"));
+
+		Map<String, TableColumnStatistics> generic =
+				ColumnStatisticsHelpers.getColumnStatisticsMostGeneric(table, Set.of("c", "d"));
+
+		Assertions.assertThat(generic.get("c").getRowCount()).isEqualTo(3);
+		Assertions.assertThat(generic.get("c").getEstimatedCardinality()).isEqualTo(2);
+		Assertions.assertThat(generic.get("c").getTopValues()).containsExactly("v1", "v2");
+		Assertions.assertThat(generic.get("d").getNullCount()).isEqualTo(1);
+
+		Map<String, TableColumnStatistics> inMemory = table.getColumnStatistics(Set.of("c", "d"));
+		Assertions.assertThat(inMemory.get("c").getEstimatedCardinality()).isEqualTo(2);
+		Assertions.assertThat(inMemory.get("d").getNullCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testEstimateSlices() {
+		for (int i = 0; i < 100; i++) {
+			table.add(Map.of("c", "c" + (i % 4), "d", "d" + (i % 5)));
+		}
+
+		Assertions.assertThat(ColumnStatisticsHelpers.estimateSlices(table, List.of())).hasValue(1);
+		Assertions.assertThat(ColumnStatisticsHelpers.estimateSlices(table, List.of("c"))).hasValue(4);
+		Assertions.assertThat(ColumnStatisticsHelpers.estimateSlices(table, List.of("c", "d"))).hasValue(20);
+		Assertions.assertThat(ColumnStatisticsHelpers.estimateRows(table, List.of("c"))).hasValue(100);
+	}
+
+	@Test
+	public void testEstimateSlices_cappedByRows() {
+		for (int i = 0; i < 10; i++) {
+			table.add(Map.of("c", "c" + i, "d", "d" + i));
+		}
+
+		// Not 10*10 as there are only 10 rows
+		Assertions.assertThat(ColumnStatisticsHelpers.estimateSlices(table, List.of("c", "d"))).hasValue(10);
+	}
+
+	@Test
+	public void testToCoordinatesSample() {
+		TableColumnStatistics statistics = TableColumnStatistics.builder()
+				.column("c")
+				.rowCount(10)
+				.estimatedCardinality(3)
+				.topValue("a")
+				.topValue("b")
+				.topValue("c")
+				.exhaustive(true)
+				.build();
+
+		Assertions.assertThat(ColumnStatisticsHelpers.toCoordinatesSample(statistics, IValueMatcher.MATCH_ALL, 2))
+				.hasValueSatisfying(sample -> {
+					Assertions.assertThat(sample.getCoordinates()).containsExactly("a", "b");
+					Assertions.assertThat(sample.getEstimatedCardinality()).isEqualTo(3);
+				});
+		Assertions.assertThat(ColumnStatisticsHelpers.toCoordinatesSample(statistics, IValueMatcher.MATCH_ALL, -1))
+				.hasValueSatisfying(
+						sample -> Assertions.assertThat(sample.getCoordinates()).containsExactly("a", "b", "c"));
+
+		// Statistics does not help filtering values
+		Assertions
+				.assertThat(ColumnStatisticsHelpers.toCoordinatesSample(statistics, EqualsMatcher.matchEq("a"), 2))
+				.isEmpty();
+
+		// The top values are not exhaustive: they can not serve an unlimited sample
+		Assertions.assertThat(ColumnStatisticsHelpers
+				.toCoordinatesSample(statistics.toBuilder().exhaustive(false).build(), IValueMatcher.MATCH_ALL, -1))
+				.isEmpty();
+	}
+}
@@ -0,0 +1,58 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestFrequentValuesSketch {
+	@Test
+	public void testExhaustive() {
+		FrequentValuesSketch sketch = new FrequentValuesSketch(10);
+
+		sketch.update("a", 1);
+		sketch.update("b", 3);
+		sketch.update("c", 2);
+
+		Assertions.assertThat(sketch.isExhaustive()).isTrue();
+		Assertions.assertThat(sketch.topValues(10)).containsExactly("b", "c", "a");
+		Assertions.assertThat(sketch.topValues(2)).containsExactly("b", "c");
+	}
+
+	// Misra-Gries guarantees to keep any value more frequent than `totalWeight / (capacity + 1)`
+	@Test
+	public void testHeavyHitters() {
+		FrequentValuesSketch sketch = new FrequentValuesSketch(10);
+
+		for (int i = 0; i < 10_000; i++) {
+			sketch.update("rare" + i, 1);
+			if (i % 5 == 0) {
+				sketch.update("heavy", 1);
+				sketch.update("heavier", 3);
+			}
+		}
+
+		Assertions.assertThat(sketch.isExhaustive()).isFalse();
+		Assertions.assertThat(sketch.topValues(2)).containsExactly("heavier", "heavy");
+	}
+}
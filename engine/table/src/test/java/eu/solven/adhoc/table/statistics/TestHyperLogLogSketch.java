@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.statistics;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+
+public class TestHyperLogLogSketch {
+	@Test
+	public void testEmpty() {
+		Assertions.assertThat(new HyperLogLogSketch().estimate()).isEqualTo(0);
+	}
+
+	@Test
+	public void testSmallCardinality_duplicates() {
+		HyperLogLogSketch sketch = new HyperLogLogSketch();
+
+		for (int i = 0; i < 1000; i++) {
+			sketch.update("v" + (i % 10));
+		}
+
+		Assertions.assertThat(sketch.estimate()).isEqualTo(10);
+	}
+
+	@Test
+	public void testLargeCardinality() {
+		HyperLogLogSketch sketch = new HyperLogLogSketch();
+
+		for (int i = 0; i < 100_000; i++) {
+			sketch.update(i);
+		}
+
+		Assertions.assertThat(sketch.estimate()).isCloseTo(100_000, Percentage.withPercentage(5));
+	}
+
+	@Test
+	public void testMerge() {
+		HyperLogLogSketch left = new HyperLogLogSketch();
+		HyperLogLogSketch right = new HyperLogLogSketch();
+
+		for (int i = 0; i < 20_000; i++) {
+			left.update("k" + i);
+			right.update("k" + (i + 10_000));
+		}
+
+		left.merge(right);
+		Assertions.assertThat(left.estimate()).isCloseTo(30_000, Percentage.withPercentage(5));
+	}
+
+	@Test
+	public void testInvalidPrecision() {
+		Assertions.assertThatThrownBy(() -> new HyperLogLogSketch(2)).isInstanceOf(IllegalArgumentException.class);
+		Assertions.assertThatThrownBy(() -> new HyperLogLogSketch(12).merge(new HyperLogLogSketch(10)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
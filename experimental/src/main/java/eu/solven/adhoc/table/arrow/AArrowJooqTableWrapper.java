@@ -25,14 +25,21 @@ package eu.solven.adhoc.table.arrow;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
+import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.ipc.ArrowReader;
 import org.jooq.Record;
 import org.jooq.ResultQuery;
 import org.jooq.conf.ParamType;
 
 import eu.solven.adhoc.dataframe.row.ITabularRecord;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatch;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatchStream;
 import eu.solven.adhoc.dataframe.row.ITabularRecordFactory;
+import eu.solven.adhoc.dataframe.row.ITabularRecordStream;
+import eu.solven.adhoc.dataframe.stream.SuppliedTabularRecordBatchStream;
 import eu.solven.adhoc.engine.cancel.CancelledQueryException;
 import eu.solven.adhoc.model.query.IGroupBy;
 import eu.solven.adhoc.stream.ConsumingStream;
@@ -74,9 +81,65 @@ public abstract class AArrowJooqTableWrapper extends JooqTableWrapper {
 		}).toList());
 	}
 
+	/**
+	 * When no filter has to be applied by Adhoc over the output rows, and there is no `GROUPING SET`, the Arrow batches
+	 * are exposed as a {@link ITabularRecordBatchStream}: a reducer can then skip the per-row {@link ITabularRecord}.
+	 */
+	@Override
+	protected ITabularRecordStream wrapStream(IQueryPod queryPod,
+			IGroupBy mergedGroupBy,
+			QueryWithLeftover resultQuery,
+			Object source,
+			boolean distinctSlices) {
+		if (!isBatchable(resultQuery)) {
+			return super.wrapStream(queryPod, mergedGroupBy, resultQuery, source, distinctSlices);
+		}
+
+		IConsumingStream<ITabularRecordBatch> batches =
+				IConsumingStream.concat(resultQuery.getQueries().stream().map(oneQuery -> {
+					ITabularRecordFactory tabularRecordFactory =
+							makeTabularRecordFactory(queryPod, mergedGroupBy, resultQuery, oneQuery);
+					return toArrowBatchStream(queryPod, oneQuery, tabularRecordFactory);
+				}).toList());
+
+		return new SuppliedTabularRecordBatchStream(source, distinctSlices, withQuerySemaphore(batches));
+	}
+
+	/**
+	 * @return true if the rows can be consumed as {@link ArrowTabularRecordBatch}. Leftover filters are evaluated
+	 *         record-by-record.
+	 */
+	protected boolean isBatchable(QueryWithLeftover resultQuery) {
+		return resultQuery.getNonPushdown().isMatchAll() && resultQuery.getAggregatorToNonPushdowns().isEmpty()
+				&& resultQuery.getFields().getGroupingColumns().isEmpty();
+	}
+
 	protected IConsumingStream<ITabularRecord> toArrowStream(IQueryPod queryPod,
 			ResultQuery<Record> sqlQuery,
 			ITabularRecordFactory tabularRecordFactory) {
+		return openArrowStream(queryPod, sqlQuery, (root, s) -> {
+			for (int rowIndex = 0; rowIndex < root.getRowCount(); rowIndex++) {
+				s.accept(ArrowReflection.buildRecord(root.getFieldVectors(), rowIndex, tabularRecordFactory));
+			}
+		});
+	}
+
+	protected IConsumingStream<ITabularRecordBatch> toArrowBatchStream(IQueryPod queryPod,
+			ResultQuery<Record> sqlQuery,
+			ITabularRecordFactory tabularRecordFactory) {
+		return openArrowStream(queryPod,
+				sqlQuery,
+				(root, s) -> s.accept(new ArrowTabularRecordBatch(root, tabularRecordFactory)));
+	}
+
+	/**
+	 * 
+	 * @param onBatch
+	 *            called on each {@link VectorSchemaRoot}, which must be fully consumed before returning.
+	 */
+	protected <T> IConsumingStream<T> openArrowStream(IQueryPod queryPod,
+			ResultQuery<Record> sqlQuery,
+			BiConsumer<VectorSchemaRoot, Consumer<T>> onBatch) {
 		if (queryPod.isCancelled()) {
 			throw new CancelledQueryException("Query is cancelled before Arrow stream open");
 		}
@@ -87,14 +150,11 @@ public abstract class AArrowJooqTableWrapper extends JooqTableWrapper {
 		try {
 			Object arrowReader = openArrowReader(sql, resources);
 
-			return ConsumingStream.<ITabularRecord>builder().source(s -> {
-				ArrowPojoStreamer.forEach((ArrowReader) arrowReader, root -> {
-
-					for (int rowIndex = 0; rowIndex < root.getRowCount(); rowIndex++) {
-						s.accept(ArrowReflection.buildRecord(root.getFieldVectors(), rowIndex, tabularRecordFactory));
-					}
-				}, minSplitRows, queryPod.getExecutorService());
-
+			return ConsumingStream.<T>builder().source(s -> {
+				ArrowPojoStreamer.forEach((ArrowReader) arrowReader,
+						root -> onBatch.accept(root, s),
+						minSplitRows,
+						queryPod.getExecutorService());
 			}).closeHandler(() -> closeAll(resources)).build();
 		} catch (SQLException e) {
 			closeAll(resources);
@@ -0,0 +1,229 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.arrow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.arrow.memory.util.ArrowBufPointer;
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.collect.ImmutableList;
+
+import eu.solven.adhoc.dataframe.row.ITabularRecord;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatch;
+import eu.solven.adhoc.dataframe.row.ITabularRecordFactory;
+import eu.solven.adhoc.primitive.AdhocPrimitiveHelpers;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * A {@link ITabularRecordBatch} over an Arrow {@link VectorSchemaRoot}. Numeric aggregates are read straight from
+ * their vectors as primitives, and groupBy coordinates are converted once per distinct value of the batch.
+ * 
+ * It requires the {@link VectorSchemaRoot} not to include `GROUPING SET` indicators, as each row would then have its own
+ * columns.
+ * 
+ * @author Benoit Lacelle
+ */
+public class ArrowTabularRecordBatch implements ITabularRecordBatch {
+	// The code reserved for `null` coordinates
+	private static final int CODE_NULL = 0;
+
+	final VectorSchemaRoot root;
+	final ITabularRecordFactory tabularRecordFactory;
+
+	final List<FieldVector> vectors;
+	final ImmutableList<String> columns;
+
+	public ArrowTabularRecordBatch(VectorSchemaRoot root, ITabularRecordFactory tabularRecordFactory) {
+		if (!tabularRecordFactory.getOptionalColumns().isEmpty()) {
+			throw new IllegalArgumentException(
+					"GROUPING SET are not managed. optionalColumns=" + tabularRecordFactory.getOptionalColumns());
+		}
+		this.root = root;
+		this.tabularRecordFactory = tabularRecordFactory;
+
+		this.vectors = root.getFieldVectors();
+		this.columns = tabularRecordFactory.getColumns().asList();
+	}
+
+	@Override
+	public int getNbRows() {
+		return root.getRowCount();
+	}
+
+	@Override
+	public ImmutableList<String> getColumns() {
+		return columns;
+	}
+
+	@Override
+	public ITabularRecord getRecord(int rowIndex) {
+		return ArrowReflection.buildRecord(vectors, rowIndex, tabularRecordFactory);
+	}
+
+	@Override
+	public IAggregateColumn getAggregate(String aggregateName) {
+		int vectorIndex = tabularRecordFactory.getAggregates().indexOf(aggregateName);
+		if (vectorIndex < 0) {
+			throw new IllegalArgumentException("Unknown aggregate=%s among %s".formatted(aggregateName,
+					tabularRecordFactory.getAggregates()));
+		}
+		FieldVector vector = vectors.get(vectorIndex);
+
+		// The conversions are consistent with `AdhocPrimitiveHelpers.normalizeValueAsProvider`
+		return switch (vector) {
+		case BigIntVector bigInt -> (rowIndex, receiver) -> {
+			if (bigInt.isNull(rowIndex)) {
+				receiver.onObject(null);
+			} else {
+				receiver.onLong(bigInt.get(rowIndex));
+			}
+		};
+		case Float8Vector float8 -> (rowIndex, receiver) -> {
+			if (float8.isNull(rowIndex)) {
+				receiver.onObject(null);
+			} else {
+				receiver.onDouble(float8.get(rowIndex));
+			}
+		};
+		case Float4Vector float4 -> (rowIndex, receiver) -> {
+			if (float4.isNull(rowIndex)) {
+				receiver.onObject(null);
+			} else {
+				receiver.onDouble(float4.get(rowIndex));
+			}
+		};
+		case IntVector intVector -> (rowIndex, receiver) -> {
+			if (intVector.isNull(rowIndex)) {
+				receiver.onObject(null);
+			} else {
+				receiver.onLong(intVector.get(rowIndex));
+			}
+		};
+		default -> (rowIndex, receiver) -> {
+			Object value = ArrowReflection.convertValue(vector.getObject(rowIndex), vector);
+			AdhocPrimitiveHelpers.normalizeValueAsProvider(value).acceptReceiver(receiver);
+		};
+		};
+	}
+
+	@Override
+	public IDictionarizedColumn dictionarize(int columnIndex) {
+		FieldVector vector = vectors.get(tabularRecordFactory.getAggregates().size() + columnIndex);
+
+		int nbRows = getNbRows();
+		int[] codes = new int[nbRows];
+		List<@Nullable Object> coordinates = new ArrayList<>();
+		coordinates.add(null);
+
+		if (vector instanceof VarCharVector varChar) {
+			// Hash the UTF-8 bytes in place: only the first occurrence of each value allocates a coordinate
+			Object2IntMap<ArrowBufPointer> pointerToCode = new Object2IntOpenHashMap<>();
+			pointerToCode.defaultReturnValue(CODE_NULL);
+			ArrowBufPointer reused = new ArrowBufPointer();
+
+			for (int rowIndex = 0; rowIndex < nbRows; rowIndex++) {
+				if (!varChar.isNull(rowIndex)) {
+					varChar.getDataPointer(rowIndex, reused);
+					int code = pointerToCode.getInt(reused);
+					if (code == CODE_NULL) {
+						code = coordinates.size();
+						pointerToCode.put(varChar.getDataPointer(rowIndex), code);
+						coordinates.add(ArrowReflection.convertValue(varChar.getObject(rowIndex), varChar));
+					}
+					codes[rowIndex] = code;
+				}
+			}
+		} else if (vector instanceof BaseIntVector baseInt) {
+			Long2IntMap valueToCode = new Long2IntOpenHashMap();
+			valueToCode.defaultReturnValue(CODE_NULL);
+
+			for (int rowIndex = 0; rowIndex < nbRows; rowIndex++) {
+				if (!vector.isNull(rowIndex)) {
+					long value = baseInt.getValueAsLong(rowIndex);
+					int code = valueToCode.get(value);
+					if (code == CODE_NULL) {
+						code = coordinates.size();
+						valueToCode.put(value, code);
+						coordinates.add(ArrowReflection.convertValue(vector.getObject(rowIndex), vector));
+					}
+					codes[rowIndex] = code;
+				}
+			}
+		} else {
+			Object2IntMap<Object> valueToCode = new Object2IntOpenHashMap<>();
+			valueToCode.defaultReturnValue(CODE_NULL);
+
+			for (int rowIndex = 0; rowIndex < nbRows; rowIndex++) {
+				Object value = ArrowReflection.convertValue(vector.getObject(rowIndex), vector);
+				if (value != null) {
+					int code = valueToCode.getInt(value);
+					if (code == CODE_NULL) {
+						code = coordinates.size();
+						valueToCode.put(value, code);
+						coordinates.add(value);
+					}
+					codes[rowIndex] = code;
+				}
+			}
+		}
+
+		return new ArrayDictionarizedColumn(codes, coordinates);
+	}
+
+	/**
+	 * A {@link IDictionarizedColumn} where codes are computed eagerly.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	protected record ArrayDictionarizedColumn(int[] codes, List<@Nullable Object> coordinates)
+			implements IDictionarizedColumn {
+
+		@Override
+		public int getCode(int rowIndex) {
+			return codes[rowIndex];
+		}
+
+		@Override
+		public @Nullable Object getCoordinate(int code) {
+			return coordinates.get(code);
+		}
+
+		@Override
+		public int getNbCodes() {
+			return coordinates.size();
+		}
+	}
+}
@@ -27,10 +27,13 @@ import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
@@ -49,11 +52,14 @@ import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.Schema;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
 import com.google.common.primitives.Ints;
 
 import eu.solven.adhoc.dataframe.tabular.ColumnarTabularView;
 import eu.solven.adhoc.dataframe.tabular.IReadableTabularView;
 import eu.solven.adhoc.dataframe.tabular.ITabularViewArrowSerializer;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -62,9 +68,8 @@ import lombok.extern.slf4j.Slf4j;
  * client (e.g. {@code apache-arrow} JS library, PyArrow, DuckDB).
  *
  * <p>
- * When the input is a {@link ColumnarTabularView} the column lists are used directly, avoiding the per-row map
- * transposition that would be required for a row-oriented view. For all other view types the data is loaded into a
- * {@link ColumnarTabularView} first.
+ * When the input is a {@link ColumnarTabularView} the column lists are used directly. For all other view types, each
+ * batch is filled directly from the view rows (after a first pass inferring the schema), without copying the view.
  *
  * <p>
  * Coordinate columns appear first in the Arrow schema, followed by measure (aggregate) columns. Column types are
@@ -85,36 +90,160 @@ import lombok.extern.slf4j.Slf4j;
  * Registered as a {@link java.util.ServiceLoader} provider so that modules without a compile-time Arrow dependency can
  * discover this implementation at runtime.
  *
+ * <p>
+ * Rows are written as a sequence of record batches of at most {@link #getBatchSize()} rows, re-using the same
+ * {@link VectorSchemaRoot} buffers. This bounds the off-heap footprint to a single batch (instead of the whole view),
+ * and lets the client start decoding before the last row is written.
+ *
  * @author Benoit Lacelle
  */
 @Slf4j
 public class TabularViewArrowSerializer implements ITabularViewArrowSerializer {
 
+	/**
+	 * Default number of rows per Arrow record batch.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
+	@Getter
+	final int batchSize;
+
+	/**
+	 * Used by {@link java.util.ServiceLoader}.
+	 */
+	public TabularViewArrowSerializer() {
+		this(DEFAULT_BATCH_SIZE);
+	}
+
+	public TabularViewArrowSerializer(int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize must be strictly positive. Was %s".formatted(batchSize));
+		}
+		this.batchSize = batchSize;
+	}
+
 	@Override
 	public void serialize(IReadableTabularView view, WritableByteChannel channel) throws IOException {
-		ColumnarTabularView columnar = ColumnarTabularView.load(view);
+		if (view instanceof ColumnarTabularView columnar) {
+			serializeColumnar(columnar, channel);
+		} else {
+			serializeRows(view, channel);
+		}
+	}
 
+	protected void serializeColumnar(ColumnarTabularView columnar, WritableByteChannel channel) throws IOException {
 		Map<String, List<?>> coordCols = columnar.getCoordinateColumns();
 		Map<String, List<?>> aggCols = columnar.getAggregateColumns();
 
 		Map<String, ArrowType> coordTypes = inferTypes(coordCols);
 		Map<String, ArrowType> aggTypes = inferTypes(aggCols);
 
-		List<Field> fields = buildFields(coordCols.keySet(), coordTypes, aggCols.keySet(), aggTypes);
-		Schema schema = new Schema(fields);
+		Schema schema = new Schema(buildFields(coordCols.keySet(), coordTypes, aggCols.keySet(), aggTypes));
 
 		int rowCount = Ints.checkedCast(columnar.size());
+		AtomicInteger fromRow = new AtomicInteger();
+
+		writeBatches(schema, channel, new IBatchFiller() {
+			@Override
+			public boolean hasNext() {
+				return fromRow.get() < rowCount;
+			}
+
+			@Override
+			public int fillBatch(VectorSchemaRoot root) {
+				int batchRowCount = Math.min(batchSize, rowCount - fromRow.get());
+				populateVectors(root, coordCols, aggCols, fromRow.get(), batchRowCount);
+				fromRow.addAndGet(batchRowCount);
+				return batchRowCount;
+			}
+		});
+	}
+
+	/**
+	 * Rows are read twice from the view: a first pass infers the schema, and a second pass fills each batch directly
+	 * from the view iterator. The view is never copied.
+	 */
+	protected void serializeRows(IReadableTabularView view, WritableByteChannel channel) throws IOException {
+		// A column missing from some rows is null in these rows
+		Map<String, Class<?>> coordClasses = new LinkedHashMap<>();
+		Map<String, Class<?>> aggClasses = new LinkedHashMap<>();
+		view.acceptScanner(slice -> {
+			slice.asAdhocMap()
+					.forEach((column, value) -> coordClasses.put(column, inferClass(coordClasses.get(column), value)));
+
+			return o -> ((Map<String, ?>) o)
+					.forEach((column, value) -> aggClasses.put(column, inferClass(aggClasses.get(column), value)));
+		});
+
+		List<String> coordKeys = ImmutableList.copyOf(coordClasses.keySet());
+		List<String> aggKeys = ImmutableList.copyOf(aggClasses.keySet());
 
+		Schema schema = new Schema(buildFields(coordClasses.keySet(),
+				Maps.transformValues(coordClasses, this::arrowTypeFor),
+				aggClasses.keySet(),
+				Maps.transformValues(aggClasses, this::arrowTypeFor)));
+
+		try (Stream<Map.Entry<Map<String, ?>, Map<String, ?>>> rows = view
+				.stream(slice -> values -> Map.<Map<String, ?>, Map<String, ?>>entry(slice.asAdhocMap(), values))) {
+			Iterator<Map.Entry<Map<String, ?>, Map<String, ?>>> rowsIterator = rows.iterator();
+
+			writeBatches(schema, channel, new IBatchFiller() {
+				@Override
+				public boolean hasNext() {
+					return rowsIterator.hasNext();
+				}
+
+				@Override
+				public int fillBatch(VectorSchemaRoot root) {
+					int batchRowCount = 0;
+					while (batchRowCount < batchSize && rowsIterator.hasNext()) {
+						Map.Entry<Map<String, ?>, Map<String, ?>> row = rowsIterator.next();
+
+						for (int i = 0; i < coordKeys.size(); i++) {
+							setVectorValue(root.getVector(i), batchRowCount, row.getKey().get(coordKeys.get(i)));
+						}
+						for (int i = 0; i < aggKeys.size(); i++) {
+							setVectorValue(root.getVector(coordKeys.size() + i),
+									batchRowCount,
+									row.getValue().get(aggKeys.get(i)));
+						}
+						batchRowCount++;
+					}
+					return batchRowCount;
+				}
+			});
+		}
+	}
+
+	/**
+	 * Fills the {@link VectorSchemaRoot} with the next rows, one batch at a time.
+	 */
+	protected interface IBatchFiller {
+		boolean hasNext();
+
+		/**
+		 * @return the number of rows written in the batch, at most `batchSize`.
+		 */
+		int fillBatch(VectorSchemaRoot root);
+	}
+
+	protected void writeBatches(Schema schema, WritableByteChannel channel, IBatchFiller batchFiller)
+			throws IOException {
 		try (BufferAllocator allocator = new RootAllocator();
 				VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
 				ArrowStreamWriter writer = new ArrowStreamWriter(root, null, channel)) {
 
-			root.allocateNew();
-			populateVectors(root, coordCols, aggCols, rowCount);
-			root.setRowCount(rowCount);
-
 			writer.start();
-			writer.writeBatch();
+
+			do {
+				// allocateNew releases the buffers of the previous batch
+				root.allocateNew();
+				int batchRowCount = batchFiller.fillBatch(root);
+				root.setRowCount(batchRowCount);
+				writer.writeBatch();
+				// An empty view still writes a single empty batch
+			} while (batchFiller.hasNext());
+
 			writer.end();
 		}
 	}
@@ -136,21 +265,25 @@ public class TabularViewArrowSerializer implements ITabularViewArrowSerializer {
 	protected void populateVectors(VectorSchemaRoot root,
 			Map<String, List<?>> coordCols,
 			Map<String, List<?>> aggCols,
+			int fromRow,
 			int rowCount) {
 		int fieldIndex = 0;
 		for (Map.Entry<String, List<?>> entry : coordCols.entrySet()) {
-			fillVector(root.getVector(fieldIndex), entry.getValue(), rowCount);
+			fillVector(root.getVector(fieldIndex), entry.getValue(), fromRow, rowCount);
 			fieldIndex++;
 		}
 		for (Map.Entry<String, List<?>> entry : aggCols.entrySet()) {
-			fillVector(root.getVector(fieldIndex), entry.getValue(), rowCount);
+			fillVector(root.getVector(fieldIndex), entry.getValue(), fromRow, rowCount);
 			fieldIndex++;
 		}
 	}
 
-	protected void fillVector(FieldVector vector, List<?> columnValues, int rowCount) {
+	/**
+	 * Fills {@code vector} from index 0 with {@code columnValues[fromRow, fromRow + rowCount)}.
+	 */
+	protected void fillVector(FieldVector vector, List<?> columnValues, int fromRow, int rowCount) {
 		for (int row = 0; row < rowCount; row++) {
-			setVectorValue(vector, row, columnValues.get(row));
+			setVectorValue(vector, row, columnValues.get(fromRow + row));
 		}
 	}
 
@@ -165,18 +298,30 @@ public class TabularViewArrowSerializer implements ITabularViewArrowSerializer {
 	protected ArrowType inferColumnType(List<?> values) {
 		Class<?> inferredClass = null;
 		for (Object val : values) {
-			if (val == null) {
-				continue;
-			}
-			if (inferredClass == null) {
-				inferredClass = val.getClass();
-			} else if (!inferredClass.equals(val.getClass())) {
-				return ArrowType.Utf8.INSTANCE;
-			}
+			inferredClass = inferClass(inferredClass, val);
 		}
 		return arrowTypeFor(inferredClass);
 	}
 
+	/**
+	 * 
+	 * @param inferredClass
+	 *            the class inferred from previous values. null if they were all null.
+	 * @param value
+	 * @return the class inferred once given value is considered. {@link Object} on mixed types, mapped to Utf8.
+	 */
+	protected Class<?> inferClass(Class<?> inferredClass, Object value) {
+		if (value == null) {
+			return inferredClass;
+		} else if (inferredClass == null) {
+			return value.getClass();
+		} else if (inferredClass.equals(value.getClass())) {
+			return inferredClass;
+		} else {
+			return Object.class;
+		}
+	}
+
 	@SuppressWarnings("checkstyle:MagicNumber")
 	protected ArrowType arrowTypeFor(Class<?> javaType) {
 		if (javaType == null) {
@@ -0,0 +1,194 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.arrow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.dataframe.row.AggregatedRecordFields;
+import eu.solven.adhoc.dataframe.row.ITabularRecord;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatch.IAggregateColumn;
+import eu.solven.adhoc.dataframe.row.ITabularRecordBatch.IDictionarizedColumn;
+import eu.solven.adhoc.dataframe.row.TabularRecordFactory;
+import eu.solven.adhoc.map.factory.ISliceFactory;
+import eu.solven.adhoc.map.factory.RowSliceFactory;
+import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.primitive.IValueProvider;
+import eu.solven.adhoc.primitive.IValueReceiver;
+
+public class TestArrowTabularRecordBatch {
+	BufferAllocator allocator;
+	VectorSchemaRoot root;
+
+	final ISliceFactory sliceFactory = RowSliceFactory.builder().build();
+
+	final TabularRecordFactory factory = TabularRecordFactory.builder()
+			.fields(AggregatedRecordFields.builder().aggregate("k").aggregate("d").column("ccy").column("n").build())
+			.sliceFactory(sliceFactory)
+			.globalGroupBy(GroupByColumns.named("ccy", "n"))
+			.build();
+
+	@BeforeEach
+	public void prepareRoot() {
+		allocator = new RootAllocator();
+
+		BigIntVector k = new BigIntVector("k", allocator);
+		Float8Vector d = new Float8Vector("d", allocator);
+		VarCharVector ccy = new VarCharVector("ccy", allocator);
+		IntVector n = new IntVector("n", allocator);
+
+		k.allocateNew(4);
+		d.allocateNew(4);
+		ccy.allocateNew(4);
+		n.allocateNew(4);
+
+		k.set(0, 10);
+		k.setNull(1);
+		k.set(2, 30);
+		k.set(3, 40);
+
+		d.set(0, 1.5D);
+		d.set(1, 2.5D);
+		d.setNull(2);
+		d.set(3, 4.5D);
+
+		ccy.setSafe(0, "EUR".getBytes(StandardCharsets.UTF_8));
+		ccy.setSafe(1, "USD".getBytes(StandardCharsets.UTF_8));
+		ccy.setSafe(2, "EUR".getBytes(StandardCharsets.UTF_8));
+		ccy.setNull(3);
+
+		n.set(0, 1);
+		n.set(1, 2);
+		n.set(2, 1);
+		n.set(3, 3);
+
+		List<FieldVector> vectors = List.of(k, d, ccy, n);
+		vectors.forEach(v -> v.setValueCount(4));
+		root = new VectorSchemaRoot(vectors);
+	}
+
+	@AfterEach
+	public void closeRoot() {
+		root.close();
+		allocator.close();
+	}
+
+	@Test
+	public void testDictionarize() {
+		ArrowTabularRecordBatch batch = new ArrowTabularRecordBatch(root, factory);
+
+		Assertions.assertThat(batch.getNbRows()).isEqualTo(4);
+		Assertions.assertThat(batch.getColumns()).containsExactly("ccy", "n");
+
+		IDictionarizedColumn ccy = batch.dictionarize(0);
+		Assertions.assertThat(ccy.getNbCodes()).isEqualTo(3);
+		Assertions.assertThat(ccy.getCode(0)).isEqualTo(ccy.getCode(2)).isNotEqualTo(ccy.getCode(1));
+		Assertions.assertThat(ccy.getCoordinate(ccy.getCode(3))).isNull();
+
+		IDictionarizedColumn n = batch.dictionarize(1);
+		Assertions.assertThat(n.getNbCodes()).isEqualTo(4);
+		Assertions.assertThat(n.getCode(0)).isEqualTo(n.getCode(2));
+
+		// The slices are the same as given by the row-based path
+		for (int rowIndex = 0; rowIndex < batch.getNbRows(); rowIndex++) {
+			ISlice slice = sliceFactory.newMapBuilder(batch.getColumns())
+					.append(ccy.getCoordinate(ccy.getCode(rowIndex)))
+					.append(n.getCoordinate(n.getCode(rowIndex)))
+					.build()
+					.asSlice();
+
+			ITabularRecord record = batch.getRecord(rowIndex);
+			Assertions.assertThat(slice).isEqualTo(record.asSlice());
+		}
+	}
+
+	@Test
+	public void testAggregates() {
+		ArrowTabularRecordBatch batch = new ArrowTabularRecordBatch(root, factory);
+
+		for (String aggregate : List.of("k", "d")) {
+			IAggregateColumn column = batch.getAggregate(aggregate);
+
+			for (int rowIndex = 0; rowIndex < batch.getNbRows(); rowIndex++) {
+				List<Object> received = new ArrayList<>();
+				column.acceptReceiver(rowIndex, received::add);
+
+				Object expected = IValueProvider.getValue(batch.getRecord(rowIndex).onAggregate(aggregate));
+				Assertions.assertThat(received).hasSize(1).element(0).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	public void testAggregates_primitive() {
+		ArrowTabularRecordBatch batch = new ArrowTabularRecordBatch(root, factory);
+
+		List<String> calls = new ArrayList<>();
+		IValueReceiver receiver = new IValueReceiver() {
+
+			@Override
+			public void onLong(long v) {
+				calls.add("long:" + v);
+			}
+
+			@Override
+			public void onDouble(double v) {
+				calls.add("double:" + v);
+			}
+
+			@Override
+			public void onObject(Object v) {
+				calls.add("object:" + v);
+			}
+		};
+
+		batch.getAggregate("k").acceptReceiver(0, receiver);
+		batch.getAggregate("k").acceptReceiver(1, receiver);
+		batch.getAggregate("d").acceptReceiver(0, receiver);
+
+		Assertions.assertThat(calls).containsExactly("long:10", "object:null", "double:1.5");
+	}
+
+	@Test
+	public void testUnknownAggregate() {
+		ArrowTabularRecordBatch batch = new ArrowTabularRecordBatch(root, factory);
+
+		Assertions.assertThatThrownBy(() -> batch.getAggregate("unknown"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
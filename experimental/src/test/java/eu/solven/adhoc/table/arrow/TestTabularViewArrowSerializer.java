@@ -27,6 +27,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.channels.Channels;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -252,6 +253,21 @@ public class TestTabularViewArrowSerializer {
 		}
 	}
 
+	@Test
+	void columnMissingFromFirstRow() throws IOException {
+		ListBasedTabularView view = ListBasedTabularView.builder()
+				.coordinates(ImmutableList.of(Map.of("k", "a"), Map.of("k", "b")))
+				.values(ImmutableList.of(Map.of("revenue", 10L), Map.of("revenue", 20L, "cost", 3L)))
+				.build();
+		byte[] bytes = roundTrip(view);
+
+		try (BufferAllocator allocator = new RootAllocator(); VectorSchemaRoot root = readBatch(bytes, allocator)) {
+			BigIntVector cost = (BigIntVector) root.getVector("cost");
+			Assertions.assertThat(cost.isNull(0)).isTrue();
+			Assertions.assertThat(cost.get(1)).isEqualTo(3L);
+		}
+	}
+
 	// -------------------------------------------------------------------------
 	// Mixed types fall back to Utf8
 	// -------------------------------------------------------------------------
@@ -318,4 +334,44 @@ public class TestTabularViewArrowSerializer {
 			Assertions.assertThat(fieldNames.subList(2, 4)).containsExactly("revenue", "cost");
 		}
 	}
+
+	// -------------------------------------------------------------------------
+	// Chunked record batches
+	// -------------------------------------------------------------------------
+
+	@Test
+	void multipleBatches() throws IOException {
+		ListBasedTabularView view = ListBasedTabularView.builder().build();
+		for (long i = 0; i < 5; i++) {
+			view.getCoordinates().add(Map.of("k", "k" + i));
+			view.getValues().add(Map.of("v", i));
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new TabularViewArrowSerializer(2).serialize(view, Channels.newChannel(out));
+
+		List<Integer> batchSizes = new ArrayList<>();
+		List<Long> values = new ArrayList<>();
+		try (BufferAllocator allocator = new RootAllocator();
+				ArrowStreamReader reader =
+						new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray()), allocator)) {
+			VectorSchemaRoot root = reader.getVectorSchemaRoot();
+			while (reader.loadNextBatch()) {
+				batchSizes.add(root.getRowCount());
+				BigIntVector v = (BigIntVector) root.getVector("v");
+				for (int row = 0; row < root.getRowCount(); row++) {
+					values.add(v.get(row));
+				}
+			}
+		}
+
+		Assertions.assertThat(batchSizes).containsExactly(2, 2, 1);
+		Assertions.assertThat(values).containsExactly(0L, 1L, 2L, 3L, 4L);
+	}
+
+	@Test
+	void invalidBatchSize() {
+		Assertions.assertThatThrownBy(() -> new TabularViewArrowSerializer(0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
 }
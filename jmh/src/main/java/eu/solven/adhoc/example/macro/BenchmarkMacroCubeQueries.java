@@ -0,0 +1,152 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.example.macro;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.common.base.Splitter;
+
+import eu.solven.adhoc.cube.ICubeWrapper;
+import eu.solven.adhoc.dataframe.tabular.ITabularView;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.engine.step.ICubeQuery;
+import eu.solven.adhoc.options.StandardQueryOptions;
+
+/**
+ * End-to-end macro-benchmark: executes each query of {@link MacroBenchmarkCatalog} through
+ * {@link ICubeWrapper#execute(ICubeQuery)}, over realistic data (TPC-H and WorldCupPlayers in DuckDB), under each
+ * execution mode.
+ *
+ * <p>
+ * {@link Mode#SampleTime} reports latency percentiles, {@link GCProfiler} reports the allocation rate
+ * ({@code gc.alloc.rate.norm}) and {@link PeakHeapProfiler} the peak heap. {@link #main(String[])} writes the results
+ * as JSON, and compares them with a baseline through {@link MacroBenchmarkBaseline}:
+ *
+ * <pre>
+ * java -cp jmh/target/benchmarks.jar -Dadhoc.macro.result=current.json -Dadhoc.macro.baseline=baseline.json \
+ *     eu.solven.adhoc.example.macro.BenchmarkMacroCubeQueries
+ * </pre>
+ *
+ * @author Benoit Lacelle
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.SampleTime)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+public class BenchmarkMacroCubeQueries {
+	public static final String P_RESULT = "adhoc.macro.result";
+	public static final String P_BASELINE = "adhoc.macro.baseline";
+	public static final String P_TOLERANCE = "adhoc.macro.tolerance";
+
+	// TPC-H scale factor: 0.01 is ~60K lineitems, 1 is ~6M lineitems
+	@Param({ "0.01" })
+	double tpchScaleFactor;
+
+	@Param({ MacroBenchmarkCatalog.TPCH_GRAND_TOTAL,
+			MacroBenchmarkCatalog.TPCH_BY_NATION_SHIPMODE,
+			MacroBenchmarkCatalog.TPCH_COMBINATOR,
+			MacroBenchmarkCatalog.TPCH_SHIFTOR,
+			MacroBenchmarkCatalog.TPCH_PARTITIONOR,
+			MacroBenchmarkCatalog.TPCH_MANY_TO_MANY,
+			MacroBenchmarkCatalog.WORLDCUP_SHIFTOR,
+			MacroBenchmarkCatalog.WORLDCUP_PARTITIONOR,
+			MacroBenchmarkCatalog.WORLDCUP_FILTRATOR,
+			MacroBenchmarkCatalog.COMPOSITE_BY_CUBE })
+	String queryName;
+
+	// `+`-separated StandardQueryOptions. PARTITIONED requires CONCURRENT, as partitions are consumed by parallel tasks
+	@Param({ "SEQUENTIAL", "CONCURRENT", "CONCURRENT+PARTITIONED" })
+	String executionMode;
+
+	ICubeWrapper cube;
+	ICubeQuery query;
+
+	@Setup
+	public void setup() {
+		Map<String, ICubeWrapper> cubes =
+				MacroBenchmarkCubes.builder().tpchScaleFactor(tpchScaleFactor).build().makeCubes();
+
+		MacroBenchmarkQuery macroQuery = MacroBenchmarkCatalog.getQuery(queryName);
+		cube = cubes.get(macroQuery.getCube());
+		query = withExecutionMode(macroQuery.getQuery(), executionMode);
+	}
+
+	/**
+	 * @param executionMode
+	 *            a `+`-separated list of {@link StandardQueryOptions}, like `CONCURRENT+PARTITIONED`.
+	 * @return the query with given execution options, and without cache.
+	 */
+	public static ICubeQuery withExecutionMode(ICubeQuery query, String executionMode) {
+		CubeQuery.CubeQueryBuilder builder = CubeQuery.edit(query);
+		Splitter.on('+').trimResults().split(executionMode).forEach(o -> builder.option(StandardQueryOptions.valueOf(o)));
+		// Measure the actual computation, not a cache hit from a previous invocation
+		return builder.option(StandardQueryOptions.NO_CACHE).build();
+	}
+
+	@Benchmark
+	public ITabularView execute() {
+		return cube.execute(query);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException {
+		Path resultPath = Path.of(System.getProperty(P_RESULT, "macro-benchmark.json"));
+
+		Options opt = new OptionsBuilder().include(BenchmarkMacroCubeQueries.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.addProfiler(PeakHeapProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result(resultPath.toString())
+				.build();
+		new Runner(opt).run();
+
+		String baseline = System.getProperty(P_BASELINE);
+		if (baseline != null) {
+			double tolerance = Double.parseDouble(System.getProperty(P_TOLERANCE, "0.1"));
+			MacroBenchmarkBaseline.main(
+					new String[] { resultPath.toString(), baseline, Double.toString(tolerance) });
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.example.macro;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.common.collect.ImmutableMap;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH JSON result files (e.g. produced by {@link BenchmarkMacroCubeQueries}), and reports the metrics
+ * which regressed by more than a tolerance.
+ *
+ * <p>
+ * Compared metrics are the latency percentiles ({@code p0.50}, {@code p0.90}, {@code p0.99}), the normalized
+ * allocation ({@code gc.alloc.rate.norm}, bytes per operation) and the peak heap ({@code heap.peak}). For all of them,
+ * lower is better.
+ *
+ * @author Benoit Lacelle
+ */
+@Slf4j
+public class MacroBenchmarkBaseline {
+	// JMH prefixes secondary metrics with a middle dot (e.g. `·gc.alloc.rate.norm`)
+	private static final String JMH_SECONDARY_PREFIX = "·";
+
+	// JMH percentile keys to metric names
+	private static final Map<String, String> PERCENTILES =
+			ImmutableMap.of("50.0", "p0.50", "90.0", "p0.90", "99.0", "p0.99");
+	private static final List<String> SECONDARY_METRICS = List.of("gc.alloc.rate.norm", PeakHeapProfiler.LABEL);
+
+	final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * A metric which is worse in the current run than in the baseline.
+	 */
+	@Value
+	@Builder
+	public static class Regression {
+		String benchmark;
+		String metric;
+		double baseline;
+		double current;
+
+		public double getRatio() {
+			return current / baseline;
+		}
+	}
+
+	/**
+	 * @param jmhJson
+	 *            a JMH result file, in JSON format
+	 * @return for each benchmark (including its params), the compared metrics
+	 */
+	public Map<String, Map<String, Double>> loadMetrics(Path jmhJson) throws IOException {
+		JsonNode root = objectMapper.readTree(Files.readString(jmhJson));
+
+		Map<String, Map<String, Double>> benchmarkToMetrics = new TreeMap<>();
+		for (JsonNode run : root.values()) {
+			Map<String, Double> metrics = new LinkedHashMap<>();
+
+			JsonNode primary = run.path("primaryMetric");
+			JsonNode percentiles = primary.path("scorePercentiles");
+			if (percentiles.isMissingNode()) {
+				metrics.put("score", primary.path("score").asDouble());
+			} else {
+				PERCENTILES.forEach((jmhKey, metric) -> {
+					JsonNode percentile = percentiles.path(jmhKey);
+					if (percentile.isNumber()) {
+						metrics.put(metric, percentile.asDouble());
+					}
+				});
+			}
+
+			run.path("secondaryMetrics").properties().forEach(e -> {
+				String metric = e.getKey();
+				if (metric.startsWith(JMH_SECONDARY_PREFIX)) {
+					metric = metric.substring(JMH_SECONDARY_PREFIX.length());
+				}
+				if (SECONDARY_METRICS.contains(metric)) {
+					metrics.put(metric, e.getValue().path("score").asDouble());
+				}
+			});
+
+			benchmarkToMetrics.put(makeKey(run), metrics);
+		}
+
+		return benchmarkToMetrics;
+	}
+
+	protected String makeKey(JsonNode run) {
+		StringBuilder key = new StringBuilder(run.path("benchmark").asString());
+
+		// Sorted for a stable key, whatever the order of `@Param`
+		Map<String, String> params = new TreeMap<>();
+		run.path("params").properties().forEach(e -> params.put(e.getKey(), e.getValue().asString()));
+		if (!params.isEmpty()) {
+			key.append(params);
+		}
+
+		return key.toString();
+	}
+
+	/**
+	 * @param current
+	 * @param baseline
+	 * @param tolerance
+	 *            the accepted relative degradation. `0.1` accepts a metric to be 10% worse than its baseline.
+	 * @return the metrics of benchmarks present in both runs, which degraded by more than the tolerance.
+	 */
+	public List<Regression> compare(Map<String, Map<String, Double>> current,
+			Map<String, Map<String, Double>> baseline,
+			double tolerance) {
+		List<Regression> regressions = new ArrayList<>();
+
+		current.forEach((benchmark, currentMetrics) -> {
+			Map<String, Double> baselineMetrics = baseline.get(benchmark);
+			if (baselineMetrics == null) {
+				log.info("No baseline for {}", benchmark);
+				return;
+			}
+
+			currentMetrics.forEach((metric, currentValue) -> {
+				Double baselineValue = baselineMetrics.get(metric);
+				if (baselineValue == null || baselineValue <= 0) {
+					return;
+				}
+
+				if (currentValue > baselineValue * (1 + tolerance)) {
+					regressions.add(Regression.builder()
+							.benchmark(benchmark)
+							.metric(metric)
+							.baseline(baselineValue)
+							.current(currentValue)
+							.build());
+				}
+			});
+		});
+
+		return regressions;
+	}
+
+	/**
+	 * @param args
+	 *            the current JMH JSON, the baseline JMH JSON, and optionally the tolerance (default is `0.1`).
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			throw new IllegalArgumentException("Expected args: <current.json> <baseline.json> [tolerance]");
+		}
+		double tolerance;
+		if (args.length >= 3) {
+			tolerance = Double.parseDouble(args[2]);
+		} else {
+			tolerance = 0.1D;
+		}
+
+		MacroBenchmarkBaseline comparator = new MacroBenchmarkBaseline();
+		List<Regression> regressions = comparator.compare(comparator.loadMetrics(Path.of(args[0])),
+				comparator.loadMetrics(Path.of(args[1])),
+				tolerance);
+
+		if (regressions.isEmpty()) {
+			log.info("No regression (tolerance={})", tolerance);
+		} else {
+			regressions.forEach(r -> log.warn("Regression on {} {}: {} -> {} (x{})",
+					r.getBenchmark(),
+					r.getMetric(),
+					r.getBaseline(),
+					r.getCurrent(),
+					"%.2f".formatted(r.getRatio())));
+			// Non-zero exit code to fail a CI step
+			System.exit(1);
+		}
+	}
+}
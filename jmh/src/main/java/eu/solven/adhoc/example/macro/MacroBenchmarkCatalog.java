@@ -0,0 +1,115 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.example.macro;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.ImmutableList;
+
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.table.composite.CompositeCubesTableWrapper;
+import lombok.experimental.UtilityClass;
+
+/**
+ * The fixed catalog of queries of the macro-benchmark. Each entry exercises a family of measures (plain
+ * {@link eu.solven.adhoc.model.measure.Aggregator}s, Combinators, Shiftors, Partitionors, many-to-many Dispatchors) or
+ * a composite cube.
+ *
+ * <p>
+ * Names are stable: they are the keys used to compare a run against a baseline.
+ *
+ * @author Benoit Lacelle
+ */
+@UtilityClass
+public class MacroBenchmarkCatalog {
+	public static final String TPCH_GRAND_TOTAL = "tpch.aggregators.grandTotal";
+	public static final String TPCH_BY_NATION_SHIPMODE = "tpch.aggregators.byNationShipmode";
+	public static final String TPCH_COMBINATOR = "tpch.combinator.bySegment";
+	public static final String TPCH_SHIFTOR = "tpch.shiftor.byRegion";
+	public static final String TPCH_PARTITIONOR = "tpch.partitionor.byRegion";
+	public static final String TPCH_MANY_TO_MANY = "tpch.manyToMany.bySegmentGroup";
+	public static final String WORLDCUP_SHIFTOR = "worldcup.shiftor.byYear";
+	public static final String WORLDCUP_PARTITIONOR = "worldcup.partitionor.byYear";
+	public static final String WORLDCUP_FILTRATOR = "worldcup.filtrator.byYear";
+	public static final String COMPOSITE_BY_CUBE = "composite.byCube";
+
+	private static final List<MacroBenchmarkQuery> QUERIES = ImmutableList.<MacroBenchmarkQuery>builder()
+			.add(tpch(TPCH_GRAND_TOTAL, CubeQuery.builder().measure("count(*)", "revenue", "quantity", "avg_discount")))
+			.add(tpch(TPCH_BY_NATION_SHIPMODE,
+					CubeQuery.builder().measure("revenue", "quantity").groupByAlso("n_name", "l_shipmode")))
+			.add(tpch(TPCH_COMBINATOR,
+					CubeQuery.builder().measure("revenue_per_quantity").groupByAlso("c_mktsegment")))
+			.add(tpch(TPCH_SHIFTOR, CubeQuery.builder().measure("revenue", "revenue.AUTOMOBILE").groupByAlso("r_name")))
+			.add(tpch(TPCH_PARTITIONOR,
+					CubeQuery.builder().measure("order_count", "customer_count").groupByAlso("r_name")))
+			.add(tpch(TPCH_MANY_TO_MANY,
+					CubeQuery.builder()
+							.measure("revenue.segment_groups")
+							.groupByAlso(MacroBenchmarkCubes.C_SEGMENT_GROUP)))
+			.add(worldCup(WORLDCUP_SHIFTOR,
+					CubeQuery.builder()
+							.measure("match_count", "match_count.previousWorldCup", "match_count.sinceInception2")
+							.groupByAlso("Year")))
+			.add(worldCup(WORLDCUP_PARTITIONOR, CubeQuery.builder().measure("coach_score").groupByAlso("Year")))
+			.add(worldCup(WORLDCUP_FILTRATOR,
+					CubeQuery.builder().measure("goal_count", "redcard_count").groupByAlso("Year")))
+			.add(MacroBenchmarkQuery.builder()
+					.name(COMPOSITE_BY_CUBE)
+					.cube(MacroBenchmarkCubes.CUBE_COMPOSITE)
+					.query(CubeQuery.builder()
+							.measure("count(*)")
+							.groupByAlso(CompositeCubesTableWrapper.DEFAULT_SLICER)
+							.build())
+					.build())
+			.build();
+
+	private static final Map<String, MacroBenchmarkQuery> NAME_TO_QUERY =
+			QUERIES.stream().collect(Collectors.toMap(MacroBenchmarkQuery::getName, Function.identity()));
+
+	private static MacroBenchmarkQuery tpch(String name, CubeQuery.CubeQueryBuilder query) {
+		return MacroBenchmarkQuery.builder().name(name).cube(MacroBenchmarkCubes.CUBE_TPCH).query(query.build()).build();
+	}
+
+	private static MacroBenchmarkQuery worldCup(String name, CubeQuery.CubeQueryBuilder query) {
+		return MacroBenchmarkQuery.builder()
+				.name(name)
+				.cube(MacroBenchmarkCubes.CUBE_WORLDCUP)
+				.query(query.build())
+				.build();
+	}
+
+	public static List<MacroBenchmarkQuery> getQueries() {
+		return QUERIES;
+	}
+
+	public static MacroBenchmarkQuery getQuery(String name) {
+		MacroBenchmarkQuery query = NAME_TO_QUERY.get(name);
+		if (query == null) {
+			throw new IllegalArgumentException("No query named `%s`. Known: %s".formatted(name, NAME_TO_QUERY.keySet()));
+		}
+		return query;
+	}
+}
@@ -0,0 +1,177 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.example.macro;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.env.StandardEnvironment;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import eu.solven.adhoc.beta.schema.AdhocSchema;
+import eu.solven.adhoc.cube.ICubeWrapper;
+import eu.solven.adhoc.engine.CubeQueryEngine;
+import eu.solven.adhoc.example.tpch.TpchSchema;
+import eu.solven.adhoc.example.worldcup.WorldCupPlayersSchema;
+import eu.solven.adhoc.factories.AdhocFactories;
+import eu.solven.adhoc.filter.editor.SimpleFilterEditor;
+import eu.solven.adhoc.measure.decomposition.IDecomposition;
+import eu.solven.adhoc.measure.decomposition.many2many.ManyToMany1DDecomposition;
+import eu.solven.adhoc.measure.decomposition.many2many.ManyToMany1DInMemoryDefinition;
+import eu.solven.adhoc.measure.forest.IMeasureForest;
+import eu.solven.adhoc.measure.forest.MeasureForest;
+import eu.solven.adhoc.measure.operator.IOperatorFactory;
+import eu.solven.adhoc.measure.operator.StandardOperatorFactory;
+import eu.solven.adhoc.measure.sum.DivideCombination;
+import eu.solven.adhoc.model.measure.Aggregator;
+import eu.solven.adhoc.model.measure.Combinator;
+import eu.solven.adhoc.model.measure.Dispatchor;
+import eu.solven.adhoc.model.measure.Shiftor;
+import eu.solven.adhoc.table.composite.CompositeCubesTableWrapper;
+import eu.solven.adhoc.table.sql.duckdb.DuckDBHelper;
+import lombok.Builder;
+import lombok.Builder.Default;
+
+/**
+ * Builds the cubes queried by the macro-benchmark: a TPC-H cube (DuckDB {@code dbgen} at a configurable scale factor),
+ * the WorldCupPlayers cube (Parquet loaded into DuckDB), and a composite cube over both.
+ *
+ * <p>
+ * The TPC-H forest from {@link TpchSchema} is enriched with a {@link Combinator}, a {@link Shiftor} and a many-to-many
+ * {@link Dispatchor}, so that the catalog covers each family of measures.
+ *
+ * @author Benoit Lacelle
+ */
+@Builder
+public class MacroBenchmarkCubes {
+	public static final String CUBE_TPCH = "Tpch";
+	public static final String CUBE_WORLDCUP = "WorldCupPlayers";
+	public static final String CUBE_COMPOSITE = "composite";
+
+	// The many-to-many group column, dispatching `c_mktsegment` into overlapping groups
+	public static final String C_SEGMENT_GROUP = "segment_group";
+
+	@Default
+	final double tpchScaleFactor = TpchSchema.DEFAULT_SCALE_FACTOR;
+
+	/**
+	 * @return the cubes, by name. Each call generates fresh data.
+	 */
+	public Map<String, ICubeWrapper> makeCubes() {
+		AdhocSchema schema = AdhocSchema.builder()
+				.env(new StandardEnvironment())
+				.engine(CubeQueryEngine.builder()
+						.factories(AdhocFactories.builder().operatorFactory(makeOperatorFactory()).build())
+						.build())
+				.build();
+
+		TpchSchema tpchSchema = makeTpchSchema();
+		ICubeWrapper tpchCube = tpchSchema
+				.makeCube(DuckDBHelper.inMemoryDSLSupplier(),
+						schema,
+						tpchSchema,
+						tpchSchema.getTable(tpchSchema.getName()),
+						makeTpchForest(tpchSchema))
+				.build();
+
+		WorldCupPlayersSchema worldCupSchema = new WorldCupPlayersSchema(DuckDBHelper.inMemoryDSLSupplier());
+		ICubeWrapper worldCupCube = worldCupSchema
+				.makeCube(schema,
+						worldCupSchema,
+						worldCupSchema.getTable(worldCupSchema.getName()),
+						worldCupSchema.getForest(worldCupSchema.getName()))
+				.build();
+
+		CompositeCubesTableWrapper compositeTable =
+				CompositeCubesTableWrapper.builder().cube(tpchCube).cube(worldCupCube).build();
+		IMeasureForest compositeForest = compositeTable
+				.injectUnderlyingMeasures(MeasureForest.fromMeasures(CUBE_COMPOSITE, List.of(Aggregator.countAsterisk())));
+		ICubeWrapper compositeCube = schema.openCubeWrapperBuilder()
+				.name(CUBE_COMPOSITE)
+				.table(compositeTable)
+				.forest(compositeForest)
+				.build();
+
+		return ImmutableMap.<String, ICubeWrapper>builder()
+				.put(CUBE_TPCH, tpchCube)
+				.put(CUBE_WORLDCUP, worldCupCube)
+				.put(CUBE_COMPOSITE, compositeCube)
+				.build();
+	}
+
+	protected TpchSchema makeTpchSchema() {
+		return new TpchSchema(tpchScaleFactor);
+	}
+
+	protected IMeasureForest makeTpchForest(TpchSchema tpchSchema) {
+		return MeasureForest.edit(tpchSchema.getForest(tpchSchema.getName()))
+				.measure(Combinator.builder()
+						.name("revenue_per_quantity")
+						.underlyings(ImmutableList.of("revenue", "quantity"))
+						.combinationKey(DivideCombination.KEY)
+						.build())
+				.measure(Shiftor.builder()
+						.name("revenue.AUTOMOBILE")
+						.editorKey(SimpleFilterEditor.KEY)
+						.editorOptions(ImmutableMap.of(SimpleFilterEditor.P_SHIFTED,
+								ImmutableMap.of("c_mktsegment", "AUTOMOBILE")))
+						.underlying("revenue")
+						.build())
+				.measure(Dispatchor.builder()
+						.name("revenue.segment_groups")
+						.underlying("revenue")
+						.decompositionKey(ManyToMany1DDecomposition.class.getName())
+						.decompositionOptions(ImmutableMap.of(ManyToMany1DDecomposition.K_INPUT,
+								"c_mktsegment",
+								ManyToMany1DDecomposition.K_OUTPUT,
+								C_SEGMENT_GROUP))
+						.build())
+				.build();
+	}
+
+	protected IOperatorFactory makeOperatorFactory() {
+		// Each segment belongs to 1 or 2 groups
+		ManyToMany1DInMemoryDefinition segmentGroups = new ManyToMany1DInMemoryDefinition();
+		segmentGroups.putElementToGroup("AUTOMOBILE", "durables");
+		segmentGroups.putElementToGroup("MACHINERY", "durables");
+		segmentGroups.putElementToGroup("FURNITURE", "durables");
+		segmentGroups.putElementToGroup("FURNITURE", "households");
+		segmentGroups.putElementToGroup("HOUSEHOLD", "households");
+		segmentGroups.putElementToGroup("BUILDING", "households");
+		segmentGroups.putElementToGroup("MACHINERY", "industrials");
+		segmentGroups.putElementToGroup("BUILDING", "industrials");
+
+		return new StandardOperatorFactory() {
+			@Override
+			public IDecomposition makeDecomposition(String key, Map<String, ?> options) {
+				if (ManyToMany1DDecomposition.KEY.equals(key)
+						|| ManyToMany1DDecomposition.class.getName().equals(key)) {
+					return new ManyToMany1DDecomposition(options, segmentGroups);
+				}
+				return super.makeDecomposition(key, options);
+			}
+		};
+	}
+}
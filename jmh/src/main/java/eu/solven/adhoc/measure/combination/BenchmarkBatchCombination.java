@@ -0,0 +1,126 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import eu.solven.adhoc.data.row.ISlicedRecord;
+import eu.solven.adhoc.data.row.SlicedRecordFromSlices;
+import eu.solven.adhoc.measure.AdhocBlackHole;
+import eu.solven.adhoc.measure.combination.batch.CombinationBatch;
+import eu.solven.adhoc.measure.combination.batch.PrimitiveBatchColumn;
+import eu.solven.adhoc.measure.sum.SubstractionCombination;
+import eu.solven.adhoc.measure.sum.SumCombination;
+import eu.solven.adhoc.primitive.IValueProvider;
+import eu.solven.adhoc.primitive.IValueReceiver;
+
+/**
+ * Benchmarks {@link IBatchCombination}, compared with combining each slice individually.
+ * 
+ * @author Benoit Lacelle
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@SuppressWarnings("checkstyle:MagicNumber")
+public class BenchmarkBatchCombination {
+
+	SumCombination sum = new SumCombination();
+	SubstractionCombination substraction = new SubstractionCombination();
+
+	List<ISlicedRecord> records = IntStream.range(0, CombinationBatch.DEFAULT_CAPACITY)
+			.<ISlicedRecord>mapToObj(i -> SlicedRecordFromSlices.builder()
+					.valueProvider(IValueProvider.setValue((long) i))
+					.valueProvider(i % 7 == 0 ? IValueProvider.NULL : IValueProvider.setValue(3L * i))
+					.build())
+			.toList();
+
+	CombinationBatch batch = new CombinationBatch(2, CombinationBatch.DEFAULT_CAPACITY);
+	PrimitiveBatchColumn output = new PrimitiveBatchColumn(CombinationBatch.DEFAULT_CAPACITY);
+
+	IValueReceiver receiver = AdhocBlackHole.getInstance();
+
+	{
+		records.forEach(batch::tryAppend);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder().include(BenchmarkBatchCombination.class.getSimpleName()).forks(1).build();
+		new Runner(opt).run();
+	}
+
+	@Benchmark
+	public void sum_perSlice() {
+		for (ISlicedRecord record : records) {
+			sum.combine(null, record, receiver);
+		}
+	}
+
+	@Benchmark
+	public boolean sum_batch() {
+		output.clear();
+		return sum.combineBatch(batch, output);
+	}
+
+	@Benchmark
+	public void substraction_perSlice() {
+		for (ISlicedRecord record : records) {
+			substraction.combine(null, record, receiver);
+		}
+	}
+
+	@Benchmark
+	public boolean substraction_batch() {
+		output.clear();
+		return substraction.combineBatch(batch, output);
+	}
+
+	// Includes reading the slices into the batch
+	@Benchmark
+	public boolean sum_appendAndBatch() {
+		batch.clear();
+		records.forEach(batch::tryAppend);
+		output.clear();
+		return sum.combineBatch(batch, output);
+	}
+
+}
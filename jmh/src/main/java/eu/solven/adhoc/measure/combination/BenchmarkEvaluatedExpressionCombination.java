@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import eu.solven.adhoc.data.row.ISlicedRecord;
+import eu.solven.adhoc.data.row.SlicedRecordFromSlices;
+import eu.solven.adhoc.measure.AdhocBlackHole;
+import eu.solven.adhoc.measure.combination.expression.CompiledExpression;
+import eu.solven.adhoc.primitive.IValueProvider;
+import eu.solven.adhoc.primitive.IValueReceiver;
+
+/**
+ * Benchmarks {@link EvaluatedExpressionCombination}, through its {@link CompiledExpression} or through EvalEx.
+ * 
+ * @author Benoit Lacelle
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@SuppressWarnings("checkstyle:MagicNumber")
+public class BenchmarkEvaluatedExpressionCombination {
+
+	EvaluatedExpressionCombination combination =
+			new EvaluatedExpressionCombination("(a + 2 * b) - MAX(c, 0)", List.of("a", "b", "c"));
+
+	ISlicedRecord slicedRecordLong = SlicedRecordFromSlices.builder()
+			.valueProvider(IValueProvider.setValue(234L))
+			.valueProvider(IValueProvider.setValue(123L))
+			.valueProvider(IValueProvider.setValue(-12L))
+			.build();
+	List<?> arrayLong = Arrays.asList(234L, 123L, -12L);
+
+	ISlicedRecord slicedRecordDouble = SlicedRecordFromSlices.builder()
+			.valueProvider(IValueProvider.setValue(234.5D))
+			.valueProvider(IValueProvider.setValue(123L))
+			.valueProvider(IValueProvider.setValue(12.25D))
+			.build();
+	List<?> arrayDouble = Arrays.asList(234.5D, 123L, 12.25D);
+
+	IValueReceiver receiver = AdhocBlackHole.getInstance();
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt = new OptionsBuilder().include(BenchmarkEvaluatedExpressionCombination.class.getSimpleName())
+				.forks(1)
+				.build();
+		new Runner(opt).run();
+	}
+
+	@Benchmark
+	public void compiled_Long() {
+		combination.combine(null, slicedRecordLong, receiver);
+	}
+
+	@Benchmark
+	public Object evalEx_Long() {
+		return combination.evaluate(arrayLong);
+	}
+
+	@Benchmark
+	public void compiled_Double() {
+		combination.combine(null, slicedRecordDouble, receiver);
+	}
+
+	@Benchmark
+	public Object evalEx_Double() {
+		return combination.evaluate(arrayDouble);
+	}
+
+}
@@ -0,0 +1,122 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.table.columnar;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import eu.solven.adhoc.cube.CubeWrapper;
+import eu.solven.adhoc.dataframe.tabular.ITabularView;
+import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.filter.ColumnFilter;
+import eu.solven.adhoc.measure.forest.IMeasureForest;
+import eu.solven.adhoc.measure.forest.MeasureForest;
+import eu.solven.adhoc.model.measure.Aggregator;
+import eu.solven.adhoc.table.InMemoryTable;
+
+/**
+ * Compares {@link ColumnarInMemoryTable} with {@link InMemoryTable}, on a filtered and grouped `SUM`.
+ * 
+ * @author Benoit Lacelle
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@SuppressWarnings("checkstyle:MagicNumber")
+public class BenchmarkColumnarInMemoryTable {
+
+	@Param({ "100000", "1000000" })
+	int size;
+
+	final IMeasureForest forest =
+			MeasureForest.builder().name("benchmark").measure(Aggregator.sum("k")).measure(Aggregator.countAsterisk()).build();
+
+	CubeWrapper rowCube;
+	CubeWrapper columnarCube;
+
+	final CubeQuery query = CubeQuery.builder()
+			.measure("k", Aggregator.countAsterisk().getName())
+			.groupByAlso("ccy")
+			.filter(ColumnFilter.matchIn("country", "country1", "country2"))
+			.build();
+
+	@Setup
+	public void setup() {
+		InMemoryTable rowTable = InMemoryTable.builder().build();
+		ColumnarInMemoryTable columnarTable = ColumnarInMemoryTable.builder().build();
+
+		Random random = new Random(0);
+		for (int i = 0; i < size; i++) {
+			Map<String, Object> row = new HashMap<>();
+			row.put("country", "country" + random.nextInt(50));
+			row.put("city", "city" + random.nextInt(1000));
+			row.put("ccy", "ccy" + random.nextInt(10));
+			row.put("k", random.nextInt(1000));
+
+			rowTable.add(row);
+			columnarTable.add(row);
+		}
+		columnarTable.compact();
+
+		rowCube = CubeWrapper.builder().forest(forest).table(rowTable).build();
+		columnarCube = CubeWrapper.builder().forest(forest).table(columnarTable).build();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options opt =
+				new OptionsBuilder().include(BenchmarkColumnarInMemoryTable.class.getSimpleName()).forks(1).build();
+		new Runner(opt).run();
+	}
+
+	@Benchmark
+	public ITabularView inMemoryTable() {
+		return rowCube.execute(query);
+	}
+
+	@Benchmark
+	public ITabularView columnarInMemoryTable() {
+		return columnarCube.execute(query);
+	}
+
+}
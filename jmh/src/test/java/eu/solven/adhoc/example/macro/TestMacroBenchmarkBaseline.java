@@ -0,0 +1,111 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.example.macro;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestMacroBenchmarkBaseline {
+	@TempDir
+	Path tempDir;
+
+	final MacroBenchmarkBaseline comparator = new MacroBenchmarkBaseline();
+
+	private Path writeRun(String name, double p50, double allocNorm) throws IOException {
+		// Shaped like JMH `ResultFormatType.JSON`, restricted to the fields read by MacroBenchmarkBaseline
+		String json = """
+				[
+				  {
+				    "benchmark": "eu.solven.adhoc.example.macro.BenchmarkMacroCubeQueries.execute",
+				    "mode": "sample",
+				    "params": { "queryName": "tpch.aggregators.grandTotal", "executionMode": "SEQUENTIAL" },
+				    "primaryMetric": {
+				      "score": %s,
+				      "scorePercentiles": { "0.0": 1.0, "50.0": %s, "90.0": 12.0, "99.0": 15.0, "100.0": 20.0 }
+				    },
+				    "secondaryMetrics": {
+				      "·gc.alloc.rate.norm": { "score": %s },
+				      "·heap.peak": { "score": 1000000.0 },
+				      "·gc.count": { "score": 3.0 }
+				    }
+				  }
+				]
+				""".formatted(p50, p50, allocNorm);
+
+		Path path = tempDir.resolve(name);
+		Files.writeString(path, json);
+		return path;
+	}
+
+	@Test
+	public void testLoadMetrics() throws IOException {
+		Map<String, Map<String, Double>> metrics = comparator.loadMetrics(writeRun("run.json", 10.0, 2048.0));
+
+		Assertions.assertThat(metrics)
+				.containsOnlyKeys(
+						"eu.solven.adhoc.example.macro.BenchmarkMacroCubeQueries.execute{executionMode=SEQUENTIAL, queryName=tpch.aggregators.grandTotal}");
+		Assertions.assertThat(metrics.values().iterator().next())
+				.containsExactly(Map.entry("p0.50", 10.0),
+						Map.entry("p0.90", 12.0),
+						Map.entry("p0.99", 15.0),
+						Map.entry("gc.alloc.rate.norm", 2048.0),
+						Map.entry("heap.peak", 1000000.0));
+	}
+
+	@Test
+	public void testCompare() throws IOException {
+		Map<String, Map<String, Double>> baseline = comparator.loadMetrics(writeRun("baseline.json", 10.0, 2048.0));
+		Map<String, Map<String, Double>> current = comparator.loadMetrics(writeRun("current.json", 10.5, 4096.0));
+
+		// p0.50 degraded by 5%, within tolerance: only the allocations are reported
+		List<MacroBenchmarkBaseline.Regression> regressions = comparator.compare(current, baseline, 0.1);
+		Assertions.assertThat(regressions).singleElement().satisfies(r -> {
+			Assertions.assertThat(r.getMetric()).isEqualTo("gc.alloc.rate.norm");
+			Assertions.assertThat(r.getRatio()).isEqualTo(2.0);
+		});
+
+		Assertions.assertThat(comparator.compare(current, baseline, 0.01))
+				.extracting(MacroBenchmarkBaseline.Regression::getMetric)
+				.containsExactly("p0.50", "gc.alloc.rate.norm");
+
+		Assertions.assertThat(comparator.compare(baseline, baseline, 0.0)).isEmpty();
+	}
+
+	@Test
+	public void testCatalog() {
+		Assertions.assertThat(MacroBenchmarkCatalog.getQueries())
+				.extracting(MacroBenchmarkQuery::getName)
+				.doesNotHaveDuplicates()
+				.contains(MacroBenchmarkCatalog.TPCH_MANY_TO_MANY, MacroBenchmarkCatalog.COMPOSITE_BY_CUBE);
+
+		Assertions.assertThatThrownBy(() -> MacroBenchmarkCatalog.getQuery("unknown"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
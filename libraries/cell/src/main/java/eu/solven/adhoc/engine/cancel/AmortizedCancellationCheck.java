@@ -0,0 +1,113 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cancel;
+
+import eu.solven.adhoc.engine.context.IIsCancellable;
+
+/**
+ * Checks for cancellation once every {@value #DEFAULT_PERIOD} calls to {@link #check()}, so that a hot loop (e.g. over
+ * rows or slices) can stop within milliseconds after cancellation, while paying a single increment per iteration.
+ * 
+ * This is not thread-safe: concurrent calls to {@link #check()} may lose increments, which only delays the actual
+ * check. Prefer one instance per loop, or per partition.
+ * 
+ * @author Benoit Lacelle
+ */
+public final class AmortizedCancellationCheck {
+	/**
+	 * Number of calls to {@link #check()} between two actual checks. A power of 2, so the modulo is a mask.
+	 */
+	public static final int DEFAULT_PERIOD = 1024;
+
+	private static final int MASK = DEFAULT_PERIOD - 1;
+
+	private final IIsCancellable cancellable;
+	private final Object context;
+
+	private int nbChecks;
+
+	private AmortizedCancellationCheck(IIsCancellable cancellable, Object context) {
+		this.cancellable = cancellable;
+		this.context = context;
+	}
+
+	/**
+	 * 
+	 * @param cancellable
+	 * @param context
+	 *            describes the loop, to be reported in the {@link CancelledQueryException}
+	 * @return an {@link AmortizedCancellationCheck} over given {@link IIsCancellable}.
+	 */
+	public static AmortizedCancellationCheck of(IIsCancellable cancellable, Object context) {
+		return new AmortizedCancellationCheck(cancellable, context);
+	}
+
+	/**
+	 * 
+	 * @param context
+	 *            describes the loop, to be reported in the {@link CancelledQueryException}
+	 * @return an {@link AmortizedCancellationCheck} over the {@link IIsCancellable} bound by {@link CancellationScope}.
+	 */
+	public static AmortizedCancellationCheck current(Object context) {
+		return of(CancellationScope.current(), context);
+	}
+
+	/**
+	 * Stateless variant, for loops already maintaining a counter: checks the {@link IIsCancellable} bound by
+	 * {@link CancellationScope} if {@code iteration} is a multiple of {@value #DEFAULT_PERIOD}.
+	 * 
+	 * @param iteration
+	 *            the number of iterations done so far
+	 * @param context
+	 *            describes the loop, to be reported in the {@link CancelledQueryException}
+	 * @throws CancelledQueryException
+	 *             if the current {@link IIsCancellable} is cancelled
+	 */
+	public static void checkCurrent(long iteration, Object context) {
+		if ((iteration & MASK) == 0) {
+			CancellationHelpers.checkNotCancelled(CancellationScope.current(), context);
+		}
+	}
+
+	/**
+	 * To be called on each iteration of a hot loop.
+	 * 
+	 * @throws CancelledQueryException
+	 *             if the underlying {@link IIsCancellable} is cancelled
+	 */
+	public void check() {
+		if ((++nbChecks & MASK) == 0) {
+			checkNow();
+		}
+	}
+
+	/**
+	 * Checks right-away, independently of the number of calls to {@link #check()}.
+	 * 
+	 * @throws CancelledQueryException
+	 *             if the underlying {@link IIsCancellable} is cancelled
+	 */
+	public void checkNow() {
+		CancellationHelpers.checkNotCancelled(cancellable, context);
+	}
+}
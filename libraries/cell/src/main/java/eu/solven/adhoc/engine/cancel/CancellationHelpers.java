@@ -57,4 +57,21 @@ public class CancellationHelpers {
 		}
 	}
 
+	/**
+	 * To be called at the beginning of any cancellable task, or regularly in long-running loops. See
+	 * {@link AmortizedCancellationCheck} for very hot loops.
+	 * 
+	 * @param cancellable
+	 * @param context
+	 *            describes the task being interrupted
+	 * @throws CancelledQueryException
+	 *             if given {@link IIsCancellable} is cancelled
+	 */
+	public static void checkNotCancelled(IIsCancellable cancellable, Object context) {
+		if (cancellable.isCancelled()) {
+			throw new CancelledQueryException(
+					"Query cancelled at %s. Interrupting %s".formatted(cancellable.getCancellationDate(), context));
+		}
+	}
+
 }
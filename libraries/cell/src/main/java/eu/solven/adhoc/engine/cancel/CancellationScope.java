@@ -0,0 +1,94 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cancel;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import eu.solven.adhoc.engine.context.IIsCancellable;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Thread-scoped access to the {@link IIsCancellable} of the executing query, so that hot loops deep into measure
+ * evaluation (e.g. iterating over slices) can check for cancellation without receiving the query pod through every
+ * internal API.
+ * 
+ * <p>
+ * Backed by {@link ScopedValue}, which is not inherited by tasks submitted to an executor: the scope has to be bound
+ * on the thread actually executing each step (e.g. {@code QueryEngineConcurrencyHelper#walkUpDag}). {@link #current()}
+ * returns {@link IIsCancellable#notCancellable()} when no scope is active.
+ * 
+ * @author Benoit Lacelle
+ */
+@UtilityClass
+public class CancellationScope {
+
+	private static final ScopedValue<IIsCancellable> CURRENT = ScopedValue.newInstance();
+
+	/**
+	 * Binds {@code cancellable} for the duration of {@code body}.
+	 *
+	 * @param <R>
+	 *            the body's return type
+	 * @param cancellable
+	 * @param body
+	 * @return the value returned by {@code body}
+	 * @throws Exception
+	 *             any checked exception propagated from {@code body}
+	 */
+	@SuppressWarnings("PMD.SignatureDeclareThrowsException")
+	public static <R> R callWith(IIsCancellable cancellable, Callable<R> body) throws Exception {
+		return ScopedValue.where(CURRENT, cancellable).call(body::call);
+	}
+
+	/**
+	 * {@link #callWith(IIsCancellable, Callable)} variant for non-throwing bodies.
+	 *
+	 * @param <R>
+	 *            the body's return type
+	 * @param cancellable
+	 * @param body
+	 * @return the value returned by {@code body}
+	 */
+	public static <R> R runWith(IIsCancellable cancellable, Supplier<R> body) {
+		try {
+			return callWith(cancellable, body::get);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Exception e) {
+			// Unreachable for a Supplier body
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 
+	 * @return the bound {@link IIsCancellable}, or {@link IIsCancellable#notCancellable()} if no scope is active.
+	 */
+	public static IIsCancellable current() {
+		if (CURRENT.isBound()) {
+			return CURRENT.get();
+		}
+		return IIsCancellable.notCancellable();
+	}
+}
@@ -47,4 +47,12 @@ public interface IIsCancellable {
 	 * @param runnable
 	 */
 	void removeCancellationListener(Runnable runnable);
+
+	/**
+	 * 
+	 * @return an {@link IIsCancellable} which is never cancelled.
+	 */
+	static IIsCancellable notCancellable() {
+		return NotCancellable.INSTANCE;
+	}
 }
@@ -40,6 +40,7 @@ import eu.solven.adhoc.filter.ISliceFilter;
 import eu.solven.adhoc.model.measure.IHasTags;
 import eu.solven.adhoc.model.measure.IMeasure;
 import eu.solven.adhoc.model.query.IGroupBy;
+import eu.solven.adhoc.options.IExecutionOption;
 import eu.solven.adhoc.options.IQueryOption;
 import eu.solven.adhoc.options.StandardQueryOptions;
 import eu.solven.adhoc.util.AdhocUnsafe;
@@ -62,6 +63,9 @@ import lombok.Getter;
  * {@code TableQueryStep} carrying the same measure, filter, groupBy, customMarker, and options are considered equal.
  * This lets {@code TableQueryStep} values be looked up in maps keyed by {@link CubeQueryStep} without any unwrapping.
  *
+ * <p>
+ * {@link IExecutionOption}s are not retained in {@code options}: they do not change what a step computes.
+ *
  * @author Benoit Lacelle
  * @see CubeQueryStep
  * @see ICubeQueryStep
@@ -92,7 +96,8 @@ public abstract class ACubeQueryStep implements ICubeQueryStep {
 		this.groupBy = groupBy != null ? groupBy : IGroupBy.GRAND_TOTAL;
 		// Unwrap Optional so the stored value is never Optional
 		this.customMarker = customMarker instanceof Optional<?> opt ? opt.orElse(null) : customMarker;
-		this.options = options != null ? options : ImmutableSet.of();
+		// Execution options (e.g. a timeout) must not split the identity of otherwise equal steps
+		this.options = options != null ? IExecutionOption.withoutExecutionOptions(options) : ImmutableSet.of();
 		this.cache = cache != null ? cache : new ConcurrentHashMap<>();
 	}
 
@@ -26,6 +26,7 @@ import eu.solven.adhoc.filter.ISliceFilter;
 import eu.solven.adhoc.model.query.IGroupBy;
 import eu.solven.adhoc.model.query.IHasCustomMarker;
 import eu.solven.adhoc.model.query.IHasMeasures;
+import eu.solven.adhoc.model.query.IHasTopClause;
 import eu.solven.adhoc.options.IHasQueryOptions;
 
 /**
@@ -37,9 +38,11 @@ import eu.solven.adhoc.options.IHasQueryOptions;
  * 
  * - measures may be {@link Aggregator} or {@link IMeasureQueryStep}
  * 
+ * - an optional top clause, restricting the output to a window of ordered slices
+ * 
  * @author Benoit Lacelle
  *
  */
-public interface ICubeQuery extends IWhereGroupByQuery, IHasMeasures, IHasCustomMarker, IHasQueryOptions {
+public interface ICubeQuery extends IWhereGroupByQuery, IHasMeasures, IHasCustomMarker, IHasQueryOptions, IHasTopClause {
 
 }
\ No newline at end of file
@@ -139,10 +139,25 @@ public abstract class AbstractAdhocMap implements IAdhocMap {
 	@NonNull
 	protected abstract Object getSequencedValueRaw(int index);
 
-	protected @org.jspecify.annotations.Nullable Object getSequencedValue(int index) {
+	/**
+	 * 
+	 * @param index
+	 *            an index in {@link #getSequencedKeys()}, typically resolved once for many maps sharing the same keys.
+	 * @return the value at given index, considering keys in original order.
+	 */
+	public @org.jspecify.annotations.Nullable Object getSequencedValue(int index) {
 		return NullMatcher.unwrapNull(getSequencedValueRaw(index));
 	}
 
+	/**
+	 * 
+	 * @return the keys of this map. Maps built through the same {@link ISliceFactory} with the same keys generally
+	 *         share the same instance.
+	 */
+	public SequencedSetLikeList getSequencedKeys() {
+		return sequencedKeys;
+	}
+
 	/**
 	 *
 	 * @param index
@@ -0,0 +1,85 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.map.factory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import eu.solven.adhoc.encoding.dictionary.AppendOnlyDictionarizer;
+import eu.solven.adhoc.map.keyset.SequencedSetLikeList;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A generation of coordinate dictionaries, one {@link AppendOnlyDictionarizer} per column, shared by all the queries
+ * created while this epoch is the current one.
+ * <p>
+ * An epoch is never cleared: once rotated away, it remains readable by the in-flight queries (and cached slices)
+ * referring to it, and it is reclaimed by the GC when the last of them is released.
+ *
+ * @author Benoit Lacelle
+ * @see SharedDictionarySliceFactoryFactory
+ */
+@RequiredArgsConstructor
+public class CoordinateDictionaryEpoch {
+	@Getter
+	final long index;
+
+	final Map<String, AppendOnlyDictionarizer> columnToDictionary = new ConcurrentHashMap<>();
+
+	// Keysets are interned: this is typically a small map, queried by reference-equal keys
+	final Map<SequencedSetLikeList, AppendOnlyDictionarizer[]> keysetToDictionaries = new ConcurrentHashMap<>();
+
+	public AppendOnlyDictionarizer getDictionary(String column) {
+		return columnToDictionary.computeIfAbsent(column, k -> new AppendOnlyDictionarizer());
+	}
+
+	/**
+	 * 
+	 * @param keys
+	 * @return the dictionaries aligned with the sequenced keys. The same array is returned for the same keyset, so that
+	 *         two slices sharing the array can be compared by their ids.
+	 */
+	public AppendOnlyDictionarizer[] getDictionaries(SequencedSetLikeList keys) {
+		AppendOnlyDictionarizer[] dictionaries = keysetToDictionaries.get(keys);
+		if (dictionaries != null) {
+			return dictionaries;
+		}
+
+		return keysetToDictionaries.computeIfAbsent(keys, k -> {
+			AppendOnlyDictionarizer[] array = new AppendOnlyDictionarizer[k.size()];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = getDictionary(k.getKey(i));
+			}
+			return array;
+		});
+	}
+
+	/**
+	 * 
+	 * @return the total number of coordinates registered in this epoch, cumulated over columns.
+	 */
+	public long getCardinality() {
+		return columnToDictionary.values().stream().mapToLong(AppendOnlyDictionarizer::size).sum();
+	}
+}
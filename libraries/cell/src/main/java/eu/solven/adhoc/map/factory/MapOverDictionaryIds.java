@@ -0,0 +1,154 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.map.factory;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+import org.jspecify.annotations.NonNull;
+
+import eu.solven.adhoc.cuboid.slice.SliceHelpers;
+import eu.solven.adhoc.encoding.dictionary.AppendOnlyDictionarizer;
+import eu.solven.adhoc.map.AbstractAdhocMap;
+import eu.solven.adhoc.map.IAdhocMap;
+import eu.solven.adhoc.map.keyset.SequencedSetLikeList;
+
+/**
+ * An {@link IAdhocMap} holding its values as ids into dictionaries shared across queries (see
+ * {@link CoordinateDictionaryEpoch}). Two such maps from the same epoch and keyset are compared through their
+ * {@code int[]}, whatever the query which created them.
+ *
+ * @author Benoit Lacelle
+ */
+public class MapOverDictionaryIds extends AbstractAdhocMap {
+
+	@NonNull
+	final CoordinateDictionaryEpoch epoch;
+
+	// Aligned with sequencedKeys. Shared by all maps with same (epoch, keyset)
+	@NonNull
+	final AppendOnlyDictionarizer[] dictionaries;
+
+	@NonNull
+	final int[] sequencedIds;
+
+	public MapOverDictionaryIds(ISliceFactory factory,
+			SequencedSetLikeList keys,
+			CoordinateDictionaryEpoch epoch,
+			AppendOnlyDictionarizer[] dictionaries,
+			int... sequencedIds) {
+		super(factory, keys);
+		this.epoch = epoch;
+		this.dictionaries = dictionaries;
+		this.sequencedIds = sequencedIds;
+	}
+
+	protected MapOverDictionaryIds(ISliceFactory factory,
+			SequencedSetLikeList keys,
+			CoordinateDictionaryEpoch epoch,
+			AppendOnlyDictionarizer[] dictionaries,
+			int[] sequencedIds,
+			IntSupplier hashcodeSupplier) {
+		super(factory, keys, hashcodeSupplier);
+		this.epoch = epoch;
+		this.dictionaries = dictionaries;
+		this.sequencedIds = sequencedIds;
+	}
+
+	/**
+	 * 
+	 * @param index
+	 * @return the dictionary id of the value at given index, considering keys in original order.
+	 */
+	public int getSequencedId(int index) {
+		return sequencedIds[index];
+	}
+
+	@Override
+	protected Object getSequencedValueRaw(int index) {
+		return dictionaries[index].fromInt(sequencedIds[index]);
+	}
+
+	@Override
+	protected Object getSortedValueRaw(int index) {
+		return getSequencedValueRaw(sequencedKeys.unorderedIndex(index));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof MapOverDictionaryIds other && other.dictionaries == dictionaries) {
+			// Same epoch and same keyset: dictionaries are bijective, hence comparing ids is comparing values
+			return Arrays.equals(sequencedIds, other.sequencedIds);
+		}
+		return super.equals(obj);
+	}
+
+	@Override
+	public int hashCode() {
+		// Keep the hashCode consistent with other `Map`, as these slices may be mixed with other implementations
+		return super.hashCode();
+	}
+
+	@Override
+	public IAdhocMap retainAll(Set<String> retainedColumns) {
+		if (retainedColumns.isEmpty()) {
+			return SliceHelpers.grandTotal().asAdhocMap();
+		}
+
+		AbstractAdhocMap.RetainedKeySet retainedKeyset = retainKeyset(retainedColumns);
+
+		if (this.sequencedKeys.equals(retainedKeyset.getKeys())) {
+			// In many cases, we retain all columns
+			return this;
+		}
+
+		int[] sequencedIndexes = retainedKeyset.getSequencedIndexes();
+		int[] retainedIds = new int[sequencedIndexes.length];
+		for (int i = 0; i < sequencedIndexes.length; i++) {
+			retainedIds[i] = sequencedIds[sequencedIndexes[i]];
+		}
+
+		// compute hashCode differentially based on excluded entries (see MapOverIntFunction)
+		IntSupplier retainedHashcode = () -> {
+			int excludedhashcode = 0;
+
+			for (int excludedColumnIndex : retainedKeyset.getExcludedIndexes()) {
+				String key = sequencedKeys.getKey(excludedColumnIndex);
+				Object value = getSequencedValue(excludedColumnIndex);
+				// see `Map.Entry#hashCode`
+				excludedhashcode += Objects.hashCode(key) ^ Objects.hashCode(value);
+			}
+
+			return this.hashCode() - excludedhashcode;
+		};
+
+		return new MapOverDictionaryIds(getFactory(),
+				retainedKeyset.getKeys(),
+				epoch,
+				epoch.getDictionaries(retainedKeyset.getKeys()),
+				retainedIds,
+				retainedHashcode);
+	}
+}
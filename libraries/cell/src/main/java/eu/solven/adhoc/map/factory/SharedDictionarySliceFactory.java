@@ -0,0 +1,112 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.map.factory;
+
+import java.util.Objects;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import eu.solven.adhoc.encoding.dictionary.AppendOnlyDictionarizer;
+import eu.solven.adhoc.map.IAdhocMap;
+import eu.solven.adhoc.map.keyset.SequencedSetLikeList;
+import eu.solven.adhoc.map.keyset.SequencedSetUnsafe;
+import eu.solven.adhoc.util.immutable.ImmutableHelpers;
+import eu.solven.pepper.core.PepperLogHelper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * A {@link ISliceFactory} dictionarizing coordinates into a {@link CoordinateDictionaryEpoch} shared across queries.
+ * Slices are {@link MapOverDictionaryIds}: slices from different queries (of the same epoch) can be compared by their
+ * ids.
+ * <p>
+ * Unlike {@link ColumnSliceFactory}, coordinates are retained beyond the query lifecycle: this is to be preferred when
+ * queries are hitting a bounded set of coordinates. See {@link SharedDictionarySliceFactoryFactory}.
+ *
+ * @author Benoit Lacelle
+ */
+@SuperBuilder
+public class SharedDictionarySliceFactory extends ASliceFactory {
+
+	@NonNull
+	@Getter
+	protected final CoordinateDictionaryEpoch epoch;
+
+	/**
+	 * Receives the values in the same order as the keys.
+	 *
+	 * @author Benoit Lacelle
+	 */
+	@RequiredArgsConstructor
+	public static class MapBuilderPreKeys implements IMapBuilderPreKeys {
+		@NonNull
+		protected final SharedDictionarySliceFactory factory;
+
+		@NonNull
+		protected final SequencedSetLikeList keysLikeList;
+
+		@NonNull
+		protected final AppendOnlyDictionarizer[] dictionaries;
+
+		@NonNull
+		protected final int[] ids;
+
+		protected int size;
+
+		@Override
+		public MapBuilderPreKeys append(@Nullable Object value) {
+			if (size >= ids.length) {
+				throw new IllegalStateException(
+						"Can not append v=%s as already filled size=%s keys=%s".formatted(value, size, keysLikeList));
+			}
+			// The normalizer turns `null` into `NullMatcher.NULL_HOLDER`, which is dictionarized like any coordinate
+			Object normalized = Objects.requireNonNull(factory.normalizeCoordinate(value), "normalized coordinate");
+			ids[size] = dictionaries[size].toInt(normalized);
+			size++;
+
+			return this;
+		}
+
+		@Override
+		public IAdhocMap build() {
+			if (size != ids.length) {
+				throw new IllegalStateException(
+						"Received %s values while expecting %s for keys=%s".formatted(size, ids.length, keysLikeList));
+			}
+			return new MapOverDictionaryIds(factory, keysLikeList, factory.getEpoch(), dictionaries, ids);
+		}
+	}
+
+	@Override
+	public IMapBuilderPreKeys newMapBuilder(Iterable<? extends String> keys) {
+		assert !isNotSequenced(keys) : "Invalid keys: %s".formatted(PepperLogHelper.getObjectAndClass(keys));
+
+		SequencedSetLikeList keysLikeList = SequencedSetUnsafe.internKeyset(ImmutableHelpers.copyOf(keys));
+		AppendOnlyDictionarizer[] dictionaries = epoch.getDictionaries(keysLikeList);
+
+		return new MapBuilderPreKeys(this, keysLikeList, dictionaries, new int[keysLikeList.size()]);
+	}
+
+}
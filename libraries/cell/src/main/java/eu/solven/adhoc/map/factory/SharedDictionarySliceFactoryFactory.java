@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.map.factory;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import eu.solven.adhoc.options.IHasOptionsAndExecutorService;
+import eu.solven.adhoc.util.IHasCache;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An opt-in {@link ISliceFactoryFactory} where all queries share the same coordinate dictionaries (per column), instead
+ * of the default per-query isolation (see {@link ColumnSliceFactory}). Slices of different queries then share their
+ * int ids, and comparing them is comparing ids.
+ * <p>
+ * Dictionaries are append-only. To bound the memory, a new {@link CoordinateDictionaryEpoch} is started when the
+ * current one exceeds {@link #maxEpochCardinality}, or on {@link #invalidateAll()}. A rotated epoch is not cleared:
+ * in-flight queries (and cached slices) keep a reference to it, and it is reclaimed by the GC once they are released.
+ * <p>
+ * Dictionaries are keyed by column name only, not by (table, column): slices hold cube-level coordinates, which may
+ * come from several tables (e.g. a composite cube), and an {@link ISliceFactory} is not bound to a table. Same-named
+ * columns of different tables hence share their dictionary. To scope dictionaries by table, register one instance per
+ * cube (i.e. in the {@code AdhocFactories} of its engine) instead of a single global instance.
+ *
+ * @author Benoit Lacelle
+ */
+@Builder
+@Slf4j
+public class SharedDictionarySliceFactoryFactory implements ISliceFactoryFactory, IHasCache {
+
+	/**
+	 * The number of coordinates (over all columns) from which the next query starts a new epoch.
+	 */
+	@Default
+	final long maxEpochCardinality = 16L * 1024 * 1024;
+
+	final AtomicReference<CoordinateDictionaryEpoch> current = new AtomicReference<>(new CoordinateDictionaryEpoch(0));
+
+	@Override
+	public ISliceFactory makeFactory(IHasOptionsAndExecutorService queryOptions) {
+		return SharedDictionarySliceFactory.builder().epoch(getEpoch()).build();
+	}
+
+	/**
+	 * 
+	 * @return the current {@link CoordinateDictionaryEpoch}, after rotating it if it grew too large.
+	 */
+	public CoordinateDictionaryEpoch getEpoch() {
+		CoordinateDictionaryEpoch epoch = current.get();
+
+		long cardinality = epoch.getCardinality();
+		if (cardinality > maxEpochCardinality) {
+			log.info("Rotating shared dictionaries epoch={} as cardinality={} > {}",
+					epoch.getIndex(),
+					cardinality,
+					maxEpochCardinality);
+			return rotate(epoch);
+		}
+
+		return epoch;
+	}
+
+	protected CoordinateDictionaryEpoch rotate(CoordinateDictionaryEpoch from) {
+		CoordinateDictionaryEpoch next = new CoordinateDictionaryEpoch(from.getIndex() + 1);
+		if (current.compareAndSet(from, next)) {
+			return next;
+		} else {
+			// Rotated concurrently
+			return current.get();
+		}
+	}
+
+	@Override
+	public void invalidateAll() {
+		rotate(current.get());
+	}
+}
@@ -0,0 +1,124 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.engine.cancel;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.Assertions;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.engine.context.IIsCancellable;
+
+public class TestAmortizedCancellationCheck {
+
+	static class Cancellable implements IIsCancellable {
+		final AtomicReference<OffsetDateTime> cancellationDate = new AtomicReference<>();
+
+		void cancel() {
+			cancellationDate.set(OffsetDateTime.now());
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return cancellationDate.get() != null;
+		}
+
+		@Override
+		public @Nullable OffsetDateTime getCancellationDate() {
+			return cancellationDate.get();
+		}
+
+		@Override
+		public void addCancellationListener(Runnable runnable) {
+			// not relevant
+		}
+
+		@Override
+		public void removeCancellationListener(Runnable runnable) {
+			// not relevant
+		}
+	}
+
+	Cancellable cancellable = new Cancellable();
+
+	@Test
+	public void testNotCancelled() {
+		AmortizedCancellationCheck check = AmortizedCancellationCheck.of(cancellable, "someLoop");
+
+		for (int i = 0; i < 10 * AmortizedCancellationCheck.DEFAULT_PERIOD; i++) {
+			check.check();
+		}
+		check.checkNow();
+	}
+
+	@Test
+	public void testCancelled_throwsWithinPeriod() {
+		AmortizedCancellationCheck check = AmortizedCancellationCheck.of(cancellable, "someLoop");
+		check.check();
+
+		cancellable.cancel();
+
+		int nbChecks = 0;
+		try {
+			for (; nbChecks < 2 * AmortizedCancellationCheck.DEFAULT_PERIOD; nbChecks++) {
+				check.check();
+			}
+			Assertions.fail("Should have thrown");
+		} catch (CancelledQueryException e) {
+			Assertions.assertThat(e).hasMessageContaining("someLoop");
+		}
+		Assertions.assertThat(nbChecks).isLessThan(AmortizedCancellationCheck.DEFAULT_PERIOD);
+	}
+
+	@Test
+	public void testCheckNow() {
+		cancellable.cancel();
+
+		Assertions.assertThatThrownBy(() -> AmortizedCancellationCheck.of(cancellable, "someLoop").checkNow())
+				.isInstanceOf(CancelledQueryException.class);
+	}
+
+	@Test
+	public void testCheckCurrent_noScope() {
+		Assertions.assertThat(CancellationScope.current().isCancelled()).isFalse();
+
+		AmortizedCancellationCheck.checkCurrent(0, "someLoop");
+	}
+
+	@Test
+	public void testCheckCurrent_inScope() {
+		cancellable.cancel();
+
+		CancellationScope.runWith(cancellable, () -> {
+			// Not due: no check
+			AmortizedCancellationCheck.checkCurrent(1, "someLoop");
+
+			Assertions.assertThatThrownBy(
+					() -> AmortizedCancellationCheck.checkCurrent(AmortizedCancellationCheck.DEFAULT_PERIOD, "someLoop"))
+					.isInstanceOf(CancelledQueryException.class);
+			return null;
+		});
+	}
+}
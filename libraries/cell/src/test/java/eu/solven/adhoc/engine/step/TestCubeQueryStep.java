@@ -22,6 +22,7 @@
  */
 package eu.solven.adhoc.engine.step;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.Optional;
@@ -41,6 +42,8 @@ import eu.solven.adhoc.model.measure.IMeasure;
 import eu.solven.adhoc.model.measure.ReferencedMeasure;
 import eu.solven.adhoc.model.query.IGroupBy;
 import eu.solven.adhoc.model.query.groupby.GroupByColumns;
+import eu.solven.adhoc.options.QueryTimeout;
+import eu.solven.adhoc.options.SpillToDisk;
 import eu.solven.adhoc.options.StandardQueryOptions;
 import eu.solven.adhoc.util.AdhocUnsafe;
 import eu.solven.pepper.unittest.PepperJackson3TestHelper;
@@ -81,6 +84,20 @@ public class TestCubeQueryStep {
 		Assertions.assertThat(copy.getTransverseCache()).isSameAs(transverseCache);
 	}
 
+	@Test
+	public void testExecutionOptions_notInIdentity() {
+		CubeQueryStep step = CubeQueryStep.builder().measure("m").option(StandardQueryOptions.CONCURRENT).build();
+		CubeQueryStep withExecutionOptions = CubeQueryStep.builder()
+				.measure("m")
+				.option(StandardQueryOptions.CONCURRENT)
+				.option(QueryTimeout.of(Duration.ofSeconds(1)))
+				.option(SpillToDisk.of(1024))
+				.build();
+
+		Assertions.assertThat(withExecutionOptions).isEqualTo(step).hasSameHashCodeAs(step);
+		Assertions.assertThat(withExecutionOptions.getOptions()).containsExactly(StandardQueryOptions.CONCURRENT);
+	}
+
 	@Test
 	public void testCustomMarker_notOptional() {
 		CubeQueryStep stepExplicit = CubeQueryStep.builder().measure("m").customMarker("foo").build();
@@ -0,0 +1,145 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.map.factory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.encoding.dictionary.AppendOnlyDictionarizer;
+import eu.solven.adhoc.map.IAdhocMap;
+import eu.solven.adhoc.options.IHasOptionsAndExecutorService;
+
+public class TestSharedDictionarySliceFactory {
+
+	SharedDictionarySliceFactoryFactory factoryFactory = SharedDictionarySliceFactoryFactory.builder().build();
+
+	ISliceFactory query1 = factoryFactory.makeFactory(IHasOptionsAndExecutorService.noOption());
+	ISliceFactory query2 = factoryFactory.makeFactory(IHasOptionsAndExecutorService.noOption());
+
+	@Test
+	public void testSharedIdsAcrossQueries() {
+		IAdhocMap fromQuery1 = query1.newMapBuilder(List.of("a", "b")).append("a1").append("b1").build();
+		IAdhocMap fromQuery2 = query2.newMapBuilder(List.of("a", "b")).append("a1").append("b1").build();
+
+		Assertions.assertThat((Map) fromQuery1).isInstanceOf(MapOverDictionaryIds.class);
+		Assertions.assertThat(((MapOverDictionaryIds) fromQuery1).getSequencedId(0))
+				.isEqualTo(((MapOverDictionaryIds) fromQuery2).getSequencedId(0));
+
+		Assertions.assertThat((Map) fromQuery1).isEqualTo(fromQuery2).hasSameHashCodeAs(fromQuery2);
+		Assertions.assertThat((Map) fromQuery1).isEqualTo(Map.of("a", "a1", "b", "b1"));
+
+		IAdhocMap other = query2.newMapBuilder(List.of("a", "b")).append("a1").append("b2").build();
+		Assertions.assertThat((Map) fromQuery1).isNotEqualTo(other);
+	}
+
+	@Test
+	public void testNullCoordinate() {
+		IAdhocMap withNull = query1.newMapBuilder(List.of("a", "b")).append("a1").append(null).build();
+
+		Map<String, Object> expected = new HashMap<>();
+		expected.put("a", "a1");
+		expected.put("b", null);
+		Assertions.assertThat((Map) withNull).isEqualTo(expected).hasSameHashCodeAs(expected);
+		Assertions.assertThat(withNull.get("b")).isNull();
+	}
+
+	@Test
+	public void testRetainAll() {
+		IAdhocMap aAndB = query1.newMapBuilder(List.of("a", "b")).append("a1").append("b1").build();
+
+		IAdhocMap onlyB = aAndB.retainAll(Set.of("b"));
+		Assertions.assertThat((Map) onlyB).isEqualTo(Map.of("b", "b1")).hasSameHashCodeAs(Map.of("b", "b1"));
+
+		// Same ids as a slice built directly by another query
+		IAdhocMap directB = query2.newMapBuilder(List.of("b")).append("b1").build();
+		Assertions.assertThat((Map) onlyB).isEqualTo(directB);
+
+		Assertions.assertThat((Map) aAndB.retainAll(Set.of("a", "b"))).isSameAs(aAndB);
+	}
+
+	@Test
+	public void testEqualsOtherFactory() {
+		IAdhocMap shared = query1.newMapBuilder(List.of("a", "b")).append("a1").append("b1").build();
+		IAdhocMap isolated = ColumnSliceFactory.builder()
+				.build()
+				.newMapBuilder(List.of("a", "b"))
+				.append("a1")
+				.append("b1")
+				.build();
+
+		Assertions.assertThat((Map) shared).isEqualTo(isolated).hasSameHashCodeAs(isolated);
+		Assertions.assertThat((Map) isolated).isEqualTo(shared);
+	}
+
+	@Test
+	public void testRotateEpoch() {
+		IAdhocMap beforeRotation = query1.newMapBuilder(List.of("a")).append("a1").build();
+		long epochBefore = factoryFactory.getEpoch().getIndex();
+
+		factoryFactory.invalidateAll();
+
+		Assertions.assertThat(factoryFactory.getEpoch().getIndex()).isEqualTo(epochBefore + 1);
+
+		ISliceFactory query3 = factoryFactory.makeFactory(IHasOptionsAndExecutorService.noOption());
+		IAdhocMap afterRotation = query3.newMapBuilder(List.of("a")).append("a1").build();
+
+		// Different epochs: not compared by ids, but still equal by values
+		Assertions.assertThat((Map) beforeRotation).isEqualTo(afterRotation);
+		Assertions.assertThat(beforeRotation.get("a")).isEqualTo("a1");
+	}
+
+	@Test
+	public void testRotateOnCardinality() {
+		SharedDictionarySliceFactoryFactory small =
+				SharedDictionarySliceFactoryFactory.builder().maxEpochCardinality(2).build();
+
+		ISliceFactory factory = small.makeFactory(IHasOptionsAndExecutorService.noOption());
+		factory.newMapBuilder(List.of("a")).append("a1").build();
+		factory.newMapBuilder(List.of("a")).append("a2").build();
+		Assertions.assertThat(small.getEpoch().getIndex()).isEqualTo(0);
+
+		factory.newMapBuilder(List.of("a")).append("a3").build();
+		Assertions.assertThat(small.getEpoch().getIndex()).isEqualTo(1);
+	}
+
+	@Test
+	public void testAppendOnlyDictionarizer_manyValues() {
+		AppendOnlyDictionarizer dictionarizer = new AppendOnlyDictionarizer();
+
+		int size = 100_000;
+		for (int i = 0; i < size; i++) {
+			Assertions.assertThat(dictionarizer.toInt("v" + i)).isEqualTo(i);
+		}
+		Assertions.assertThat(dictionarizer.size()).isEqualTo(size);
+
+		for (int i = 0; i < size; i++) {
+			Assertions.assertThat(dictionarizer.toInt("v" + i)).isEqualTo(i);
+			Assertions.assertThat(dictionarizer.fromInt(i)).isEqualTo("v" + i);
+		}
+	}
+}
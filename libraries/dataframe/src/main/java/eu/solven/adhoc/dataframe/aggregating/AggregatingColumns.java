@@ -45,6 +45,7 @@ import eu.solven.adhoc.dataframe.column.hash.MultitypeHashIntColumn;
 import eu.solven.adhoc.engine.step.ICubeQueryStep;
 import eu.solven.adhoc.factories.AdhocFactories;
 import eu.solven.adhoc.factories.IAdhocFactories;
+import eu.solven.adhoc.factories.IColumnFactory;
 import eu.solven.adhoc.measure.aggregation.IAggregation;
 import eu.solven.adhoc.measure.aggregation.carrier.IAggregationCarrier.IHasCarriers;
 import eu.solven.adhoc.measure.model.IAliasedAggregator;
@@ -87,6 +88,10 @@ public class AggregatingColumns<T extends Comparable<T>> extends AAggregatingCol
 	@Default
 	Map<String, IMultitypeMergeableIntColumn> aggregatorToAggregates = new LinkedHashMap<>();
 
+	// The expected number of slices (e.g. estimated from the table statistics)
+	@Default
+	int initialCapacity = IColumnFactory.NO_ESTIMATION;
+
 	// Built once (on first `closeColumn` call) and shared across all per-aggregator close calls. Mirrors
 	// `AggregatingColumnsDistinct.memoizeSliceToIndex`. Reversing the slice→index map is O(N); without
 	// memoisation each `closeColumn` call (one per aggregator) would rebuild it.
@@ -104,13 +109,25 @@ public class AggregatingColumns<T extends Comparable<T>> extends AAggregatingCol
 
 	@Override
 	public IOpenedSlice openSlice(T key) {
+		return openSlice(key, true);
+	}
+
+	/**
+	 * Similar to {@link #openSlice(Comparable)}, for values which are already aggregates of this grid (e.g. when
+	 * merging back spilled aggregates): {@link IHasCarriers} values are not wrapped again.
+	 */
+	protected IOpenedSlice openAggregatedSlice(T key) {
+		return openSlice(key, false);
+	}
+
+	protected IOpenedSlice openSlice(T key, boolean wrapCarriers) {
 		int keyIndex = dictionarize(key);
 		return aggregator -> {
 			IAggregation agg = getAggregation(aggregator);
 			IMultitypeMergeableIntColumn column =
 					aggregatorToAggregates.computeIfAbsent(aggregator.getAlias(), _ -> makePreColumn(agg));
 
-			if (column.getAggregation() instanceof IHasCarriers hasCarriers) {
+			if (wrapCarriers && column.getAggregation() instanceof IHasCarriers hasCarriers) {
 				return hasCarriers.wrap(column.append(keyIndex));
 
 			} else {
@@ -121,7 +138,8 @@ public class AggregatingColumns<T extends Comparable<T>> extends AAggregatingCol
 
 	protected IMultitypeMergeableIntColumn makePreColumn(IAggregation agg) {
 		// Not all table will provide slices properly sorted (e.g. InMemoryTable)
-		return (IMultitypeMergeableIntColumn) factories.getColumnFactory().makeIntColumn(p -> p.agg(agg));
+		return (IMultitypeMergeableIntColumn) factories.getColumnFactory()
+				.makeIntColumn(p -> p.agg(agg).initialCapacity(initialCapacity));
 	}
 
 	@Override
@@ -50,6 +50,7 @@ import eu.solven.adhoc.dataframe.column.hash.MultitypeHashColumn;
 import eu.solven.adhoc.engine.step.ICubeQueryStep;
 import eu.solven.adhoc.factories.AdhocFactories;
 import eu.solven.adhoc.factories.IAdhocFactories;
+import eu.solven.adhoc.factories.IColumnFactory;
 import eu.solven.adhoc.measure.aggregation.IAggregation;
 import eu.solven.adhoc.measure.aggregation.carrier.IAggregationCarrier.IHasCarriers;
 import eu.solven.adhoc.measure.model.IAliasedAggregator;
@@ -92,6 +93,10 @@ public class AggregatingColumnsDistinct<T extends Comparable<T>> extends AAggreg
 	@Default
 	final Map<String, IMultitypeIntColumnFastGet> aggregatorToAggregates = new LinkedHashMap<>();
 
+	// The expected number of slices (e.g. estimated from the table statistics)
+	@Default
+	final int initialCapacity = IColumnFactory.NO_ESTIMATION;
+
 	final Supplier<Object2IntFunction<T>> memoizeSliceToIndex = Suppliers.memoize(this::sliceToIndex);
 
 	// Set to true on the first closeColumn() call; subsequent openSlice() calls are rejected.
@@ -113,8 +118,7 @@ public class AggregatingColumnsDistinct<T extends Comparable<T>> extends AAggreg
 		// int column's append-last fast path is hit on every write, with no Integer boxing. The column is keyed
 		// by index (NOT by slice); the wrapping UndictionarizedColumn carries an explicit `sortedPrefixLength`
 		// field for slice-sortedness, populated from AAggregatingColumns#sortedPrefixLength.
-		return factories.getColumnFactory().makeIntColumn(_ -> {
-		});
+		return factories.getColumnFactory().makeIntColumn(p -> p.initialCapacity(initialCapacity));
 	}
 
 	@Override
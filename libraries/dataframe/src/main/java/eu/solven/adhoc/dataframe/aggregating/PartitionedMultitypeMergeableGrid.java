@@ -36,6 +36,7 @@ import eu.solven.adhoc.dataframe.column.IMultitypeColumn;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
 import eu.solven.adhoc.dataframe.column.partitioned.IPartitioned;
 import eu.solven.adhoc.dataframe.column.partitioned.PartitionedColumn;
+import eu.solven.adhoc.dataframe.column.partitioned.ShardKey;
 import eu.solven.adhoc.dataframe.tabular.IMultitypeMergeableGrid;
 import eu.solven.adhoc.engine.step.ICubeQueryStep;
 import eu.solven.adhoc.factories.AdhocFactoriesUnsafe;
@@ -43,6 +44,7 @@ import eu.solven.adhoc.factories.IAdhocFactories;
 import eu.solven.adhoc.measure.model.IAliasedAggregator;
 import eu.solven.adhoc.util.AdhocUnsafe;
 import lombok.Builder.Default;
+import lombok.Getter;
 import lombok.Singular;
 import lombok.experimental.SuperBuilder;
 
@@ -63,6 +65,12 @@ public class PartitionedMultitypeMergeableGrid<T extends Comparable<T>, K> exten
 	@Default
 	IAdhocFactories factories = AdhocFactoriesUnsafe.getFactories();
 
+	// Propagated to the closed columns, so that later steps can detect aligned partitions
+	@NonNull
+	@Default
+	@Getter
+	ShardKey shardKey = ShardKey.sliceHashcode();
+
 	@Override
 	public Set<String> getAggregators() {
 		return partitions.stream().flatMap(g -> g.getAggregators().stream()).collect(ImmutableSet.toImmutableSet());
@@ -79,7 +87,7 @@ public class PartitionedMultitypeMergeableGrid<T extends Comparable<T>, K> exten
 		List<IMultitypeColumnFastGet<T>> closed =
 				map(AdhocUnsafe.getCpuPool(), c -> c.closeColumn(queryStep, aggregator));
 
-		return PartitionedColumn.<T>builder().partitions(closed).build();
+		return PartitionedColumn.<T>builder().partitions(closed).shardKey(shardKey).build();
 	}
 
 	@Override
@@ -0,0 +1,427 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.aggregating;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+
+import eu.solven.adhoc.dataframe.aggregating.spill.ISpillKeyCodec;
+import eu.solven.adhoc.dataframe.aggregating.spill.SpillBudget;
+import eu.solven.adhoc.dataframe.aggregating.spill.SpillRun;
+import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
+import eu.solven.adhoc.dataframe.column.IMultitypeMergeableIntColumn;
+import eu.solven.adhoc.dataframe.column.hash.MultitypeHashColumn;
+import eu.solven.adhoc.dataframe.column.partitioned.PartitionedColumn;
+import eu.solven.adhoc.dataframe.column.partitioned.ShardKey;
+import eu.solven.adhoc.dataframe.tabular.IMultitypeMergeableGrid;
+import eu.solven.adhoc.encoding.column.AdhocColumnUnsafe;
+import eu.solven.adhoc.engine.step.ICubeQueryStep;
+import eu.solven.adhoc.measure.model.IAliasedAggregator;
+import eu.solven.adhoc.measure.operator.IOperatorFactory;
+import eu.solven.adhoc.measure.operator.StandardOperatorFactory;
+import eu.solven.adhoc.options.SpillToDisk;
+import eu.solven.adhoc.primitive.IValueProvider;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An {@link IMultitypeMergeableGrid} which can spill its aggregates out of the heap, into memory-mapped
+ * {@link SpillRun}.
+ * 
+ * Until the first spill, this is a plain {@link AggregatingColumns}. On the first spill (due to the heap usage, or to
+ * a column about to reach {@link AdhocColumnUnsafe#getLimitColumnSize()}), the slices are hash-partitioned (given
+ * {@link #shardKey}) into runs, and later slices are aggregated into one in-heap {@link AggregatingColumns} per
+ * partition. Later spills flush the largest partition.
+ * 
+ * On the first {@link #closeColumn(ICubeQueryStep, IAliasedAggregator)}, each partition merges back its runs, one
+ * partition at a time: a partition is closed along all aggregators, then discarded, before merging the next partition.
+ * The in-heap working set of the merge is then a single partition, on top of the closed columns (which are the output
+ * of the aggregation). The output is a {@link PartitionedColumn}: the limit over columns size then applies per
+ * partition.
+ * 
+ * @param <T>
+ * @author Benoit Lacelle
+ * @see SpillToDisk
+ */
+@Builder
+@Slf4j
+public class SpillingAggregatingColumns<T extends Comparable<T>> implements IMultitypeMergeableGrid<T> {
+	// A prime, so that the routing remains balanced when nested in a grid partitioned by the same hash (e.g.
+	// `PartitionedMultitypeMergeableGrid`, typically partitioned by the number of cores)
+	public static final int DEFAULT_NB_PARTITIONS = 17;
+	public static final int DEFAULT_CHECK_EVERY = 1024;
+
+	@NonNull
+	@Default
+	IOperatorFactory operatorFactory = StandardOperatorFactory.builder().build();
+
+	@NonNull
+	ISpillKeyCodec<T> keyCodec;
+
+	@NonNull
+	@Default
+	Path directory = Path.of(System.getProperty("java.io.tmpdir"));
+
+	// Typically shared by all the grids of a query
+	@NonNull
+	@Default
+	SpillBudget diskBudget = SpillBudget.unbounded();
+
+	@Default
+	double heapUsageRatio = SpillToDisk.DEFAULT_HEAP_USAGE_RATIO;
+
+	// If positive, spill as soon as the slices in heap (including the spilled objects) reach this count. Mostly useful
+	// for tests, as the heap usage is not deterministic.
+	@Default
+	int maxSlicesInHeap = -1;
+
+	@Default
+	int nbPartitions = DEFAULT_NB_PARTITIONS;
+
+	// The heap usage is checked once every this number of opened slices
+	@Default
+	int checkEvery = DEFAULT_CHECK_EVERY;
+
+	@NonNull
+	@Default
+	ShardKey shardKey = ShardKey.sliceHashcode();
+
+	// A single element until the first spill, then one element per partition
+	final List<AggregatingColumns<T>> live = new ArrayList<>();
+	// Empty until the first spill, then one element per partition
+	final List<List<SpilledRun>> partitionToRuns = new ArrayList<>();
+
+	// Needed to replay the spilled aggregates
+	final Map<String, IAliasedAggregator> aliasToAggregator = new LinkedHashMap<>();
+
+	// Filled on the first close, once the spilled partitions are merged
+	final Map<String, List<IMultitypeColumnFastGet<T>>> aliasToClosedPartitions = new LinkedHashMap<>();
+
+	int opensSinceCheck;
+	long spilledBytes;
+	// The spilled values which are kept on-heap (see SpillRun)
+	long spilledObjects;
+	volatile boolean merged;
+	// The largest number of slices merged back in heap at once
+	int peakMergedSlices;
+
+	/**
+	 * A {@link SpillRun}, with the aggregators of its pages.
+	 */
+	record SpilledRun(SpillRun run, List<IAliasedAggregator> aggregators) {
+	}
+
+	protected boolean isPartitioned() {
+		return !partitionToRuns.isEmpty();
+	}
+
+	protected int getPartitionIndex(T key) {
+		if (isPartitioned()) {
+			return shardKey.getPartitionIndex(key, nbPartitions);
+		} else {
+			return 0;
+		}
+	}
+
+	protected AggregatingColumns<T> getLive(int partitionIndex) {
+		if (live.isEmpty()) {
+			live.add(makePartition());
+		}
+		return live.get(partitionIndex);
+	}
+
+	protected AggregatingColumns<T> makePartition() {
+		return AggregatingColumns.<T>builder().operatorFactory(operatorFactory).build();
+	}
+
+	@Override
+	public Set<String> getAggregators() {
+		return aliasToAggregator.keySet();
+	}
+
+	@Override
+	public IOpenedSlice openSlice(T key) {
+		if (merged) {
+			throw new IllegalStateException("Can not contribute once a column has been closed");
+		}
+
+		if (++opensSinceCheck >= checkEvery) {
+			opensSinceCheck = 0;
+			checkHeap();
+		}
+
+		int partitionIndex = getPartitionIndex(key);
+		if (getLive(partitionIndex).sliceCount() >= AdhocColumnUnsafe.getLimitColumnSize() - 1) {
+			// This partition may not receive a new slice without reaching the limit over columns size
+			spill(partitionIndex);
+			// The first spill changes the routing
+			partitionIndex = getPartitionIndex(key);
+		}
+
+		IOpenedSlice opened = getLive(partitionIndex).openSlice(key);
+		return aggregator -> {
+			aliasToAggregator.putIfAbsent(aggregator.getAlias(), aggregator);
+			return opened.contribute(aggregator);
+		};
+	}
+
+	protected long liveSlices() {
+		return live.stream().mapToLong(AggregatingColumns::sliceCount).sum();
+	}
+
+	protected void checkHeap() {
+		int largestIndex = -1;
+		int largestCount = -1;
+		for (int i = 0; i < live.size(); i++) {
+			int sliceCount = live.get(i).sliceCount();
+			if (sliceCount > largestCount) {
+				largestIndex = i;
+				largestCount = sliceCount;
+			}
+		}
+		if (largestCount <= 0) {
+			return;
+		}
+
+		if (maxSlicesInHeap >= 0) {
+			if (liveSlices() + spilledObjects >= maxSlicesInHeap) {
+				spill(largestIndex);
+			}
+		} else if (largestCount >= checkEvery && getHeapUsage() >= heapUsageRatio) {
+			// Skip small partitions, as the heap usage may be high due to not-yet-collected garbage
+			spill(largestIndex);
+		}
+	}
+
+	protected double getHeapUsage() {
+		Runtime runtime = Runtime.getRuntime();
+		return (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+	}
+
+	/**
+	 * Flush given partition into a {@link SpillRun}. On the first spill, the single in-heap partition is
+	 * hash-partitioned into one run per partition.
+	 * 
+	 * @param partitionIndex
+	 */
+	protected void spill(int partitionIndex) {
+		AggregatingColumns<T> source = getLive(partitionIndex);
+
+		if (isPartitioned()) {
+			IntList sourceIndexes = new IntArrayList(source.sliceCount());
+			IntList keyCodes = new IntArrayList();
+			source.sliceToIndex.object2IntEntrySet().forEach(e -> {
+				sourceIndexes.add(e.getIntValue());
+				keyCodec.encode(e.getKey(), keyCodes::add);
+			});
+
+			writeRun(partitionIndex, source, sourceIndexes, keyCodes);
+			live.set(partitionIndex, makePartition());
+		} else {
+			List<IntList> partitionToIndexes = new ArrayList<>(nbPartitions);
+			List<IntList> partitionToKeyCodes = new ArrayList<>(nbPartitions);
+			for (int i = 0; i < nbPartitions; i++) {
+				partitionToIndexes.add(new IntArrayList());
+				partitionToKeyCodes.add(new IntArrayList());
+			}
+
+			source.sliceToIndex.object2IntEntrySet().forEach(e -> {
+				int index = shardKey.getPartitionIndex(e.getKey(), nbPartitions);
+				partitionToIndexes.get(index).add(e.getIntValue());
+				keyCodec.encode(e.getKey(), partitionToKeyCodes.get(index)::add);
+			});
+
+			live.clear();
+			for (int i = 0; i < nbPartitions; i++) {
+				live.add(makePartition());
+				partitionToRuns.add(new ArrayList<>());
+			}
+
+			for (int i = 0; i < nbPartitions; i++) {
+				if (!partitionToIndexes.get(i).isEmpty()) {
+					writeRun(i, source, partitionToIndexes.get(i), partitionToKeyCodes.get(i));
+				}
+			}
+		}
+	}
+
+	protected void writeRun(int partitionIndex,
+			AggregatingColumns<T> source,
+			IntList sourceIndexes,
+			IntList keyCodes) {
+		List<IAliasedAggregator> aggregators = ImmutableList.copyOf(aliasToAggregator.values());
+
+		long sizeInBytes = SpillRun.sizeInBytes(keyCodes.size(), sourceIndexes.size(), aggregators.size());
+		diskBudget.reserve(sizeInBytes);
+
+		List<@Nullable IMultitypeMergeableIntColumn> columns =
+				aggregators.stream().map(a -> source.getColumn(a.getAlias())).toList();
+
+		SpillRun run;
+		try {
+			run = SpillRun.write(directory,
+					keyCodes,
+					sourceIndexes.size(),
+					aggregators.size(),
+					(aggregatorIndex, row) -> {
+						IMultitypeMergeableIntColumn column = columns.get(aggregatorIndex);
+						if (column == null) {
+							return IValueProvider.NULL;
+						}
+						return column.onValue(sourceIndexes.getInt(row));
+					});
+		} catch (RuntimeException e) {
+			diskBudget.release(sizeInBytes);
+			throw e;
+		}
+
+		partitionToRuns.get(partitionIndex).add(new SpilledRun(run, aggregators));
+		spilledBytes += sizeInBytes;
+		spilledObjects += run.getNbObjects();
+
+		log.debug("Spilled {} slices ({} bytes, {} on-heap objects) of partition={}",
+				sourceIndexes.size(),
+				sizeInBytes,
+				run.getNbObjects(),
+				partitionIndex);
+	}
+
+	/**
+	 * Merge back the spilled runs, one partition at a time. Each merged partition is closed along all aggregators, then
+	 * discarded, so that at most one partition is merged in heap at a time.
+	 * 
+	 * @param queryStep
+	 *            the step of the first closed column, used to close all aggregators.
+	 */
+	protected synchronized void mergeSpilled(ICubeQueryStep queryStep) {
+		if (merged) {
+			return;
+		}
+
+		for (int partitionIndex = 0; partitionIndex < partitionToRuns.size(); partitionIndex++) {
+			AggregatingColumns<T> partition = getLive(partitionIndex);
+
+			List<SpilledRun> runs = partitionToRuns.get(partitionIndex);
+			for (SpilledRun spilled : runs) {
+				replay(spilled, partition);
+
+				spilledObjects -= spilled.run().getNbObjects();
+				spilled.run().release();
+				spilledBytes -= spilled.run().getSizeInBytes();
+				diskBudget.release(spilled.run().getSizeInBytes());
+			}
+			runs.clear();
+			peakMergedSlices = Math.max(peakMergedSlices, partition.sliceCount());
+
+			for (IAliasedAggregator aggregator : aliasToAggregator.values()) {
+				aliasToClosedPartitions.computeIfAbsent(aggregator.getAlias(), _ -> new ArrayList<>())
+						.add(partition.closeColumn(queryStep, aggregator));
+			}
+			live.set(partitionIndex, makePartition());
+		}
+
+		merged = true;
+	}
+
+	protected void replay(SpilledRun spilled, AggregatingColumns<T> into) {
+		SpillRun run = spilled.run();
+		List<IAliasedAggregator> aggregators = spilled.aggregators();
+
+		IntSupplier keyCodes = run.keyCodes();
+		for (int row = 0; row < run.getNbRows(); row++) {
+			T key = keyCodec.decode(keyCodes);
+			IOpenedSlice opened = into.openAggregatedSlice(key);
+
+			for (int aggregatorIndex = 0; aggregatorIndex < aggregators.size(); aggregatorIndex++) {
+				if (!run.isNull(aggregatorIndex, row)) {
+					run.readValue(aggregatorIndex, row, opened.contribute(aggregators.get(aggregatorIndex)));
+				}
+			}
+		}
+	}
+
+	@Override
+	public IMultitypeColumnFastGet<T> closeColumn(ICubeQueryStep queryStep, IAliasedAggregator aggregator) {
+		if (!isPartitioned()) {
+			merged = true;
+			return getLive(0).closeColumn(queryStep, aggregator);
+		}
+
+		mergeSpilled(queryStep);
+
+		List<IMultitypeColumnFastGet<T>> closed = aliasToClosedPartitions.get(aggregator.getAlias());
+		if (closed == null) {
+			// Typically happens when a filter reject completely one of the underlying measure
+			return MultitypeHashColumn.empty();
+		}
+		return PartitionedColumn.<T>builder().partitions(closed).shardKey(shardKey).build();
+	}
+
+	/**
+	 * May over-estimate while some aggregates are spilled, as spilled slices are not merged yet.
+	 */
+	@Override
+	public long size(String aggregator) {
+		if (merged && isPartitioned()) {
+			return aliasToClosedPartitions.getOrDefault(aggregator, List.of())
+					.stream()
+					.mapToLong(IMultitypeColumnFastGet::size)
+					.sum();
+		}
+
+		long size = live.stream().mapToLong(partition -> partition.size(aggregator)).sum();
+
+		for (List<SpilledRun> runs : partitionToRuns) {
+			for (SpilledRun spilled : runs) {
+				size += spilled.run().getNbRows();
+			}
+		}
+
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+				.add("partitioned", isPartitioned())
+				.add("liveSlices", liveSlices())
+				.add("spilledBytes", spilledBytes)
+				.add("spilledObjects", spilledObjects)
+				.add("aggregators", getAggregators())
+				.toString();
+	}
+}
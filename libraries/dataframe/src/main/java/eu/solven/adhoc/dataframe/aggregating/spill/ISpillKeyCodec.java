@@ -0,0 +1,57 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.aggregating.spill;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Encodes keys (typically {@link eu.solven.adhoc.cuboid.slice.ISlice}) into a sequence of int codes, so that they can
+ * be spilled in a compact primitive layout. The dictionaries enabling decoding stay on-heap: they are expected to be
+ * much smaller than the keys, as coordinates are shared by many keys.
+ * 
+ * Implementations are not thread-safe: a codec is owned by a single aggregating grid.
+ * 
+ * @param <T>
+ *            the key type
+ * @author Benoit Lacelle
+ */
+public interface ISpillKeyCodec<T> {
+
+	/**
+	 * 
+	 * @param key
+	 * @param codes
+	 *            receives the codes of given key
+	 */
+	void encode(T key, IntConsumer codes);
+
+	/**
+	 * 
+	 * @param codes
+	 *            provides the codes, in the order they were written by {@link #encode(Object, IntConsumer)}. Exactly
+	 *            the codes of one key are consumed.
+	 * @return the decoded key
+	 */
+	T decode(IntSupplier codes);
+}
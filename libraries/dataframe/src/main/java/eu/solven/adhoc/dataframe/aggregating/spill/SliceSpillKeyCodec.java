@@ -0,0 +1,151 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.aggregating.spill;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.collect.ImmutableList;
+
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.map.factory.IMapBuilderPreKeys;
+import eu.solven.adhoc.map.factory.ISliceFactory;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * An {@link ISpillKeyCodec} for {@link ISlice}: a slice is encoded as the code of its keyset, followed by the code of
+ * each coordinate in a per-column dictionary.
+ * 
+ * Decoded slices are built with the {@link ISliceFactory} of the first encoded slice.
+ * 
+ * @author Benoit Lacelle
+ */
+public class SliceSpillKeyCodec implements ISpillKeyCodec<ISlice> {
+	// Keyed by List, as the codes of coordinates follow the keyset order
+	final Object2IntMap<List<String>> keysetToCode = newDictionary();
+	final List<List<String>> codeToKeyset = new ArrayList<>();
+	// For each keyset, the dictionary of each of its columns, in keyset order
+	final List<List<ColumnDictionary>> codeToDictionaries = new ArrayList<>();
+
+	final Map<String, ColumnDictionary> columnToDictionary = new HashMap<>();
+
+	@Nullable
+	ISliceFactory sliceFactory;
+
+	// Keysets are generally interned: an identity check skips the keyset lookup for consecutive slices
+	@Nullable
+	Set<String> lastKeyset;
+	int lastKeysetCode = -1;
+
+	/**
+	 * Dictionarize the coordinates of a given column.
+	 */
+	static final class ColumnDictionary {
+		final Object2IntMap<@Nullable Object> valueToCode = newDictionary();
+		final List<@Nullable Object> codeToValue = new ArrayList<>();
+
+		int encode(@Nullable Object value) {
+			int code = valueToCode.getInt(value);
+			if (code < 0) {
+				code = codeToValue.size();
+				codeToValue.add(value);
+				valueToCode.put(value, code);
+			}
+			return code;
+		}
+
+		@Nullable
+		Object decode(int code) {
+			return codeToValue.get(code);
+		}
+	}
+
+	static <K> Object2IntMap<K> newDictionary() {
+		Object2IntMap<K> dictionary = new Object2IntOpenHashMap<>();
+		dictionary.defaultReturnValue(-1);
+		return dictionary;
+	}
+
+	@Override
+	public void encode(ISlice slice, IntConsumer codes) {
+		if (sliceFactory == null) {
+			sliceFactory = slice.getFactory();
+		}
+
+		Set<String> keyset = slice.columnsKeySet();
+		int keysetCode;
+		if (keyset == lastKeyset) {
+			keysetCode = lastKeysetCode;
+		} else {
+			List<String> columns = ImmutableList.copyOf(keyset);
+			keysetCode = keysetToCode.getInt(columns);
+			if (keysetCode < 0) {
+				keysetCode = registerKeyset(columns);
+			}
+			lastKeyset = keyset;
+			lastKeysetCode = keysetCode;
+		}
+		codes.accept(keysetCode);
+
+		List<ColumnDictionary> dictionaries = codeToDictionaries.get(keysetCode);
+		int[] columnIndex = { 0 };
+		slice.forEachGroupBy((_, value) -> codes.accept(dictionaries.get(columnIndex[0]++).encode(value)));
+	}
+
+	protected int registerKeyset(List<String> columns) {
+		int keysetCode = codeToKeyset.size();
+
+		codeToKeyset.add(columns);
+		codeToDictionaries.add(columns.stream()
+				.map(column -> columnToDictionary.computeIfAbsent(column, _ -> new ColumnDictionary()))
+				.toList());
+		keysetToCode.put(columns, keysetCode);
+
+		return keysetCode;
+	}
+
+	@Override
+	public ISlice decode(IntSupplier codes) {
+		if (sliceFactory == null) {
+			throw new IllegalStateException("Can not decode before having encoded");
+		}
+
+		int keysetCode = codes.getAsInt();
+		List<String> keyset = codeToKeyset.get(keysetCode);
+		List<ColumnDictionary> dictionaries = codeToDictionaries.get(keysetCode);
+
+		IMapBuilderPreKeys builder = sliceFactory.newMapBuilder(keyset);
+		for (ColumnDictionary dictionary : dictionaries) {
+			builder = builder.append(dictionary.decode(codes.getAsInt()));
+		}
+		return builder.build().asSlice();
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.aggregating.spill;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import eu.solven.adhoc.options.SpillToDisk;
+
+/**
+ * The disk space available to the {@link SpillRun}s of a query. It is shared by all the grids of a query (e.g. one grid
+ * per partition, and per table query), so that {@link SpillToDisk#diskBudgetBytes()} bounds the disk usage of the
+ * whole query.
+ * 
+ * @author Benoit Lacelle
+ */
+public final class SpillBudget {
+	final long maxBytes;
+	final AtomicLong usedBytes = new AtomicLong();
+
+	private SpillBudget(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	public static SpillBudget of(long maxBytes) {
+		return new SpillBudget(maxBytes);
+	}
+
+	public static SpillBudget unbounded() {
+		return new SpillBudget(Long.MAX_VALUE);
+	}
+
+	/**
+	 * 
+	 * @param bytes
+	 *            the size of a {@link SpillRun} about to be written.
+	 * @throws IllegalStateException
+	 *             if the budget does not allow given bytes.
+	 */
+	public void reserve(long bytes) {
+		long before = usedBytes.getAndAccumulate(bytes, (used, added) -> {
+			if (used > maxBytes - added) {
+				// Leave the budget unchanged
+				return used;
+			}
+			return used + added;
+		});
+		if (before > maxBytes - bytes) {
+			throw new IllegalStateException(
+					"Can not spill %s bytes as spilled=%s and diskBudget=%s Consider a larger `SpillToDisk.diskBudgetBytes`"
+							.formatted(bytes, before, maxBytes));
+		}
+	}
+
+	public void release(long bytes) {
+		usedBytes.addAndGet(-bytes);
+	}
+
+	public long getUsedBytes() {
+		return usedBytes.get();
+	}
+}
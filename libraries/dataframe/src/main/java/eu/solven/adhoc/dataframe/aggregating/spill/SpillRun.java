@@ -0,0 +1,313 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.aggregating.spill;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import org.jspecify.annotations.Nullable;
+
+import eu.solven.adhoc.primitive.IValueProvider;
+import eu.solven.adhoc.primitive.IValueReceiver;
+import it.unimi.dsi.fastutil.ints.IntList;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A run of aggregates spilled into a memory-mapped file. The layout is columnar and primitive:
+ * <ul>
+ * <li>a header: the number of rows, the number of aggregators and the number of key codes,</li>
+ * <li>the key codes (see {@link ISpillKeyCodec}),</li>
+ * <li>for each aggregator, a page of {@code byte} tags (null, long, double, object) and a page of {@code long}
+ * payloads (a {@code double} is stored by its raw bits).</li>
+ * </ul>
+ * 
+ * Values which are neither {@code long} nor {@code double} (e.g. {@code IAggregationCarrier}) are kept on-heap, and
+ * referred by their index: they are the remaining heap cost of a spilled run (see {@link #getNbObjects()}), as they can
+ * not be serialized generically.
+ * 
+ * On POSIX systems, the file is deleted right after being mapped: the mapping remains readable, and the disk space is
+ * reclaimed once the mapping is garbage-collected, even if the query fails before merging the run.
+ * 
+ * @author Benoit Lacelle
+ */
+@Slf4j
+public final class SpillRun {
+	private static final int HEADER_BYTES = 3 * Integer.BYTES;
+	private static final int BYTES_PER_VALUE = Byte.BYTES + Long.BYTES;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_LONG = 1;
+	private static final byte TAG_DOUBLE = 2;
+	private static final byte TAG_OBJECT = 3;
+
+	@Getter
+	final int nbRows;
+	final int nbAggregators;
+	final int nbKeyCodes;
+	@Getter
+	final long sizeInBytes;
+
+	final List<Object> objects = new ArrayList<>();
+
+	@Nullable
+	MappedByteBuffer buffer;
+	// Not null if the file could not be deleted right after being mapped
+	@Nullable
+	Path path;
+
+	/**
+	 * Provides the value to spill for a given aggregator and a given row.
+	 */
+	@FunctionalInterface
+	public interface IValueSource {
+		IValueProvider getValue(int aggregatorIndex, int row);
+	}
+
+	private SpillRun(int nbRows, int nbAggregators, int nbKeyCodes) {
+		this.nbRows = nbRows;
+		this.nbAggregators = nbAggregators;
+		this.nbKeyCodes = nbKeyCodes;
+		this.sizeInBytes = sizeInBytes(nbKeyCodes, nbRows, nbAggregators);
+	}
+
+	/**
+	 * 
+	 * @return the size of the file holding a run with given dimensions.
+	 */
+	public static long sizeInBytes(int nbKeyCodes, int nbRows, int nbAggregators) {
+		return HEADER_BYTES + (long) Integer.BYTES * nbKeyCodes + (long) BYTES_PER_VALUE * nbRows * nbAggregators;
+	}
+
+	/**
+	 * 
+	 * @param directory
+	 *            the directory into which the run file is created
+	 * @param keyCodes
+	 *            the codes of the keys of all rows, as produced by {@link ISpillKeyCodec#encode}
+	 * @param nbRows
+	 * @param nbAggregators
+	 * @param values
+	 * @return a {@link SpillRun} holding given rows
+	 */
+	public static SpillRun write(Path directory,
+			IntList keyCodes,
+			int nbRows,
+			int nbAggregators,
+			IValueSource values) {
+		SpillRun run = new SpillRun(nbRows, nbAggregators, keyCodes.size());
+		if (run.sizeInBytes > Integer.MAX_VALUE) {
+			throw new IllegalStateException(
+					"Can not spill a run of %s bytes. Consider more partitions".formatted(run.sizeInBytes));
+		}
+
+		try {
+			Files.createDirectories(directory);
+			Path path = Files.createTempFile(directory, "adhoc-spill-", ".bin");
+
+			MappedByteBuffer buffer;
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, run.sizeInBytes);
+			}
+			run.buffer = buffer;
+			run.path = path;
+
+			run.writeContent(buffer, keyCodes, values);
+
+			run.tryDeleteFile();
+		} catch (IOException e) {
+			run.release();
+			throw new UncheckedIOException("Issue spilling %s rows into %s".formatted(nbRows, directory), e);
+		}
+
+		return run;
+	}
+
+	private void writeContent(MappedByteBuffer buffer, IntList keyCodes, IValueSource values) {
+		buffer.putInt(0, nbRows);
+		buffer.putInt(Integer.BYTES, nbAggregators);
+		buffer.putInt(2 * Integer.BYTES, nbKeyCodes);
+
+		for (int i = 0; i < nbKeyCodes; i++) {
+			buffer.putInt(HEADER_BYTES + i * Integer.BYTES, keyCodes.getInt(i));
+		}
+
+		ValueWriter writer = new ValueWriter(buffer);
+		for (int aggregatorIndex = 0; aggregatorIndex < nbAggregators; aggregatorIndex++) {
+			int tagsOffset = tagsOffset(aggregatorIndex);
+			int payloadsOffset = tagsOffset + nbRows;
+
+			for (int row = 0; row < nbRows; row++) {
+				writer.tagPosition = tagsOffset + row;
+				writer.payloadPosition = payloadsOffset + row * Long.BYTES;
+
+				values.getValue(aggregatorIndex, row).acceptReceiver(writer);
+			}
+		}
+	}
+
+	/**
+	 * Writes a value at the current position. Re-used for all values of a run, to prevent one allocation per value.
+	 */
+	private final class ValueWriter implements IValueReceiver {
+		final MappedByteBuffer buffer;
+		int tagPosition;
+		int payloadPosition;
+
+		ValueWriter(MappedByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void onLong(long v) {
+			buffer.put(tagPosition, TAG_LONG);
+			buffer.putLong(payloadPosition, v);
+		}
+
+		@Override
+		public void onDouble(double v) {
+			buffer.put(tagPosition, TAG_DOUBLE);
+			buffer.putLong(payloadPosition, Double.doubleToRawLongBits(v));
+		}
+
+		@Override
+		public void onObject(@Nullable Object v) {
+			if (v == null) {
+				buffer.put(tagPosition, TAG_NULL);
+			} else if (v instanceof Long l) {
+				onLong(l);
+			} else if (v instanceof Double d) {
+				onDouble(d);
+			} else {
+				buffer.put(tagPosition, TAG_OBJECT);
+				buffer.putLong(payloadPosition, objects.size());
+				objects.add(v);
+			}
+		}
+	}
+
+	private int tagsOffset(int aggregatorIndex) {
+		return HEADER_BYTES + nbKeyCodes * Integer.BYTES + aggregatorIndex * nbRows * BYTES_PER_VALUE;
+	}
+
+	private void tryDeleteFile() {
+		Path currentPath = path;
+		if (currentPath == null) {
+			return;
+		}
+		try {
+			Files.delete(currentPath);
+			path = null;
+		} catch (IOException e) {
+			// Typically on Windows, where a mapped file can not be deleted: it is deleted on `release`
+			log.debug("Can not delete {} while mapped", currentPath, e);
+		}
+	}
+
+	private MappedByteBuffer getBuffer() {
+		MappedByteBuffer currentBuffer = buffer;
+		if (currentBuffer == null) {
+			throw new IllegalStateException("This run has been released");
+		}
+		return currentBuffer;
+	}
+
+	/**
+	 * 
+	 * @return an {@link IntSupplier} iterating along the key codes, from the first row to the last row.
+	 */
+	public IntSupplier keyCodes() {
+		MappedByteBuffer currentBuffer = getBuffer();
+		int[] position = { HEADER_BYTES };
+		return () -> {
+			int code = currentBuffer.getInt(position[0]);
+			position[0] += Integer.BYTES;
+			return code;
+		};
+	}
+
+	/**
+	 * 
+	 * @return true if the value spilled for given aggregator and row is null.
+	 */
+	public boolean isNull(int aggregatorIndex, int row) {
+		return getBuffer().get(tagsOffset(aggregatorIndex) + row) == TAG_NULL;
+	}
+
+	/**
+	 * 
+	 * @param aggregatorIndex
+	 * @param row
+	 * @param receiver
+	 *            receives the value spilled for given aggregator and row.
+	 */
+	public void readValue(int aggregatorIndex, int row, IValueReceiver receiver) {
+		MappedByteBuffer currentBuffer = getBuffer();
+
+		int tagsOffset = tagsOffset(aggregatorIndex);
+		byte tag = currentBuffer.get(tagsOffset + row);
+		long payload = currentBuffer.getLong(tagsOffset + nbRows + row * Long.BYTES);
+		switch (tag) {
+		case TAG_NULL -> receiver.onObject(null);
+		case TAG_LONG -> receiver.onLong(payload);
+		case TAG_DOUBLE -> receiver.onDouble(Double.longBitsToDouble(payload));
+		case TAG_OBJECT -> receiver.onObject(objects.get((int) payload));
+		default -> throw new IllegalStateException("Unexpected tag=%s".formatted(tag));
+		}
+	}
+
+	/**
+	 * 
+	 * @return the number of values kept on-heap, as they are neither {@code long} nor {@code double}.
+	 */
+	public int getNbObjects() {
+		return objects.size();
+	}
+
+	/**
+	 * Releases the resources of this run. It can not be read anymore.
+	 */
+	@SuppressWarnings("PMD.NullAssignment")
+	public void release() {
+		buffer = null;
+		objects.clear();
+
+		Path currentPath = path;
+		if (currentPath != null) {
+			try {
+				Files.deleteIfExists(currentPath);
+				path = null;
+			} catch (IOException e) {
+				log.warn("Issue deleting {}", currentPath, e);
+			}
+		}
+	}
+}
@@ -0,0 +1,11 @@
+/**
+ * Out-of-core helpers for aggregating grids: compact, memory-mapped runs of aggregates spilled out of the heap.
+ *
+ * <p>
+ * All types in this package are null-marked: parameters, return types and fields are non-null by default; explicit
+ * {@link org.jspecify.annotations.Nullable @Nullable} marks the opt-outs.
+ */
+@NullMarked
+package eu.solven.adhoc.dataframe.aggregating.spill;
+
+import org.jspecify.annotations.NullMarked;
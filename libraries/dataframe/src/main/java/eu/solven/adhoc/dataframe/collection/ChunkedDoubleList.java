@@ -30,6 +30,7 @@ import org.jspecify.annotations.Nullable;
 import eu.solven.adhoc.collection.FrozenException;
 import eu.solven.adhoc.collection.ICompactable;
 import eu.solven.adhoc.collection.IFreezable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import it.unimi.dsi.fastutil.doubles.AbstractDoubleList;
 import it.unimi.dsi.fastutil.doubles.DoubleList;
 
@@ -60,7 +61,7 @@ import it.unimi.dsi.fastutil.doubles.DoubleList;
 // `appendChunk = null` is the documented way to invalidate the append-cache field after a mid-list edit, clear, or
 // compact — the field is the cache's sole tag and there is no sentinel `EMPTY` value to substitute.
 @SuppressWarnings("PMD.NullAssignment")
-public class ChunkedDoubleList extends AbstractDoubleList implements IFreezable, ICompactable {
+public class ChunkedDoubleList extends AbstractDoubleList implements IFreezable, ICompactable, IHasRetainedBytes {
 
 	private final int log2Base;
 	private final int base;
@@ -235,6 +236,26 @@ public class ChunkedDoubleList extends AbstractDoubleList implements IFreezable,
 		appendChunk = null;
 	}
 
+	/**
+	 * @see ChunkedList#estimateRetainedBytes()
+	 */
+	@Override
+	public long estimateRetainedBytes() {
+		long bytes = RetainedBytesHelpers.OBJECT_BYTES;
+		if (head != null) {
+			bytes += RetainedBytesHelpers.arrayBytes(head.length, Double.BYTES);
+		}
+		if (tail != null) {
+			bytes += RetainedBytesHelpers.arrayBytes(tail.length, RetainedBytesHelpers.REFERENCE_BYTES);
+			for (double[] chunk : tail) {
+				if (chunk != null) {
+					bytes += RetainedBytesHelpers.arrayBytes(chunk.length, Double.BYTES);
+				}
+			}
+		}
+		return bytes;
+	}
+
 	@Override
 	public boolean isFrozen() {
 		return compacted;
@@ -32,6 +32,7 @@ import org.jspecify.annotations.Nullable;
 import eu.solven.adhoc.collection.FrozenException;
 import eu.solven.adhoc.collection.ICompactable;
 import eu.solven.adhoc.collection.IFreezable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import it.unimi.dsi.fastutil.objects.AbstractObjectList;
 
 /**
@@ -82,7 +83,8 @@ import it.unimi.dsi.fastutil.objects.AbstractObjectList;
 // PMD.NullAssignment: `appendChunk = null` is the documented way to invalidate the append-cache field after a mid-list
 // edit, clear, or compact — the field is the cache's sole tag and there is no sentinel `EMPTY` value to substitute.
 @SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "PMD.NullAssignment" })
-public class ChunkedList<E> extends AbstractObjectList<E> implements RandomAccess, IFreezable, ICompactable {
+public class ChunkedList<E> extends AbstractObjectList<E>
+		implements RandomAccess, IFreezable, ICompactable, IHasRetainedBytes {
 
 	/** Default {@code log2(base)}. Alias of {@link ChunkedArrays#LOG2_BASE_DEFAULT} kept for test access. */
 	static final int LOG2_BASE_DEFAULT = ChunkedArrays.LOG2_BASE_DEFAULT;
@@ -373,6 +375,27 @@ public class ChunkedList<E> extends AbstractObjectList<E> implements RandomAcces
 		appendChunk = null;
 	}
 
+	/**
+	 * Sums the capacity of the head and of the allocated tail chunks: a not-yet-filled chunk is accounted in full, as
+	 * it is allocated in full. The referred elements are not accounted.
+	 */
+	@Override
+	public long estimateRetainedBytes() {
+		long bytes = RetainedBytesHelpers.OBJECT_BYTES;
+		if (head != null) {
+			bytes += RetainedBytesHelpers.arrayBytes(head.length, RetainedBytesHelpers.REFERENCE_BYTES);
+		}
+		if (tail != null) {
+			bytes += RetainedBytesHelpers.arrayBytes(tail.length, RetainedBytesHelpers.REFERENCE_BYTES);
+			for (Object[] chunk : tail) {
+				if (chunk != null) {
+					bytes += RetainedBytesHelpers.arrayBytes(chunk.length, RetainedBytesHelpers.REFERENCE_BYTES);
+				}
+			}
+		}
+		return bytes;
+	}
+
 	@Override
 	public boolean isFrozen() {
 		return compacted;
@@ -30,6 +30,7 @@ import org.jspecify.annotations.Nullable;
 import eu.solven.adhoc.collection.FrozenException;
 import eu.solven.adhoc.collection.ICompactable;
 import eu.solven.adhoc.collection.IFreezable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import it.unimi.dsi.fastutil.longs.AbstractLongList;
 import it.unimi.dsi.fastutil.longs.LongList;
 
@@ -60,7 +61,7 @@ import it.unimi.dsi.fastutil.longs.LongList;
 // `appendChunk = null` is the documented way to invalidate the append-cache field after a mid-list edit, clear, or
 // compact — the field is the cache's sole tag and there is no sentinel `EMPTY` value to substitute.
 @SuppressWarnings("PMD.NullAssignment")
-public class ChunkedLongList extends AbstractLongList implements IFreezable, ICompactable {
+public class ChunkedLongList extends AbstractLongList implements IFreezable, ICompactable, IHasRetainedBytes {
 
 	private final int log2Base;
 	private final int base;
@@ -252,6 +253,26 @@ public class ChunkedLongList extends AbstractLongList implements IFreezable, ICo
 		appendChunk = null;
 	}
 
+	/**
+	 * @see ChunkedList#estimateRetainedBytes()
+	 */
+	@Override
+	public long estimateRetainedBytes() {
+		long bytes = RetainedBytesHelpers.OBJECT_BYTES;
+		if (head != null) {
+			bytes += RetainedBytesHelpers.arrayBytes(head.length, Long.BYTES);
+		}
+		if (tail != null) {
+			bytes += RetainedBytesHelpers.arrayBytes(tail.length, RetainedBytesHelpers.REFERENCE_BYTES);
+			for (long[] chunk : tail) {
+				if (chunk != null) {
+					bytes += RetainedBytesHelpers.arrayBytes(chunk.length, Long.BYTES);
+				}
+			}
+		}
+		return bytes;
+	}
+
 	@Override
 	public boolean isFrozen() {
 		return compacted;
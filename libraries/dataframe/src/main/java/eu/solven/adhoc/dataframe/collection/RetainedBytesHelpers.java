@@ -0,0 +1,109 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.collection;
+
+import eu.solven.adhoc.collection.IHasRetainedBytes;
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.HashCommon;
+
+/**
+ * Helps implementing {@link IHasRetainedBytes}. Sizes assume a 64-bits JVM with compressed oops (the default for heaps
+ * below 32GB).
+ * 
+ * @author Benoit Lacelle
+ */
+public final class RetainedBytesHelpers {
+	// Header of a plain object, including the padding of a small object
+	public static final int OBJECT_BYTES = 16;
+	// Header of an array, including its length
+	public static final int ARRAY_HEADER_BYTES = 16;
+	// A compressed reference
+	public static final int REFERENCE_BYTES = 4;
+	// Flat cost of an object referred by a structure (e.g. a boxed value, a slice): its layout is not introspected
+	public static final int REFERRED_OBJECT_BYTES = 32;
+	// Flat cost of an entry in a structure which does not implement IHasRetainedBytes
+	public static final int UNKNOWN_ENTRY_BYTES = 64;
+
+	private static final int ALIGNMENT_MASK = 7;
+
+	private RetainedBytesHelpers() {
+		// hidden
+	}
+
+	/**
+	 * 
+	 * @param length
+	 *            the length (i.e. the capacity) of the array
+	 * @param elementBytes
+	 *            the size of each element, e.g. {@link Long#BYTES} or {@link #REFERENCE_BYTES}
+	 * @return the number of bytes of given array, excluding the referred objects.
+	 */
+	public static long arrayBytes(long length, int elementBytes) {
+		return align(ARRAY_HEADER_BYTES + length * elementBytes);
+	}
+
+	/**
+	 * 
+	 * @param size
+	 *            the number of entries in a fastutil open-hash structure (e.g.
+	 *            {@link it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap})
+	 * @param keyBytes
+	 * @param valueBytes
+	 *            0 for a set
+	 * @return the estimated number of bytes of the structure, given its keys and values arrays are sized with the
+	 *         default load-factor.
+	 */
+	public static long openHashBytes(long size, int keyBytes, int valueBytes) {
+		if (size == 0) {
+			// fastutil allocates the minimal capacity even for an empty structure
+			return OBJECT_BYTES;
+		}
+		// `+1` as fastutil keeps an additional slot for the null key
+		long capacity = HashCommon.bigArraySize(size, Hash.DEFAULT_LOAD_FACTOR) + 1;
+		long bytes = OBJECT_BYTES + arrayBytes(capacity, keyBytes);
+		if (valueBytes > 0) {
+			bytes += arrayBytes(capacity, valueBytes);
+		}
+		return bytes;
+	}
+
+	/**
+	 * 
+	 * @param structure
+	 *            any structure, typically a column
+	 * @param size
+	 *            the number of entries of the structure
+	 * @return the bytes estimated by {@link IHasRetainedBytes} if available, else a flat estimation given the size.
+	 */
+	public static long estimateRetainedBytes(Object structure, long size) {
+		if (structure instanceof IHasRetainedBytes hasRetainedBytes) {
+			return hasRetainedBytes.estimateRetainedBytes();
+		} else {
+			return OBJECT_BYTES + size * UNKNOWN_ENTRY_BYTES;
+		}
+	}
+
+	private static long align(long bytes) {
+		return (bytes + ALIGNMENT_MASK) & ~ALIGNMENT_MASK;
+	}
+}
@@ -32,6 +32,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 
 import eu.solven.adhoc.collection.ICompactable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import eu.solven.adhoc.cuboid.IColumnScanner;
 import eu.solven.adhoc.cuboid.IColumnValueConverter;
 import eu.solven.adhoc.cuboid.ICuboid;
@@ -39,8 +40,10 @@ import eu.solven.adhoc.cuboid.SliceAndMeasure;
 import eu.solven.adhoc.cuboid.StreamStrategy;
 import eu.solven.adhoc.cuboid.slice.ISlice;
 import eu.solven.adhoc.cuboid.slice.Slice;
+import eu.solven.adhoc.dataframe.collection.RetainedBytesHelpers;
 import eu.solven.adhoc.dataframe.column.hash.MultitypeHashColumn;
 import eu.solven.adhoc.dataframe.column.partitioned.IPartitioned;
+import eu.solven.adhoc.dataframe.column.partitioned.ShardKey;
 import eu.solven.adhoc.model.query.IHasGroupBy;
 import eu.solven.adhoc.primitive.IValueProvider;
 import eu.solven.adhoc.query.groupby.GroupByHelpers;
@@ -59,7 +62,7 @@ import lombok.ToString;
 // methods/processes like `.purgeAggregationCarriers()`. This is also immutable (by interface).
 @ToString
 @Builder(toBuilder = true)
-public class Cuboid implements ICuboid, IPartitioned<ICuboid> {
+public class Cuboid implements ICuboid, IPartitioned<ICuboid>, IHasRetainedBytes {
 	@NonNull
 	// Getter for testing
 	@Getter
@@ -144,6 +147,11 @@ public class Cuboid implements ICuboid, IPartitioned<ICuboid> {
 		}
 	}
 
+	@Override
+	public long estimateRetainedBytes() {
+		return RetainedBytesHelpers.OBJECT_BYTES + RetainedBytesHelpers.estimateRetainedBytes(values, values.size());
+	}
+
 	public static CuboidBuilder forGroupBy(IHasGroupBy hasGroupBy) {
 		return Cuboid.builder().columns(hasGroupBy.getGroupBy().getSortedColumns());
 	}
@@ -156,6 +164,14 @@ public class Cuboid implements ICuboid, IPartitioned<ICuboid> {
 		return 1;
 	}
 
+	@Override
+	public ShardKey getShardKey() {
+		if (values instanceof IPartitioned<?> partitioned) {
+			return partitioned.getShardKey();
+		}
+		return ShardKey.sliceHashcode();
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public ICuboid getPartition(int index) {
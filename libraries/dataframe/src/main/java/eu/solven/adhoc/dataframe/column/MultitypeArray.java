@@ -30,10 +30,12 @@ import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import eu.solven.adhoc.collection.ICompactable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import eu.solven.adhoc.dataframe.IAdhocCapacityConstants;
 import eu.solven.adhoc.dataframe.collection.ChunkedDoubleList;
 import eu.solven.adhoc.dataframe.collection.ChunkedList;
 import eu.solven.adhoc.dataframe.collection.ChunkedLongList;
+import eu.solven.adhoc.dataframe.collection.RetainedBytesHelpers;
 import eu.solven.adhoc.dataframe.column.hash.CleaningValueReceiver;
 import eu.solven.adhoc.encoding.column.AdhocColumnUnsafe;
 import eu.solven.adhoc.primitive.IMultitypeConstants;
@@ -60,7 +62,7 @@ import lombok.extern.slf4j.Slf4j;
 // concrete field types (LongChunkedList, DoubleChunkedList, ChunkedList) are intentional: compact() is only on the
 // concrete class
 @SuppressWarnings("PMD.LooseCoupling")
-public class MultitypeArray implements IMultitypeArray, ICompactable {
+public class MultitypeArray implements IMultitypeArray, ICompactable, IHasRetainedBytes {
 	// Indicate the single type of values stored in this column
 	// For now, since column can handle long or (exclusively) doubles. Switching to Object if the type is not only-long
 	// or only-double.
@@ -372,6 +374,15 @@ public class MultitypeArray implements IMultitypeArray, ICompactable {
 		}
 	}
 
+	@Override
+	public long estimateRetainedBytes() {
+		return RetainedBytesHelpers.OBJECT_BYTES + RetainedBytesHelpers.estimateRetainedBytes(valuesL, valuesL.size())
+				+ RetainedBytesHelpers.estimateRetainedBytes(valuesD, valuesD.size())
+				+ RetainedBytesHelpers.estimateRetainedBytes(valuesO, valuesO.size())
+				// Objects are typically boxed values or carriers, owned by this column
+				+ valuesO.size() * RetainedBytesHelpers.REFERRED_OBJECT_BYTES;
+	}
+
 	public void clear() {
 		valuesType = IMultitypeConstants.MASK_EMPTY;
 
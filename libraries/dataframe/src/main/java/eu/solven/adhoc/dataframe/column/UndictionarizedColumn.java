@@ -31,10 +31,12 @@ import java.util.stream.Stream;
 import org.jspecify.annotations.NonNull;
 
 import eu.solven.adhoc.collection.ICompactable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import eu.solven.adhoc.cuboid.IColumnScanner;
 import eu.solven.adhoc.cuboid.IColumnValueConverter;
 import eu.solven.adhoc.cuboid.SliceAndMeasure;
 import eu.solven.adhoc.cuboid.StreamStrategy;
+import eu.solven.adhoc.dataframe.collection.RetainedBytesHelpers;
 import eu.solven.adhoc.primitive.IValueProvider;
 import eu.solven.adhoc.primitive.IValueReceiver;
 import eu.solven.adhoc.stream.IConsumingStream;
@@ -63,7 +65,7 @@ import lombok.Builder.Default;
  * @author Benoit Lacelle
  */
 @Builder
-public class UndictionarizedColumn<T> implements IMultitypeColumnFastGet<T>, ICompactable {
+public class UndictionarizedColumn<T> implements IMultitypeColumnFastGet<T>, ICompactable, IHasRetainedBytes {
 	@NonNull
 	private final IntFunction<T> indexToSlice;
 	@NonNull
@@ -225,6 +227,16 @@ public class UndictionarizedColumn<T> implements IMultitypeColumnFastGet<T>, ICo
 		}
 	}
 
+	/**
+	 * The dictionary is not introspected: each slice is accounted with a flat cost, as the dictionary typically retains
+	 * one slice per row of the column.
+	 */
+	@Override
+	public long estimateRetainedBytes() {
+		return RetainedBytesHelpers.OBJECT_BYTES + RetainedBytesHelpers.estimateRetainedBytes(column, column.size())
+				+ column.size() * RetainedBytesHelpers.REFERRED_OBJECT_BYTES;
+	}
+
 	@Override
 	public String toString() {
 		return stream().toList()
@@ -74,6 +74,8 @@ public final class CleaningValueReceiver implements IValueReceiver {
 			} else {
 				decorated.onObject(v);
 			}
+		} else if (!cleanIfDirty) {
+			decorated.onObject(v);
 		} else if (AdhocPrimitiveHelpers.isLongLike(v)) {
 			long vAsPrimitive = AdhocPrimitiveHelpers.asLong(v);
 			decorated.onLong(vAsPrimitive);
@@ -35,10 +35,12 @@ import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.collect.Streams;
 
 import eu.solven.adhoc.collection.ICompactable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import eu.solven.adhoc.cuboid.IColumnScanner;
 import eu.solven.adhoc.cuboid.IColumnValueConverter;
 import eu.solven.adhoc.cuboid.SliceAndMeasure;
 import eu.solven.adhoc.dataframe.IAdhocCapacityConstants;
+import eu.solven.adhoc.dataframe.collection.RetainedBytesHelpers;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
 import eu.solven.adhoc.encoding.column.AdhocColumnUnsafe;
 import eu.solven.adhoc.measure.aggregation.carrier.IAggregationCarrier;
@@ -73,7 +75,7 @@ import lombok.extern.slf4j.Slf4j;
  */
 @SuperBuilder
 @Slf4j
-public class MultitypeHashColumn<T> implements IMultitypeColumnFastGet<T>, ICompactable {
+public class MultitypeHashColumn<T> implements IMultitypeColumnFastGet<T>, ICompactable, IHasRetainedBytes {
 	// We allow different types through keys. However, this requires a single key to be attached to a single type
 	// We do not try aggregating same type together, for a final cross-type aggregation. This could be done in a
 	// later/alternative implementation but with unclear benefits. It could actually be done with an additional column
@@ -406,4 +408,17 @@ public class MultitypeHashColumn<T> implements IMultitypeColumnFastGet<T>, IComp
 			hashMap.trim();
 		}
 	}
+
+	@Override
+	public long estimateRetainedBytes() {
+		int keyBytes = RetainedBytesHelpers.REFERENCE_BYTES;
+		return RetainedBytesHelpers.OBJECT_BYTES
+				+ RetainedBytesHelpers.openHashBytes(sliceToL.size(), keyBytes, Long.BYTES)
+				+ RetainedBytesHelpers.openHashBytes(sliceToD.size(), keyBytes, Double.BYTES)
+				+ RetainedBytesHelpers.openHashBytes(sliceToO.size(), keyBytes, RetainedBytesHelpers.REFERENCE_BYTES)
+				// Objects are typically boxed values or carriers, owned by this column
+				+ sliceToO.size() * RetainedBytesHelpers.REFERRED_OBJECT_BYTES
+				// Keys (e.g. slices) are owned by this column
+				+ size() * RetainedBytesHelpers.REFERRED_OBJECT_BYTES;
+	}
 }
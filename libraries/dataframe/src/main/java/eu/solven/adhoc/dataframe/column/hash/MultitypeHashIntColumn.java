@@ -34,10 +34,12 @@ import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.collect.Streams;
 
 import eu.solven.adhoc.collection.ICompactable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import eu.solven.adhoc.cuboid.IColumnScanner;
 import eu.solven.adhoc.cuboid.IColumnValueConverter;
 import eu.solven.adhoc.cuboid.SliceAndMeasure;
 import eu.solven.adhoc.dataframe.IAdhocCapacityConstants;
+import eu.solven.adhoc.dataframe.collection.RetainedBytesHelpers;
 import eu.solven.adhoc.dataframe.column.IMultitypeIntColumnFastGet;
 import eu.solven.adhoc.encoding.column.AdhocColumnUnsafe;
 import eu.solven.adhoc.measure.aggregation.carrier.IAggregationCarrier;
@@ -72,7 +74,7 @@ import lombok.extern.slf4j.Slf4j;
  */
 @SuperBuilder
 @Slf4j
-public class MultitypeHashIntColumn implements IMultitypeIntColumnFastGet, ICompactable {
+public class MultitypeHashIntColumn implements IMultitypeIntColumnFastGet, ICompactable, IHasRetainedBytes {
 	// We allow different types through keys. However, this requires a single key to be attached to a single type
 	// We do not try aggregating same type together, for a final cross-type aggregation. This could be done in a
 	// later/alternative implementation but with unclear benefits. It could actually be done with an additional column
@@ -403,4 +405,15 @@ public class MultitypeHashIntColumn implements IMultitypeIntColumnFastGet, IComp
 			hashMap.trim();
 		}
 	}
+
+	@Override
+	public long estimateRetainedBytes() {
+		int keyBytes = Integer.BYTES;
+		return RetainedBytesHelpers.OBJECT_BYTES
+				+ RetainedBytesHelpers.openHashBytes(sliceToL.size(), keyBytes, Long.BYTES)
+				+ RetainedBytesHelpers.openHashBytes(sliceToD.size(), keyBytes, Double.BYTES)
+				+ RetainedBytesHelpers.openHashBytes(sliceToO.size(), keyBytes, RetainedBytesHelpers.REFERENCE_BYTES)
+				// Objects are typically boxed values or carriers, owned by this column
+				+ sliceToO.size() * RetainedBytesHelpers.REFERRED_OBJECT_BYTES;
+	}
 }
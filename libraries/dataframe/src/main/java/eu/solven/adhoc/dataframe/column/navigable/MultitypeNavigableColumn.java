@@ -42,12 +42,14 @@ import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.primitives.Ints;
 
 import eu.solven.adhoc.collection.ICompactable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import eu.solven.adhoc.cuboid.IColumnScanner;
 import eu.solven.adhoc.cuboid.IColumnValueConverter;
 import eu.solven.adhoc.cuboid.SliceAndMeasure;
 import eu.solven.adhoc.cuboid.StreamStrategy;
 import eu.solven.adhoc.dataframe.IAdhocCapacityConstants;
 import eu.solven.adhoc.dataframe.collection.ChunkedList;
+import eu.solven.adhoc.dataframe.collection.RetainedBytesHelpers;
 import eu.solven.adhoc.dataframe.column.IMultitypeArray;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumn;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
@@ -79,7 +81,7 @@ import lombok.extern.slf4j.Slf4j;
 @SuperBuilder
 @Slf4j
 public class MultitypeNavigableColumn<T extends Comparable<T>>
-		implements IMultitypeColumnFastGetSorted<T>, ICompactable, IHasSortedLeg {
+		implements IMultitypeColumnFastGetSorted<T>, ICompactable, IHasSortedLeg, IHasRetainedBytes {
 	private static final IValueReceiver INSERTION_REJECTED = new IValueReceiver() {
 
 		@Override
@@ -648,6 +650,14 @@ public class MultitypeNavigableColumn<T extends Comparable<T>>
 		}
 	}
 
+	@Override
+	public long estimateRetainedBytes() {
+		return RetainedBytesHelpers.OBJECT_BYTES + RetainedBytesHelpers.estimateRetainedBytes(keys, keys.size())
+				// Keys (e.g. slices) are owned by this column
+				+ keys.size() * RetainedBytesHelpers.REFERRED_OBJECT_BYTES
+				+ RetainedBytesHelpers.estimateRetainedBytes(values, values.size());
+	}
+
 	@Override
 	public long sortedPrefixLength() {
 		return size();
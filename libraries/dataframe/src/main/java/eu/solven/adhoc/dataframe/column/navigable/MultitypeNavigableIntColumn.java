@@ -37,11 +37,13 @@ import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.primitives.Ints;
 
 import eu.solven.adhoc.collection.ICompactable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import eu.solven.adhoc.cuboid.IColumnScanner;
 import eu.solven.adhoc.cuboid.IColumnValueConverter;
 import eu.solven.adhoc.cuboid.SliceAndMeasure;
 import eu.solven.adhoc.cuboid.StreamStrategy;
 import eu.solven.adhoc.dataframe.IAdhocCapacityConstants;
+import eu.solven.adhoc.dataframe.collection.RetainedBytesHelpers;
 import eu.solven.adhoc.dataframe.column.IMultitypeArray;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
 import eu.solven.adhoc.dataframe.column.IMultitypeIntColumnFastGet;
@@ -78,7 +80,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @SuppressWarnings({ "PMD.GodClass", "PMD.LooseCoupling" })
 public class MultitypeNavigableIntColumn
-		implements IMultitypeIntColumnFastGet, IMultitypeIntColumnFastGetSorted, ICompactable, IHasSortedLeg {
+		implements IMultitypeIntColumnFastGet, IMultitypeIntColumnFastGetSorted, ICompactable, IHasSortedLeg,
+		IHasRetainedBytes {
 	private static final IValueReceiver INSERTION_REJECTED = new IValueReceiver() {
 		@Override
 		public void onObject(@Nullable Object v) {
@@ -524,6 +527,13 @@ public class MultitypeNavigableIntColumn
 		}
 	}
 
+	@Override
+	public long estimateRetainedBytes() {
+		return RetainedBytesHelpers.OBJECT_BYTES
+				+ RetainedBytesHelpers.arrayBytes(keys.elements().length, Integer.BYTES)
+				+ RetainedBytesHelpers.estimateRetainedBytes(values, values.size());
+	}
+
 	@Override
 	public long sortedPrefixLength() {
 		return size();
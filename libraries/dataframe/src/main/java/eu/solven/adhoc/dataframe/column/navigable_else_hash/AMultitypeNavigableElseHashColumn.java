@@ -30,10 +30,12 @@ import org.jspecify.annotations.Nullable;
 import com.google.common.collect.ImmutableList;
 
 import eu.solven.adhoc.collection.ICompactable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import eu.solven.adhoc.cuboid.IColumnScanner;
 import eu.solven.adhoc.cuboid.IColumnValueConverter;
 import eu.solven.adhoc.cuboid.SliceAndMeasure;
 import eu.solven.adhoc.cuboid.StreamStrategy;
+import eu.solven.adhoc.dataframe.collection.RetainedBytesHelpers;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGetSorted;
 import eu.solven.adhoc.dataframe.column.navigable.IHasSortedLeg;
@@ -56,7 +58,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @ToString
 public abstract class AMultitypeNavigableElseHashColumn<T extends Comparable<T>>
-		implements IMultitypeColumnFastGet<T>, ICompactable, IHasSortedLeg {
+		implements IMultitypeColumnFastGet<T>, ICompactable, IHasSortedLeg, IHasRetainedBytes {
 
 	// A first leg where slices are sorted
 	protected abstract IMultitypeColumnFastGetSorted<T> getNavigable();
@@ -200,4 +202,13 @@ public abstract class AMultitypeNavigableElseHashColumn<T extends Comparable<T>>
 			compactable.compact();
 		}
 	}
+
+	@Override
+	public long estimateRetainedBytes() {
+		IMultitypeColumnFastGetSorted<T> navigable = getNavigable();
+		IMultitypeColumnFastGet<T> hash = getHash();
+		return RetainedBytesHelpers.OBJECT_BYTES
+				+ RetainedBytesHelpers.estimateRetainedBytes(navigable, navigable.size())
+				+ RetainedBytesHelpers.estimateRetainedBytes(hash, hash.size());
+	}
 }
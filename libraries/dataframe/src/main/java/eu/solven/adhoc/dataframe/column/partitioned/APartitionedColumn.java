@@ -32,22 +32,26 @@ import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.collect.ImmutableList;
 
 import eu.solven.adhoc.collection.ICompactable;
+import eu.solven.adhoc.collection.IHasRetainedBytes;
 import eu.solven.adhoc.cuboid.IColumnScanner;
 import eu.solven.adhoc.cuboid.IColumnValueConverter;
 import eu.solven.adhoc.cuboid.SliceAndMeasure;
+import eu.solven.adhoc.dataframe.collection.RetainedBytesHelpers;
 import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
 import eu.solven.adhoc.dataframe.column.hash.MultitypeHashColumn;
 import eu.solven.adhoc.primitive.IValueProvider;
 import eu.solven.adhoc.primitive.IValueReceiver;
 import eu.solven.adhoc.stream.IConsumingStream;
 import eu.solven.adhoc.util.AdhocUnsafe;
+import lombok.Builder.Default;
+import lombok.Getter;
 import lombok.Singular;
 import lombok.experimental.SuperBuilder;
 
 /**
  * A read-only {@link IMultitypeColumnFastGet} assembled from N independently-built partition columns. Keys are routed
- * to their owning partition via {@link PartitioningHelpers#getPartitionIndex(Object, int)}, so each key lives in
- * exactly one partition.
+ * to their owning partition via {@link ShardKey#getPartitionIndex(Object, int)}, so each key lives in exactly one
+ * partition.
  *
  * <p>
  * This is the read-only counterpart of {@link PartitionedMergeableColumn}: it is typically created after all
@@ -60,13 +64,19 @@ import lombok.experimental.SuperBuilder;
  */
 @SuperBuilder
 public abstract class APartitionedColumn<T, D extends IMultitypeColumnFastGet<T>>
-		implements IMultitypeColumnFastGet<T>, IPartitioned<D>, ICompactable {
+		implements IMultitypeColumnFastGet<T>, IPartitioned<D>, ICompactable, IHasRetainedBytes {
 
 	/** One independent column per partition; each key maps to exactly one partition. */
 	@NonNull
 	@Singular
 	private final ImmutableList<D> partitions;
 
+	/** Routes keys to partitions: it must be the one used to fill the partitions. */
+	@NonNull
+	@Default
+	@Getter
+	private final ShardKey shardKey = ShardKey.sliceHashcode();
+
 	@Override
 	public int getNbPartitions() {
 		return partitions.size();
@@ -79,7 +89,7 @@ public abstract class APartitionedColumn<T, D extends IMultitypeColumnFastGet<T>
 
 	/**
 	 * Returns the partition that owns {@code key}, delegating index computation to
-	 * {@link PartitioningHelpers#getPartitionIndex(Object, int)}.
+	 * {@link ShardKey#getPartitionIndex(Object, int)}.
 	 */
 	protected D partition(T key) {
 		return getPartition(key);
@@ -134,7 +144,7 @@ public abstract class APartitionedColumn<T, D extends IMultitypeColumnFastGet<T>
 		List<IMultitypeColumnFastGet<T>> purged =
 				map(AdhocUnsafe.getCpuPool(), IMultitypeColumnFastGet::purgeAggregationCarriers);
 
-		return PartitionedColumn.<T>builder().partitions(purged).build();
+		return PartitionedColumn.<T>builder().partitions(purged).shardKey(shardKey).build();
 	}
 
 	@Override
@@ -146,11 +156,20 @@ public abstract class APartitionedColumn<T, D extends IMultitypeColumnFastGet<T>
 		});
 	}
 
+	@Override
+	public long estimateRetainedBytes() {
+		return RetainedBytesHelpers.OBJECT_BYTES
+				+ partitions.stream().mapToLong(p -> RetainedBytesHelpers.estimateRetainedBytes(p, p.size())).sum();
+	}
+
 	@Override
 	public String toString() {
 		ToStringHelper toStringHelper = MoreObjects.toStringHelper(this);
 
 		toStringHelper.add("nbPartitions", getNbPartitions());
+		if (!shardKey.getColumns().isEmpty()) {
+			toStringHelper.add("shardKey", shardKey.getColumns());
+		}
 
 		for (int i = 0; i < getNbPartitions(); i++) {
 			D partition = getPartition(i);
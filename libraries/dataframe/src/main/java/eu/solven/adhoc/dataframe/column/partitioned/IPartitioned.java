@@ -34,7 +34,7 @@ import com.google.common.util.concurrent.Futures;
  * Marks a data structure that is physically split into N independent partitions.
  *
  * <p>
- * Callers can use {@link PartitioningHelpers#getPartitionIndex(Object, int)} to map an arbitrary key to its owning
+ * Callers can use {@link ShardKey#getPartitionIndex(Object, int)} to map an arbitrary key to its owning
  * partition index, then retrieve that partition via {@link #getPartition(int)} to operate on it directly — for example
  * to fill partitions independently across threads before combining them for reading.
  *
@@ -58,8 +58,16 @@ public interface IPartitioned<P> {
 	 */
 	P getPartition(int index);
 
+	/**
+	 * @return the {@link ShardKey} routing keys to partitions. Two {@link IPartitioned} with the same {@link ShardKey}
+	 *         and the same number of partitions are aligned.
+	 */
+	default ShardKey getShardKey() {
+		return ShardKey.sliceHashcode();
+	}
+
 	default P getPartition(Object o) {
-		return getPartition(PartitioningHelpers.getPartitionIndex(o, getNbPartitions()));
+		return getPartition(getShardKey().getPartitionIndex(o, getNbPartitions()));
 	}
 
 	// default <O> List<O> mapPartitions(Function<? super P, O> function) {
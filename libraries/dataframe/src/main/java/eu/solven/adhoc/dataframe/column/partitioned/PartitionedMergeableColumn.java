@@ -37,7 +37,7 @@ import lombok.experimental.SuperBuilder;
 /**
  * An {@link IMultitypeMergeableColumn} that distributes keys across N independent partitions using hash routing. Each
  * {@link #merge} or {@link #append} call is forwarded to exactly one partition determined by
- * {@code Math.floorMod(key.hashCode(), nbPartitions)}.
+ * {@link #getShardKey()} (by default {@code Math.floorMod(key.hashCode(), nbPartitions)}).
  *
  * <p>
  * The main benefit over a single flat column is reduced per-partition map size: with K distinct keys spread over N
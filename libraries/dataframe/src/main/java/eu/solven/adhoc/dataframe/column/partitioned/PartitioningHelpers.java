@@ -23,7 +23,10 @@
 package eu.solven.adhoc.dataframe.column.partitioned;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -55,7 +58,8 @@ public class PartitioningHelpers {
 	}
 
 	/**
-	 * @return the common partition count if all inputs are partitioned with the same count >= 2.
+	 * @return the common partition count if all inputs are partitioned with the same count >= 2, and the same
+	 *         {@link ShardKey}. Partitions with the same index then hold the same keys across inputs.
 	 */
 	@SuppressWarnings("checkstyle:AvoidInlineConditionals")
 	public static OptionalInt commonPartitionCount(List<?> underlyings) {
@@ -64,13 +68,31 @@ public class PartitioningHelpers {
 				.distinct()
 				.toArray();
 
-		if (distinct.length == 1 && distinct[0] >= 2) {
+		if (distinct.length == 1 && distinct[0] >= 2 && commonShardKey(underlyings).isPresent()) {
 			return OptionalInt.of(distinct[0]);
 		} else {
 			return OptionalInt.empty();
 		}
 	}
 
+	/**
+	 * @return the {@link ShardKey} shared by all inputs, if they are all {@link IPartitioned} with the same
+	 *         {@link ShardKey}.
+	 */
+	public static Optional<ShardKey> commonShardKey(List<?> underlyings) {
+		if (underlyings.isEmpty() || !underlyings.stream().allMatch(IPartitioned.class::isInstance)) {
+			return Optional.empty();
+		}
+
+		Set<ShardKey> distinct =
+				underlyings.stream().map(c -> ((IPartitioned<?>) c).getShardKey()).collect(Collectors.toSet());
+		if (distinct.size() == 1) {
+			return Optional.of(distinct.iterator().next());
+		} else {
+			return Optional.empty();
+		}
+	}
+
 	/**
 	 * Partition-aware terminal operation: each element from the source stream is routed by the partitioner to one of N
 	 * dedicated consumer threads, so that all elements sharing the same partition index are processed sequentially by
@@ -0,0 +1,116 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.column.partitioned;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jspecify.annotations.NonNull;
+
+import com.google.common.collect.ImmutableSortedSet;
+
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Defines how a key (typically an {@link ISlice}) is routed to a partition.
+ *
+ * <p>
+ * By default ({@link #sliceHashcode()}), a key is routed by its {@link Object#hashCode()}: the routing then changes
+ * whenever the groupBy changes. A {@link ShardKey} over columns (e.g. declared by the table) routes a slice by its
+ * coordinates on these columns only: a slice keeps its partition through any groupBy change which retains these
+ * columns, which enables partition-local execution across DAG levels.
+ *
+ * <p>
+ * The routing is a pure function of ({@link ShardKey}, key): two partitioned structures with the same
+ * {@link ShardKey} and the same number of partitions are aligned (a given key lives in the same partition index).
+ *
+ * @author Benoit Lacelle
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShardKey {
+	private static final ShardKey SLICE_HASHCODE = new ShardKey(ImmutableSortedSet.of());
+
+	/**
+	 * The columns on which slices are routed. Empty means the whole key is hashed.
+	 */
+	@NonNull
+	ImmutableSortedSet<String> columns;
+
+	/**
+	 * @return the default {@link ShardKey}, routing each key by its {@link Object#hashCode()}.
+	 */
+	public static ShardKey sliceHashcode() {
+		return SLICE_HASHCODE;
+	}
+
+	public static ShardKey onColumns(Collection<String> columns) {
+		if (columns.isEmpty()) {
+			return SLICE_HASHCODE;
+		}
+		return new ShardKey(ImmutableSortedSet.copyOf(columns));
+	}
+
+	/**
+	 * A slice missing some shard column is routed by its {@link Object#hashCode()}. As all slices of a given column
+	 * share the same groupBy, the routing remains consistent within a column.
+	 *
+	 * @param key
+	 *            the key to route; must not be {@code null}
+	 * @param nbPartitions
+	 *            the total number of partitions; must be strictly positive
+	 * @return a value in {@code [0, nbPartitions)}
+	 */
+	public int getPartitionIndex(Object key, int nbPartitions) {
+		if (columns.isEmpty() || !(key instanceof ISlice slice)) {
+			return PartitioningHelpers.getPartitionIndex(key, nbPartitions);
+		}
+
+		Map<String, ?> coordinates = slice.asAdhocMap();
+		if (!coordinates.keySet().containsAll(columns)) {
+			return PartitioningHelpers.getPartitionIndex(key, nbPartitions);
+		}
+
+		int hash = 1;
+		for (String column : columns) {
+			hash = 31 * hash + Objects.hashCode(coordinates.get(column));
+		}
+		// Spread the high bits, as coordinates hashCodes may be poorly distributed (e.g. small integers)
+		return Math.floorMod(hash ^ hash >>> 16, nbPartitions);
+	}
+
+	/**
+	 * 
+	 * @param groupByColumns
+	 *            the columns of an output groupBy
+	 * @return true if a slice projected onto given groupBy is guaranteed to remain in the same partition.
+	 */
+	public boolean isPreservedBy(Set<String> groupByColumns) {
+		return !columns.isEmpty() && groupByColumns.containsAll(columns);
+	}
+}
@@ -34,6 +34,9 @@ import java.util.function.ToIntFunction;
 
 import org.jspecify.annotations.Nullable;
 
+import eu.solven.adhoc.engine.cancel.AmortizedCancellationCheck;
+import eu.solven.adhoc.engine.cancel.CancellationHelpers;
+import eu.solven.adhoc.engine.context.IIsCancellable;
 import eu.solven.adhoc.stream.IConsumingStream;
 import lombok.extern.slf4j.Slf4j;
 
@@ -55,6 +58,7 @@ class ShardingDispatcher<T> {
 	private final ToIntFunction<T> partitioner;
 	private final Consumer<T> consumer;
 	private final Executor executor;
+	private final IIsCancellable cancellable;
 
 	private final AtomicReference<@Nullable Throwable> firstError = new AtomicReference<>();
 	private final CountDownLatch latch;
@@ -73,6 +77,7 @@ class ShardingDispatcher<T> {
 		this.partitioner = parameters.getPartitioner();
 		this.consumer = parameters.getConsumer();
 		this.executor = parameters.getExecutor();
+		this.cancellable = parameters.getCancellable();
 		this.latch = new CountDownLatch(nbPartitions);
 
 		int queueCapacity = parameters.getQueueCapacity();
@@ -98,6 +103,7 @@ class ShardingDispatcher<T> {
 							// Poison pill — end of stream
 							break;
 						}
+						CancellationHelpers.checkNotCancelled(cancellable, "partitioned consumer");
 						for (Object item : batch) {
 							consumer.accept((T) item);
 						}
@@ -125,11 +131,14 @@ class ShardingDispatcher<T> {
 			buffers[i] = new ArrayList<>(batchSize);
 		}
 
+		AmortizedCancellationCheck cancellationCheck = AmortizedCancellationCheck.of(cancellable, "partitioned producer");
 		try {
 			stream.forEach(element -> {
 				if (firstError.get() != null) {
 					return;
 				}
+				// Throwing (instead of skipping elements) stops consuming the underlying stream
+				cancellationCheck.check();
 				int idx = partitioner.applyAsInt(element);
 				buffers[idx].add(element);
 				if (buffers[idx].size() == batchSize) {
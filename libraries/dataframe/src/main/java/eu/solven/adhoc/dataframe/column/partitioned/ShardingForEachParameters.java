@@ -28,6 +28,7 @@ import java.util.function.ToIntFunction;
 
 import org.jspecify.annotations.NonNull;
 
+import eu.solven.adhoc.engine.context.IIsCancellable;
 import eu.solven.adhoc.stream.IConsumingStream;
 import eu.solven.adhoc.util.AdhocUnsafe;
 import lombok.Builder;
@@ -86,4 +87,12 @@ public class ShardingForEachParameters<T> {
 	 */
 	@Builder.Default
 	int batchSize = AdhocUnsafe.getBatchSize();
+
+	/**
+	 * Checked by the producer and by the consumers on each batch: once cancelled, the stream is no longer consumed and
+	 * pending batches are discarded.
+	 */
+	@NonNull
+	@Builder.Default
+	IIsCancellable cancellable = IIsCancellable.notCancellable();
 }
@@ -0,0 +1,267 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+import eu.solven.adhoc.cuboid.tabular.ITabularGroupBySlice;
+import eu.solven.adhoc.filter.IAndFilter;
+import eu.solven.adhoc.filter.IColumnFilter;
+import eu.solven.adhoc.filter.INotFilter;
+import eu.solven.adhoc.filter.IOrFilter;
+import eu.solven.adhoc.filter.ISliceFilter;
+import eu.solven.adhoc.filter.value.IValueMatcher;
+import eu.solven.adhoc.map.AbstractAdhocMap;
+import eu.solven.adhoc.map.IAdhocMap;
+import eu.solven.adhoc.map.keyset.SequencedSetLikeList;
+import eu.solven.adhoc.table.transcoder.ITableAliaser;
+import eu.solven.pepper.core.PepperLogHelper;
+
+/**
+ * A {@link ISliceFilter} compiled into a tree of predicates, to be applied on many rows. Columns are resolved once
+ * through the {@link ITableAliaser}, and {@link IValueMatcher} are compiled through {@link ValueMatcherCompiler}.
+ * 
+ * When rows are {@link AbstractAdhocMap}, the index of each filtered column is resolved once per keySet (keySets are
+ * interned, hence generally shared by all rows of a given query), so that matching a row does not lookup columns by
+ * name.
+ * 
+ * This is thread-safe: the keySet binding is an immutable object, and concurrent rebinding is benign.
+ * 
+ * @author Benoit Lacelle
+ * @see MoreFilterHelpers#match(ITableAliaser, ISliceFilter, Predicate, ITabularGroupBySlice)
+ */
+public final class CompiledSliceFilter {
+	final ISliceFilter filter;
+	final Predicate<IColumnFilter> onMissingColumn;
+
+	// The distinct underlying columns referred by the filter
+	final List<String> columns = new ArrayList<>();
+	final INode root;
+
+	// Binding of `columns` to the indexes of the last keySet
+	@Nullable
+	KeysetBinding binding;
+
+	/**
+	 * The indexes in given keySet of each column. `-1` if the column is missing.
+	 */
+	record KeysetBinding(SequencedSetLikeList keys, int[] columnIndexes) {
+	}
+
+	/**
+	 * A node of the compiled tree. Leaves refers to columns by their index in {@link CompiledSliceFilter#columns}.
+	 */
+	interface INode {
+		boolean match(AbstractAdhocMap row, int[] columnIndexes);
+
+		boolean match(ITabularGroupBySlice row);
+	}
+
+	private CompiledSliceFilter(ITableAliaser transcoder,
+			ISliceFilter filter,
+			Predicate<IColumnFilter> onMissingColumn) {
+		this.filter = filter;
+		this.onMissingColumn = onMissingColumn;
+		this.root = compile(transcoder, filter);
+	}
+
+	public static CompiledSliceFilter compile(ITableAliaser transcoder,
+			ISliceFilter filter,
+			Predicate<IColumnFilter> onMissingColumn) {
+		return new CompiledSliceFilter(transcoder, filter, onMissingColumn);
+	}
+
+	/**
+	 * 
+	 * @param row
+	 * @return true if the row matches the filter.
+	 */
+	public boolean match(ITabularGroupBySlice row) {
+		if (columns.isEmpty()) {
+			// `matchAll`, `matchNone`, or combinations of them
+			return root.match(row);
+		}
+
+		IAdhocMap adhocMap = row.asSlice().asAdhocMap();
+		if (adhocMap instanceof AbstractAdhocMap indexedRow) {
+			return root.match(indexedRow, bind(indexedRow.getSequencedKeys()).columnIndexes());
+		} else {
+			return root.match(row);
+		}
+	}
+
+	protected KeysetBinding bind(SequencedSetLikeList keys) {
+		KeysetBinding currentBinding = binding;
+		// Reference-equality as keySets are interned
+		if (currentBinding != null && currentBinding.keys() == keys) {
+			return currentBinding;
+		}
+
+		int[] columnIndexes = new int[columns.size()];
+		for (int i = 0; i < columnIndexes.length; i++) {
+			columnIndexes[i] = keys.indexOf(columns.get(i));
+		}
+		KeysetBinding newBinding = new KeysetBinding(keys, columnIndexes);
+		binding = newBinding;
+		return newBinding;
+	}
+
+	protected INode compile(ITableAliaser transcoder, ISliceFilter filter) {
+		if (filter.isMatchAll()) {
+			return ConstantNode.TRUE;
+		} else if (filter.isMatchNone()) {
+			return ConstantNode.FALSE;
+		} else if (filter.isAnd() && filter instanceof IAndFilter andFilter) {
+			INode[] operands = andFilter.getOperands().stream().map(f -> compile(transcoder, f)).toArray(INode[]::new);
+			return new AndNode(operands);
+		} else if (filter.isOr() && filter instanceof IOrFilter orFilter) {
+			INode[] operands = orFilter.getOperands().stream().map(f -> compile(transcoder, f)).toArray(INode[]::new);
+			return new OrNode(operands);
+		} else if (filter.isNot() && filter instanceof INotFilter notFilter) {
+			return new NotNode(compile(transcoder, notFilter.getNegated()));
+		} else if (filter.isColumnFilter() && filter instanceof IColumnFilter columnFilter) {
+			String underlyingColumn = transcoder.underlyingNonNull(columnFilter.getColumn());
+
+			int columnIndex = columns.indexOf(underlyingColumn);
+			if (columnIndex < 0) {
+				columnIndex = columns.size();
+				columns.add(underlyingColumn);
+			}
+
+			return new ColumnNode(columnFilter,
+					underlyingColumn,
+					columnIndex,
+					ValueMatcherCompiler.compile(columnFilter.getValueMatcher()),
+					onMissingColumn);
+		} else {
+			throw new UnsupportedOperationException(PepperLogHelper.getObjectAndClass(filter).toString());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "compiled(" + filter + ")";
+	}
+
+	enum ConstantNode implements INode {
+		TRUE, FALSE;
+
+		@Override
+		public boolean match(AbstractAdhocMap row, int[] columnIndexes) {
+			return this == TRUE;
+		}
+
+		@Override
+		public boolean match(ITabularGroupBySlice row) {
+			return this == TRUE;
+		}
+	}
+
+	record AndNode(INode[] operands) implements INode {
+		@Override
+		public boolean match(AbstractAdhocMap row, int[] columnIndexes) {
+			for (INode operand : operands) {
+				if (!operand.match(row, columnIndexes)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean match(ITabularGroupBySlice row) {
+			for (INode operand : operands) {
+				if (!operand.match(row)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	record OrNode(INode[] operands) implements INode {
+		@Override
+		public boolean match(AbstractAdhocMap row, int[] columnIndexes) {
+			for (INode operand : operands) {
+				if (operand.match(row, columnIndexes)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean match(ITabularGroupBySlice row) {
+			for (INode operand : operands) {
+				if (operand.match(row)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	record NotNode(INode negated) implements INode {
+		@Override
+		public boolean match(AbstractAdhocMap row, int[] columnIndexes) {
+			return !negated.match(row, columnIndexes);
+		}
+
+		@Override
+		public boolean match(ITabularGroupBySlice row) {
+			return !negated.match(row);
+		}
+	}
+
+	record ColumnNode(IColumnFilter columnFilter,
+			String column,
+			int columnIndex,
+			IValueMatcher valueMatcher,
+			Predicate<IColumnFilter> onMissingColumn) implements INode {
+		@Override
+		public boolean match(AbstractAdhocMap row, int[] columnIndexes) {
+			int index = columnIndexes[columnIndex];
+			if (index < 0) {
+				return onMissingColumn.test(columnFilter);
+			}
+			return valueMatcher.match(row.getSequencedValue(index));
+		}
+
+		// Similar to MoreFilterHelpers#match
+		@Override
+		public boolean match(ITabularGroupBySlice row) {
+			Optional<?> optValue = row.asSlice().optGroupBy(column);
+
+			if (optValue.isEmpty() && !row.columnsKeySet().contains(column)) {
+				return onMissingColumn.test(columnFilter);
+			}
+
+			return valueMatcher.match(optValue.orElse(null));
+		}
+	}
+}
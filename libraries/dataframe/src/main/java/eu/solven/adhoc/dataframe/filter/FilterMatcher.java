@@ -27,6 +27,9 @@ import java.util.function.Predicate;
 
 import org.jspecify.annotations.NonNull;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
 import eu.solven.adhoc.cuboid.slice.SliceHelpers;
 import eu.solven.adhoc.cuboid.tabular.ITabularGroupBySlice;
 import eu.solven.adhoc.filter.IColumnFilter;
@@ -41,6 +44,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Defines parameters configuring for {@link MoreFilterHelpers#match}
  * 
+ * A {@link FilterMatcher} is meant to be applied on many rows: the filter is compiled on first match into a
+ * {@link CompiledSliceFilter}.
+ * 
  * @author Benoit Lacelle
  */
 @Builder
@@ -53,7 +59,7 @@ public class FilterMatcher {
 	 * By default, we behave as if the value was null if {@link IColumnFilter#isNullIfAbsent()}. Else we consider the
 	 * entry does not match (e.g. `color=blue` should not matcher `country=FR`).
 	 */
-	private static final Predicate<IColumnFilter> IF_MISSING_AS_NULL = filterMissingColumn -> {
+	static final Predicate<IColumnFilter> IF_MISSING_AS_NULL = filterMissingColumn -> {
 		if (filterMissingColumn.isNullIfAbsent()) {
 			log.trace("Treat absent as null");
 			return filterMissingColumn.getValueMatcher().match(null);
@@ -78,19 +84,27 @@ public class FilterMatcher {
 	@NonNull
 	ISliceFactory sliceFactory = MoreFilterHelpers.SLICE_FACTORY;
 
+	// Compiled lazily, as some matchers are built but never applied
+	final Supplier<CompiledSliceFilter> compiled =
+			Suppliers.memoize(() -> CompiledSliceFilter.compile(transcoder, filter, onMissingColumn));
+
 	public boolean match(Map<String, ?> map) {
+		return match(asSlice(sliceFactory, map));
+	}
+
+	public boolean match(ITabularGroupBySlice tabularRecord) {
+		return compiled.get().match(tabularRecord);
+	}
+
+	static ITabularGroupBySlice asSlice(ISliceFactory sliceFactory, Map<String, ?> map) {
 		if (map instanceof IAdhocMap adhocMap) {
 			// BEWARE if map is an IAdhocMap, we should use the ISlice whatever its factory
-			return match(adhocMap.asSlice());
+			return adhocMap.asSlice();
 		} else {
-			return match(SliceHelpers.asSlice(sliceFactory, map));
+			return SliceHelpers.asSlice(sliceFactory, map);
 		}
 	}
 
-	public boolean match(ITabularGroupBySlice tabularRecord) {
-		return MoreFilterHelpers.match(transcoder, filter, onMissingColumn, tabularRecord);
-	}
-
 	/**
 	 * 
 	 * @return a {@link Predicate} throwing if it called at any point. Useful when we should be guaranteed to always
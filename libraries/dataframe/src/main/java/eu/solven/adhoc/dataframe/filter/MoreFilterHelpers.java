@@ -29,7 +29,6 @@ import java.util.Optional;
 import java.util.function.Predicate;
 
 import eu.solven.adhoc.cuboid.tabular.ITabularGroupBySlice;
-import eu.solven.adhoc.dataframe.filter.FilterMatcher.FilterMatcherBuilder;
 import eu.solven.adhoc.filter.ColumnFilter;
 import eu.solven.adhoc.filter.FilterBuilder;
 import eu.solven.adhoc.filter.FilterHelpers;
@@ -65,6 +64,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MoreFilterHelpers {
 	// Ensure the slices for `.match` are transient
+	// BEWARE Rely on a sliceFactory not leaking (e.g. ColumnRowFactory would be bad)
 	static final ISliceFactory SLICE_FACTORY = RowSliceFactory.builder().build();
 
 	public static IValueMatcher transcodeType(ICustomTypeManagerSimple customTypeManager,
@@ -143,10 +143,8 @@ public class MoreFilterHelpers {
 		}
 	}
 
-	static FilterMatcherBuilder prepareMatcher() {
-		// BEWARE Rely on a sliceFactory not leaking (e.g. ColumnRowFactory would be bad)
-		return FilterMatcher.builder().sliceFactory(SLICE_FACTORY);
-	}
+	// The methods matching a single input do not compile the filter, as compiling is useful only given many inputs.
+	// Given many inputs, rely on a `FilterMatcher`.
 
 	/**
 	 *
@@ -155,19 +153,22 @@ public class MoreFilterHelpers {
 	 * @return true if the input matches the filter
 	 */
 	public static boolean match(ISliceFilter filter, Map<String, ?> input) {
-		return prepareMatcher().filter(filter).build().match(input);
+		return match(ITableAliaser.identity(), filter, input);
 	}
 
 	public static boolean match(ISliceFilter filter, String column, Object value) {
-		return prepareMatcher().filter(filter).build().match(Collections.singletonMap(column, value));
+		return match(filter, Collections.singletonMap(column, value));
 	}
 
 	public static boolean match(ITableAliaser transcoder, ISliceFilter filter, Map<String, ?> input) {
-		return prepareMatcher().transcoder(transcoder).filter(filter).build().match(input);
+		return matchInterpreted(transcoder,
+				filter,
+				FilterMatcher.IF_MISSING_AS_NULL,
+				FilterMatcher.asSlice(SLICE_FACTORY, input));
 	}
 
 	public static boolean match(ISliceFilter filter, ITabularGroupBySlice input) {
-		return prepareMatcher().filter(filter).build().match(input);
+		return matchInterpreted(ITableAliaser.identity(), filter, FilterMatcher.IF_MISSING_AS_NULL, input);
 	}
 
 	/**
@@ -179,7 +180,13 @@ public class MoreFilterHelpers {
 			ISliceFilter filter,
 			Predicate<IColumnFilter> onMissingColumn,
 			ITabularGroupBySlice input) {
+		return matchInterpreted(transcoder, filter, onMissingColumn, input);
+	}
 
+	static boolean matchInterpreted(ITableAliaser transcoder,
+			ISliceFilter filter,
+			Predicate<IColumnFilter> onMissingColumn,
+			ITabularGroupBySlice input) {
 		// Fast-track, to skip opening Stream on empty Collection
 		if (ISliceFilter.MATCH_ALL.equals(filter)) {
 			return true;
@@ -188,9 +195,13 @@ public class MoreFilterHelpers {
 		}
 
 		if (filter.isAnd() && filter instanceof IAndFilter andFilter) {
-			return andFilter.getOperands().stream().allMatch(f -> match(transcoder, f, onMissingColumn, input));
+			return andFilter.getOperands()
+					.stream()
+					.allMatch(f -> matchInterpreted(transcoder, f, onMissingColumn, input));
 		} else if (filter.isOr() && filter instanceof IOrFilter orFilter) {
-			return orFilter.getOperands().stream().anyMatch(f -> match(transcoder, f, onMissingColumn, input));
+			return orFilter.getOperands()
+					.stream()
+					.anyMatch(f -> matchInterpreted(transcoder, f, onMissingColumn, input));
 		} else if (filter.isColumnFilter() && filter instanceof IColumnFilter columnFilter) {
 			String underlyingColumn = transcoder.underlyingNonNull(columnFilter.getColumn());
 
@@ -207,7 +218,7 @@ public class MoreFilterHelpers {
 
 			return columnFilter.getValueMatcher().match(optValue.orElse(null));
 		} else if (filter.isNot() && filter instanceof INotFilter notFilter) {
-			return !match(transcoder, notFilter.getNegated(), onMissingColumn, input);
+			return !matchInterpreted(transcoder, notFilter.getNegated(), onMissingColumn, input);
 		} else {
 			throw new UnsupportedOperationException(PepperLogHelper.getObjectAndClass(filter).toString());
 		}
@@ -0,0 +1,162 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.adhoc.filter.value.AndMatcher;
+import eu.solven.adhoc.filter.value.IValueMatcher;
+import eu.solven.adhoc.filter.value.InMatcher;
+import eu.solven.adhoc.filter.value.LikeMatcher;
+import eu.solven.adhoc.filter.value.NotMatcher;
+import eu.solven.adhoc.filter.value.OrMatcher;
+import eu.solven.adhoc.primitive.AdhocPrimitiveHelpers;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Turns a {@link IValueMatcher} into an equivalent {@link IValueMatcher} optimized to be applied on many values: `LIKE`
+ * patterns are compiled once, `IN` operands are split into a primitive `long` set and a hash set, and boolean
+ * combinations iterate over arrays instead of opening {@link java.util.stream.Stream}.
+ * 
+ * The output is not meant to be serialized, nor compared with other {@link IValueMatcher}.
+ * 
+ * @author Benoit Lacelle
+ */
+@UtilityClass
+public class ValueMatcherCompiler {
+
+	public static IValueMatcher compile(IValueMatcher valueMatcher) {
+		if (valueMatcher instanceof InMatcher inMatcher) {
+			return compileIn(inMatcher);
+		} else if (valueMatcher instanceof LikeMatcher likeMatcher) {
+			Pattern pattern = LikeMatcher.asPattern(likeMatcher.getPattern());
+			return value -> pattern.matcher(asCharSequence(value)).matches();
+		} else if (valueMatcher instanceof NotMatcher notMatcher) {
+			IValueMatcher negated = compile(notMatcher.getNegated());
+			return value -> !negated.match(value);
+		} else if (valueMatcher instanceof AndMatcher andMatcher) {
+			IValueMatcher[] operands = compile(andMatcher.getOperands());
+			if (operands.length == 1) {
+				return operands[0];
+			}
+			return value -> {
+				for (IValueMatcher operand : operands) {
+					if (!operand.match(value)) {
+						return false;
+					}
+				}
+				return true;
+			};
+		} else if (valueMatcher instanceof OrMatcher orMatcher) {
+			IValueMatcher[] operands = compile(orMatcher.getOperands());
+			if (operands.length == 1) {
+				return operands[0];
+			}
+			return value -> {
+				for (IValueMatcher operand : operands) {
+					if (operand.match(value)) {
+						return true;
+					}
+				}
+				return false;
+			};
+		} else {
+			// EqualsMatcher, NullMatcher, RegexMatcher, ... are already cheap to apply
+			return valueMatcher;
+		}
+	}
+
+	private static IValueMatcher[] compile(Set<IValueMatcher> operands) {
+		return operands.stream().map(ValueMatcherCompiler::compile).toArray(IValueMatcher[]::new);
+	}
+
+	/**
+	 * Equivalent to {@link InMatcher#match(Object)}, given operands are normalized by
+	 * {@link AdhocPrimitiveHelpers#normalizeValues(java.util.Collection)}.
+	 */
+	private static IValueMatcher compileIn(InMatcher inMatcher) {
+		LongSet longOperands = new LongOpenHashSet();
+		ImmutableSet.Builder<Object> otherOperandsBuilder = ImmutableSet.builder();
+		List<IValueMatcher> matcherOperands = new ArrayList<>();
+
+		inMatcher.getOperands().forEach(operand -> {
+			if (operand instanceof Long longOperand) {
+				longOperands.add(longOperand.longValue());
+			} else {
+				if (operand instanceof IValueMatcher matcherOperand) {
+					matcherOperands.add(compile(matcherOperand));
+				}
+				otherOperandsBuilder.add(operand);
+			}
+		});
+
+		Set<Object> otherOperands = otherOperandsBuilder.build();
+		IValueMatcher[] matchers = matcherOperands.toArray(IValueMatcher[]::new);
+
+		return value -> {
+			if (value instanceof Long || value instanceof Integer) {
+				// Skip the boxing by `normalizeValue` for the most common long-like inputs
+				if (longOperands.contains(((Number) value).longValue())) {
+					return true;
+				}
+			} else {
+				Object normalized = AdhocPrimitiveHelpers.normalizeValue(value);
+				if (normalized instanceof Long l) {
+					if (longOperands.contains(l.longValue())) {
+						return true;
+					}
+				} else if (otherOperands.contains(normalized)) {
+					return true;
+				}
+			}
+
+			if (matchers.length > 0) {
+				Object normalized = AdhocPrimitiveHelpers.normalizeValue(value);
+				for (IValueMatcher matcher : matchers) {
+					if (matcher.match(normalized)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		};
+	}
+
+	// Similar to LikeMatcher#match
+	private static CharSequence asCharSequence(@Nullable Object value) {
+		if (value instanceof CharSequence cs) {
+			return cs;
+		} else {
+			return String.valueOf(value);
+		}
+	}
+}
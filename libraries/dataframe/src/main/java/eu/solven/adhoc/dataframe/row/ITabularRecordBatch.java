@@ -0,0 +1,95 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.row;
+
+import org.jspecify.annotations.Nullable;
+
+import com.google.common.collect.ImmutableList;
+
+import eu.solven.adhoc.primitive.IValueReceiver;
+
+/**
+ * A columnar batch of {@link ITabularRecord}, typically wrapping an Arrow record batch. It enables a reducer to read
+ * aggregates as primitives and groupBy coordinates through a per-batch dictionary, without materializing an
+ * {@link ITabularRecord} per row.
+ * 
+ * BEWARE A batch is generally valid only while it is being consumed (e.g. the underlying buffers are released once the
+ * next batch is loaded): it must not be retained.
+ * 
+ * @author Benoit Lacelle
+ */
+public interface ITabularRecordBatch {
+
+	/**
+	 * Coordinates of a groupBy column, dictionary-encoded once for the whole batch.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	interface IDictionarizedColumn {
+		/**
+		 * @return the code of given row, in `[0, getNbCodes()[`.
+		 */
+		int getCode(int rowIndex);
+
+		@Nullable
+		Object getCoordinate(int code);
+
+		int getNbCodes();
+	}
+
+	/**
+	 * An aggregate column, pushing each row value into a {@link IValueReceiver}, preferably as a primitive.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	@FunctionalInterface
+	interface IAggregateColumn {
+		void acceptReceiver(int rowIndex, IValueReceiver receiver);
+	}
+
+	int getNbRows();
+
+	/**
+	 * 
+	 * @return the groupBy columns present in each row, in the order of {@link ITabularRecordFactory#getColumns()}.
+	 */
+	ImmutableList<String> getColumns();
+
+	/**
+	 * 
+	 * @param columnIndex
+	 *            an index in {@link #getColumns()}
+	 * @return the dictionarized coordinates of given column
+	 */
+	IDictionarizedColumn dictionarize(int columnIndex);
+
+	IAggregateColumn getAggregate(String aggregateName);
+
+	/**
+	 * Fallback to a row-based access.
+	 * 
+	 * @param rowIndex
+	 * @return the {@link ITabularRecord} at given row
+	 */
+	ITabularRecord getRecord(int rowIndex);
+}
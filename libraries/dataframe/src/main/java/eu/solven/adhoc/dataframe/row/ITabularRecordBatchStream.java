@@ -0,0 +1,55 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.row;
+
+import eu.solven.adhoc.stream.ConsumingStream;
+import eu.solven.adhoc.stream.IConsumingStream;
+
+/**
+ * A {@link ITabularRecordStream} which can be consumed batch-by-batch, to skip the allocation of an
+ * {@link ITabularRecord} per row.
+ * 
+ * Only one of {@link #batches()} and {@link #records()} should be called, as the underlying stream is opened only once.
+ * 
+ * @author Benoit Lacelle
+ */
+public interface ITabularRecordBatchStream extends ITabularRecordStream {
+
+	/**
+	 * Batches are guaranteed to be valid only while being accepted by the consumer.
+	 * 
+	 * @return a {@link IConsumingStream} of {@link ITabularRecordBatch}
+	 */
+	IConsumingStream<ITabularRecordBatch> batches();
+
+	@Override
+	default IConsumingStream<ITabularRecord> records() {
+		IConsumingStream<ITabularRecordBatch> batches = batches();
+		return ConsumingStream.<ITabularRecord>builder().source(s -> batches.forEach(batch -> {
+			int nbRows = batch.getNbRows();
+			for (int rowIndex = 0; rowIndex < nbRows; rowIndex++) {
+				s.accept(batch.getRecord(rowIndex));
+			}
+		})).closeHandler(batches::close).build();
+	}
+}
@@ -92,6 +92,42 @@ public class ListBasedTabularView extends AListBasedTabularView {
 		return to;
 	}
 
+	/**
+	 * Load a window of rows, typically to serve a page of a large view without serializing the whole view.
+	 *
+	 * @param from
+	 *            the view to read
+	 * @param offset
+	 *            the number of leading rows to skip
+	 * @param limit
+	 *            the maximum number of rows to load. A negative value means no limit.
+	 * @return a {@link ListBasedTabularView} holding rows {@code [offset, offset + limit)} of {@code from}.
+	 */
+	public static ListBasedTabularView loadWindow(IReadableTabularView from, long offset, long limit) {
+		if (offset < 0) {
+			throw new IllegalArgumentException("offset must not be negative. Was %s".formatted(offset));
+		}
+
+		long windowSize = Math.max(0, from.size() - offset);
+		if (limit >= 0) {
+			windowSize = Math.min(windowSize, limit);
+		}
+
+		int capacity = Ints.checkedCast(windowSize);
+		ListBasedTabularView to = ListBasedTabularView.builder()
+				.coordinates(new ArrayList<>(capacity))
+				.values(new ArrayList<>(capacity))
+				.build();
+
+		// `stream` is lazy: only the window is copied, not the whole view
+		from.<Map.Entry<ISlice, Map<String, ?>>>stream(slice -> v -> Map.entry(slice, v))
+				.skip(offset)
+				.limit(windowSize)
+				.forEach(e -> to.appendSlice(e.getKey(), e.getValue()));
+
+		return to;
+	}
+
 	@Override
 	public Stream<ISlice> slices() {
 		return coordinates.stream().map(s -> AdhocMapHelpers.fromMap(sliceFactory, s).asSlice());
@@ -0,0 +1,227 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.aggregating;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.cuboid.slice.SliceHelpers;
+import eu.solven.adhoc.dataframe.aggregating.spill.SliceSpillKeyCodec;
+import eu.solven.adhoc.dataframe.aggregating.spill.SpillBudget;
+import eu.solven.adhoc.dataframe.column.IMultitypeColumnFastGet;
+import eu.solven.adhoc.dataframe.column.partitioned.PartitionedColumn;
+import eu.solven.adhoc.dataframe.tabular.IMultitypeMergeableGrid.IOpenedSlice;
+import eu.solven.adhoc.encoding.column.AdhocColumnUnsafe;
+import eu.solven.adhoc.engine.step.CubeQueryStep;
+import eu.solven.adhoc.measure.aggregation.comparable.MaxAggregation;
+import eu.solven.adhoc.model.measure.Aggregator;
+import eu.solven.adhoc.primitive.IValueProvider;
+
+public class TestSpillingAggregatingColumns {
+	Aggregator sum = Aggregator.sum("k1");
+	Aggregator max = Aggregator.builder().name("k2").aggregationKey(MaxAggregation.KEY).build();
+
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	public void resetLimit() {
+		AdhocColumnUnsafe.resetAll();
+	}
+
+	private SpillingAggregatingColumns.SpillingAggregatingColumnsBuilder<ISlice> builder() {
+		return SpillingAggregatingColumns.<ISlice>builder()
+				.keyCodec(new SliceSpillKeyCodec())
+				.directory(tempDir)
+				.nbPartitions(3)
+				.checkEvery(1);
+	}
+
+	private static ISlice slice(int i) {
+		return SliceHelpers.asSlice(Map.of("c", "c" + i % 7, "i", i));
+	}
+
+	private void contribute(SpillingAggregatingColumns<ISlice> grid, int nbSlices) {
+		for (int i = 0; i < nbSlices; i++) {
+			IOpenedSlice opened = grid.openSlice(slice(i));
+			opened.contribute(sum).onLong(i);
+			opened.contribute(max).onDouble(i * 0.5D);
+		}
+	}
+
+	private IMultitypeColumnFastGet<ISlice> close(SpillingAggregatingColumns<ISlice> grid, Aggregator aggregator) {
+		return grid.closeColumn(CubeQueryStep.builder().measure(aggregator.getName()).build(), aggregator);
+	}
+
+	private List<Path> listTempDir() throws IOException {
+		try (Stream<Path> files = Files.list(tempDir)) {
+			return files.toList();
+		}
+	}
+
+	@Test
+	public void testNoSpill() {
+		SpillingAggregatingColumns<ISlice> grid = builder().build();
+
+		contribute(grid, 10);
+		contribute(grid, 10);
+
+		IMultitypeColumnFastGet<ISlice> closed = close(grid, sum);
+		Assertions.assertThat(closed).isNotInstanceOf(PartitionedColumn.class);
+		Assertions.assertThat(closed.size()).isEqualTo(10);
+		Assertions.assertThat(IValueProvider.getValue(closed.onValue(slice(3)))).isEqualTo(6L);
+	}
+
+	@Test
+	public void testSpill() throws IOException {
+		SpillingAggregatingColumns<ISlice> grid = builder().maxSlicesInHeap(10).build();
+
+		contribute(grid, 100);
+		Assertions.assertThat(grid.spilledBytes).isPositive();
+		// Spilled runs are not counted twice
+		contribute(grid, 100);
+
+		IMultitypeColumnFastGet<ISlice> closedSum = close(grid, sum);
+		IMultitypeColumnFastGet<ISlice> closedMax = close(grid, max);
+
+		Assertions.assertThat(closedSum).isInstanceOf(PartitionedColumn.class);
+		Assertions.assertThat(closedSum.size()).isEqualTo(100);
+		Assertions.assertThat(closedMax.size()).isEqualTo(100);
+
+		List<ISlice> keys = new ArrayList<>();
+		closedSum.keyStream().forEach(keys::add);
+		Assertions.assertThat(keys).hasSize(100).doesNotHaveDuplicates();
+
+		for (int i = 0; i < 100; i++) {
+			Assertions.assertThat(IValueProvider.getValue(closedSum.onValue(slice(i)))).isEqualTo(2L * i);
+			Assertions.assertThat(IValueProvider.getValue(closedMax.onValue(slice(i)))).isEqualTo(i * 0.5D);
+		}
+
+		// All runs are released once merged
+		Assertions.assertThat(grid.spilledBytes).isZero();
+		Assertions.assertThat(listTempDir()).isEmpty();
+	}
+
+	@Test
+	public void testSpill_mergeOnePartitionAtATime() {
+		int nbSlices = 10_000;
+		int nbPartitions = 17;
+		SpillingAggregatingColumns<ISlice> grid =
+				builder().nbPartitions(nbPartitions).checkEvery(16).maxSlicesInHeap(100).build();
+
+		contribute(grid, nbSlices);
+		Assertions.assertThat(grid.liveSlices()).isLessThan(100 + 16);
+
+		IMultitypeColumnFastGet<ISlice> closedSum = close(grid, sum);
+		IMultitypeColumnFastGet<ISlice> closedMax = close(grid, max);
+		Assertions.assertThat(closedSum.size()).isEqualTo(nbSlices);
+		Assertions.assertThat(closedMax.size()).isEqualTo(nbSlices);
+		Assertions.assertThat(grid.size(sum.getName())).isEqualTo(nbSlices);
+
+		// The merge holds a single partition in heap at a time, and merged partitions are discarded
+		Assertions.assertThat(grid.peakMergedSlices).isPositive().isLessThan(2 * nbSlices / nbPartitions);
+		Assertions.assertThat(grid.liveSlices()).isZero();
+	}
+
+	@Test
+	public void testSpill_columnSizeLimit() {
+		AdhocColumnUnsafe.setLimitColumnSize(20);
+
+		// Without spilling, this would fail as 100 > 20
+		SpillingAggregatingColumns<ISlice> grid = builder().nbPartitions(17).build();
+		contribute(grid, 100);
+
+		IMultitypeColumnFastGet<ISlice> closed = close(grid, sum);
+		Assertions.assertThat(closed.size()).isEqualTo(100);
+		Assertions.assertThat(IValueProvider.getValue(closed.onValue(slice(42)))).isEqualTo(42L);
+	}
+
+	@Test
+	public void testSpill_diskBudget() {
+		SpillingAggregatingColumns<ISlice> grid = builder().maxSlicesInHeap(10).diskBudget(SpillBudget.of(128)).build();
+
+		Assertions.assertThatThrownBy(() -> contribute(grid, 100))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("diskBudget=128");
+	}
+
+	@Test
+	public void testSpill_diskBudgetSharedByGrids() {
+		SpillBudget unbounded = SpillBudget.unbounded();
+		contribute(builder().maxSlicesInHeap(10).diskBudget(unbounded).build(), 100);
+		long spilledByOneGrid = unbounded.getUsedBytes();
+		Assertions.assertThat(spilledByOneGrid).isPositive();
+
+		SpillBudget budget = SpillBudget.of(spilledByOneGrid);
+		SpillingAggregatingColumns<ISlice> grid = builder().maxSlicesInHeap(10).diskBudget(budget).build();
+		contribute(grid, 100);
+
+		// The budget is exhausted by the first grid
+		Assertions.assertThatThrownBy(() -> contribute(builder().maxSlicesInHeap(10).diskBudget(budget).build(), 100))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("diskBudget=" + spilledByOneGrid);
+
+		// Merged runs release the budget
+		close(grid, sum);
+		Assertions.assertThat(budget.getUsedBytes()).isZero();
+		contribute(builder().maxSlicesInHeap(10).diskBudget(budget).build(), 100);
+	}
+
+	@Test
+	public void testSpill_objectsCountedInHeap() {
+		SpillingAggregatingColumns<ISlice> grid = builder().maxSlicesInHeap(50).build();
+
+		for (int i = 0; i < 100; i++) {
+			grid.openSlice(slice(i)).contribute(max).onObject("v" + i);
+		}
+		// Objects are not written in the runs, but kept on-heap
+		Assertions.assertThat(grid.spilledObjects + grid.liveSlices()).isEqualTo(100);
+		// As the spilled objects count in the heap, the live slices are spilled as soon as they are opened
+		Assertions.assertThat(grid.liveSlices()).isLessThan(3);
+
+		IMultitypeColumnFastGet<ISlice> closed = close(grid, max);
+		Assertions.assertThat(closed.size()).isEqualTo(100);
+		Assertions.assertThat(IValueProvider.getValue(closed.onValue(slice(42)))).isEqualTo("v42");
+		Assertions.assertThat(grid.spilledObjects).isZero();
+	}
+
+	@Test
+	public void testContributeAfterClose() {
+		SpillingAggregatingColumns<ISlice> grid = builder().build();
+		contribute(grid, 1);
+		close(grid, sum);
+
+		Assertions.assertThatThrownBy(() -> grid.openSlice(slice(1))).isInstanceOf(IllegalStateException.class);
+	}
+}
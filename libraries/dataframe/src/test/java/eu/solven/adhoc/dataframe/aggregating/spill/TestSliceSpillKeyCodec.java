@@ -0,0 +1,72 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.aggregating.spill;
+
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.cuboid.slice.SliceHelpers;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+
+public class TestSliceSpillKeyCodec {
+	SliceSpillKeyCodec codec = new SliceSpillKeyCodec();
+
+	@Test
+	public void testRoundTrip() {
+		ISlice s1 = SliceHelpers.asSlice(Map.of("a", "a1", "b", 12));
+		ISlice s2 = SliceHelpers.asSlice(Map.of("a", "a2", "b", 12));
+		ISlice s3 = SliceHelpers.asSlice(Map.of("c", "a1"));
+		ISlice grandTotal = SliceHelpers.grandTotal();
+
+		IntArrayList codes = new IntArrayList();
+		codec.encode(s1, codes::add);
+		codec.encode(s2, codes::add);
+		codec.encode(s3, codes::add);
+		codec.encode(grandTotal, codes::add);
+		codec.encode(s1, codes::add);
+
+		// keyset code, then one code per coordinate
+		Assertions.assertThat(codes.size()).isEqualTo(3 + 3 + 2 + 1 + 3);
+		// The same slice has the same codes
+		Assertions.assertThat(codes.subList(9, 12).toIntArray()).isEqualTo(codes.subList(0, 3).toIntArray());
+		// Each column has its own dictionary: `a1` is the first coordinate of `c`
+		Assertions.assertThat(codes.getInt(7)).isZero();
+
+		IntIterator iterator = codes.iterator();
+		Assertions.assertThat(codec.decode(iterator::nextInt)).isEqualTo(s1);
+		Assertions.assertThat(codec.decode(iterator::nextInt)).isEqualTo(s2);
+		Assertions.assertThat(codec.decode(iterator::nextInt)).isEqualTo(s3);
+		Assertions.assertThat(codec.decode(iterator::nextInt)).isEqualTo(grandTotal);
+		Assertions.assertThat(codec.decode(iterator::nextInt)).isEqualTo(s1);
+		Assertions.assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	public void testDecodeBeforeEncode() {
+		Assertions.assertThatThrownBy(() -> codec.decode(() -> 0)).isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -611,4 +611,41 @@ public class TestChunkedList {
 			Assertions.assertThat(list.get(idx)).as("index %d", idx).isEqualTo(idx * 2);
 		}
 	}
+
+	// --- estimateRetainedBytes ---
+
+	@Test
+	public void testEstimateRetainedBytes_empty() {
+		ChunkedList<Integer> list = new ChunkedList<>();
+
+		Assertions.assertThat(list.estimateRetainedBytes()).isEqualTo(RetainedBytesHelpers.OBJECT_BYTES);
+	}
+
+	@Test
+	public void testEstimateRetainedBytes_capacityNotSize() {
+		ChunkedList<Integer> list = new ChunkedList<>();
+		list.add(1);
+
+		// The head is allocated with 128 slots, even if a single one is used
+		Assertions.assertThat(list.estimateRetainedBytes()).isEqualTo(16 + 16 + 128 * 4);
+
+		list.compact();
+		Assertions.assertThat(list.estimateRetainedBytes()).isEqualTo(16 + 24);
+	}
+
+	@Test
+	public void testEstimateRetainedBytes_growsWithTail() {
+		ChunkedList<Integer> list = new ChunkedList<>();
+		long previous = list.estimateRetainedBytes();
+		for (int i = 0; i < 10_000; i++) {
+			list.add(i);
+
+			long current = list.estimateRetainedBytes();
+			Assertions.assertThat(current).isGreaterThanOrEqualTo(previous);
+			previous = current;
+		}
+
+		// At least one reference per element
+		Assertions.assertThat(previous).isGreaterThan(10_000L * RetainedBytesHelpers.REFERENCE_BYTES);
+	}
 }
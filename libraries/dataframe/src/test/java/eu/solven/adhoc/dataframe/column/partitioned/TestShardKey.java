@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.column.partitioned;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableSortedSet;
+
+import eu.solven.adhoc.cuboid.slice.ISlice;
+import eu.solven.adhoc.cuboid.slice.SliceHelpers;
+
+public class TestShardKey {
+
+	@Test
+	public void testDefault_sliceHashcode() {
+		ISlice slice = SliceHelpers.asSlice(Map.of("a", "a1", "b", "b1"));
+
+		Assertions.assertThat(ShardKey.onColumns(List.of())).isSameAs(ShardKey.sliceHashcode());
+		Assertions.assertThat(ShardKey.sliceHashcode().getPartitionIndex(slice, 7))
+				.isEqualTo(PartitioningHelpers.getPartitionIndex(slice, 7));
+		Assertions.assertThat(ShardKey.sliceHashcode().isPreservedBy(Set.of("a", "b"))).isFalse();
+	}
+
+	@Test
+	public void testStableAcrossGroupBy() {
+		ShardKey shardKey = ShardKey.onColumns(List.of("a"));
+
+		for (int i = 0; i < 100; i++) {
+			ISlice fine = SliceHelpers.asSlice(Map.of("a", "a" + i, "b", "b" + i, "c", i));
+			ISlice coarse = fine.retainAll(ImmutableSortedSet.of("a"));
+
+			Assertions.assertThat(shardKey.getPartitionIndex(coarse, 8))
+					.isEqualTo(shardKey.getPartitionIndex(fine, 8))
+					.isBetween(0, 7);
+		}
+	}
+
+	@Test
+	public void testMissingShardColumn() {
+		ShardKey shardKey = ShardKey.onColumns(List.of("a"));
+		ISlice slice = SliceHelpers.asSlice(Map.of("b", "b1"));
+
+		// Fallback on the slice hashCode
+		Assertions.assertThat(shardKey.getPartitionIndex(slice, 8))
+				.isEqualTo(PartitioningHelpers.getPartitionIndex(slice, 8));
+	}
+
+	@Test
+	public void testIsPreservedBy() {
+		ShardKey shardKey = ShardKey.onColumns(List.of("a", "b"));
+
+		Assertions.assertThat(shardKey.isPreservedBy(Set.of("a", "b", "c"))).isTrue();
+		Assertions.assertThat(shardKey.isPreservedBy(Set.of("a", "c"))).isFalse();
+	}
+
+	@Test
+	public void testCommonShardKey() {
+		PartitionedColumn<String> onA = PartitionedColumn.<String>builder()
+				.partitions(List.of())
+				.shardKey(ShardKey.onColumns(List.of("a")))
+				.build();
+		PartitionedColumn<String> onHashcode = PartitionedColumn.<String>builder().partitions(List.of()).build();
+
+		Assertions.assertThat(PartitioningHelpers.commonShardKey(List.of(onA, onA))).contains(onA.getShardKey());
+		Assertions.assertThat(PartitioningHelpers.commonShardKey(List.of(onA, onHashcode))).isEmpty();
+		Assertions.assertThat(PartitioningHelpers.commonShardKey(List.of(onA, "notPartitioned"))).isEmpty();
+	}
+}
@@ -0,0 +1,134 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.dataframe.filter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.cuboid.tabular.ITabularGroupBySlice;
+import eu.solven.adhoc.filter.ColumnFilter;
+import eu.solven.adhoc.filter.FilterBuilder;
+import eu.solven.adhoc.filter.ISliceFilter;
+import eu.solven.adhoc.filter.value.InMatcher;
+import eu.solven.adhoc.filter.value.LikeMatcher;
+import eu.solven.adhoc.filter.value.NullMatcher;
+import eu.solven.adhoc.map.factory.RowSliceFactory;
+import eu.solven.adhoc.table.transcoder.ITableAliaser;
+import eu.solven.adhoc.table.transcoder.PrefixAliaser;
+
+public class TestCompiledSliceFilter {
+	final RowSliceFactory sliceFactory = RowSliceFactory.builder().build();
+
+	final List<ISliceFilter> filters = List.of(ISliceFilter.MATCH_ALL,
+			ISliceFilter.MATCH_NONE,
+			ColumnFilter.matchEq("a", "a1"),
+			ColumnFilter.matchEq("k", 123),
+			ColumnFilter.matchIn("a", "a1", "a2"),
+			ColumnFilter.matchIn("k", 123, 234L, 12.5D),
+			ColumnFilter.match("k", InMatcher.builder().operands(List.of(123L, "123")).build()),
+			ColumnFilter.match("a", InMatcher.builder().operands(List.of("a3", LikeMatcher.matching("%1"))).build()),
+			ColumnFilter.match("a", InMatcher.matchIn(Arrays.asList("a1", null))),
+			ColumnFilter.matchLike("a", "a%"),
+			ColumnFilter.matchLike("a", "%2"),
+			ColumnFilter.matchPattern("a", Pattern.compile("a[12]")),
+			ColumnFilter.notEq("a", "a1"),
+			ColumnFilter.notIn("k", 123, 345),
+			ColumnFilter.match("a", NullMatcher.matchNull()),
+			FilterBuilder.and(ColumnFilter.matchEq("a", "a1"), ColumnFilter.matchIn("k", 123, 345)).combine(),
+			FilterBuilder.or(ColumnFilter.matchEq("a", "a1"), ColumnFilter.matchEq("b", "b2")).combine(),
+			FilterBuilder.not(FilterBuilder.or(ColumnFilter.matchEq("a", "a2"), ColumnFilter.matchLike("b", "b%"))
+					.combine()).combine());
+
+	final List<Map<String, ?>> rows = List.of(Map.of(),
+			Map.of("a", "a1"),
+			Map.of("a", "a2", "b", "b2"),
+			Map.of("a", "a1", "k", 123),
+			Map.of("a", "a3", "k", 123L),
+			Map.of("b", "b1", "k", 12.5D),
+			Map.of("k", "123"),
+			Map.of("k", 345),
+			mapWithNull("a"),
+			mapWithNull("k"));
+
+	static Map<String, ?> mapWithNull(String column) {
+		Map<String, Object> map = new HashMap<>();
+		map.put(column, null);
+		return map;
+	}
+
+	ITabularGroupBySlice slice(Map<String, ?> row) {
+		return sliceFactory.newMapBuilder(row.keySet()).append(row.values()).build().asSlice();
+	}
+
+	ITabularGroupBySlice slice(List<String> keys, Object... values) {
+		return sliceFactory.newMapBuilder(keys).append(Arrays.asList(values)).build().asSlice();
+	}
+
+	@Test
+	public void testSameAsInterpreted() {
+		filters.forEach(filter -> {
+			FilterMatcher filterMatcher = FilterMatcher.builder().filter(filter).build();
+
+			rows.forEach(row -> {
+				boolean interpreted = MoreFilterHelpers.match(filter, row);
+
+				// Plain Map, then a slice with an interned keySet
+				Assertions.assertThat(filterMatcher.match(row))
+						.describedAs("%s on %s", filter, row)
+						.isEqualTo(interpreted);
+				Assertions.assertThat(filterMatcher.match(slice(row)))
+						.describedAs("%s on %s", filter, row)
+						.isEqualTo(interpreted);
+			});
+		});
+	}
+
+	@Test
+	public void testRebindOnDifferentKeyset() {
+		CompiledSliceFilter compiled = CompiledSliceFilter.compile(ITableAliaser.identity(),
+				ColumnFilter.matchEq("a", "a1"),
+				FilterMatcher.IF_MISSING_AS_NULL);
+
+		// Same columns, but different orders
+		Assertions.assertThat(compiled.match(slice(List.of("a", "b"), "a1", "b1"))).isTrue();
+		Assertions.assertThat(compiled.match(slice(List.of("b", "a"), "a1", "b1"))).isFalse();
+		Assertions.assertThat(compiled.match(slice(List.of("b", "a"), "b1", "a1"))).isTrue();
+		Assertions.assertThat(compiled.match(slice(List.of("b"), "a1"))).isFalse();
+	}
+
+	@Test
+	public void testTranscoded() {
+		ITableAliaser transcoder = PrefixAliaser.builder().prefix("p_").build();
+		CompiledSliceFilter compiled = CompiledSliceFilter
+				.compile(transcoder, ColumnFilter.matchIn("a", "a1", "a2"), FilterMatcher.IF_MISSING_AS_NULL);
+
+		Assertions.assertThat(compiled.match(slice(List.of("p_a"), "a1"))).isTrue();
+		Assertions.assertThat(compiled.match(slice(List.of("a"), "a1"))).isFalse();
+	}
+}
@@ -88,6 +88,28 @@ public class TestListBasedTabularView {
 
 	}
 
+	@Test
+	public void testLoadWindow() {
+		ListBasedTabularView view = ListBasedTabularView.builder().build();
+		for (int i = 0; i < 5; i++) {
+			view.appendSlice(SliceHelpers.asSlice(Map.of("c", "c" + i)), Map.of("m", i));
+		}
+
+		ListBasedTabularView window = ListBasedTabularView.loadWindow(view, 1, 2);
+		Assertions.assertThat(window.getCoordinates()).containsExactly(Map.of("c", "c1"), Map.of("c", "c2"));
+		Assertions.assertThat(window.getValues()).containsExactly(Map.of("m", 1), Map.of("m", 2));
+
+		// Negative limit means no limit
+		Assertions.assertThat(ListBasedTabularView.loadWindow(view, 3, -1).getValues())
+				.containsExactly(Map.of("m", 3), Map.of("m", 4));
+
+		// Window after the last row
+		Assertions.assertThat(ListBasedTabularView.loadWindow(view, 10, 2).isEmpty()).isTrue();
+
+		Assertions.assertThatThrownBy(() -> ListBasedTabularView.loadWindow(view, -1, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
 	@Test
 	public void testDuplicateSlices() {
 		ListBasedTabularView view =
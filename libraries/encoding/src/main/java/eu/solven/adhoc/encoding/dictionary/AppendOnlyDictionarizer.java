@@ -0,0 +1,106 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.encoding.dictionary;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An {@link IDictionarizer} designed to be shared by concurrent queries: ids are never re-assigned nor removed, and
+ * both {@link #toInt(Object)} on an already-known value and {@link #fromInt(int)} are lock-free.
+ * <p>
+ * Only the registration of a new value is guarded by a lock. The value is written in its chunk before its id is
+ * published in the {@link ConcurrentMap}, hence any thread having received an id (from this dictionary, or through any
+ * safe publication of an object holding the id) can read the value back.
+ * <p>
+ * As it is append-only, such a dictionary is expected to be discarded as a whole (e.g. on some epoch rotation), and
+ * reclaimed by the GC once no more structure refers to it.
+ *
+ * @author Benoit Lacelle
+ */
+public class AppendOnlyDictionarizer implements IDictionarizer {
+	private static final int CHUNK_SHIFT = 10;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	private static final int INITIAL_CHUNKS = 16;
+
+	protected final ConcurrentMap<Object, Integer> objectToInt = new ConcurrentHashMap<>();
+
+	// Chunks are never moved: growing only copies the array of chunk references
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	protected volatile Object[][] chunks = new Object[INITIAL_CHUNKS][];
+
+	// Guarded by `this`
+	protected int size;
+
+	@Override
+	public Object fromInt(int indexedValue) {
+		return chunks[indexedValue >>> CHUNK_SHIFT][indexedValue & CHUNK_MASK];
+	}
+
+	@Override
+	public int toInt(Object object) {
+		Integer id = objectToInt.get(object);
+		if (id != null) {
+			return id;
+		}
+		return register(object);
+	}
+
+	protected synchronized int register(Object object) {
+		Integer concurrentId = objectToInt.get(object);
+		if (concurrentId != null) {
+			// Registered concurrently
+			return concurrentId;
+		}
+
+		int id = size;
+		int chunkIndex = id >>> CHUNK_SHIFT;
+
+		Object[][] currentChunks = chunks;
+		if (chunkIndex >= currentChunks.length) {
+			currentChunks = Arrays.copyOf(currentChunks, currentChunks.length * 2);
+		}
+		if (currentChunks[chunkIndex] == null) {
+			currentChunks[chunkIndex] = new Object[CHUNK_SIZE];
+		}
+		currentChunks[chunkIndex][id & CHUNK_MASK] = object;
+		chunks = currentChunks;
+
+		// Publish the id only once the value is readable
+		objectToInt.put(object, id);
+		size = id + 1;
+
+		return id;
+	}
+
+	/**
+	 * @return the number of registered values.
+	 */
+	public int size() {
+		return objectToInt.size();
+	}
+
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.filter.editor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import eu.solven.adhoc.filter.value.EqualsMatcher;
+import eu.solven.adhoc.filter.value.NullMatcher;
+
+/**
+ * A {@link IFilterEditor} compiled into per-column coordinate mappings. It is relevant for {@link IFilterEditor} which
+ * edits each column independently, and turns an equality into an equality: a slice can then be edited without building
+ * and editing an equivalent {@link eu.solven.adhoc.filter.ISliceFilter}.
+ * 
+ * @author Benoit Lacelle
+ * @see IFilterEditor#compile(Object)
+ */
+public interface ICompiledFilterEditor {
+
+	/**
+	 * Edits the coordinate along a single column.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	@FunctionalInterface
+	interface ICoordinateEditor {
+		/**
+		 * 
+		 * @param coordinate
+		 *            a slice coordinate. null if the slice is on the null coordinate.
+		 * @return the edited coordinate, normalized like an {@link EqualsMatcher} operand. {@link NullMatcher#NULL_HOLDER}
+		 *         stands for null.
+		 */
+		Object editCoordinate(@Nullable Object coordinate);
+	}
+
+	/**
+	 * 
+	 * @param column
+	 * @return the {@link ICoordinateEditor} for given column, or empty if the column is not edited.
+	 */
+	Optional<ICoordinateEditor> getCoordinateEditor(String column);
+
+	/**
+	 * 
+	 * @param editor
+	 * @return an {@link ICoordinateEditor} computing each distinct coordinate only once.
+	 */
+	static ICoordinateEditor memoize(ICoordinateEditor editor) {
+		// null is not a valid key: it is held by NULL_HOLDER
+		Map<Object, Object> coordinateToEdited = new ConcurrentHashMap<>();
+
+		return coordinate -> {
+			Object key;
+			if (coordinate == null) {
+				key = NullMatcher.NULL_HOLDER;
+			} else {
+				key = coordinate;
+			}
+			return coordinateToEdited.computeIfAbsent(key, k -> {
+				if (k == NullMatcher.NULL_HOLDER) {
+					return editor.editCoordinate(null);
+				} else {
+					return editor.editCoordinate(k);
+				}
+			});
+		};
+	}
+
+	/**
+	 * 
+	 * @param edited
+	 *            a value as it would be given to {@link EqualsMatcher#matchEq(Object)}
+	 * @return the coordinate read from an edited {@link eu.solven.adhoc.filter.ISliceFilter}: the normalized operand if
+	 *         edited is a plain value, else {@link NullMatcher#NULL_HOLDER}.
+	 */
+	static Object toCoordinate(@Nullable Object edited) {
+		Optional<?> optOperand = EqualsMatcher.extractOperand(EqualsMatcher.matchEq(edited));
+
+		if (optOperand.isEmpty()) {
+			return NullMatcher.NULL_HOLDER;
+		} else {
+			return optOperand.get();
+		}
+	}
+}
@@ -22,6 +22,8 @@
  */
 package eu.solven.adhoc.filter.editor;
 
+import java.util.Optional;
+
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -75,4 +77,17 @@ public interface IFilterEditor {
 	default ISliceFilter editFilter(FilterEditorContext filterEditorContext) {
 		return editFilter(filterEditorContext.getFilter());
 	}
+
+	/**
+	 * Optional optimization: an editor which edits each column independently, and turns an equality into an equality,
+	 * may be compiled into per-column coordinate mappings. The compiled editor must behave like
+	 * {@link #editFilter(FilterEditorContext)} given a slice {@link ISliceFilter}.
+	 * 
+	 * @param customMarker
+	 *            the customMarker as provided in {@link FilterEditorContext}
+	 * @return an {@link ICompiledFilterEditor}, or empty if this editor can not be decomposed column by column.
+	 */
+	default Optional<ICompiledFilterEditor> compile(@Nullable Object customMarker) {
+		return Optional.empty();
+	}
 }
\ No newline at end of file
@@ -23,6 +23,7 @@
 package eu.solven.adhoc.filter.editor;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,6 +32,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.jspecify.annotations.Nullable;
+
 import com.google.common.collect.ImmutableMap;
 
 import eu.solven.adhoc.filter.AdhocFilterUnsafe;
@@ -43,6 +46,7 @@ import eu.solven.adhoc.filter.IOrFilter;
 import eu.solven.adhoc.filter.ISliceFilter;
 import eu.solven.adhoc.filter.optimizer.IFilterOptimizer;
 import eu.solven.adhoc.filter.value.IValueMatcher;
+import eu.solven.adhoc.filter.value.NullMatcher;
 import eu.solven.adhoc.util.NotYetImplementedException;
 import lombok.Builder;
 import lombok.Singular;
@@ -70,6 +74,32 @@ public class SimpleFilterEditor implements IFilterEditor {
 		return edited.get();
 	}
 
+	/**
+	 * Each column is edited independently, and an equality is shifted into an equality: this can be compiled.
+	 */
+	@Override
+	public Optional<ICompiledFilterEditor> compile(@Nullable Object customMarker) {
+		Map<String, ICompiledFilterEditor.ICoordinateEditor> columnToEditor = new HashMap<>();
+
+		columnToValues.forEach((column, value) -> {
+			if (value instanceof Function valueShifter) {
+				// Similarly to `ShiftedValueMatcher`, a null coordinate (i.e. a `NullMatcher`) is not shifted
+				columnToEditor.put(column, ICompiledFilterEditor.memoize(coordinate -> {
+					if (coordinate == null) {
+						return NullMatcher.NULL_HOLDER;
+					} else {
+						return ICompiledFilterEditor.toCoordinate(valueShifter.apply(coordinate));
+					}
+				}));
+			} else {
+				Object shiftedCoordinate = ICompiledFilterEditor.toCoordinate(value);
+				columnToEditor.put(column, coordinate -> shiftedCoordinate);
+			}
+		});
+
+		return Optional.of(column -> Optional.ofNullable(columnToEditor.get(column)));
+	}
+
 	@SuppressWarnings("PMD.FieldNamingConventions")
 	protected enum FilterMode {
 		// Impact column filter on the considered column, else do nothing.
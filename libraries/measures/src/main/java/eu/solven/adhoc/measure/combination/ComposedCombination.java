@@ -30,6 +30,8 @@ import org.jspecify.annotations.Nullable;
 import eu.solven.adhoc.data.row.ISlicedRecord;
 import eu.solven.adhoc.engine.step.ISliceWithStep;
 import eu.solven.adhoc.measure.combination.ComposedCombinationPlan.CombineStep;
+import eu.solven.adhoc.measure.combination.batch.CombinationBatch;
+import eu.solven.adhoc.measure.combination.batch.PrimitiveBatchColumn;
 import eu.solven.adhoc.measure.operator.IOperatorFactory;
 import eu.solven.adhoc.measure.operator.StandardOperatorFactory;
 import eu.solven.adhoc.model.measure.Combinator;
@@ -73,7 +75,7 @@ import lombok.extern.slf4j.Slf4j;
  * @author Benoit Lacelle
  */
 @Slf4j
-public class ComposedCombination implements ICombination {
+public class ComposedCombination implements ICombination, IBatchCombination {
 
 	/**
 	 * Short combination-key registered in {@link StandardOperatorFactory}. Used by
@@ -113,6 +115,51 @@ public class ComposedCombination implements ICombination {
 		this.contextPool = ThreadLocal.withInitial(() -> new EvalContext(plan));
 	}
 
+	/**
+	 * Evaluates the plan column-wise, if each step is a {@link IBatchCombination}. Intermediate slots are allocated per
+	 * batch, which is amortized over the batch rows.
+	 */
+	@Override
+	public boolean combineBatch(CombinationBatch batch, PrimitiveBatchColumn output) {
+		int numLeaves = plan.numLeaves();
+		if (batch.getNbColumns() < numLeaves) {
+			return false;
+		}
+		for (ICombination stepCombination : stepCombinations) {
+			if (!(stepCombination instanceof IBatchCombination)) {
+				return false;
+			}
+		}
+
+		PrimitiveBatchColumn[] slots = new PrimitiveBatchColumn[plan.totalSlots()];
+		for (int i = 0; i < numLeaves; i++) {
+			slots[i] = batch.getColumn(i);
+		}
+
+		List<CombineStep> steps = plan.steps();
+		int last = steps.size() - 1;
+		for (int k = 0; k <= last; k++) {
+			int[] inputSlots = steps.get(k).inputSlots();
+			PrimitiveBatchColumn[] inputs = new PrimitiveBatchColumn[inputSlots.length];
+			for (int i = 0; i < inputSlots.length; i++) {
+				inputs[i] = slots[inputSlots[i]];
+			}
+
+			PrimitiveBatchColumn target;
+			if (k == last) {
+				target = output;
+			} else {
+				target = new PrimitiveBatchColumn(batch.getSize());
+			}
+			CombinationBatch stepBatch = CombinationBatch.wrap(batch.getSize(), inputs);
+			if (!((IBatchCombination) stepCombinations[k]).combineBatch(stepBatch, target)) {
+				return false;
+			}
+			slots[numLeaves + k] = target;
+		}
+		return true;
+	}
+
 	@Override
 	public void combine(ISliceWithStep slice, ISlicedRecord slicedRecord, IValueReceiver receiver) {
 		EvalContext ctx = contextPool.get();
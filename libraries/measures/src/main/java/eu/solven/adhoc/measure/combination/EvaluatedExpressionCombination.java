@@ -26,6 +26,8 @@ import java.math.BigDecimal;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -34,10 +36,17 @@ import com.ezylang.evalex.EvaluationException;
 import com.ezylang.evalex.Expression;
 import com.ezylang.evalex.data.EvaluationValue;
 import com.ezylang.evalex.parser.ParseException;
+import com.google.common.base.Suppliers;
 
+import eu.solven.adhoc.data.cell.ProxyValueReceiver;
+import eu.solven.adhoc.data.row.ISlicedRecord;
 import eu.solven.adhoc.engine.step.ISliceWithStep;
+import eu.solven.adhoc.measure.combination.expression.CompiledExpression;
+import eu.solven.adhoc.measure.combination.expression.ExpressionCompiler;
+import eu.solven.adhoc.measure.combination.expression.ExpressionInputs;
 import eu.solven.adhoc.measure.transformator.IHasCombinationKey;
 import eu.solven.adhoc.primitive.IValueProvider;
+import eu.solven.adhoc.primitive.IValueReceiver;
 import eu.solven.adhoc.primitive.ValueProviderHelpers;
 import eu.solven.adhoc.util.map.AdhocMapPathGet;
 import lombok.RequiredArgsConstructor;
@@ -45,6 +54,9 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Enable expression-based {@link ICombination}.
+ * 
+ * Arithmetic expressions over primitive numbers are evaluated by a {@link CompiledExpression}. Other expressions, or
+ * `null` and non-primitive underlyings, are evaluated by EvalEx.
  *
  * @author Benoit Lacelle
  * @see <a href="https://github.com/ezylang/EvalEx">EvalEx</a>
@@ -62,14 +74,78 @@ public class EvaluatedExpressionCombination implements ICombination, IHasSanityC
 	@NonNull
 	final List<String> underlyingNames;
 
+	// Empty if the expression is not handled by the compiler
+	final Supplier<Optional<CompiledExpression>> compiled = Suppliers.memoize(this::compile);
+
+	protected Optional<CompiledExpression> compile() {
+		return ExpressionCompiler.tryCompile(expression, new ExpressionCompiler.IVariableSlots() {
+
+			@Override
+			public int slotOf(String name) {
+				// EvalEx variables are case-insensitive, and the last underlying with given name wins
+				for (int i = underlyingNames.size() - 1; i >= 0; i--) {
+					if (underlyingNames.get(i).equalsIgnoreCase(name)) {
+						return i;
+					}
+				}
+				return -1;
+			}
+
+			@Override
+			public int slotOf(String name, int index) {
+				if (P_UNDERLYINGS.equalsIgnoreCase(name) && slotOf(name) < 0 && index < underlyingNames.size()) {
+					return index;
+				}
+				return -1;
+			}
+		});
+	}
+
 	@Override
 	public void checkSanity() {
 		makeExpression();
 		log.debug("expression seems valid: {}", expression);
 	}
 
+	@Override
+	public void combine(ISliceWithStep slice, ISlicedRecord slicedRecord, IValueReceiver receiver) {
+		Optional<CompiledExpression> optCompiled = compiled.get();
+		if (optCompiled.isPresent()) {
+			CompiledExpression compiledExpression = optCompiled.get();
+			ExpressionInputs inputs = compiledExpression.newInputs();
+			inputs.load(slicedRecord);
+			if (compiledExpression.evaluate(inputs, receiver)) {
+				return;
+			}
+		}
+
+		receiver.onObject(evaluate(slicedRecord.asList()));
+	}
+
 	@Override
 	public @Nullable Object combine(ISliceWithStep slice, List<?> underlyingValues) {
+		Optional<CompiledExpression> optCompiled = compiled.get();
+		if (optCompiled.isPresent()) {
+			CompiledExpression compiledExpression = optCompiled.get();
+			ExpressionInputs inputs = compiledExpression.newInputs();
+			inputs.load(underlyingValues);
+			ProxyValueReceiver receiver = ProxyValueReceiver.builder().build();
+			if (compiledExpression.evaluate(inputs, receiver)) {
+				return IValueProvider.getValue(receiver.asValueProvider());
+			}
+		}
+
+		return evaluate(underlyingValues);
+	}
+
+	/**
+	 * Evaluate the expression with EvalEx, which handles any expression but is much slower than
+	 * {@link CompiledExpression}.
+	 * 
+	 * @param underlyingValues
+	 * @return the combined result
+	 */
+	protected @Nullable Object evaluate(List<?> underlyingValues) {
 		Expression exp = makeExpression();
 
 		EvaluationValue result;
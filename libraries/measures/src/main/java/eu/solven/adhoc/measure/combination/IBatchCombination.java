@@ -0,0 +1,50 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination;
+
+import eu.solven.adhoc.data.row.ISlicedRecord;
+import eu.solven.adhoc.engine.step.ISliceWithStep;
+import eu.solven.adhoc.measure.combination.batch.CombinationBatch;
+import eu.solven.adhoc.measure.combination.batch.PrimitiveBatchColumn;
+import eu.solven.adhoc.primitive.IValueReceiver;
+
+/**
+ * Used for {@link ICombination} able to combine a {@link CombinationBatch} of slices at once, with tight loops over
+ * primitive arrays. The per-slice {@link ICombination#combine(ISliceWithStep, ISlicedRecord, IValueReceiver)} remains
+ * the reference behavior: a batch must produce the same values.
+ * 
+ * @author Benoit Lacelle
+ */
+public interface IBatchCombination extends ICombination {
+
+	/**
+	 * 
+	 * @param batch
+	 *            the underlying values, one column per underlying.
+	 * @param output
+	 *            the column to write into, for rows from `0` to `batch.getSize()`. It is cleared (i.e. only nulls).
+	 * @return true if the output has been written. If false, each row will be combined individually (e.g. given mixed
+	 *         `long` and `double` columns).
+	 */
+	boolean combineBatch(CombinationBatch batch, PrimitiveBatchColumn output);
+}
@@ -0,0 +1,294 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination.batch;
+
+import eu.solven.adhoc.primitive.IMultitypeConstants;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Tight loops over {@link PrimitiveBatchColumn}, for the standard arithmetic
+ * {@link eu.solven.adhoc.measure.combination.IBatchCombination}. Each loop is written over plain arrays without
+ * per-row branching when possible, so the JIT can unroll and auto-vectorize it.
+ * 
+ * @author Benoit Lacelle
+ */
+@UtilityClass
+@SuppressWarnings("PMD.AvoidReassigningLoopVariables")
+public class BatchCombinationHelpers {
+
+	/**
+	 * 
+	 * @return the common type of the non-empty columns, {@link IMultitypeConstants#MASK_EMPTY} if all columns are
+	 *         empty, or {@link IMultitypeConstants#MASK_OBJECT} if the columns have different types.
+	 */
+	public static byte commonType(CombinationBatch batch) {
+		byte type = IMultitypeConstants.MASK_EMPTY;
+		for (PrimitiveBatchColumn column : batch.columns) {
+			if (column.type == IMultitypeConstants.MASK_EMPTY) {
+				continue;
+			} else if (type == IMultitypeConstants.MASK_EMPTY) {
+				type = column.type;
+			} else if (type != column.type) {
+				return IMultitypeConstants.MASK_OBJECT;
+			}
+		}
+		return type;
+	}
+
+	static boolean hasEmptyColumn(CombinationBatch batch) {
+		for (PrimitiveBatchColumn column : batch.columns) {
+			if (column.type == IMultitypeConstants.MASK_EMPTY) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Write the null bitmap of the output: a row is null if all (or any) input is null.
+	 */
+	static void mergeNulls(CombinationBatch batch, PrimitiveBatchColumn output, boolean anyNullIsNull) {
+		int words = PrimitiveBatchColumn.bitmapLength(batch.size);
+		long[] outNulls = output.nulls;
+		for (int w = 0; w < words; w++) {
+			outNulls[w] = anyNullIsNull ? 0L : -1L;
+		}
+		for (PrimitiveBatchColumn column : batch.columns) {
+			long[] inNulls = column.nulls;
+			if (anyNullIsNull) {
+				for (int w = 0; w < words; w++) {
+					outNulls[w] |= inNulls[w];
+				}
+			} else {
+				for (int w = 0; w < words; w++) {
+					outNulls[w] &= inNulls[w];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sums the columns, like {@link eu.solven.adhoc.measure.sum.SumCombination}.
+	 * 
+	 * @param anyNullIsNull
+	 *            if true, a row with any null is null. Else, nulls are ignored.
+	 * @return false if the columns have different types.
+	 */
+	public static boolean sum(CombinationBatch batch, PrimitiveBatchColumn output, boolean anyNullIsNull) {
+		byte type = commonType(batch);
+		if (type == IMultitypeConstants.MASK_OBJECT) {
+			return false;
+		} else if (type == IMultitypeConstants.MASK_EMPTY || anyNullIsNull && hasEmptyColumn(batch)) {
+			// All rows are null
+			return true;
+		}
+
+		int size = batch.size;
+		output.type = type;
+		if (type == IMultitypeConstants.MASK_LONG) {
+			long[] out = output.longs;
+			for (PrimitiveBatchColumn column : batch.columns) {
+				// null rows hold `0`, the neutral element
+				long[] in = column.longs;
+				for (int i = 0; i < size; i++) {
+					out[i] += in[i];
+				}
+			}
+		} else {
+			double[] out = output.doubles;
+			for (PrimitiveBatchColumn column : batch.columns) {
+				double[] in = column.doubles;
+				for (int i = 0; i < size; i++) {
+					out[i] += in[i];
+				}
+			}
+		}
+
+		mergeNulls(batch, output, anyNullIsNull);
+		if (anyNullIsNull) {
+			output.zeroNulls(size);
+		}
+		return true;
+	}
+
+	/**
+	 * Multiplies `long` columns, like {@link eu.solven.adhoc.measure.sum.ProductCombination}.
+	 * 
+	 * @param anyNullIsNull
+	 *            if true, a row with any null is null. Else, nulls are ignored.
+	 * @return false if the columns are not all `long`.
+	 */
+	public static boolean productLongs(CombinationBatch batch, PrimitiveBatchColumn output, boolean anyNullIsNull) {
+		byte type = commonType(batch);
+		if (type == IMultitypeConstants.MASK_EMPTY || anyNullIsNull && hasEmptyColumn(batch)) {
+			// All rows are null
+			return true;
+		} else if (type != IMultitypeConstants.MASK_LONG) {
+			// `double` product relies on BigDecimal
+			return false;
+		}
+
+		int size = batch.size;
+		output.type = type;
+		long[] out = output.longs;
+		for (int i = 0; i < size; i++) {
+			out[i] = 1L;
+		}
+		for (PrimitiveBatchColumn column : batch.columns) {
+			if (column.type == IMultitypeConstants.MASK_EMPTY) {
+				continue;
+			}
+			long[] in = column.longs;
+			for (int i = 0; i < size; i++) {
+				// null rows are skipped by multiplying by the neutral element
+				out[i] *= column.isNull(i) ? 1L : in[i];
+			}
+		}
+
+		mergeNulls(batch, output, anyNullIsNull);
+		output.zeroNulls(size);
+		return true;
+	}
+
+	/**
+	 * Substracts the second column from the first one, like {@link eu.solven.adhoc.measure.sum.SubstractionCombination}.
+	 * A null operand is ignored.
+	 * 
+	 * @return false if the columns have different types.
+	 */
+	public static boolean substract(CombinationBatch batch, PrimitiveBatchColumn output) {
+		int nbColumns = batch.columns.length;
+		int size = batch.size;
+		if (nbColumns == 0) {
+			return true;
+		} else if (nbColumns == 1) {
+			output.copyFrom(batch.columns[0], size);
+			return true;
+		}
+
+		PrimitiveBatchColumn left = batch.columns[0];
+		PrimitiveBatchColumn right = batch.columns[1];
+
+		if (right.type == IMultitypeConstants.MASK_EMPTY) {
+			output.copyFrom(left, size);
+			return true;
+		} else if (left.type != IMultitypeConstants.MASK_EMPTY && left.type != right.type) {
+			return false;
+		}
+
+		byte type = right.type;
+		output.type = type;
+		if (type == IMultitypeConstants.MASK_LONG) {
+			long[] l = left.longs;
+			long[] r = right.longs;
+			long[] out = output.longs;
+			for (int i = 0; i < size; i++) {
+				out[i] = l[i] - r[i];
+			}
+		} else {
+			double[] l = left.doubles;
+			double[] r = right.doubles;
+			double[] out = output.doubles;
+			for (int i = 0; i < size; i++) {
+				out[i] = l[i] - r[i];
+			}
+			// A null left is a negation, which differs from `0 - r` given the sign of zero
+			for (int i = 0; i < size; i++) {
+				if (left.isNull(i)) {
+					out[i] = -r[i];
+				}
+			}
+		}
+
+		int words = PrimitiveBatchColumn.bitmapLength(size);
+		for (int w = 0; w < words; w++) {
+			output.nulls[w] = left.nulls[w] & right.nulls[w];
+		}
+		output.zeroNulls(size);
+		return true;
+	}
+
+	/**
+	 * Divides the first column by the second one, like {@link eu.solven.adhoc.measure.sum.DivideCombination}.
+	 * 
+	 * @param nullNumeratorIsZero
+	 *            if true, a null numerator is considered as `0` when the denominator is not null.
+	 * @return false if there is not exactly 2 columns.
+	 */
+	public static boolean divide(CombinationBatch batch, PrimitiveBatchColumn output, boolean nullNumeratorIsZero) {
+		if (batch.columns.length != 2) {
+			return false;
+		}
+
+		PrimitiveBatchColumn numerator = batch.columns[0];
+		PrimitiveBatchColumn denominator = batch.columns[1];
+		if (denominator.type == IMultitypeConstants.MASK_EMPTY
+				&& numerator.type == IMultitypeConstants.MASK_EMPTY) {
+			return true;
+		}
+
+		int size = batch.size;
+		output.type = IMultitypeConstants.MASK_DOUBLE;
+		double[] out = output.doubles;
+		double[] n = asDoubles(numerator, size);
+		double[] d = asDoubles(denominator, size);
+		for (int i = 0; i < size; i++) {
+			out[i] = n[i] / d[i];
+		}
+
+		for (int i = 0; i < size; i++) {
+			boolean numeratorIsNull = numerator.isNull(i);
+			boolean denominatorIsNull = denominator.isNull(i);
+
+			if (numeratorIsNull && denominatorIsNull) {
+				// null
+				continue;
+			} else if (numeratorIsNull) {
+				if (nullNumeratorIsZero) {
+					output.setDouble(i, 0D / d[i]);
+				}
+				// else null
+			} else if (denominatorIsNull) {
+				output.setDouble(i, Double.NaN);
+			} else {
+				output.setDouble(i, out[i]);
+			}
+		}
+		output.zeroNulls(size);
+		return true;
+	}
+
+	static double[] asDoubles(PrimitiveBatchColumn column, int size) {
+		if (column.type == IMultitypeConstants.MASK_LONG) {
+			double[] doubles = new double[size];
+			long[] longs = column.longs;
+			for (int i = 0; i < size; i++) {
+				doubles[i] = longs[i];
+			}
+			return doubles;
+		} else {
+			// EMPTY columns hold only `0D`
+			return column.doubles;
+		}
+	}
+}
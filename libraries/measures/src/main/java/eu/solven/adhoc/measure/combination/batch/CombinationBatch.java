@@ -0,0 +1,229 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination.batch;
+
+import org.jspecify.annotations.Nullable;
+
+import eu.solven.adhoc.data.row.ISlicedRecord;
+import eu.solven.adhoc.measure.combination.IBatchCombination;
+import eu.solven.adhoc.primitive.IMultitypeConstants;
+import eu.solven.adhoc.primitive.IValueProvider;
+import eu.solven.adhoc.primitive.IValueReceiver;
+
+/**
+ * A batch of aligned slices, holding one {@link PrimitiveBatchColumn} per underlying. A row is accepted only if each of
+ * its values is `null` or a primitive of the type of its column.
+ * 
+ * Not thread-safe.
+ * 
+ * @author Benoit Lacelle
+ */
+public final class CombinationBatch {
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	final PrimitiveBatchColumn[] columns;
+	final int capacity;
+	int size;
+
+	// Scratch row, read before being appended
+	final byte[] rowTypes;
+	final long[] rowLongs;
+	final double[] rowDoubles;
+	final RowReader rowReader = new RowReader();
+
+	public CombinationBatch(int nbColumns, int capacity) {
+		this.capacity = capacity;
+		columns = new PrimitiveBatchColumn[nbColumns];
+		for (int i = 0; i < nbColumns; i++) {
+			columns[i] = new PrimitiveBatchColumn(capacity);
+		}
+		rowTypes = new byte[nbColumns];
+		rowLongs = new long[nbColumns];
+		rowDoubles = new double[nbColumns];
+	}
+
+	// The columns are wrapped, not copied
+	@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+	private CombinationBatch(int size, PrimitiveBatchColumn... columns) {
+		this.capacity = size;
+		this.size = size;
+		this.columns = columns;
+		rowTypes = new byte[columns.length];
+		rowLongs = new long[columns.length];
+		rowDoubles = new double[columns.length];
+	}
+
+	/**
+	 * 
+	 * @param size
+	 * @param columns
+	 * @return a full {@link CombinationBatch} wrapping given columns, e.g. to chain {@link IBatchCombination}.
+	 */
+	public static CombinationBatch wrap(int size, PrimitiveBatchColumn... columns) {
+		return new CombinationBatch(size, columns);
+	}
+
+	/**
+	 * Receives the values of the scratch row.
+	 */
+	final class RowReader implements IValueReceiver {
+		int column;
+
+		@Override
+		public void onLong(long v) {
+			rowTypes[column] = IMultitypeConstants.MASK_LONG;
+			rowLongs[column] = v;
+		}
+
+		@Override
+		public void onDouble(double v) {
+			rowTypes[column] = IMultitypeConstants.MASK_DOUBLE;
+			rowDoubles[column] = v;
+		}
+
+		@Override
+		public void onObject(@Nullable Object v) {
+			if (v == null) {
+				rowTypes[column] = IMultitypeConstants.MASK_EMPTY;
+			} else if (v instanceof Long || v instanceof Integer) {
+				onLong(((Number) v).longValue());
+			} else if (v instanceof Double || v instanceof Float) {
+				onDouble(((Number) v).doubleValue());
+			} else {
+				// e.g. a String or a BigDecimal
+				rowTypes[column] = IMultitypeConstants.MASK_OBJECT;
+			}
+		}
+	}
+
+	public int getNbColumns() {
+		return columns.length;
+	}
+
+	public PrimitiveBatchColumn getColumn(int column) {
+		return columns[column];
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean isFull() {
+		return size == capacity;
+	}
+
+	public void clear() {
+		size = 0;
+		for (PrimitiveBatchColumn column : columns) {
+			column.clear();
+		}
+	}
+
+	/**
+	 * 
+	 * @param slicedRecord
+	 * @return true if the record has been appended. false if the batch is full, or if the record is not compatible with
+	 *         this batch (e.g. a {@link String}, or a `double` in a `long` column). The batch is unchanged when returning
+	 *         false.
+	 */
+	public boolean tryAppend(ISlicedRecord slicedRecord) {
+		if (isFull() || slicedRecord.size() != columns.length) {
+			return false;
+		}
+
+		for (int i = 0; i < columns.length; i++) {
+			rowReader.column = i;
+			slicedRecord.read(i, rowReader);
+
+			byte rowType = rowTypes[i];
+			if (rowType == IMultitypeConstants.MASK_OBJECT) {
+				return false;
+			}
+			byte columnType = columns[i].type;
+			if (rowType != IMultitypeConstants.MASK_EMPTY && columnType != IMultitypeConstants.MASK_EMPTY
+					&& columnType != rowType) {
+				return false;
+			}
+		}
+
+		int row = size;
+		for (int i = 0; i < columns.length; i++) {
+			PrimitiveBatchColumn column = columns[i];
+			switch (rowTypes[i]) {
+			case IMultitypeConstants.MASK_LONG:
+				column.type = IMultitypeConstants.MASK_LONG;
+				column.setLong(row, rowLongs[i]);
+				break;
+			case IMultitypeConstants.MASK_DOUBLE:
+				column.type = IMultitypeConstants.MASK_DOUBLE;
+				column.setDouble(row, rowDoubles[i]);
+				break;
+			default:
+				// null: the column is cleared to nulls
+				break;
+			}
+		}
+		size++;
+
+		return true;
+	}
+
+	/**
+	 * 
+	 * @param row
+	 * @return a {@link ISlicedRecord} view over given row. It is valid until this batch is modified.
+	 */
+	public ISlicedRecord getRow(int row) {
+		return new ISlicedRecord() {
+
+			@Override
+			public boolean isEmpty() {
+				return columns.length == 0;
+			}
+
+			@Override
+			public int size() {
+				return columns.length;
+			}
+
+			@Override
+			public void read(int index, IValueReceiver receiver) {
+				columns[index].read(row, receiver);
+			}
+
+			@Override
+			public IValueProvider read(int index) {
+				return receiver -> read(index, receiver);
+			}
+
+			@Override
+			public String toString() {
+				return asList().toString();
+			}
+		};
+	}
+}
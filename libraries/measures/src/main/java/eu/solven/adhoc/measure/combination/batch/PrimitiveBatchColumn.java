@@ -0,0 +1,170 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination.batch;
+
+import java.util.Arrays;
+
+import eu.solven.adhoc.primitive.IMultitypeConstants;
+import eu.solven.adhoc.primitive.IValueReceiver;
+
+/**
+ * A column of primitive values, for a batch of slices. All non-null values share the same type: either `long` or
+ * `double`. Nulls are tracked by a bitmap, and their primitive value is `0`.
+ * 
+ * Not thread-safe.
+ * 
+ * @author Benoit Lacelle
+ */
+public final class PrimitiveBatchColumn {
+	// One of IMultitypeConstants.MASK_EMPTY (only nulls), MASK_LONG or MASK_DOUBLE
+	byte type = IMultitypeConstants.MASK_EMPTY;
+
+	final long[] longs;
+	final double[] doubles;
+	// A bit is set if the row is null
+	final long[] nulls;
+
+	public PrimitiveBatchColumn(int capacity) {
+		longs = new long[capacity];
+		doubles = new double[capacity];
+		nulls = new long[bitmapLength(capacity)];
+		Arrays.fill(nulls, -1L);
+	}
+
+	static int bitmapLength(int capacity) {
+		return (capacity + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	public int capacity() {
+		return longs.length;
+	}
+
+	/**
+	 * 
+	 * @return {@link IMultitypeConstants#MASK_EMPTY} if all rows are null, else {@link IMultitypeConstants#MASK_LONG}
+	 *         or {@link IMultitypeConstants#MASK_DOUBLE}.
+	 */
+	public byte getType() {
+		return type;
+	}
+
+	public void setType(byte type) {
+		if (type != IMultitypeConstants.MASK_EMPTY && type != IMultitypeConstants.MASK_LONG
+				&& type != IMultitypeConstants.MASK_DOUBLE) {
+			throw new IllegalArgumentException("Not a primitive type: " + type);
+		}
+		this.type = type;
+	}
+
+	/**
+	 * 
+	 * @return the `long` values. Only relevant if {@link #getType()} is {@link IMultitypeConstants#MASK_LONG}.
+	 */
+	@SuppressWarnings("PMD.MethodReturnsInternalArray")
+	public long[] getLongs() {
+		return longs;
+	}
+
+	/**
+	 * 
+	 * @return the `double` values. Only relevant if {@link #getType()} is {@link IMultitypeConstants#MASK_DOUBLE}.
+	 */
+	@SuppressWarnings("PMD.MethodReturnsInternalArray")
+	public double[] getDoubles() {
+		return doubles;
+	}
+
+	/**
+	 * 
+	 * @return the null bitmap: the bit `row % 64` of the word `row / 64` is set if given row is null.
+	 */
+	@SuppressWarnings("PMD.MethodReturnsInternalArray")
+	public long[] getNulls() {
+		return nulls;
+	}
+
+	public boolean isNull(int row) {
+		return (nulls[row >>> 6] & (1L << row)) != 0;
+	}
+
+	public void setNull(int row) {
+		nulls[row >>> 6] |= 1L << row;
+		longs[row] = 0L;
+		doubles[row] = 0D;
+	}
+
+	public void setLong(int row, long value) {
+		nulls[row >>> 6] &= ~(1L << row);
+		longs[row] = value;
+	}
+
+	public void setDouble(int row, double value) {
+		nulls[row >>> 6] &= ~(1L << row);
+		doubles[row] = value;
+	}
+
+	/**
+	 * Set to `0` the values of null rows, as expected by downstream loops.
+	 */
+	public void zeroNulls(int size) {
+		for (int row = 0; row < size; row++) {
+			if (isNull(row)) {
+				longs[row] = 0L;
+				doubles[row] = 0D;
+			}
+		}
+	}
+
+	/**
+	 * Reset this column to hold only nulls.
+	 */
+	public void clear() {
+		type = IMultitypeConstants.MASK_EMPTY;
+		Arrays.fill(longs, 0L);
+		Arrays.fill(doubles, 0D);
+		Arrays.fill(nulls, -1L);
+	}
+
+	/**
+	 * Copy given column into this.
+	 */
+	public void copyFrom(PrimitiveBatchColumn other, int size) {
+		type = other.type;
+		System.arraycopy(other.longs, 0, longs, 0, size);
+		System.arraycopy(other.doubles, 0, doubles, 0, size);
+		System.arraycopy(other.nulls, 0, nulls, 0, bitmapLength(size));
+	}
+
+	/**
+	 * Write the value at given row into given {@link IValueReceiver}.
+	 */
+	public void read(int row, IValueReceiver receiver) {
+		if (type == IMultitypeConstants.MASK_EMPTY || isNull(row)) {
+			receiver.onObject(null);
+		} else if (type == IMultitypeConstants.MASK_LONG) {
+			receiver.onLong(longs[row]);
+		} else {
+			receiver.onDouble(doubles[row]);
+		}
+	}
+}
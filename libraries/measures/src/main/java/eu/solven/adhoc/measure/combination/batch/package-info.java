@@ -0,0 +1,12 @@
+/**
+ * Batches of aligned slices, holding underlying values as primitive columns, so an
+ * {@link eu.solven.adhoc.measure.combination.IBatchCombination} can combine them in tight loops.
+ *
+ * <p>
+ * All types in this package are null-marked: parameters, return types and fields are non-null by default; explicit
+ * {@link org.jspecify.annotations.Nullable @Nullable} marks the opt-outs.
+ */
+@NullMarked
+package eu.solven.adhoc.measure.combination.batch;
+
+import org.jspecify.annotations.NullMarked;
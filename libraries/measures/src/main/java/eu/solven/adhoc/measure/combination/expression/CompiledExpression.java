@@ -0,0 +1,372 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination.expression;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import eu.solven.adhoc.primitive.IValueReceiver;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An arithmetic expression, parsed once into a tree evaluated over `long` and `double` primitives. It supports number
+ * literals, variables, `underlyings[i]`, `+`, `-`, `*`, `/`, `%`, parenthesis and the functions `MIN`, `MAX` and `ABS`.
+ * Other expressions (e.g. strings, comparisons, `IF`, other functions) are not compiled, and should be evaluated by
+ * EvalEx.
+ * 
+ * If all variables are `long` and the expression has no division, it is evaluated with exact `long` arithmetic. Else it
+ * is evaluated with `double` arithmetic, which may differ from EvalEx `BigDecimal` arithmetic in the last digit.
+ * 
+ * @author Benoit Lacelle
+ * @see ExpressionCompiler
+ */
+@Slf4j
+public final class CompiledExpression {
+	final String expression;
+	final ANode root;
+	final int[] usedSlots;
+	final int nbSlots;
+	final boolean longCapable;
+
+	CompiledExpression(String expression, ANode root, int[] usedSlots) {
+		this.expression = expression;
+		this.root = root;
+		this.usedSlots = usedSlots;
+		this.nbSlots = IntStream.of(usedSlots).max().orElse(-1) + 1;
+		this.longCapable = root.isLongCapable();
+	}
+
+	public ExpressionInputs newInputs() {
+		return new ExpressionInputs(nbSlots);
+	}
+
+	/**
+	 * 
+	 * @param inputs
+	 * @return true if all used variables are `long`, and the expression can be computed with `long` arithmetic.
+	 */
+	public boolean isLong(ExpressionInputs inputs) {
+		if (!longCapable) {
+			return false;
+		}
+		for (int slot : usedSlots) {
+			if (inputs.types[slot] != ExpressionInputs.TYPE_LONG) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 
+	 * @param inputs
+	 * @return true if all used variables are primitive numbers.
+	 */
+	public boolean isPrimitive(ExpressionInputs inputs) {
+		for (int slot : usedSlots) {
+			byte type = inputs.types[slot];
+			if (type != ExpressionInputs.TYPE_LONG && type != ExpressionInputs.TYPE_DOUBLE) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Requires {@link #isLong(ExpressionInputs)}.
+	 * 
+	 * @throws ArithmeticException
+	 *             on `long` overflow
+	 */
+	public long evaluateLong(ExpressionInputs inputs) {
+		return root.evalLong(inputs);
+	}
+
+	/**
+	 * Requires {@link #isPrimitive(ExpressionInputs)}.
+	 */
+	public double evaluateDouble(ExpressionInputs inputs) {
+		return root.evalDouble(inputs);
+	}
+
+	/**
+	 * Evaluate the expression, writing a `long` if the result is an exact `long`, else a `double`.
+	 * 
+	 * @return false if nothing has been written, as the expression can not be evaluated over given inputs (e.g. a
+	 *         `null` or a `String` variable, a `long` overflow, or a division by zero).
+	 */
+	public boolean evaluate(ExpressionInputs inputs, IValueReceiver receiver) {
+		if (isLong(inputs)) {
+			long result;
+			try {
+				result = evaluateLong(inputs);
+			} catch (ArithmeticException e) {
+				log.trace("Overflow on `{}`", expression, e);
+				return false;
+			}
+			receiver.onLong(result);
+			return true;
+		} else if (isPrimitive(inputs)) {
+			double result = evaluateDouble(inputs);
+			if (!Double.isFinite(result)) {
+				// e.g. a division by zero: let the caller report the issue
+				return false;
+			}
+
+			if (isExactLong(result)) {
+				receiver.onLong((long) result);
+			} else {
+				receiver.onDouble(result);
+			}
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	// Similar to ValueProviderHelpers.asLongIfExact
+	static boolean isExactLong(double d) {
+		return d == Math.rint(d) && d >= -0x1p63 && d < 0x1p63;
+	}
+
+	@Override
+	public String toString() {
+		return "compiled(" + expression + ")";
+	}
+
+	/**
+	 * A node of the expression tree.
+	 */
+	abstract static class ANode {
+		abstract boolean isLongCapable();
+
+		abstract long evalLong(ExpressionInputs inputs);
+
+		abstract double evalDouble(ExpressionInputs inputs);
+	}
+
+	static final class LongLiteral extends ANode {
+		final long value;
+
+		LongLiteral(long value) {
+			this.value = value;
+		}
+
+		@Override
+		boolean isLongCapable() {
+			return true;
+		}
+
+		@Override
+		long evalLong(ExpressionInputs inputs) {
+			return value;
+		}
+
+		@Override
+		double evalDouble(ExpressionInputs inputs) {
+			return value;
+		}
+	}
+
+	static final class DoubleLiteral extends ANode {
+		final double value;
+
+		DoubleLiteral(double value) {
+			this.value = value;
+		}
+
+		@Override
+		boolean isLongCapable() {
+			return false;
+		}
+
+		@Override
+		long evalLong(ExpressionInputs inputs) {
+			throw new UnsupportedOperationException("Not a long: " + value);
+		}
+
+		@Override
+		double evalDouble(ExpressionInputs inputs) {
+			return value;
+		}
+	}
+
+	static final class Variable extends ANode {
+		final int slot;
+
+		Variable(int slot) {
+			this.slot = slot;
+		}
+
+		@Override
+		boolean isLongCapable() {
+			return true;
+		}
+
+		@Override
+		long evalLong(ExpressionInputs inputs) {
+			return inputs.longs[slot];
+		}
+
+		@Override
+		double evalDouble(ExpressionInputs inputs) {
+			return inputs.getDouble(slot);
+		}
+	}
+
+	static final class Negate extends ANode {
+		final ANode operand;
+
+		Negate(ANode operand) {
+			this.operand = operand;
+		}
+
+		@Override
+		boolean isLongCapable() {
+			return operand.isLongCapable();
+		}
+
+		@Override
+		long evalLong(ExpressionInputs inputs) {
+			return Math.negateExact(operand.evalLong(inputs));
+		}
+
+		@Override
+		double evalDouble(ExpressionInputs inputs) {
+			return -operand.evalDouble(inputs);
+		}
+	}
+
+	static final class Abs extends ANode {
+		final ANode operand;
+
+		Abs(ANode operand) {
+			this.operand = operand;
+		}
+
+		@Override
+		boolean isLongCapable() {
+			return operand.isLongCapable();
+		}
+
+		@Override
+		long evalLong(ExpressionInputs inputs) {
+			return Math.absExact(operand.evalLong(inputs));
+		}
+
+		@Override
+		double evalDouble(ExpressionInputs inputs) {
+			return Math.abs(operand.evalDouble(inputs));
+		}
+	}
+
+	/**
+	 * `MIN` or `MAX` over any number of operands.
+	 */
+	static final class MinMax extends ANode {
+		final boolean isMax;
+		final ANode[] operands;
+
+		MinMax(boolean isMax, List<ANode> operands) {
+			this.isMax = isMax;
+			this.operands = operands.toArray(ANode[]::new);
+		}
+
+		@Override
+		boolean isLongCapable() {
+			for (ANode operand : operands) {
+				if (!operand.isLongCapable()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		long evalLong(ExpressionInputs inputs) {
+			long result = operands[0].evalLong(inputs);
+			for (int i = 1; i < operands.length; i++) {
+				long operand = operands[i].evalLong(inputs);
+				result = isMax ? Math.max(result, operand) : Math.min(result, operand);
+			}
+			return result;
+		}
+
+		@Override
+		double evalDouble(ExpressionInputs inputs) {
+			double result = operands[0].evalDouble(inputs);
+			for (int i = 1; i < operands.length; i++) {
+				double operand = operands[i].evalDouble(inputs);
+				result = isMax ? Math.max(result, operand) : Math.min(result, operand);
+			}
+			return result;
+		}
+	}
+
+	static final class Binary extends ANode {
+		final char operator;
+		final ANode left;
+		final ANode right;
+
+		Binary(char operator, ANode left, ANode right) {
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		boolean isLongCapable() {
+			// A division may not be a long
+			return operator != '/' && left.isLongCapable() && right.isLongCapable();
+		}
+
+		@Override
+		long evalLong(ExpressionInputs inputs) {
+			long l = left.evalLong(inputs);
+			long r = right.evalLong(inputs);
+			return switch (operator) {
+			case '+' -> Math.addExact(l, r);
+			case '-' -> Math.subtractExact(l, r);
+			case '*' -> Math.multiplyExact(l, r);
+			// Throws an ArithmeticException on `% 0`
+			case '%' -> l % r;
+			default -> throw new UnsupportedOperationException("Not a long operator: " + operator);
+			};
+		}
+
+		@Override
+		double evalDouble(ExpressionInputs inputs) {
+			double l = left.evalDouble(inputs);
+			double r = right.evalDouble(inputs);
+			return switch (operator) {
+			case '+' -> l + r;
+			case '-' -> l - r;
+			case '*' -> l * r;
+			case '/' -> l / r;
+			case '%' -> l % r;
+			default -> throw new UnsupportedOperationException("Not an operator: " + operator);
+			};
+		}
+	}
+}
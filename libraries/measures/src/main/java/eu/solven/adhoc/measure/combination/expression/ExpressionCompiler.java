@@ -0,0 +1,290 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import eu.solven.adhoc.measure.combination.expression.CompiledExpression.ANode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Parses an expression into a {@link CompiledExpression}, with a recursive-descent parser following EvalEx operators
+ * precedence.
+ * 
+ * @author Benoit Lacelle
+ */
+@Slf4j
+@RequiredArgsConstructor
+public final class ExpressionCompiler {
+
+	/**
+	 * Maps the variables of an expression to the slots of {@link ExpressionInputs}.
+	 */
+	public interface IVariableSlots {
+		/**
+		 * 
+		 * @param name
+		 * @return the slot for given variable, or -1 if it is not a known variable.
+		 */
+		int slotOf(String name);
+
+		/**
+		 * 
+		 * @param name
+		 * @param index
+		 * @return the slot for `name[index]`, or -1 if this is not a known variable.
+		 */
+		int slotOf(String name, int index);
+	}
+
+	/**
+	 * Thrown when the expression is not handled by the compiler.
+	 */
+	static final class NotCompilableException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		NotCompilableException(String message) {
+			super(message, null, false, false);
+		}
+	}
+
+	final String expression;
+	final IVariableSlots slots;
+
+	int position;
+	final TreeSet<Integer> usedSlots = new TreeSet<>();
+
+	/**
+	 * 
+	 * @param expression
+	 * @param slots
+	 * @return a {@link CompiledExpression}, or empty if the expression is not handled by the compiler.
+	 */
+	public static Optional<CompiledExpression> tryCompile(String expression, IVariableSlots slots) {
+		ExpressionCompiler compiler = new ExpressionCompiler(expression, slots);
+		try {
+			ANode root = compiler.parseExpression();
+			compiler.skipWhitespaces();
+			if (compiler.position != expression.length()) {
+				throw compiler.notCompilable("Trailing characters");
+			}
+			int[] usedSlots = compiler.usedSlots.stream().mapToInt(Integer::intValue).toArray();
+			return Optional.of(new CompiledExpression(expression, root, usedSlots));
+		} catch (NotCompilableException e) {
+			log.debug("Not compiling `{}` due to {}", expression, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	// expression := term (('+' | '-') term)*
+	ANode parseExpression() {
+		ANode node = parseTerm();
+		while (true) {
+			char c = peek();
+			if (c == '+' || c == '-') {
+				position++;
+				node = new CompiledExpression.Binary(c, node, parseTerm());
+			} else {
+				return node;
+			}
+		}
+	}
+
+	// term := unary (('*' | '/' | '%') unary)*
+	ANode parseTerm() {
+		ANode node = parseUnary();
+		while (true) {
+			char c = peek();
+			if (c == '*' || c == '/' || c == '%') {
+				position++;
+				node = new CompiledExpression.Binary(c, node, parseUnary());
+			} else {
+				return node;
+			}
+		}
+	}
+
+	// unary := ('-' | '+') unary | primary
+	ANode parseUnary() {
+		char c = peek();
+		if (c == '-') {
+			position++;
+			return new CompiledExpression.Negate(parseUnary());
+		} else if (c == '+') {
+			position++;
+			return parseUnary();
+		} else {
+			return parsePrimary();
+		}
+	}
+
+	// primary := number | '(' expression ')' | function '(' expression (',' expression)* ')' | name | name '[' int ']'
+	ANode parsePrimary() {
+		char c = peek();
+		if (c == '(') {
+			position++;
+			ANode node = parseExpression();
+			expect(')');
+			return node;
+		} else if (isDigit(c) || c == '.') {
+			return parseNumber();
+		} else if (Character.isJavaIdentifierStart(c)) {
+			String name = parseIdentifier();
+			char next = peek();
+			if (next == '(') {
+				position++;
+				return parseFunction(name);
+			} else if (next == '[') {
+				position++;
+				skipWhitespaces();
+				int indexStart = position;
+				while (position < expression.length() && isDigit(expression.charAt(position))) {
+					position++;
+				}
+				if (indexStart == position) {
+					throw notCompilable("Not an integer index");
+				}
+				int index = Integer.parseInt(expression.substring(indexStart, position));
+				expect(']');
+				return variable(slots.slotOf(name, index), name + "[" + index + "]");
+			} else if (next == '.') {
+				throw notCompilable("Structure access");
+			} else {
+				return variable(slots.slotOf(name), name);
+			}
+		} else {
+			throw notCompilable("Unexpected character");
+		}
+	}
+
+	ANode variable(int slot, String name) {
+		if (slot < 0) {
+			// e.g. a constant like `PI`
+			throw notCompilable("Unknown variable: " + name);
+		}
+		usedSlots.add(slot);
+		return new CompiledExpression.Variable(slot);
+	}
+
+	ANode parseFunction(String name) {
+		List<ANode> arguments = new ArrayList<>();
+		if (peek() != ')') {
+			arguments.add(parseExpression());
+			while (peek() == ',') {
+				position++;
+				arguments.add(parseExpression());
+			}
+		}
+		expect(')');
+
+		String upperName = name.toUpperCase(Locale.US);
+		if ("ABS".equals(upperName) && arguments.size() == 1) {
+			return new CompiledExpression.Abs(arguments.getFirst());
+		} else if (("MIN".equals(upperName) || "MAX".equals(upperName)) && !arguments.isEmpty()) {
+			return new CompiledExpression.MinMax("MAX".equals(upperName), arguments);
+		} else {
+			throw notCompilable("Unknown function: " + name);
+		}
+	}
+
+	ANode parseNumber() {
+		int start = position;
+		boolean isDecimal = false;
+		while (position < expression.length()) {
+			char c = expression.charAt(position);
+			if (isDigit(c)) {
+				position++;
+			} else if (c == '.' || c == 'e' || c == 'E') {
+				isDecimal = true;
+				position++;
+				if (position < expression.length() && (c == 'e' || c == 'E')) {
+					char sign = expression.charAt(position);
+					if (sign == '+' || sign == '-') {
+						position++;
+					}
+				}
+			} else {
+				break;
+			}
+		}
+
+		String literal = expression.substring(start, position);
+		try {
+			if (isDecimal) {
+				return new CompiledExpression.DoubleLiteral(Double.parseDouble(literal));
+			} else {
+				return new CompiledExpression.LongLiteral(Long.parseLong(literal));
+			}
+		} catch (NumberFormatException e) {
+			throw notCompilable("Invalid number: " + literal);
+		}
+	}
+
+	String parseIdentifier() {
+		int start = position;
+		position++;
+		while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+			position++;
+		}
+		return expression.substring(start, position);
+	}
+
+	void expect(char expected) {
+		if (peek() != expected) {
+			throw notCompilable("Expected `" + expected + "`");
+		}
+		position++;
+	}
+
+	/**
+	 * 
+	 * @return the next non-whitespace character, without consuming it, or `\0` at the end of the expression.
+	 */
+	char peek() {
+		skipWhitespaces();
+		if (position < expression.length()) {
+			return expression.charAt(position);
+		} else {
+			return '\0';
+		}
+	}
+
+	void skipWhitespaces() {
+		while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+			position++;
+		}
+	}
+
+	static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	NotCompilableException notCompilable(String reason) {
+		return new NotCompilableException(reason + " at position " + position);
+	}
+}
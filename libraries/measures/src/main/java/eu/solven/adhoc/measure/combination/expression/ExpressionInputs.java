@@ -0,0 +1,130 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination.expression;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import eu.solven.adhoc.data.row.ISlicedRecord;
+import eu.solven.adhoc.primitive.IValueReceiver;
+
+/**
+ * Holds the variables of a {@link CompiledExpression}, as primitives when possible. Not thread-safe: one instance
+ * should be used per evaluation.
+ * 
+ * @author Benoit Lacelle
+ */
+public final class ExpressionInputs implements IValueReceiver {
+	static final byte TYPE_MISSING = 0;
+	static final byte TYPE_LONG = 1;
+	static final byte TYPE_DOUBLE = 2;
+	// null, or not a primitive number (e.g. a String or a BigDecimal)
+	static final byte TYPE_OTHER = 3;
+
+	final long[] longs;
+	final double[] doubles;
+	final byte[] types;
+
+	// The slot written by the IValueReceiver methods
+	int currentSlot;
+
+	ExpressionInputs(int nbSlots) {
+		longs = new long[nbSlots];
+		doubles = new double[nbSlots];
+		types = new byte[nbSlots];
+	}
+
+	/**
+	 * 
+	 * @param slot
+	 * @return this as a {@link IValueReceiver} writing into given slot.
+	 */
+	public IValueReceiver into(int slot) {
+		currentSlot = slot;
+		return this;
+	}
+
+	public void setLong(int slot, long value) {
+		longs[slot] = value;
+		types[slot] = TYPE_LONG;
+	}
+
+	public void setDouble(int slot, double value) {
+		doubles[slot] = value;
+		types[slot] = TYPE_DOUBLE;
+	}
+
+	public void setObject(int slot, @Nullable Object value) {
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			setLong(slot, ((Number) value).longValue());
+		} else if (value instanceof Double || value instanceof Float) {
+			setDouble(slot, ((Number) value).doubleValue());
+		} else {
+			types[slot] = TYPE_OTHER;
+		}
+	}
+
+	/**
+	 * Load the slots from the underlying values, where the slot is the index of the underlying.
+	 */
+	public void load(ISlicedRecord slicedRecord) {
+		int size = Math.min(types.length, slicedRecord.size());
+		for (int i = 0; i < size; i++) {
+			slicedRecord.read(i, into(i));
+		}
+	}
+
+	/**
+	 * Load the slots from the underlying values, where the slot is the index of the underlying.
+	 */
+	public void load(List<?> underlyingValues) {
+		int size = Math.min(types.length, underlyingValues.size());
+		for (int i = 0; i < size; i++) {
+			setObject(i, underlyingValues.get(i));
+		}
+	}
+
+	@Override
+	public void onLong(long v) {
+		setLong(currentSlot, v);
+	}
+
+	@Override
+	public void onDouble(double v) {
+		setDouble(currentSlot, v);
+	}
+
+	@Override
+	public void onObject(@Nullable Object v) {
+		setObject(currentSlot, v);
+	}
+
+	double getDouble(int slot) {
+		if (types[slot] == TYPE_LONG) {
+			return longs[slot];
+		} else {
+			return doubles[slot];
+		}
+	}
+}
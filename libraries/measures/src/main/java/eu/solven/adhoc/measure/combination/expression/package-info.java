@@ -0,0 +1,12 @@
+/**
+ * Compiles simple arithmetic expressions (as accepted by EvalEx) into primitive-typed evaluators, parsed once per
+ * measure or column.
+ *
+ * <p>
+ * All types in this package are null-marked: parameters, return types and fields are non-null by default; explicit
+ * {@link org.jspecify.annotations.Nullable @Nullable} marks the opt-outs.
+ */
+@NullMarked
+package eu.solven.adhoc.measure.combination.expression;
+
+import org.jspecify.annotations.NullMarked;
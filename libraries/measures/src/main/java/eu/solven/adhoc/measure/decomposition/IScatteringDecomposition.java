@@ -0,0 +1,92 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.decomposition;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import eu.solven.adhoc.engine.step.ISliceWithStep;
+
+/**
+ * An {@link IDecomposition} which can scatter its entries into a callback, instead of materializing a
+ * {@link List} of {@link IDecompositionEntry}, each holding its own {@link java.util.Map}. This is useful for
+ * decompositions generating many entries per slice (e.g. many-to-many).
+ * 
+ * @author Benoit Lacelle
+ */
+public interface IScatteringDecomposition extends IDecomposition {
+
+	/**
+	 * Receives the entries of a decomposition.
+	 */
+	interface IDecompositionScatter {
+		/**
+		 * Equivalent to an {@link IDecompositionEntry} with an empty slice.
+		 * 
+		 * @param value
+		 */
+		void onUndecomposed(Object value);
+
+		/**
+		 * Equivalent to an {@link IDecompositionEntry} with a single-entry slice.
+		 * 
+		 * @param column
+		 *            the decomposed column
+		 * @param coordinate
+		 *            the coordinate along the decomposed column
+		 * @param value
+		 */
+		void onDecomposed(String column, Object coordinate, Object value);
+	}
+
+	/**
+	 * Same semantic as {@link #decompose(ISliceWithStep, Object)}.
+	 * 
+	 * @param slice
+	 * @param value
+	 * @param scatter
+	 */
+	void decompose(ISliceWithStep slice, Object value, IDecompositionScatter scatter);
+
+	@Override
+	default List<IDecompositionEntry> decompose(ISliceWithStep slice, Object value) {
+		ImmutableList.Builder<IDecompositionEntry> entries = ImmutableList.builder();
+
+		decompose(slice, value, new IDecompositionScatter() {
+
+			@Override
+			public void onUndecomposed(Object undecomposedValue) {
+				entries.add(IDecompositionEntry.of(ImmutableMap.of(), undecomposedValue));
+			}
+
+			@Override
+			public void onDecomposed(String column, Object coordinate, Object decomposedValue) {
+				entries.add(IDecompositionEntry.of(ImmutableMap.of(column, coordinate), decomposedValue));
+			}
+		});
+
+		return entries.build();
+	}
+}
@@ -28,8 +28,12 @@ import java.util.Map;
 import org.jspecify.annotations.Nullable;
 
 import eu.solven.adhoc.engine.step.ISliceWithStep;
+import eu.solven.adhoc.measure.combination.IBatchCombination;
 import eu.solven.adhoc.measure.combination.ICombination;
 import eu.solven.adhoc.measure.combination.IHasTwoOperands;
+import eu.solven.adhoc.measure.combination.batch.BatchCombinationHelpers;
+import eu.solven.adhoc.measure.combination.batch.CombinationBatch;
+import eu.solven.adhoc.measure.combination.batch.PrimitiveBatchColumn;
 import eu.solven.adhoc.util.map.AdhocMapPathGet;
 
 /**
@@ -39,7 +43,7 @@ import eu.solven.adhoc.util.map.AdhocMapPathGet;
  * @author Benoit Lacelle
  */
 // https://learn.microsoft.com/en-us/dax/divide-function-dax
-public class DivideCombination implements ICombination, IHasTwoOperands {
+public class DivideCombination implements ICombination, IHasTwoOperands, IBatchCombination {
 
 	public static final String KEY = "DIVIDE";
 
@@ -57,6 +61,11 @@ public class DivideCombination implements ICombination, IHasTwoOperands {
 		nullNumeratorIsZero = AdhocMapPathGet.<Boolean>getOptionalAs(options, "nullNumeratorIsZero").orElse(false);
 	}
 
+	@Override
+	public boolean combineBatch(CombinationBatch batch, PrimitiveBatchColumn output) {
+		return BatchCombinationHelpers.divide(batch, output, nullNumeratorIsZero);
+	}
+
 	@Override
 	public @Nullable Object combine(ISliceWithStep slice, List<?> underlyingValues) {
 		if (underlyingValues.size() != 2) {
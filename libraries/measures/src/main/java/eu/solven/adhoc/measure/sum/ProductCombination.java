@@ -25,7 +25,11 @@ package eu.solven.adhoc.measure.sum;
 import java.util.Map;
 
 import eu.solven.adhoc.data.cell.MultitypeCell;
+import eu.solven.adhoc.measure.combination.IBatchCombination;
 import eu.solven.adhoc.measure.combination.ICombination;
+import eu.solven.adhoc.measure.combination.batch.BatchCombinationHelpers;
+import eu.solven.adhoc.measure.combination.batch.CombinationBatch;
+import eu.solven.adhoc.measure.combination.batch.PrimitiveBatchColumn;
 import eu.solven.pepper.mappath.MapPathGet;
 
 /**
@@ -34,7 +38,7 @@ import eu.solven.pepper.mappath.MapPathGet;
  * @author Benoit Lacelle
  */
 // https://learn.microsoft.com/en-us/dax/product-function-dax
-public class ProductCombination extends AggregationCombination {
+public class ProductCombination extends AggregationCombination implements IBatchCombination {
 
 	public static final String KEY = "PRODUCT";
 
@@ -52,4 +56,9 @@ public class ProductCombination extends AggregationCombination {
 		return MultitypeCell.builder().aggregation(agg).asLong(1L).asDouble(1D).build();
 	}
 
+	@Override
+	public boolean combineBatch(CombinationBatch batch, PrimitiveBatchColumn output) {
+		return BatchCombinationHelpers.productLongs(batch, output, customIfAnyNullOperand);
+	}
+
 }
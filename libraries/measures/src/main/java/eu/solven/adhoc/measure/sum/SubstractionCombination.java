@@ -30,9 +30,13 @@ import eu.solven.adhoc.data.cell.MultitypeCell;
 import eu.solven.adhoc.data.row.ISlicedRecord;
 import eu.solven.adhoc.engine.step.ISliceWithStep;
 import eu.solven.adhoc.measure.AdhocBlackHole;
+import eu.solven.adhoc.measure.combination.IBatchCombination;
 import eu.solven.adhoc.measure.combination.IBindableCombination;
 import eu.solven.adhoc.measure.combination.ICombination;
 import eu.solven.adhoc.measure.combination.IHasTwoOperands;
+import eu.solven.adhoc.measure.combination.batch.BatchCombinationHelpers;
+import eu.solven.adhoc.measure.combination.batch.CombinationBatch;
+import eu.solven.adhoc.measure.combination.batch.PrimitiveBatchColumn;
 import eu.solven.adhoc.measure.transformator.ICombinationBinding;
 import eu.solven.adhoc.primitive.AdhocPrimitiveHelpers;
 import eu.solven.adhoc.primitive.IMultitypeConstants;
@@ -50,7 +54,7 @@ import lombok.extern.slf4j.Slf4j;
  */
 // https://dax.guide/op/subtraction/
 @Slf4j
-public class SubstractionCombination implements ICombination, IHasTwoOperands, IBindableCombination {
+public class SubstractionCombination implements ICombination, IHasTwoOperands, IBindableCombination, IBatchCombination {
 
 	public static final String KEY = "SUBSTRACTION";
 
@@ -255,6 +259,11 @@ public class SubstractionCombination implements ICombination, IHasTwoOperands, I
 		});
 	}
 
+	@Override
+	public boolean combineBatch(CombinationBatch batch, PrimitiveBatchColumn output) {
+		return BatchCombinationHelpers.substract(batch, output);
+	}
+
 	@Override
 	public @Nullable Object combine(ISliceWithStep slice, List<?> underlyingValues) {
 		if (underlyingValues.isEmpty()) {
@@ -22,14 +22,18 @@
  */
 package eu.solven.adhoc.measure.sum;
 
+import eu.solven.adhoc.measure.combination.IBatchCombination;
 import eu.solven.adhoc.measure.combination.ICombination;
+import eu.solven.adhoc.measure.combination.batch.BatchCombinationHelpers;
+import eu.solven.adhoc.measure.combination.batch.CombinationBatch;
+import eu.solven.adhoc.measure.combination.batch.PrimitiveBatchColumn;
 
 /**
  * An {@link ICombination} which sums underlyings.
  * 
  * @author Benoit Lacelle
  */
-public class SumCombination extends AggregationCombination {
+public class SumCombination extends AggregationCombination implements IBatchCombination {
 	public static final String KEY = SumAggregation.KEY;
 
 	/**
@@ -48,4 +52,9 @@ public class SumCombination extends AggregationCombination {
 		this(DEFAULT_CUSTOM_IF_ANY_NULL);
 	}
 
+	@Override
+	public boolean combineBatch(CombinationBatch batch, PrimitiveBatchColumn output) {
+		return BatchCombinationHelpers.sum(batch, output, customIfAnyNullOperand);
+	}
+
 }
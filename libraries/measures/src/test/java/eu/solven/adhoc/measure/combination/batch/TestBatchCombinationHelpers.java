@@ -0,0 +1,205 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination.batch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import eu.solven.adhoc.data.row.ISlicedRecord;
+import eu.solven.adhoc.data.row.SlicedRecordFromSlices;
+import eu.solven.adhoc.engine.step.ISliceWithStep;
+import eu.solven.adhoc.measure.combination.IBatchCombination;
+import eu.solven.adhoc.measure.sum.AggregationCombination;
+import eu.solven.adhoc.measure.sum.DivideCombination;
+import eu.solven.adhoc.measure.sum.ProductCombination;
+import eu.solven.adhoc.measure.sum.SubstractionCombination;
+import eu.solven.adhoc.measure.sum.SumCombination;
+import eu.solven.adhoc.primitive.IMultitypeConstants;
+import eu.solven.adhoc.primitive.IValueProvider;
+import eu.solven.adhoc.primitive.IValueReceiver;
+
+public class TestBatchCombinationHelpers {
+	ISliceWithStep slice = Mockito.mock(ISliceWithStep.class);
+
+	Random random = new Random(0);
+
+	private ISlicedRecord record(Object... values) {
+		SlicedRecordFromSlices.SlicedRecordFromSlicesBuilder builder = SlicedRecordFromSlices.builder();
+		for (Object value : values) {
+			if (value == null) {
+				builder.valueProvider(IValueProvider.NULL);
+			} else if (value instanceof Long l) {
+				builder.valueProvider(IValueProvider.setValue(l.longValue()));
+			} else if (value instanceof Double d) {
+				builder.valueProvider(IValueProvider.setValue(d.doubleValue()));
+			} else {
+				builder.valueProvider(IValueProvider.setValue(value));
+			}
+		}
+		return builder.build();
+	}
+
+	private Object capture(IValueProvider valueProvider) {
+		AtomicReference<Object> result = new AtomicReference<>();
+		valueProvider.acceptReceiver(new IValueReceiver() {
+
+			@Override
+			public void onLong(long v) {
+				result.set(v);
+			}
+
+			@Override
+			public void onDouble(double v) {
+				result.set(v);
+			}
+
+			@Override
+			public void onObject(Object v) {
+				result.set(v);
+			}
+		});
+		return result.get();
+	}
+
+	private List<ISlicedRecord> randomRecords(int nbRows, int nbColumns, boolean isLong) {
+		List<ISlicedRecord> records = new ArrayList<>();
+		for (int row = 0; row < nbRows; row++) {
+			Object[] values = new Object[nbColumns];
+			for (int column = 0; column < nbColumns; column++) {
+				int draw = random.nextInt(5);
+				if (draw == 0) {
+					values[column] = null;
+				} else if (draw == 1) {
+					// Zeros are edge-cases, especially given signed double zeros
+					values[column] = isLong ? (Object) 0L : (Object) (-0D);
+				} else if (isLong) {
+					values[column] = (long) random.nextInt(200) - 100;
+				} else {
+					values[column] = random.nextDouble() * 200 - 100;
+				}
+			}
+			records.add(record(values));
+		}
+		return records;
+	}
+
+	// Checks the batch produces the same values as individual rows
+	private void checkSameAsRows(IBatchCombination combination, List<ISlicedRecord> records) {
+		int nbColumns = records.getFirst().size();
+		CombinationBatch batch = new CombinationBatch(nbColumns, records.size());
+		records.forEach(r -> Assertions.assertThat(batch.tryAppend(r)).isTrue());
+
+		PrimitiveBatchColumn output = new PrimitiveBatchColumn(records.size());
+		Assertions.assertThat(combination.combineBatch(batch, output)).isTrue();
+
+		for (int row = 0; row < records.size(); row++) {
+			ISlicedRecord record = records.get(row);
+			int finalRow = row;
+			Object expected = capture(receiver -> combination.combine(slice, record, receiver));
+			Object actual = capture(receiver -> output.read(finalRow, receiver));
+			Assertions.assertThat(actual).as("row=%s %s", row, record.asList()).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void testTryAppend() {
+		CombinationBatch batch = new CombinationBatch(2, 3);
+
+		Assertions.assertThat(batch.tryAppend(record(1L, null))).isTrue();
+		Assertions.assertThat(batch.tryAppend(record(null, 2.5D))).isTrue();
+		// Mixed types in a column
+		Assertions.assertThat(batch.tryAppend(record(1.5D, 2.5D))).isFalse();
+		// Not a primitive
+		Assertions.assertThat(batch.tryAppend(record("a", 2.5D))).isFalse();
+		// Not the proper number of columns
+		Assertions.assertThat(batch.tryAppend(record(1L))).isFalse();
+		Assertions.assertThat(batch.getSize()).isEqualTo(2);
+
+		// Boxed numbers are accepted
+		Assertions.assertThat(batch.tryAppend(SlicedRecordFromSlices.builder()
+				.valueProvider(IValueProvider.setValue((Object) 3))
+				.valueProvider(IValueProvider.setValue((Object) 4.5D))
+				.build())).isTrue();
+		Assertions.assertThat(batch.isFull()).isTrue();
+		Assertions.assertThat(batch.tryAppend(record(3L, 4.5D))).isFalse();
+		Assertions.assertThat(batch.getRow(2).asList()).isEqualTo(Arrays.asList(3L, 4.5D));
+
+		Assertions.assertThat(batch.getColumn(0).getType()).isEqualTo(IMultitypeConstants.MASK_LONG);
+		Assertions.assertThat(batch.getColumn(1).getType()).isEqualTo(IMultitypeConstants.MASK_DOUBLE);
+		Assertions.assertThat(batch.getRow(0).asList()).isEqualTo(Arrays.asList(1L, null));
+		Assertions.assertThat(batch.getRow(1).asList()).isEqualTo(Arrays.asList(null, 2.5D));
+
+		batch.clear();
+		Assertions.assertThat(batch.isEmpty()).isTrue();
+		Assertions.assertThat(batch.getColumn(0).getType()).isEqualTo(IMultitypeConstants.MASK_EMPTY);
+	}
+
+	@Test
+	public void testSum() {
+		for (boolean isLong : new boolean[] { true, false }) {
+			checkSameAsRows(new SumCombination(), randomRecords(200, 3, isLong));
+			checkSameAsRows(new SumCombination(true), randomRecords(200, 3, isLong));
+		}
+	}
+
+	@Test
+	public void testSum_mixedTypes() {
+		CombinationBatch batch = new CombinationBatch(2, 1);
+		batch.tryAppend(record(1L, 2.5D));
+
+		Assertions.assertThat(new SumCombination().combineBatch(batch, new PrimitiveBatchColumn(1))).isFalse();
+	}
+
+	@Test
+	public void testProduct() {
+		checkSameAsRows(new ProductCombination(), randomRecords(200, 3, true));
+		checkSameAsRows(new ProductCombination(Map.of(AggregationCombination.K_CUSTOM_IF_ANY_NULL_OPERAND, false)),
+				randomRecords(200, 3, true));
+	}
+
+	@Test
+	public void testSubstraction() {
+		for (boolean isLong : new boolean[] { true, false }) {
+			checkSameAsRows(new SubstractionCombination(), randomRecords(200, 2, isLong));
+			checkSameAsRows(new SubstractionCombination(), randomRecords(200, 1, isLong));
+		}
+
+		// An empty left column
+		checkSameAsRows(new SubstractionCombination(), Arrays.asList(record(null, 3L), record(null, null)));
+	}
+
+	@Test
+	public void testDivide() {
+		checkSameAsRows(new DivideCombination(), randomRecords(200, 2, true));
+		checkSameAsRows(new DivideCombination(), randomRecords(200, 2, false));
+		checkSameAsRows(new DivideCombination(Map.of("nullNumeratorIsZero", true)), randomRecords(200, 2, false));
+	}
+}
@@ -0,0 +1,152 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.measure.combination.expression;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.primitive.IValueReceiver;
+
+public class TestCompiledExpression {
+	final ExpressionCompiler.IVariableSlots abc = new ExpressionCompiler.IVariableSlots() {
+
+		@Override
+		public int slotOf(String name) {
+			return List.of("a", "b", "c").indexOf(name);
+		}
+
+		@Override
+		public int slotOf(String name, int index) {
+			if ("underlyings".equals(name) && index < 3) {
+				return index;
+			}
+			return -1;
+		}
+	};
+
+	private Object evaluate(String expression, Object... values) {
+		CompiledExpression compiled = ExpressionCompiler.tryCompile(expression, abc).orElseThrow();
+
+		ExpressionInputs inputs = compiled.newInputs();
+		inputs.load(Arrays.asList(values));
+
+		AtomicReference<Object> result = new AtomicReference<>("fallback");
+		boolean evaluated = compiled.evaluate(inputs, new IValueReceiver() {
+
+			@Override
+			public void onLong(long v) {
+				result.set(v);
+			}
+
+			@Override
+			public void onDouble(double v) {
+				result.set(v);
+			}
+
+			@Override
+			public void onObject(Object v) {
+				throw new UnsupportedOperationException("Expected a primitive: " + v);
+			}
+		});
+		Assertions.assertThat(evaluated).isEqualTo(!"fallback".equals(result.get()));
+		return result.get();
+	}
+
+	@Test
+	public void testLongArithmetic() {
+		Assertions.assertThat(evaluate("a + b", 3, 4)).isEqualTo(7L);
+		Assertions.assertThat(evaluate("a - b * c", 10L, 3, 2)).isEqualTo(4L);
+		Assertions.assertThat(evaluate("(a - b) * c", 10L, 3, 2)).isEqualTo(14L);
+		Assertions.assertThat(evaluate("-a + +b", 3, 4)).isEqualTo(1L);
+		Assertions.assertThat(evaluate("a % b", 7, 4)).isEqualTo(3L);
+		Assertions.assertThat(evaluate("underlyings[0] + underlyings[ 1 ]", 3, 4)).isEqualTo(7L);
+	}
+
+	@Test
+	public void testDivision() {
+		Assertions.assertThat(evaluate("a / b", 1, 4)).isEqualTo(0.25D);
+		// Exact long results are written as long
+		Assertions.assertThat(evaluate("a / b", 8, 2)).isEqualTo(4L);
+		Assertions.assertThat(evaluate("a / b", 1, 0)).isEqualTo("fallback");
+	}
+
+	@Test
+	public void testDouble() {
+		Assertions.assertThat(evaluate("a * 1.5", 3)).isEqualTo(4.5D);
+		Assertions.assertThat(evaluate("a + b", 1.25D, 2)).isEqualTo(3.25D);
+		Assertions.assertThat(evaluate("a * 2e3", 1.5F)).isEqualTo(3000L);
+	}
+
+	@Test
+	public void testFunctions() {
+		Assertions.assertThat(evaluate("MAX(a, b, c)", 3, 7, 5)).isEqualTo(7L);
+		Assertions.assertThat(evaluate("min(a, b)", 3, 1.5D)).isEqualTo(1.5D);
+		Assertions.assertThat(evaluate("ABS(a - b)", 3, 7)).isEqualTo(4L);
+	}
+
+	@Test
+	public void testOverflow_fallback() {
+		Assertions.assertThat(evaluate("a * b", Long.MAX_VALUE, 2)).isEqualTo("fallback");
+	}
+
+	@Test
+	public void testNotPrimitive_fallback() {
+		Assertions.assertThat(evaluate("a + b", 3, null)).isEqualTo("fallback");
+		Assertions.assertThat(evaluate("a + b", 3, "4")).isEqualTo("fallback");
+		// `c` is not provided
+		Assertions.assertThat(evaluate("a + c", 3, 4)).isEqualTo("fallback");
+	}
+
+	@Test
+	public void testNotCompilable() {
+		for (String expression : List.of("(a + b",
+				"a + b)",
+				"a ^ 2",
+				"a + \"x\"",
+				"IF(a > 0, a, b)",
+				"SQRT(a)",
+				"a + d",
+				"a.b",
+				"2a",
+				"1.2.3",
+				"underlyings[3]",
+				"")) {
+			Assertions.assertThat(ExpressionCompiler.tryCompile(expression, abc)).as(expression).isEmpty();
+		}
+	}
+
+	@Test
+	public void testUsedSlots() {
+		Optional<CompiledExpression> compiled = ExpressionCompiler.tryCompile("c * 2", abc);
+
+		Assertions.assertThat(compiled).hasValueSatisfying(c -> {
+			Assertions.assertThat(c.usedSlots).containsExactly(2);
+			Assertions.assertThat(c.newInputs().types).hasSize(3);
+		});
+	}
+}
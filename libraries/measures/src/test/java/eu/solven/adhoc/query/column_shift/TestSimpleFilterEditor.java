@@ -22,18 +22,28 @@
  */
 package eu.solven.adhoc.query.column_shift;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableMap;
+
 import eu.solven.adhoc.filter.AndFilter;
 import eu.solven.adhoc.filter.ColumnFilter;
 import eu.solven.adhoc.filter.FilterBuilder;
+import eu.solven.adhoc.filter.FilterHelpers;
 import eu.solven.adhoc.filter.ISliceFilter;
 import eu.solven.adhoc.filter.NotFilter;
 import eu.solven.adhoc.filter.OrFilter;
+import eu.solven.adhoc.filter.editor.ICompiledFilterEditor;
+import eu.solven.adhoc.filter.editor.ICompiledFilterEditor.ICoordinateEditor;
 import eu.solven.adhoc.filter.editor.SimpleFilterEditor;
+import eu.solven.adhoc.filter.value.EqualsMatcher;
+import eu.solven.adhoc.filter.value.NullMatcher;
 
 public class TestSimpleFilterEditor {
 	@Test
@@ -176,4 +186,57 @@ public class TestSimpleFilterEditor {
 		Assertions.assertThat(SimpleFilterEditor.retainsColumns(filter, Set.of("b", "c")))
 				.isEqualTo(AndFilter.and("b", "b1", "c", "c1"));
 	}
+
+	@Test
+	public void testCompile_constant() {
+		SimpleFilterEditor editor = SimpleFilterEditor.builder().columnToValue("a", 2).build();
+
+		ICompiledFilterEditor compiled = editor.compile(null).orElseThrow();
+
+		Assertions.assertThat(compiled.getCoordinateEditor("b")).isEmpty();
+
+		ICoordinateEditor aEditor = compiled.getCoordinateEditor("a").orElseThrow();
+		// int is normalized into long, as in an EqualsMatcher
+		Assertions.assertThat(aEditor.editCoordinate("a1")).isEqualTo(2L);
+		Assertions.assertThat(aEditor.editCoordinate(null)).isEqualTo(2L);
+	}
+
+	@Test
+	public void testCompile_function() {
+		AtomicInteger nbCalls = new AtomicInteger();
+		Function<Object, Object> previous = o -> {
+			nbCalls.incrementAndGet();
+			return ((Number) o).intValue() - 1;
+		};
+		SimpleFilterEditor editor = SimpleFilterEditor.builder().columnToValue("year", previous).build();
+
+		ICoordinateEditor yearEditor = editor.compile(null).orElseThrow().getCoordinateEditor("year").orElseThrow();
+
+		Assertions.assertThat(yearEditor.editCoordinate(2024L)).isEqualTo(2023L);
+		Assertions.assertThat(yearEditor.editCoordinate(2024L)).isEqualTo(2023L);
+		Assertions.assertThat(yearEditor.editCoordinate(2025L)).isEqualTo(2024L);
+		// Memoized per distinct coordinate
+		Assertions.assertThat(nbCalls).hasValue(2);
+
+		// Similarly to ShiftedValueMatcher, a null coordinate is not shifted
+		Assertions.assertThat(yearEditor.editCoordinate(null)).isEqualTo(NullMatcher.NULL_HOLDER);
+	}
+
+	@Test
+	public void testCompile_sameAsEditFilter() {
+		Function<Object, Object> previous = o -> ((Number) o).longValue() - 1;
+		SimpleFilterEditor editor =
+				SimpleFilterEditor.builder().columnToValue("year", previous).columnToValue("ccy", "EUR").build();
+		ICompiledFilterEditor compiled = editor.compile(null).orElseThrow();
+
+		Map<String, ?> slice = ImmutableMap.of("ccy", "USD", "country", "FR", "year", 2024L);
+		ISliceFilter edited = editor.editFilter(AndFilter.and(slice));
+
+		slice.forEach((column, coordinate) -> {
+			Object compiledCoordinate =
+					compiled.getCoordinateEditor(column).map(e -> e.editCoordinate(coordinate)).orElse(coordinate);
+			Assertions.assertThat(FilterHelpers.getValueMatcher(edited, column))
+					.isEqualTo(EqualsMatcher.matchEq(compiledCoordinate));
+		});
+	}
 }
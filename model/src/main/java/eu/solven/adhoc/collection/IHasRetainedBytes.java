@@ -0,0 +1,41 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.collection;
+
+/**
+ * Used for data structures which can estimate the heap they retain, typically by introspecting the capacity of their
+ * underlying arrays. It does not walk the referenced objects (e.g. slices), which are accounted with a flat cost:
+ * walking them would cost as much as the structure itself.
+ * 
+ * @author Benoit Lacelle
+ */
+@FunctionalInterface
+public interface IHasRetainedBytes {
+
+	/**
+	 * 
+	 * @return an estimation of the number of bytes retained by this structure. It does not need to be exact, but should
+	 *         be consistent across structures so that estimations are comparable.
+	 */
+	long estimateRetainedBytes();
+}
@@ -0,0 +1,66 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.model.query.top;
+
+import org.jspecify.annotations.NonNull;
+
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * One entry of a {@link CubeTopClause}: the name of either a queried measure or a groupBy column, and a direction.
+ * 
+ * `null` values are always sorted last, whatever the direction, consistently with `NULLS LAST`.
+ * 
+ * @author Benoit Lacelle
+ */
+@Value
+@Builder
+@Jacksonized
+public class CubeOrderBy {
+	// Either a measure name or a column name. Measures have precedence over columns on conflicting names.
+	@NonNull
+	String name;
+
+	@Default
+	boolean desc = true;
+
+	public static CubeOrderBy desc(String name) {
+		return CubeOrderBy.builder().name(name).desc(true).build();
+	}
+
+	public static CubeOrderBy asc(String name) {
+		return CubeOrderBy.builder().name(name).desc(false).build();
+	}
+
+	@Override
+	public String toString() {
+		if (desc) {
+			return name + " DESC";
+		} else {
+			return name + " ASC";
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.model.query.top;
+
+import org.jspecify.annotations.NonNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.google.common.collect.ImmutableList;
+
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Restricts a cube query to a window of its ordered slices: `ORDER BY ... LIMIT ... OFFSET ...`.
+ * 
+ * Without {@link CubeOrderBy}, slices are ordered by their natural ordering, so that pages are stable.
+ * 
+ * @author Benoit Lacelle
+ */
+@Value
+@Builder
+@Jacksonized
+public class CubeTopClause {
+	// If negative, do not apply any limit
+	public static final int NO_LIMIT_VALUE = -1;
+
+	public static final CubeTopClause NO_LIMIT = CubeTopClause.builder().build();
+
+	@NonNull
+	@Singular
+	ImmutableList<CubeOrderBy> orderBys;
+
+	@Default
+	int limit = NO_LIMIT_VALUE;
+
+	@Default
+	int offset = 0;
+
+	/**
+	 * 
+	 * @return true if this clause restricts or re-orders the output.
+	 */
+	@JsonIgnore
+	public boolean isPresent() {
+		return !orderBys.isEmpty() || isLimited() || offset > 0;
+	}
+
+	@JsonIgnore
+	public boolean isLimited() {
+		return limit >= 0;
+	}
+
+	/**
+	 * 
+	 * @return the number of leading ordered slices needed to honor this clause, or {@link #NO_LIMIT_VALUE} if all
+	 *         slices are needed.
+	 */
+	@JsonIgnore
+	public int getFetchSize() {
+		if (!isLimited()) {
+			return NO_LIMIT_VALUE;
+		}
+		return Math.addExact(offset, limit);
+	}
+
+	@Override
+	public String toString() {
+		if (!isPresent()) {
+			return "noLimit";
+		}
+
+		return "orderBy=%s limit=%s offset=%s".formatted(orderBys, limit, offset);
+	}
+
+	/**
+	 * Jackson `valueFilter`, excluding a not-present {@link CubeTopClause} from the serialized queries.
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	public static class JsonExcludeNotPresent {
+		// Jackson excludes the property value if `filter.equals(value)`
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof CubeTopClause topClause && !topClause.isPresent();
+		}
+
+		@Override
+		public int hashCode() {
+			return 0;
+		}
+	}
+
+	/**
+	 * Lombok @Builder
+	 * 
+	 * @author Benoit Lacelle
+	 */
+	public static class CubeTopClauseBuilder {
+		public CubeTopClauseBuilder orderByDesc(String name) {
+			return orderBy(CubeOrderBy.desc(name));
+		}
+
+		public CubeTopClauseBuilder orderByAsc(String name) {
+			return orderBy(CubeOrderBy.asc(name));
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.options;
+
+import java.util.Collection;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * An {@link IQueryOption} tuning how a query is executed (e.g. its deadline, or its memory policy), but not what it
+ * computes. Such options are not part of the identity of query steps: a query with a different {@link QueryTimeout}
+ * still hits the cached cuboids, and still joins the in-flight table queries.
+ * 
+ * They are read from the query pod, never from the steps.
+ * 
+ * @author Benoit Lacelle
+ */
+public interface IExecutionOption extends IQueryOption {
+
+	/**
+	 * 
+	 * @param options
+	 * @return given options, without the {@link IExecutionOption}.
+	 */
+	static ImmutableSet<IQueryOption> withoutExecutionOptions(Collection<? extends IQueryOption> options) {
+		if (options.stream().noneMatch(IExecutionOption.class::isInstance)) {
+			return ImmutableSet.copyOf(options);
+		}
+		return options.stream()
+				.filter(option -> !(option instanceof IExecutionOption))
+				.collect(ImmutableSet.toImmutableSet());
+	}
+
+	/**
+	 * 
+	 * @param options
+	 * @return the {@link IExecutionOption} amongst given options.
+	 */
+	static ImmutableSet<IQueryOption> onlyExecutionOptions(Collection<? extends IQueryOption> options) {
+		return options.stream().filter(IExecutionOption.class::isInstance).collect(ImmutableSet.toImmutableSet());
+	}
+}
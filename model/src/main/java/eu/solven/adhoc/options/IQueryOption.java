@@ -24,6 +24,7 @@ package eu.solven.adhoc.options;
 
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 /**
@@ -39,6 +40,8 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 		include = JsonTypeInfo.As.PROPERTY,
 		property = "type",
 		defaultImpl = StandardQueryOptions.class)
+@JsonSubTypes({ @JsonSubTypes.Type(value = QueryTimeout.class, name = "timeout"),
+		@JsonSubTypes.Type(value = SpillToDisk.class, name = "spill") })
 @SuppressWarnings("PMD.ImplicitFunctionalInterface")
 public interface IQueryOption {
 	boolean isActive(Set<IQueryOption> options);
@@ -0,0 +1,78 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.options;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * An {@link IQueryOption} bounding the duration of a query: once the timeout elapsed, the query is cancelled, and its
+ * running tasks are expected to stop within milliseconds.
+ * 
+ * The timeout is measured from the submission of the query, hence it covers the time spent waiting for an admission.
+ * 
+ * @param timeoutMs
+ *            the maximum duration of the query, in milliseconds
+ * @author Benoit Lacelle
+ */
+public record QueryTimeout(@JsonProperty("timeoutMs") long timeoutMs) implements IExecutionOption {
+
+	@JsonCreator
+	public QueryTimeout {
+		if (timeoutMs <= 0) {
+			throw new IllegalArgumentException("timeoutMs must be strictly positive. Was " + timeoutMs);
+		}
+	}
+
+	public static QueryTimeout of(Duration timeout) {
+		return new QueryTimeout(timeout.toMillis());
+	}
+
+	@JsonIgnore
+	public Duration getTimeout() {
+		return Duration.ofMillis(timeoutMs);
+	}
+
+	@Override
+	public boolean isActive(Set<IQueryOption> options) {
+		return options.contains(this);
+	}
+
+	/**
+	 * 
+	 * @param options
+	 * @return the smallest timeout amongst the {@link QueryTimeout} in given options.
+	 */
+	public static Optional<Duration> lookup(Set<? extends IQueryOption> options) {
+		return options.stream()
+				.filter(QueryTimeout.class::isInstance)
+				.map(QueryTimeout.class::cast)
+				.map(QueryTimeout::getTimeout)
+				.min(Duration::compareTo);
+	}
+}
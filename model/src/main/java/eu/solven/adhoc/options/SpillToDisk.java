@@ -0,0 +1,80 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.options;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * An {@link IQueryOption} enabling out-of-core aggregation: once the heap usage crosses {@code heapUsageRatio}, or once
+ * a column would reach {@code AdhocColumnUnsafe.getLimitColumnSize()}, the aggregates received from the table are
+ * hash-partitioned and flushed to memory-mapped files, then merged back one partition at a time.
+ * 
+ * @param diskBudgetBytes
+ *            the maximum number of bytes spilled at once by a query, along all its table queries and partitions.
+ *            Exceeding it fails the query.
+ * @param heapUsageRatio
+ *            the ratio of the maximum heap above which aggregates are spilled, in {@code (0, 1]}
+ * @author Benoit Lacelle
+ */
+public record SpillToDisk(@JsonProperty("diskBudgetBytes") long diskBudgetBytes,
+		@JsonProperty("heapUsageRatio") double heapUsageRatio) implements IExecutionOption {
+
+	public static final double DEFAULT_HEAP_USAGE_RATIO = 0.75D;
+
+	@JsonCreator
+	public SpillToDisk {
+		if (diskBudgetBytes <= 0) {
+			throw new IllegalArgumentException("diskBudgetBytes must be strictly positive. Was " + diskBudgetBytes);
+		}
+		if (!(heapUsageRatio > 0D && heapUsageRatio <= 1D)) {
+			throw new IllegalArgumentException("heapUsageRatio must be in (0, 1]. Was " + heapUsageRatio);
+		}
+	}
+
+	public static SpillToDisk of(long diskBudgetBytes) {
+		return new SpillToDisk(diskBudgetBytes, DEFAULT_HEAP_USAGE_RATIO);
+	}
+
+	@Override
+	public boolean isActive(Set<IQueryOption> options) {
+		return options.contains(this);
+	}
+
+	/**
+	 * 
+	 * @param options
+	 * @return the {@link SpillToDisk} amongst given options, with the smallest disk budget if there is multiple of
+	 *         them.
+	 */
+	public static Optional<SpillToDisk> lookup(Set<? extends IQueryOption> options) {
+		return options.stream()
+				.filter(SpillToDisk.class::isInstance)
+				.map(SpillToDisk.class::cast)
+				.min(Comparator.comparingLong(SpillToDisk::diskBudgetBytes));
+	}
+}
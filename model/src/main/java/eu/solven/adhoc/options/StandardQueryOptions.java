@@ -58,6 +58,12 @@ public enum StandardQueryOptions implements IQueryOption {
 	 */
 	EXPLAIN,
 
+	/**
+	 * Like {@link #EXPLAIN}, additionally reporting the allocated and retained bytes of each step, and the peak of
+	 * retained bytes of the query.
+	 */
+	EXPLAIN_MEMORY,
+
 	/**
 	 * Force the {@link eu.solven.adhoc.query.cube.IAdhocQuery} to be executed with `debug==true`.
 	 */
@@ -130,8 +136,8 @@ public enum StandardQueryOptions implements IQueryOption {
 			// SEQUENTIAL will force disabling of CONCURRENT
 			return options.contains(CONCURRENT) && !options.contains(SEQUENTIAL);
 		} else if (this == EXPLAIN) {
-			// DEBUG should trigger EXPLAIN messages
-			return options.contains(EXPLAIN) || options.contains(DEBUG);
+			// DEBUG and EXPLAIN_MEMORY should trigger EXPLAIN messages
+			return options.contains(EXPLAIN) || options.contains(DEBUG) || options.contains(EXPLAIN_MEMORY);
 		} else {
 			return options.contains(this);
 		}
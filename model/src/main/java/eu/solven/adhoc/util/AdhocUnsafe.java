@@ -28,6 +28,8 @@ import java.util.UUID;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -278,6 +280,23 @@ public class AdhocUnsafe {
 			.name("adhoc-maintenance-", 0)
 			.factory());
 
+	// A single thread shared by all timers (e.g. query deadlines). Scheduled tasks must be short, typically
+	// cancelling some query. Cancelled tasks are removed right-away, as most deadlines are cancelled before expiring.
+	@Getter
+	@Setter
+	private static ScheduledExecutorService timerPool = makeTimerPool();
+
+	private static ScheduledExecutorService makeTimerPool() {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+				Thread.ofPlatform()
+						// Daemon as a pending timer must not prevent the JVM from exiting
+						.daemon(true)
+						.name("adhoc-timer-", 0)
+						.factory());
+		executor.setRemoveOnCancelPolicy(true);
+		return executor;
+	}
+
 	public static void inFailFast() {
 		if (!failFast) {
 			log.info("Switching failfast=true");
@@ -0,0 +1,72 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.options;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.pepper.unittest.PepperJackson3TestHelper;
+
+public class TestQueryTimeout {
+	@Test
+	public void testJackson() {
+		String option = PepperJackson3TestHelper.verifyJackson(IQueryOption.class, QueryTimeout.of(Duration.ofSeconds(3)));
+
+		Assertions.assertThat(option).isEqualTo("""
+				{
+				  "type" : "timeout",
+				  "timeoutMs" : 3000
+				}
+				""".trim());
+	}
+
+	@Test
+	public void testLookup() {
+		Assertions.assertThat(QueryTimeout.lookup(Set.of())).isEmpty();
+		Assertions.assertThat(QueryTimeout.lookup(Set.of(StandardQueryOptions.EXPLAIN))).isEmpty();
+
+		// The smallest timeout wins
+		Assertions
+				.assertThat(QueryTimeout.lookup(Set.of(StandardQueryOptions.EXPLAIN,
+						QueryTimeout.of(Duration.ofSeconds(3)),
+						QueryTimeout.of(Duration.ofSeconds(2)))))
+				.contains(Duration.ofSeconds(2));
+	}
+
+	@Test
+	public void testIsActive() {
+		QueryTimeout timeout = QueryTimeout.of(Duration.ofSeconds(3));
+
+		Assertions.assertThat(timeout.isActive(Set.of(timeout))).isTrue();
+		Assertions.assertThat(timeout.isActive(Set.of(QueryTimeout.of(Duration.ofSeconds(2))))).isFalse();
+	}
+
+	@Test
+	public void testNotPositive() {
+		Assertions.assertThatThrownBy(() -> QueryTimeout.of(Duration.ZERO))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.options;
+
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.pepper.unittest.PepperJackson3TestHelper;
+
+public class TestSpillToDisk {
+	@Test
+	public void testJackson() {
+		String option = PepperJackson3TestHelper.verifyJackson(IQueryOption.class, new SpillToDisk(1024, 0.5D));
+
+		Assertions.assertThat(option).isEqualTo("""
+				{
+				  "type" : "spill",
+				  "diskBudgetBytes" : 1024,
+				  "heapUsageRatio" : 0.5
+				}
+				""".trim());
+	}
+
+	@Test
+	public void testLookup() {
+		Assertions.assertThat(SpillToDisk.lookup(Set.of())).isEmpty();
+		Assertions.assertThat(SpillToDisk.lookup(Set.of(StandardQueryOptions.EXPLAIN))).isEmpty();
+
+		// The smallest budget wins
+		Assertions
+				.assertThat(SpillToDisk
+						.lookup(Set.of(StandardQueryOptions.EXPLAIN, SpillToDisk.of(1024), SpillToDisk.of(512))))
+				.contains(SpillToDisk.of(512));
+	}
+
+	@Test
+	public void testInvalid() {
+		Assertions.assertThatThrownBy(() -> SpillToDisk.of(0)).isInstanceOf(IllegalArgumentException.class);
+		Assertions.assertThatThrownBy(() -> new SpillToDisk(1024, 0D)).isInstanceOf(IllegalArgumentException.class);
+		Assertions.assertThatThrownBy(() -> new SpillToDisk(1024, 1.5D))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -24,11 +24,17 @@ package eu.solven.adhoc.pivotable.core;
 
 import org.greenrobot.eventbus.EventBus;
 import org.greenrobot.eventbus.Logger;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.adhoc.engine.context.IImplicitFilter;
+import eu.solven.adhoc.engine.context.IImplicitOptions;
+import eu.solven.adhoc.filter.ISliceFilter;
 import eu.solven.adhoc.pivotable.account.PivotableUsersRegistry;
 import eu.solven.adhoc.pivotable.app.InjectPivotableAccountsConfig;
 import eu.solven.adhoc.pivotable.app.InjectPivotableSelfEndpointConfig;
@@ -111,8 +117,13 @@ public class PivotableComponentsConfiguration {
 	 */
 	@Bean
 	@org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean(eu.solven.adhoc.pivotable.query.PivotableAsynchronousQueriesManager.class)
-	public eu.solven.adhoc.pivotable.query.PivotableAsynchronousQueriesManager asyncQueriesManager() {
-		return new eu.solven.adhoc.pivotable.query.PivotableAsynchronousQueriesManager();
+	public eu.solven.adhoc.pivotable.query.PivotableAsynchronousQueriesManager asyncQueriesManager(
+			ObjectProvider<IImplicitFilter> implicitFilter,
+			ObjectProvider<IImplicitOptions> implicitOptions) {
+		// The implicit filter and options discriminate the queries sharing an execution
+		return new eu.solven.adhoc.pivotable.query.PivotableAsynchronousQueriesManager(
+				implicitFilter.getIfAvailable(() -> query -> ISliceFilter.MATCH_ALL),
+				implicitOptions.getIfAvailable(() -> query -> ImmutableSet.of()));
 	}
 
 	@Bean
@@ -55,6 +55,24 @@ public class PivotableQueryMonitor extends AdhocQueryMonitor {
 		return this.queryToStart.size();
 	}
 
+	@ManagedAttribute
+	@Override
+	public int getNbQueued() {
+		return super.getNbQueued();
+	}
+
+	@ManagedAttribute
+	@Override
+	public long getTotalAllocatedBytes() {
+		return super.getTotalAllocatedBytes();
+	}
+
+	@ManagedAttribute
+	@Override
+	public long getMaxPeakRetainedBytes() {
+		return super.getMaxPeakRetainedBytes();
+	}
+
 	@ManagedAttribute
 	public Map<String, Duration> getActiveToDuration() {
 		Map<String, Duration> queryToStartForJmx = new LinkedHashMap<>();
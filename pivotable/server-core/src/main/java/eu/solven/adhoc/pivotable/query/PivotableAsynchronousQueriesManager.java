@@ -23,6 +23,7 @@
 package eu.solven.adhoc.pivotable.query;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.Executors;
@@ -35,6 +36,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.RemovalListener;
 import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
@@ -43,6 +45,11 @@ import com.google.common.util.concurrent.MoreExecutors;
 import eu.solven.adhoc.beta.schema.IAdhocSchema;
 import eu.solven.adhoc.beta.schema.TargetedCubeQuery;
 import eu.solven.adhoc.dataframe.tabular.ITabularView;
+import eu.solven.adhoc.engine.concurrent.SingleFlight;
+import eu.solven.adhoc.engine.context.IImplicitFilter;
+import eu.solven.adhoc.engine.context.IImplicitOptions;
+import eu.solven.adhoc.filter.ISliceFilter;
+import eu.solven.adhoc.options.IQueryOption;
 import eu.solven.adhoc.util.IHasCache;
 import lombok.Builder;
 import lombok.Builder.Default;
@@ -72,6 +79,32 @@ public class PivotableAsynchronousQueriesManager implements IHasCache, Disposabl
 
 	final Cache<UUID, ListenableFuture<ITabularView>> queryIdToFuture = CacheBuilder.newBuilder().build();
 
+	// Cancelling a query cancels the shared execution only when all queries sharing it are cancelled
+	final SingleFlight<QueryFlightKey, ITabularView> queriesFlight = new SingleFlight<>();
+
+	// Must be the same as the ones given to the IQueryPreparator, as they typically depend on the security context
+	final IImplicitFilter implicitFilter;
+	final IImplicitOptions implicitOptions;
+
+	/**
+	 * Identifies a query which can be shared by concurrent callers. It includes the implicit filter and options, as
+	 * resolved for the caller: two users with different row-level filters must not share an execution.
+	 */
+	protected record QueryFlightKey(IAdhocSchema schema,
+			TargetedCubeQuery queryOnSchema,
+			ISliceFilter implicitFilter,
+			Set<IQueryOption> implicitOptions) {
+	}
+
+	public PivotableAsynchronousQueriesManager() {
+		this(query -> ISliceFilter.MATCH_ALL, query -> ImmutableSet.of());
+	}
+
+	public PivotableAsynchronousQueriesManager(IImplicitFilter implicitFilter, IImplicitOptions implicitOptions) {
+		this.implicitFilter = implicitFilter;
+		this.implicitOptions = implicitOptions;
+	}
+
 	final Cache<UUID, Throwable> queryIdToThrowable = CacheBuilder.newBuilder()
 			// The state remains available 10x longer than the view
 			.expireAfterWrite(policy.getExpireAfterWrite().multipliedBy(policy.getFactorForState()))
@@ -108,8 +141,16 @@ public class PivotableAsynchronousQueriesManager implements IHasCache, Disposabl
 		// Bind the pre-generated UUID into the engine via SubmittedQueryIdScope so the engine's AdhocQueryId.queryId
 		// matches the UUID we surface to the SPA. The scope is read by AdhocQueryIds.from inside the preparator, which
 		// runs synchronously on this thread before the future is submitted — so the binding flows in correctly.
-		ListenableFuture<ITabularView> future = eu.solven.adhoc.query.SubmittedQueryIdScope.runWith(queryId,
-				() -> schema.executeAsync(queryOnSchema.getCube(), queryOnSchema.getQuery()));
+		ListenableFuture<ITabularView> future;
+		if (queryOnSchema.getQuery().isDebugOrExplain()) {
+			// DEBUG and EXPLAIN expect the logs of their own execution
+			future = executeAsync(queryId, schema, queryOnSchema);
+		} else {
+			// Identical concurrent queries (e.g. a dashboard opened by many users) share a single execution. The
+			// shared execution is bound to the queryId of the first caller.
+			future = queriesFlight.executeAsync(makeFlightKey(schema, queryOnSchema),
+					() -> executeAsync(queryId, schema, queryOnSchema));
+		}
 		queryIdToFuture.put(queryId, future);
 
 		future.addListener(() -> {
@@ -135,6 +176,24 @@ public class PivotableAsynchronousQueriesManager implements IHasCache, Disposabl
 		return queryId;
 	}
 
+	/**
+	 * The implicit filter and options are resolved on the calling thread, like the {@link IImplicitFilter} of the
+	 * preparator, so that they reflect the caller security context.
+	 */
+	protected QueryFlightKey makeFlightKey(IAdhocSchema schema, TargetedCubeQuery queryOnSchema) {
+		return new QueryFlightKey(schema,
+				queryOnSchema,
+				implicitFilter.getImplicitFilter(queryOnSchema.getQuery()),
+				ImmutableSet.copyOf(implicitOptions.getOptions(queryOnSchema.getQuery())));
+	}
+
+	protected ListenableFuture<ITabularView> executeAsync(UUID queryId,
+			IAdhocSchema schema,
+			TargetedCubeQuery queryOnSchema) {
+		return eu.solven.adhoc.query.SubmittedQueryIdScope.runWith(queryId,
+				() -> schema.executeAsync(queryOnSchema.getCube(), queryOnSchema.getQuery()));
+	}
+
 	protected UUID generateQueryId() {
 		return UUID.randomUUID();
 	}
@@ -31,6 +31,7 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import eu.solven.adhoc.dataframe.tabular.IReadableTabularView;
+import eu.solven.adhoc.dataframe.tabular.ListBasedTabularView;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -50,6 +51,12 @@ public class QueryResultHolder {
 
 	IReadableTabularView view;
 
+	/**
+	 * Total number of rows of the result when {@link #view} holds only a window of it (i.e. when the client requested
+	 * an {@code offset} and/or a {@code limit}). Enables the SPA to paginate without transferring the whole result.
+	 */
+	Long totalSize;
+
 	Duration retryIn;
 
 	/**
@@ -79,6 +86,31 @@ public class QueryResultHolder {
 		return QueryResultHolder.builder().state(state).view(view).build();
 	}
 
+	/**
+	 * @param state
+	 * @param view
+	 *            the full result, typically held by {@link PivotableAsynchronousQueriesManager}
+	 * @param offset
+	 *            the number of leading rows to skip
+	 * @param limit
+	 *            the maximum number of rows to return. A negative value means no limit.
+	 * @return a holder with a Jackson-serializable view. If a window is requested, only that window is copied.
+	 */
+	public static QueryResultHolder served(AsynchronousStatus state,
+			IReadableTabularView view,
+			long offset,
+			long limit) {
+		if (offset == 0 && limit < 0) {
+			// ListBasedTabularView is serializable with Jackson
+			return served(state, ListBasedTabularView.load(view));
+		}
+		return servedWindow(state, ListBasedTabularView.loadWindow(view, offset, limit), view.size());
+	}
+
+	public static QueryResultHolder servedWindow(AsynchronousStatus state, IReadableTabularView view, long totalSize) {
+		return QueryResultHolder.builder().state(state).view(view).totalSize(totalSize).build();
+	}
+
 	public static QueryResultHolder retry(AsynchronousStatus state, Duration retryIn) {
 		return QueryResultHolder.builder().state(state).retryIn(retryIn).build();
 	}
@@ -0,0 +1,112 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.pivotable.query;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.jspecify.annotations.NonNull;
+
+import com.google.common.collect.ImmutableMap;
+
+import eu.solven.adhoc.dataframe.tabular.IReadableTabularView;
+import eu.solven.adhoc.resource.AdhocJackson;
+import eu.solven.adhoc.util.ThrowableAsStackSerializer;
+import lombok.Builder;
+import lombok.Builder.Default;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Writes an {@link IReadableTabularView} as newline-delimited JSON ({@code application/x-ndjson}): one
+ * {@code {"coordinates":{...},"values":{...}}} object per line.
+ *
+ * <p>
+ * Rows are converted one by one through {@link IReadableTabularView#stream}, so the view is never copied into an
+ * intermediate {@link eu.solven.adhoc.dataframe.tabular.ListBasedTabularView}, and the client receives the first rows
+ * while the last ones are still being written.
+ *
+ * @author Benoit Lacelle
+ */
+@Builder
+public class TabularViewNdjsonWriter {
+	public static final String MEDIA_TYPE = "application/x-ndjson";
+
+	private static final int DEFAULT_FLUSH_EVERY = 1024;
+
+	@NonNull
+	@Default
+	final ObjectMapper objectMapper = makeObjectMapper();
+
+	// Number of rows between two flushes of the underlying stream
+	@Default
+	final int flushEvery = DEFAULT_FLUSH_EVERY;
+
+	/**
+	 * @return an {@link ObjectMapper} writing each value on a single line.
+	 */
+	public static ObjectMapper makeObjectMapper() {
+		SimpleModule module = new SimpleModule("AdhocNdjson");
+		module.addSerializer(new ThrowableAsStackSerializer());
+
+		return AdhocJackson.makeObjectMapper("json")
+				.rebuild()
+				// NDJSON requires a single line per row
+				.disable(SerializationFeature.INDENT_OUTPUT)
+				.addModule(module)
+				.build();
+	}
+
+	/**
+	 * @param view
+	 *            the view to write
+	 * @param outputStream
+	 *            the stream to write into. It is flushed but not closed.
+	 * @return the number of written rows
+	 * @throws IOException
+	 */
+	public long write(IReadableTabularView view, OutputStream outputStream) throws IOException {
+		Iterator<byte[]> lines = view.<byte[]>stream(slice -> {
+			Map<String, ?> coordinates = slice.asAdhocMap();
+			return values -> objectMapper.writeValueAsBytes(
+					ImmutableMap.<String, Object>of("coordinates", coordinates, "values", values));
+		}).iterator();
+
+		long nbRows = 0;
+		while (lines.hasNext()) {
+			outputStream.write(lines.next());
+			outputStream.write('\n');
+
+			nbRows++;
+			if (nbRows % flushEvery == 0) {
+				outputStream.flush();
+			}
+		}
+		outputStream.flush();
+
+		return nbRows;
+	}
+}
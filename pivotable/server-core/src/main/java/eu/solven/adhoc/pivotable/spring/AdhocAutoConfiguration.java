@@ -30,6 +30,9 @@ import org.springframework.core.env.Environment;
 
 import eu.solven.adhoc.engine.CubeQueryEngine;
 import eu.solven.adhoc.engine.ICubeQueryEngine;
+import eu.solven.adhoc.engine.admission.IQueryAdmission;
+import eu.solven.adhoc.engine.admission.WeightedFairQueryScheduler;
+import eu.solven.adhoc.engine.cache.CostAwareQueryStepCache;
 import eu.solven.adhoc.engine.cache.GuavaQueryStepCache;
 import eu.solven.adhoc.engine.cache.IQueryStepCache;
 import eu.solven.adhoc.engine.context.IImplicitFilter;
@@ -41,6 +44,9 @@ import eu.solven.adhoc.engine.observability.plan.BoundedQueryPlanRegistry;
 import eu.solven.adhoc.engine.observability.plan.IQueryPlanRegistry;
 import eu.solven.adhoc.eventbus.AdhocEventBusHelpersUnsafe;
 import eu.solven.adhoc.eventbus.IAdhocEventBus;
+import eu.solven.adhoc.eventbus.RingBufferAdhocEventBus;
+import eu.solven.adhoc.eventbus.RingBufferAdhocEventBus.OverflowPolicy;
+import eu.solven.adhoc.eventbus.jfr.JfrMirroringAdhocEventBus;
 import eu.solven.adhoc.factories.IAdhocFactories;
 import eu.solven.adhoc.filter.ISliceFilter;
 import lombok.extern.slf4j.Slf4j;
@@ -70,17 +76,44 @@ public class AdhocAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean(IAdhocEventBus.class)
 	@ConditionalOnBean(com.google.common.eventbus.EventBus.class)
-	public IAdhocEventBus adhocEventBusFromGuava(com.google.common.eventbus.EventBus eventBus) {
+	public IAdhocEventBus adhocEventBusFromGuava(com.google.common.eventbus.EventBus eventBus, Environment env) {
 		log.info("Autoconfigured: IAdhocEventBus over {}", eventBus.getClass().getName());
-		return AdhocEventBusHelpersUnsafe.safeWrapper(eventBus::post);
+		return AdhocEventBusHelpersUnsafe.safeWrapper(decorateEventBus(eventBus::post, env));
 	}
 
 	@Bean
 	@ConditionalOnMissingBean(IAdhocEventBus.class)
 	@ConditionalOnBean(org.greenrobot.eventbus.EventBus.class)
-	public IAdhocEventBus adhocEventBusFromGreenRobot(org.greenrobot.eventbus.EventBus eventBus) {
+	public IAdhocEventBus adhocEventBusFromGreenRobot(org.greenrobot.eventbus.EventBus eventBus, Environment env) {
 		log.info("Autoconfigured: IAdhocEventBus over {}", eventBus.getClass().getName());
-		return AdhocEventBusHelpersUnsafe.safeWrapper(eventBus::post);
+		return AdhocEventBusHelpersUnsafe.safeWrapper(decorateEventBus(eventBus::post, env));
+	}
+
+	/**
+	 * Listeners of the underlying bus are called synchronously by default. With
+	 * {@code adhoc.pivotable.eventBus.async=true}, they are called by a {@link RingBufferAdhocEventBus} thread, so that
+	 * a slow listener does not block the DAG worker threads. Lifecycle events are mirrored as JFR events unless
+	 * {@code adhoc.pivotable.eventBus.jfr=false}.
+	 */
+	protected IAdhocEventBus decorateEventBus(IAdhocEventBus eventBus, Environment env) {
+		IAdhocEventBus decorated = eventBus;
+
+		if (env.getProperty("adhoc.pivotable.eventBus.async", Boolean.class, false)) {
+			decorated = RingBufferAdhocEventBus.builder()
+					.delegate(decorated)
+					.capacity(env.getProperty("adhoc.pivotable.eventBus.capacity",
+							Integer.class,
+							RingBufferAdhocEventBus.DEFAULT_CAPACITY))
+					.overflowPolicy(env.getProperty("adhoc.pivotable.eventBus.overflow",
+							OverflowPolicy.class,
+							OverflowPolicy.BLOCK))
+					.build();
+		}
+		if (env.getProperty("adhoc.pivotable.eventBus.jfr", Boolean.class, true)) {
+			decorated = new JfrMirroringAdhocEventBus(decorated);
+		}
+
+		return decorated;
 	}
 
 	/**
@@ -123,8 +156,16 @@ public class AdhocAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean(IQueryStepCache.class)
 	public IQueryStepCache queryStepCache(Environment env) {
-		long size = env.getProperty("adhoc.pivotable.queryStepCache.size", Long.class, DEFAULT_QUERY_STEP_CACHE_BUDGET);
-		return GuavaQueryStepCache.withSize(size);
+		if (env.getProperty("adhoc.pivotable.queryStepCache.costAware", Boolean.class, false)) {
+			long maximumBytes = env.getProperty("adhoc.pivotable.queryStepCache.bytes",
+					Long.class,
+					CostAwareQueryStepCache.DEFAULT_MAXIMUM_BYTES);
+			return CostAwareQueryStepCache.withMaximumBytes(maximumBytes);
+		} else {
+			long size =
+					env.getProperty("adhoc.pivotable.queryStepCache.size", Long.class, DEFAULT_QUERY_STEP_CACHE_BUDGET);
+			return GuavaQueryStepCache.withSize(size);
+		}
 	}
 
 	@Bean
@@ -143,13 +184,36 @@ public class AdhocAutoConfiguration {
 				.build();
 	}
 
+	@Bean
+	@ConditionalOnMissingBean(IQueryAdmission.class)
+	public IQueryAdmission queryAdmission(Environment env, IAdhocEventBus eventBus) {
+		if (env.getProperty("adhoc.pivotable.admission.enabled", Boolean.class, false)) {
+			return WeightedFairQueryScheduler.builder()
+					.maxRunning(env.getProperty("adhoc.pivotable.admission.maxRunning",
+							Integer.class,
+							Runtime.getRuntime().availableProcessors()))
+					.maxQueued(env.getProperty("adhoc.pivotable.admission.maxQueued", Integer.class, 1024))
+					.maxHeapRatio(env.getProperty("adhoc.pivotable.admission.maxHeapRatio", Double.class, 0.9D))
+					.eventBus(eventBus)
+					.build();
+		} else {
+			return IQueryAdmission.admitAll();
+		}
+	}
+
 	@Bean
 	@ConditionalOnMissingBean(ICubeQueryEngine.class)
-	public ICubeQueryEngine adhocQueryEngine(IAdhocEventBus eventBus, IAdhocFactories adhocFactories) {
+	public ICubeQueryEngine adhocQueryEngine(IAdhocEventBus eventBus,
+			IAdhocFactories adhocFactories,
+			IQueryAdmission queryAdmission) {
 		// {@link IQueryPlanRegistry} is no longer threaded into the engine — the preparator (built by
 		// {@link AdhocSchema}) sets it on the {@code QueryPod}, and the engine reads it from there. Callers that
 		// register a custom registry bean get it threaded through {@link IAdhocSchemaCustomizer} (see Pivotable's
 		// {@code InjectPivotableSelfEndpointConfig}).
-		return CubeQueryEngine.builder().eventBus(eventBus).factories(adhocFactories).build();
+		return CubeQueryEngine.builder()
+				.eventBus(eventBus)
+				.factories(adhocFactories)
+				.queryAdmission(queryAdmission)
+				.build();
 	}
 }
@@ -26,6 +26,7 @@ import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
@@ -33,12 +34,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.MoreExecutors;
 
 import eu.solven.adhoc.beta.schema.IAdhocSchema;
 import eu.solven.adhoc.beta.schema.TargetedCubeQuery;
 import eu.solven.adhoc.dataframe.tabular.ITabularView;
+import eu.solven.adhoc.engine.context.IImplicitFilter;
 import eu.solven.adhoc.engine.query.CubeQuery;
+import eu.solven.adhoc.filter.ColumnFilter;
 import eu.solven.adhoc.pivotable.query.PivotableAsynchronousQueriesManager.StateAndView;
 import lombok.extern.slf4j.Slf4j;
 
@@ -145,4 +149,59 @@ public class TestPivotableAsynchronousQueriesManager {
 			Assertions.assertThat(stateAndView.getOptView()).isEmpty();
 		});
 	}
+
+	@Test
+	public void testSingleFlight_differentImplicitFilters() {
+		// Simulates a security context, as typically read by an IImplicitFilter
+		ThreadLocal<String> currentUser = new ThreadLocal<>();
+		IImplicitFilter implicitFilter = query -> ColumnFilter.matchEq("user", currentUser.get());
+		PivotableAsynchronousQueriesManager secureManager =
+				new PivotableAsynchronousQueriesManager(implicitFilter, query -> ImmutableSet.of());
+
+		IAdhocSchema schema = Mockito.mock(IAdhocSchema.class);
+		TargetedCubeQuery query = TargetedCubeQuery.builder()
+				.endpointId(UUID.randomUUID())
+				.cube("someCube")
+				.query(CubeQuery.builder().build())
+				.build();
+
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger nbExecutions = new AtomicInteger();
+		Mockito.when(schema.executeAsync(query.getCube(), query.getQuery())).thenAnswer(invok -> {
+			nbExecutions.incrementAndGet();
+			// The view is bound to the user whose context is active while executing
+			ITabularView view = Mockito.mock(ITabularView.class, currentUser.get());
+			return es.submit(() -> {
+				release.await();
+				return view;
+			});
+		});
+
+		try {
+			currentUser.set("alice");
+			UUID aliceQueryId = secureManager.executeAsync(schema, query);
+			UUID aliceQueryId2 = secureManager.executeAsync(schema, query);
+			currentUser.set("bob");
+			UUID bobQueryId = secureManager.executeAsync(schema, query);
+
+			// alice queries share an execution, but bob does not join it
+			Assertions.assertThat(nbExecutions).hasValue(2);
+
+			release.countDown();
+
+			Awaitility.await().untilAsserted(() -> {
+				Assertions.assertThat(secureManager.getState(aliceQueryId)).isEqualTo(AsynchronousStatus.SERVED);
+				Assertions.assertThat(secureManager.getState(aliceQueryId2)).isEqualTo(AsynchronousStatus.SERVED);
+				Assertions.assertThat(secureManager.getState(bobQueryId)).isEqualTo(AsynchronousStatus.SERVED);
+			});
+
+			Assertions.assertThat(secureManager.getStateAndView(aliceQueryId).getOptView().get())
+					.hasToString("alice")
+					.isSameAs(secureManager.getStateAndView(aliceQueryId2).getOptView().get());
+			Assertions.assertThat(secureManager.getStateAndView(bobQueryId).getOptView().get()).hasToString("bob");
+		} finally {
+			currentUser.remove();
+			secureManager.destroy();
+		}
+	}
 }
@@ -76,4 +76,47 @@ public class TestQueryResultHolder {
 				  }
 				}""");
 	}
+
+	@Test
+	public void testViewWindow_Jackson() {
+		IReadableTabularView view = ListBasedTabularView.builder()
+				.coordinates(List.of(Map.of("c", "c1")))
+				.values(List.of(Map.of("m", "v")))
+				.build();
+		QueryResultHolder holder = QueryResultHolder.servedWindow(AsynchronousStatus.SERVED, view, 123);
+
+		ObjectMapper objectMapper = AdhocJackson.makeObjectMapper("json");
+
+		String asString = objectMapper.writeValueAsString(holder);
+
+		Assertions.assertThat(asString).isEqualToNormalizingNewlines("""
+				{
+				  "state" : "SERVED",
+				  "view" : {
+				    "coordinates" : [ {
+				      "c" : "c1"
+				    } ],
+				    "values" : [ {
+				      "m" : "v"
+				    } ]
+				  },
+				  "totalSize" : 123
+				}""");
+	}
+
+	@Test
+	public void testServed_window() {
+		IReadableTabularView view = ListBasedTabularView.builder()
+				.coordinates(List.of(Map.of("c", "c1"), Map.of("c", "c2"), Map.of("c", "c3")))
+				.values(List.of(Map.of("m", 1), Map.of("m", 2), Map.of("m", 3)))
+				.build();
+
+		QueryResultHolder full = QueryResultHolder.served(AsynchronousStatus.SERVED, view, 0, -1);
+		Assertions.assertThat(full.getView()).isSameAs(view);
+		Assertions.assertThat(full.getTotalSize()).isNull();
+
+		QueryResultHolder window = QueryResultHolder.served(AsynchronousStatus.SERVED, view, 1, 1);
+		Assertions.assertThat(window.getTotalSize()).isEqualTo(3);
+		Assertions.assertThat(((ListBasedTabularView) window.getView()).getValues()).containsExactly(Map.of("m", 2));
+	}
 }
@@ -0,0 +1,64 @@
+/**
+ * The MIT License
+ * Copyright (c) 2026 Benoit Chatain Lacelle - SOLVEN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.solven.adhoc.pivotable.query;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import eu.solven.adhoc.dataframe.tabular.ListBasedTabularView;
+
+public class TestTabularViewNdjsonWriter {
+	final TabularViewNdjsonWriter writer = TabularViewNdjsonWriter.builder().flushEvery(1).build();
+
+	@Test
+	public void testWrite() throws IOException {
+		ListBasedTabularView view = ListBasedTabularView.builder()
+				.coordinates(List.of(Map.of("c", "c1"), Map.of("c", "c2")))
+				.values(List.of(Map.of("m", 123L), Map.of("m", 234.5D)))
+				.build();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long nbRows = writer.write(view, out);
+
+		Assertions.assertThat(nbRows).isEqualTo(2);
+		Assertions.assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+				{"coordinates":{"c":"c1"},"values":{"m":123}}
+				{"coordinates":{"c":"c2"},"values":{"m":234.5}}
+				""");
+	}
+
+	@Test
+	public void testWrite_empty() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long nbRows = writer.write(ListBasedTabularView.empty(), out);
+
+		Assertions.assertThat(nbRows).isZero();
+		Assertions.assertThat(out.toByteArray()).isEmpty();
+	}
+}
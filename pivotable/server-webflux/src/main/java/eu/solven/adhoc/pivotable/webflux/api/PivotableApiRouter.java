@@ -71,6 +71,11 @@ public class PivotableApiRouter implements IPivotableRouteConstants {
 		return RequestPredicates.path(IPivotableApiConstants.PREFIX + path).and(arrowStream);
 	}
 
+	private static RequestPredicate ndjson(String path) {
+		final RequestPredicate ndjson = RequestPredicates.accept(MediaType.APPLICATION_NDJSON);
+		return RequestPredicates.path(IPivotableApiConstants.PREFIX + path).and(ndjson);
+	}
+
 	/**
 	 * Register the routes of the standard Pivotable API, dicovering the schema and executing queries.
 	 * 
@@ -190,6 +195,13 @@ public class PivotableApiRouter implements IPivotableRouteConstants {
 										.implementation(TargetedCubeQuery.class))
 								.response(responseBuilder().responseCode("200")
 										.description("Apache Arrow IPC stream (application/vnd.apache.arrow.stream)")))
+				.POST(ndjson(R_CUBE_QUERY),
+						queryHandler::executeQueryAsNdjson,
+						ops -> ops.operationId("executeQueryAsNdjson")
+								.requestBody(org.springdoc.core.fn.builders.requestbody.Builder.requestBodyBuilder()
+										.implementation(TargetedCubeQuery.class))
+								.response(responseBuilder().responseCode("200")
+										.description("One JSON row per line (application/x-ndjson)")))
 				.POST(json("/cubes/query/asynchronous"),
 						queryHandler::executeAsynchronousQuery,
 						ops -> ops.operationId("executeQuery")
@@ -217,6 +229,14 @@ public class PivotableApiRouter implements IPivotableRouteConstants {
 										.implementation(Boolean.class)
 										.example("true")
 										.example("false"))
+								.parameter(parameterBuilder().name("offset")
+										.description("Number of leading rows to skip in the view. Default is 0")
+										.implementation(Long.class)
+										.example("0"))
+								.parameter(parameterBuilder().name("limit")
+										.description("Maximum number of rows in the view. Default is no limit")
+										.implementation(Long.class)
+										.example("500"))
 								.response(
 										responseBuilder().responseCode("200").implementation(QueryResultHolder.class)))
 
@@ -22,7 +22,10 @@
  */
 package eu.solven.adhoc.pivotable.webflux.api;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
@@ -59,6 +62,7 @@ import eu.solven.adhoc.pivotable.query.CancellationStatus;
 import eu.solven.adhoc.pivotable.query.PivotableAsynchronousQueriesManager;
 import eu.solven.adhoc.pivotable.query.PivotableAsynchronousQueriesManager.StateAndView;
 import eu.solven.adhoc.pivotable.query.QueryResultHolder;
+import eu.solven.adhoc.pivotable.query.TabularViewNdjsonWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
@@ -83,6 +87,8 @@ public class PivotableQueryHandler {
 
 	final AtomicLongMap<UUID> queryIdPolls = AtomicLongMap.create();
 
+	final TabularViewNdjsonWriter ndjsonWriter = TabularViewNdjsonWriter.builder().build();
+
 	public Mono<ServerResponse> loadCubeSchema(ServerRequest serverRequest) {
 		UUID endpointId = AdhocHandlerHelper.uuid(serverRequest, "endpoint_id");
 		String cubeName = AdhocHandlerHelper.string(serverRequest, "cube");
@@ -174,6 +180,43 @@ public class PivotableQueryHandler {
 		}).subscribeOn(Schedulers.boundedElastic());
 	}
 
+	/**
+	 * Execute an {@link eu.solven.adhoc.query.cube.IAdhocQuery} defined through POST parameter and stream the result as
+	 * newline-delimited JSON ({@code application/x-ndjson}), one {@code {"coordinates":..,"values":..}} line per row.
+	 *
+	 * <p>
+	 * Like {@link #executeQueryAsArrow(ServerRequest)}, the serialization runs on a bounded-elastic thread and the
+	 * view is not copied into a {@link ListBasedTabularView}.
+	 *
+	 * @param serverRequest
+	 * @return
+	 */
+	public Mono<ServerResponse> executeQueryAsNdjson(ServerRequest serverRequest) {
+		DataBufferFactory bufferFactory = serverRequest.exchange().getResponse().bufferFactory();
+		Mono<TargetedCubeQuery> queryOnSchemaMono = serverRequest.bodyToMono(TargetedCubeQuery.class);
+		return queryOnSchemaMono.map(queryOnSchema -> {
+			IAdhocSchema schema = schemaRegistry.getSchema(queryOnSchema.getEndpointId());
+			return schema.execute(queryOnSchema.getCube(), queryOnSchema.getQuery());
+		})
+				.flatMap(view -> ServerResponse.ok()
+						.contentType(MediaType.APPLICATION_NDJSON)
+						.body(BodyInserters.fromDataBuffers(serializeToNdjsonFlux(view, bufferFactory))));
+	}
+
+	protected Flux<DataBuffer> serializeToNdjsonFlux(IReadableTabularView view, DataBufferFactory bufferFactory) {
+		return Flux.<DataBuffer>create(sink -> {
+			// Buffered so that each row does not produce its own tiny DataBuffer
+			try (DataBufferEmittingChannel channel = new DataBufferEmittingChannel(sink, bufferFactory);
+					OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+				ndjsonWriter.write(view, outputStream);
+				outputStream.flush();
+				sink.complete();
+			} catch (IOException | RuntimeException e) {
+				sink.error(e);
+			}
+		}).subscribeOn(Schedulers.boundedElastic());
+	}
+
 	/**
 	 * Execute an {@link eu.solven.adhoc.query.cube.IAdhocQuery} defined through POST parameter.
 	 *
@@ -198,15 +241,14 @@ public class PivotableQueryHandler {
 	public Mono<ServerResponse> fetchQueryResult(ServerRequest serverRequest) {
 		UUID queryId = AdhocHandlerHelper.uuid(serverRequest, "query_id");
 		boolean withView = AdhocHandlerHelper.optBoolean(serverRequest, "with_view").orElse(true);
+		long offset = AdhocHandlerHelper.optNumber(serverRequest, "offset").map(Number::longValue).orElse(0L);
+		long limit = AdhocHandlerHelper.optNumber(serverRequest, "limit").map(Number::longValue).orElse(-1L);
 
 		StateAndView optView = asynchronousQueriesManager.getStateAndView(queryId);
 
 		if (withView && optView.getOptView().isPresent()) {
-
-			// ListBasedTabularView is serializable with Jackson
-			ListBasedTabularView view = ListBasedTabularView.load(optView.getOptView().get());
-
-			QueryResultHolder body = QueryResultHolder.served(optView.getState(), view);
+			QueryResultHolder body =
+					QueryResultHolder.served(optView.getState(), optView.getOptView().get(), offset, limit);
 			return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).body(BodyInserters.fromValue(body));
 		}
 
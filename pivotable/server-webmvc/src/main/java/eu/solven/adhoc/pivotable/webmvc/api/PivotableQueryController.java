@@ -67,6 +67,7 @@ import eu.solven.adhoc.pivotable.query.CancellationStatus;
 import eu.solven.adhoc.pivotable.query.PivotableAsynchronousQueriesManager;
 import eu.solven.adhoc.pivotable.query.PivotableAsynchronousQueriesManager.StateAndView;
 import eu.solven.adhoc.pivotable.query.QueryResultHolder;
+import eu.solven.adhoc.pivotable.query.TabularViewNdjsonWriter;
 import eu.solven.adhoc.pivotable.webnone.api.IPivotableRouteConstants;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -93,6 +94,8 @@ public class PivotableQueryController implements IPivotableRouteConstants {
 
 	final AtomicLongMap<UUID> queryIdPolls = AtomicLongMap.create();
 
+	final TabularViewNdjsonWriter ndjsonWriter = TabularViewNdjsonWriter.builder().build();
+
 	/**
 	 * @param endpointId
 	 *            UUID of the endpoint
@@ -198,6 +201,25 @@ public class PivotableQueryController implements IPivotableRouteConstants {
 		return ResponseEntity.ok().contentType(ARROW_STREAM_MEDIA_TYPE).body(stream);
 	}
 
+	/**
+	 * Execute a query and stream the result as newline-delimited JSON: one {@code {"coordinates":..,"values":..}} line
+	 * per row. Unlike {@link #executeQuery(TargetedCubeQuery)}, the view is not copied into a
+	 * {@link ListBasedTabularView} and the first rows are sent before the last ones are serialized.
+	 *
+	 * @param query
+	 *            the targeted cube query
+	 * @return streaming NDJSON response
+	 */
+	@PostMapping(value = R_CUBE_QUERY, produces = TabularViewNdjsonWriter.MEDIA_TYPE)
+	public ResponseEntity<StreamingResponseBody> executeQueryAsNdjson(@RequestBody TargetedCubeQuery query) {
+		IAdhocSchema schema = schemaRegistry.getSchema(query.getEndpointId());
+		IReadableTabularView view = schema.execute(query.getCube(), query.getQuery());
+
+		StreamingResponseBody stream = outputStream -> ndjsonWriter.write(view, outputStream);
+
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+	}
+
 	/**
 	 * Submit a query for asynchronous execution.
 	 *
@@ -233,17 +255,22 @@ public class PivotableQueryController implements IPivotableRouteConstants {
 	 *            UUID of the previously submitted query
 	 * @param withView
 	 *            if {@code true} (default), include the result view when available
+	 * @param offset
+	 *            the number of leading rows to skip in the returned view
+	 * @param limit
+	 *            the maximum number of rows in the returned view. Negative (default) means no limit.
 	 * @return a {@link QueryResultHolder} with state and optional view
 	 */
 	@GetMapping(value = "/cubes/query/result", produces = MediaType.APPLICATION_JSON_VALUE)
 	public QueryResultHolder fetchQueryResult(@RequestParam("query_id") String queryId,
-			@RequestParam(required = false, defaultValue = "true", name = "with_view") boolean withView) {
+			@RequestParam(required = false, defaultValue = "true", name = "with_view") boolean withView,
+			@RequestParam(required = false, defaultValue = "0") long offset,
+			@RequestParam(required = false, defaultValue = "-1") long limit) {
 		UUID queryUuid = UUID.fromString(queryId);
 		StateAndView optView = asynchronousQueriesManager.getStateAndView(queryUuid);
 
 		if (withView && optView.getOptView().isPresent()) {
-			ListBasedTabularView view = ListBasedTabularView.load(optView.getOptView().get());
-			return QueryResultHolder.served(optView.getState(), view);
+			return QueryResultHolder.served(optView.getState(), optView.getOptView().get(), offset, limit);
 		}
 
 		AsynchronousStatus state = optView.getState();